@@ -383,6 +383,81 @@ public final class ProtoBufFormulas {
      * <code>.formulas.PBFormulaMapping mapping = 2;</code>
      */
     com.booleworks.logicng.serialization.formulas.ProtoBufFormulas.PBFormulaMappingOrBuilder getMappingOrBuilder();
+
+    /**
+     * <pre>
+     * alternative to id and mapping, only written on request for formulas in CNF; older readers ignore it and see no formulas
+     * </pre>
+     *
+     * <code>.formulas.PBCnfFormulas cnf = 3;</code>
+     * @return Whether the cnf field is set.
+     */
+    boolean hasCnf();
+    /**
+     * <pre>
+     * alternative to id and mapping, only written on request for formulas in CNF; older readers ignore it and see no formulas
+     * </pre>
+     *
+     * <code>.formulas.PBCnfFormulas cnf = 3;</code>
+     * @return The cnf.
+     */
+    com.booleworks.logicng.serialization.formulas.ProtoBufFormulas.PBCnfFormulas getCnf();
+    /**
+     * <pre>
+     * alternative to id and mapping, only written on request for formulas in CNF; older readers ignore it and see no formulas
+     * </pre>
+     *
+     * <code>.formulas.PBCnfFormulas cnf = 3;</code>
+     */
+    com.booleworks.logicng.serialization.formulas.ProtoBufFormulas.PBCnfFormulasOrBuilder getCnfOrBuilder();
+
+    /**
+     * <code>repeated .formulas.PBTransformationCache transformationCache = 4;</code>
+     */
+    java.util.List<com.booleworks.logicng.serialization.formulas.ProtoBufFormulas.PBTransformationCache> 
+        getTransformationCacheList();
+    /**
+     * <code>repeated .formulas.PBTransformationCache transformationCache = 4;</code>
+     */
+    com.booleworks.logicng.serialization.formulas.ProtoBufFormulas.PBTransformationCache getTransformationCache(int index);
+    /**
+     * <code>repeated .formulas.PBTransformationCache transformationCache = 4;</code>
+     */
+    int getTransformationCacheCount();
+    /**
+     * <code>repeated .formulas.PBTransformationCache transformationCache = 4;</code>
+     */
+    java.util.List<? extends com.booleworks.logicng.serialization.formulas.ProtoBufFormulas.PBTransformationCacheOrBuilder> 
+        getTransformationCacheOrBuilderList();
+    /**
+     * <code>repeated .formulas.PBTransformationCache transformationCache = 4;</code>
+     */
+    com.booleworks.logicng.serialization.formulas.ProtoBufFormulas.PBTransformationCacheOrBuilder getTransformationCacheOrBuilder(
+        int index);
+
+    /**
+     * <code>repeated .formulas.PBPredicateCache predicateCache = 5;</code>
+     */
+    java.util.List<com.booleworks.logicng.serialization.formulas.ProtoBufFormulas.PBPredicateCache> 
+        getPredicateCacheList();
+    /**
+     * <code>repeated .formulas.PBPredicateCache predicateCache = 5;</code>
+     */
+    com.booleworks.logicng.serialization.formulas.ProtoBufFormulas.PBPredicateCache getPredicateCache(int index);
+    /**
+     * <code>repeated .formulas.PBPredicateCache predicateCache = 5;</code>
+     */
+    int getPredicateCacheCount();
+    /**
+     * <code>repeated .formulas.PBPredicateCache predicateCache = 5;</code>
+     */
+    java.util.List<? extends com.booleworks.logicng.serialization.formulas.ProtoBufFormulas.PBPredicateCacheOrBuilder> 
+        getPredicateCacheOrBuilderList();
+    /**
+     * <code>repeated .formulas.PBPredicateCache predicateCache = 5;</code>
+     */
+    com.booleworks.logicng.serialization.formulas.ProtoBufFormulas.PBPredicateCacheOrBuilder getPredicateCacheOrBuilder(
+        int index);
   }
   /**
    * Protobuf type {@code formulas.PBFormulas}
@@ -407,6 +482,8 @@ public final class ProtoBufFormulas {
     }
     private PBFormulas() {
       id_ = emptyIntList();
+      transformationCache_ = java.util.Collections.emptyList();
+      predicateCache_ = java.util.Collections.emptyList();
     }
 
     public static final com.google.protobuf.Descriptors.Descriptor
@@ -479,6 +556,126 @@ public final class ProtoBufFormulas {
       return mapping_ == null ? com.booleworks.logicng.serialization.formulas.ProtoBufFormulas.PBFormulaMapping.getDefaultInstance() : mapping_;
     }
 
+    public static final int CNF_FIELD_NUMBER = 3;
+    private com.booleworks.logicng.serialization.formulas.ProtoBufFormulas.PBCnfFormulas cnf_;
+    /**
+     * <pre>
+     * alternative to id and mapping, only written on request for formulas in CNF; older readers ignore it and see no formulas
+     * </pre>
+     *
+     * <code>.formulas.PBCnfFormulas cnf = 3;</code>
+     * @return Whether the cnf field is set.
+     */
+    @java.lang.Override
+    public boolean hasCnf() {
+      return ((bitField0_ & 0x00000002) != 0);
+    }
+    /**
+     * <pre>
+     * alternative to id and mapping, only written on request for formulas in CNF; older readers ignore it and see no formulas
+     * </pre>
+     *
+     * <code>.formulas.PBCnfFormulas cnf = 3;</code>
+     * @return The cnf.
+     */
+    @java.lang.Override
+    public com.booleworks.logicng.serialization.formulas.ProtoBufFormulas.PBCnfFormulas getCnf() {
+      return cnf_ == null ? com.booleworks.logicng.serialization.formulas.ProtoBufFormulas.PBCnfFormulas.getDefaultInstance() : cnf_;
+    }
+    /**
+     * <pre>
+     * alternative to id and mapping, only written on request for formulas in CNF; older readers ignore it and see no formulas
+     * </pre>
+     *
+     * <code>.formulas.PBCnfFormulas cnf = 3;</code>
+     */
+    @java.lang.Override
+    public com.booleworks.logicng.serialization.formulas.ProtoBufFormulas.PBCnfFormulasOrBuilder getCnfOrBuilder() {
+      return cnf_ == null ? com.booleworks.logicng.serialization.formulas.ProtoBufFormulas.PBCnfFormulas.getDefaultInstance() : cnf_;
+    }
+
+    public static final int TRANSFORMATIONCACHE_FIELD_NUMBER = 4;
+    @SuppressWarnings("serial")
+    private java.util.List<com.booleworks.logicng.serialization.formulas.ProtoBufFormulas.PBTransformationCache> transformationCache_;
+    /**
+     * <code>repeated .formulas.PBTransformationCache transformationCache = 4;</code>
+     */
+    @java.lang.Override
+    public java.util.List<com.booleworks.logicng.serialization.formulas.ProtoBufFormulas.PBTransformationCache> getTransformationCacheList() {
+      return transformationCache_;
+    }
+    /**
+     * <code>repeated .formulas.PBTransformationCache transformationCache = 4;</code>
+     */
+    @java.lang.Override
+    public java.util.List<? extends com.booleworks.logicng.serialization.formulas.ProtoBufFormulas.PBTransformationCacheOrBuilder> 
+        getTransformationCacheOrBuilderList() {
+      return transformationCache_;
+    }
+    /**
+     * <code>repeated .formulas.PBTransformationCache transformationCache = 4;</code>
+     */
+    @java.lang.Override
+    public int getTransformationCacheCount() {
+      return transformationCache_.size();
+    }
+    /**
+     * <code>repeated .formulas.PBTransformationCache transformationCache = 4;</code>
+     */
+    @java.lang.Override
+    public com.booleworks.logicng.serialization.formulas.ProtoBufFormulas.PBTransformationCache getTransformationCache(int index) {
+      return transformationCache_.get(index);
+    }
+    /**
+     * <code>repeated .formulas.PBTransformationCache transformationCache = 4;</code>
+     */
+    @java.lang.Override
+    public com.booleworks.logicng.serialization.formulas.ProtoBufFormulas.PBTransformationCacheOrBuilder getTransformationCacheOrBuilder(
+        int index) {
+      return transformationCache_.get(index);
+    }
+
+    public static final int PREDICATECACHE_FIELD_NUMBER = 5;
+    @SuppressWarnings("serial")
+    private java.util.List<com.booleworks.logicng.serialization.formulas.ProtoBufFormulas.PBPredicateCache> predicateCache_;
+    /**
+     * <code>repeated .formulas.PBPredicateCache predicateCache = 5;</code>
+     */
+    @java.lang.Override
+    public java.util.List<com.booleworks.logicng.serialization.formulas.ProtoBufFormulas.PBPredicateCache> getPredicateCacheList() {
+      return predicateCache_;
+    }
+    /**
+     * <code>repeated .formulas.PBPredicateCache predicateCache = 5;</code>
+     */
+    @java.lang.Override
+    public java.util.List<? extends com.booleworks.logicng.serialization.formulas.ProtoBufFormulas.PBPredicateCacheOrBuilder> 
+        getPredicateCacheOrBuilderList() {
+      return predicateCache_;
+    }
+    /**
+     * <code>repeated .formulas.PBPredicateCache predicateCache = 5;</code>
+     */
+    @java.lang.Override
+    public int getPredicateCacheCount() {
+      return predicateCache_.size();
+    }
+    /**
+     * <code>repeated .formulas.PBPredicateCache predicateCache = 5;</code>
+     */
+    @java.lang.Override
+    public com.booleworks.logicng.serialization.formulas.ProtoBufFormulas.PBPredicateCache getPredicateCache(int index) {
+      return predicateCache_.get(index);
+    }
+    /**
+     * <code>repeated .formulas.PBPredicateCache predicateCache = 5;</code>
+     */
+    @java.lang.Override
+    public com.booleworks.logicng.serialization.formulas.ProtoBufFormulas.PBPredicateCacheOrBuilder getPredicateCacheOrBuilder(
+        int index) {
+      return predicateCache_.get(index);
+    }
+
     private byte memoizedIsInitialized = -1;
     @java.lang.Override
     public final boolean isInitialized() {
@@ -504,6 +701,15 @@ public final class ProtoBufFormulas {
       if (((bitField0_ & 0x00000001) != 0)) {
         output.writeMessage(2, getMapping());
       }
+      if (((bitField0_ & 0x00000002) != 0)) {
+        output.writeMessage(3, getCnf());
+      }
+      for (int i = 0; i < transformationCache_.size(); i++) {
+        output.writeMessage(4, transformationCache_.get(i));
+      }
+      for (int i = 0; i < predicateCache_.size(); i++) {
+        output.writeMessage(5, predicateCache_.get(i));
+      }
       getUnknownFields().writeTo(output);
     }
 
@@ -531,6 +737,18 @@ public final class ProtoBufFormulas {
         size += com.google.protobuf.CodedOutputStream
           .computeMessageSize(2, getMapping());
       }
+      if (((bitField0_ & 0x00000002) != 0)) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeMessageSize(3, getCnf());
+      }
+      for (int i = 0; i < transformationCache_.size(); i++) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeMessageSize(4, transformationCache_.get(i));
+      }
+      for (int i = 0; i < predicateCache_.size(); i++) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeMessageSize(5, predicateCache_.get(i));
+      }
       size += getUnknownFields().getSerializedSize();
       memoizedSize = size;
       return size;
@@ -553,6 +771,15 @@ public final class ProtoBufFormulas {
         if (!getMapping()
             .equals(other.getMapping())) return false;
       }
+      if (hasCnf() != other.hasCnf()) return false;
+      if (hasCnf()) {
+        if (!getCnf()
+            .equals(other.getCnf())) return false;
+      }
+      if (!getTransformationCacheList()
+          .equals(other.getTransformationCacheList())) return false;
+      if (!getPredicateCacheList()
+          .equals(other.getPredicateCacheList())) return false;
       if (!getUnknownFields().equals(other.getUnknownFields())) return false;
       return true;
     }
@@ -572,6 +799,18 @@ public final class ProtoBufFormulas {
         hash = (37 * hash) + MAPPING_FIELD_NUMBER;
         hash = (53 * hash) + getMapping().hashCode();
       }
+      if (hasCnf()) {
+        hash = (37 * hash) + CNF_FIELD_NUMBER;
+        hash = (53 * hash) + getCnf().hashCode();
+      }
+      if (getTransformationCacheCount() > 0) {
+        hash = (37 * hash) + TRANSFORMATIONCACHE_FIELD_NUMBER;
+        hash = (53 * hash) + getTransformationCacheList().hashCode();
+      }
+      if (getPredicateCacheCount() > 0) {
+        hash = (37 * hash) + PREDICATECACHE_FIELD_NUMBER;
+        hash = (53 * hash) + getPredicateCacheList().hashCode();
+      }
       hash = (29 * hash) + getUnknownFields().hashCode();
       memoizedHashCode = hash;
       return hash;
@@ -703,6 +942,9 @@ public final class ProtoBufFormulas {
         if (com.google.protobuf.GeneratedMessage
                 .alwaysUseFieldBuilders) {
           getMappingFieldBuilder();
+          getCnfFieldBuilder();
+          getTransformationCacheFieldBuilder();
+          getPredicateCacheFieldBuilder();
         }
       }
       @java.lang.Override
@@ -715,6 +957,25 @@ public final class ProtoBufFormulas {
           mappingBuilder_.dispose();
           mappingBuilder_ = null;
         }
+        cnf_ = null;
+        if (cnfBuilder_ != null) {
+          cnfBuilder_.dispose();
+          cnfBuilder_ = null;
+        }
+        if (transformationCacheBuilder_ == null) {
+          transformationCache_ = java.util.Collections.emptyList();
+        } else {
+          transformationCache_ = null;
+          transformationCacheBuilder_.clear();
+        }
+        bitField0_ = (bitField0_ & ~0x00000008);
+        if (predicateCacheBuilder_ == null) {
+          predicateCache_ = java.util.Collections.emptyList();
+        } else {
+          predicateCache_ = null;
+          predicateCacheBuilder_.clear();
+        }
+        bitField0_ = (bitField0_ & ~0x00000010);
         return this;
       }
 
@@ -741,11 +1002,33 @@ public final class ProtoBufFormulas {
       @java.lang.Override
       public com.booleworks.logicng.serialization.formulas.ProtoBufFormulas.PBFormulas buildPartial() {
         com.booleworks.logicng.serialization.formulas.ProtoBufFormulas.PBFormulas result = new com.booleworks.logicng.serialization.formulas.ProtoBufFormulas.PBFormulas(this);
+        buildPartialRepeatedFields(result);
         if (bitField0_ != 0) { buildPartial0(result); }
         onBuilt();
         return result;
       }
 
+      private void buildPartialRepeatedFields(com.booleworks.logicng.serialization.formulas.ProtoBufFormulas.PBFormulas result) {
+        if (transformationCacheBuilder_ == null) {
+          if (((bitField0_ & 0x00000008) != 0)) {
+            transformationCache_ = java.util.Collections.unmodifiableList(transformationCache_);
+            bitField0_ = (bitField0_ & ~0x00000008);
+          }
+          result.transformationCache_ = transformationCache_;
+        } else {
+          result.transformationCache_ = transformationCacheBuilder_.build();
+        }
+        if (predicateCacheBuilder_ == null) {
+          if (((bitField0_ & 0x00000010) != 0)) {
+            predicateCache_ = java.util.Collections.unmodifiableList(predicateCache_);
+            bitField0_ = (bitField0_ & ~0x00000010);
+          }
+          result.predicateCache_ = predicateCache_;
+        } else {
+          result.predicateCache_ = predicateCacheBuilder_.build();
+        }
+      }
+
       private void buildPartial0(com.booleworks.logicng.serialization.formulas.ProtoBufFormulas.PBFormulas result) {
         int from_bitField0_ = bitField0_;
         if (((from_bitField0_ & 0x00000001) != 0)) {
@@ -759,6 +1042,12 @@ public final class ProtoBufFormulas {
               : mappingBuilder_.build();
           to_bitField0_ |= 0x00000001;
         }
+        if (((from_bitField0_ & 0x00000004) != 0)) {
+          result.cnf_ = cnfBuilder_ == null
+              ? cnf_
+              : cnfBuilder_.build();
+          to_bitField0_ |= 0x00000002;
+        }
         result.bitField0_ |= to_bitField0_;
       }
 
@@ -788,6 +1077,61 @@ public final class ProtoBufFormulas {
         if (other.hasMapping()) {
           mergeMapping(other.getMapping());
         }
+        if (other.hasCnf()) {
+          mergeCnf(other.getCnf());
+        }
+        if (transformationCacheBuilder_ == null) {
+          if (!other.transformationCache_.isEmpty()) {
+            if (transformationCache_.isEmpty()) {
+              transformationCache_ = other.transformationCache_;
+              bitField0_ = (bitField0_ & ~0x00000008);
+            } else {
+              ensureTransformationCacheIsMutable();
+              transformationCache_.addAll(other.transformationCache_);
+            }
+            onChanged();
+          }
+        } else {
+          if (!other.transformationCache_.isEmpty()) {
+            if (transformationCacheBuilder_.isEmpty()) {
+              transformationCacheBuilder_.dispose();
+              transformationCacheBuilder_ = null;
+              transformationCache_ = other.transformationCache_;
+              bitField0_ = (bitField0_ & ~0x00000008);
+              transformationCacheBuilder_ = 
+                com.google.protobuf.GeneratedMessage.alwaysUseFieldBuilders ?
+                   getTransformationCacheFieldBuilder() : null;
+            } else {
+              transformationCacheBuilder_.addAllMessages(other.transformationCache_);
+            }
+          }
+        }
+        if (predicateCacheBuilder_ == null) {
+          if (!other.predicateCache_.isEmpty()) {
+            if (predicateCache_.isEmpty()) {
+              predicateCache_ = other.predicateCache_;
+              bitField0_ = (bitField0_ & ~0x00000010);
+            } else {
+              ensurePredicateCacheIsMutable();
+              predicateCache_.addAll(other.predicateCache_);
+            }
+            onChanged();
+          }
+        } else {
+          if (!other.predicateCache_.isEmpty()) {
+            if (predicateCacheBuilder_.isEmpty()) {
+              predicateCacheBuilder_.dispose();
+              predicateCacheBuilder_ = null;
+              predicateCache_ = other.predicateCache_;
+              bitField0_ = (bitField0_ & ~0x00000010);
+              predicateCacheBuilder_ = 
+                com.google.protobuf.GeneratedMessage.alwaysUseFieldBuilders ?
+                   getPredicateCacheFieldBuilder() : null;
+            } else {
+              predicateCacheBuilder_.addAllMessages(other.predicateCache_);
+            }
+          }
+        }
         this.mergeUnknownFields(other.getUnknownFields());
         onChanged();
         return this;
@@ -837,6 +1181,39 @@ public final class ProtoBufFormulas {
                 bitField0_ |= 0x00000002;
                 break;
               } // case 18
+              case 26: {
+                input.readMessage(
+                    getCnfFieldBuilder().getBuilder(),
+                    extensionRegistry);
+                bitField0_ |= 0x00000004;
+                break;
+              } // case 26
+              case 34: {
+                com.booleworks.logicng.serialization.formulas.ProtoBufFormulas.PBTransformationCache m =
+                    input.readMessage(
+                        com.booleworks.logicng.serialization.formulas.ProtoBufFormulas.PBTransformationCache.parser(),
+                        extensionRegistry);
+                if (transformationCacheBuilder_ == null) {
+                  ensureTransformationCacheIsMutable();
+                  transformationCache_.add(m);
+                } else {
+                  transformationCacheBuilder_.addMessage(m);
+                }
+                break;
+              } // case 34
+              case 42: {
+                com.booleworks.logicng.serialization.formulas.ProtoBufFormulas.PBPredicateCache m =
+                    input.readMessage(
+                        com.booleworks.logicng.serialization.formulas.ProtoBufFormulas.PBPredicateCache.parser(),
+                        extensionRegistry);
+                if (predicateCacheBuilder_ == null) {
+                  ensurePredicateCacheIsMutable();
+                  predicateCache_.add(m);
+                } else {
+                  predicateCacheBuilder_.addMessage(m);
+                }
+                break;
+              } // case 42
               default: {
                 if (!super.parseUnknownField(input, extensionRegistry, tag)) {
                   done = true; // was an endgroup tag
@@ -852,230 +1229,3720 @@ public final class ProtoBufFormulas {
         } // finally
         return this;
       }
-      private int bitField0_;
+      private int bitField0_;
+
+      private com.google.protobuf.Internal.IntList id_ = emptyIntList();
+      private void ensureIdIsMutable() {
+        if (!id_.isModifiable()) {
+          id_ = makeMutableCopy(id_);
+        }
+        bitField0_ |= 0x00000001;
+      }
+      /**
+       * <code>repeated int32 id = 1;</code>
+       * @return A list containing the id.
+       */
+      public java.util.List<java.lang.Integer>
+          getIdList() {
+        id_.makeImmutable();
+        return id_;
+      }
+      /**
+       * <code>repeated int32 id = 1;</code>
+       * @return The count of id.
+       */
+      public int getIdCount() {
+        return id_.size();
+      }
+      /**
+       * <code>repeated int32 id = 1;</code>
+       * @param index The index of the element to return.
+       * @return The id at the given index.
+       */
+      public int getId(int index) {
+        return id_.getInt(index);
+      }
+      /**
+       * <code>repeated int32 id = 1;</code>
+       * @param index The index to set the value at.
+       * @param value The id to set.
+       * @return This builder for chaining.
+       */
+      public Builder setId(
+          int index, int value) {
+
+        ensureIdIsMutable();
+        id_.setInt(index, value);
+        bitField0_ |= 0x00000001;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>repeated int32 id = 1;</code>
+       * @param value The id to add.
+       * @return This builder for chaining.
+       */
+      public Builder addId(int value) {
+
+        ensureIdIsMutable();
+        id_.addInt(value);
+        bitField0_ |= 0x00000001;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>repeated int32 id = 1;</code>
+       * @param values The id to add.
+       * @return This builder for chaining.
+       */
+      public Builder addAllId(
+          java.lang.Iterable<? extends java.lang.Integer> values) {
+        ensureIdIsMutable();
+        com.google.protobuf.AbstractMessageLite.Builder.addAll(
+            values, id_);
+        bitField0_ |= 0x00000001;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>repeated int32 id = 1;</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearId() {
+        id_ = emptyIntList();
+        bitField0_ = (bitField0_ & ~0x00000001);
+        onChanged();
+        return this;
+      }
+
+      private com.booleworks.logicng.serialization.formulas.ProtoBufFormulas.PBFormulaMapping mapping_;
+      private com.google.protobuf.SingleFieldBuilder<
+          com.booleworks.logicng.serialization.formulas.ProtoBufFormulas.PBFormulaMapping, com.booleworks.logicng.serialization.formulas.ProtoBufFormulas.PBFormulaMapping.Builder, com.booleworks.logicng.serialization.formulas.ProtoBufFormulas.PBFormulaMappingOrBuilder> mappingBuilder_;
+      /**
+       * <code>.formulas.PBFormulaMapping mapping = 2;</code>
+       * @return Whether the mapping field is set.
+       */
+      public boolean hasMapping() {
+        return ((bitField0_ & 0x00000002) != 0);
+      }
+      /**
+       * <code>.formulas.PBFormulaMapping mapping = 2;</code>
+       * @return The mapping.
+       */
+      public com.booleworks.logicng.serialization.formulas.ProtoBufFormulas.PBFormulaMapping getMapping() {
+        if (mappingBuilder_ == null) {
+          return mapping_ == null ? com.booleworks.logicng.serialization.formulas.ProtoBufFormulas.PBFormulaMapping.getDefaultInstance() : mapping_;
+        } else {
+          return mappingBuilder_.getMessage();
+        }
+      }
+      /**
+       * <code>.formulas.PBFormulaMapping mapping = 2;</code>
+       */
+      public Builder setMapping(com.booleworks.logicng.serialization.formulas.ProtoBufFormulas.PBFormulaMapping value) {
+        if (mappingBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          mapping_ = value;
+        } else {
+          mappingBuilder_.setMessage(value);
+        }
+        bitField0_ |= 0x00000002;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>.formulas.PBFormulaMapping mapping = 2;</code>
+       */
+      public Builder setMapping(
+          com.booleworks.logicng.serialization.formulas.ProtoBufFormulas.PBFormulaMapping.Builder builderForValue) {
+        if (mappingBuilder_ == null) {
+          mapping_ = builderForValue.build();
+        } else {
+          mappingBuilder_.setMessage(builderForValue.build());
+        }
+        bitField0_ |= 0x00000002;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>.formulas.PBFormulaMapping mapping = 2;</code>
+       */
+      public Builder mergeMapping(com.booleworks.logicng.serialization.formulas.ProtoBufFormulas.PBFormulaMapping value) {
+        if (mappingBuilder_ == null) {
+          if (((bitField0_ & 0x00000002) != 0) &&
+            mapping_ != null &&
+            mapping_ != com.booleworks.logicng.serialization.formulas.ProtoBufFormulas.PBFormulaMapping.getDefaultInstance()) {
+            getMappingBuilder().mergeFrom(value);
+          } else {
+            mapping_ = value;
+          }
+        } else {
+          mappingBuilder_.mergeFrom(value);
+        }
+        if (mapping_ != null) {
+          bitField0_ |= 0x00000002;
+          onChanged();
+        }
+        return this;
+      }
+      /**
+       * <code>.formulas.PBFormulaMapping mapping = 2;</code>
+       */
+      public Builder clearMapping() {
+        bitField0_ = (bitField0_ & ~0x00000002);
+        mapping_ = null;
+        if (mappingBuilder_ != null) {
+          mappingBuilder_.dispose();
+          mappingBuilder_ = null;
+        }
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>.formulas.PBFormulaMapping mapping = 2;</code>
+       */
+      public com.booleworks.logicng.serialization.formulas.ProtoBufFormulas.PBFormulaMapping.Builder getMappingBuilder() {
+        bitField0_ |= 0x00000002;
+        onChanged();
+        return getMappingFieldBuilder().getBuilder();
+      }
+      /**
+       * <code>.formulas.PBFormulaMapping mapping = 2;</code>
+       */
+      public com.booleworks.logicng.serialization.formulas.ProtoBufFormulas.PBFormulaMappingOrBuilder getMappingOrBuilder() {
+        if (mappingBuilder_ != null) {
+          return mappingBuilder_.getMessageOrBuilder();
+        } else {
+          return mapping_ == null ?
+              com.booleworks.logicng.serialization.formulas.ProtoBufFormulas.PBFormulaMapping.getDefaultInstance() : mapping_;
+        }
+      }
+      /**
+       * <code>.formulas.PBFormulaMapping mapping = 2;</code>
+       */
+      private com.google.protobuf.SingleFieldBuilder<
+          com.booleworks.logicng.serialization.formulas.ProtoBufFormulas.PBFormulaMapping, com.booleworks.logicng.serialization.formulas.ProtoBufFormulas.PBFormulaMapping.Builder, com.booleworks.logicng.serialization.formulas.ProtoBufFormulas.PBFormulaMappingOrBuilder> 
+          getMappingFieldBuilder() {
+        if (mappingBuilder_ == null) {
+          mappingBuilder_ = new com.google.protobuf.SingleFieldBuilder<
+              com.booleworks.logicng.serialization.formulas.ProtoBufFormulas.PBFormulaMapping, com.booleworks.logicng.serialization.formulas.ProtoBufFormulas.PBFormulaMapping.Builder, com.booleworks.logicng.serialization.formulas.ProtoBufFormulas.PBFormulaMappingOrBuilder>(
+                  getMapping(),
+                  getParentForChildren(),
+                  isClean());
+          mapping_ = null;
+        }
+        return mappingBuilder_;
+      }
+
+      private com.booleworks.logicng.serialization.formulas.ProtoBufFormulas.PBCnfFormulas cnf_;
+      private com.google.protobuf.SingleFieldBuilder<
+          com.booleworks.logicng.serialization.formulas.ProtoBufFormulas.PBCnfFormulas, com.booleworks.logicng.serialization.formulas.ProtoBufFormulas.PBCnfFormulas.Builder, com.booleworks.logicng.serialization.formulas.ProtoBufFormulas.PBCnfFormulasOrBuilder> cnfBuilder_;
+      /**
+       * <pre>
+       * alternative to id and mapping, only written on request for formulas in CNF; older readers ignore it and see no formulas
+       * </pre>
+       *
+       * <code>.formulas.PBCnfFormulas cnf = 3;</code>
+       * @return Whether the cnf field is set.
+       */
+      public boolean hasCnf() {
+        return ((bitField0_ & 0x00000004) != 0);
+      }
+      /**
+       * <pre>
+       * alternative to id and mapping, only written on request for formulas in CNF; older readers ignore it and see no formulas
+       * </pre>
+       *
+       * <code>.formulas.PBCnfFormulas cnf = 3;</code>
+       * @return The cnf.
+       */
+      public com.booleworks.logicng.serialization.formulas.ProtoBufFormulas.PBCnfFormulas getCnf() {
+        if (cnfBuilder_ == null) {
+          return cnf_ == null ? com.booleworks.logicng.serialization.formulas.ProtoBufFormulas.PBCnfFormulas.getDefaultInstance() : cnf_;
+        } else {
+          return cnfBuilder_.getMessage();
+        }
+      }
+      /**
+       * <pre>
+       * alternative to id and mapping, only written on request for formulas in CNF; older readers ignore it and see no formulas
+       * </pre>
+       *
+       * <code>.formulas.PBCnfFormulas cnf = 3;</code>
+       */
+      public Builder setCnf(com.booleworks.logicng.serialization.formulas.ProtoBufFormulas.PBCnfFormulas value) {
+        if (cnfBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          cnf_ = value;
+        } else {
+          cnfBuilder_.setMessage(value);
+        }
+        bitField0_ |= 0x00000004;
+        onChanged();
+        return this;
+      }
+      /**
+       * <pre>
+       * alternative to id and mapping, only written on request for formulas in CNF; older readers ignore it and see no formulas
+       * </pre>
+       *
+       * <code>.formulas.PBCnfFormulas cnf = 3;</code>
+       */
+      public Builder setCnf(
+          com.booleworks.logicng.serialization.formulas.ProtoBufFormulas.PBCnfFormulas.Builder builderForValue) {
+        if (cnfBuilder_ == null) {
+          cnf_ = builderForValue.build();
+        } else {
+          cnfBuilder_.setMessage(builderForValue.build());
+        }
+        bitField0_ |= 0x00000004;
+        onChanged();
+        return this;
+      }
+      /**
+       * <pre>
+       * alternative to id and mapping, only written on request for formulas in CNF; older readers ignore it and see no formulas
+       * </pre>
+       *
+       * <code>.formulas.PBCnfFormulas cnf = 3;</code>
+       */
+      public Builder mergeCnf(com.booleworks.logicng.serialization.formulas.ProtoBufFormulas.PBCnfFormulas value) {
+        if (cnfBuilder_ == null) {
+          if (((bitField0_ & 0x00000004) != 0) &&
+            cnf_ != null &&
+            cnf_ != com.booleworks.logicng.serialization.formulas.ProtoBufFormulas.PBCnfFormulas.getDefaultInstance()) {
+            getCnfBuilder().mergeFrom(value);
+          } else {
+            cnf_ = value;
+          }
+        } else {
+          cnfBuilder_.mergeFrom(value);
+        }
+        if (cnf_ != null) {
+          bitField0_ |= 0x00000004;
+          onChanged();
+        }
+        return this;
+      }
+      /**
+       * <pre>
+       * alternative to id and mapping, only written on request for formulas in CNF; older readers ignore it and see no formulas
+       * </pre>
+       *
+       * <code>.formulas.PBCnfFormulas cnf = 3;</code>
+       */
+      public Builder clearCnf() {
+        bitField0_ = (bitField0_ & ~0x00000004);
+        cnf_ = null;
+        if (cnfBuilder_ != null) {
+          cnfBuilder_.dispose();
+          cnfBuilder_ = null;
+        }
+        onChanged();
+        return this;
+      }
+      /**
+       * <pre>
+       * alternative to id and mapping, only written on request for formulas in CNF; older readers ignore it and see no formulas
+       * </pre>
+       *
+       * <code>.formulas.PBCnfFormulas cnf = 3;</code>
+       */
+      public com.booleworks.logicng.serialization.formulas.ProtoBufFormulas.PBCnfFormulas.Builder getCnfBuilder() {
+        bitField0_ |= 0x00000004;
+        onChanged();
+        return getCnfFieldBuilder().getBuilder();
+      }
+      /**
+       * <pre>
+       * alternative to id and mapping, only written on request for formulas in CNF; older readers ignore it and see no formulas
+       * </pre>
+       *
+       * <code>.formulas.PBCnfFormulas cnf = 3;</code>
+       */
+      public com.booleworks.logicng.serialization.formulas.ProtoBufFormulas.PBCnfFormulasOrBuilder getCnfOrBuilder() {
+        if (cnfBuilder_ != null) {
+          return cnfBuilder_.getMessageOrBuilder();
+        } else {
+          return cnf_ == null ?
+              com.booleworks.logicng.serialization.formulas.ProtoBufFormulas.PBCnfFormulas.getDefaultInstance() : cnf_;
+        }
+      }
+      /**
+       * <pre>
+       * alternative to id and mapping, only written on request for formulas in CNF; older readers ignore it and see no formulas
+       * </pre>
+       *
+       * <code>.formulas.PBCnfFormulas cnf = 3;</code>
+       */
+      private com.google.protobuf.SingleFieldBuilder<
+          com.booleworks.logicng.serialization.formulas.ProtoBufFormulas.PBCnfFormulas, com.booleworks.logicng.serialization.formulas.ProtoBufFormulas.PBCnfFormulas.Builder, com.booleworks.logicng.serialization.formulas.ProtoBufFormulas.PBCnfFormulasOrBuilder> 
+          getCnfFieldBuilder() {
+        if (cnfBuilder_ == null) {
+          cnfBuilder_ = new com.google.protobuf.SingleFieldBuilder<
+              com.booleworks.logicng.serialization.formulas.ProtoBufFormulas.PBCnfFormulas, com.booleworks.logicng.serialization.formulas.ProtoBufFormulas.PBCnfFormulas.Builder, com.booleworks.logicng.serialization.formulas.ProtoBufFormulas.PBCnfFormulasOrBuilder>(
+                  getCnf(),
+                  getParentForChildren(),
+                  isClean());
+          cnf_ = null;
+        }
+        return cnfBuilder_;
+      }
+
+      private java.util.List<com.booleworks.logicng.serialization.formulas.ProtoBufFormulas.PBTransformationCache> transformationCache_ =
+        java.util.Collections.emptyList();
+      private void ensureTransformationCacheIsMutable() {
+        if (!((bitField0_ & 0x00000008) != 0)) {
+          transformationCache_ = new java.util.ArrayList<com.booleworks.logicng.serialization.formulas.ProtoBufFormulas.PBTransformationCache>(transformationCache_);
+          bitField0_ |= 0x00000008;
+         }
+      }
+
+      private com.google.protobuf.RepeatedFieldBuilder<
+          com.booleworks.logicng.serialization.formulas.ProtoBufFormulas.PBTransformationCache, com.booleworks.logicng.serialization.formulas.ProtoBufFormulas.PBTransformationCache.Builder, com.booleworks.logicng.serialization.formulas.ProtoBufFormulas.PBTransformationCacheOrBuilder> transformationCacheBuilder_;
+
+      /**
+       * <code>repeated .formulas.PBTransformationCache transformationCache = 4;</code>
+       */
+      public java.util.List<com.booleworks.logicng.serialization.formulas.ProtoBufFormulas.PBTransformationCache> getTransformationCacheList() {
+        if (transformationCacheBuilder_ == null) {
+          return java.util.Collections.unmodifiableList(transformationCache_);
+        } else {
+          return transformationCacheBuilder_.getMessageList();
+        }
+      }
+      /**
+       * <code>repeated .formulas.PBTransformationCache transformationCache = 4;</code>
+       */
+      public int getTransformationCacheCount() {
+        if (transformationCacheBuilder_ == null) {
+          return transformationCache_.size();
+        } else {
+          return transformationCacheBuilder_.getCount();
+        }
+      }
+      /**
+       * <code>repeated .formulas.PBTransformationCache transformationCache = 4;</code>
+       */
+      public com.booleworks.logicng.serialization.formulas.ProtoBufFormulas.PBTransformationCache getTransformationCache(int index) {
+        if (transformationCacheBuilder_ == null) {
+          return transformationCache_.get(index);
+        } else {
+          return transformationCacheBuilder_.getMessage(index);
+        }
+      }
+      /**
+       * <code>repeated .formulas.PBTransformationCache transformationCache = 4;</code>
+       */
+      public Builder setTransformationCache(
+          int index, com.booleworks.logicng.serialization.formulas.ProtoBufFormulas.PBTransformationCache value) {
+        if (transformationCacheBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          ensureTransformationCacheIsMutable();
+          transformationCache_.set(index, value);
+          onChanged();
+        } else {
+          transformationCacheBuilder_.setMessage(index, value);
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .formulas.PBTransformationCache transformationCache = 4;</code>
+       */
+      public Builder setTransformationCache(
+          int index, com.booleworks.logicng.serialization.formulas.ProtoBufFormulas.PBTransformationCache.Builder builderForValue) {
+        if (transformationCacheBuilder_ == null) {
+          ensureTransformationCacheIsMutable();
+          transformationCache_.set(index, builderForValue.build());
+          onChanged();
+        } else {
+          transformationCacheBuilder_.setMessage(index, builderForValue.build());
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .formulas.PBTransformationCache transformationCache = 4;</code>
+       */
+      public Builder addTransformationCache(com.booleworks.logicng.serialization.formulas.ProtoBufFormulas.PBTransformationCache value) {
+        if (transformationCacheBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          ensureTransformationCacheIsMutable();
+          transformationCache_.add(value);
+          onChanged();
+        } else {
+          transformationCacheBuilder_.addMessage(value);
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .formulas.PBTransformationCache transformationCache = 4;</code>
+       */
+      public Builder addTransformationCache(
+          int index, com.booleworks.logicng.serialization.formulas.ProtoBufFormulas.PBTransformationCache value) {
+        if (transformationCacheBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          ensureTransformationCacheIsMutable();
+          transformationCache_.add(index, value);
+          onChanged();
+        } else {
+          transformationCacheBuilder_.addMessage(index, value);
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .formulas.PBTransformationCache transformationCache = 4;</code>
+       */
+      public Builder addTransformationCache(
+          com.booleworks.logicng.serialization.formulas.ProtoBufFormulas.PBTransformationCache.Builder builderForValue) {
+        if (transformationCacheBuilder_ == null) {
+          ensureTransformationCacheIsMutable();
+          transformationCache_.add(builderForValue.build());
+          onChanged();
+        } else {
+          transformationCacheBuilder_.addMessage(builderForValue.build());
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .formulas.PBTransformationCache transformationCache = 4;</code>
+       */
+      public Builder addTransformationCache(
+          int index, com.booleworks.logicng.serialization.formulas.ProtoBufFormulas.PBTransformationCache.Builder builderForValue) {
+        if (transformationCacheBuilder_ == null) {
+          ensureTransformationCacheIsMutable();
+          transformationCache_.add(index, builderForValue.build());
+          onChanged();
+        } else {
+          transformationCacheBuilder_.addMessage(index, builderForValue.build());
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .formulas.PBTransformationCache transformationCache = 4;</code>
+       */
+      public Builder addAllTransformationCache(
+          java.lang.Iterable<? extends com.booleworks.logicng.serialization.formulas.ProtoBufFormulas.PBTransformationCache> values) {
+        if (transformationCacheBuilder_ == null) {
+          ensureTransformationCacheIsMutable();
+          com.google.protobuf.AbstractMessageLite.Builder.addAll(
+              values, transformationCache_);
+          onChanged();
+        } else {
+          transformationCacheBuilder_.addAllMessages(values);
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .formulas.PBTransformationCache transformationCache = 4;</code>
+       */
+      public Builder clearTransformationCache() {
+        if (transformationCacheBuilder_ == null) {
+          transformationCache_ = java.util.Collections.emptyList();
+          bitField0_ = (bitField0_ & ~0x00000008);
+          onChanged();
+        } else {
+          transformationCacheBuilder_.clear();
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .formulas.PBTransformationCache transformationCache = 4;</code>
+       */
+      public Builder removeTransformationCache(int index) {
+        if (transformationCacheBuilder_ == null) {
+          ensureTransformationCacheIsMutable();
+          transformationCache_.remove(index);
+          onChanged();
+        } else {
+          transformationCacheBuilder_.remove(index);
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .formulas.PBTransformationCache transformationCache = 4;</code>
+       */
+      public com.booleworks.logicng.serialization.formulas.ProtoBufFormulas.PBTransformationCache.Builder getTransformationCacheBuilder(
+          int index) {
+        return getTransformationCacheFieldBuilder().getBuilder(index);
+      }
+      /**
+       * <code>repeated .formulas.PBTransformationCache transformationCache = 4;</code>
+       */
+      public com.booleworks.logicng.serialization.formulas.ProtoBufFormulas.PBTransformationCacheOrBuilder getTransformationCacheOrBuilder(
+          int index) {
+        if (transformationCacheBuilder_ == null) {
+          return transformationCache_.get(index);  } else {
+          return transformationCacheBuilder_.getMessageOrBuilder(index);
+        }
+      }
+      /**
+       * <code>repeated .formulas.PBTransformationCache transformationCache = 4;</code>
+       */
+      public java.util.List<? extends com.booleworks.logicng.serialization.formulas.ProtoBufFormulas.PBTransformationCacheOrBuilder> 
+           getTransformationCacheOrBuilderList() {
+        if (transformationCacheBuilder_ != null) {
+          return transformationCacheBuilder_.getMessageOrBuilderList();
+        } else {
+          return java.util.Collections.unmodifiableList(transformationCache_);
+        }
+      }
+      /**
+       * <code>repeated .formulas.PBTransformationCache transformationCache = 4;</code>
+       */
+      public com.booleworks.logicng.serialization.formulas.ProtoBufFormulas.PBTransformationCache.Builder addTransformationCacheBuilder() {
+        return getTransformationCacheFieldBuilder().addBuilder(
+            com.booleworks.logicng.serialization.formulas.ProtoBufFormulas.PBTransformationCache.getDefaultInstance());
+      }
+      /**
+       * <code>repeated .formulas.PBTransformationCache transformationCache = 4;</code>
+       */
+      public com.booleworks.logicng.serialization.formulas.ProtoBufFormulas.PBTransformationCache.Builder addTransformationCacheBuilder(
+          int index) {
+        return getTransformationCacheFieldBuilder().addBuilder(
+            index, com.booleworks.logicng.serialization.formulas.ProtoBufFormulas.PBTransformationCache.getDefaultInstance());
+      }
+      /**
+       * <code>repeated .formulas.PBTransformationCache transformationCache = 4;</code>
+       */
+      public java.util.List<com.booleworks.logicng.serialization.formulas.ProtoBufFormulas.PBTransformationCache.Builder> 
+           getTransformationCacheBuilderList() {
+        return getTransformationCacheFieldBuilder().getBuilderList();
+      }
+      private com.google.protobuf.RepeatedFieldBuilder<
+          com.booleworks.logicng.serialization.formulas.ProtoBufFormulas.PBTransformationCache, com.booleworks.logicng.serialization.formulas.ProtoBufFormulas.PBTransformationCache.Builder, com.booleworks.logicng.serialization.formulas.ProtoBufFormulas.PBTransformationCacheOrBuilder> 
+          getTransformationCacheFieldBuilder() {
+        if (transformationCacheBuilder_ == null) {
+          transformationCacheBuilder_ = new com.google.protobuf.RepeatedFieldBuilder<
+              com.booleworks.logicng.serialization.formulas.ProtoBufFormulas.PBTransformationCache, com.booleworks.logicng.serialization.formulas.ProtoBufFormulas.PBTransformationCache.Builder, com.booleworks.logicng.serialization.formulas.ProtoBufFormulas.PBTransformationCacheOrBuilder>(
+                  transformationCache_,
+                  ((bitField0_ & 0x00000008) != 0),
+                  getParentForChildren(),
+                  isClean());
+          transformationCache_ = null;
+        }
+        return transformationCacheBuilder_;
+      }
+
+      private java.util.List<com.booleworks.logicng.serialization.formulas.ProtoBufFormulas.PBPredicateCache> predicateCache_ =
+        java.util.Collections.emptyList();
+      private void ensurePredicateCacheIsMutable() {
+        if (!((bitField0_ & 0x00000010) != 0)) {
+          predicateCache_ = new java.util.ArrayList<com.booleworks.logicng.serialization.formulas.ProtoBufFormulas.PBPredicateCache>(predicateCache_);
+          bitField0_ |= 0x00000010;
+         }
+      }
+
+      private com.google.protobuf.RepeatedFieldBuilder<
+          com.booleworks.logicng.serialization.formulas.ProtoBufFormulas.PBPredicateCache, com.booleworks.logicng.serialization.formulas.ProtoBufFormulas.PBPredicateCache.Builder, com.booleworks.logicng.serialization.formulas.ProtoBufFormulas.PBPredicateCacheOrBuilder> predicateCacheBuilder_;
+
+      /**
+       * <code>repeated .formulas.PBPredicateCache predicateCache = 5;</code>
+       */
+      public java.util.List<com.booleworks.logicng.serialization.formulas.ProtoBufFormulas.PBPredicateCache> getPredicateCacheList() {
+        if (predicateCacheBuilder_ == null) {
+          return java.util.Collections.unmodifiableList(predicateCache_);
+        } else {
+          return predicateCacheBuilder_.getMessageList();
+        }
+      }
+      /**
+       * <code>repeated .formulas.PBPredicateCache predicateCache = 5;</code>
+       */
+      public int getPredicateCacheCount() {
+        if (predicateCacheBuilder_ == null) {
+          return predicateCache_.size();
+        } else {
+          return predicateCacheBuilder_.getCount();
+        }
+      }
+      /**
+       * <code>repeated .formulas.PBPredicateCache predicateCache = 5;</code>
+       */
+      public com.booleworks.logicng.serialization.formulas.ProtoBufFormulas.PBPredicateCache getPredicateCache(int index) {
+        if (predicateCacheBuilder_ == null) {
+          return predicateCache_.get(index);
+        } else {
+          return predicateCacheBuilder_.getMessage(index);
+        }
+      }
+      /**
+       * <code>repeated .formulas.PBPredicateCache predicateCache = 5;</code>
+       */
+      public Builder setPredicateCache(
+          int index, com.booleworks.logicng.serialization.formulas.ProtoBufFormulas.PBPredicateCache value) {
+        if (predicateCacheBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          ensurePredicateCacheIsMutable();
+          predicateCache_.set(index, value);
+          onChanged();
+        } else {
+          predicateCacheBuilder_.setMessage(index, value);
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .formulas.PBPredicateCache predicateCache = 5;</code>
+       */
+      public Builder setPredicateCache(
+          int index, com.booleworks.logicng.serialization.formulas.ProtoBufFormulas.PBPredicateCache.Builder builderForValue) {
+        if (predicateCacheBuilder_ == null) {
+          ensurePredicateCacheIsMutable();
+          predicateCache_.set(index, builderForValue.build());
+          onChanged();
+        } else {
+          predicateCacheBuilder_.setMessage(index, builderForValue.build());
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .formulas.PBPredicateCache predicateCache = 5;</code>
+       */
+      public Builder addPredicateCache(com.booleworks.logicng.serialization.formulas.ProtoBufFormulas.PBPredicateCache value) {
+        if (predicateCacheBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          ensurePredicateCacheIsMutable();
+          predicateCache_.add(value);
+          onChanged();
+        } else {
+          predicateCacheBuilder_.addMessage(value);
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .formulas.PBPredicateCache predicateCache = 5;</code>
+       */
+      public Builder addPredicateCache(
+          int index, com.booleworks.logicng.serialization.formulas.ProtoBufFormulas.PBPredicateCache value) {
+        if (predicateCacheBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          ensurePredicateCacheIsMutable();
+          predicateCache_.add(index, value);
+          onChanged();
+        } else {
+          predicateCacheBuilder_.addMessage(index, value);
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .formulas.PBPredicateCache predicateCache = 5;</code>
+       */
+      public Builder addPredicateCache(
+          com.booleworks.logicng.serialization.formulas.ProtoBufFormulas.PBPredicateCache.Builder builderForValue) {
+        if (predicateCacheBuilder_ == null) {
+          ensurePredicateCacheIsMutable();
+          predicateCache_.add(builderForValue.build());
+          onChanged();
+        } else {
+          predicateCacheBuilder_.addMessage(builderForValue.build());
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .formulas.PBPredicateCache predicateCache = 5;</code>
+       */
+      public Builder addPredicateCache(
+          int index, com.booleworks.logicng.serialization.formulas.ProtoBufFormulas.PBPredicateCache.Builder builderForValue) {
+        if (predicateCacheBuilder_ == null) {
+          ensurePredicateCacheIsMutable();
+          predicateCache_.add(index, builderForValue.build());
+          onChanged();
+        } else {
+          predicateCacheBuilder_.addMessage(index, builderForValue.build());
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .formulas.PBPredicateCache predicateCache = 5;</code>
+       */
+      public Builder addAllPredicateCache(
+          java.lang.Iterable<? extends com.booleworks.logicng.serialization.formulas.ProtoBufFormulas.PBPredicateCache> values) {
+        if (predicateCacheBuilder_ == null) {
+          ensurePredicateCacheIsMutable();
+          com.google.protobuf.AbstractMessageLite.Builder.addAll(
+              values, predicateCache_);
+          onChanged();
+        } else {
+          predicateCacheBuilder_.addAllMessages(values);
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .formulas.PBPredicateCache predicateCache = 5;</code>
+       */
+      public Builder clearPredicateCache() {
+        if (predicateCacheBuilder_ == null) {
+          predicateCache_ = java.util.Collections.emptyList();
+          bitField0_ = (bitField0_ & ~0x00000010);
+          onChanged();
+        } else {
+          predicateCacheBuilder_.clear();
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .formulas.PBPredicateCache predicateCache = 5;</code>
+       */
+      public Builder removePredicateCache(int index) {
+        if (predicateCacheBuilder_ == null) {
+          ensurePredicateCacheIsMutable();
+          predicateCache_.remove(index);
+          onChanged();
+        } else {
+          predicateCacheBuilder_.remove(index);
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .formulas.PBPredicateCache predicateCache = 5;</code>
+       */
+      public com.booleworks.logicng.serialization.formulas.ProtoBufFormulas.PBPredicateCache.Builder getPredicateCacheBuilder(
+          int index) {
+        return getPredicateCacheFieldBuilder().getBuilder(index);
+      }
+      /**
+       * <code>repeated .formulas.PBPredicateCache predicateCache = 5;</code>
+       */
+      public com.booleworks.logicng.serialization.formulas.ProtoBufFormulas.PBPredicateCacheOrBuilder getPredicateCacheOrBuilder(
+          int index) {
+        if (predicateCacheBuilder_ == null) {
+          return predicateCache_.get(index);  } else {
+          return predicateCacheBuilder_.getMessageOrBuilder(index);
+        }
+      }
+      /**
+       * <code>repeated .formulas.PBPredicateCache predicateCache = 5;</code>
+       */
+      public java.util.List<? extends com.booleworks.logicng.serialization.formulas.ProtoBufFormulas.PBPredicateCacheOrBuilder> 
+           getPredicateCacheOrBuilderList() {
+        if (predicateCacheBuilder_ != null) {
+          return predicateCacheBuilder_.getMessageOrBuilderList();
+        } else {
+          return java.util.Collections.unmodifiableList(predicateCache_);
+        }
+      }
+      /**
+       * <code>repeated .formulas.PBPredicateCache predicateCache = 5;</code>
+       */
+      public com.booleworks.logicng.serialization.formulas.ProtoBufFormulas.PBPredicateCache.Builder addPredicateCacheBuilder() {
+        return getPredicateCacheFieldBuilder().addBuilder(
+            com.booleworks.logicng.serialization.formulas.ProtoBufFormulas.PBPredicateCache.getDefaultInstance());
+      }
+      /**
+       * <code>repeated .formulas.PBPredicateCache predicateCache = 5;</code>
+       */
+      public com.booleworks.logicng.serialization.formulas.ProtoBufFormulas.PBPredicateCache.Builder addPredicateCacheBuilder(
+          int index) {
+        return getPredicateCacheFieldBuilder().addBuilder(
+            index, com.booleworks.logicng.serialization.formulas.ProtoBufFormulas.PBPredicateCache.getDefaultInstance());
+      }
+      /**
+       * <code>repeated .formulas.PBPredicateCache predicateCache = 5;</code>
+       */
+      public java.util.List<com.booleworks.logicng.serialization.formulas.ProtoBufFormulas.PBPredicateCache.Builder> 
+           getPredicateCacheBuilderList() {
+        return getPredicateCacheFieldBuilder().getBuilderList();
+      }
+      private com.google.protobuf.RepeatedFieldBuilder<
+          com.booleworks.logicng.serialization.formulas.ProtoBufFormulas.PBPredicateCache, com.booleworks.logicng.serialization.formulas.ProtoBufFormulas.PBPredicateCache.Builder, com.booleworks.logicng.serialization.formulas.ProtoBufFormulas.PBPredicateCacheOrBuilder> 
+          getPredicateCacheFieldBuilder() {
+        if (predicateCacheBuilder_ == null) {
+          predicateCacheBuilder_ = new com.google.protobuf.RepeatedFieldBuilder<
+              com.booleworks.logicng.serialization.formulas.ProtoBufFormulas.PBPredicateCache, com.booleworks.logicng.serialization.formulas.ProtoBufFormulas.PBPredicateCache.Builder, com.booleworks.logicng.serialization.formulas.ProtoBufFormulas.PBPredicateCacheOrBuilder>(
+                  predicateCache_,
+                  ((bitField0_ & 0x00000010) != 0),
+                  getParentForChildren(),
+                  isClean());
+          predicateCache_ = null;
+        }
+        return predicateCacheBuilder_;
+      }
+
+      // @@protoc_insertion_point(builder_scope:formulas.PBFormulas)
+    }
+
+    // @@protoc_insertion_point(class_scope:formulas.PBFormulas)
+    private static final com.booleworks.logicng.serialization.formulas.ProtoBufFormulas.PBFormulas DEFAULT_INSTANCE;
+    static {
+      DEFAULT_INSTANCE = new com.booleworks.logicng.serialization.formulas.ProtoBufFormulas.PBFormulas();
+    }
+
+    public static com.booleworks.logicng.serialization.formulas.ProtoBufFormulas.PBFormulas getDefaultInstance() {
+      return DEFAULT_INSTANCE;
+    }
+
+    private static final com.google.protobuf.Parser<PBFormulas>
+        PARSER = new com.google.protobuf.AbstractParser<PBFormulas>() {
+      @java.lang.Override
+      public PBFormulas parsePartialFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws com.google.protobuf.InvalidProtocolBufferException {
+        Builder builder = newBuilder();
+        try {
+          builder.mergeFrom(input, extensionRegistry);
+        } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+          throw e.setUnfinishedMessage(builder.buildPartial());
+        } catch (com.google.protobuf.UninitializedMessageException e) {
+          throw e.asInvalidProtocolBufferException().setUnfinishedMessage(builder.buildPartial());
+        } catch (java.io.IOException e) {
+          throw new com.google.protobuf.InvalidProtocolBufferException(e)
+              .setUnfinishedMessage(builder.buildPartial());
+        }
+        return builder.buildPartial();
+      }
+    };
+
+    public static com.google.protobuf.Parser<PBFormulas> parser() {
+      return PARSER;
+    }
+
+    @java.lang.Override
+    public com.google.protobuf.Parser<PBFormulas> getParserForType() {
+      return PARSER;
+    }
+
+    @java.lang.Override
+    public com.booleworks.logicng.serialization.formulas.ProtoBufFormulas.PBFormulas getDefaultInstanceForType() {
+      return DEFAULT_INSTANCE;
+    }
+
+  }
+
+  public interface PBTransformationCacheOrBuilder extends
+      // @@protoc_insertion_point(interface_extends:formulas.PBTransformationCache)
+      com.google.protobuf.MessageOrBuilder {
+
+    /**
+     * <code>string name = 1;</code>
+     * @return The name.
+     */
+    java.lang.String getName();
+    /**
+     * <code>string name = 1;</code>
+     * @return The bytes for name.
+     */
+    com.google.protobuf.ByteString
+        getNameBytes();
+
+    /**
+     * <code>repeated int32 formula = 2;</code>
+     * @return A list containing the formula.
+     */
+    java.util.List<java.lang.Integer> getFormulaList();
+    /**
+     * <code>repeated int32 formula = 2;</code>
+     * @return The count of formula.
+     */
+    int getFormulaCount();
+    /**
+     * <code>repeated int32 formula = 2;</code>
+     * @param index The index of the element to return.
+     * @return The formula at the given index.
+     */
+    int getFormula(int index);
+
+    /**
+     * <code>repeated int32 result = 3;</code>
+     * @return A list containing the result.
+     */
+    java.util.List<java.lang.Integer> getResultList();
+    /**
+     * <code>repeated int32 result = 3;</code>
+     * @return The count of result.
+     */
+    int getResultCount();
+    /**
+     * <code>repeated int32 result = 3;</code>
+     * @param index The index of the element to return.
+     * @return The result at the given index.
+     */
+    int getResult(int index);
+  }
+  /**
+   * Protobuf type {@code formulas.PBTransformationCache}
+   */
+  public static final class PBTransformationCache extends
+      com.google.protobuf.GeneratedMessage implements
+      // @@protoc_insertion_point(message_implements:formulas.PBTransformationCache)
+      PBTransformationCacheOrBuilder {
+  private static final long serialVersionUID = 0L;
+    static {
+      com.google.protobuf.RuntimeVersion.validateProtobufGencodeVersion(
+        com.google.protobuf.RuntimeVersion.RuntimeDomain.PUBLIC,
+        /* major= */ 4,
+        /* minor= */ 26,
+        /* patch= */ 1,
+        /* suffix= */ "",
+        PBTransformationCache.class.getName());
+    }
+    // Use PBTransformationCache.newBuilder() to construct.
+    private PBTransformationCache(com.google.protobuf.GeneratedMessage.Builder<?> builder) {
+      super(builder);
+    }
+    private PBTransformationCache() {
+      name_ = "";
+      formula_ = emptyIntList();
+      result_ = emptyIntList();
+    }
+
+    public static final com.google.protobuf.Descriptors.Descriptor
+        getDescriptor() {
+      return com.booleworks.logicng.serialization.formulas.ProtoBufFormulas.internal_static_formulas_PBTransformationCache_descriptor;
+    }
+
+    @java.lang.Override
+    protected com.google.protobuf.GeneratedMessage.FieldAccessorTable
+        internalGetFieldAccessorTable() {
+      return com.booleworks.logicng.serialization.formulas.ProtoBufFormulas.internal_static_formulas_PBTransformationCache_fieldAccessorTable
+          .ensureFieldAccessorsInitialized(
+              com.booleworks.logicng.serialization.formulas.ProtoBufFormulas.PBTransformationCache.class, com.booleworks.logicng.serialization.formulas.ProtoBufFormulas.PBTransformationCache.Builder.class);
+    }
+
+    public static final int NAME_FIELD_NUMBER = 1;
+    @SuppressWarnings("serial")
+    private volatile java.lang.Object name_ = "";
+    /**
+     * <code>string name = 1;</code>
+     * @return The name.
+     */
+    @java.lang.Override
+    public java.lang.String getName() {
+      java.lang.Object ref = name_;
+      if (ref instanceof java.lang.String) {
+        return (java.lang.String) ref;
+      } else {
+        com.google.protobuf.ByteString bs = 
+            (com.google.protobuf.ByteString) ref;
+        java.lang.String s = bs.toStringUtf8();
+        name_ = s;
+        return s;
+      }
+    }
+    /**
+     * <code>string name = 1;</code>
+     * @return The bytes for name.
+     */
+    @java.lang.Override
+    public com.google.protobuf.ByteString
+        getNameBytes() {
+      java.lang.Object ref = name_;
+      if (ref instanceof java.lang.String) {
+        com.google.protobuf.ByteString b = 
+            com.google.protobuf.ByteString.copyFromUtf8(
+                (java.lang.String) ref);
+        name_ = b;
+        return b;
+      } else {
+        return (com.google.protobuf.ByteString) ref;
+      }
+    }
+
+    public static final int FORMULA_FIELD_NUMBER = 2;
+    @SuppressWarnings("serial")
+    private com.google.protobuf.Internal.IntList formula_ =
+        emptyIntList();
+    /**
+     * <code>repeated int32 formula = 2;</code>
+     * @return A list containing the formula.
+     */
+    @java.lang.Override
+    public java.util.List<java.lang.Integer>
+        getFormulaList() {
+      return formula_;
+    }
+    /**
+     * <code>repeated int32 formula = 2;</code>
+     * @return The count of formula.
+     */
+    public int getFormulaCount() {
+      return formula_.size();
+    }
+    /**
+     * <code>repeated int32 formula = 2;</code>
+     * @param index The index of the element to return.
+     * @return The formula at the given index.
+     */
+    public int getFormula(int index) {
+      return formula_.getInt(index);
+    }
+    private int formulaMemoizedSerializedSize = -1;
+
+    public static final int RESULT_FIELD_NUMBER = 3;
+    @SuppressWarnings("serial")
+    private com.google.protobuf.Internal.IntList result_ =
+        emptyIntList();
+    /**
+     * <code>repeated int32 result = 3;</code>
+     * @return A list containing the result.
+     */
+    @java.lang.Override
+    public java.util.List<java.lang.Integer>
+        getResultList() {
+      return result_;
+    }
+    /**
+     * <code>repeated int32 result = 3;</code>
+     * @return The count of result.
+     */
+    public int getResultCount() {
+      return result_.size();
+    }
+    /**
+     * <code>repeated int32 result = 3;</code>
+     * @param index The index of the element to return.
+     * @return The result at the given index.
+     */
+    public int getResult(int index) {
+      return result_.getInt(index);
+    }
+    private int resultMemoizedSerializedSize = -1;
+
+    private byte memoizedIsInitialized = -1;
+    @java.lang.Override
+    public final boolean isInitialized() {
+      byte isInitialized = memoizedIsInitialized;
+      if (isInitialized == 1) return true;
+      if (isInitialized == 0) return false;
+
+      memoizedIsInitialized = 1;
+      return true;
+    }
+
+    @java.lang.Override
+    public void writeTo(com.google.protobuf.CodedOutputStream output)
+                        throws java.io.IOException {
+      getSerializedSize();
+      if (!com.google.protobuf.GeneratedMessage.isStringEmpty(name_)) {
+        com.google.protobuf.GeneratedMessage.writeString(output, 1, name_);
+      }
+      if (getFormulaList().size() > 0) {
+        output.writeUInt32NoTag(18);
+        output.writeUInt32NoTag(formulaMemoizedSerializedSize);
+      }
+      for (int i = 0; i < formula_.size(); i++) {
+        output.writeInt32NoTag(formula_.getInt(i));
+      }
+      if (getResultList().size() > 0) {
+        output.writeUInt32NoTag(26);
+        output.writeUInt32NoTag(resultMemoizedSerializedSize);
+      }
+      for (int i = 0; i < result_.size(); i++) {
+        output.writeInt32NoTag(result_.getInt(i));
+      }
+      getUnknownFields().writeTo(output);
+    }
+
+    @java.lang.Override
+    public int getSerializedSize() {
+      int size = memoizedSize;
+      if (size != -1) return size;
+
+      size = 0;
+      if (!com.google.protobuf.GeneratedMessage.isStringEmpty(name_)) {
+        size += com.google.protobuf.GeneratedMessage.computeStringSize(1, name_);
+      }
+      {
+        int dataSize = 0;
+        for (int i = 0; i < formula_.size(); i++) {
+          dataSize += com.google.protobuf.CodedOutputStream
+            .computeInt32SizeNoTag(formula_.getInt(i));
+        }
+        size += dataSize;
+        if (!getFormulaList().isEmpty()) {
+          size += 1;
+          size += com.google.protobuf.CodedOutputStream
+              .computeInt32SizeNoTag(dataSize);
+        }
+        formulaMemoizedSerializedSize = dataSize;
+      }
+      {
+        int dataSize = 0;
+        for (int i = 0; i < result_.size(); i++) {
+          dataSize += com.google.protobuf.CodedOutputStream
+            .computeInt32SizeNoTag(result_.getInt(i));
+        }
+        size += dataSize;
+        if (!getResultList().isEmpty()) {
+          size += 1;
+          size += com.google.protobuf.CodedOutputStream
+              .computeInt32SizeNoTag(dataSize);
+        }
+        resultMemoizedSerializedSize = dataSize;
+      }
+      size += getUnknownFields().getSerializedSize();
+      memoizedSize = size;
+      return size;
+    }
+
+    @java.lang.Override
+    public boolean equals(final java.lang.Object obj) {
+      if (obj == this) {
+       return true;
+      }
+      if (!(obj instanceof com.booleworks.logicng.serialization.formulas.ProtoBufFormulas.PBTransformationCache)) {
+        return super.equals(obj);
+      }
+      com.booleworks.logicng.serialization.formulas.ProtoBufFormulas.PBTransformationCache other = (com.booleworks.logicng.serialization.formulas.ProtoBufFormulas.PBTransformationCache) obj;
+
+      if (!getName()
+          .equals(other.getName())) return false;
+      if (!getFormulaList()
+          .equals(other.getFormulaList())) return false;
+      if (!getResultList()
+          .equals(other.getResultList())) return false;
+      if (!getUnknownFields().equals(other.getUnknownFields())) return false;
+      return true;
+    }
+
+    @java.lang.Override
+    public int hashCode() {
+      if (memoizedHashCode != 0) {
+        return memoizedHashCode;
+      }
+      int hash = 41;
+      hash = (19 * hash) + getDescriptor().hashCode();
+      hash = (37 * hash) + NAME_FIELD_NUMBER;
+      hash = (53 * hash) + getName().hashCode();
+      if (getFormulaCount() > 0) {
+        hash = (37 * hash) + FORMULA_FIELD_NUMBER;
+        hash = (53 * hash) + getFormulaList().hashCode();
+      }
+      if (getResultCount() > 0) {
+        hash = (37 * hash) + RESULT_FIELD_NUMBER;
+        hash = (53 * hash) + getResultList().hashCode();
+      }
+      hash = (29 * hash) + getUnknownFields().hashCode();
+      memoizedHashCode = hash;
+      return hash;
+    }
+
+    public static com.booleworks.logicng.serialization.formulas.ProtoBufFormulas.PBTransformationCache parseFrom(
+        java.nio.ByteBuffer data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static com.booleworks.logicng.serialization.formulas.ProtoBufFormulas.PBTransformationCache parseFrom(
+        java.nio.ByteBuffer data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static com.booleworks.logicng.serialization.formulas.ProtoBufFormulas.PBTransformationCache parseFrom(
+        com.google.protobuf.ByteString data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static com.booleworks.logicng.serialization.formulas.ProtoBufFormulas.PBTransformationCache parseFrom(
+        com.google.protobuf.ByteString data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static com.booleworks.logicng.serialization.formulas.ProtoBufFormulas.PBTransformationCache parseFrom(byte[] data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static com.booleworks.logicng.serialization.formulas.ProtoBufFormulas.PBTransformationCache parseFrom(
+        byte[] data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static com.booleworks.logicng.serialization.formulas.ProtoBufFormulas.PBTransformationCache parseFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessage
+          .parseWithIOException(PARSER, input);
+    }
+    public static com.booleworks.logicng.serialization.formulas.ProtoBufFormulas.PBTransformationCache parseFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessage
+          .parseWithIOException(PARSER, input, extensionRegistry);
+    }
+
+    public static com.booleworks.logicng.serialization.formulas.ProtoBufFormulas.PBTransformationCache parseDelimitedFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessage
+          .parseDelimitedWithIOException(PARSER, input);
+    }
+
+    public static com.booleworks.logicng.serialization.formulas.ProtoBufFormulas.PBTransformationCache parseDelimitedFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessage
+          .parseDelimitedWithIOException(PARSER, input, extensionRegistry);
+    }
+    public static com.booleworks.logicng.serialization.formulas.ProtoBufFormulas.PBTransformationCache parseFrom(
+        com.google.protobuf.CodedInputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessage
+          .parseWithIOException(PARSER, input);
+    }
+    public static com.booleworks.logicng.serialization.formulas.ProtoBufFormulas.PBTransformationCache parseFrom(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessage
+          .parseWithIOException(PARSER, input, extensionRegistry);
+    }
+
+    @java.lang.Override
+    public Builder newBuilderForType() { return newBuilder(); }
+    public static Builder newBuilder() {
+      return DEFAULT_INSTANCE.toBuilder();
+    }
+    public static Builder newBuilder(com.booleworks.logicng.serialization.formulas.ProtoBufFormulas.PBTransformationCache prototype) {
+      return DEFAULT_INSTANCE.toBuilder().mergeFrom(prototype);
+    }
+    @java.lang.Override
+    public Builder toBuilder() {
+      return this == DEFAULT_INSTANCE
+          ? new Builder() : new Builder().mergeFrom(this);
+    }
+
+    @java.lang.Override
+    protected Builder newBuilderForType(
+        com.google.protobuf.GeneratedMessage.BuilderParent parent) {
+      Builder builder = new Builder(parent);
+      return builder;
+    }
+    /**
+     * Protobuf type {@code formulas.PBTransformationCache}
+     */
+    public static final class Builder extends
+        com.google.protobuf.GeneratedMessage.Builder<Builder> implements
+        // @@protoc_insertion_point(builder_implements:formulas.PBTransformationCache)
+        com.booleworks.logicng.serialization.formulas.ProtoBufFormulas.PBTransformationCacheOrBuilder {
+      public static final com.google.protobuf.Descriptors.Descriptor
+          getDescriptor() {
+        return com.booleworks.logicng.serialization.formulas.ProtoBufFormulas.internal_static_formulas_PBTransformationCache_descriptor;
+      }
+
+      @java.lang.Override
+      protected com.google.protobuf.GeneratedMessage.FieldAccessorTable
+          internalGetFieldAccessorTable() {
+        return com.booleworks.logicng.serialization.formulas.ProtoBufFormulas.internal_static_formulas_PBTransformationCache_fieldAccessorTable
+            .ensureFieldAccessorsInitialized(
+                com.booleworks.logicng.serialization.formulas.ProtoBufFormulas.PBTransformationCache.class, com.booleworks.logicng.serialization.formulas.ProtoBufFormulas.PBTransformationCache.Builder.class);
+      }
+
+      // Construct using com.booleworks.logicng.serialization.formulas.ProtoBufFormulas.PBTransformationCache.newBuilder()
+      private Builder() {
+
+      }
+
+      private Builder(
+          com.google.protobuf.GeneratedMessage.BuilderParent parent) {
+        super(parent);
+
+      }
+      @java.lang.Override
+      public Builder clear() {
+        super.clear();
+        bitField0_ = 0;
+        name_ = "";
+        formula_ = emptyIntList();
+        result_ = emptyIntList();
+        return this;
+      }
+
+      @java.lang.Override
+      public com.google.protobuf.Descriptors.Descriptor
+          getDescriptorForType() {
+        return com.booleworks.logicng.serialization.formulas.ProtoBufFormulas.internal_static_formulas_PBTransformationCache_descriptor;
+      }
+
+      @java.lang.Override
+      public com.booleworks.logicng.serialization.formulas.ProtoBufFormulas.PBTransformationCache getDefaultInstanceForType() {
+        return com.booleworks.logicng.serialization.formulas.ProtoBufFormulas.PBTransformationCache.getDefaultInstance();
+      }
+
+      @java.lang.Override
+      public com.booleworks.logicng.serialization.formulas.ProtoBufFormulas.PBTransformationCache build() {
+        com.booleworks.logicng.serialization.formulas.ProtoBufFormulas.PBTransformationCache result = buildPartial();
+        if (!result.isInitialized()) {
+          throw newUninitializedMessageException(result);
+        }
+        return result;
+      }
+
+      @java.lang.Override
+      public com.booleworks.logicng.serialization.formulas.ProtoBufFormulas.PBTransformationCache buildPartial() {
+        com.booleworks.logicng.serialization.formulas.ProtoBufFormulas.PBTransformationCache result = new com.booleworks.logicng.serialization.formulas.ProtoBufFormulas.PBTransformationCache(this);
+        if (bitField0_ != 0) { buildPartial0(result); }
+        onBuilt();
+        return result;
+      }
+
+      private void buildPartial0(com.booleworks.logicng.serialization.formulas.ProtoBufFormulas.PBTransformationCache result) {
+        int from_bitField0_ = bitField0_;
+        if (((from_bitField0_ & 0x00000001) != 0)) {
+          result.name_ = name_;
+        }
+        if (((from_bitField0_ & 0x00000002) != 0)) {
+          formula_.makeImmutable();
+          result.formula_ = formula_;
+        }
+        if (((from_bitField0_ & 0x00000004) != 0)) {
+          result_.makeImmutable();
+          result.result_ = result_;
+        }
+      }
+
+      @java.lang.Override
+      public Builder mergeFrom(com.google.protobuf.Message other) {
+        if (other instanceof com.booleworks.logicng.serialization.formulas.ProtoBufFormulas.PBTransformationCache) {
+          return mergeFrom((com.booleworks.logicng.serialization.formulas.ProtoBufFormulas.PBTransformationCache)other);
+        } else {
+          super.mergeFrom(other);
+          return this;
+        }
+      }
+
+      public Builder mergeFrom(com.booleworks.logicng.serialization.formulas.ProtoBufFormulas.PBTransformationCache other) {
+        if (other == com.booleworks.logicng.serialization.formulas.ProtoBufFormulas.PBTransformationCache.getDefaultInstance()) return this;
+        if (!other.getName().isEmpty()) {
+          name_ = other.name_;
+          bitField0_ |= 0x00000001;
+          onChanged();
+        }
+        if (!other.formula_.isEmpty()) {
+          if (formula_.isEmpty()) {
+            formula_ = other.formula_;
+            formula_.makeImmutable();
+            bitField0_ |= 0x00000002;
+          } else {
+            ensureFormulaIsMutable();
+            formula_.addAll(other.formula_);
+          }
+          onChanged();
+        }
+        if (!other.result_.isEmpty()) {
+          if (result_.isEmpty()) {
+            result_ = other.result_;
+            result_.makeImmutable();
+            bitField0_ |= 0x00000004;
+          } else {
+            ensureResultIsMutable();
+            result_.addAll(other.result_);
+          }
+          onChanged();
+        }
+        this.mergeUnknownFields(other.getUnknownFields());
+        onChanged();
+        return this;
+      }
+
+      @java.lang.Override
+      public final boolean isInitialized() {
+        return true;
+      }
+
+      @java.lang.Override
+      public Builder mergeFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws java.io.IOException {
+        if (extensionRegistry == null) {
+          throw new java.lang.NullPointerException();
+        }
+        try {
+          boolean done = false;
+          while (!done) {
+            int tag = input.readTag();
+            switch (tag) {
+              case 0:
+                done = true;
+                break;
+              case 10: {
+                name_ = input.readStringRequireUtf8();
+                bitField0_ |= 0x00000001;
+                break;
+              } // case 10
+              case 16: {
+                int v = input.readInt32();
+                ensureFormulaIsMutable();
+                formula_.addInt(v);
+                break;
+              } // case 16
+              case 18: {
+                int length = input.readRawVarint32();
+                int limit = input.pushLimit(length);
+                ensureFormulaIsMutable();
+                while (input.getBytesUntilLimit() > 0) {
+                  formula_.addInt(input.readInt32());
+                }
+                input.popLimit(limit);
+                break;
+              } // case 18
+              case 24: {
+                int v = input.readInt32();
+                ensureResultIsMutable();
+                result_.addInt(v);
+                break;
+              } // case 24
+              case 26: {
+                int length = input.readRawVarint32();
+                int limit = input.pushLimit(length);
+                ensureResultIsMutable();
+                while (input.getBytesUntilLimit() > 0) {
+                  result_.addInt(input.readInt32());
+                }
+                input.popLimit(limit);
+                break;
+              } // case 26
+              default: {
+                if (!super.parseUnknownField(input, extensionRegistry, tag)) {
+                  done = true; // was an endgroup tag
+                }
+                break;
+              } // default:
+            } // switch (tag)
+          } // while (!done)
+        } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+          throw e.unwrapIOException();
+        } finally {
+          onChanged();
+        } // finally
+        return this;
+      }
+      private int bitField0_;
+
+      private java.lang.Object name_ = "";
+      /**
+       * <code>string name = 1;</code>
+       * @return The name.
+       */
+      public java.lang.String getName() {
+        java.lang.Object ref = name_;
+        if (!(ref instanceof java.lang.String)) {
+          com.google.protobuf.ByteString bs =
+              (com.google.protobuf.ByteString) ref;
+          java.lang.String s = bs.toStringUtf8();
+          name_ = s;
+          return s;
+        } else {
+          return (java.lang.String) ref;
+        }
+      }
+      /**
+       * <code>string name = 1;</code>
+       * @return The bytes for name.
+       */
+      public com.google.protobuf.ByteString
+          getNameBytes() {
+        java.lang.Object ref = name_;
+        if (ref instanceof String) {
+          com.google.protobuf.ByteString b = 
+              com.google.protobuf.ByteString.copyFromUtf8(
+                  (java.lang.String) ref);
+          name_ = b;
+          return b;
+        } else {
+          return (com.google.protobuf.ByteString) ref;
+        }
+      }
+      /**
+       * <code>string name = 1;</code>
+       * @param value The name to set.
+       * @return This builder for chaining.
+       */
+      public Builder setName(
+          java.lang.String value) {
+        if (value == null) { throw new NullPointerException(); }
+        name_ = value;
+        bitField0_ |= 0x00000001;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>string name = 1;</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearName() {
+        name_ = getDefaultInstance().getName();
+        bitField0_ = (bitField0_ & ~0x00000001);
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>string name = 1;</code>
+       * @param value The bytes for name to set.
+       * @return This builder for chaining.
+       */
+      public Builder setNameBytes(
+          com.google.protobuf.ByteString value) {
+        if (value == null) { throw new NullPointerException(); }
+        checkByteStringIsUtf8(value);
+        name_ = value;
+        bitField0_ |= 0x00000001;
+        onChanged();
+        return this;
+      }
+
+      private com.google.protobuf.Internal.IntList formula_ = emptyIntList();
+      private void ensureFormulaIsMutable() {
+        if (!formula_.isModifiable()) {
+          formula_ = makeMutableCopy(formula_);
+        }
+        bitField0_ |= 0x00000002;
+      }
+      /**
+       * <code>repeated int32 formula = 2;</code>
+       * @return A list containing the formula.
+       */
+      public java.util.List<java.lang.Integer>
+          getFormulaList() {
+        formula_.makeImmutable();
+        return formula_;
+      }
+      /**
+       * <code>repeated int32 formula = 2;</code>
+       * @return The count of formula.
+       */
+      public int getFormulaCount() {
+        return formula_.size();
+      }
+      /**
+       * <code>repeated int32 formula = 2;</code>
+       * @param index The index of the element to return.
+       * @return The formula at the given index.
+       */
+      public int getFormula(int index) {
+        return formula_.getInt(index);
+      }
+      /**
+       * <code>repeated int32 formula = 2;</code>
+       * @param index The index to set the value at.
+       * @param value The formula to set.
+       * @return This builder for chaining.
+       */
+      public Builder setFormula(
+          int index, int value) {
+
+        ensureFormulaIsMutable();
+        formula_.setInt(index, value);
+        bitField0_ |= 0x00000002;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>repeated int32 formula = 2;</code>
+       * @param value The formula to add.
+       * @return This builder for chaining.
+       */
+      public Builder addFormula(int value) {
+
+        ensureFormulaIsMutable();
+        formula_.addInt(value);
+        bitField0_ |= 0x00000002;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>repeated int32 formula = 2;</code>
+       * @param values The formula to add.
+       * @return This builder for chaining.
+       */
+      public Builder addAllFormula(
+          java.lang.Iterable<? extends java.lang.Integer> values) {
+        ensureFormulaIsMutable();
+        com.google.protobuf.AbstractMessageLite.Builder.addAll(
+            values, formula_);
+        bitField0_ |= 0x00000002;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>repeated int32 formula = 2;</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearFormula() {
+        formula_ = emptyIntList();
+        bitField0_ = (bitField0_ & ~0x00000002);
+        onChanged();
+        return this;
+      }
+
+      private com.google.protobuf.Internal.IntList result_ = emptyIntList();
+      private void ensureResultIsMutable() {
+        if (!result_.isModifiable()) {
+          result_ = makeMutableCopy(result_);
+        }
+        bitField0_ |= 0x00000004;
+      }
+      /**
+       * <code>repeated int32 result = 3;</code>
+       * @return A list containing the result.
+       */
+      public java.util.List<java.lang.Integer>
+          getResultList() {
+        result_.makeImmutable();
+        return result_;
+      }
+      /**
+       * <code>repeated int32 result = 3;</code>
+       * @return The count of result.
+       */
+      public int getResultCount() {
+        return result_.size();
+      }
+      /**
+       * <code>repeated int32 result = 3;</code>
+       * @param index The index of the element to return.
+       * @return The result at the given index.
+       */
+      public int getResult(int index) {
+        return result_.getInt(index);
+      }
+      /**
+       * <code>repeated int32 result = 3;</code>
+       * @param index The index to set the value at.
+       * @param value The result to set.
+       * @return This builder for chaining.
+       */
+      public Builder setResult(
+          int index, int value) {
+
+        ensureResultIsMutable();
+        result_.setInt(index, value);
+        bitField0_ |= 0x00000004;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>repeated int32 result = 3;</code>
+       * @param value The result to add.
+       * @return This builder for chaining.
+       */
+      public Builder addResult(int value) {
+
+        ensureResultIsMutable();
+        result_.addInt(value);
+        bitField0_ |= 0x00000004;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>repeated int32 result = 3;</code>
+       * @param values The result to add.
+       * @return This builder for chaining.
+       */
+      public Builder addAllResult(
+          java.lang.Iterable<? extends java.lang.Integer> values) {
+        ensureResultIsMutable();
+        com.google.protobuf.AbstractMessageLite.Builder.addAll(
+            values, result_);
+        bitField0_ |= 0x00000004;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>repeated int32 result = 3;</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearResult() {
+        result_ = emptyIntList();
+        bitField0_ = (bitField0_ & ~0x00000004);
+        onChanged();
+        return this;
+      }
+
+      // @@protoc_insertion_point(builder_scope:formulas.PBTransformationCache)
+    }
+
+    // @@protoc_insertion_point(class_scope:formulas.PBTransformationCache)
+    private static final com.booleworks.logicng.serialization.formulas.ProtoBufFormulas.PBTransformationCache DEFAULT_INSTANCE;
+    static {
+      DEFAULT_INSTANCE = new com.booleworks.logicng.serialization.formulas.ProtoBufFormulas.PBTransformationCache();
+    }
+
+    public static com.booleworks.logicng.serialization.formulas.ProtoBufFormulas.PBTransformationCache getDefaultInstance() {
+      return DEFAULT_INSTANCE;
+    }
+
+    private static final com.google.protobuf.Parser<PBTransformationCache>
+        PARSER = new com.google.protobuf.AbstractParser<PBTransformationCache>() {
+      @java.lang.Override
+      public PBTransformationCache parsePartialFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws com.google.protobuf.InvalidProtocolBufferException {
+        Builder builder = newBuilder();
+        try {
+          builder.mergeFrom(input, extensionRegistry);
+        } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+          throw e.setUnfinishedMessage(builder.buildPartial());
+        } catch (com.google.protobuf.UninitializedMessageException e) {
+          throw e.asInvalidProtocolBufferException().setUnfinishedMessage(builder.buildPartial());
+        } catch (java.io.IOException e) {
+          throw new com.google.protobuf.InvalidProtocolBufferException(e)
+              .setUnfinishedMessage(builder.buildPartial());
+        }
+        return builder.buildPartial();
+      }
+    };
+
+    public static com.google.protobuf.Parser<PBTransformationCache> parser() {
+      return PARSER;
+    }
+
+    @java.lang.Override
+    public com.google.protobuf.Parser<PBTransformationCache> getParserForType() {
+      return PARSER;
+    }
+
+    @java.lang.Override
+    public com.booleworks.logicng.serialization.formulas.ProtoBufFormulas.PBTransformationCache getDefaultInstanceForType() {
+      return DEFAULT_INSTANCE;
+    }
+
+  }
+
+  public interface PBPredicateCacheOrBuilder extends
+      // @@protoc_insertion_point(interface_extends:formulas.PBPredicateCache)
+      com.google.protobuf.MessageOrBuilder {
+
+    /**
+     * <code>string name = 1;</code>
+     * @return The name.
+     */
+    java.lang.String getName();
+    /**
+     * <code>string name = 1;</code>
+     * @return The bytes for name.
+     */
+    com.google.protobuf.ByteString
+        getNameBytes();
+
+    /**
+     * <code>repeated int32 formula = 2;</code>
+     * @return A list containing the formula.
+     */
+    java.util.List<java.lang.Integer> getFormulaList();
+    /**
+     * <code>repeated int32 formula = 2;</code>
+     * @return The count of formula.
+     */
+    int getFormulaCount();
+    /**
+     * <code>repeated int32 formula = 2;</code>
+     * @param index The index of the element to return.
+     * @return The formula at the given index.
+     */
+    int getFormula(int index);
+
+    /**
+     * <code>repeated bool result = 3;</code>
+     * @return A list containing the result.
+     */
+    java.util.List<java.lang.Boolean> getResultList();
+    /**
+     * <code>repeated bool result = 3;</code>
+     * @return The count of result.
+     */
+    int getResultCount();
+    /**
+     * <code>repeated bool result = 3;</code>
+     * @param index The index of the element to return.
+     * @return The result at the given index.
+     */
+    boolean getResult(int index);
+  }
+  /**
+   * Protobuf type {@code formulas.PBPredicateCache}
+   */
+  public static final class PBPredicateCache extends
+      com.google.protobuf.GeneratedMessage implements
+      // @@protoc_insertion_point(message_implements:formulas.PBPredicateCache)
+      PBPredicateCacheOrBuilder {
+  private static final long serialVersionUID = 0L;
+    static {
+      com.google.protobuf.RuntimeVersion.validateProtobufGencodeVersion(
+        com.google.protobuf.RuntimeVersion.RuntimeDomain.PUBLIC,
+        /* major= */ 4,
+        /* minor= */ 26,
+        /* patch= */ 1,
+        /* suffix= */ "",
+        PBPredicateCache.class.getName());
+    }
+    // Use PBPredicateCache.newBuilder() to construct.
+    private PBPredicateCache(com.google.protobuf.GeneratedMessage.Builder<?> builder) {
+      super(builder);
+    }
+    private PBPredicateCache() {
+      name_ = "";
+      formula_ = emptyIntList();
+      result_ = emptyBooleanList();
+    }
+
+    public static final com.google.protobuf.Descriptors.Descriptor
+        getDescriptor() {
+      return com.booleworks.logicng.serialization.formulas.ProtoBufFormulas.internal_static_formulas_PBPredicateCache_descriptor;
+    }
+
+    @java.lang.Override
+    protected com.google.protobuf.GeneratedMessage.FieldAccessorTable
+        internalGetFieldAccessorTable() {
+      return com.booleworks.logicng.serialization.formulas.ProtoBufFormulas.internal_static_formulas_PBPredicateCache_fieldAccessorTable
+          .ensureFieldAccessorsInitialized(
+              com.booleworks.logicng.serialization.formulas.ProtoBufFormulas.PBPredicateCache.class, com.booleworks.logicng.serialization.formulas.ProtoBufFormulas.PBPredicateCache.Builder.class);
+    }
+
+    public static final int NAME_FIELD_NUMBER = 1;
+    @SuppressWarnings("serial")
+    private volatile java.lang.Object name_ = "";
+    /**
+     * <code>string name = 1;</code>
+     * @return The name.
+     */
+    @java.lang.Override
+    public java.lang.String getName() {
+      java.lang.Object ref = name_;
+      if (ref instanceof java.lang.String) {
+        return (java.lang.String) ref;
+      } else {
+        com.google.protobuf.ByteString bs = 
+            (com.google.protobuf.ByteString) ref;
+        java.lang.String s = bs.toStringUtf8();
+        name_ = s;
+        return s;
+      }
+    }
+    /**
+     * <code>string name = 1;</code>
+     * @return The bytes for name.
+     */
+    @java.lang.Override
+    public com.google.protobuf.ByteString
+        getNameBytes() {
+      java.lang.Object ref = name_;
+      if (ref instanceof java.lang.String) {
+        com.google.protobuf.ByteString b = 
+            com.google.protobuf.ByteString.copyFromUtf8(
+                (java.lang.String) ref);
+        name_ = b;
+        return b;
+      } else {
+        return (com.google.protobuf.ByteString) ref;
+      }
+    }
+
+    public static final int FORMULA_FIELD_NUMBER = 2;
+    @SuppressWarnings("serial")
+    private com.google.protobuf.Internal.IntList formula_ =
+        emptyIntList();
+    /**
+     * <code>repeated int32 formula = 2;</code>
+     * @return A list containing the formula.
+     */
+    @java.lang.Override
+    public java.util.List<java.lang.Integer>
+        getFormulaList() {
+      return formula_;
+    }
+    /**
+     * <code>repeated int32 formula = 2;</code>
+     * @return The count of formula.
+     */
+    public int getFormulaCount() {
+      return formula_.size();
+    }
+    /**
+     * <code>repeated int32 formula = 2;</code>
+     * @param index The index of the element to return.
+     * @return The formula at the given index.
+     */
+    public int getFormula(int index) {
+      return formula_.getInt(index);
+    }
+    private int formulaMemoizedSerializedSize = -1;
+
+    public static final int RESULT_FIELD_NUMBER = 3;
+    @SuppressWarnings("serial")
+    private com.google.protobuf.Internal.BooleanList result_ =
+        emptyBooleanList();
+    /**
+     * <code>repeated bool result = 3;</code>
+     * @return A list containing the result.
+     */
+    @java.lang.Override
+    public java.util.List<java.lang.Boolean>
+        getResultList() {
+      return result_;
+    }
+    /**
+     * <code>repeated bool result = 3;</code>
+     * @return The count of result.
+     */
+    public int getResultCount() {
+      return result_.size();
+    }
+    /**
+     * <code>repeated bool result = 3;</code>
+     * @param index The index of the element to return.
+     * @return The result at the given index.
+     */
+    public boolean getResult(int index) {
+      return result_.getBoolean(index);
+    }
+    private int resultMemoizedSerializedSize = -1;
+
+    private byte memoizedIsInitialized = -1;
+    @java.lang.Override
+    public final boolean isInitialized() {
+      byte isInitialized = memoizedIsInitialized;
+      if (isInitialized == 1) return true;
+      if (isInitialized == 0) return false;
+
+      memoizedIsInitialized = 1;
+      return true;
+    }
+
+    @java.lang.Override
+    public void writeTo(com.google.protobuf.CodedOutputStream output)
+                        throws java.io.IOException {
+      getSerializedSize();
+      if (!com.google.protobuf.GeneratedMessage.isStringEmpty(name_)) {
+        com.google.protobuf.GeneratedMessage.writeString(output, 1, name_);
+      }
+      if (getFormulaList().size() > 0) {
+        output.writeUInt32NoTag(18);
+        output.writeUInt32NoTag(formulaMemoizedSerializedSize);
+      }
+      for (int i = 0; i < formula_.size(); i++) {
+        output.writeInt32NoTag(formula_.getInt(i));
+      }
+      if (getResultList().size() > 0) {
+        output.writeUInt32NoTag(26);
+        output.writeUInt32NoTag(resultMemoizedSerializedSize);
+      }
+      for (int i = 0; i < result_.size(); i++) {
+        output.writeBoolNoTag(result_.getBoolean(i));
+      }
+      getUnknownFields().writeTo(output);
+    }
+
+    @java.lang.Override
+    public int getSerializedSize() {
+      int size = memoizedSize;
+      if (size != -1) return size;
+
+      size = 0;
+      if (!com.google.protobuf.GeneratedMessage.isStringEmpty(name_)) {
+        size += com.google.protobuf.GeneratedMessage.computeStringSize(1, name_);
+      }
+      {
+        int dataSize = 0;
+        for (int i = 0; i < formula_.size(); i++) {
+          dataSize += com.google.protobuf.CodedOutputStream
+            .computeInt32SizeNoTag(formula_.getInt(i));
+        }
+        size += dataSize;
+        if (!getFormulaList().isEmpty()) {
+          size += 1;
+          size += com.google.protobuf.CodedOutputStream
+              .computeInt32SizeNoTag(dataSize);
+        }
+        formulaMemoizedSerializedSize = dataSize;
+      }
+      {
+        int dataSize = 0;
+        dataSize = 1 * getResultList().size();
+        size += dataSize;
+        if (!getResultList().isEmpty()) {
+          size += 1;
+          size += com.google.protobuf.CodedOutputStream
+              .computeInt32SizeNoTag(dataSize);
+        }
+        resultMemoizedSerializedSize = dataSize;
+      }
+      size += getUnknownFields().getSerializedSize();
+      memoizedSize = size;
+      return size;
+    }
+
+    @java.lang.Override
+    public boolean equals(final java.lang.Object obj) {
+      if (obj == this) {
+       return true;
+      }
+      if (!(obj instanceof com.booleworks.logicng.serialization.formulas.ProtoBufFormulas.PBPredicateCache)) {
+        return super.equals(obj);
+      }
+      com.booleworks.logicng.serialization.formulas.ProtoBufFormulas.PBPredicateCache other = (com.booleworks.logicng.serialization.formulas.ProtoBufFormulas.PBPredicateCache) obj;
+
+      if (!getName()
+          .equals(other.getName())) return false;
+      if (!getFormulaList()
+          .equals(other.getFormulaList())) return false;
+      if (!getResultList()
+          .equals(other.getResultList())) return false;
+      if (!getUnknownFields().equals(other.getUnknownFields())) return false;
+      return true;
+    }
+
+    @java.lang.Override
+    public int hashCode() {
+      if (memoizedHashCode != 0) {
+        return memoizedHashCode;
+      }
+      int hash = 41;
+      hash = (19 * hash) + getDescriptor().hashCode();
+      hash = (37 * hash) + NAME_FIELD_NUMBER;
+      hash = (53 * hash) + getName().hashCode();
+      if (getFormulaCount() > 0) {
+        hash = (37 * hash) + FORMULA_FIELD_NUMBER;
+        hash = (53 * hash) + getFormulaList().hashCode();
+      }
+      if (getResultCount() > 0) {
+        hash = (37 * hash) + RESULT_FIELD_NUMBER;
+        hash = (53 * hash) + getResultList().hashCode();
+      }
+      hash = (29 * hash) + getUnknownFields().hashCode();
+      memoizedHashCode = hash;
+      return hash;
+    }
+
+    public static com.booleworks.logicng.serialization.formulas.ProtoBufFormulas.PBPredicateCache parseFrom(
+        java.nio.ByteBuffer data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static com.booleworks.logicng.serialization.formulas.ProtoBufFormulas.PBPredicateCache parseFrom(
+        java.nio.ByteBuffer data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static com.booleworks.logicng.serialization.formulas.ProtoBufFormulas.PBPredicateCache parseFrom(
+        com.google.protobuf.ByteString data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static com.booleworks.logicng.serialization.formulas.ProtoBufFormulas.PBPredicateCache parseFrom(
+        com.google.protobuf.ByteString data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static com.booleworks.logicng.serialization.formulas.ProtoBufFormulas.PBPredicateCache parseFrom(byte[] data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static com.booleworks.logicng.serialization.formulas.ProtoBufFormulas.PBPredicateCache parseFrom(
+        byte[] data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static com.booleworks.logicng.serialization.formulas.ProtoBufFormulas.PBPredicateCache parseFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessage
+          .parseWithIOException(PARSER, input);
+    }
+    public static com.booleworks.logicng.serialization.formulas.ProtoBufFormulas.PBPredicateCache parseFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessage
+          .parseWithIOException(PARSER, input, extensionRegistry);
+    }
+
+    public static com.booleworks.logicng.serialization.formulas.ProtoBufFormulas.PBPredicateCache parseDelimitedFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessage
+          .parseDelimitedWithIOException(PARSER, input);
+    }
+
+    public static com.booleworks.logicng.serialization.formulas.ProtoBufFormulas.PBPredicateCache parseDelimitedFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessage
+          .parseDelimitedWithIOException(PARSER, input, extensionRegistry);
+    }
+    public static com.booleworks.logicng.serialization.formulas.ProtoBufFormulas.PBPredicateCache parseFrom(
+        com.google.protobuf.CodedInputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessage
+          .parseWithIOException(PARSER, input);
+    }
+    public static com.booleworks.logicng.serialization.formulas.ProtoBufFormulas.PBPredicateCache parseFrom(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessage
+          .parseWithIOException(PARSER, input, extensionRegistry);
+    }
+
+    @java.lang.Override
+    public Builder newBuilderForType() { return newBuilder(); }
+    public static Builder newBuilder() {
+      return DEFAULT_INSTANCE.toBuilder();
+    }
+    public static Builder newBuilder(com.booleworks.logicng.serialization.formulas.ProtoBufFormulas.PBPredicateCache prototype) {
+      return DEFAULT_INSTANCE.toBuilder().mergeFrom(prototype);
+    }
+    @java.lang.Override
+    public Builder toBuilder() {
+      return this == DEFAULT_INSTANCE
+          ? new Builder() : new Builder().mergeFrom(this);
+    }
+
+    @java.lang.Override
+    protected Builder newBuilderForType(
+        com.google.protobuf.GeneratedMessage.BuilderParent parent) {
+      Builder builder = new Builder(parent);
+      return builder;
+    }
+    /**
+     * Protobuf type {@code formulas.PBPredicateCache}
+     */
+    public static final class Builder extends
+        com.google.protobuf.GeneratedMessage.Builder<Builder> implements
+        // @@protoc_insertion_point(builder_implements:formulas.PBPredicateCache)
+        com.booleworks.logicng.serialization.formulas.ProtoBufFormulas.PBPredicateCacheOrBuilder {
+      public static final com.google.protobuf.Descriptors.Descriptor
+          getDescriptor() {
+        return com.booleworks.logicng.serialization.formulas.ProtoBufFormulas.internal_static_formulas_PBPredicateCache_descriptor;
+      }
+
+      @java.lang.Override
+      protected com.google.protobuf.GeneratedMessage.FieldAccessorTable
+          internalGetFieldAccessorTable() {
+        return com.booleworks.logicng.serialization.formulas.ProtoBufFormulas.internal_static_formulas_PBPredicateCache_fieldAccessorTable
+            .ensureFieldAccessorsInitialized(
+                com.booleworks.logicng.serialization.formulas.ProtoBufFormulas.PBPredicateCache.class, com.booleworks.logicng.serialization.formulas.ProtoBufFormulas.PBPredicateCache.Builder.class);
+      }
+
+      // Construct using com.booleworks.logicng.serialization.formulas.ProtoBufFormulas.PBPredicateCache.newBuilder()
+      private Builder() {
+
+      }
+
+      private Builder(
+          com.google.protobuf.GeneratedMessage.BuilderParent parent) {
+        super(parent);
+
+      }
+      @java.lang.Override
+      public Builder clear() {
+        super.clear();
+        bitField0_ = 0;
+        name_ = "";
+        formula_ = emptyIntList();
+        result_ = emptyBooleanList();
+        return this;
+      }
+
+      @java.lang.Override
+      public com.google.protobuf.Descriptors.Descriptor
+          getDescriptorForType() {
+        return com.booleworks.logicng.serialization.formulas.ProtoBufFormulas.internal_static_formulas_PBPredicateCache_descriptor;
+      }
+
+      @java.lang.Override
+      public com.booleworks.logicng.serialization.formulas.ProtoBufFormulas.PBPredicateCache getDefaultInstanceForType() {
+        return com.booleworks.logicng.serialization.formulas.ProtoBufFormulas.PBPredicateCache.getDefaultInstance();
+      }
+
+      @java.lang.Override
+      public com.booleworks.logicng.serialization.formulas.ProtoBufFormulas.PBPredicateCache build() {
+        com.booleworks.logicng.serialization.formulas.ProtoBufFormulas.PBPredicateCache result = buildPartial();
+        if (!result.isInitialized()) {
+          throw newUninitializedMessageException(result);
+        }
+        return result;
+      }
+
+      @java.lang.Override
+      public com.booleworks.logicng.serialization.formulas.ProtoBufFormulas.PBPredicateCache buildPartial() {
+        com.booleworks.logicng.serialization.formulas.ProtoBufFormulas.PBPredicateCache result = new com.booleworks.logicng.serialization.formulas.ProtoBufFormulas.PBPredicateCache(this);
+        if (bitField0_ != 0) { buildPartial0(result); }
+        onBuilt();
+        return result;
+      }
+
+      private void buildPartial0(com.booleworks.logicng.serialization.formulas.ProtoBufFormulas.PBPredicateCache result) {
+        int from_bitField0_ = bitField0_;
+        if (((from_bitField0_ & 0x00000001) != 0)) {
+          result.name_ = name_;
+        }
+        if (((from_bitField0_ & 0x00000002) != 0)) {
+          formula_.makeImmutable();
+          result.formula_ = formula_;
+        }
+        if (((from_bitField0_ & 0x00000004) != 0)) {
+          result_.makeImmutable();
+          result.result_ = result_;
+        }
+      }
+
+      @java.lang.Override
+      public Builder mergeFrom(com.google.protobuf.Message other) {
+        if (other instanceof com.booleworks.logicng.serialization.formulas.ProtoBufFormulas.PBPredicateCache) {
+          return mergeFrom((com.booleworks.logicng.serialization.formulas.ProtoBufFormulas.PBPredicateCache)other);
+        } else {
+          super.mergeFrom(other);
+          return this;
+        }
+      }
+
+      public Builder mergeFrom(com.booleworks.logicng.serialization.formulas.ProtoBufFormulas.PBPredicateCache other) {
+        if (other == com.booleworks.logicng.serialization.formulas.ProtoBufFormulas.PBPredicateCache.getDefaultInstance()) return this;
+        if (!other.getName().isEmpty()) {
+          name_ = other.name_;
+          bitField0_ |= 0x00000001;
+          onChanged();
+        }
+        if (!other.formula_.isEmpty()) {
+          if (formula_.isEmpty()) {
+            formula_ = other.formula_;
+            formula_.makeImmutable();
+            bitField0_ |= 0x00000002;
+          } else {
+            ensureFormulaIsMutable();
+            formula_.addAll(other.formula_);
+          }
+          onChanged();
+        }
+        if (!other.result_.isEmpty()) {
+          if (result_.isEmpty()) {
+            result_ = other.result_;
+            result_.makeImmutable();
+            bitField0_ |= 0x00000004;
+          } else {
+            ensureResultIsMutable();
+            result_.addAll(other.result_);
+          }
+          onChanged();
+        }
+        this.mergeUnknownFields(other.getUnknownFields());
+        onChanged();
+        return this;
+      }
+
+      @java.lang.Override
+      public final boolean isInitialized() {
+        return true;
+      }
+
+      @java.lang.Override
+      public Builder mergeFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws java.io.IOException {
+        if (extensionRegistry == null) {
+          throw new java.lang.NullPointerException();
+        }
+        try {
+          boolean done = false;
+          while (!done) {
+            int tag = input.readTag();
+            switch (tag) {
+              case 0:
+                done = true;
+                break;
+              case 10: {
+                name_ = input.readStringRequireUtf8();
+                bitField0_ |= 0x00000001;
+                break;
+              } // case 10
+              case 16: {
+                int v = input.readInt32();
+                ensureFormulaIsMutable();
+                formula_.addInt(v);
+                break;
+              } // case 16
+              case 18: {
+                int length = input.readRawVarint32();
+                int limit = input.pushLimit(length);
+                ensureFormulaIsMutable();
+                while (input.getBytesUntilLimit() > 0) {
+                  formula_.addInt(input.readInt32());
+                }
+                input.popLimit(limit);
+                break;
+              } // case 18
+              case 24: {
+                boolean v = input.readBool();
+                ensureResultIsMutable();
+                result_.addBoolean(v);
+                break;
+              } // case 24
+              case 26: {
+                int length = input.readRawVarint32();
+                int limit = input.pushLimit(length);
+                int alloc = length > 4096 ? 4096 : length;
+                ensureResultIsMutable(alloc / 1);
+                while (input.getBytesUntilLimit() > 0) {
+                  result_.addBoolean(input.readBool());
+                }
+                input.popLimit(limit);
+                break;
+              } // case 26
+              default: {
+                if (!super.parseUnknownField(input, extensionRegistry, tag)) {
+                  done = true; // was an endgroup tag
+                }
+                break;
+              } // default:
+            } // switch (tag)
+          } // while (!done)
+        } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+          throw e.unwrapIOException();
+        } finally {
+          onChanged();
+        } // finally
+        return this;
+      }
+      private int bitField0_;
+
+      private java.lang.Object name_ = "";
+      /**
+       * <code>string name = 1;</code>
+       * @return The name.
+       */
+      public java.lang.String getName() {
+        java.lang.Object ref = name_;
+        if (!(ref instanceof java.lang.String)) {
+          com.google.protobuf.ByteString bs =
+              (com.google.protobuf.ByteString) ref;
+          java.lang.String s = bs.toStringUtf8();
+          name_ = s;
+          return s;
+        } else {
+          return (java.lang.String) ref;
+        }
+      }
+      /**
+       * <code>string name = 1;</code>
+       * @return The bytes for name.
+       */
+      public com.google.protobuf.ByteString
+          getNameBytes() {
+        java.lang.Object ref = name_;
+        if (ref instanceof String) {
+          com.google.protobuf.ByteString b = 
+              com.google.protobuf.ByteString.copyFromUtf8(
+                  (java.lang.String) ref);
+          name_ = b;
+          return b;
+        } else {
+          return (com.google.protobuf.ByteString) ref;
+        }
+      }
+      /**
+       * <code>string name = 1;</code>
+       * @param value The name to set.
+       * @return This builder for chaining.
+       */
+      public Builder setName(
+          java.lang.String value) {
+        if (value == null) { throw new NullPointerException(); }
+        name_ = value;
+        bitField0_ |= 0x00000001;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>string name = 1;</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearName() {
+        name_ = getDefaultInstance().getName();
+        bitField0_ = (bitField0_ & ~0x00000001);
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>string name = 1;</code>
+       * @param value The bytes for name to set.
+       * @return This builder for chaining.
+       */
+      public Builder setNameBytes(
+          com.google.protobuf.ByteString value) {
+        if (value == null) { throw new NullPointerException(); }
+        checkByteStringIsUtf8(value);
+        name_ = value;
+        bitField0_ |= 0x00000001;
+        onChanged();
+        return this;
+      }
+
+      private com.google.protobuf.Internal.IntList formula_ = emptyIntList();
+      private void ensureFormulaIsMutable() {
+        if (!formula_.isModifiable()) {
+          formula_ = makeMutableCopy(formula_);
+        }
+        bitField0_ |= 0x00000002;
+      }
+      /**
+       * <code>repeated int32 formula = 2;</code>
+       * @return A list containing the formula.
+       */
+      public java.util.List<java.lang.Integer>
+          getFormulaList() {
+        formula_.makeImmutable();
+        return formula_;
+      }
+      /**
+       * <code>repeated int32 formula = 2;</code>
+       * @return The count of formula.
+       */
+      public int getFormulaCount() {
+        return formula_.size();
+      }
+      /**
+       * <code>repeated int32 formula = 2;</code>
+       * @param index The index of the element to return.
+       * @return The formula at the given index.
+       */
+      public int getFormula(int index) {
+        return formula_.getInt(index);
+      }
+      /**
+       * <code>repeated int32 formula = 2;</code>
+       * @param index The index to set the value at.
+       * @param value The formula to set.
+       * @return This builder for chaining.
+       */
+      public Builder setFormula(
+          int index, int value) {
+
+        ensureFormulaIsMutable();
+        formula_.setInt(index, value);
+        bitField0_ |= 0x00000002;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>repeated int32 formula = 2;</code>
+       * @param value The formula to add.
+       * @return This builder for chaining.
+       */
+      public Builder addFormula(int value) {
+
+        ensureFormulaIsMutable();
+        formula_.addInt(value);
+        bitField0_ |= 0x00000002;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>repeated int32 formula = 2;</code>
+       * @param values The formula to add.
+       * @return This builder for chaining.
+       */
+      public Builder addAllFormula(
+          java.lang.Iterable<? extends java.lang.Integer> values) {
+        ensureFormulaIsMutable();
+        com.google.protobuf.AbstractMessageLite.Builder.addAll(
+            values, formula_);
+        bitField0_ |= 0x00000002;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>repeated int32 formula = 2;</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearFormula() {
+        formula_ = emptyIntList();
+        bitField0_ = (bitField0_ & ~0x00000002);
+        onChanged();
+        return this;
+      }
+
+      private com.google.protobuf.Internal.BooleanList result_ = emptyBooleanList();
+      private void ensureResultIsMutable() {
+        if (!result_.isModifiable()) {
+          result_ = makeMutableCopy(result_);
+        }
+        bitField0_ |= 0x00000004;
+      }
+      private void ensureResultIsMutable(int capacity) {
+        if (!result_.isModifiable()) {
+          result_ = makeMutableCopy(result_, capacity);
+        }
+        bitField0_ |= 0x00000004;
+      }
+      /**
+       * <code>repeated bool result = 3;</code>
+       * @return A list containing the result.
+       */
+      public java.util.List<java.lang.Boolean>
+          getResultList() {
+        result_.makeImmutable();
+        return result_;
+      }
+      /**
+       * <code>repeated bool result = 3;</code>
+       * @return The count of result.
+       */
+      public int getResultCount() {
+        return result_.size();
+      }
+      /**
+       * <code>repeated bool result = 3;</code>
+       * @param index The index of the element to return.
+       * @return The result at the given index.
+       */
+      public boolean getResult(int index) {
+        return result_.getBoolean(index);
+      }
+      /**
+       * <code>repeated bool result = 3;</code>
+       * @param index The index to set the value at.
+       * @param value The result to set.
+       * @return This builder for chaining.
+       */
+      public Builder setResult(
+          int index, boolean value) {
+
+        ensureResultIsMutable();
+        result_.setBoolean(index, value);
+        bitField0_ |= 0x00000004;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>repeated bool result = 3;</code>
+       * @param value The result to add.
+       * @return This builder for chaining.
+       */
+      public Builder addResult(boolean value) {
+
+        ensureResultIsMutable();
+        result_.addBoolean(value);
+        bitField0_ |= 0x00000004;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>repeated bool result = 3;</code>
+       * @param values The result to add.
+       * @return This builder for chaining.
+       */
+      public Builder addAllResult(
+          java.lang.Iterable<? extends java.lang.Boolean> values) {
+        ensureResultIsMutable();
+        com.google.protobuf.AbstractMessageLite.Builder.addAll(
+            values, result_);
+        bitField0_ |= 0x00000004;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>repeated bool result = 3;</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearResult() {
+        result_ = emptyBooleanList();
+        bitField0_ = (bitField0_ & ~0x00000004);
+        onChanged();
+        return this;
+      }
+
+      // @@protoc_insertion_point(builder_scope:formulas.PBPredicateCache)
+    }
+
+    // @@protoc_insertion_point(class_scope:formulas.PBPredicateCache)
+    private static final com.booleworks.logicng.serialization.formulas.ProtoBufFormulas.PBPredicateCache DEFAULT_INSTANCE;
+    static {
+      DEFAULT_INSTANCE = new com.booleworks.logicng.serialization.formulas.ProtoBufFormulas.PBPredicateCache();
+    }
+
+    public static com.booleworks.logicng.serialization.formulas.ProtoBufFormulas.PBPredicateCache getDefaultInstance() {
+      return DEFAULT_INSTANCE;
+    }
+
+    private static final com.google.protobuf.Parser<PBPredicateCache>
+        PARSER = new com.google.protobuf.AbstractParser<PBPredicateCache>() {
+      @java.lang.Override
+      public PBPredicateCache parsePartialFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws com.google.protobuf.InvalidProtocolBufferException {
+        Builder builder = newBuilder();
+        try {
+          builder.mergeFrom(input, extensionRegistry);
+        } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+          throw e.setUnfinishedMessage(builder.buildPartial());
+        } catch (com.google.protobuf.UninitializedMessageException e) {
+          throw e.asInvalidProtocolBufferException().setUnfinishedMessage(builder.buildPartial());
+        } catch (java.io.IOException e) {
+          throw new com.google.protobuf.InvalidProtocolBufferException(e)
+              .setUnfinishedMessage(builder.buildPartial());
+        }
+        return builder.buildPartial();
+      }
+    };
+
+    public static com.google.protobuf.Parser<PBPredicateCache> parser() {
+      return PARSER;
+    }
+
+    @java.lang.Override
+    public com.google.protobuf.Parser<PBPredicateCache> getParserForType() {
+      return PARSER;
+    }
+
+    @java.lang.Override
+    public com.booleworks.logicng.serialization.formulas.ProtoBufFormulas.PBPredicateCache getDefaultInstanceForType() {
+      return DEFAULT_INSTANCE;
+    }
+
+  }
+
+  public interface PBCnfFormulasOrBuilder extends
+      // @@protoc_insertion_point(interface_extends:formulas.PBCnfFormulas)
+      com.google.protobuf.MessageOrBuilder {
+
+    /**
+     * <code>repeated string variable = 1;</code>
+     * @return A list containing the variable.
+     */
+    java.util.List<java.lang.String>
+        getVariableList();
+    /**
+     * <code>repeated string variable = 1;</code>
+     * @return The count of variable.
+     */
+    int getVariableCount();
+    /**
+     * <code>repeated string variable = 1;</code>
+     * @param index The index of the element to return.
+     * @return The variable at the given index.
+     */
+    java.lang.String getVariable(int index);
+    /**
+     * <code>repeated string variable = 1;</code>
+     * @param index The index of the value to return.
+     * @return The bytes of the variable at the given index.
+     */
+    com.google.protobuf.ByteString
+        getVariableBytes(int index);
+
+    /**
+     * <pre>
+     * 1-based variable index, negative for negative literals, 0 terminates a clause
+     * </pre>
+     *
+     * <code>repeated sint32 literal = 2;</code>
+     * @return A list containing the literal.
+     */
+    java.util.List<java.lang.Integer> getLiteralList();
+    /**
+     * <pre>
+     * 1-based variable index, negative for negative literals, 0 terminates a clause
+     * </pre>
+     *
+     * <code>repeated sint32 literal = 2;</code>
+     * @return The count of literal.
+     */
+    int getLiteralCount();
+    /**
+     * <pre>
+     * 1-based variable index, negative for negative literals, 0 terminates a clause
+     * </pre>
+     *
+     * <code>repeated sint32 literal = 2;</code>
+     * @param index The index of the element to return.
+     * @return The literal at the given index.
+     */
+    int getLiteral(int index);
+
+    /**
+     * <pre>
+     * number of clauses per formula
+     * </pre>
+     *
+     * <code>repeated int32 clauses = 3;</code>
+     * @return A list containing the clauses.
+     */
+    java.util.List<java.lang.Integer> getClausesList();
+    /**
+     * <pre>
+     * number of clauses per formula
+     * </pre>
+     *
+     * <code>repeated int32 clauses = 3;</code>
+     * @return The count of clauses.
+     */
+    int getClausesCount();
+    /**
+     * <pre>
+     * number of clauses per formula
+     * </pre>
+     *
+     * <code>repeated int32 clauses = 3;</code>
+     * @param index The index of the element to return.
+     * @return The clauses at the given index.
+     */
+    int getClauses(int index);
+  }
+  /**
+   * Protobuf type {@code formulas.PBCnfFormulas}
+   */
+  public static final class PBCnfFormulas extends
+      com.google.protobuf.GeneratedMessage implements
+      // @@protoc_insertion_point(message_implements:formulas.PBCnfFormulas)
+      PBCnfFormulasOrBuilder {
+  private static final long serialVersionUID = 0L;
+    static {
+      com.google.protobuf.RuntimeVersion.validateProtobufGencodeVersion(
+        com.google.protobuf.RuntimeVersion.RuntimeDomain.PUBLIC,
+        /* major= */ 4,
+        /* minor= */ 26,
+        /* patch= */ 1,
+        /* suffix= */ "",
+        PBCnfFormulas.class.getName());
+    }
+    // Use PBCnfFormulas.newBuilder() to construct.
+    private PBCnfFormulas(com.google.protobuf.GeneratedMessage.Builder<?> builder) {
+      super(builder);
+    }
+    private PBCnfFormulas() {
+      variable_ =
+          com.google.protobuf.LazyStringArrayList.emptyList();
+      literal_ = emptyIntList();
+      clauses_ = emptyIntList();
+    }
+
+    public static final com.google.protobuf.Descriptors.Descriptor
+        getDescriptor() {
+      return com.booleworks.logicng.serialization.formulas.ProtoBufFormulas.internal_static_formulas_PBCnfFormulas_descriptor;
+    }
+
+    @java.lang.Override
+    protected com.google.protobuf.GeneratedMessage.FieldAccessorTable
+        internalGetFieldAccessorTable() {
+      return com.booleworks.logicng.serialization.formulas.ProtoBufFormulas.internal_static_formulas_PBCnfFormulas_fieldAccessorTable
+          .ensureFieldAccessorsInitialized(
+              com.booleworks.logicng.serialization.formulas.ProtoBufFormulas.PBCnfFormulas.class, com.booleworks.logicng.serialization.formulas.ProtoBufFormulas.PBCnfFormulas.Builder.class);
+    }
+
+    public static final int VARIABLE_FIELD_NUMBER = 1;
+    @SuppressWarnings("serial")
+    private com.google.protobuf.LazyStringArrayList variable_ =
+        com.google.protobuf.LazyStringArrayList.emptyList();
+    /**
+     * <code>repeated string variable = 1;</code>
+     * @return A list containing the variable.
+     */
+    public com.google.protobuf.ProtocolStringList
+        getVariableList() {
+      return variable_;
+    }
+    /**
+     * <code>repeated string variable = 1;</code>
+     * @return The count of variable.
+     */
+    public int getVariableCount() {
+      return variable_.size();
+    }
+    /**
+     * <code>repeated string variable = 1;</code>
+     * @param index The index of the element to return.
+     * @return The variable at the given index.
+     */
+    public java.lang.String getVariable(int index) {
+      return variable_.get(index);
+    }
+    /**
+     * <code>repeated string variable = 1;</code>
+     * @param index The index of the value to return.
+     * @return The bytes of the variable at the given index.
+     */
+    public com.google.protobuf.ByteString
+        getVariableBytes(int index) {
+      return variable_.getByteString(index);
+    }
+
+    public static final int LITERAL_FIELD_NUMBER = 2;
+    @SuppressWarnings("serial")
+    private com.google.protobuf.Internal.IntList literal_ =
+        emptyIntList();
+    /**
+     * <pre>
+     * 1-based variable index, negative for negative literals, 0 terminates a clause
+     * </pre>
+     *
+     * <code>repeated sint32 literal = 2;</code>
+     * @return A list containing the literal.
+     */
+    @java.lang.Override
+    public java.util.List<java.lang.Integer>
+        getLiteralList() {
+      return literal_;
+    }
+    /**
+     * <pre>
+     * 1-based variable index, negative for negative literals, 0 terminates a clause
+     * </pre>
+     *
+     * <code>repeated sint32 literal = 2;</code>
+     * @return The count of literal.
+     */
+    public int getLiteralCount() {
+      return literal_.size();
+    }
+    /**
+     * <pre>
+     * 1-based variable index, negative for negative literals, 0 terminates a clause
+     * </pre>
+     *
+     * <code>repeated sint32 literal = 2;</code>
+     * @param index The index of the element to return.
+     * @return The literal at the given index.
+     */
+    public int getLiteral(int index) {
+      return literal_.getInt(index);
+    }
+    private int literalMemoizedSerializedSize = -1;
+
+    public static final int CLAUSES_FIELD_NUMBER = 3;
+    @SuppressWarnings("serial")
+    private com.google.protobuf.Internal.IntList clauses_ =
+        emptyIntList();
+    /**
+     * <pre>
+     * number of clauses per formula
+     * </pre>
+     *
+     * <code>repeated int32 clauses = 3;</code>
+     * @return A list containing the clauses.
+     */
+    @java.lang.Override
+    public java.util.List<java.lang.Integer>
+        getClausesList() {
+      return clauses_;
+    }
+    /**
+     * <pre>
+     * number of clauses per formula
+     * </pre>
+     *
+     * <code>repeated int32 clauses = 3;</code>
+     * @return The count of clauses.
+     */
+    public int getClausesCount() {
+      return clauses_.size();
+    }
+    /**
+     * <pre>
+     * number of clauses per formula
+     * </pre>
+     *
+     * <code>repeated int32 clauses = 3;</code>
+     * @param index The index of the element to return.
+     * @return The clauses at the given index.
+     */
+    public int getClauses(int index) {
+      return clauses_.getInt(index);
+    }
+    private int clausesMemoizedSerializedSize = -1;
+
+    private byte memoizedIsInitialized = -1;
+    @java.lang.Override
+    public final boolean isInitialized() {
+      byte isInitialized = memoizedIsInitialized;
+      if (isInitialized == 1) return true;
+      if (isInitialized == 0) return false;
+
+      memoizedIsInitialized = 1;
+      return true;
+    }
+
+    @java.lang.Override
+    public void writeTo(com.google.protobuf.CodedOutputStream output)
+                        throws java.io.IOException {
+      getSerializedSize();
+      for (int i = 0; i < variable_.size(); i++) {
+        com.google.protobuf.GeneratedMessage.writeString(output, 1, variable_.getRaw(i));
+      }
+      if (getLiteralList().size() > 0) {
+        output.writeUInt32NoTag(18);
+        output.writeUInt32NoTag(literalMemoizedSerializedSize);
+      }
+      for (int i = 0; i < literal_.size(); i++) {
+        output.writeSInt32NoTag(literal_.getInt(i));
+      }
+      if (getClausesList().size() > 0) {
+        output.writeUInt32NoTag(26);
+        output.writeUInt32NoTag(clausesMemoizedSerializedSize);
+      }
+      for (int i = 0; i < clauses_.size(); i++) {
+        output.writeInt32NoTag(clauses_.getInt(i));
+      }
+      getUnknownFields().writeTo(output);
+    }
+
+    @java.lang.Override
+    public int getSerializedSize() {
+      int size = memoizedSize;
+      if (size != -1) return size;
+
+      size = 0;
+      {
+        int dataSize = 0;
+        for (int i = 0; i < variable_.size(); i++) {
+          dataSize += computeStringSizeNoTag(variable_.getRaw(i));
+        }
+        size += dataSize;
+        size += 1 * getVariableList().size();
+      }
+      {
+        int dataSize = 0;
+        for (int i = 0; i < literal_.size(); i++) {
+          dataSize += com.google.protobuf.CodedOutputStream
+            .computeSInt32SizeNoTag(literal_.getInt(i));
+        }
+        size += dataSize;
+        if (!getLiteralList().isEmpty()) {
+          size += 1;
+          size += com.google.protobuf.CodedOutputStream
+              .computeInt32SizeNoTag(dataSize);
+        }
+        literalMemoizedSerializedSize = dataSize;
+      }
+      {
+        int dataSize = 0;
+        for (int i = 0; i < clauses_.size(); i++) {
+          dataSize += com.google.protobuf.CodedOutputStream
+            .computeInt32SizeNoTag(clauses_.getInt(i));
+        }
+        size += dataSize;
+        if (!getClausesList().isEmpty()) {
+          size += 1;
+          size += com.google.protobuf.CodedOutputStream
+              .computeInt32SizeNoTag(dataSize);
+        }
+        clausesMemoizedSerializedSize = dataSize;
+      }
+      size += getUnknownFields().getSerializedSize();
+      memoizedSize = size;
+      return size;
+    }
+
+    @java.lang.Override
+    public boolean equals(final java.lang.Object obj) {
+      if (obj == this) {
+       return true;
+      }
+      if (!(obj instanceof com.booleworks.logicng.serialization.formulas.ProtoBufFormulas.PBCnfFormulas)) {
+        return super.equals(obj);
+      }
+      com.booleworks.logicng.serialization.formulas.ProtoBufFormulas.PBCnfFormulas other = (com.booleworks.logicng.serialization.formulas.ProtoBufFormulas.PBCnfFormulas) obj;
+
+      if (!getVariableList()
+          .equals(other.getVariableList())) return false;
+      if (!getLiteralList()
+          .equals(other.getLiteralList())) return false;
+      if (!getClausesList()
+          .equals(other.getClausesList())) return false;
+      if (!getUnknownFields().equals(other.getUnknownFields())) return false;
+      return true;
+    }
+
+    @java.lang.Override
+    public int hashCode() {
+      if (memoizedHashCode != 0) {
+        return memoizedHashCode;
+      }
+      int hash = 41;
+      hash = (19 * hash) + getDescriptor().hashCode();
+      if (getVariableCount() > 0) {
+        hash = (37 * hash) + VARIABLE_FIELD_NUMBER;
+        hash = (53 * hash) + getVariableList().hashCode();
+      }
+      if (getLiteralCount() > 0) {
+        hash = (37 * hash) + LITERAL_FIELD_NUMBER;
+        hash = (53 * hash) + getLiteralList().hashCode();
+      }
+      if (getClausesCount() > 0) {
+        hash = (37 * hash) + CLAUSES_FIELD_NUMBER;
+        hash = (53 * hash) + getClausesList().hashCode();
+      }
+      hash = (29 * hash) + getUnknownFields().hashCode();
+      memoizedHashCode = hash;
+      return hash;
+    }
+
+    public static com.booleworks.logicng.serialization.formulas.ProtoBufFormulas.PBCnfFormulas parseFrom(
+        java.nio.ByteBuffer data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static com.booleworks.logicng.serialization.formulas.ProtoBufFormulas.PBCnfFormulas parseFrom(
+        java.nio.ByteBuffer data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static com.booleworks.logicng.serialization.formulas.ProtoBufFormulas.PBCnfFormulas parseFrom(
+        com.google.protobuf.ByteString data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static com.booleworks.logicng.serialization.formulas.ProtoBufFormulas.PBCnfFormulas parseFrom(
+        com.google.protobuf.ByteString data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static com.booleworks.logicng.serialization.formulas.ProtoBufFormulas.PBCnfFormulas parseFrom(byte[] data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static com.booleworks.logicng.serialization.formulas.ProtoBufFormulas.PBCnfFormulas parseFrom(
+        byte[] data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static com.booleworks.logicng.serialization.formulas.ProtoBufFormulas.PBCnfFormulas parseFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessage
+          .parseWithIOException(PARSER, input);
+    }
+    public static com.booleworks.logicng.serialization.formulas.ProtoBufFormulas.PBCnfFormulas parseFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessage
+          .parseWithIOException(PARSER, input, extensionRegistry);
+    }
+
+    public static com.booleworks.logicng.serialization.formulas.ProtoBufFormulas.PBCnfFormulas parseDelimitedFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessage
+          .parseDelimitedWithIOException(PARSER, input);
+    }
+
+    public static com.booleworks.logicng.serialization.formulas.ProtoBufFormulas.PBCnfFormulas parseDelimitedFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessage
+          .parseDelimitedWithIOException(PARSER, input, extensionRegistry);
+    }
+    public static com.booleworks.logicng.serialization.formulas.ProtoBufFormulas.PBCnfFormulas parseFrom(
+        com.google.protobuf.CodedInputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessage
+          .parseWithIOException(PARSER, input);
+    }
+    public static com.booleworks.logicng.serialization.formulas.ProtoBufFormulas.PBCnfFormulas parseFrom(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessage
+          .parseWithIOException(PARSER, input, extensionRegistry);
+    }
+
+    @java.lang.Override
+    public Builder newBuilderForType() { return newBuilder(); }
+    public static Builder newBuilder() {
+      return DEFAULT_INSTANCE.toBuilder();
+    }
+    public static Builder newBuilder(com.booleworks.logicng.serialization.formulas.ProtoBufFormulas.PBCnfFormulas prototype) {
+      return DEFAULT_INSTANCE.toBuilder().mergeFrom(prototype);
+    }
+    @java.lang.Override
+    public Builder toBuilder() {
+      return this == DEFAULT_INSTANCE
+          ? new Builder() : new Builder().mergeFrom(this);
+    }
+
+    @java.lang.Override
+    protected Builder newBuilderForType(
+        com.google.protobuf.GeneratedMessage.BuilderParent parent) {
+      Builder builder = new Builder(parent);
+      return builder;
+    }
+    /**
+     * Protobuf type {@code formulas.PBCnfFormulas}
+     */
+    public static final class Builder extends
+        com.google.protobuf.GeneratedMessage.Builder<Builder> implements
+        // @@protoc_insertion_point(builder_implements:formulas.PBCnfFormulas)
+        com.booleworks.logicng.serialization.formulas.ProtoBufFormulas.PBCnfFormulasOrBuilder {
+      public static final com.google.protobuf.Descriptors.Descriptor
+          getDescriptor() {
+        return com.booleworks.logicng.serialization.formulas.ProtoBufFormulas.internal_static_formulas_PBCnfFormulas_descriptor;
+      }
+
+      @java.lang.Override
+      protected com.google.protobuf.GeneratedMessage.FieldAccessorTable
+          internalGetFieldAccessorTable() {
+        return com.booleworks.logicng.serialization.formulas.ProtoBufFormulas.internal_static_formulas_PBCnfFormulas_fieldAccessorTable
+            .ensureFieldAccessorsInitialized(
+                com.booleworks.logicng.serialization.formulas.ProtoBufFormulas.PBCnfFormulas.class, com.booleworks.logicng.serialization.formulas.ProtoBufFormulas.PBCnfFormulas.Builder.class);
+      }
+
+      // Construct using com.booleworks.logicng.serialization.formulas.ProtoBufFormulas.PBCnfFormulas.newBuilder()
+      private Builder() {
+
+      }
+
+      private Builder(
+          com.google.protobuf.GeneratedMessage.BuilderParent parent) {
+        super(parent);
+
+      }
+      @java.lang.Override
+      public Builder clear() {
+        super.clear();
+        bitField0_ = 0;
+        variable_ =
+            com.google.protobuf.LazyStringArrayList.emptyList();
+        literal_ = emptyIntList();
+        clauses_ = emptyIntList();
+        return this;
+      }
+
+      @java.lang.Override
+      public com.google.protobuf.Descriptors.Descriptor
+          getDescriptorForType() {
+        return com.booleworks.logicng.serialization.formulas.ProtoBufFormulas.internal_static_formulas_PBCnfFormulas_descriptor;
+      }
+
+      @java.lang.Override
+      public com.booleworks.logicng.serialization.formulas.ProtoBufFormulas.PBCnfFormulas getDefaultInstanceForType() {
+        return com.booleworks.logicng.serialization.formulas.ProtoBufFormulas.PBCnfFormulas.getDefaultInstance();
+      }
+
+      @java.lang.Override
+      public com.booleworks.logicng.serialization.formulas.ProtoBufFormulas.PBCnfFormulas build() {
+        com.booleworks.logicng.serialization.formulas.ProtoBufFormulas.PBCnfFormulas result = buildPartial();
+        if (!result.isInitialized()) {
+          throw newUninitializedMessageException(result);
+        }
+        return result;
+      }
+
+      @java.lang.Override
+      public com.booleworks.logicng.serialization.formulas.ProtoBufFormulas.PBCnfFormulas buildPartial() {
+        com.booleworks.logicng.serialization.formulas.ProtoBufFormulas.PBCnfFormulas result = new com.booleworks.logicng.serialization.formulas.ProtoBufFormulas.PBCnfFormulas(this);
+        if (bitField0_ != 0) { buildPartial0(result); }
+        onBuilt();
+        return result;
+      }
+
+      private void buildPartial0(com.booleworks.logicng.serialization.formulas.ProtoBufFormulas.PBCnfFormulas result) {
+        int from_bitField0_ = bitField0_;
+        if (((from_bitField0_ & 0x00000001) != 0)) {
+          variable_.makeImmutable();
+          result.variable_ = variable_;
+        }
+        if (((from_bitField0_ & 0x00000002) != 0)) {
+          literal_.makeImmutable();
+          result.literal_ = literal_;
+        }
+        if (((from_bitField0_ & 0x00000004) != 0)) {
+          clauses_.makeImmutable();
+          result.clauses_ = clauses_;
+        }
+      }
+
+      @java.lang.Override
+      public Builder mergeFrom(com.google.protobuf.Message other) {
+        if (other instanceof com.booleworks.logicng.serialization.formulas.ProtoBufFormulas.PBCnfFormulas) {
+          return mergeFrom((com.booleworks.logicng.serialization.formulas.ProtoBufFormulas.PBCnfFormulas)other);
+        } else {
+          super.mergeFrom(other);
+          return this;
+        }
+      }
+
+      public Builder mergeFrom(com.booleworks.logicng.serialization.formulas.ProtoBufFormulas.PBCnfFormulas other) {
+        if (other == com.booleworks.logicng.serialization.formulas.ProtoBufFormulas.PBCnfFormulas.getDefaultInstance()) return this;
+        if (!other.variable_.isEmpty()) {
+          if (variable_.isEmpty()) {
+            variable_ = other.variable_;
+            bitField0_ |= 0x00000001;
+          } else {
+            ensureVariableIsMutable();
+            variable_.addAll(other.variable_);
+          }
+          onChanged();
+        }
+        if (!other.literal_.isEmpty()) {
+          if (literal_.isEmpty()) {
+            literal_ = other.literal_;
+            literal_.makeImmutable();
+            bitField0_ |= 0x00000002;
+          } else {
+            ensureLiteralIsMutable();
+            literal_.addAll(other.literal_);
+          }
+          onChanged();
+        }
+        if (!other.clauses_.isEmpty()) {
+          if (clauses_.isEmpty()) {
+            clauses_ = other.clauses_;
+            clauses_.makeImmutable();
+            bitField0_ |= 0x00000004;
+          } else {
+            ensureClausesIsMutable();
+            clauses_.addAll(other.clauses_);
+          }
+          onChanged();
+        }
+        this.mergeUnknownFields(other.getUnknownFields());
+        onChanged();
+        return this;
+      }
+
+      @java.lang.Override
+      public final boolean isInitialized() {
+        return true;
+      }
+
+      @java.lang.Override
+      public Builder mergeFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws java.io.IOException {
+        if (extensionRegistry == null) {
+          throw new java.lang.NullPointerException();
+        }
+        try {
+          boolean done = false;
+          while (!done) {
+            int tag = input.readTag();
+            switch (tag) {
+              case 0:
+                done = true;
+                break;
+              case 10: {
+                java.lang.String s = input.readStringRequireUtf8();
+                ensureVariableIsMutable();
+                variable_.add(s);
+                break;
+              } // case 10
+              case 16: {
+                int v = input.readSInt32();
+                ensureLiteralIsMutable();
+                literal_.addInt(v);
+                break;
+              } // case 16
+              case 18: {
+                int length = input.readRawVarint32();
+                int limit = input.pushLimit(length);
+                ensureLiteralIsMutable();
+                while (input.getBytesUntilLimit() > 0) {
+                  literal_.addInt(input.readSInt32());
+                }
+                input.popLimit(limit);
+                break;
+              } // case 18
+              case 24: {
+                int v = input.readInt32();
+                ensureClausesIsMutable();
+                clauses_.addInt(v);
+                break;
+              } // case 24
+              case 26: {
+                int length = input.readRawVarint32();
+                int limit = input.pushLimit(length);
+                ensureClausesIsMutable();
+                while (input.getBytesUntilLimit() > 0) {
+                  clauses_.addInt(input.readInt32());
+                }
+                input.popLimit(limit);
+                break;
+              } // case 26
+              default: {
+                if (!super.parseUnknownField(input, extensionRegistry, tag)) {
+                  done = true; // was an endgroup tag
+                }
+                break;
+              } // default:
+            } // switch (tag)
+          } // while (!done)
+        } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+          throw e.unwrapIOException();
+        } finally {
+          onChanged();
+        } // finally
+        return this;
+      }
+      private int bitField0_;
+
+      private com.google.protobuf.LazyStringArrayList variable_ =
+          com.google.protobuf.LazyStringArrayList.emptyList();
+      private void ensureVariableIsMutable() {
+        if (!variable_.isModifiable()) {
+          variable_ = new com.google.protobuf.LazyStringArrayList(variable_);
+        }
+        bitField0_ |= 0x00000001;
+      }
+      /**
+       * <code>repeated string variable = 1;</code>
+       * @return A list containing the variable.
+       */
+      public com.google.protobuf.ProtocolStringList
+          getVariableList() {
+        variable_.makeImmutable();
+        return variable_;
+      }
+      /**
+       * <code>repeated string variable = 1;</code>
+       * @return The count of variable.
+       */
+      public int getVariableCount() {
+        return variable_.size();
+      }
+      /**
+       * <code>repeated string variable = 1;</code>
+       * @param index The index of the element to return.
+       * @return The variable at the given index.
+       */
+      public java.lang.String getVariable(int index) {
+        return variable_.get(index);
+      }
+      /**
+       * <code>repeated string variable = 1;</code>
+       * @param index The index of the value to return.
+       * @return The bytes of the variable at the given index.
+       */
+      public com.google.protobuf.ByteString
+          getVariableBytes(int index) {
+        return variable_.getByteString(index);
+      }
+      /**
+       * <code>repeated string variable = 1;</code>
+       * @param index The index to set the value at.
+       * @param value The variable to set.
+       * @return This builder for chaining.
+       */
+      public Builder setVariable(
+          int index, java.lang.String value) {
+        if (value == null) { throw new NullPointerException(); }
+        ensureVariableIsMutable();
+        variable_.set(index, value);
+        bitField0_ |= 0x00000001;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>repeated string variable = 1;</code>
+       * @param value The variable to add.
+       * @return This builder for chaining.
+       */
+      public Builder addVariable(
+          java.lang.String value) {
+        if (value == null) { throw new NullPointerException(); }
+        ensureVariableIsMutable();
+        variable_.add(value);
+        bitField0_ |= 0x00000001;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>repeated string variable = 1;</code>
+       * @param values The variable to add.
+       * @return This builder for chaining.
+       */
+      public Builder addAllVariable(
+          java.lang.Iterable<java.lang.String> values) {
+        ensureVariableIsMutable();
+        com.google.protobuf.AbstractMessageLite.Builder.addAll(
+            values, variable_);
+        bitField0_ |= 0x00000001;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>repeated string variable = 1;</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearVariable() {
+        variable_ =
+          com.google.protobuf.LazyStringArrayList.emptyList();
+        bitField0_ = (bitField0_ & ~0x00000001);;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>repeated string variable = 1;</code>
+       * @param value The bytes of the variable to add.
+       * @return This builder for chaining.
+       */
+      public Builder addVariableBytes(
+          com.google.protobuf.ByteString value) {
+        if (value == null) { throw new NullPointerException(); }
+        checkByteStringIsUtf8(value);
+        ensureVariableIsMutable();
+        variable_.add(value);
+        bitField0_ |= 0x00000001;
+        onChanged();
+        return this;
+      }
 
-      private com.google.protobuf.Internal.IntList id_ = emptyIntList();
-      private void ensureIdIsMutable() {
-        if (!id_.isModifiable()) {
-          id_ = makeMutableCopy(id_);
+      private com.google.protobuf.Internal.IntList literal_ = emptyIntList();
+      private void ensureLiteralIsMutable() {
+        if (!literal_.isModifiable()) {
+          literal_ = makeMutableCopy(literal_);
         }
-        bitField0_ |= 0x00000001;
+        bitField0_ |= 0x00000002;
       }
       /**
-       * <code>repeated int32 id = 1;</code>
-       * @return A list containing the id.
+       * <pre>
+       * 1-based variable index, negative for negative literals, 0 terminates a clause
+       * </pre>
+       *
+       * <code>repeated sint32 literal = 2;</code>
+       * @return A list containing the literal.
        */
       public java.util.List<java.lang.Integer>
-          getIdList() {
-        id_.makeImmutable();
-        return id_;
+          getLiteralList() {
+        literal_.makeImmutable();
+        return literal_;
       }
       /**
-       * <code>repeated int32 id = 1;</code>
-       * @return The count of id.
+       * <pre>
+       * 1-based variable index, negative for negative literals, 0 terminates a clause
+       * </pre>
+       *
+       * <code>repeated sint32 literal = 2;</code>
+       * @return The count of literal.
        */
-      public int getIdCount() {
-        return id_.size();
+      public int getLiteralCount() {
+        return literal_.size();
       }
       /**
-       * <code>repeated int32 id = 1;</code>
+       * <pre>
+       * 1-based variable index, negative for negative literals, 0 terminates a clause
+       * </pre>
+       *
+       * <code>repeated sint32 literal = 2;</code>
        * @param index The index of the element to return.
-       * @return The id at the given index.
+       * @return The literal at the given index.
        */
-      public int getId(int index) {
-        return id_.getInt(index);
+      public int getLiteral(int index) {
+        return literal_.getInt(index);
       }
       /**
-       * <code>repeated int32 id = 1;</code>
+       * <pre>
+       * 1-based variable index, negative for negative literals, 0 terminates a clause
+       * </pre>
+       *
+       * <code>repeated sint32 literal = 2;</code>
        * @param index The index to set the value at.
-       * @param value The id to set.
+       * @param value The literal to set.
        * @return This builder for chaining.
        */
-      public Builder setId(
+      public Builder setLiteral(
           int index, int value) {
 
-        ensureIdIsMutable();
-        id_.setInt(index, value);
-        bitField0_ |= 0x00000001;
+        ensureLiteralIsMutable();
+        literal_.setInt(index, value);
+        bitField0_ |= 0x00000002;
         onChanged();
         return this;
       }
       /**
-       * <code>repeated int32 id = 1;</code>
-       * @param value The id to add.
+       * <pre>
+       * 1-based variable index, negative for negative literals, 0 terminates a clause
+       * </pre>
+       *
+       * <code>repeated sint32 literal = 2;</code>
+       * @param value The literal to add.
        * @return This builder for chaining.
        */
-      public Builder addId(int value) {
+      public Builder addLiteral(int value) {
 
-        ensureIdIsMutable();
-        id_.addInt(value);
-        bitField0_ |= 0x00000001;
+        ensureLiteralIsMutable();
+        literal_.addInt(value);
+        bitField0_ |= 0x00000002;
         onChanged();
         return this;
       }
       /**
-       * <code>repeated int32 id = 1;</code>
-       * @param values The id to add.
+       * <pre>
+       * 1-based variable index, negative for negative literals, 0 terminates a clause
+       * </pre>
+       *
+       * <code>repeated sint32 literal = 2;</code>
+       * @param values The literal to add.
        * @return This builder for chaining.
        */
-      public Builder addAllId(
+      public Builder addAllLiteral(
           java.lang.Iterable<? extends java.lang.Integer> values) {
-        ensureIdIsMutable();
+        ensureLiteralIsMutable();
         com.google.protobuf.AbstractMessageLite.Builder.addAll(
-            values, id_);
-        bitField0_ |= 0x00000001;
+            values, literal_);
+        bitField0_ |= 0x00000002;
         onChanged();
         return this;
       }
       /**
-       * <code>repeated int32 id = 1;</code>
+       * <pre>
+       * 1-based variable index, negative for negative literals, 0 terminates a clause
+       * </pre>
+       *
+       * <code>repeated sint32 literal = 2;</code>
        * @return This builder for chaining.
        */
-      public Builder clearId() {
-        id_ = emptyIntList();
-        bitField0_ = (bitField0_ & ~0x00000001);
+      public Builder clearLiteral() {
+        literal_ = emptyIntList();
+        bitField0_ = (bitField0_ & ~0x00000002);
         onChanged();
         return this;
       }
 
-      private com.booleworks.logicng.serialization.formulas.ProtoBufFormulas.PBFormulaMapping mapping_;
-      private com.google.protobuf.SingleFieldBuilder<
-          com.booleworks.logicng.serialization.formulas.ProtoBufFormulas.PBFormulaMapping, com.booleworks.logicng.serialization.formulas.ProtoBufFormulas.PBFormulaMapping.Builder, com.booleworks.logicng.serialization.formulas.ProtoBufFormulas.PBFormulaMappingOrBuilder> mappingBuilder_;
+      private com.google.protobuf.Internal.IntList clauses_ = emptyIntList();
+      private void ensureClausesIsMutable() {
+        if (!clauses_.isModifiable()) {
+          clauses_ = makeMutableCopy(clauses_);
+        }
+        bitField0_ |= 0x00000004;
+      }
       /**
-       * <code>.formulas.PBFormulaMapping mapping = 2;</code>
-       * @return Whether the mapping field is set.
+       * <pre>
+       * number of clauses per formula
+       * </pre>
+       *
+       * <code>repeated int32 clauses = 3;</code>
+       * @return A list containing the clauses.
        */
-      public boolean hasMapping() {
-        return ((bitField0_ & 0x00000002) != 0);
+      public java.util.List<java.lang.Integer>
+          getClausesList() {
+        clauses_.makeImmutable();
+        return clauses_;
       }
       /**
-       * <code>.formulas.PBFormulaMapping mapping = 2;</code>
-       * @return The mapping.
+       * <pre>
+       * number of clauses per formula
+       * </pre>
+       *
+       * <code>repeated int32 clauses = 3;</code>
+       * @return The count of clauses.
        */
-      public com.booleworks.logicng.serialization.formulas.ProtoBufFormulas.PBFormulaMapping getMapping() {
-        if (mappingBuilder_ == null) {
-          return mapping_ == null ? com.booleworks.logicng.serialization.formulas.ProtoBufFormulas.PBFormulaMapping.getDefaultInstance() : mapping_;
-        } else {
-          return mappingBuilder_.getMessage();
-        }
+      public int getClausesCount() {
+        return clauses_.size();
       }
       /**
-       * <code>.formulas.PBFormulaMapping mapping = 2;</code>
+       * <pre>
+       * number of clauses per formula
+       * </pre>
+       *
+       * <code>repeated int32 clauses = 3;</code>
+       * @param index The index of the element to return.
+       * @return The clauses at the given index.
        */
-      public Builder setMapping(com.booleworks.logicng.serialization.formulas.ProtoBufFormulas.PBFormulaMapping value) {
-        if (mappingBuilder_ == null) {
-          if (value == null) {
-            throw new NullPointerException();
-          }
-          mapping_ = value;
-        } else {
-          mappingBuilder_.setMessage(value);
-        }
-        bitField0_ |= 0x00000002;
-        onChanged();
-        return this;
+      public int getClauses(int index) {
+        return clauses_.getInt(index);
       }
       /**
-       * <code>.formulas.PBFormulaMapping mapping = 2;</code>
+       * <pre>
+       * number of clauses per formula
+       * </pre>
+       *
+       * <code>repeated int32 clauses = 3;</code>
+       * @param index The index to set the value at.
+       * @param value The clauses to set.
+       * @return This builder for chaining.
        */
-      public Builder setMapping(
-          com.booleworks.logicng.serialization.formulas.ProtoBufFormulas.PBFormulaMapping.Builder builderForValue) {
-        if (mappingBuilder_ == null) {
-          mapping_ = builderForValue.build();
-        } else {
-          mappingBuilder_.setMessage(builderForValue.build());
-        }
-        bitField0_ |= 0x00000002;
+      public Builder setClauses(
+          int index, int value) {
+
+        ensureClausesIsMutable();
+        clauses_.setInt(index, value);
+        bitField0_ |= 0x00000004;
         onChanged();
         return this;
       }
       /**
-       * <code>.formulas.PBFormulaMapping mapping = 2;</code>
+       * <pre>
+       * number of clauses per formula
+       * </pre>
+       *
+       * <code>repeated int32 clauses = 3;</code>
+       * @param value The clauses to add.
+       * @return This builder for chaining.
        */
-      public Builder mergeMapping(com.booleworks.logicng.serialization.formulas.ProtoBufFormulas.PBFormulaMapping value) {
-        if (mappingBuilder_ == null) {
-          if (((bitField0_ & 0x00000002) != 0) &&
-            mapping_ != null &&
-            mapping_ != com.booleworks.logicng.serialization.formulas.ProtoBufFormulas.PBFormulaMapping.getDefaultInstance()) {
-            getMappingBuilder().mergeFrom(value);
-          } else {
-            mapping_ = value;
-          }
-        } else {
-          mappingBuilder_.mergeFrom(value);
-        }
-        if (mapping_ != null) {
-          bitField0_ |= 0x00000002;
-          onChanged();
-        }
+      public Builder addClauses(int value) {
+
+        ensureClausesIsMutable();
+        clauses_.addInt(value);
+        bitField0_ |= 0x00000004;
+        onChanged();
         return this;
       }
       /**
-       * <code>.formulas.PBFormulaMapping mapping = 2;</code>
+       * <pre>
+       * number of clauses per formula
+       * </pre>
+       *
+       * <code>repeated int32 clauses = 3;</code>
+       * @param values The clauses to add.
+       * @return This builder for chaining.
        */
-      public Builder clearMapping() {
-        bitField0_ = (bitField0_ & ~0x00000002);
-        mapping_ = null;
-        if (mappingBuilder_ != null) {
-          mappingBuilder_.dispose();
-          mappingBuilder_ = null;
-        }
+      public Builder addAllClauses(
+          java.lang.Iterable<? extends java.lang.Integer> values) {
+        ensureClausesIsMutable();
+        com.google.protobuf.AbstractMessageLite.Builder.addAll(
+            values, clauses_);
+        bitField0_ |= 0x00000004;
         onChanged();
         return this;
       }
       /**
-       * <code>.formulas.PBFormulaMapping mapping = 2;</code>
+       * <pre>
+       * number of clauses per formula
+       * </pre>
+       *
+       * <code>repeated int32 clauses = 3;</code>
+       * @return This builder for chaining.
        */
-      public com.booleworks.logicng.serialization.formulas.ProtoBufFormulas.PBFormulaMapping.Builder getMappingBuilder() {
-        bitField0_ |= 0x00000002;
+      public Builder clearClauses() {
+        clauses_ = emptyIntList();
+        bitField0_ = (bitField0_ & ~0x00000004);
         onChanged();
-        return getMappingFieldBuilder().getBuilder();
-      }
-      /**
-       * <code>.formulas.PBFormulaMapping mapping = 2;</code>
-       */
-      public com.booleworks.logicng.serialization.formulas.ProtoBufFormulas.PBFormulaMappingOrBuilder getMappingOrBuilder() {
-        if (mappingBuilder_ != null) {
-          return mappingBuilder_.getMessageOrBuilder();
-        } else {
-          return mapping_ == null ?
-              com.booleworks.logicng.serialization.formulas.ProtoBufFormulas.PBFormulaMapping.getDefaultInstance() : mapping_;
-        }
-      }
-      /**
-       * <code>.formulas.PBFormulaMapping mapping = 2;</code>
-       */
-      private com.google.protobuf.SingleFieldBuilder<
-          com.booleworks.logicng.serialization.formulas.ProtoBufFormulas.PBFormulaMapping, com.booleworks.logicng.serialization.formulas.ProtoBufFormulas.PBFormulaMapping.Builder, com.booleworks.logicng.serialization.formulas.ProtoBufFormulas.PBFormulaMappingOrBuilder> 
-          getMappingFieldBuilder() {
-        if (mappingBuilder_ == null) {
-          mappingBuilder_ = new com.google.protobuf.SingleFieldBuilder<
-              com.booleworks.logicng.serialization.formulas.ProtoBufFormulas.PBFormulaMapping, com.booleworks.logicng.serialization.formulas.ProtoBufFormulas.PBFormulaMapping.Builder, com.booleworks.logicng.serialization.formulas.ProtoBufFormulas.PBFormulaMappingOrBuilder>(
-                  getMapping(),
-                  getParentForChildren(),
-                  isClean());
-          mapping_ = null;
-        }
-        return mappingBuilder_;
+        return this;
       }
 
-      // @@protoc_insertion_point(builder_scope:formulas.PBFormulas)
+      // @@protoc_insertion_point(builder_scope:formulas.PBCnfFormulas)
     }
 
-    // @@protoc_insertion_point(class_scope:formulas.PBFormulas)
-    private static final com.booleworks.logicng.serialization.formulas.ProtoBufFormulas.PBFormulas DEFAULT_INSTANCE;
+    // @@protoc_insertion_point(class_scope:formulas.PBCnfFormulas)
+    private static final com.booleworks.logicng.serialization.formulas.ProtoBufFormulas.PBCnfFormulas DEFAULT_INSTANCE;
     static {
-      DEFAULT_INSTANCE = new com.booleworks.logicng.serialization.formulas.ProtoBufFormulas.PBFormulas();
+      DEFAULT_INSTANCE = new com.booleworks.logicng.serialization.formulas.ProtoBufFormulas.PBCnfFormulas();
     }
 
-    public static com.booleworks.logicng.serialization.formulas.ProtoBufFormulas.PBFormulas getDefaultInstance() {
+    public static com.booleworks.logicng.serialization.formulas.ProtoBufFormulas.PBCnfFormulas getDefaultInstance() {
       return DEFAULT_INSTANCE;
     }
 
-    private static final com.google.protobuf.Parser<PBFormulas>
-        PARSER = new com.google.protobuf.AbstractParser<PBFormulas>() {
+    private static final com.google.protobuf.Parser<PBCnfFormulas>
+        PARSER = new com.google.protobuf.AbstractParser<PBCnfFormulas>() {
       @java.lang.Override
-      public PBFormulas parsePartialFrom(
+      public PBCnfFormulas parsePartialFrom(
           com.google.protobuf.CodedInputStream input,
           com.google.protobuf.ExtensionRegistryLite extensionRegistry)
           throws com.google.protobuf.InvalidProtocolBufferException {
@@ -1094,17 +4961,17 @@ public final class ProtoBufFormulas {
       }
     };
 
-    public static com.google.protobuf.Parser<PBFormulas> parser() {
+    public static com.google.protobuf.Parser<PBCnfFormulas> parser() {
       return PARSER;
     }
 
     @java.lang.Override
-    public com.google.protobuf.Parser<PBFormulas> getParserForType() {
+    public com.google.protobuf.Parser<PBCnfFormulas> getParserForType() {
       return PARSER;
     }
 
     @java.lang.Override
-    public com.booleworks.logicng.serialization.formulas.ProtoBufFormulas.PBFormulas getDefaultInstanceForType() {
+    public com.booleworks.logicng.serialization.formulas.ProtoBufFormulas.PBCnfFormulas getDefaultInstanceForType() {
       return DEFAULT_INSTANCE;
     }
 
@@ -4189,6 +8056,21 @@ com.booleworks.logicng.serialization.formulas.ProtoBufFormulas.PBInternalFormula
   private static final 
     com.google.protobuf.GeneratedMessage.FieldAccessorTable
       internal_static_formulas_PBFormulas_fieldAccessorTable;
+  private static final com.google.protobuf.Descriptors.Descriptor
+    internal_static_formulas_PBTransformationCache_descriptor;
+  private static final 
+    com.google.protobuf.GeneratedMessage.FieldAccessorTable
+      internal_static_formulas_PBTransformationCache_fieldAccessorTable;
+  private static final com.google.protobuf.Descriptors.Descriptor
+    internal_static_formulas_PBPredicateCache_descriptor;
+  private static final 
+    com.google.protobuf.GeneratedMessage.FieldAccessorTable
+      internal_static_formulas_PBPredicateCache_fieldAccessorTable;
+  private static final com.google.protobuf.Descriptors.Descriptor
+    internal_static_formulas_PBCnfFormulas_descriptor;
+  private static final 
+    com.google.protobuf.GeneratedMessage.FieldAccessorTable
+      internal_static_formulas_PBCnfFormulas_fieldAccessorTable;
   private static final com.google.protobuf.Descriptors.Descriptor
     internal_static_formulas_PBFormulaMapping_descriptor;
   private static final 
@@ -4218,28 +8100,37 @@ com.booleworks.logicng.serialization.formulas.ProtoBufFormulas.PBInternalFormula
       descriptor;
   static {
     java.lang.String[] descriptorData = {
-      "\n\016formulas.proto\022\010formulas\"E\n\nPBFormulas" +
-      "\022\n\n\002id\030\001 \003(\005\022+\n\007mapping\030\002 \001(\0132\032.formulas" +
-      ".PBFormulaMapping\"\231\001\n\020PBFormulaMapping\0228" +
-      "\n\007mapping\030\001 \003(\0132\'.formulas.PBFormulaMapp" +
-      "ing.MappingEntry\032K\n\014MappingEntry\022\013\n\003key\030" +
-      "\001 \001(\005\022*\n\005value\030\002 \001(\0132\033.formulas.PBIntern" +
-      "alFormula:\0028\001\"\364\001\n\021PBInternalFormula\022*\n\004t" +
-      "ype\030\001 \001(\0162\027.formulas.PBFormulaTypeH\000\210\001\001\022" +
-      "\022\n\005value\030\002 \001(\010H\001\210\001\001\022\025\n\010variable\030\003 \001(\tH\002\210" +
-      "\001\001\022F\n\014pbConstraint\030\004 \001(\0132+.formulas.PBIn" +
-      "ternalPseudoBooleanConstraintH\003\210\001\001\022\017\n\007op" +
-      "erand\030\005 \003(\005B\007\n\005_typeB\010\n\006_valueB\013\n\t_varia" +
-      "bleB\017\n\r_pbConstraint\"\202\001\n!PBInternalPseud" +
-      "oBooleanConstraint\022*\n\ncomparator\030\001 \001(\0162\026" +
-      ".formulas.PBComparison\022\013\n\003rhs\030\002 \001(\003\022\023\n\013c" +
-      "oefficient\030\003 \003(\003\022\017\n\007literal\030\004 \003(\t*6\n\014PBC" +
-      "omparison\022\006\n\002EQ\020\000\022\006\n\002GT\020\001\022\006\n\002GE\020\002\022\006\n\002LT\020" +
-      "\003\022\006\n\002LE\020\004*n\n\rPBFormulaType\022\t\n\005CONST\020\000\022\013\n" +
-      "\007LITERAL\020\001\022\007\n\003NOT\020\002\022\007\n\003AND\020\003\022\006\n\002OR\020\004\022\010\n\004" +
-      "IMPL\020\005\022\t\n\005EQUIV\020\006\022\007\n\003PBC\020\007\022\r\n\tPREDICATE\020" +
-      "\010BA\n-com.booleworks.logicng.serializatio" +
-      "n.formulasB\020ProtoBufFormulasb\006proto3"
+      "\n\016formulas.proto\022\010formulas\"\335\001\n\nPBFormula" +
+      "s\022\n\n\002id\030\001 \003(\005\022+\n\007mapping\030\002 \001(\0132\032.formula" +
+      "s.PBFormulaMapping\022$\n\003cnf\030\003 \001(\0132\027.formul" +
+      "as.PBCnfFormulas\022<\n\023transformationCache\030" +
+      "\004 \003(\0132\037.formulas.PBTransformationCache\0222" +
+      "\n\016predicateCache\030\005 \003(\0132\032.formulas.PBPred" +
+      "icateCache\"F\n\025PBTransformationCache\022\014\n\004n" +
+      "ame\030\001 \001(\t\022\017\n\007formula\030\002 \003(\005\022\016\n\006result\030\003 \003" +
+      "(\005\"A\n\020PBPredicateCache\022\014\n\004name\030\001 \001(\t\022\017\n\007" +
+      "formula\030\002 \003(\005\022\016\n\006result\030\003 \003(\010\"C\n\rPBCnfFo" +
+      "rmulas\022\020\n\010variable\030\001 \003(\t\022\017\n\007literal\030\002 \003(" +
+      "\021\022\017\n\007clauses\030\003 \003(\005\"\231\001\n\020PBFormulaMapping\022" +
+      "8\n\007mapping\030\001 \003(\0132\'.formulas.PBFormulaMap" +
+      "ping.MappingEntry\032K\n\014MappingEntry\022\013\n\003key" +
+      "\030\001 \001(\005\022*\n\005value\030\002 \001(\0132\033.formulas.PBInter" +
+      "nalFormula:\0028\001\"\364\001\n\021PBInternalFormula\022*\n\004" +
+      "type\030\001 \001(\0162\027.formulas.PBFormulaTypeH\000\210\001\001" +
+      "\022\022\n\005value\030\002 \001(\010H\001\210\001\001\022\025\n\010variable\030\003 \001(\tH\002" +
+      "\210\001\001\022F\n\014pbConstraint\030\004 \001(\0132+.formulas.PBI" +
+      "nternalPseudoBooleanConstraintH\003\210\001\001\022\017\n\007o" +
+      "perand\030\005 \003(\005B\007\n\005_typeB\010\n\006_valueB\013\n\t_vari" +
+      "ableB\017\n\r_pbConstraint\"\202\001\n!PBInternalPseu" +
+      "doBooleanConstraint\022*\n\ncomparator\030\001 \001(\0162" +
+      "\026.formulas.PBComparison\022\013\n\003rhs\030\002 \001(\003\022\023\n\013" +
+      "coefficient\030\003 \003(\003\022\017\n\007literal\030\004 \003(\t*6\n\014PB" +
+      "Comparison\022\006\n\002EQ\020\000\022\006\n\002GT\020\001\022\006\n\002GE\020\002\022\006\n\002LT" +
+      "\020\003\022\006\n\002LE\020\004*n\n\rPBFormulaType\022\t\n\005CONST\020\000\022\013" +
+      "\n\007LITERAL\020\001\022\007\n\003NOT\020\002\022\007\n\003AND\020\003\022\006\n\002OR\020\004\022\010\n" +
+      "\004IMPL\020\005\022\t\n\005EQUIV\020\006\022\007\n\003PBC\020\007\022\r\n\tPREDICATE" +
+      "\020\010BA\n-com.booleworks.logicng.serializati" +
+      "on.formulasB\020ProtoBufFormulasb\006proto3"
     };
     descriptor = com.google.protobuf.Descriptors.FileDescriptor
       .internalBuildGeneratedFileFrom(descriptorData,
@@ -4250,9 +8141,27 @@ com.booleworks.logicng.serialization.formulas.ProtoBufFormulas.PBInternalFormula
     internal_static_formulas_PBFormulas_fieldAccessorTable = new
       com.google.protobuf.GeneratedMessage.FieldAccessorTable(
         internal_static_formulas_PBFormulas_descriptor,
-        new java.lang.String[] { "Id", "Mapping", });
-    internal_static_formulas_PBFormulaMapping_descriptor =
+        new java.lang.String[] { "Id", "Mapping", "Cnf", "TransformationCache", "PredicateCache", });
+    internal_static_formulas_PBTransformationCache_descriptor =
       getDescriptor().getMessageTypes().get(1);
+    internal_static_formulas_PBTransformationCache_fieldAccessorTable = new
+      com.google.protobuf.GeneratedMessage.FieldAccessorTable(
+        internal_static_formulas_PBTransformationCache_descriptor,
+        new java.lang.String[] { "Name", "Formula", "Result", });
+    internal_static_formulas_PBPredicateCache_descriptor =
+      getDescriptor().getMessageTypes().get(2);
+    internal_static_formulas_PBPredicateCache_fieldAccessorTable = new
+      com.google.protobuf.GeneratedMessage.FieldAccessorTable(
+        internal_static_formulas_PBPredicateCache_descriptor,
+        new java.lang.String[] { "Name", "Formula", "Result", });
+    internal_static_formulas_PBCnfFormulas_descriptor =
+      getDescriptor().getMessageTypes().get(3);
+    internal_static_formulas_PBCnfFormulas_fieldAccessorTable = new
+      com.google.protobuf.GeneratedMessage.FieldAccessorTable(
+        internal_static_formulas_PBCnfFormulas_descriptor,
+        new java.lang.String[] { "Variable", "Literal", "Clauses", });
+    internal_static_formulas_PBFormulaMapping_descriptor =
+      getDescriptor().getMessageTypes().get(4);
     internal_static_formulas_PBFormulaMapping_fieldAccessorTable = new
       com.google.protobuf.GeneratedMessage.FieldAccessorTable(
         internal_static_formulas_PBFormulaMapping_descriptor,
@@ -4264,13 +8173,13 @@ com.booleworks.logicng.serialization.formulas.ProtoBufFormulas.PBInternalFormula
         internal_static_formulas_PBFormulaMapping_MappingEntry_descriptor,
         new java.lang.String[] { "Key", "Value", });
     internal_static_formulas_PBInternalFormula_descriptor =
-      getDescriptor().getMessageTypes().get(2);
+      getDescriptor().getMessageTypes().get(5);
     internal_static_formulas_PBInternalFormula_fieldAccessorTable = new
       com.google.protobuf.GeneratedMessage.FieldAccessorTable(
         internal_static_formulas_PBInternalFormula_descriptor,
         new java.lang.String[] { "Type", "Value", "Variable", "PbConstraint", "Operand", });
     internal_static_formulas_PBInternalPseudoBooleanConstraint_descriptor =
-      getDescriptor().getMessageTypes().get(3);
+      getDescriptor().getMessageTypes().get(6);
     internal_static_formulas_PBInternalPseudoBooleanConstraint_fieldAccessorTable = new
       com.google.protobuf.GeneratedMessage.FieldAccessorTable(
         internal_static_formulas_PBInternalPseudoBooleanConstraint_descriptor,
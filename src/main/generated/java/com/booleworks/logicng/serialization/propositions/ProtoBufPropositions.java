@@ -742,11 +742,800 @@ public final class ProtoBufPropositions {
 
   }
 
+  public interface PBPropositionListOrBuilder extends
+      // @@protoc_insertion_point(interface_extends:propositions.PBPropositionList)
+      com.google.protobuf.MessageOrBuilder {
+
+    /**
+     * <code>.formulas.PBFormulas formulas = 1;</code>
+     * @return Whether the formulas field is set.
+     */
+    boolean hasFormulas();
+    /**
+     * <code>.formulas.PBFormulas formulas = 1;</code>
+     * @return The formulas.
+     */
+    com.booleworks.logicng.serialization.formulas.ProtoBufFormulas.PBFormulas getFormulas();
+    /**
+     * <code>.formulas.PBFormulas formulas = 1;</code>
+     */
+    com.booleworks.logicng.serialization.formulas.ProtoBufFormulas.PBFormulasOrBuilder getFormulasOrBuilder();
+
+    /**
+     * <code>repeated string description = 2;</code>
+     * @return A list containing the description.
+     */
+    java.util.List<java.lang.String>
+        getDescriptionList();
+    /**
+     * <code>repeated string description = 2;</code>
+     * @return The count of description.
+     */
+    int getDescriptionCount();
+    /**
+     * <code>repeated string description = 2;</code>
+     * @param index The index of the element to return.
+     * @return The description at the given index.
+     */
+    java.lang.String getDescription(int index);
+    /**
+     * <code>repeated string description = 2;</code>
+     * @param index The index of the value to return.
+     * @return The bytes of the description at the given index.
+     */
+    com.google.protobuf.ByteString
+        getDescriptionBytes(int index);
+  }
+  /**
+   * Protobuf type {@code propositions.PBPropositionList}
+   */
+  public static final class PBPropositionList extends
+      com.google.protobuf.GeneratedMessage implements
+      // @@protoc_insertion_point(message_implements:propositions.PBPropositionList)
+      PBPropositionListOrBuilder {
+  private static final long serialVersionUID = 0L;
+    static {
+      com.google.protobuf.RuntimeVersion.validateProtobufGencodeVersion(
+        com.google.protobuf.RuntimeVersion.RuntimeDomain.PUBLIC,
+        /* major= */ 4,
+        /* minor= */ 26,
+        /* patch= */ 1,
+        /* suffix= */ "",
+        PBPropositionList.class.getName());
+    }
+    // Use PBPropositionList.newBuilder() to construct.
+    private PBPropositionList(com.google.protobuf.GeneratedMessage.Builder<?> builder) {
+      super(builder);
+    }
+    private PBPropositionList() {
+      description_ =
+          com.google.protobuf.LazyStringArrayList.emptyList();
+    }
+
+    public static final com.google.protobuf.Descriptors.Descriptor
+        getDescriptor() {
+      return com.booleworks.logicng.serialization.propositions.ProtoBufPropositions.internal_static_propositions_PBPropositionList_descriptor;
+    }
+
+    @java.lang.Override
+    protected com.google.protobuf.GeneratedMessage.FieldAccessorTable
+        internalGetFieldAccessorTable() {
+      return com.booleworks.logicng.serialization.propositions.ProtoBufPropositions.internal_static_propositions_PBPropositionList_fieldAccessorTable
+          .ensureFieldAccessorsInitialized(
+              com.booleworks.logicng.serialization.propositions.ProtoBufPropositions.PBPropositionList.class, com.booleworks.logicng.serialization.propositions.ProtoBufPropositions.PBPropositionList.Builder.class);
+    }
+
+    private int bitField0_;
+    public static final int FORMULAS_FIELD_NUMBER = 1;
+    private com.booleworks.logicng.serialization.formulas.ProtoBufFormulas.PBFormulas formulas_;
+    /**
+     * <code>.formulas.PBFormulas formulas = 1;</code>
+     * @return Whether the formulas field is set.
+     */
+    @java.lang.Override
+    public boolean hasFormulas() {
+      return ((bitField0_ & 0x00000001) != 0);
+    }
+    /**
+     * <code>.formulas.PBFormulas formulas = 1;</code>
+     * @return The formulas.
+     */
+    @java.lang.Override
+    public com.booleworks.logicng.serialization.formulas.ProtoBufFormulas.PBFormulas getFormulas() {
+      return formulas_ == null ? com.booleworks.logicng.serialization.formulas.ProtoBufFormulas.PBFormulas.getDefaultInstance() : formulas_;
+    }
+    /**
+     * <code>.formulas.PBFormulas formulas = 1;</code>
+     */
+    @java.lang.Override
+    public com.booleworks.logicng.serialization.formulas.ProtoBufFormulas.PBFormulasOrBuilder getFormulasOrBuilder() {
+      return formulas_ == null ? com.booleworks.logicng.serialization.formulas.ProtoBufFormulas.PBFormulas.getDefaultInstance() : formulas_;
+    }
+
+    public static final int DESCRIPTION_FIELD_NUMBER = 2;
+    @SuppressWarnings("serial")
+    private com.google.protobuf.LazyStringArrayList description_ =
+        com.google.protobuf.LazyStringArrayList.emptyList();
+    /**
+     * <code>repeated string description = 2;</code>
+     * @return A list containing the description.
+     */
+    public com.google.protobuf.ProtocolStringList
+        getDescriptionList() {
+      return description_;
+    }
+    /**
+     * <code>repeated string description = 2;</code>
+     * @return The count of description.
+     */
+    public int getDescriptionCount() {
+      return description_.size();
+    }
+    /**
+     * <code>repeated string description = 2;</code>
+     * @param index The index of the element to return.
+     * @return The description at the given index.
+     */
+    public java.lang.String getDescription(int index) {
+      return description_.get(index);
+    }
+    /**
+     * <code>repeated string description = 2;</code>
+     * @param index The index of the value to return.
+     * @return The bytes of the description at the given index.
+     */
+    public com.google.protobuf.ByteString
+        getDescriptionBytes(int index) {
+      return description_.getByteString(index);
+    }
+
+    private byte memoizedIsInitialized = -1;
+    @java.lang.Override
+    public final boolean isInitialized() {
+      byte isInitialized = memoizedIsInitialized;
+      if (isInitialized == 1) return true;
+      if (isInitialized == 0) return false;
+
+      memoizedIsInitialized = 1;
+      return true;
+    }
+
+    @java.lang.Override
+    public void writeTo(com.google.protobuf.CodedOutputStream output)
+                        throws java.io.IOException {
+      if (((bitField0_ & 0x00000001) != 0)) {
+        output.writeMessage(1, getFormulas());
+      }
+      for (int i = 0; i < description_.size(); i++) {
+        com.google.protobuf.GeneratedMessage.writeString(output, 2, description_.getRaw(i));
+      }
+      getUnknownFields().writeTo(output);
+    }
+
+    @java.lang.Override
+    public int getSerializedSize() {
+      int size = memoizedSize;
+      if (size != -1) return size;
+
+      size = 0;
+      if (((bitField0_ & 0x00000001) != 0)) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeMessageSize(1, getFormulas());
+      }
+      {
+        int dataSize = 0;
+        for (int i = 0; i < description_.size(); i++) {
+          dataSize += computeStringSizeNoTag(description_.getRaw(i));
+        }
+        size += dataSize;
+        size += 1 * getDescriptionList().size();
+      }
+      size += getUnknownFields().getSerializedSize();
+      memoizedSize = size;
+      return size;
+    }
+
+    @java.lang.Override
+    public boolean equals(final java.lang.Object obj) {
+      if (obj == this) {
+       return true;
+      }
+      if (!(obj instanceof com.booleworks.logicng.serialization.propositions.ProtoBufPropositions.PBPropositionList)) {
+        return super.equals(obj);
+      }
+      com.booleworks.logicng.serialization.propositions.ProtoBufPropositions.PBPropositionList other = (com.booleworks.logicng.serialization.propositions.ProtoBufPropositions.PBPropositionList) obj;
+
+      if (hasFormulas() != other.hasFormulas()) return false;
+      if (hasFormulas()) {
+        if (!getFormulas()
+            .equals(other.getFormulas())) return false;
+      }
+      if (!getDescriptionList()
+          .equals(other.getDescriptionList())) return false;
+      if (!getUnknownFields().equals(other.getUnknownFields())) return false;
+      return true;
+    }
+
+    @java.lang.Override
+    public int hashCode() {
+      if (memoizedHashCode != 0) {
+        return memoizedHashCode;
+      }
+      int hash = 41;
+      hash = (19 * hash) + getDescriptor().hashCode();
+      if (hasFormulas()) {
+        hash = (37 * hash) + FORMULAS_FIELD_NUMBER;
+        hash = (53 * hash) + getFormulas().hashCode();
+      }
+      if (getDescriptionCount() > 0) {
+        hash = (37 * hash) + DESCRIPTION_FIELD_NUMBER;
+        hash = (53 * hash) + getDescriptionList().hashCode();
+      }
+      hash = (29 * hash) + getUnknownFields().hashCode();
+      memoizedHashCode = hash;
+      return hash;
+    }
+
+    public static com.booleworks.logicng.serialization.propositions.ProtoBufPropositions.PBPropositionList parseFrom(
+        java.nio.ByteBuffer data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static com.booleworks.logicng.serialization.propositions.ProtoBufPropositions.PBPropositionList parseFrom(
+        java.nio.ByteBuffer data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static com.booleworks.logicng.serialization.propositions.ProtoBufPropositions.PBPropositionList parseFrom(
+        com.google.protobuf.ByteString data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static com.booleworks.logicng.serialization.propositions.ProtoBufPropositions.PBPropositionList parseFrom(
+        com.google.protobuf.ByteString data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static com.booleworks.logicng.serialization.propositions.ProtoBufPropositions.PBPropositionList parseFrom(byte[] data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static com.booleworks.logicng.serialization.propositions.ProtoBufPropositions.PBPropositionList parseFrom(
+        byte[] data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static com.booleworks.logicng.serialization.propositions.ProtoBufPropositions.PBPropositionList parseFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessage
+          .parseWithIOException(PARSER, input);
+    }
+    public static com.booleworks.logicng.serialization.propositions.ProtoBufPropositions.PBPropositionList parseFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessage
+          .parseWithIOException(PARSER, input, extensionRegistry);
+    }
+
+    public static com.booleworks.logicng.serialization.propositions.ProtoBufPropositions.PBPropositionList parseDelimitedFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessage
+          .parseDelimitedWithIOException(PARSER, input);
+    }
+
+    public static com.booleworks.logicng.serialization.propositions.ProtoBufPropositions.PBPropositionList parseDelimitedFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessage
+          .parseDelimitedWithIOException(PARSER, input, extensionRegistry);
+    }
+    public static com.booleworks.logicng.serialization.propositions.ProtoBufPropositions.PBPropositionList parseFrom(
+        com.google.protobuf.CodedInputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessage
+          .parseWithIOException(PARSER, input);
+    }
+    public static com.booleworks.logicng.serialization.propositions.ProtoBufPropositions.PBPropositionList parseFrom(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessage
+          .parseWithIOException(PARSER, input, extensionRegistry);
+    }
+
+    @java.lang.Override
+    public Builder newBuilderForType() { return newBuilder(); }
+    public static Builder newBuilder() {
+      return DEFAULT_INSTANCE.toBuilder();
+    }
+    public static Builder newBuilder(com.booleworks.logicng.serialization.propositions.ProtoBufPropositions.PBPropositionList prototype) {
+      return DEFAULT_INSTANCE.toBuilder().mergeFrom(prototype);
+    }
+    @java.lang.Override
+    public Builder toBuilder() {
+      return this == DEFAULT_INSTANCE
+          ? new Builder() : new Builder().mergeFrom(this);
+    }
+
+    @java.lang.Override
+    protected Builder newBuilderForType(
+        com.google.protobuf.GeneratedMessage.BuilderParent parent) {
+      Builder builder = new Builder(parent);
+      return builder;
+    }
+    /**
+     * Protobuf type {@code propositions.PBPropositionList}
+     */
+    public static final class Builder extends
+        com.google.protobuf.GeneratedMessage.Builder<Builder> implements
+        // @@protoc_insertion_point(builder_implements:propositions.PBPropositionList)
+        com.booleworks.logicng.serialization.propositions.ProtoBufPropositions.PBPropositionListOrBuilder {
+      public static final com.google.protobuf.Descriptors.Descriptor
+          getDescriptor() {
+        return com.booleworks.logicng.serialization.propositions.ProtoBufPropositions.internal_static_propositions_PBPropositionList_descriptor;
+      }
+
+      @java.lang.Override
+      protected com.google.protobuf.GeneratedMessage.FieldAccessorTable
+          internalGetFieldAccessorTable() {
+        return com.booleworks.logicng.serialization.propositions.ProtoBufPropositions.internal_static_propositions_PBPropositionList_fieldAccessorTable
+            .ensureFieldAccessorsInitialized(
+                com.booleworks.logicng.serialization.propositions.ProtoBufPropositions.PBPropositionList.class, com.booleworks.logicng.serialization.propositions.ProtoBufPropositions.PBPropositionList.Builder.class);
+      }
+
+      // Construct using com.booleworks.logicng.serialization.propositions.ProtoBufPropositions.PBPropositionList.newBuilder()
+      private Builder() {
+        maybeForceBuilderInitialization();
+      }
+
+      private Builder(
+          com.google.protobuf.GeneratedMessage.BuilderParent parent) {
+        super(parent);
+        maybeForceBuilderInitialization();
+      }
+      private void maybeForceBuilderInitialization() {
+        if (com.google.protobuf.GeneratedMessage
+                .alwaysUseFieldBuilders) {
+          getFormulasFieldBuilder();
+        }
+      }
+      @java.lang.Override
+      public Builder clear() {
+        super.clear();
+        bitField0_ = 0;
+        formulas_ = null;
+        if (formulasBuilder_ != null) {
+          formulasBuilder_.dispose();
+          formulasBuilder_ = null;
+        }
+        description_ =
+            com.google.protobuf.LazyStringArrayList.emptyList();
+        return this;
+      }
+
+      @java.lang.Override
+      public com.google.protobuf.Descriptors.Descriptor
+          getDescriptorForType() {
+        return com.booleworks.logicng.serialization.propositions.ProtoBufPropositions.internal_static_propositions_PBPropositionList_descriptor;
+      }
+
+      @java.lang.Override
+      public com.booleworks.logicng.serialization.propositions.ProtoBufPropositions.PBPropositionList getDefaultInstanceForType() {
+        return com.booleworks.logicng.serialization.propositions.ProtoBufPropositions.PBPropositionList.getDefaultInstance();
+      }
+
+      @java.lang.Override
+      public com.booleworks.logicng.serialization.propositions.ProtoBufPropositions.PBPropositionList build() {
+        com.booleworks.logicng.serialization.propositions.ProtoBufPropositions.PBPropositionList result = buildPartial();
+        if (!result.isInitialized()) {
+          throw newUninitializedMessageException(result);
+        }
+        return result;
+      }
+
+      @java.lang.Override
+      public com.booleworks.logicng.serialization.propositions.ProtoBufPropositions.PBPropositionList buildPartial() {
+        com.booleworks.logicng.serialization.propositions.ProtoBufPropositions.PBPropositionList result = new com.booleworks.logicng.serialization.propositions.ProtoBufPropositions.PBPropositionList(this);
+        if (bitField0_ != 0) { buildPartial0(result); }
+        onBuilt();
+        return result;
+      }
+
+      private void buildPartial0(com.booleworks.logicng.serialization.propositions.ProtoBufPropositions.PBPropositionList result) {
+        int from_bitField0_ = bitField0_;
+        int to_bitField0_ = 0;
+        if (((from_bitField0_ & 0x00000001) != 0)) {
+          result.formulas_ = formulasBuilder_ == null
+              ? formulas_
+              : formulasBuilder_.build();
+          to_bitField0_ |= 0x00000001;
+        }
+        if (((from_bitField0_ & 0x00000002) != 0)) {
+          description_.makeImmutable();
+          result.description_ = description_;
+        }
+        result.bitField0_ |= to_bitField0_;
+      }
+
+      @java.lang.Override
+      public Builder mergeFrom(com.google.protobuf.Message other) {
+        if (other instanceof com.booleworks.logicng.serialization.propositions.ProtoBufPropositions.PBPropositionList) {
+          return mergeFrom((com.booleworks.logicng.serialization.propositions.ProtoBufPropositions.PBPropositionList)other);
+        } else {
+          super.mergeFrom(other);
+          return this;
+        }
+      }
+
+      public Builder mergeFrom(com.booleworks.logicng.serialization.propositions.ProtoBufPropositions.PBPropositionList other) {
+        if (other == com.booleworks.logicng.serialization.propositions.ProtoBufPropositions.PBPropositionList.getDefaultInstance()) return this;
+        if (other.hasFormulas()) {
+          mergeFormulas(other.getFormulas());
+        }
+        if (!other.description_.isEmpty()) {
+          if (description_.isEmpty()) {
+            description_ = other.description_;
+            bitField0_ |= 0x00000002;
+          } else {
+            ensureDescriptionIsMutable();
+            description_.addAll(other.description_);
+          }
+          onChanged();
+        }
+        this.mergeUnknownFields(other.getUnknownFields());
+        onChanged();
+        return this;
+      }
+
+      @java.lang.Override
+      public final boolean isInitialized() {
+        return true;
+      }
+
+      @java.lang.Override
+      public Builder mergeFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws java.io.IOException {
+        if (extensionRegistry == null) {
+          throw new java.lang.NullPointerException();
+        }
+        try {
+          boolean done = false;
+          while (!done) {
+            int tag = input.readTag();
+            switch (tag) {
+              case 0:
+                done = true;
+                break;
+              case 10: {
+                input.readMessage(
+                    getFormulasFieldBuilder().getBuilder(),
+                    extensionRegistry);
+                bitField0_ |= 0x00000001;
+                break;
+              } // case 10
+              case 18: {
+                java.lang.String s = input.readStringRequireUtf8();
+                ensureDescriptionIsMutable();
+                description_.add(s);
+                break;
+              } // case 18
+              default: {
+                if (!super.parseUnknownField(input, extensionRegistry, tag)) {
+                  done = true; // was an endgroup tag
+                }
+                break;
+              } // default:
+            } // switch (tag)
+          } // while (!done)
+        } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+          throw e.unwrapIOException();
+        } finally {
+          onChanged();
+        } // finally
+        return this;
+      }
+      private int bitField0_;
+
+      private com.booleworks.logicng.serialization.formulas.ProtoBufFormulas.PBFormulas formulas_;
+      private com.google.protobuf.SingleFieldBuilder<
+          com.booleworks.logicng.serialization.formulas.ProtoBufFormulas.PBFormulas, com.booleworks.logicng.serialization.formulas.ProtoBufFormulas.PBFormulas.Builder, com.booleworks.logicng.serialization.formulas.ProtoBufFormulas.PBFormulasOrBuilder> formulasBuilder_;
+      /**
+       * <code>.formulas.PBFormulas formulas = 1;</code>
+       * @return Whether the formulas field is set.
+       */
+      public boolean hasFormulas() {
+        return ((bitField0_ & 0x00000001) != 0);
+      }
+      /**
+       * <code>.formulas.PBFormulas formulas = 1;</code>
+       * @return The formulas.
+       */
+      public com.booleworks.logicng.serialization.formulas.ProtoBufFormulas.PBFormulas getFormulas() {
+        if (formulasBuilder_ == null) {
+          return formulas_ == null ? com.booleworks.logicng.serialization.formulas.ProtoBufFormulas.PBFormulas.getDefaultInstance() : formulas_;
+        } else {
+          return formulasBuilder_.getMessage();
+        }
+      }
+      /**
+       * <code>.formulas.PBFormulas formulas = 1;</code>
+       */
+      public Builder setFormulas(com.booleworks.logicng.serialization.formulas.ProtoBufFormulas.PBFormulas value) {
+        if (formulasBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          formulas_ = value;
+        } else {
+          formulasBuilder_.setMessage(value);
+        }
+        bitField0_ |= 0x00000001;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>.formulas.PBFormulas formulas = 1;</code>
+       */
+      public Builder setFormulas(
+          com.booleworks.logicng.serialization.formulas.ProtoBufFormulas.PBFormulas.Builder builderForValue) {
+        if (formulasBuilder_ == null) {
+          formulas_ = builderForValue.build();
+        } else {
+          formulasBuilder_.setMessage(builderForValue.build());
+        }
+        bitField0_ |= 0x00000001;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>.formulas.PBFormulas formulas = 1;</code>
+       */
+      public Builder mergeFormulas(com.booleworks.logicng.serialization.formulas.ProtoBufFormulas.PBFormulas value) {
+        if (formulasBuilder_ == null) {
+          if (((bitField0_ & 0x00000001) != 0) &&
+            formulas_ != null &&
+            formulas_ != com.booleworks.logicng.serialization.formulas.ProtoBufFormulas.PBFormulas.getDefaultInstance()) {
+            getFormulasBuilder().mergeFrom(value);
+          } else {
+            formulas_ = value;
+          }
+        } else {
+          formulasBuilder_.mergeFrom(value);
+        }
+        if (formulas_ != null) {
+          bitField0_ |= 0x00000001;
+          onChanged();
+        }
+        return this;
+      }
+      /**
+       * <code>.formulas.PBFormulas formulas = 1;</code>
+       */
+      public Builder clearFormulas() {
+        bitField0_ = (bitField0_ & ~0x00000001);
+        formulas_ = null;
+        if (formulasBuilder_ != null) {
+          formulasBuilder_.dispose();
+          formulasBuilder_ = null;
+        }
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>.formulas.PBFormulas formulas = 1;</code>
+       */
+      public com.booleworks.logicng.serialization.formulas.ProtoBufFormulas.PBFormulas.Builder getFormulasBuilder() {
+        bitField0_ |= 0x00000001;
+        onChanged();
+        return getFormulasFieldBuilder().getBuilder();
+      }
+      /**
+       * <code>.formulas.PBFormulas formulas = 1;</code>
+       */
+      public com.booleworks.logicng.serialization.formulas.ProtoBufFormulas.PBFormulasOrBuilder getFormulasOrBuilder() {
+        if (formulasBuilder_ != null) {
+          return formulasBuilder_.getMessageOrBuilder();
+        } else {
+          return formulas_ == null ?
+              com.booleworks.logicng.serialization.formulas.ProtoBufFormulas.PBFormulas.getDefaultInstance() : formulas_;
+        }
+      }
+      /**
+       * <code>.formulas.PBFormulas formulas = 1;</code>
+       */
+      private com.google.protobuf.SingleFieldBuilder<
+          com.booleworks.logicng.serialization.formulas.ProtoBufFormulas.PBFormulas, com.booleworks.logicng.serialization.formulas.ProtoBufFormulas.PBFormulas.Builder, com.booleworks.logicng.serialization.formulas.ProtoBufFormulas.PBFormulasOrBuilder> 
+          getFormulasFieldBuilder() {
+        if (formulasBuilder_ == null) {
+          formulasBuilder_ = new com.google.protobuf.SingleFieldBuilder<
+              com.booleworks.logicng.serialization.formulas.ProtoBufFormulas.PBFormulas, com.booleworks.logicng.serialization.formulas.ProtoBufFormulas.PBFormulas.Builder, com.booleworks.logicng.serialization.formulas.ProtoBufFormulas.PBFormulasOrBuilder>(
+                  getFormulas(),
+                  getParentForChildren(),
+                  isClean());
+          formulas_ = null;
+        }
+        return formulasBuilder_;
+      }
+
+      private com.google.protobuf.LazyStringArrayList description_ =
+          com.google.protobuf.LazyStringArrayList.emptyList();
+      private void ensureDescriptionIsMutable() {
+        if (!description_.isModifiable()) {
+          description_ = new com.google.protobuf.LazyStringArrayList(description_);
+        }
+        bitField0_ |= 0x00000002;
+      }
+      /**
+       * <code>repeated string description = 2;</code>
+       * @return A list containing the description.
+       */
+      public com.google.protobuf.ProtocolStringList
+          getDescriptionList() {
+        description_.makeImmutable();
+        return description_;
+      }
+      /**
+       * <code>repeated string description = 2;</code>
+       * @return The count of description.
+       */
+      public int getDescriptionCount() {
+        return description_.size();
+      }
+      /**
+       * <code>repeated string description = 2;</code>
+       * @param index The index of the element to return.
+       * @return The description at the given index.
+       */
+      public java.lang.String getDescription(int index) {
+        return description_.get(index);
+      }
+      /**
+       * <code>repeated string description = 2;</code>
+       * @param index The index of the value to return.
+       * @return The bytes of the description at the given index.
+       */
+      public com.google.protobuf.ByteString
+          getDescriptionBytes(int index) {
+        return description_.getByteString(index);
+      }
+      /**
+       * <code>repeated string description = 2;</code>
+       * @param index The index to set the value at.
+       * @param value The description to set.
+       * @return This builder for chaining.
+       */
+      public Builder setDescription(
+          int index, java.lang.String value) {
+        if (value == null) { throw new NullPointerException(); }
+        ensureDescriptionIsMutable();
+        description_.set(index, value);
+        bitField0_ |= 0x00000002;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>repeated string description = 2;</code>
+       * @param value The description to add.
+       * @return This builder for chaining.
+       */
+      public Builder addDescription(
+          java.lang.String value) {
+        if (value == null) { throw new NullPointerException(); }
+        ensureDescriptionIsMutable();
+        description_.add(value);
+        bitField0_ |= 0x00000002;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>repeated string description = 2;</code>
+       * @param values The description to add.
+       * @return This builder for chaining.
+       */
+      public Builder addAllDescription(
+          java.lang.Iterable<java.lang.String> values) {
+        ensureDescriptionIsMutable();
+        com.google.protobuf.AbstractMessageLite.Builder.addAll(
+            values, description_);
+        bitField0_ |= 0x00000002;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>repeated string description = 2;</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearDescription() {
+        description_ =
+          com.google.protobuf.LazyStringArrayList.emptyList();
+        bitField0_ = (bitField0_ & ~0x00000002);;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>repeated string description = 2;</code>
+       * @param value The bytes of the description to add.
+       * @return This builder for chaining.
+       */
+      public Builder addDescriptionBytes(
+          com.google.protobuf.ByteString value) {
+        if (value == null) { throw new NullPointerException(); }
+        checkByteStringIsUtf8(value);
+        ensureDescriptionIsMutable();
+        description_.add(value);
+        bitField0_ |= 0x00000002;
+        onChanged();
+        return this;
+      }
+
+      // @@protoc_insertion_point(builder_scope:propositions.PBPropositionList)
+    }
+
+    // @@protoc_insertion_point(class_scope:propositions.PBPropositionList)
+    private static final com.booleworks.logicng.serialization.propositions.ProtoBufPropositions.PBPropositionList DEFAULT_INSTANCE;
+    static {
+      DEFAULT_INSTANCE = new com.booleworks.logicng.serialization.propositions.ProtoBufPropositions.PBPropositionList();
+    }
+
+    public static com.booleworks.logicng.serialization.propositions.ProtoBufPropositions.PBPropositionList getDefaultInstance() {
+      return DEFAULT_INSTANCE;
+    }
+
+    private static final com.google.protobuf.Parser<PBPropositionList>
+        PARSER = new com.google.protobuf.AbstractParser<PBPropositionList>() {
+      @java.lang.Override
+      public PBPropositionList parsePartialFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws com.google.protobuf.InvalidProtocolBufferException {
+        Builder builder = newBuilder();
+        try {
+          builder.mergeFrom(input, extensionRegistry);
+        } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+          throw e.setUnfinishedMessage(builder.buildPartial());
+        } catch (com.google.protobuf.UninitializedMessageException e) {
+          throw e.asInvalidProtocolBufferException().setUnfinishedMessage(builder.buildPartial());
+        } catch (java.io.IOException e) {
+          throw new com.google.protobuf.InvalidProtocolBufferException(e)
+              .setUnfinishedMessage(builder.buildPartial());
+        }
+        return builder.buildPartial();
+      }
+    };
+
+    public static com.google.protobuf.Parser<PBPropositionList> parser() {
+      return PARSER;
+    }
+
+    @java.lang.Override
+    public com.google.protobuf.Parser<PBPropositionList> getParserForType() {
+      return PARSER;
+    }
+
+    @java.lang.Override
+    public com.booleworks.logicng.serialization.propositions.ProtoBufPropositions.PBPropositionList getDefaultInstanceForType() {
+      return DEFAULT_INSTANCE;
+    }
+
+  }
+
   private static final com.google.protobuf.Descriptors.Descriptor
     internal_static_propositions_PBStandardProposition_descriptor;
   private static final 
     com.google.protobuf.GeneratedMessage.FieldAccessorTable
       internal_static_propositions_PBStandardProposition_fieldAccessorTable;
+  private static final com.google.protobuf.Descriptors.Descriptor
+    internal_static_propositions_PBPropositionList_descriptor;
+  private static final 
+    com.google.protobuf.GeneratedMessage.FieldAccessorTable
+      internal_static_propositions_PBPropositionList_fieldAccessorTable;
 
   public static com.google.protobuf.Descriptors.FileDescriptor
       getDescriptor() {
@@ -759,9 +1548,11 @@ public final class ProtoBufPropositions {
       "\n\022propositions.proto\022\014propositions\032\016form" +
       "ulas.proto\"S\n\025PBStandardProposition\022%\n\007f" +
       "ormula\030\001 \001(\0132\024.formulas.PBFormulas\022\023\n\013de" +
-      "scription\030\002 \001(\tBI\n1com.booleworks.logicn" +
-      "g.serialization.propositionsB\024ProtoBufPr" +
-      "opositionsb\006proto3"
+      "scription\030\002 \001(\t\"P\n\021PBPropositionList\022&\n\010" +
+      "formulas\030\001 \001(\0132\024.formulas.PBFormulas\022\023\n\013" +
+      "description\030\002 \003(\tBI\n1com.booleworks.logi" +
+      "cng.serialization.propositionsB\024ProtoBuf" +
+      "Propositionsb\006proto3"
     };
     descriptor = com.google.protobuf.Descriptors.FileDescriptor
       .internalBuildGeneratedFileFrom(descriptorData,
@@ -774,6 +1565,12 @@ public final class ProtoBufPropositions {
       com.google.protobuf.GeneratedMessage.FieldAccessorTable(
         internal_static_propositions_PBStandardProposition_descriptor,
         new java.lang.String[] { "Formula", "Description", });
+    internal_static_propositions_PBPropositionList_descriptor =
+      getDescriptor().getMessageTypes().get(1);
+    internal_static_propositions_PBPropositionList_fieldAccessorTable = new
+      com.google.protobuf.GeneratedMessage.FieldAccessorTable(
+        internal_static_propositions_PBPropositionList_descriptor,
+        new java.lang.String[] { "Formulas", "Description", });
     descriptor.resolveAllFeaturesImmutable();
     com.booleworks.logicng.serialization.formulas.ProtoBufFormulas.getDescriptor();
   }
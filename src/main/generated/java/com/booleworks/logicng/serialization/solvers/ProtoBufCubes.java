@@ -0,0 +1,1423 @@
+// Generated by the protocol buffer compiler.  DO NOT EDIT!
+// source: cubes.proto
+// Protobuf Java Version: 4.26.1
+
+package com.booleworks.logicng.serialization.solvers;
+
+public final class ProtoBufCubes {
+  private ProtoBufCubes() {}
+  static {
+    com.google.protobuf.RuntimeVersion.validateProtobufGencodeVersion(
+      com.google.protobuf.RuntimeVersion.RuntimeDomain.PUBLIC,
+      /* major= */ 4,
+      /* minor= */ 26,
+      /* patch= */ 1,
+      /* suffix= */ "",
+      ProtoBufCubes.class.getName());
+  }
+  public static void registerAllExtensions(
+      com.google.protobuf.ExtensionRegistryLite registry) {
+  }
+
+  public static void registerAllExtensions(
+      com.google.protobuf.ExtensionRegistry registry) {
+    registerAllExtensions(
+        (com.google.protobuf.ExtensionRegistryLite) registry);
+  }
+  public interface PBCubeOrBuilder extends
+      // @@protoc_insertion_point(interface_extends:solver.PBCube)
+      com.google.protobuf.MessageOrBuilder {
+
+    /**
+     * <code>int32 id = 1;</code>
+     * @return The id.
+     */
+    int getId();
+
+    /**
+     * <code>repeated string variable = 2;</code>
+     * @return A list containing the variable.
+     */
+    java.util.List<java.lang.String>
+        getVariableList();
+    /**
+     * <code>repeated string variable = 2;</code>
+     * @return The count of variable.
+     */
+    int getVariableCount();
+    /**
+     * <code>repeated string variable = 2;</code>
+     * @param index The index of the element to return.
+     * @return The variable at the given index.
+     */
+    java.lang.String getVariable(int index);
+    /**
+     * <code>repeated string variable = 2;</code>
+     * @param index The index of the value to return.
+     * @return The bytes of the variable at the given index.
+     */
+    com.google.protobuf.ByteString
+        getVariableBytes(int index);
+
+    /**
+     * <code>repeated bool phase = 3;</code>
+     * @return A list containing the phase.
+     */
+    java.util.List<java.lang.Boolean> getPhaseList();
+    /**
+     * <code>repeated bool phase = 3;</code>
+     * @return The count of phase.
+     */
+    int getPhaseCount();
+    /**
+     * <code>repeated bool phase = 3;</code>
+     * @param index The index of the element to return.
+     * @return The phase at the given index.
+     */
+    boolean getPhase(int index);
+  }
+  /**
+   * Protobuf type {@code solver.PBCube}
+   */
+  public static final class PBCube extends
+      com.google.protobuf.GeneratedMessage implements
+      // @@protoc_insertion_point(message_implements:solver.PBCube)
+      PBCubeOrBuilder {
+  private static final long serialVersionUID = 0L;
+    static {
+      com.google.protobuf.RuntimeVersion.validateProtobufGencodeVersion(
+        com.google.protobuf.RuntimeVersion.RuntimeDomain.PUBLIC,
+        /* major= */ 4,
+        /* minor= */ 26,
+        /* patch= */ 1,
+        /* suffix= */ "",
+        PBCube.class.getName());
+    }
+    // Use PBCube.newBuilder() to construct.
+    private PBCube(com.google.protobuf.GeneratedMessage.Builder<?> builder) {
+      super(builder);
+    }
+    private PBCube() {
+      variable_ =
+          com.google.protobuf.LazyStringArrayList.emptyList();
+      phase_ = emptyBooleanList();
+    }
+
+    public static final com.google.protobuf.Descriptors.Descriptor
+        getDescriptor() {
+      return com.booleworks.logicng.serialization.solvers.ProtoBufCubes.internal_static_solver_PBCube_descriptor;
+    }
+
+    @java.lang.Override
+    protected com.google.protobuf.GeneratedMessage.FieldAccessorTable
+        internalGetFieldAccessorTable() {
+      return com.booleworks.logicng.serialization.solvers.ProtoBufCubes.internal_static_solver_PBCube_fieldAccessorTable
+          .ensureFieldAccessorsInitialized(
+              com.booleworks.logicng.serialization.solvers.ProtoBufCubes.PBCube.class, com.booleworks.logicng.serialization.solvers.ProtoBufCubes.PBCube.Builder.class);
+    }
+
+    public static final int ID_FIELD_NUMBER = 1;
+    private int id_ = 0;
+    /**
+     * <code>int32 id = 1;</code>
+     * @return The id.
+     */
+    @java.lang.Override
+    public int getId() {
+      return id_;
+    }
+
+    public static final int VARIABLE_FIELD_NUMBER = 2;
+    @SuppressWarnings("serial")
+    private com.google.protobuf.LazyStringArrayList variable_ =
+        com.google.protobuf.LazyStringArrayList.emptyList();
+    /**
+     * <code>repeated string variable = 2;</code>
+     * @return A list containing the variable.
+     */
+    public com.google.protobuf.ProtocolStringList
+        getVariableList() {
+      return variable_;
+    }
+    /**
+     * <code>repeated string variable = 2;</code>
+     * @return The count of variable.
+     */
+    public int getVariableCount() {
+      return variable_.size();
+    }
+    /**
+     * <code>repeated string variable = 2;</code>
+     * @param index The index of the element to return.
+     * @return The variable at the given index.
+     */
+    public java.lang.String getVariable(int index) {
+      return variable_.get(index);
+    }
+    /**
+     * <code>repeated string variable = 2;</code>
+     * @param index The index of the value to return.
+     * @return The bytes of the variable at the given index.
+     */
+    public com.google.protobuf.ByteString
+        getVariableBytes(int index) {
+      return variable_.getByteString(index);
+    }
+
+    public static final int PHASE_FIELD_NUMBER = 3;
+    @SuppressWarnings("serial")
+    private com.google.protobuf.Internal.BooleanList phase_ =
+        emptyBooleanList();
+    /**
+     * <code>repeated bool phase = 3;</code>
+     * @return A list containing the phase.
+     */
+    @java.lang.Override
+    public java.util.List<java.lang.Boolean>
+        getPhaseList() {
+      return phase_;
+    }
+    /**
+     * <code>repeated bool phase = 3;</code>
+     * @return The count of phase.
+     */
+    public int getPhaseCount() {
+      return phase_.size();
+    }
+    /**
+     * <code>repeated bool phase = 3;</code>
+     * @param index The index of the element to return.
+     * @return The phase at the given index.
+     */
+    public boolean getPhase(int index) {
+      return phase_.getBoolean(index);
+    }
+    private int phaseMemoizedSerializedSize = -1;
+
+    private byte memoizedIsInitialized = -1;
+    @java.lang.Override
+    public final boolean isInitialized() {
+      byte isInitialized = memoizedIsInitialized;
+      if (isInitialized == 1) return true;
+      if (isInitialized == 0) return false;
+
+      memoizedIsInitialized = 1;
+      return true;
+    }
+
+    @java.lang.Override
+    public void writeTo(com.google.protobuf.CodedOutputStream output)
+                        throws java.io.IOException {
+      getSerializedSize();
+      if (id_ != 0) {
+        output.writeInt32(1, id_);
+      }
+      for (int i = 0; i < variable_.size(); i++) {
+        com.google.protobuf.GeneratedMessage.writeString(output, 2, variable_.getRaw(i));
+      }
+      if (getPhaseList().size() > 0) {
+        output.writeUInt32NoTag(26);
+        output.writeUInt32NoTag(phaseMemoizedSerializedSize);
+      }
+      for (int i = 0; i < phase_.size(); i++) {
+        output.writeBoolNoTag(phase_.getBoolean(i));
+      }
+      getUnknownFields().writeTo(output);
+    }
+
+    @java.lang.Override
+    public int getSerializedSize() {
+      int size = memoizedSize;
+      if (size != -1) return size;
+
+      size = 0;
+      if (id_ != 0) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeInt32Size(1, id_);
+      }
+      {
+        int dataSize = 0;
+        for (int i = 0; i < variable_.size(); i++) {
+          dataSize += computeStringSizeNoTag(variable_.getRaw(i));
+        }
+        size += dataSize;
+        size += 1 * getVariableList().size();
+      }
+      {
+        int dataSize = 0;
+        dataSize = 1 * getPhaseList().size();
+        size += dataSize;
+        if (!getPhaseList().isEmpty()) {
+          size += 1;
+          size += com.google.protobuf.CodedOutputStream
+              .computeInt32SizeNoTag(dataSize);
+        }
+        phaseMemoizedSerializedSize = dataSize;
+      }
+      size += getUnknownFields().getSerializedSize();
+      memoizedSize = size;
+      return size;
+    }
+
+    @java.lang.Override
+    public boolean equals(final java.lang.Object obj) {
+      if (obj == this) {
+       return true;
+      }
+      if (!(obj instanceof com.booleworks.logicng.serialization.solvers.ProtoBufCubes.PBCube)) {
+        return super.equals(obj);
+      }
+      com.booleworks.logicng.serialization.solvers.ProtoBufCubes.PBCube other = (com.booleworks.logicng.serialization.solvers.ProtoBufCubes.PBCube) obj;
+
+      if (getId()
+          != other.getId()) return false;
+      if (!getVariableList()
+          .equals(other.getVariableList())) return false;
+      if (!getPhaseList()
+          .equals(other.getPhaseList())) return false;
+      if (!getUnknownFields().equals(other.getUnknownFields())) return false;
+      return true;
+    }
+
+    @java.lang.Override
+    public int hashCode() {
+      if (memoizedHashCode != 0) {
+        return memoizedHashCode;
+      }
+      int hash = 41;
+      hash = (19 * hash) + getDescriptor().hashCode();
+      hash = (37 * hash) + ID_FIELD_NUMBER;
+      hash = (53 * hash) + getId();
+      if (getVariableCount() > 0) {
+        hash = (37 * hash) + VARIABLE_FIELD_NUMBER;
+        hash = (53 * hash) + getVariableList().hashCode();
+      }
+      if (getPhaseCount() > 0) {
+        hash = (37 * hash) + PHASE_FIELD_NUMBER;
+        hash = (53 * hash) + getPhaseList().hashCode();
+      }
+      hash = (29 * hash) + getUnknownFields().hashCode();
+      memoizedHashCode = hash;
+      return hash;
+    }
+
+    public static com.booleworks.logicng.serialization.solvers.ProtoBufCubes.PBCube parseFrom(
+        java.nio.ByteBuffer data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static com.booleworks.logicng.serialization.solvers.ProtoBufCubes.PBCube parseFrom(
+        java.nio.ByteBuffer data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static com.booleworks.logicng.serialization.solvers.ProtoBufCubes.PBCube parseFrom(
+        com.google.protobuf.ByteString data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static com.booleworks.logicng.serialization.solvers.ProtoBufCubes.PBCube parseFrom(
+        com.google.protobuf.ByteString data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static com.booleworks.logicng.serialization.solvers.ProtoBufCubes.PBCube parseFrom(byte[] data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static com.booleworks.logicng.serialization.solvers.ProtoBufCubes.PBCube parseFrom(
+        byte[] data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static com.booleworks.logicng.serialization.solvers.ProtoBufCubes.PBCube parseFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessage
+          .parseWithIOException(PARSER, input);
+    }
+    public static com.booleworks.logicng.serialization.solvers.ProtoBufCubes.PBCube parseFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessage
+          .parseWithIOException(PARSER, input, extensionRegistry);
+    }
+
+    public static com.booleworks.logicng.serialization.solvers.ProtoBufCubes.PBCube parseDelimitedFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessage
+          .parseDelimitedWithIOException(PARSER, input);
+    }
+
+    public static com.booleworks.logicng.serialization.solvers.ProtoBufCubes.PBCube parseDelimitedFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessage
+          .parseDelimitedWithIOException(PARSER, input, extensionRegistry);
+    }
+    public static com.booleworks.logicng.serialization.solvers.ProtoBufCubes.PBCube parseFrom(
+        com.google.protobuf.CodedInputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessage
+          .parseWithIOException(PARSER, input);
+    }
+    public static com.booleworks.logicng.serialization.solvers.ProtoBufCubes.PBCube parseFrom(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessage
+          .parseWithIOException(PARSER, input, extensionRegistry);
+    }
+
+    @java.lang.Override
+    public Builder newBuilderForType() { return newBuilder(); }
+    public static Builder newBuilder() {
+      return DEFAULT_INSTANCE.toBuilder();
+    }
+    public static Builder newBuilder(com.booleworks.logicng.serialization.solvers.ProtoBufCubes.PBCube prototype) {
+      return DEFAULT_INSTANCE.toBuilder().mergeFrom(prototype);
+    }
+    @java.lang.Override
+    public Builder toBuilder() {
+      return this == DEFAULT_INSTANCE
+          ? new Builder() : new Builder().mergeFrom(this);
+    }
+
+    @java.lang.Override
+    protected Builder newBuilderForType(
+        com.google.protobuf.GeneratedMessage.BuilderParent parent) {
+      Builder builder = new Builder(parent);
+      return builder;
+    }
+    /**
+     * Protobuf type {@code solver.PBCube}
+     */
+    public static final class Builder extends
+        com.google.protobuf.GeneratedMessage.Builder<Builder> implements
+        // @@protoc_insertion_point(builder_implements:solver.PBCube)
+        com.booleworks.logicng.serialization.solvers.ProtoBufCubes.PBCubeOrBuilder {
+      public static final com.google.protobuf.Descriptors.Descriptor
+          getDescriptor() {
+        return com.booleworks.logicng.serialization.solvers.ProtoBufCubes.internal_static_solver_PBCube_descriptor;
+      }
+
+      @java.lang.Override
+      protected com.google.protobuf.GeneratedMessage.FieldAccessorTable
+          internalGetFieldAccessorTable() {
+        return com.booleworks.logicng.serialization.solvers.ProtoBufCubes.internal_static_solver_PBCube_fieldAccessorTable
+            .ensureFieldAccessorsInitialized(
+                com.booleworks.logicng.serialization.solvers.ProtoBufCubes.PBCube.class, com.booleworks.logicng.serialization.solvers.ProtoBufCubes.PBCube.Builder.class);
+      }
+
+      // Construct using com.booleworks.logicng.serialization.solvers.ProtoBufCubes.PBCube.newBuilder()
+      private Builder() {
+
+      }
+
+      private Builder(
+          com.google.protobuf.GeneratedMessage.BuilderParent parent) {
+        super(parent);
+
+      }
+      @java.lang.Override
+      public Builder clear() {
+        super.clear();
+        bitField0_ = 0;
+        id_ = 0;
+        variable_ =
+            com.google.protobuf.LazyStringArrayList.emptyList();
+        phase_ = emptyBooleanList();
+        return this;
+      }
+
+      @java.lang.Override
+      public com.google.protobuf.Descriptors.Descriptor
+          getDescriptorForType() {
+        return com.booleworks.logicng.serialization.solvers.ProtoBufCubes.internal_static_solver_PBCube_descriptor;
+      }
+
+      @java.lang.Override
+      public com.booleworks.logicng.serialization.solvers.ProtoBufCubes.PBCube getDefaultInstanceForType() {
+        return com.booleworks.logicng.serialization.solvers.ProtoBufCubes.PBCube.getDefaultInstance();
+      }
+
+      @java.lang.Override
+      public com.booleworks.logicng.serialization.solvers.ProtoBufCubes.PBCube build() {
+        com.booleworks.logicng.serialization.solvers.ProtoBufCubes.PBCube result = buildPartial();
+        if (!result.isInitialized()) {
+          throw newUninitializedMessageException(result);
+        }
+        return result;
+      }
+
+      @java.lang.Override
+      public com.booleworks.logicng.serialization.solvers.ProtoBufCubes.PBCube buildPartial() {
+        com.booleworks.logicng.serialization.solvers.ProtoBufCubes.PBCube result = new com.booleworks.logicng.serialization.solvers.ProtoBufCubes.PBCube(this);
+        if (bitField0_ != 0) { buildPartial0(result); }
+        onBuilt();
+        return result;
+      }
+
+      private void buildPartial0(com.booleworks.logicng.serialization.solvers.ProtoBufCubes.PBCube result) {
+        int from_bitField0_ = bitField0_;
+        if (((from_bitField0_ & 0x00000001) != 0)) {
+          result.id_ = id_;
+        }
+        if (((from_bitField0_ & 0x00000002) != 0)) {
+          variable_.makeImmutable();
+          result.variable_ = variable_;
+        }
+        if (((from_bitField0_ & 0x00000004) != 0)) {
+          phase_.makeImmutable();
+          result.phase_ = phase_;
+        }
+      }
+
+      @java.lang.Override
+      public Builder mergeFrom(com.google.protobuf.Message other) {
+        if (other instanceof com.booleworks.logicng.serialization.solvers.ProtoBufCubes.PBCube) {
+          return mergeFrom((com.booleworks.logicng.serialization.solvers.ProtoBufCubes.PBCube)other);
+        } else {
+          super.mergeFrom(other);
+          return this;
+        }
+      }
+
+      public Builder mergeFrom(com.booleworks.logicng.serialization.solvers.ProtoBufCubes.PBCube other) {
+        if (other == com.booleworks.logicng.serialization.solvers.ProtoBufCubes.PBCube.getDefaultInstance()) return this;
+        if (other.getId() != 0) {
+          setId(other.getId());
+        }
+        if (!other.variable_.isEmpty()) {
+          if (variable_.isEmpty()) {
+            variable_ = other.variable_;
+            bitField0_ |= 0x00000002;
+          } else {
+            ensureVariableIsMutable();
+            variable_.addAll(other.variable_);
+          }
+          onChanged();
+        }
+        if (!other.phase_.isEmpty()) {
+          if (phase_.isEmpty()) {
+            phase_ = other.phase_;
+            phase_.makeImmutable();
+            bitField0_ |= 0x00000004;
+          } else {
+            ensurePhaseIsMutable();
+            phase_.addAll(other.phase_);
+          }
+          onChanged();
+        }
+        this.mergeUnknownFields(other.getUnknownFields());
+        onChanged();
+        return this;
+      }
+
+      @java.lang.Override
+      public final boolean isInitialized() {
+        return true;
+      }
+
+      @java.lang.Override
+      public Builder mergeFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws java.io.IOException {
+        if (extensionRegistry == null) {
+          throw new java.lang.NullPointerException();
+        }
+        try {
+          boolean done = false;
+          while (!done) {
+            int tag = input.readTag();
+            switch (tag) {
+              case 0:
+                done = true;
+                break;
+              case 8: {
+                id_ = input.readInt32();
+                bitField0_ |= 0x00000001;
+                break;
+              } // case 8
+              case 18: {
+                java.lang.String s = input.readStringRequireUtf8();
+                ensureVariableIsMutable();
+                variable_.add(s);
+                break;
+              } // case 18
+              case 24: {
+                boolean v = input.readBool();
+                ensurePhaseIsMutable();
+                phase_.addBoolean(v);
+                break;
+              } // case 24
+              case 26: {
+                int length = input.readRawVarint32();
+                int limit = input.pushLimit(length);
+                int alloc = length > 4096 ? 4096 : length;
+                ensurePhaseIsMutable(alloc / 1);
+                while (input.getBytesUntilLimit() > 0) {
+                  phase_.addBoolean(input.readBool());
+                }
+                input.popLimit(limit);
+                break;
+              } // case 26
+              default: {
+                if (!super.parseUnknownField(input, extensionRegistry, tag)) {
+                  done = true; // was an endgroup tag
+                }
+                break;
+              } // default:
+            } // switch (tag)
+          } // while (!done)
+        } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+          throw e.unwrapIOException();
+        } finally {
+          onChanged();
+        } // finally
+        return this;
+      }
+      private int bitField0_;
+
+      private int id_ ;
+      /**
+       * <code>int32 id = 1;</code>
+       * @return The id.
+       */
+      @java.lang.Override
+      public int getId() {
+        return id_;
+      }
+      /**
+       * <code>int32 id = 1;</code>
+       * @param value The id to set.
+       * @return This builder for chaining.
+       */
+      public Builder setId(int value) {
+
+        id_ = value;
+        bitField0_ |= 0x00000001;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>int32 id = 1;</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearId() {
+        bitField0_ = (bitField0_ & ~0x00000001);
+        id_ = 0;
+        onChanged();
+        return this;
+      }
+
+      private com.google.protobuf.LazyStringArrayList variable_ =
+          com.google.protobuf.LazyStringArrayList.emptyList();
+      private void ensureVariableIsMutable() {
+        if (!variable_.isModifiable()) {
+          variable_ = new com.google.protobuf.LazyStringArrayList(variable_);
+        }
+        bitField0_ |= 0x00000002;
+      }
+      /**
+       * <code>repeated string variable = 2;</code>
+       * @return A list containing the variable.
+       */
+      public com.google.protobuf.ProtocolStringList
+          getVariableList() {
+        variable_.makeImmutable();
+        return variable_;
+      }
+      /**
+       * <code>repeated string variable = 2;</code>
+       * @return The count of variable.
+       */
+      public int getVariableCount() {
+        return variable_.size();
+      }
+      /**
+       * <code>repeated string variable = 2;</code>
+       * @param index The index of the element to return.
+       * @return The variable at the given index.
+       */
+      public java.lang.String getVariable(int index) {
+        return variable_.get(index);
+      }
+      /**
+       * <code>repeated string variable = 2;</code>
+       * @param index The index of the value to return.
+       * @return The bytes of the variable at the given index.
+       */
+      public com.google.protobuf.ByteString
+          getVariableBytes(int index) {
+        return variable_.getByteString(index);
+      }
+      /**
+       * <code>repeated string variable = 2;</code>
+       * @param index The index to set the value at.
+       * @param value The variable to set.
+       * @return This builder for chaining.
+       */
+      public Builder setVariable(
+          int index, java.lang.String value) {
+        if (value == null) { throw new NullPointerException(); }
+        ensureVariableIsMutable();
+        variable_.set(index, value);
+        bitField0_ |= 0x00000002;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>repeated string variable = 2;</code>
+       * @param value The variable to add.
+       * @return This builder for chaining.
+       */
+      public Builder addVariable(
+          java.lang.String value) {
+        if (value == null) { throw new NullPointerException(); }
+        ensureVariableIsMutable();
+        variable_.add(value);
+        bitField0_ |= 0x00000002;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>repeated string variable = 2;</code>
+       * @param values The variable to add.
+       * @return This builder for chaining.
+       */
+      public Builder addAllVariable(
+          java.lang.Iterable<java.lang.String> values) {
+        ensureVariableIsMutable();
+        com.google.protobuf.AbstractMessageLite.Builder.addAll(
+            values, variable_);
+        bitField0_ |= 0x00000002;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>repeated string variable = 2;</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearVariable() {
+        variable_ =
+          com.google.protobuf.LazyStringArrayList.emptyList();
+        bitField0_ = (bitField0_ & ~0x00000002);;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>repeated string variable = 2;</code>
+       * @param value The bytes of the variable to add.
+       * @return This builder for chaining.
+       */
+      public Builder addVariableBytes(
+          com.google.protobuf.ByteString value) {
+        if (value == null) { throw new NullPointerException(); }
+        checkByteStringIsUtf8(value);
+        ensureVariableIsMutable();
+        variable_.add(value);
+        bitField0_ |= 0x00000002;
+        onChanged();
+        return this;
+      }
+
+      private com.google.protobuf.Internal.BooleanList phase_ = emptyBooleanList();
+      private void ensurePhaseIsMutable() {
+        if (!phase_.isModifiable()) {
+          phase_ = makeMutableCopy(phase_);
+        }
+        bitField0_ |= 0x00000004;
+      }
+      private void ensurePhaseIsMutable(int capacity) {
+        if (!phase_.isModifiable()) {
+          phase_ = makeMutableCopy(phase_, capacity);
+        }
+        bitField0_ |= 0x00000004;
+      }
+      /**
+       * <code>repeated bool phase = 3;</code>
+       * @return A list containing the phase.
+       */
+      public java.util.List<java.lang.Boolean>
+          getPhaseList() {
+        phase_.makeImmutable();
+        return phase_;
+      }
+      /**
+       * <code>repeated bool phase = 3;</code>
+       * @return The count of phase.
+       */
+      public int getPhaseCount() {
+        return phase_.size();
+      }
+      /**
+       * <code>repeated bool phase = 3;</code>
+       * @param index The index of the element to return.
+       * @return The phase at the given index.
+       */
+      public boolean getPhase(int index) {
+        return phase_.getBoolean(index);
+      }
+      /**
+       * <code>repeated bool phase = 3;</code>
+       * @param index The index to set the value at.
+       * @param value The phase to set.
+       * @return This builder for chaining.
+       */
+      public Builder setPhase(
+          int index, boolean value) {
+
+        ensurePhaseIsMutable();
+        phase_.setBoolean(index, value);
+        bitField0_ |= 0x00000004;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>repeated bool phase = 3;</code>
+       * @param value The phase to add.
+       * @return This builder for chaining.
+       */
+      public Builder addPhase(boolean value) {
+
+        ensurePhaseIsMutable();
+        phase_.addBoolean(value);
+        bitField0_ |= 0x00000004;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>repeated bool phase = 3;</code>
+       * @param values The phase to add.
+       * @return This builder for chaining.
+       */
+      public Builder addAllPhase(
+          java.lang.Iterable<? extends java.lang.Boolean> values) {
+        ensurePhaseIsMutable();
+        com.google.protobuf.AbstractMessageLite.Builder.addAll(
+            values, phase_);
+        bitField0_ |= 0x00000004;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>repeated bool phase = 3;</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearPhase() {
+        phase_ = emptyBooleanList();
+        bitField0_ = (bitField0_ & ~0x00000004);
+        onChanged();
+        return this;
+      }
+
+      // @@protoc_insertion_point(builder_scope:solver.PBCube)
+    }
+
+    // @@protoc_insertion_point(class_scope:solver.PBCube)
+    private static final com.booleworks.logicng.serialization.solvers.ProtoBufCubes.PBCube DEFAULT_INSTANCE;
+    static {
+      DEFAULT_INSTANCE = new com.booleworks.logicng.serialization.solvers.ProtoBufCubes.PBCube();
+    }
+
+    public static com.booleworks.logicng.serialization.solvers.ProtoBufCubes.PBCube getDefaultInstance() {
+      return DEFAULT_INSTANCE;
+    }
+
+    private static final com.google.protobuf.Parser<PBCube>
+        PARSER = new com.google.protobuf.AbstractParser<PBCube>() {
+      @java.lang.Override
+      public PBCube parsePartialFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws com.google.protobuf.InvalidProtocolBufferException {
+        Builder builder = newBuilder();
+        try {
+          builder.mergeFrom(input, extensionRegistry);
+        } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+          throw e.setUnfinishedMessage(builder.buildPartial());
+        } catch (com.google.protobuf.UninitializedMessageException e) {
+          throw e.asInvalidProtocolBufferException().setUnfinishedMessage(builder.buildPartial());
+        } catch (java.io.IOException e) {
+          throw new com.google.protobuf.InvalidProtocolBufferException(e)
+              .setUnfinishedMessage(builder.buildPartial());
+        }
+        return builder.buildPartial();
+      }
+    };
+
+    public static com.google.protobuf.Parser<PBCube> parser() {
+      return PARSER;
+    }
+
+    @java.lang.Override
+    public com.google.protobuf.Parser<PBCube> getParserForType() {
+      return PARSER;
+    }
+
+    @java.lang.Override
+    public com.booleworks.logicng.serialization.solvers.ProtoBufCubes.PBCube getDefaultInstanceForType() {
+      return DEFAULT_INSTANCE;
+    }
+
+  }
+
+  public interface PBCubeResultOrBuilder extends
+      // @@protoc_insertion_point(interface_extends:solver.PBCubeResult)
+      com.google.protobuf.MessageOrBuilder {
+
+    /**
+     * <code>int32 id = 1;</code>
+     * @return The id.
+     */
+    int getId();
+
+    /**
+     * <code>bool sat = 2;</code>
+     * @return The sat.
+     */
+    boolean getSat();
+  }
+  /**
+   * Protobuf type {@code solver.PBCubeResult}
+   */
+  public static final class PBCubeResult extends
+      com.google.protobuf.GeneratedMessage implements
+      // @@protoc_insertion_point(message_implements:solver.PBCubeResult)
+      PBCubeResultOrBuilder {
+  private static final long serialVersionUID = 0L;
+    static {
+      com.google.protobuf.RuntimeVersion.validateProtobufGencodeVersion(
+        com.google.protobuf.RuntimeVersion.RuntimeDomain.PUBLIC,
+        /* major= */ 4,
+        /* minor= */ 26,
+        /* patch= */ 1,
+        /* suffix= */ "",
+        PBCubeResult.class.getName());
+    }
+    // Use PBCubeResult.newBuilder() to construct.
+    private PBCubeResult(com.google.protobuf.GeneratedMessage.Builder<?> builder) {
+      super(builder);
+    }
+    private PBCubeResult() {
+    }
+
+    public static final com.google.protobuf.Descriptors.Descriptor
+        getDescriptor() {
+      return com.booleworks.logicng.serialization.solvers.ProtoBufCubes.internal_static_solver_PBCubeResult_descriptor;
+    }
+
+    @java.lang.Override
+    protected com.google.protobuf.GeneratedMessage.FieldAccessorTable
+        internalGetFieldAccessorTable() {
+      return com.booleworks.logicng.serialization.solvers.ProtoBufCubes.internal_static_solver_PBCubeResult_fieldAccessorTable
+          .ensureFieldAccessorsInitialized(
+              com.booleworks.logicng.serialization.solvers.ProtoBufCubes.PBCubeResult.class, com.booleworks.logicng.serialization.solvers.ProtoBufCubes.PBCubeResult.Builder.class);
+    }
+
+    public static final int ID_FIELD_NUMBER = 1;
+    private int id_ = 0;
+    /**
+     * <code>int32 id = 1;</code>
+     * @return The id.
+     */
+    @java.lang.Override
+    public int getId() {
+      return id_;
+    }
+
+    public static final int SAT_FIELD_NUMBER = 2;
+    private boolean sat_ = false;
+    /**
+     * <code>bool sat = 2;</code>
+     * @return The sat.
+     */
+    @java.lang.Override
+    public boolean getSat() {
+      return sat_;
+    }
+
+    private byte memoizedIsInitialized = -1;
+    @java.lang.Override
+    public final boolean isInitialized() {
+      byte isInitialized = memoizedIsInitialized;
+      if (isInitialized == 1) return true;
+      if (isInitialized == 0) return false;
+
+      memoizedIsInitialized = 1;
+      return true;
+    }
+
+    @java.lang.Override
+    public void writeTo(com.google.protobuf.CodedOutputStream output)
+                        throws java.io.IOException {
+      if (id_ != 0) {
+        output.writeInt32(1, id_);
+      }
+      if (sat_ != false) {
+        output.writeBool(2, sat_);
+      }
+      getUnknownFields().writeTo(output);
+    }
+
+    @java.lang.Override
+    public int getSerializedSize() {
+      int size = memoizedSize;
+      if (size != -1) return size;
+
+      size = 0;
+      if (id_ != 0) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeInt32Size(1, id_);
+      }
+      if (sat_ != false) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeBoolSize(2, sat_);
+      }
+      size += getUnknownFields().getSerializedSize();
+      memoizedSize = size;
+      return size;
+    }
+
+    @java.lang.Override
+    public boolean equals(final java.lang.Object obj) {
+      if (obj == this) {
+       return true;
+      }
+      if (!(obj instanceof com.booleworks.logicng.serialization.solvers.ProtoBufCubes.PBCubeResult)) {
+        return super.equals(obj);
+      }
+      com.booleworks.logicng.serialization.solvers.ProtoBufCubes.PBCubeResult other = (com.booleworks.logicng.serialization.solvers.ProtoBufCubes.PBCubeResult) obj;
+
+      if (getId()
+          != other.getId()) return false;
+      if (getSat()
+          != other.getSat()) return false;
+      if (!getUnknownFields().equals(other.getUnknownFields())) return false;
+      return true;
+    }
+
+    @java.lang.Override
+    public int hashCode() {
+      if (memoizedHashCode != 0) {
+        return memoizedHashCode;
+      }
+      int hash = 41;
+      hash = (19 * hash) + getDescriptor().hashCode();
+      hash = (37 * hash) + ID_FIELD_NUMBER;
+      hash = (53 * hash) + getId();
+      hash = (37 * hash) + SAT_FIELD_NUMBER;
+      hash = (53 * hash) + com.google.protobuf.Internal.hashBoolean(
+          getSat());
+      hash = (29 * hash) + getUnknownFields().hashCode();
+      memoizedHashCode = hash;
+      return hash;
+    }
+
+    public static com.booleworks.logicng.serialization.solvers.ProtoBufCubes.PBCubeResult parseFrom(
+        java.nio.ByteBuffer data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static com.booleworks.logicng.serialization.solvers.ProtoBufCubes.PBCubeResult parseFrom(
+        java.nio.ByteBuffer data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static com.booleworks.logicng.serialization.solvers.ProtoBufCubes.PBCubeResult parseFrom(
+        com.google.protobuf.ByteString data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static com.booleworks.logicng.serialization.solvers.ProtoBufCubes.PBCubeResult parseFrom(
+        com.google.protobuf.ByteString data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static com.booleworks.logicng.serialization.solvers.ProtoBufCubes.PBCubeResult parseFrom(byte[] data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static com.booleworks.logicng.serialization.solvers.ProtoBufCubes.PBCubeResult parseFrom(
+        byte[] data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static com.booleworks.logicng.serialization.solvers.ProtoBufCubes.PBCubeResult parseFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessage
+          .parseWithIOException(PARSER, input);
+    }
+    public static com.booleworks.logicng.serialization.solvers.ProtoBufCubes.PBCubeResult parseFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessage
+          .parseWithIOException(PARSER, input, extensionRegistry);
+    }
+
+    public static com.booleworks.logicng.serialization.solvers.ProtoBufCubes.PBCubeResult parseDelimitedFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessage
+          .parseDelimitedWithIOException(PARSER, input);
+    }
+
+    public static com.booleworks.logicng.serialization.solvers.ProtoBufCubes.PBCubeResult parseDelimitedFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessage
+          .parseDelimitedWithIOException(PARSER, input, extensionRegistry);
+    }
+    public static com.booleworks.logicng.serialization.solvers.ProtoBufCubes.PBCubeResult parseFrom(
+        com.google.protobuf.CodedInputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessage
+          .parseWithIOException(PARSER, input);
+    }
+    public static com.booleworks.logicng.serialization.solvers.ProtoBufCubes.PBCubeResult parseFrom(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessage
+          .parseWithIOException(PARSER, input, extensionRegistry);
+    }
+
+    @java.lang.Override
+    public Builder newBuilderForType() { return newBuilder(); }
+    public static Builder newBuilder() {
+      return DEFAULT_INSTANCE.toBuilder();
+    }
+    public static Builder newBuilder(com.booleworks.logicng.serialization.solvers.ProtoBufCubes.PBCubeResult prototype) {
+      return DEFAULT_INSTANCE.toBuilder().mergeFrom(prototype);
+    }
+    @java.lang.Override
+    public Builder toBuilder() {
+      return this == DEFAULT_INSTANCE
+          ? new Builder() : new Builder().mergeFrom(this);
+    }
+
+    @java.lang.Override
+    protected Builder newBuilderForType(
+        com.google.protobuf.GeneratedMessage.BuilderParent parent) {
+      Builder builder = new Builder(parent);
+      return builder;
+    }
+    /**
+     * Protobuf type {@code solver.PBCubeResult}
+     */
+    public static final class Builder extends
+        com.google.protobuf.GeneratedMessage.Builder<Builder> implements
+        // @@protoc_insertion_point(builder_implements:solver.PBCubeResult)
+        com.booleworks.logicng.serialization.solvers.ProtoBufCubes.PBCubeResultOrBuilder {
+      public static final com.google.protobuf.Descriptors.Descriptor
+          getDescriptor() {
+        return com.booleworks.logicng.serialization.solvers.ProtoBufCubes.internal_static_solver_PBCubeResult_descriptor;
+      }
+
+      @java.lang.Override
+      protected com.google.protobuf.GeneratedMessage.FieldAccessorTable
+          internalGetFieldAccessorTable() {
+        return com.booleworks.logicng.serialization.solvers.ProtoBufCubes.internal_static_solver_PBCubeResult_fieldAccessorTable
+            .ensureFieldAccessorsInitialized(
+                com.booleworks.logicng.serialization.solvers.ProtoBufCubes.PBCubeResult.class, com.booleworks.logicng.serialization.solvers.ProtoBufCubes.PBCubeResult.Builder.class);
+      }
+
+      // Construct using com.booleworks.logicng.serialization.solvers.ProtoBufCubes.PBCubeResult.newBuilder()
+      private Builder() {
+
+      }
+
+      private Builder(
+          com.google.protobuf.GeneratedMessage.BuilderParent parent) {
+        super(parent);
+
+      }
+      @java.lang.Override
+      public Builder clear() {
+        super.clear();
+        bitField0_ = 0;
+        id_ = 0;
+        sat_ = false;
+        return this;
+      }
+
+      @java.lang.Override
+      public com.google.protobuf.Descriptors.Descriptor
+          getDescriptorForType() {
+        return com.booleworks.logicng.serialization.solvers.ProtoBufCubes.internal_static_solver_PBCubeResult_descriptor;
+      }
+
+      @java.lang.Override
+      public com.booleworks.logicng.serialization.solvers.ProtoBufCubes.PBCubeResult getDefaultInstanceForType() {
+        return com.booleworks.logicng.serialization.solvers.ProtoBufCubes.PBCubeResult.getDefaultInstance();
+      }
+
+      @java.lang.Override
+      public com.booleworks.logicng.serialization.solvers.ProtoBufCubes.PBCubeResult build() {
+        com.booleworks.logicng.serialization.solvers.ProtoBufCubes.PBCubeResult result = buildPartial();
+        if (!result.isInitialized()) {
+          throw newUninitializedMessageException(result);
+        }
+        return result;
+      }
+
+      @java.lang.Override
+      public com.booleworks.logicng.serialization.solvers.ProtoBufCubes.PBCubeResult buildPartial() {
+        com.booleworks.logicng.serialization.solvers.ProtoBufCubes.PBCubeResult result = new com.booleworks.logicng.serialization.solvers.ProtoBufCubes.PBCubeResult(this);
+        if (bitField0_ != 0) { buildPartial0(result); }
+        onBuilt();
+        return result;
+      }
+
+      private void buildPartial0(com.booleworks.logicng.serialization.solvers.ProtoBufCubes.PBCubeResult result) {
+        int from_bitField0_ = bitField0_;
+        if (((from_bitField0_ & 0x00000001) != 0)) {
+          result.id_ = id_;
+        }
+        if (((from_bitField0_ & 0x00000002) != 0)) {
+          result.sat_ = sat_;
+        }
+      }
+
+      @java.lang.Override
+      public Builder mergeFrom(com.google.protobuf.Message other) {
+        if (other instanceof com.booleworks.logicng.serialization.solvers.ProtoBufCubes.PBCubeResult) {
+          return mergeFrom((com.booleworks.logicng.serialization.solvers.ProtoBufCubes.PBCubeResult)other);
+        } else {
+          super.mergeFrom(other);
+          return this;
+        }
+      }
+
+      public Builder mergeFrom(com.booleworks.logicng.serialization.solvers.ProtoBufCubes.PBCubeResult other) {
+        if (other == com.booleworks.logicng.serialization.solvers.ProtoBufCubes.PBCubeResult.getDefaultInstance()) return this;
+        if (other.getId() != 0) {
+          setId(other.getId());
+        }
+        if (other.getSat() != false) {
+          setSat(other.getSat());
+        }
+        this.mergeUnknownFields(other.getUnknownFields());
+        onChanged();
+        return this;
+      }
+
+      @java.lang.Override
+      public final boolean isInitialized() {
+        return true;
+      }
+
+      @java.lang.Override
+      public Builder mergeFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws java.io.IOException {
+        if (extensionRegistry == null) {
+          throw new java.lang.NullPointerException();
+        }
+        try {
+          boolean done = false;
+          while (!done) {
+            int tag = input.readTag();
+            switch (tag) {
+              case 0:
+                done = true;
+                break;
+              case 8: {
+                id_ = input.readInt32();
+                bitField0_ |= 0x00000001;
+                break;
+              } // case 8
+              case 16: {
+                sat_ = input.readBool();
+                bitField0_ |= 0x00000002;
+                break;
+              } // case 16
+              default: {
+                if (!super.parseUnknownField(input, extensionRegistry, tag)) {
+                  done = true; // was an endgroup tag
+                }
+                break;
+              } // default:
+            } // switch (tag)
+          } // while (!done)
+        } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+          throw e.unwrapIOException();
+        } finally {
+          onChanged();
+        } // finally
+        return this;
+      }
+      private int bitField0_;
+
+      private int id_ ;
+      /**
+       * <code>int32 id = 1;</code>
+       * @return The id.
+       */
+      @java.lang.Override
+      public int getId() {
+        return id_;
+      }
+      /**
+       * <code>int32 id = 1;</code>
+       * @param value The id to set.
+       * @return This builder for chaining.
+       */
+      public Builder setId(int value) {
+
+        id_ = value;
+        bitField0_ |= 0x00000001;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>int32 id = 1;</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearId() {
+        bitField0_ = (bitField0_ & ~0x00000001);
+        id_ = 0;
+        onChanged();
+        return this;
+      }
+
+      private boolean sat_ ;
+      /**
+       * <code>bool sat = 2;</code>
+       * @return The sat.
+       */
+      @java.lang.Override
+      public boolean getSat() {
+        return sat_;
+      }
+      /**
+       * <code>bool sat = 2;</code>
+       * @param value The sat to set.
+       * @return This builder for chaining.
+       */
+      public Builder setSat(boolean value) {
+
+        sat_ = value;
+        bitField0_ |= 0x00000002;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>bool sat = 2;</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearSat() {
+        bitField0_ = (bitField0_ & ~0x00000002);
+        sat_ = false;
+        onChanged();
+        return this;
+      }
+
+      // @@protoc_insertion_point(builder_scope:solver.PBCubeResult)
+    }
+
+    // @@protoc_insertion_point(class_scope:solver.PBCubeResult)
+    private static final com.booleworks.logicng.serialization.solvers.ProtoBufCubes.PBCubeResult DEFAULT_INSTANCE;
+    static {
+      DEFAULT_INSTANCE = new com.booleworks.logicng.serialization.solvers.ProtoBufCubes.PBCubeResult();
+    }
+
+    public static com.booleworks.logicng.serialization.solvers.ProtoBufCubes.PBCubeResult getDefaultInstance() {
+      return DEFAULT_INSTANCE;
+    }
+
+    private static final com.google.protobuf.Parser<PBCubeResult>
+        PARSER = new com.google.protobuf.AbstractParser<PBCubeResult>() {
+      @java.lang.Override
+      public PBCubeResult parsePartialFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws com.google.protobuf.InvalidProtocolBufferException {
+        Builder builder = newBuilder();
+        try {
+          builder.mergeFrom(input, extensionRegistry);
+        } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+          throw e.setUnfinishedMessage(builder.buildPartial());
+        } catch (com.google.protobuf.UninitializedMessageException e) {
+          throw e.asInvalidProtocolBufferException().setUnfinishedMessage(builder.buildPartial());
+        } catch (java.io.IOException e) {
+          throw new com.google.protobuf.InvalidProtocolBufferException(e)
+              .setUnfinishedMessage(builder.buildPartial());
+        }
+        return builder.buildPartial();
+      }
+    };
+
+    public static com.google.protobuf.Parser<PBCubeResult> parser() {
+      return PARSER;
+    }
+
+    @java.lang.Override
+    public com.google.protobuf.Parser<PBCubeResult> getParserForType() {
+      return PARSER;
+    }
+
+    @java.lang.Override
+    public com.booleworks.logicng.serialization.solvers.ProtoBufCubes.PBCubeResult getDefaultInstanceForType() {
+      return DEFAULT_INSTANCE;
+    }
+
+  }
+
+  private static final com.google.protobuf.Descriptors.Descriptor
+    internal_static_solver_PBCube_descriptor;
+  private static final 
+    com.google.protobuf.GeneratedMessage.FieldAccessorTable
+      internal_static_solver_PBCube_fieldAccessorTable;
+  private static final com.google.protobuf.Descriptors.Descriptor
+    internal_static_solver_PBCubeResult_descriptor;
+  private static final 
+    com.google.protobuf.GeneratedMessage.FieldAccessorTable
+      internal_static_solver_PBCubeResult_fieldAccessorTable;
+
+  public static com.google.protobuf.Descriptors.FileDescriptor
+      getDescriptor() {
+    return descriptor;
+  }
+  private static  com.google.protobuf.Descriptors.FileDescriptor
+      descriptor;
+  static {
+    java.lang.String[] descriptorData = {
+      "\n\013cubes.proto\022\006solver\"5\n\006PBCube\022\n\n\002id\030\001 " +
+      "\001(\005\022\020\n\010variable\030\002 \003(\t\022\r\n\005phase\030\003 \003(\010\"\'\n\014" +
+      "PBCubeResult\022\n\n\002id\030\001 \001(\005\022\013\n\003sat\030\002 \001(\010B=\n" +
+      ",com.booleworks.logicng.serialization.so" +
+      "lversB\rProtoBufCubesb\006proto3"
+    };
+    descriptor = com.google.protobuf.Descriptors.FileDescriptor
+      .internalBuildGeneratedFileFrom(descriptorData,
+        new com.google.protobuf.Descriptors.FileDescriptor[] {
+        });
+    internal_static_solver_PBCube_descriptor =
+      getDescriptor().getMessageTypes().get(0);
+    internal_static_solver_PBCube_fieldAccessorTable = new
+      com.google.protobuf.GeneratedMessage.FieldAccessorTable(
+        internal_static_solver_PBCube_descriptor,
+        new java.lang.String[] { "Id", "Variable", "Phase", });
+    internal_static_solver_PBCubeResult_descriptor =
+      getDescriptor().getMessageTypes().get(1);
+    internal_static_solver_PBCubeResult_fieldAccessorTable = new
+      com.google.protobuf.GeneratedMessage.FieldAccessorTable(
+        internal_static_solver_PBCubeResult_descriptor,
+        new java.lang.String[] { "Id", "Sat", });
+    descriptor.resolveAllFeaturesImmutable();
+  }
+
+  // @@protoc_insertion_point(outer_class_scope)
+}
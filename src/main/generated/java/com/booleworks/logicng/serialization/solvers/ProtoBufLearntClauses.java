@@ -0,0 +1,1020 @@
+// Generated by the protocol buffer compiler.  DO NOT EDIT!
+// source: learnt_clauses.proto
+// Protobuf Java Version: 4.26.1
+
+package com.booleworks.logicng.serialization.solvers;
+
+public final class ProtoBufLearntClauses {
+  private ProtoBufLearntClauses() {}
+  static {
+    com.google.protobuf.RuntimeVersion.validateProtobufGencodeVersion(
+      com.google.protobuf.RuntimeVersion.RuntimeDomain.PUBLIC,
+      /* major= */ 4,
+      /* minor= */ 26,
+      /* patch= */ 1,
+      /* suffix= */ "",
+      ProtoBufLearntClauses.class.getName());
+  }
+  public static void registerAllExtensions(
+      com.google.protobuf.ExtensionRegistryLite registry) {
+  }
+
+  public static void registerAllExtensions(
+      com.google.protobuf.ExtensionRegistry registry) {
+    registerAllExtensions(
+        (com.google.protobuf.ExtensionRegistryLite) registry);
+  }
+  public interface PBLearntClausesOrBuilder extends
+      // @@protoc_insertion_point(interface_extends:solver.PBLearntClauses)
+      com.google.protobuf.MessageOrBuilder {
+
+    /**
+     * <code>repeated string variable = 1;</code>
+     * @return A list containing the variable.
+     */
+    java.util.List<java.lang.String>
+        getVariableList();
+    /**
+     * <code>repeated string variable = 1;</code>
+     * @return The count of variable.
+     */
+    int getVariableCount();
+    /**
+     * <code>repeated string variable = 1;</code>
+     * @param index The index of the element to return.
+     * @return The variable at the given index.
+     */
+    java.lang.String getVariable(int index);
+    /**
+     * <code>repeated string variable = 1;</code>
+     * @param index The index of the value to return.
+     * @return The bytes of the variable at the given index.
+     */
+    com.google.protobuf.ByteString
+        getVariableBytes(int index);
+
+    /**
+     * <code>repeated sint32 literals = 2;</code>
+     * @return A list containing the literals.
+     */
+    java.util.List<java.lang.Integer> getLiteralsList();
+    /**
+     * <code>repeated sint32 literals = 2;</code>
+     * @return The count of literals.
+     */
+    int getLiteralsCount();
+    /**
+     * <code>repeated sint32 literals = 2;</code>
+     * @param index The index of the element to return.
+     * @return The literals at the given index.
+     */
+    int getLiterals(int index);
+
+    /**
+     * <code>repeated int64 lbd = 3;</code>
+     * @return A list containing the lbd.
+     */
+    java.util.List<java.lang.Long> getLbdList();
+    /**
+     * <code>repeated int64 lbd = 3;</code>
+     * @return The count of lbd.
+     */
+    int getLbdCount();
+    /**
+     * <code>repeated int64 lbd = 3;</code>
+     * @param index The index of the element to return.
+     * @return The lbd at the given index.
+     */
+    long getLbd(int index);
+  }
+  /**
+   * Protobuf type {@code solver.PBLearntClauses}
+   */
+  public static final class PBLearntClauses extends
+      com.google.protobuf.GeneratedMessage implements
+      // @@protoc_insertion_point(message_implements:solver.PBLearntClauses)
+      PBLearntClausesOrBuilder {
+  private static final long serialVersionUID = 0L;
+    static {
+      com.google.protobuf.RuntimeVersion.validateProtobufGencodeVersion(
+        com.google.protobuf.RuntimeVersion.RuntimeDomain.PUBLIC,
+        /* major= */ 4,
+        /* minor= */ 26,
+        /* patch= */ 1,
+        /* suffix= */ "",
+        PBLearntClauses.class.getName());
+    }
+    // Use PBLearntClauses.newBuilder() to construct.
+    private PBLearntClauses(com.google.protobuf.GeneratedMessage.Builder<?> builder) {
+      super(builder);
+    }
+    private PBLearntClauses() {
+      variable_ =
+          com.google.protobuf.LazyStringArrayList.emptyList();
+      literals_ = emptyIntList();
+      lbd_ = emptyLongList();
+    }
+
+    public static final com.google.protobuf.Descriptors.Descriptor
+        getDescriptor() {
+      return com.booleworks.logicng.serialization.solvers.ProtoBufLearntClauses.internal_static_solver_PBLearntClauses_descriptor;
+    }
+
+    @java.lang.Override
+    protected com.google.protobuf.GeneratedMessage.FieldAccessorTable
+        internalGetFieldAccessorTable() {
+      return com.booleworks.logicng.serialization.solvers.ProtoBufLearntClauses.internal_static_solver_PBLearntClauses_fieldAccessorTable
+          .ensureFieldAccessorsInitialized(
+              com.booleworks.logicng.serialization.solvers.ProtoBufLearntClauses.PBLearntClauses.class, com.booleworks.logicng.serialization.solvers.ProtoBufLearntClauses.PBLearntClauses.Builder.class);
+    }
+
+    public static final int VARIABLE_FIELD_NUMBER = 1;
+    @SuppressWarnings("serial")
+    private com.google.protobuf.LazyStringArrayList variable_ =
+        com.google.protobuf.LazyStringArrayList.emptyList();
+    /**
+     * <code>repeated string variable = 1;</code>
+     * @return A list containing the variable.
+     */
+    public com.google.protobuf.ProtocolStringList
+        getVariableList() {
+      return variable_;
+    }
+    /**
+     * <code>repeated string variable = 1;</code>
+     * @return The count of variable.
+     */
+    public int getVariableCount() {
+      return variable_.size();
+    }
+    /**
+     * <code>repeated string variable = 1;</code>
+     * @param index The index of the element to return.
+     * @return The variable at the given index.
+     */
+    public java.lang.String getVariable(int index) {
+      return variable_.get(index);
+    }
+    /**
+     * <code>repeated string variable = 1;</code>
+     * @param index The index of the value to return.
+     * @return The bytes of the variable at the given index.
+     */
+    public com.google.protobuf.ByteString
+        getVariableBytes(int index) {
+      return variable_.getByteString(index);
+    }
+
+    public static final int LITERALS_FIELD_NUMBER = 2;
+    @SuppressWarnings("serial")
+    private com.google.protobuf.Internal.IntList literals_ =
+        emptyIntList();
+    /**
+     * <code>repeated sint32 literals = 2;</code>
+     * @return A list containing the literals.
+     */
+    @java.lang.Override
+    public java.util.List<java.lang.Integer>
+        getLiteralsList() {
+      return literals_;
+    }
+    /**
+     * <code>repeated sint32 literals = 2;</code>
+     * @return The count of literals.
+     */
+    public int getLiteralsCount() {
+      return literals_.size();
+    }
+    /**
+     * <code>repeated sint32 literals = 2;</code>
+     * @param index The index of the element to return.
+     * @return The literals at the given index.
+     */
+    public int getLiterals(int index) {
+      return literals_.getInt(index);
+    }
+    private int literalsMemoizedSerializedSize = -1;
+
+    public static final int LBD_FIELD_NUMBER = 3;
+    @SuppressWarnings("serial")
+    private com.google.protobuf.Internal.LongList lbd_ =
+        emptyLongList();
+    /**
+     * <code>repeated int64 lbd = 3;</code>
+     * @return A list containing the lbd.
+     */
+    @java.lang.Override
+    public java.util.List<java.lang.Long>
+        getLbdList() {
+      return lbd_;
+    }
+    /**
+     * <code>repeated int64 lbd = 3;</code>
+     * @return The count of lbd.
+     */
+    public int getLbdCount() {
+      return lbd_.size();
+    }
+    /**
+     * <code>repeated int64 lbd = 3;</code>
+     * @param index The index of the element to return.
+     * @return The lbd at the given index.
+     */
+    public long getLbd(int index) {
+      return lbd_.getLong(index);
+    }
+    private int lbdMemoizedSerializedSize = -1;
+
+    private byte memoizedIsInitialized = -1;
+    @java.lang.Override
+    public final boolean isInitialized() {
+      byte isInitialized = memoizedIsInitialized;
+      if (isInitialized == 1) return true;
+      if (isInitialized == 0) return false;
+
+      memoizedIsInitialized = 1;
+      return true;
+    }
+
+    @java.lang.Override
+    public void writeTo(com.google.protobuf.CodedOutputStream output)
+                        throws java.io.IOException {
+      getSerializedSize();
+      for (int i = 0; i < variable_.size(); i++) {
+        com.google.protobuf.GeneratedMessage.writeString(output, 1, variable_.getRaw(i));
+      }
+      if (getLiteralsList().size() > 0) {
+        output.writeUInt32NoTag(18);
+        output.writeUInt32NoTag(literalsMemoizedSerializedSize);
+      }
+      for (int i = 0; i < literals_.size(); i++) {
+        output.writeSInt32NoTag(literals_.getInt(i));
+      }
+      if (getLbdList().size() > 0) {
+        output.writeUInt32NoTag(26);
+        output.writeUInt32NoTag(lbdMemoizedSerializedSize);
+      }
+      for (int i = 0; i < lbd_.size(); i++) {
+        output.writeInt64NoTag(lbd_.getLong(i));
+      }
+      getUnknownFields().writeTo(output);
+    }
+
+    @java.lang.Override
+    public int getSerializedSize() {
+      int size = memoizedSize;
+      if (size != -1) return size;
+
+      size = 0;
+      {
+        int dataSize = 0;
+        for (int i = 0; i < variable_.size(); i++) {
+          dataSize += computeStringSizeNoTag(variable_.getRaw(i));
+        }
+        size += dataSize;
+        size += 1 * getVariableList().size();
+      }
+      {
+        int dataSize = 0;
+        for (int i = 0; i < literals_.size(); i++) {
+          dataSize += com.google.protobuf.CodedOutputStream
+            .computeSInt32SizeNoTag(literals_.getInt(i));
+        }
+        size += dataSize;
+        if (!getLiteralsList().isEmpty()) {
+          size += 1;
+          size += com.google.protobuf.CodedOutputStream
+              .computeInt32SizeNoTag(dataSize);
+        }
+        literalsMemoizedSerializedSize = dataSize;
+      }
+      {
+        int dataSize = 0;
+        for (int i = 0; i < lbd_.size(); i++) {
+          dataSize += com.google.protobuf.CodedOutputStream
+            .computeInt64SizeNoTag(lbd_.getLong(i));
+        }
+        size += dataSize;
+        if (!getLbdList().isEmpty()) {
+          size += 1;
+          size += com.google.protobuf.CodedOutputStream
+              .computeInt32SizeNoTag(dataSize);
+        }
+        lbdMemoizedSerializedSize = dataSize;
+      }
+      size += getUnknownFields().getSerializedSize();
+      memoizedSize = size;
+      return size;
+    }
+
+    @java.lang.Override
+    public boolean equals(final java.lang.Object obj) {
+      if (obj == this) {
+       return true;
+      }
+      if (!(obj instanceof com.booleworks.logicng.serialization.solvers.ProtoBufLearntClauses.PBLearntClauses)) {
+        return super.equals(obj);
+      }
+      com.booleworks.logicng.serialization.solvers.ProtoBufLearntClauses.PBLearntClauses other = (com.booleworks.logicng.serialization.solvers.ProtoBufLearntClauses.PBLearntClauses) obj;
+
+      if (!getVariableList()
+          .equals(other.getVariableList())) return false;
+      if (!getLiteralsList()
+          .equals(other.getLiteralsList())) return false;
+      if (!getLbdList()
+          .equals(other.getLbdList())) return false;
+      if (!getUnknownFields().equals(other.getUnknownFields())) return false;
+      return true;
+    }
+
+    @java.lang.Override
+    public int hashCode() {
+      if (memoizedHashCode != 0) {
+        return memoizedHashCode;
+      }
+      int hash = 41;
+      hash = (19 * hash) + getDescriptor().hashCode();
+      if (getVariableCount() > 0) {
+        hash = (37 * hash) + VARIABLE_FIELD_NUMBER;
+        hash = (53 * hash) + getVariableList().hashCode();
+      }
+      if (getLiteralsCount() > 0) {
+        hash = (37 * hash) + LITERALS_FIELD_NUMBER;
+        hash = (53 * hash) + getLiteralsList().hashCode();
+      }
+      if (getLbdCount() > 0) {
+        hash = (37 * hash) + LBD_FIELD_NUMBER;
+        hash = (53 * hash) + getLbdList().hashCode();
+      }
+      hash = (29 * hash) + getUnknownFields().hashCode();
+      memoizedHashCode = hash;
+      return hash;
+    }
+
+    public static com.booleworks.logicng.serialization.solvers.ProtoBufLearntClauses.PBLearntClauses parseFrom(
+        java.nio.ByteBuffer data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static com.booleworks.logicng.serialization.solvers.ProtoBufLearntClauses.PBLearntClauses parseFrom(
+        java.nio.ByteBuffer data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static com.booleworks.logicng.serialization.solvers.ProtoBufLearntClauses.PBLearntClauses parseFrom(
+        com.google.protobuf.ByteString data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static com.booleworks.logicng.serialization.solvers.ProtoBufLearntClauses.PBLearntClauses parseFrom(
+        com.google.protobuf.ByteString data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static com.booleworks.logicng.serialization.solvers.ProtoBufLearntClauses.PBLearntClauses parseFrom(byte[] data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static com.booleworks.logicng.serialization.solvers.ProtoBufLearntClauses.PBLearntClauses parseFrom(
+        byte[] data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static com.booleworks.logicng.serialization.solvers.ProtoBufLearntClauses.PBLearntClauses parseFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessage
+          .parseWithIOException(PARSER, input);
+    }
+    public static com.booleworks.logicng.serialization.solvers.ProtoBufLearntClauses.PBLearntClauses parseFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessage
+          .parseWithIOException(PARSER, input, extensionRegistry);
+    }
+
+    public static com.booleworks.logicng.serialization.solvers.ProtoBufLearntClauses.PBLearntClauses parseDelimitedFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessage
+          .parseDelimitedWithIOException(PARSER, input);
+    }
+
+    public static com.booleworks.logicng.serialization.solvers.ProtoBufLearntClauses.PBLearntClauses parseDelimitedFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessage
+          .parseDelimitedWithIOException(PARSER, input, extensionRegistry);
+    }
+    public static com.booleworks.logicng.serialization.solvers.ProtoBufLearntClauses.PBLearntClauses parseFrom(
+        com.google.protobuf.CodedInputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessage
+          .parseWithIOException(PARSER, input);
+    }
+    public static com.booleworks.logicng.serialization.solvers.ProtoBufLearntClauses.PBLearntClauses parseFrom(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessage
+          .parseWithIOException(PARSER, input, extensionRegistry);
+    }
+
+    @java.lang.Override
+    public Builder newBuilderForType() { return newBuilder(); }
+    public static Builder newBuilder() {
+      return DEFAULT_INSTANCE.toBuilder();
+    }
+    public static Builder newBuilder(com.booleworks.logicng.serialization.solvers.ProtoBufLearntClauses.PBLearntClauses prototype) {
+      return DEFAULT_INSTANCE.toBuilder().mergeFrom(prototype);
+    }
+    @java.lang.Override
+    public Builder toBuilder() {
+      return this == DEFAULT_INSTANCE
+          ? new Builder() : new Builder().mergeFrom(this);
+    }
+
+    @java.lang.Override
+    protected Builder newBuilderForType(
+        com.google.protobuf.GeneratedMessage.BuilderParent parent) {
+      Builder builder = new Builder(parent);
+      return builder;
+    }
+    /**
+     * Protobuf type {@code solver.PBLearntClauses}
+     */
+    public static final class Builder extends
+        com.google.protobuf.GeneratedMessage.Builder<Builder> implements
+        // @@protoc_insertion_point(builder_implements:solver.PBLearntClauses)
+        com.booleworks.logicng.serialization.solvers.ProtoBufLearntClauses.PBLearntClausesOrBuilder {
+      public static final com.google.protobuf.Descriptors.Descriptor
+          getDescriptor() {
+        return com.booleworks.logicng.serialization.solvers.ProtoBufLearntClauses.internal_static_solver_PBLearntClauses_descriptor;
+      }
+
+      @java.lang.Override
+      protected com.google.protobuf.GeneratedMessage.FieldAccessorTable
+          internalGetFieldAccessorTable() {
+        return com.booleworks.logicng.serialization.solvers.ProtoBufLearntClauses.internal_static_solver_PBLearntClauses_fieldAccessorTable
+            .ensureFieldAccessorsInitialized(
+                com.booleworks.logicng.serialization.solvers.ProtoBufLearntClauses.PBLearntClauses.class, com.booleworks.logicng.serialization.solvers.ProtoBufLearntClauses.PBLearntClauses.Builder.class);
+      }
+
+      // Construct using com.booleworks.logicng.serialization.solvers.ProtoBufLearntClauses.PBLearntClauses.newBuilder()
+      private Builder() {
+
+      }
+
+      private Builder(
+          com.google.protobuf.GeneratedMessage.BuilderParent parent) {
+        super(parent);
+
+      }
+      @java.lang.Override
+      public Builder clear() {
+        super.clear();
+        bitField0_ = 0;
+        variable_ =
+            com.google.protobuf.LazyStringArrayList.emptyList();
+        literals_ = emptyIntList();
+        lbd_ = emptyLongList();
+        return this;
+      }
+
+      @java.lang.Override
+      public com.google.protobuf.Descriptors.Descriptor
+          getDescriptorForType() {
+        return com.booleworks.logicng.serialization.solvers.ProtoBufLearntClauses.internal_static_solver_PBLearntClauses_descriptor;
+      }
+
+      @java.lang.Override
+      public com.booleworks.logicng.serialization.solvers.ProtoBufLearntClauses.PBLearntClauses getDefaultInstanceForType() {
+        return com.booleworks.logicng.serialization.solvers.ProtoBufLearntClauses.PBLearntClauses.getDefaultInstance();
+      }
+
+      @java.lang.Override
+      public com.booleworks.logicng.serialization.solvers.ProtoBufLearntClauses.PBLearntClauses build() {
+        com.booleworks.logicng.serialization.solvers.ProtoBufLearntClauses.PBLearntClauses result = buildPartial();
+        if (!result.isInitialized()) {
+          throw newUninitializedMessageException(result);
+        }
+        return result;
+      }
+
+      @java.lang.Override
+      public com.booleworks.logicng.serialization.solvers.ProtoBufLearntClauses.PBLearntClauses buildPartial() {
+        com.booleworks.logicng.serialization.solvers.ProtoBufLearntClauses.PBLearntClauses result = new com.booleworks.logicng.serialization.solvers.ProtoBufLearntClauses.PBLearntClauses(this);
+        if (bitField0_ != 0) { buildPartial0(result); }
+        onBuilt();
+        return result;
+      }
+
+      private void buildPartial0(com.booleworks.logicng.serialization.solvers.ProtoBufLearntClauses.PBLearntClauses result) {
+        int from_bitField0_ = bitField0_;
+        if (((from_bitField0_ & 0x00000001) != 0)) {
+          variable_.makeImmutable();
+          result.variable_ = variable_;
+        }
+        if (((from_bitField0_ & 0x00000002) != 0)) {
+          literals_.makeImmutable();
+          result.literals_ = literals_;
+        }
+        if (((from_bitField0_ & 0x00000004) != 0)) {
+          lbd_.makeImmutable();
+          result.lbd_ = lbd_;
+        }
+      }
+
+      @java.lang.Override
+      public Builder mergeFrom(com.google.protobuf.Message other) {
+        if (other instanceof com.booleworks.logicng.serialization.solvers.ProtoBufLearntClauses.PBLearntClauses) {
+          return mergeFrom((com.booleworks.logicng.serialization.solvers.ProtoBufLearntClauses.PBLearntClauses)other);
+        } else {
+          super.mergeFrom(other);
+          return this;
+        }
+      }
+
+      public Builder mergeFrom(com.booleworks.logicng.serialization.solvers.ProtoBufLearntClauses.PBLearntClauses other) {
+        if (other == com.booleworks.logicng.serialization.solvers.ProtoBufLearntClauses.PBLearntClauses.getDefaultInstance()) return this;
+        if (!other.variable_.isEmpty()) {
+          if (variable_.isEmpty()) {
+            variable_ = other.variable_;
+            bitField0_ |= 0x00000001;
+          } else {
+            ensureVariableIsMutable();
+            variable_.addAll(other.variable_);
+          }
+          onChanged();
+        }
+        if (!other.literals_.isEmpty()) {
+          if (literals_.isEmpty()) {
+            literals_ = other.literals_;
+            literals_.makeImmutable();
+            bitField0_ |= 0x00000002;
+          } else {
+            ensureLiteralsIsMutable();
+            literals_.addAll(other.literals_);
+          }
+          onChanged();
+        }
+        if (!other.lbd_.isEmpty()) {
+          if (lbd_.isEmpty()) {
+            lbd_ = other.lbd_;
+            lbd_.makeImmutable();
+            bitField0_ |= 0x00000004;
+          } else {
+            ensureLbdIsMutable();
+            lbd_.addAll(other.lbd_);
+          }
+          onChanged();
+        }
+        this.mergeUnknownFields(other.getUnknownFields());
+        onChanged();
+        return this;
+      }
+
+      @java.lang.Override
+      public final boolean isInitialized() {
+        return true;
+      }
+
+      @java.lang.Override
+      public Builder mergeFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws java.io.IOException {
+        if (extensionRegistry == null) {
+          throw new java.lang.NullPointerException();
+        }
+        try {
+          boolean done = false;
+          while (!done) {
+            int tag = input.readTag();
+            switch (tag) {
+              case 0:
+                done = true;
+                break;
+              case 10: {
+                java.lang.String s = input.readStringRequireUtf8();
+                ensureVariableIsMutable();
+                variable_.add(s);
+                break;
+              } // case 10
+              case 16: {
+                int v = input.readSInt32();
+                ensureLiteralsIsMutable();
+                literals_.addInt(v);
+                break;
+              } // case 16
+              case 18: {
+                int length = input.readRawVarint32();
+                int limit = input.pushLimit(length);
+                ensureLiteralsIsMutable();
+                while (input.getBytesUntilLimit() > 0) {
+                  literals_.addInt(input.readSInt32());
+                }
+                input.popLimit(limit);
+                break;
+              } // case 18
+              case 24: {
+                long v = input.readInt64();
+                ensureLbdIsMutable();
+                lbd_.addLong(v);
+                break;
+              } // case 24
+              case 26: {
+                int length = input.readRawVarint32();
+                int limit = input.pushLimit(length);
+                ensureLbdIsMutable();
+                while (input.getBytesUntilLimit() > 0) {
+                  lbd_.addLong(input.readInt64());
+                }
+                input.popLimit(limit);
+                break;
+              } // case 26
+              default: {
+                if (!super.parseUnknownField(input, extensionRegistry, tag)) {
+                  done = true; // was an endgroup tag
+                }
+                break;
+              } // default:
+            } // switch (tag)
+          } // while (!done)
+        } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+          throw e.unwrapIOException();
+        } finally {
+          onChanged();
+        } // finally
+        return this;
+      }
+      private int bitField0_;
+
+      private com.google.protobuf.LazyStringArrayList variable_ =
+          com.google.protobuf.LazyStringArrayList.emptyList();
+      private void ensureVariableIsMutable() {
+        if (!variable_.isModifiable()) {
+          variable_ = new com.google.protobuf.LazyStringArrayList(variable_);
+        }
+        bitField0_ |= 0x00000001;
+      }
+      /**
+       * <code>repeated string variable = 1;</code>
+       * @return A list containing the variable.
+       */
+      public com.google.protobuf.ProtocolStringList
+          getVariableList() {
+        variable_.makeImmutable();
+        return variable_;
+      }
+      /**
+       * <code>repeated string variable = 1;</code>
+       * @return The count of variable.
+       */
+      public int getVariableCount() {
+        return variable_.size();
+      }
+      /**
+       * <code>repeated string variable = 1;</code>
+       * @param index The index of the element to return.
+       * @return The variable at the given index.
+       */
+      public java.lang.String getVariable(int index) {
+        return variable_.get(index);
+      }
+      /**
+       * <code>repeated string variable = 1;</code>
+       * @param index The index of the value to return.
+       * @return The bytes of the variable at the given index.
+       */
+      public com.google.protobuf.ByteString
+          getVariableBytes(int index) {
+        return variable_.getByteString(index);
+      }
+      /**
+       * <code>repeated string variable = 1;</code>
+       * @param index The index to set the value at.
+       * @param value The variable to set.
+       * @return This builder for chaining.
+       */
+      public Builder setVariable(
+          int index, java.lang.String value) {
+        if (value == null) { throw new NullPointerException(); }
+        ensureVariableIsMutable();
+        variable_.set(index, value);
+        bitField0_ |= 0x00000001;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>repeated string variable = 1;</code>
+       * @param value The variable to add.
+       * @return This builder for chaining.
+       */
+      public Builder addVariable(
+          java.lang.String value) {
+        if (value == null) { throw new NullPointerException(); }
+        ensureVariableIsMutable();
+        variable_.add(value);
+        bitField0_ |= 0x00000001;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>repeated string variable = 1;</code>
+       * @param values The variable to add.
+       * @return This builder for chaining.
+       */
+      public Builder addAllVariable(
+          java.lang.Iterable<java.lang.String> values) {
+        ensureVariableIsMutable();
+        com.google.protobuf.AbstractMessageLite.Builder.addAll(
+            values, variable_);
+        bitField0_ |= 0x00000001;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>repeated string variable = 1;</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearVariable() {
+        variable_ =
+          com.google.protobuf.LazyStringArrayList.emptyList();
+        bitField0_ = (bitField0_ & ~0x00000001);;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>repeated string variable = 1;</code>
+       * @param value The bytes of the variable to add.
+       * @return This builder for chaining.
+       */
+      public Builder addVariableBytes(
+          com.google.protobuf.ByteString value) {
+        if (value == null) { throw new NullPointerException(); }
+        checkByteStringIsUtf8(value);
+        ensureVariableIsMutable();
+        variable_.add(value);
+        bitField0_ |= 0x00000001;
+        onChanged();
+        return this;
+      }
+
+      private com.google.protobuf.Internal.IntList literals_ = emptyIntList();
+      private void ensureLiteralsIsMutable() {
+        if (!literals_.isModifiable()) {
+          literals_ = makeMutableCopy(literals_);
+        }
+        bitField0_ |= 0x00000002;
+      }
+      /**
+       * <code>repeated sint32 literals = 2;</code>
+       * @return A list containing the literals.
+       */
+      public java.util.List<java.lang.Integer>
+          getLiteralsList() {
+        literals_.makeImmutable();
+        return literals_;
+      }
+      /**
+       * <code>repeated sint32 literals = 2;</code>
+       * @return The count of literals.
+       */
+      public int getLiteralsCount() {
+        return literals_.size();
+      }
+      /**
+       * <code>repeated sint32 literals = 2;</code>
+       * @param index The index of the element to return.
+       * @return The literals at the given index.
+       */
+      public int getLiterals(int index) {
+        return literals_.getInt(index);
+      }
+      /**
+       * <code>repeated sint32 literals = 2;</code>
+       * @param index The index to set the value at.
+       * @param value The literals to set.
+       * @return This builder for chaining.
+       */
+      public Builder setLiterals(
+          int index, int value) {
+
+        ensureLiteralsIsMutable();
+        literals_.setInt(index, value);
+        bitField0_ |= 0x00000002;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>repeated sint32 literals = 2;</code>
+       * @param value The literals to add.
+       * @return This builder for chaining.
+       */
+      public Builder addLiterals(int value) {
+
+        ensureLiteralsIsMutable();
+        literals_.addInt(value);
+        bitField0_ |= 0x00000002;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>repeated sint32 literals = 2;</code>
+       * @param values The literals to add.
+       * @return This builder for chaining.
+       */
+      public Builder addAllLiterals(
+          java.lang.Iterable<? extends java.lang.Integer> values) {
+        ensureLiteralsIsMutable();
+        com.google.protobuf.AbstractMessageLite.Builder.addAll(
+            values, literals_);
+        bitField0_ |= 0x00000002;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>repeated sint32 literals = 2;</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearLiterals() {
+        literals_ = emptyIntList();
+        bitField0_ = (bitField0_ & ~0x00000002);
+        onChanged();
+        return this;
+      }
+
+      private com.google.protobuf.Internal.LongList lbd_ = emptyLongList();
+      private void ensureLbdIsMutable() {
+        if (!lbd_.isModifiable()) {
+          lbd_ = makeMutableCopy(lbd_);
+        }
+        bitField0_ |= 0x00000004;
+      }
+      /**
+       * <code>repeated int64 lbd = 3;</code>
+       * @return A list containing the lbd.
+       */
+      public java.util.List<java.lang.Long>
+          getLbdList() {
+        lbd_.makeImmutable();
+        return lbd_;
+      }
+      /**
+       * <code>repeated int64 lbd = 3;</code>
+       * @return The count of lbd.
+       */
+      public int getLbdCount() {
+        return lbd_.size();
+      }
+      /**
+       * <code>repeated int64 lbd = 3;</code>
+       * @param index The index of the element to return.
+       * @return The lbd at the given index.
+       */
+      public long getLbd(int index) {
+        return lbd_.getLong(index);
+      }
+      /**
+       * <code>repeated int64 lbd = 3;</code>
+       * @param index The index to set the value at.
+       * @param value The lbd to set.
+       * @return This builder for chaining.
+       */
+      public Builder setLbd(
+          int index, long value) {
+
+        ensureLbdIsMutable();
+        lbd_.setLong(index, value);
+        bitField0_ |= 0x00000004;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>repeated int64 lbd = 3;</code>
+       * @param value The lbd to add.
+       * @return This builder for chaining.
+       */
+      public Builder addLbd(long value) {
+
+        ensureLbdIsMutable();
+        lbd_.addLong(value);
+        bitField0_ |= 0x00000004;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>repeated int64 lbd = 3;</code>
+       * @param values The lbd to add.
+       * @return This builder for chaining.
+       */
+      public Builder addAllLbd(
+          java.lang.Iterable<? extends java.lang.Long> values) {
+        ensureLbdIsMutable();
+        com.google.protobuf.AbstractMessageLite.Builder.addAll(
+            values, lbd_);
+        bitField0_ |= 0x00000004;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>repeated int64 lbd = 3;</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearLbd() {
+        lbd_ = emptyLongList();
+        bitField0_ = (bitField0_ & ~0x00000004);
+        onChanged();
+        return this;
+      }
+
+      // @@protoc_insertion_point(builder_scope:solver.PBLearntClauses)
+    }
+
+    // @@protoc_insertion_point(class_scope:solver.PBLearntClauses)
+    private static final com.booleworks.logicng.serialization.solvers.ProtoBufLearntClauses.PBLearntClauses DEFAULT_INSTANCE;
+    static {
+      DEFAULT_INSTANCE = new com.booleworks.logicng.serialization.solvers.ProtoBufLearntClauses.PBLearntClauses();
+    }
+
+    public static com.booleworks.logicng.serialization.solvers.ProtoBufLearntClauses.PBLearntClauses getDefaultInstance() {
+      return DEFAULT_INSTANCE;
+    }
+
+    private static final com.google.protobuf.Parser<PBLearntClauses>
+        PARSER = new com.google.protobuf.AbstractParser<PBLearntClauses>() {
+      @java.lang.Override
+      public PBLearntClauses parsePartialFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws com.google.protobuf.InvalidProtocolBufferException {
+        Builder builder = newBuilder();
+        try {
+          builder.mergeFrom(input, extensionRegistry);
+        } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+          throw e.setUnfinishedMessage(builder.buildPartial());
+        } catch (com.google.protobuf.UninitializedMessageException e) {
+          throw e.asInvalidProtocolBufferException().setUnfinishedMessage(builder.buildPartial());
+        } catch (java.io.IOException e) {
+          throw new com.google.protobuf.InvalidProtocolBufferException(e)
+              .setUnfinishedMessage(builder.buildPartial());
+        }
+        return builder.buildPartial();
+      }
+    };
+
+    public static com.google.protobuf.Parser<PBLearntClauses> parser() {
+      return PARSER;
+    }
+
+    @java.lang.Override
+    public com.google.protobuf.Parser<PBLearntClauses> getParserForType() {
+      return PARSER;
+    }
+
+    @java.lang.Override
+    public com.booleworks.logicng.serialization.solvers.ProtoBufLearntClauses.PBLearntClauses getDefaultInstanceForType() {
+      return DEFAULT_INSTANCE;
+    }
+
+  }
+
+  private static final com.google.protobuf.Descriptors.Descriptor
+    internal_static_solver_PBLearntClauses_descriptor;
+  private static final 
+    com.google.protobuf.GeneratedMessage.FieldAccessorTable
+      internal_static_solver_PBLearntClauses_fieldAccessorTable;
+
+  public static com.google.protobuf.Descriptors.FileDescriptor
+      getDescriptor() {
+    return descriptor;
+  }
+  private static  com.google.protobuf.Descriptors.FileDescriptor
+      descriptor;
+  static {
+    java.lang.String[] descriptorData = {
+      "\n\024learnt_clauses.proto\022\006solver\"B\n\017PBLear" +
+      "ntClauses\022\020\n\010variable\030\001 \003(\t\022\020\n\010literals\030" +
+      "\002 \003(\021\022\013\n\003lbd\030\003 \003(\003BE\n,com.booleworks.log" +
+      "icng.serialization.solversB\025ProtoBufLear" +
+      "ntClausesb\006proto3"
+    };
+    descriptor = com.google.protobuf.Descriptors.FileDescriptor
+      .internalBuildGeneratedFileFrom(descriptorData,
+        new com.google.protobuf.Descriptors.FileDescriptor[] {
+        });
+    internal_static_solver_PBLearntClauses_descriptor =
+      getDescriptor().getMessageTypes().get(0);
+    internal_static_solver_PBLearntClauses_fieldAccessorTable = new
+      com.google.protobuf.GeneratedMessage.FieldAccessorTable(
+        internal_static_solver_PBLearntClauses_descriptor,
+        new java.lang.String[] { "Variable", "Literals", "Lbd", });
+    descriptor.resolveAllFeaturesImmutable();
+  }
+
+  // @@protoc_insertion_point(outer_class_scope)
+}
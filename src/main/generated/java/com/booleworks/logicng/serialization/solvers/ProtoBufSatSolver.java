@@ -621,6 +621,61 @@ com.booleworks.logicng.serialization.solvers.datastructures.ProtoBufSolverDatast
      * @return The curRestart.
      */
     int getCurRestart();
+
+    /**
+     * <code>.solver.PBPropositionTable propositionTable = 48;</code>
+     * @return Whether the propositionTable field is set.
+     */
+    boolean hasPropositionTable();
+    /**
+     * <code>.solver.PBPropositionTable propositionTable = 48;</code>
+     * @return The propositionTable.
+     */
+    com.booleworks.logicng.serialization.solvers.datastructures.ProtoBufSolverDatastructures.PBPropositionTable getPropositionTable();
+    /**
+     * <code>.solver.PBPropositionTable propositionTable = 48;</code>
+     */
+    com.booleworks.logicng.serialization.solvers.datastructures.ProtoBufSolverDatastructures.PBPropositionTableOrBuilder getPropositionTableOrBuilder();
+
+    /**
+     * <code>.collections.PBIntVector assumptionPropositionIndices = 49;</code>
+     * @return Whether the assumptionPropositionIndices field is set.
+     */
+    boolean hasAssumptionPropositionIndices();
+    /**
+     * <code>.collections.PBIntVector assumptionPropositionIndices = 49;</code>
+     * @return The assumptionPropositionIndices.
+     */
+    com.booleworks.logicng.serialization.collections.ProtoBufCollections.PBIntVector getAssumptionPropositionIndices();
+    /**
+     * <code>.collections.PBIntVector assumptionPropositionIndices = 49;</code>
+     */
+    com.booleworks.logicng.serialization.collections.ProtoBufCollections.PBIntVectorOrBuilder getAssumptionPropositionIndicesOrBuilder();
+
+    /**
+     * <code>.solver.PBProofLogReference proofLog = 50;</code>
+     * @return Whether the proofLog field is set.
+     */
+    boolean hasProofLog();
+    /**
+     * <code>.solver.PBProofLogReference proofLog = 50;</code>
+     * @return The proofLog.
+     */
+    com.booleworks.logicng.serialization.solvers.datastructures.ProtoBufSolverDatastructures.PBProofLogReference getProofLog();
+    /**
+     * <code>.solver.PBProofLogReference proofLog = 50;</code>
+     */
+    com.booleworks.logicng.serialization.solvers.datastructures.ProtoBufSolverDatastructures.PBProofLogReferenceOrBuilder getProofLogOrBuilder();
+
+    /**
+     * <pre>
+     * only in uncompressed snapshot files, written as first field
+     * </pre>
+     *
+     * <code>bytes snapshotHeader = 1000;</code>
+     * @return The snapshotHeader.
+     */
+    com.google.protobuf.ByteString getSnapshotHeader();
   }
   /**
    * Protobuf type {@code solver.PBSatSolver}
@@ -646,6 +701,7 @@ com.booleworks.logicng.serialization.solvers.datastructures.ProtoBufSolverDatast
     private PBSatSolver() {
       assumptionPropositions_ = emptyList(com.google.protobuf.ByteString.class);
       pgOriginalClauses_ = java.util.Collections.emptyList();
+      snapshotHeader_ = com.google.protobuf.ByteString.EMPTY;
     }
 
     public static final com.google.protobuf.Descriptors.Descriptor
@@ -1780,6 +1836,99 @@ com.booleworks.logicng.serialization.solvers.datastructures.ProtoBufSolverDatast
       return curRestart_;
     }
 
+    public static final int PROPOSITIONTABLE_FIELD_NUMBER = 48;
+    private com.booleworks.logicng.serialization.solvers.datastructures.ProtoBufSolverDatastructures.PBPropositionTable propositionTable_;
+    /**
+     * <code>.solver.PBPropositionTable propositionTable = 48;</code>
+     * @return Whether the propositionTable field is set.
+     */
+    @java.lang.Override
+    public boolean hasPropositionTable() {
+      return ((bitField0_ & 0x00800000) != 0);
+    }
+    /**
+     * <code>.solver.PBPropositionTable propositionTable = 48;</code>
+     * @return The propositionTable.
+     */
+    @java.lang.Override
+    public com.booleworks.logicng.serialization.solvers.datastructures.ProtoBufSolverDatastructures.PBPropositionTable getPropositionTable() {
+      return propositionTable_ == null ? com.booleworks.logicng.serialization.solvers.datastructures.ProtoBufSolverDatastructures.PBPropositionTable.getDefaultInstance() : propositionTable_;
+    }
+    /**
+     * <code>.solver.PBPropositionTable propositionTable = 48;</code>
+     */
+    @java.lang.Override
+    public com.booleworks.logicng.serialization.solvers.datastructures.ProtoBufSolverDatastructures.PBPropositionTableOrBuilder getPropositionTableOrBuilder() {
+      return propositionTable_ == null ? com.booleworks.logicng.serialization.solvers.datastructures.ProtoBufSolverDatastructures.PBPropositionTable.getDefaultInstance() : propositionTable_;
+    }
+
+    public static final int ASSUMPTIONPROPOSITIONINDICES_FIELD_NUMBER = 49;
+    private com.booleworks.logicng.serialization.collections.ProtoBufCollections.PBIntVector assumptionPropositionIndices_;
+    /**
+     * <code>.collections.PBIntVector assumptionPropositionIndices = 49;</code>
+     * @return Whether the assumptionPropositionIndices field is set.
+     */
+    @java.lang.Override
+    public boolean hasAssumptionPropositionIndices() {
+      return ((bitField0_ & 0x01000000) != 0);
+    }
+    /**
+     * <code>.collections.PBIntVector assumptionPropositionIndices = 49;</code>
+     * @return The assumptionPropositionIndices.
+     */
+    @java.lang.Override
+    public com.booleworks.logicng.serialization.collections.ProtoBufCollections.PBIntVector getAssumptionPropositionIndices() {
+      return assumptionPropositionIndices_ == null ? com.booleworks.logicng.serialization.collections.ProtoBufCollections.PBIntVector.getDefaultInstance() : assumptionPropositionIndices_;
+    }
+    /**
+     * <code>.collections.PBIntVector assumptionPropositionIndices = 49;</code>
+     */
+    @java.lang.Override
+    public com.booleworks.logicng.serialization.collections.ProtoBufCollections.PBIntVectorOrBuilder getAssumptionPropositionIndicesOrBuilder() {
+      return assumptionPropositionIndices_ == null ? com.booleworks.logicng.serialization.collections.ProtoBufCollections.PBIntVector.getDefaultInstance() : assumptionPropositionIndices_;
+    }
+
+    public static final int PROOFLOG_FIELD_NUMBER = 50;
+    private com.booleworks.logicng.serialization.solvers.datastructures.ProtoBufSolverDatastructures.PBProofLogReference proofLog_;
+    /**
+     * <code>.solver.PBProofLogReference proofLog = 50;</code>
+     * @return Whether the proofLog field is set.
+     */
+    @java.lang.Override
+    public boolean hasProofLog() {
+      return ((bitField0_ & 0x02000000) != 0);
+    }
+    /**
+     * <code>.solver.PBProofLogReference proofLog = 50;</code>
+     * @return The proofLog.
+     */
+    @java.lang.Override
+    public com.booleworks.logicng.serialization.solvers.datastructures.ProtoBufSolverDatastructures.PBProofLogReference getProofLog() {
+      return proofLog_ == null ? com.booleworks.logicng.serialization.solvers.datastructures.ProtoBufSolverDatastructures.PBProofLogReference.getDefaultInstance() : proofLog_;
+    }
+    /**
+     * <code>.solver.PBProofLogReference proofLog = 50;</code>
+     */
+    @java.lang.Override
+    public com.booleworks.logicng.serialization.solvers.datastructures.ProtoBufSolverDatastructures.PBProofLogReferenceOrBuilder getProofLogOrBuilder() {
+      return proofLog_ == null ? com.booleworks.logicng.serialization.solvers.datastructures.ProtoBufSolverDatastructures.PBProofLogReference.getDefaultInstance() : proofLog_;
+    }
+
+    public static final int SNAPSHOTHEADER_FIELD_NUMBER = 1000;
+    private com.google.protobuf.ByteString snapshotHeader_ = com.google.protobuf.ByteString.EMPTY;
+    /**
+     * <pre>
+     * only in uncompressed snapshot files, written as first field
+     * </pre>
+     *
+     * <code>bytes snapshotHeader = 1000;</code>
+     * @return The snapshotHeader.
+     */
+    @java.lang.Override
+    public com.google.protobuf.ByteString getSnapshotHeader() {
+      return snapshotHeader_;
+    }
+
     private byte memoizedIsInitialized = -1;
     @java.lang.Override
     public final boolean isInitialized() {
@@ -1941,6 +2090,18 @@ com.booleworks.logicng.serialization.solvers.datastructures.ProtoBufSolverDatast
       if (curRestart_ != 0) {
         output.writeInt32(47, curRestart_);
       }
+      if (((bitField0_ & 0x00800000) != 0)) {
+        output.writeMessage(48, getPropositionTable());
+      }
+      if (((bitField0_ & 0x01000000) != 0)) {
+        output.writeMessage(49, getAssumptionPropositionIndices());
+      }
+      if (((bitField0_ & 0x02000000) != 0)) {
+        output.writeMessage(50, getProofLog());
+      }
+      if (!snapshotHeader_.isEmpty()) {
+        output.writeBytes(1000, snapshotHeader_);
+      }
       getUnknownFields().writeTo(output);
     }
 
@@ -2155,6 +2316,22 @@ com.booleworks.logicng.serialization.solvers.datastructures.ProtoBufSolverDatast
         size += com.google.protobuf.CodedOutputStream
           .computeInt32Size(47, curRestart_);
       }
+      if (((bitField0_ & 0x00800000) != 0)) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeMessageSize(48, getPropositionTable());
+      }
+      if (((bitField0_ & 0x01000000) != 0)) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeMessageSize(49, getAssumptionPropositionIndices());
+      }
+      if (((bitField0_ & 0x02000000) != 0)) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeMessageSize(50, getProofLog());
+      }
+      if (!snapshotHeader_.isEmpty()) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeBytesSize(1000, snapshotHeader_);
+      }
       size += getUnknownFields().getSerializedSize();
       memoizedSize = size;
       return size;
@@ -2337,6 +2514,23 @@ com.booleworks.logicng.serialization.solvers.datastructures.ProtoBufSolverDatast
               other.getSumLBD())) return false;
       if (getCurRestart()
           != other.getCurRestart()) return false;
+      if (hasPropositionTable() != other.hasPropositionTable()) return false;
+      if (hasPropositionTable()) {
+        if (!getPropositionTable()
+            .equals(other.getPropositionTable())) return false;
+      }
+      if (hasAssumptionPropositionIndices() != other.hasAssumptionPropositionIndices()) return false;
+      if (hasAssumptionPropositionIndices()) {
+        if (!getAssumptionPropositionIndices()
+            .equals(other.getAssumptionPropositionIndices())) return false;
+      }
+      if (hasProofLog() != other.hasProofLog()) return false;
+      if (hasProofLog()) {
+        if (!getProofLog()
+            .equals(other.getProofLog())) return false;
+      }
+      if (!getSnapshotHeader()
+          .equals(other.getSnapshotHeader())) return false;
       if (!getUnknownFields().equals(other.getUnknownFields())) return false;
       return true;
     }
@@ -2505,6 +2699,20 @@ com.booleworks.logicng.serialization.solvers.datastructures.ProtoBufSolverDatast
           java.lang.Double.doubleToLongBits(getSumLBD()));
       hash = (37 * hash) + CURRESTART_FIELD_NUMBER;
       hash = (53 * hash) + getCurRestart();
+      if (hasPropositionTable()) {
+        hash = (37 * hash) + PROPOSITIONTABLE_FIELD_NUMBER;
+        hash = (53 * hash) + getPropositionTable().hashCode();
+      }
+      if (hasAssumptionPropositionIndices()) {
+        hash = (37 * hash) + ASSUMPTIONPROPOSITIONINDICES_FIELD_NUMBER;
+        hash = (53 * hash) + getAssumptionPropositionIndices().hashCode();
+      }
+      if (hasProofLog()) {
+        hash = (37 * hash) + PROOFLOG_FIELD_NUMBER;
+        hash = (53 * hash) + getProofLog().hashCode();
+      }
+      hash = (37 * hash) + SNAPSHOTHEADER_FIELD_NUMBER;
+      hash = (53 * hash) + getSnapshotHeader().hashCode();
       hash = (29 * hash) + getUnknownFields().hashCode();
       memoizedHashCode = hash;
       return hash;
@@ -2685,6 +2893,9 @@ com.booleworks.logicng.serialization.solvers.datastructures.ProtoBufSolverDatast
           getLastDecisionLevelFieldBuilder();
           getLbdQueueFieldBuilder();
           getTrailQueueFieldBuilder();
+          getPropositionTableFieldBuilder();
+          getAssumptionPropositionIndicesFieldBuilder();
+          getProofLogFieldBuilder();
         }
       }
       @java.lang.Override
@@ -2837,6 +3048,22 @@ com.booleworks.logicng.serialization.solvers.datastructures.ProtoBufSolverDatast
         conflictsRestarts_ = 0;
         sumLBD_ = 0D;
         curRestart_ = 0;
+        propositionTable_ = null;
+        if (propositionTableBuilder_ != null) {
+          propositionTableBuilder_.dispose();
+          propositionTableBuilder_ = null;
+        }
+        assumptionPropositionIndices_ = null;
+        if (assumptionPropositionIndicesBuilder_ != null) {
+          assumptionPropositionIndicesBuilder_.dispose();
+          assumptionPropositionIndicesBuilder_ = null;
+        }
+        proofLog_ = null;
+        if (proofLogBuilder_ != null) {
+          proofLogBuilder_.dispose();
+          proofLogBuilder_ = null;
+        }
+        snapshotHeader_ = com.google.protobuf.ByteString.EMPTY;
         return this;
       }
 
@@ -3101,6 +3328,27 @@ com.booleworks.logicng.serialization.solvers.datastructures.ProtoBufSolverDatast
         if (((from_bitField1_ & 0x00004000) != 0)) {
           result.curRestart_ = curRestart_;
         }
+        if (((from_bitField1_ & 0x00008000) != 0)) {
+          result.propositionTable_ = propositionTableBuilder_ == null
+              ? propositionTable_
+              : propositionTableBuilder_.build();
+          to_bitField0_ |= 0x00800000;
+        }
+        if (((from_bitField1_ & 0x00010000) != 0)) {
+          result.assumptionPropositionIndices_ = assumptionPropositionIndicesBuilder_ == null
+              ? assumptionPropositionIndices_
+              : assumptionPropositionIndicesBuilder_.build();
+          to_bitField0_ |= 0x01000000;
+        }
+        if (((from_bitField1_ & 0x00020000) != 0)) {
+          result.proofLog_ = proofLogBuilder_ == null
+              ? proofLog_
+              : proofLogBuilder_.build();
+          to_bitField0_ |= 0x02000000;
+        }
+        if (((from_bitField1_ & 0x00040000) != 0)) {
+          result.snapshotHeader_ = snapshotHeader_;
+        }
         result.bitField0_ |= to_bitField0_;
       }
 
@@ -3288,6 +3536,18 @@ com.booleworks.logicng.serialization.solvers.datastructures.ProtoBufSolverDatast
         if (other.getCurRestart() != 0) {
           setCurRestart(other.getCurRestart());
         }
+        if (other.hasPropositionTable()) {
+          mergePropositionTable(other.getPropositionTable());
+        }
+        if (other.hasAssumptionPropositionIndices()) {
+          mergeAssumptionPropositionIndices(other.getAssumptionPropositionIndices());
+        }
+        if (other.hasProofLog()) {
+          mergeProofLog(other.getProofLog());
+        }
+        if (other.getSnapshotHeader() != com.google.protobuf.ByteString.EMPTY) {
+          setSnapshotHeader(other.getSnapshotHeader());
+        }
         this.mergeUnknownFields(other.getUnknownFields());
         onChanged();
         return this;
@@ -3612,6 +3872,32 @@ com.booleworks.logicng.serialization.solvers.datastructures.ProtoBufSolverDatast
                 bitField1_ |= 0x00004000;
                 break;
               } // case 376
+              case 386: {
+                input.readMessage(
+                    getPropositionTableFieldBuilder().getBuilder(),
+                    extensionRegistry);
+                bitField1_ |= 0x00008000;
+                break;
+              } // case 386
+              case 394: {
+                input.readMessage(
+                    getAssumptionPropositionIndicesFieldBuilder().getBuilder(),
+                    extensionRegistry);
+                bitField1_ |= 0x00010000;
+                break;
+              } // case 394
+              case 402: {
+                input.readMessage(
+                    getProofLogFieldBuilder().getBuilder(),
+                    extensionRegistry);
+                bitField1_ |= 0x00020000;
+                break;
+              } // case 402
+              case 8002: {
+                snapshotHeader_ = input.readBytes();
+                bitField1_ |= 0x00040000;
+                break;
+              } // case 8002
               default: {
                 if (!super.parseUnknownField(input, extensionRegistry, tag)) {
                   done = true; // was an endgroup tag
@@ -7710,6 +7996,413 @@ com.booleworks.logicng.serialization.solvers.datastructures.ProtoBufSolverDatast
         return this;
       }
 
+      private com.booleworks.logicng.serialization.solvers.datastructures.ProtoBufSolverDatastructures.PBPropositionTable propositionTable_;
+      private com.google.protobuf.SingleFieldBuilder<
+          com.booleworks.logicng.serialization.solvers.datastructures.ProtoBufSolverDatastructures.PBPropositionTable, com.booleworks.logicng.serialization.solvers.datastructures.ProtoBufSolverDatastructures.PBPropositionTable.Builder, com.booleworks.logicng.serialization.solvers.datastructures.ProtoBufSolverDatastructures.PBPropositionTableOrBuilder> propositionTableBuilder_;
+      /**
+       * <code>.solver.PBPropositionTable propositionTable = 48;</code>
+       * @return Whether the propositionTable field is set.
+       */
+      public boolean hasPropositionTable() {
+        return ((bitField1_ & 0x00008000) != 0);
+      }
+      /**
+       * <code>.solver.PBPropositionTable propositionTable = 48;</code>
+       * @return The propositionTable.
+       */
+      public com.booleworks.logicng.serialization.solvers.datastructures.ProtoBufSolverDatastructures.PBPropositionTable getPropositionTable() {
+        if (propositionTableBuilder_ == null) {
+          return propositionTable_ == null ? com.booleworks.logicng.serialization.solvers.datastructures.ProtoBufSolverDatastructures.PBPropositionTable.getDefaultInstance() : propositionTable_;
+        } else {
+          return propositionTableBuilder_.getMessage();
+        }
+      }
+      /**
+       * <code>.solver.PBPropositionTable propositionTable = 48;</code>
+       */
+      public Builder setPropositionTable(com.booleworks.logicng.serialization.solvers.datastructures.ProtoBufSolverDatastructures.PBPropositionTable value) {
+        if (propositionTableBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          propositionTable_ = value;
+        } else {
+          propositionTableBuilder_.setMessage(value);
+        }
+        bitField1_ |= 0x00008000;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>.solver.PBPropositionTable propositionTable = 48;</code>
+       */
+      public Builder setPropositionTable(
+          com.booleworks.logicng.serialization.solvers.datastructures.ProtoBufSolverDatastructures.PBPropositionTable.Builder builderForValue) {
+        if (propositionTableBuilder_ == null) {
+          propositionTable_ = builderForValue.build();
+        } else {
+          propositionTableBuilder_.setMessage(builderForValue.build());
+        }
+        bitField1_ |= 0x00008000;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>.solver.PBPropositionTable propositionTable = 48;</code>
+       */
+      public Builder mergePropositionTable(com.booleworks.logicng.serialization.solvers.datastructures.ProtoBufSolverDatastructures.PBPropositionTable value) {
+        if (propositionTableBuilder_ == null) {
+          if (((bitField1_ & 0x00008000) != 0) &&
+            propositionTable_ != null &&
+            propositionTable_ != com.booleworks.logicng.serialization.solvers.datastructures.ProtoBufSolverDatastructures.PBPropositionTable.getDefaultInstance()) {
+            getPropositionTableBuilder().mergeFrom(value);
+          } else {
+            propositionTable_ = value;
+          }
+        } else {
+          propositionTableBuilder_.mergeFrom(value);
+        }
+        if (propositionTable_ != null) {
+          bitField1_ |= 0x00008000;
+          onChanged();
+        }
+        return this;
+      }
+      /**
+       * <code>.solver.PBPropositionTable propositionTable = 48;</code>
+       */
+      public Builder clearPropositionTable() {
+        bitField1_ = (bitField1_ & ~0x00008000);
+        propositionTable_ = null;
+        if (propositionTableBuilder_ != null) {
+          propositionTableBuilder_.dispose();
+          propositionTableBuilder_ = null;
+        }
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>.solver.PBPropositionTable propositionTable = 48;</code>
+       */
+      public com.booleworks.logicng.serialization.solvers.datastructures.ProtoBufSolverDatastructures.PBPropositionTable.Builder getPropositionTableBuilder() {
+        bitField1_ |= 0x00008000;
+        onChanged();
+        return getPropositionTableFieldBuilder().getBuilder();
+      }
+      /**
+       * <code>.solver.PBPropositionTable propositionTable = 48;</code>
+       */
+      public com.booleworks.logicng.serialization.solvers.datastructures.ProtoBufSolverDatastructures.PBPropositionTableOrBuilder getPropositionTableOrBuilder() {
+        if (propositionTableBuilder_ != null) {
+          return propositionTableBuilder_.getMessageOrBuilder();
+        } else {
+          return propositionTable_ == null ?
+              com.booleworks.logicng.serialization.solvers.datastructures.ProtoBufSolverDatastructures.PBPropositionTable.getDefaultInstance() : propositionTable_;
+        }
+      }
+      /**
+       * <code>.solver.PBPropositionTable propositionTable = 48;</code>
+       */
+      private com.google.protobuf.SingleFieldBuilder<
+          com.booleworks.logicng.serialization.solvers.datastructures.ProtoBufSolverDatastructures.PBPropositionTable, com.booleworks.logicng.serialization.solvers.datastructures.ProtoBufSolverDatastructures.PBPropositionTable.Builder, com.booleworks.logicng.serialization.solvers.datastructures.ProtoBufSolverDatastructures.PBPropositionTableOrBuilder> 
+          getPropositionTableFieldBuilder() {
+        if (propositionTableBuilder_ == null) {
+          propositionTableBuilder_ = new com.google.protobuf.SingleFieldBuilder<
+              com.booleworks.logicng.serialization.solvers.datastructures.ProtoBufSolverDatastructures.PBPropositionTable, com.booleworks.logicng.serialization.solvers.datastructures.ProtoBufSolverDatastructures.PBPropositionTable.Builder, com.booleworks.logicng.serialization.solvers.datastructures.ProtoBufSolverDatastructures.PBPropositionTableOrBuilder>(
+                  getPropositionTable(),
+                  getParentForChildren(),
+                  isClean());
+          propositionTable_ = null;
+        }
+        return propositionTableBuilder_;
+      }
+
+      private com.booleworks.logicng.serialization.collections.ProtoBufCollections.PBIntVector assumptionPropositionIndices_;
+      private com.google.protobuf.SingleFieldBuilder<
+          com.booleworks.logicng.serialization.collections.ProtoBufCollections.PBIntVector, com.booleworks.logicng.serialization.collections.ProtoBufCollections.PBIntVector.Builder, com.booleworks.logicng.serialization.collections.ProtoBufCollections.PBIntVectorOrBuilder> assumptionPropositionIndicesBuilder_;
+      /**
+       * <code>.collections.PBIntVector assumptionPropositionIndices = 49;</code>
+       * @return Whether the assumptionPropositionIndices field is set.
+       */
+      public boolean hasAssumptionPropositionIndices() {
+        return ((bitField1_ & 0x00010000) != 0);
+      }
+      /**
+       * <code>.collections.PBIntVector assumptionPropositionIndices = 49;</code>
+       * @return The assumptionPropositionIndices.
+       */
+      public com.booleworks.logicng.serialization.collections.ProtoBufCollections.PBIntVector getAssumptionPropositionIndices() {
+        if (assumptionPropositionIndicesBuilder_ == null) {
+          return assumptionPropositionIndices_ == null ? com.booleworks.logicng.serialization.collections.ProtoBufCollections.PBIntVector.getDefaultInstance() : assumptionPropositionIndices_;
+        } else {
+          return assumptionPropositionIndicesBuilder_.getMessage();
+        }
+      }
+      /**
+       * <code>.collections.PBIntVector assumptionPropositionIndices = 49;</code>
+       */
+      public Builder setAssumptionPropositionIndices(com.booleworks.logicng.serialization.collections.ProtoBufCollections.PBIntVector value) {
+        if (assumptionPropositionIndicesBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          assumptionPropositionIndices_ = value;
+        } else {
+          assumptionPropositionIndicesBuilder_.setMessage(value);
+        }
+        bitField1_ |= 0x00010000;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>.collections.PBIntVector assumptionPropositionIndices = 49;</code>
+       */
+      public Builder setAssumptionPropositionIndices(
+          com.booleworks.logicng.serialization.collections.ProtoBufCollections.PBIntVector.Builder builderForValue) {
+        if (assumptionPropositionIndicesBuilder_ == null) {
+          assumptionPropositionIndices_ = builderForValue.build();
+        } else {
+          assumptionPropositionIndicesBuilder_.setMessage(builderForValue.build());
+        }
+        bitField1_ |= 0x00010000;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>.collections.PBIntVector assumptionPropositionIndices = 49;</code>
+       */
+      public Builder mergeAssumptionPropositionIndices(com.booleworks.logicng.serialization.collections.ProtoBufCollections.PBIntVector value) {
+        if (assumptionPropositionIndicesBuilder_ == null) {
+          if (((bitField1_ & 0x00010000) != 0) &&
+            assumptionPropositionIndices_ != null &&
+            assumptionPropositionIndices_ != com.booleworks.logicng.serialization.collections.ProtoBufCollections.PBIntVector.getDefaultInstance()) {
+            getAssumptionPropositionIndicesBuilder().mergeFrom(value);
+          } else {
+            assumptionPropositionIndices_ = value;
+          }
+        } else {
+          assumptionPropositionIndicesBuilder_.mergeFrom(value);
+        }
+        if (assumptionPropositionIndices_ != null) {
+          bitField1_ |= 0x00010000;
+          onChanged();
+        }
+        return this;
+      }
+      /**
+       * <code>.collections.PBIntVector assumptionPropositionIndices = 49;</code>
+       */
+      public Builder clearAssumptionPropositionIndices() {
+        bitField1_ = (bitField1_ & ~0x00010000);
+        assumptionPropositionIndices_ = null;
+        if (assumptionPropositionIndicesBuilder_ != null) {
+          assumptionPropositionIndicesBuilder_.dispose();
+          assumptionPropositionIndicesBuilder_ = null;
+        }
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>.collections.PBIntVector assumptionPropositionIndices = 49;</code>
+       */
+      public com.booleworks.logicng.serialization.collections.ProtoBufCollections.PBIntVector.Builder getAssumptionPropositionIndicesBuilder() {
+        bitField1_ |= 0x00010000;
+        onChanged();
+        return getAssumptionPropositionIndicesFieldBuilder().getBuilder();
+      }
+      /**
+       * <code>.collections.PBIntVector assumptionPropositionIndices = 49;</code>
+       */
+      public com.booleworks.logicng.serialization.collections.ProtoBufCollections.PBIntVectorOrBuilder getAssumptionPropositionIndicesOrBuilder() {
+        if (assumptionPropositionIndicesBuilder_ != null) {
+          return assumptionPropositionIndicesBuilder_.getMessageOrBuilder();
+        } else {
+          return assumptionPropositionIndices_ == null ?
+              com.booleworks.logicng.serialization.collections.ProtoBufCollections.PBIntVector.getDefaultInstance() : assumptionPropositionIndices_;
+        }
+      }
+      /**
+       * <code>.collections.PBIntVector assumptionPropositionIndices = 49;</code>
+       */
+      private com.google.protobuf.SingleFieldBuilder<
+          com.booleworks.logicng.serialization.collections.ProtoBufCollections.PBIntVector, com.booleworks.logicng.serialization.collections.ProtoBufCollections.PBIntVector.Builder, com.booleworks.logicng.serialization.collections.ProtoBufCollections.PBIntVectorOrBuilder> 
+          getAssumptionPropositionIndicesFieldBuilder() {
+        if (assumptionPropositionIndicesBuilder_ == null) {
+          assumptionPropositionIndicesBuilder_ = new com.google.protobuf.SingleFieldBuilder<
+              com.booleworks.logicng.serialization.collections.ProtoBufCollections.PBIntVector, com.booleworks.logicng.serialization.collections.ProtoBufCollections.PBIntVector.Builder, com.booleworks.logicng.serialization.collections.ProtoBufCollections.PBIntVectorOrBuilder>(
+                  getAssumptionPropositionIndices(),
+                  getParentForChildren(),
+                  isClean());
+          assumptionPropositionIndices_ = null;
+        }
+        return assumptionPropositionIndicesBuilder_;
+      }
+
+      private com.booleworks.logicng.serialization.solvers.datastructures.ProtoBufSolverDatastructures.PBProofLogReference proofLog_;
+      private com.google.protobuf.SingleFieldBuilder<
+          com.booleworks.logicng.serialization.solvers.datastructures.ProtoBufSolverDatastructures.PBProofLogReference, com.booleworks.logicng.serialization.solvers.datastructures.ProtoBufSolverDatastructures.PBProofLogReference.Builder, com.booleworks.logicng.serialization.solvers.datastructures.ProtoBufSolverDatastructures.PBProofLogReferenceOrBuilder> proofLogBuilder_;
+      /**
+       * <code>.solver.PBProofLogReference proofLog = 50;</code>
+       * @return Whether the proofLog field is set.
+       */
+      public boolean hasProofLog() {
+        return ((bitField1_ & 0x00020000) != 0);
+      }
+      /**
+       * <code>.solver.PBProofLogReference proofLog = 50;</code>
+       * @return The proofLog.
+       */
+      public com.booleworks.logicng.serialization.solvers.datastructures.ProtoBufSolverDatastructures.PBProofLogReference getProofLog() {
+        if (proofLogBuilder_ == null) {
+          return proofLog_ == null ? com.booleworks.logicng.serialization.solvers.datastructures.ProtoBufSolverDatastructures.PBProofLogReference.getDefaultInstance() : proofLog_;
+        } else {
+          return proofLogBuilder_.getMessage();
+        }
+      }
+      /**
+       * <code>.solver.PBProofLogReference proofLog = 50;</code>
+       */
+      public Builder setProofLog(com.booleworks.logicng.serialization.solvers.datastructures.ProtoBufSolverDatastructures.PBProofLogReference value) {
+        if (proofLogBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          proofLog_ = value;
+        } else {
+          proofLogBuilder_.setMessage(value);
+        }
+        bitField1_ |= 0x00020000;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>.solver.PBProofLogReference proofLog = 50;</code>
+       */
+      public Builder setProofLog(
+          com.booleworks.logicng.serialization.solvers.datastructures.ProtoBufSolverDatastructures.PBProofLogReference.Builder builderForValue) {
+        if (proofLogBuilder_ == null) {
+          proofLog_ = builderForValue.build();
+        } else {
+          proofLogBuilder_.setMessage(builderForValue.build());
+        }
+        bitField1_ |= 0x00020000;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>.solver.PBProofLogReference proofLog = 50;</code>
+       */
+      public Builder mergeProofLog(com.booleworks.logicng.serialization.solvers.datastructures.ProtoBufSolverDatastructures.PBProofLogReference value) {
+        if (proofLogBuilder_ == null) {
+          if (((bitField1_ & 0x00020000) != 0) &&
+            proofLog_ != null &&
+            proofLog_ != com.booleworks.logicng.serialization.solvers.datastructures.ProtoBufSolverDatastructures.PBProofLogReference.getDefaultInstance()) {
+            getProofLogBuilder().mergeFrom(value);
+          } else {
+            proofLog_ = value;
+          }
+        } else {
+          proofLogBuilder_.mergeFrom(value);
+        }
+        if (proofLog_ != null) {
+          bitField1_ |= 0x00020000;
+          onChanged();
+        }
+        return this;
+      }
+      /**
+       * <code>.solver.PBProofLogReference proofLog = 50;</code>
+       */
+      public Builder clearProofLog() {
+        bitField1_ = (bitField1_ & ~0x00020000);
+        proofLog_ = null;
+        if (proofLogBuilder_ != null) {
+          proofLogBuilder_.dispose();
+          proofLogBuilder_ = null;
+        }
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>.solver.PBProofLogReference proofLog = 50;</code>
+       */
+      public com.booleworks.logicng.serialization.solvers.datastructures.ProtoBufSolverDatastructures.PBProofLogReference.Builder getProofLogBuilder() {
+        bitField1_ |= 0x00020000;
+        onChanged();
+        return getProofLogFieldBuilder().getBuilder();
+      }
+      /**
+       * <code>.solver.PBProofLogReference proofLog = 50;</code>
+       */
+      public com.booleworks.logicng.serialization.solvers.datastructures.ProtoBufSolverDatastructures.PBProofLogReferenceOrBuilder getProofLogOrBuilder() {
+        if (proofLogBuilder_ != null) {
+          return proofLogBuilder_.getMessageOrBuilder();
+        } else {
+          return proofLog_ == null ?
+              com.booleworks.logicng.serialization.solvers.datastructures.ProtoBufSolverDatastructures.PBProofLogReference.getDefaultInstance() : proofLog_;
+        }
+      }
+      /**
+       * <code>.solver.PBProofLogReference proofLog = 50;</code>
+       */
+      private com.google.protobuf.SingleFieldBuilder<
+          com.booleworks.logicng.serialization.solvers.datastructures.ProtoBufSolverDatastructures.PBProofLogReference, com.booleworks.logicng.serialization.solvers.datastructures.ProtoBufSolverDatastructures.PBProofLogReference.Builder, com.booleworks.logicng.serialization.solvers.datastructures.ProtoBufSolverDatastructures.PBProofLogReferenceOrBuilder> 
+          getProofLogFieldBuilder() {
+        if (proofLogBuilder_ == null) {
+          proofLogBuilder_ = new com.google.protobuf.SingleFieldBuilder<
+              com.booleworks.logicng.serialization.solvers.datastructures.ProtoBufSolverDatastructures.PBProofLogReference, com.booleworks.logicng.serialization.solvers.datastructures.ProtoBufSolverDatastructures.PBProofLogReference.Builder, com.booleworks.logicng.serialization.solvers.datastructures.ProtoBufSolverDatastructures.PBProofLogReferenceOrBuilder>(
+                  getProofLog(),
+                  getParentForChildren(),
+                  isClean());
+          proofLog_ = null;
+        }
+        return proofLogBuilder_;
+      }
+
+      private com.google.protobuf.ByteString snapshotHeader_ = com.google.protobuf.ByteString.EMPTY;
+      /**
+       * <pre>
+       * only in uncompressed snapshot files, written as first field
+       * </pre>
+       *
+       * <code>bytes snapshotHeader = 1000;</code>
+       * @return The snapshotHeader.
+       */
+      @java.lang.Override
+      public com.google.protobuf.ByteString getSnapshotHeader() {
+        return snapshotHeader_;
+      }
+      /**
+       * <pre>
+       * only in uncompressed snapshot files, written as first field
+       * </pre>
+       *
+       * <code>bytes snapshotHeader = 1000;</code>
+       * @param value The snapshotHeader to set.
+       * @return This builder for chaining.
+       */
+      public Builder setSnapshotHeader(com.google.protobuf.ByteString value) {
+        if (value == null) { throw new NullPointerException(); }
+        snapshotHeader_ = value;
+        bitField1_ |= 0x00040000;
+        onChanged();
+        return this;
+      }
+      /**
+       * <pre>
+       * only in uncompressed snapshot files, written as first field
+       * </pre>
+       *
+       * <code>bytes snapshotHeader = 1000;</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearSnapshotHeader() {
+        bitField1_ = (bitField1_ & ~0x00040000);
+        snapshotHeader_ = getDefaultInstance().getSnapshotHeader();
+        onChanged();
+        return this;
+      }
+
       // @@protoc_insertion_point(builder_scope:solver.PBSatSolver)
     }
 
@@ -7787,7 +8480,7 @@ com.booleworks.logicng.serialization.solvers.datastructures.ProtoBufSolverDatast
     java.lang.String[] descriptorData = {
       "\n\017satsolver.proto\022\006solver\032\021collections.p" +
       "roto\032\033solver_datastructures.proto\032\024solve" +
-      "r_commons.proto\"\234\016\n\013PBSatSolver\022)\n\006confi" +
+      "r_commons.proto\"\332\017\n\013PBSatSolver\022)\n\006confi" +
       "g\030\001 \001(\0132\031.solver.PBSatSolverConfig\022\021\n\tin" +
       "SatCall\030\002 \001(\010\0223\n\010name2idx\030\003 \003(\0132!.solver" +
       ".PBSatSolver.Name2idxEntry\022-\n\013validState" +
@@ -7829,12 +8522,17 @@ com.booleworks.logicng.serialization.solvers.datastructures.ProtoBufSolverDatast
       "IntQueue\022\016\n\006myflag\030) \001(\005\022\022\n\nanalyzeLBD\030*" +
       " \001(\003\022\035\n\025nbClausesBeforeReduce\030+ \001(\005\022\021\n\tc" +
       "onflicts\030, \001(\005\022\031\n\021conflictsRestarts\030- \001(" +
-      "\005\022\016\n\006sumLBD\030. \001(\001\022\022\n\ncurRestart\030/ \001(\005\032/\n" +
-      "\rName2idxEntry\022\013\n\003key\030\001 \001(\t\022\r\n\005value\030\002 \001" +
-      "(\005:\0028\001\032F\n\020BackboneMapEntry\022\013\n\003key\030\001 \001(\005\022" +
-      "!\n\005value\030\002 \001(\0162\022.solver.PBTristate:\0028\001BA" +
-      "\n,com.booleworks.logicng.serialization.s" +
-      "olversB\021ProtoBufSatSolverb\006proto3"
+      "\005\022\016\n\006sumLBD\030. \001(\001\022\022\n\ncurRestart\030/ \001(\005\0224\n" +
+      "\020propositionTable\0300 \001(\0132\032.solver.PBPropo" +
+      "sitionTable\022>\n\034assumptionPropositionIndi" +
+      "ces\0301 \001(\0132\030.collections.PBIntVector\022-\n\010p" +
+      "roofLog\0302 \001(\0132\033.solver.PBProofLogReferen" +
+      "ce\022\027\n\016snapshotHeader\030\350\007 \001(\014\032/\n\rName2idxE" +
+      "ntry\022\013\n\003key\030\001 \001(\t\022\r\n\005value\030\002 \001(\005:\0028\001\032F\n\020" +
+      "BackboneMapEntry\022\013\n\003key\030\001 \001(\005\022!\n\005value\030\002" +
+      " \001(\0162\022.solver.PBTristate:\0028\001BA\n,com.bool" +
+      "eworks.logicng.serialization.solversB\021Pr" +
+      "otoBufSatSolverb\006proto3"
     };
     descriptor = com.google.protobuf.Descriptors.FileDescriptor
       .internalBuildGeneratedFileFrom(descriptorData,
@@ -7848,7 +8546,7 @@ com.booleworks.logicng.serialization.solvers.datastructures.ProtoBufSolverDatast
     internal_static_solver_PBSatSolver_fieldAccessorTable = new
       com.google.protobuf.GeneratedMessage.FieldAccessorTable(
         internal_static_solver_PBSatSolver_descriptor,
-        new java.lang.String[] { "Config", "InSatCall", "Name2Idx", "ValidStates", "NextStateId", "Ok", "Qhead", "UnitClauses", "Clauses", "Learnts", "Watches", "Vars", "OrderHeap", "Trail", "TrailLim", "Model", "AssumptionConflict", "Assumptions", "AssumptionPropositions", "Seen", "AnalyzeBtLevel", "ClaInc", "VarInc", "VarDecay", "ClausesLiterals", "LearntsLiterals", "CanceledByHandler", "PgOriginalClauses", "PgProof", "ComputingBackbone", "BackboneCandidates", "BackboneAssumptions", "BackboneMap", "SelectionOrder", "SelectionOrderIdx", "WatchesBin", "PermDiff", "LastDecisionLevel", "LbdQueue", "TrailQueue", "Myflag", "AnalyzeLBD", "NbClausesBeforeReduce", "Conflicts", "ConflictsRestarts", "SumLBD", "CurRestart", });
+        new java.lang.String[] { "Config", "InSatCall", "Name2Idx", "ValidStates", "NextStateId", "Ok", "Qhead", "UnitClauses", "Clauses", "Learnts", "Watches", "Vars", "OrderHeap", "Trail", "TrailLim", "Model", "AssumptionConflict", "Assumptions", "AssumptionPropositions", "Seen", "AnalyzeBtLevel", "ClaInc", "VarInc", "VarDecay", "ClausesLiterals", "LearntsLiterals", "CanceledByHandler", "PgOriginalClauses", "PgProof", "ComputingBackbone", "BackboneCandidates", "BackboneAssumptions", "BackboneMap", "SelectionOrder", "SelectionOrderIdx", "WatchesBin", "PermDiff", "LastDecisionLevel", "LbdQueue", "TrailQueue", "Myflag", "AnalyzeLBD", "NbClausesBeforeReduce", "Conflicts", "ConflictsRestarts", "SumLBD", "CurRestart", "PropositionTable", "AssumptionPropositionIndices", "ProofLog", "SnapshotHeader", });
     internal_static_solver_PBSatSolver_Name2idxEntry_descriptor =
       internal_static_solver_PBSatSolver_descriptor.getNestedTypes().get(0);
     internal_static_solver_PBSatSolver_Name2idxEntry_fieldAccessorTable = new
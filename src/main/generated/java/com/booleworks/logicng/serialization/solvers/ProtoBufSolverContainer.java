@@ -0,0 +1,3253 @@
+// Generated by the protocol buffer compiler.  DO NOT EDIT!
+// source: solver_container.proto
+// Protobuf Java Version: 4.26.1
+
+package com.booleworks.logicng.serialization.solvers;
+
+public final class ProtoBufSolverContainer {
+  private ProtoBufSolverContainer() {}
+  static {
+    com.google.protobuf.RuntimeVersion.validateProtobufGencodeVersion(
+      com.google.protobuf.RuntimeVersion.RuntimeDomain.PUBLIC,
+      /* major= */ 4,
+      /* minor= */ 26,
+      /* patch= */ 1,
+      /* suffix= */ "",
+      ProtoBufSolverContainer.class.getName());
+  }
+  public static void registerAllExtensions(
+      com.google.protobuf.ExtensionRegistryLite registry) {
+  }
+
+  public static void registerAllExtensions(
+      com.google.protobuf.ExtensionRegistry registry) {
+    registerAllExtensions(
+        (com.google.protobuf.ExtensionRegistryLite) registry);
+  }
+  public interface PBSolverContainerOrBuilder extends
+      // @@protoc_insertion_point(interface_extends:solver.PBSolverContainer)
+      com.google.protobuf.MessageOrBuilder {
+
+    /**
+     * <code>.solver.PBSatSolver base = 1;</code>
+     * @return Whether the base field is set.
+     */
+    boolean hasBase();
+    /**
+     * <code>.solver.PBSatSolver base = 1;</code>
+     * @return The base.
+     */
+    com.booleworks.logicng.serialization.solvers.ProtoBufSatSolver.PBSatSolver getBase();
+    /**
+     * <code>.solver.PBSatSolver base = 1;</code>
+     */
+    com.booleworks.logicng.serialization.solvers.ProtoBufSatSolver.PBSatSolverOrBuilder getBaseOrBuilder();
+
+    /**
+     * <code>repeated .solver.PBSolverOverlay overlay = 2;</code>
+     */
+    java.util.List<com.booleworks.logicng.serialization.solvers.ProtoBufSolverContainer.PBSolverOverlay> 
+        getOverlayList();
+    /**
+     * <code>repeated .solver.PBSolverOverlay overlay = 2;</code>
+     */
+    com.booleworks.logicng.serialization.solvers.ProtoBufSolverContainer.PBSolverOverlay getOverlay(int index);
+    /**
+     * <code>repeated .solver.PBSolverOverlay overlay = 2;</code>
+     */
+    int getOverlayCount();
+    /**
+     * <code>repeated .solver.PBSolverOverlay overlay = 2;</code>
+     */
+    java.util.List<? extends com.booleworks.logicng.serialization.solvers.ProtoBufSolverContainer.PBSolverOverlayOrBuilder> 
+        getOverlayOrBuilderList();
+    /**
+     * <code>repeated .solver.PBSolverOverlay overlay = 2;</code>
+     */
+    com.booleworks.logicng.serialization.solvers.ProtoBufSolverContainer.PBSolverOverlayOrBuilder getOverlayOrBuilder(
+        int index);
+  }
+  /**
+   * Protobuf type {@code solver.PBSolverContainer}
+   */
+  public static final class PBSolverContainer extends
+      com.google.protobuf.GeneratedMessage implements
+      // @@protoc_insertion_point(message_implements:solver.PBSolverContainer)
+      PBSolverContainerOrBuilder {
+  private static final long serialVersionUID = 0L;
+    static {
+      com.google.protobuf.RuntimeVersion.validateProtobufGencodeVersion(
+        com.google.protobuf.RuntimeVersion.RuntimeDomain.PUBLIC,
+        /* major= */ 4,
+        /* minor= */ 26,
+        /* patch= */ 1,
+        /* suffix= */ "",
+        PBSolverContainer.class.getName());
+    }
+    // Use PBSolverContainer.newBuilder() to construct.
+    private PBSolverContainer(com.google.protobuf.GeneratedMessage.Builder<?> builder) {
+      super(builder);
+    }
+    private PBSolverContainer() {
+      overlay_ = java.util.Collections.emptyList();
+    }
+
+    public static final com.google.protobuf.Descriptors.Descriptor
+        getDescriptor() {
+      return com.booleworks.logicng.serialization.solvers.ProtoBufSolverContainer.internal_static_solver_PBSolverContainer_descriptor;
+    }
+
+    @java.lang.Override
+    protected com.google.protobuf.GeneratedMessage.FieldAccessorTable
+        internalGetFieldAccessorTable() {
+      return com.booleworks.logicng.serialization.solvers.ProtoBufSolverContainer.internal_static_solver_PBSolverContainer_fieldAccessorTable
+          .ensureFieldAccessorsInitialized(
+              com.booleworks.logicng.serialization.solvers.ProtoBufSolverContainer.PBSolverContainer.class, com.booleworks.logicng.serialization.solvers.ProtoBufSolverContainer.PBSolverContainer.Builder.class);
+    }
+
+    private int bitField0_;
+    public static final int BASE_FIELD_NUMBER = 1;
+    private com.booleworks.logicng.serialization.solvers.ProtoBufSatSolver.PBSatSolver base_;
+    /**
+     * <code>.solver.PBSatSolver base = 1;</code>
+     * @return Whether the base field is set.
+     */
+    @java.lang.Override
+    public boolean hasBase() {
+      return ((bitField0_ & 0x00000001) != 0);
+    }
+    /**
+     * <code>.solver.PBSatSolver base = 1;</code>
+     * @return The base.
+     */
+    @java.lang.Override
+    public com.booleworks.logicng.serialization.solvers.ProtoBufSatSolver.PBSatSolver getBase() {
+      return base_ == null ? com.booleworks.logicng.serialization.solvers.ProtoBufSatSolver.PBSatSolver.getDefaultInstance() : base_;
+    }
+    /**
+     * <code>.solver.PBSatSolver base = 1;</code>
+     */
+    @java.lang.Override
+    public com.booleworks.logicng.serialization.solvers.ProtoBufSatSolver.PBSatSolverOrBuilder getBaseOrBuilder() {
+      return base_ == null ? com.booleworks.logicng.serialization.solvers.ProtoBufSatSolver.PBSatSolver.getDefaultInstance() : base_;
+    }
+
+    public static final int OVERLAY_FIELD_NUMBER = 2;
+    @SuppressWarnings("serial")
+    private java.util.List<com.booleworks.logicng.serialization.solvers.ProtoBufSolverContainer.PBSolverOverlay> overlay_;
+    /**
+     * <code>repeated .solver.PBSolverOverlay overlay = 2;</code>
+     */
+    @java.lang.Override
+    public java.util.List<com.booleworks.logicng.serialization.solvers.ProtoBufSolverContainer.PBSolverOverlay> getOverlayList() {
+      return overlay_;
+    }
+    /**
+     * <code>repeated .solver.PBSolverOverlay overlay = 2;</code>
+     */
+    @java.lang.Override
+    public java.util.List<? extends com.booleworks.logicng.serialization.solvers.ProtoBufSolverContainer.PBSolverOverlayOrBuilder> 
+        getOverlayOrBuilderList() {
+      return overlay_;
+    }
+    /**
+     * <code>repeated .solver.PBSolverOverlay overlay = 2;</code>
+     */
+    @java.lang.Override
+    public int getOverlayCount() {
+      return overlay_.size();
+    }
+    /**
+     * <code>repeated .solver.PBSolverOverlay overlay = 2;</code>
+     */
+    @java.lang.Override
+    public com.booleworks.logicng.serialization.solvers.ProtoBufSolverContainer.PBSolverOverlay getOverlay(int index) {
+      return overlay_.get(index);
+    }
+    /**
+     * <code>repeated .solver.PBSolverOverlay overlay = 2;</code>
+     */
+    @java.lang.Override
+    public com.booleworks.logicng.serialization.solvers.ProtoBufSolverContainer.PBSolverOverlayOrBuilder getOverlayOrBuilder(
+        int index) {
+      return overlay_.get(index);
+    }
+
+    private byte memoizedIsInitialized = -1;
+    @java.lang.Override
+    public final boolean isInitialized() {
+      byte isInitialized = memoizedIsInitialized;
+      if (isInitialized == 1) return true;
+      if (isInitialized == 0) return false;
+
+      memoizedIsInitialized = 1;
+      return true;
+    }
+
+    @java.lang.Override
+    public void writeTo(com.google.protobuf.CodedOutputStream output)
+                        throws java.io.IOException {
+      if (((bitField0_ & 0x00000001) != 0)) {
+        output.writeMessage(1, getBase());
+      }
+      for (int i = 0; i < overlay_.size(); i++) {
+        output.writeMessage(2, overlay_.get(i));
+      }
+      getUnknownFields().writeTo(output);
+    }
+
+    @java.lang.Override
+    public int getSerializedSize() {
+      int size = memoizedSize;
+      if (size != -1) return size;
+
+      size = 0;
+      if (((bitField0_ & 0x00000001) != 0)) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeMessageSize(1, getBase());
+      }
+      for (int i = 0; i < overlay_.size(); i++) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeMessageSize(2, overlay_.get(i));
+      }
+      size += getUnknownFields().getSerializedSize();
+      memoizedSize = size;
+      return size;
+    }
+
+    @java.lang.Override
+    public boolean equals(final java.lang.Object obj) {
+      if (obj == this) {
+       return true;
+      }
+      if (!(obj instanceof com.booleworks.logicng.serialization.solvers.ProtoBufSolverContainer.PBSolverContainer)) {
+        return super.equals(obj);
+      }
+      com.booleworks.logicng.serialization.solvers.ProtoBufSolverContainer.PBSolverContainer other = (com.booleworks.logicng.serialization.solvers.ProtoBufSolverContainer.PBSolverContainer) obj;
+
+      if (hasBase() != other.hasBase()) return false;
+      if (hasBase()) {
+        if (!getBase()
+            .equals(other.getBase())) return false;
+      }
+      if (!getOverlayList()
+          .equals(other.getOverlayList())) return false;
+      if (!getUnknownFields().equals(other.getUnknownFields())) return false;
+      return true;
+    }
+
+    @java.lang.Override
+    public int hashCode() {
+      if (memoizedHashCode != 0) {
+        return memoizedHashCode;
+      }
+      int hash = 41;
+      hash = (19 * hash) + getDescriptor().hashCode();
+      if (hasBase()) {
+        hash = (37 * hash) + BASE_FIELD_NUMBER;
+        hash = (53 * hash) + getBase().hashCode();
+      }
+      if (getOverlayCount() > 0) {
+        hash = (37 * hash) + OVERLAY_FIELD_NUMBER;
+        hash = (53 * hash) + getOverlayList().hashCode();
+      }
+      hash = (29 * hash) + getUnknownFields().hashCode();
+      memoizedHashCode = hash;
+      return hash;
+    }
+
+    public static com.booleworks.logicng.serialization.solvers.ProtoBufSolverContainer.PBSolverContainer parseFrom(
+        java.nio.ByteBuffer data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static com.booleworks.logicng.serialization.solvers.ProtoBufSolverContainer.PBSolverContainer parseFrom(
+        java.nio.ByteBuffer data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static com.booleworks.logicng.serialization.solvers.ProtoBufSolverContainer.PBSolverContainer parseFrom(
+        com.google.protobuf.ByteString data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static com.booleworks.logicng.serialization.solvers.ProtoBufSolverContainer.PBSolverContainer parseFrom(
+        com.google.protobuf.ByteString data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static com.booleworks.logicng.serialization.solvers.ProtoBufSolverContainer.PBSolverContainer parseFrom(byte[] data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static com.booleworks.logicng.serialization.solvers.ProtoBufSolverContainer.PBSolverContainer parseFrom(
+        byte[] data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static com.booleworks.logicng.serialization.solvers.ProtoBufSolverContainer.PBSolverContainer parseFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessage
+          .parseWithIOException(PARSER, input);
+    }
+    public static com.booleworks.logicng.serialization.solvers.ProtoBufSolverContainer.PBSolverContainer parseFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessage
+          .parseWithIOException(PARSER, input, extensionRegistry);
+    }
+
+    public static com.booleworks.logicng.serialization.solvers.ProtoBufSolverContainer.PBSolverContainer parseDelimitedFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessage
+          .parseDelimitedWithIOException(PARSER, input);
+    }
+
+    public static com.booleworks.logicng.serialization.solvers.ProtoBufSolverContainer.PBSolverContainer parseDelimitedFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessage
+          .parseDelimitedWithIOException(PARSER, input, extensionRegistry);
+    }
+    public static com.booleworks.logicng.serialization.solvers.ProtoBufSolverContainer.PBSolverContainer parseFrom(
+        com.google.protobuf.CodedInputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessage
+          .parseWithIOException(PARSER, input);
+    }
+    public static com.booleworks.logicng.serialization.solvers.ProtoBufSolverContainer.PBSolverContainer parseFrom(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessage
+          .parseWithIOException(PARSER, input, extensionRegistry);
+    }
+
+    @java.lang.Override
+    public Builder newBuilderForType() { return newBuilder(); }
+    public static Builder newBuilder() {
+      return DEFAULT_INSTANCE.toBuilder();
+    }
+    public static Builder newBuilder(com.booleworks.logicng.serialization.solvers.ProtoBufSolverContainer.PBSolverContainer prototype) {
+      return DEFAULT_INSTANCE.toBuilder().mergeFrom(prototype);
+    }
+    @java.lang.Override
+    public Builder toBuilder() {
+      return this == DEFAULT_INSTANCE
+          ? new Builder() : new Builder().mergeFrom(this);
+    }
+
+    @java.lang.Override
+    protected Builder newBuilderForType(
+        com.google.protobuf.GeneratedMessage.BuilderParent parent) {
+      Builder builder = new Builder(parent);
+      return builder;
+    }
+    /**
+     * Protobuf type {@code solver.PBSolverContainer}
+     */
+    public static final class Builder extends
+        com.google.protobuf.GeneratedMessage.Builder<Builder> implements
+        // @@protoc_insertion_point(builder_implements:solver.PBSolverContainer)
+        com.booleworks.logicng.serialization.solvers.ProtoBufSolverContainer.PBSolverContainerOrBuilder {
+      public static final com.google.protobuf.Descriptors.Descriptor
+          getDescriptor() {
+        return com.booleworks.logicng.serialization.solvers.ProtoBufSolverContainer.internal_static_solver_PBSolverContainer_descriptor;
+      }
+
+      @java.lang.Override
+      protected com.google.protobuf.GeneratedMessage.FieldAccessorTable
+          internalGetFieldAccessorTable() {
+        return com.booleworks.logicng.serialization.solvers.ProtoBufSolverContainer.internal_static_solver_PBSolverContainer_fieldAccessorTable
+            .ensureFieldAccessorsInitialized(
+                com.booleworks.logicng.serialization.solvers.ProtoBufSolverContainer.PBSolverContainer.class, com.booleworks.logicng.serialization.solvers.ProtoBufSolverContainer.PBSolverContainer.Builder.class);
+      }
+
+      // Construct using com.booleworks.logicng.serialization.solvers.ProtoBufSolverContainer.PBSolverContainer.newBuilder()
+      private Builder() {
+        maybeForceBuilderInitialization();
+      }
+
+      private Builder(
+          com.google.protobuf.GeneratedMessage.BuilderParent parent) {
+        super(parent);
+        maybeForceBuilderInitialization();
+      }
+      private void maybeForceBuilderInitialization() {
+        if (com.google.protobuf.GeneratedMessage
+                .alwaysUseFieldBuilders) {
+          getBaseFieldBuilder();
+          getOverlayFieldBuilder();
+        }
+      }
+      @java.lang.Override
+      public Builder clear() {
+        super.clear();
+        bitField0_ = 0;
+        base_ = null;
+        if (baseBuilder_ != null) {
+          baseBuilder_.dispose();
+          baseBuilder_ = null;
+        }
+        if (overlayBuilder_ == null) {
+          overlay_ = java.util.Collections.emptyList();
+        } else {
+          overlay_ = null;
+          overlayBuilder_.clear();
+        }
+        bitField0_ = (bitField0_ & ~0x00000002);
+        return this;
+      }
+
+      @java.lang.Override
+      public com.google.protobuf.Descriptors.Descriptor
+          getDescriptorForType() {
+        return com.booleworks.logicng.serialization.solvers.ProtoBufSolverContainer.internal_static_solver_PBSolverContainer_descriptor;
+      }
+
+      @java.lang.Override
+      public com.booleworks.logicng.serialization.solvers.ProtoBufSolverContainer.PBSolverContainer getDefaultInstanceForType() {
+        return com.booleworks.logicng.serialization.solvers.ProtoBufSolverContainer.PBSolverContainer.getDefaultInstance();
+      }
+
+      @java.lang.Override
+      public com.booleworks.logicng.serialization.solvers.ProtoBufSolverContainer.PBSolverContainer build() {
+        com.booleworks.logicng.serialization.solvers.ProtoBufSolverContainer.PBSolverContainer result = buildPartial();
+        if (!result.isInitialized()) {
+          throw newUninitializedMessageException(result);
+        }
+        return result;
+      }
+
+      @java.lang.Override
+      public com.booleworks.logicng.serialization.solvers.ProtoBufSolverContainer.PBSolverContainer buildPartial() {
+        com.booleworks.logicng.serialization.solvers.ProtoBufSolverContainer.PBSolverContainer result = new com.booleworks.logicng.serialization.solvers.ProtoBufSolverContainer.PBSolverContainer(this);
+        buildPartialRepeatedFields(result);
+        if (bitField0_ != 0) { buildPartial0(result); }
+        onBuilt();
+        return result;
+      }
+
+      private void buildPartialRepeatedFields(com.booleworks.logicng.serialization.solvers.ProtoBufSolverContainer.PBSolverContainer result) {
+        if (overlayBuilder_ == null) {
+          if (((bitField0_ & 0x00000002) != 0)) {
+            overlay_ = java.util.Collections.unmodifiableList(overlay_);
+            bitField0_ = (bitField0_ & ~0x00000002);
+          }
+          result.overlay_ = overlay_;
+        } else {
+          result.overlay_ = overlayBuilder_.build();
+        }
+      }
+
+      private void buildPartial0(com.booleworks.logicng.serialization.solvers.ProtoBufSolverContainer.PBSolverContainer result) {
+        int from_bitField0_ = bitField0_;
+        int to_bitField0_ = 0;
+        if (((from_bitField0_ & 0x00000001) != 0)) {
+          result.base_ = baseBuilder_ == null
+              ? base_
+              : baseBuilder_.build();
+          to_bitField0_ |= 0x00000001;
+        }
+        result.bitField0_ |= to_bitField0_;
+      }
+
+      @java.lang.Override
+      public Builder mergeFrom(com.google.protobuf.Message other) {
+        if (other instanceof com.booleworks.logicng.serialization.solvers.ProtoBufSolverContainer.PBSolverContainer) {
+          return mergeFrom((com.booleworks.logicng.serialization.solvers.ProtoBufSolverContainer.PBSolverContainer)other);
+        } else {
+          super.mergeFrom(other);
+          return this;
+        }
+      }
+
+      public Builder mergeFrom(com.booleworks.logicng.serialization.solvers.ProtoBufSolverContainer.PBSolverContainer other) {
+        if (other == com.booleworks.logicng.serialization.solvers.ProtoBufSolverContainer.PBSolverContainer.getDefaultInstance()) return this;
+        if (other.hasBase()) {
+          mergeBase(other.getBase());
+        }
+        if (overlayBuilder_ == null) {
+          if (!other.overlay_.isEmpty()) {
+            if (overlay_.isEmpty()) {
+              overlay_ = other.overlay_;
+              bitField0_ = (bitField0_ & ~0x00000002);
+            } else {
+              ensureOverlayIsMutable();
+              overlay_.addAll(other.overlay_);
+            }
+            onChanged();
+          }
+        } else {
+          if (!other.overlay_.isEmpty()) {
+            if (overlayBuilder_.isEmpty()) {
+              overlayBuilder_.dispose();
+              overlayBuilder_ = null;
+              overlay_ = other.overlay_;
+              bitField0_ = (bitField0_ & ~0x00000002);
+              overlayBuilder_ = 
+                com.google.protobuf.GeneratedMessage.alwaysUseFieldBuilders ?
+                   getOverlayFieldBuilder() : null;
+            } else {
+              overlayBuilder_.addAllMessages(other.overlay_);
+            }
+          }
+        }
+        this.mergeUnknownFields(other.getUnknownFields());
+        onChanged();
+        return this;
+      }
+
+      @java.lang.Override
+      public final boolean isInitialized() {
+        return true;
+      }
+
+      @java.lang.Override
+      public Builder mergeFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws java.io.IOException {
+        if (extensionRegistry == null) {
+          throw new java.lang.NullPointerException();
+        }
+        try {
+          boolean done = false;
+          while (!done) {
+            int tag = input.readTag();
+            switch (tag) {
+              case 0:
+                done = true;
+                break;
+              case 10: {
+                input.readMessage(
+                    getBaseFieldBuilder().getBuilder(),
+                    extensionRegistry);
+                bitField0_ |= 0x00000001;
+                break;
+              } // case 10
+              case 18: {
+                com.booleworks.logicng.serialization.solvers.ProtoBufSolverContainer.PBSolverOverlay m =
+                    input.readMessage(
+                        com.booleworks.logicng.serialization.solvers.ProtoBufSolverContainer.PBSolverOverlay.parser(),
+                        extensionRegistry);
+                if (overlayBuilder_ == null) {
+                  ensureOverlayIsMutable();
+                  overlay_.add(m);
+                } else {
+                  overlayBuilder_.addMessage(m);
+                }
+                break;
+              } // case 18
+              default: {
+                if (!super.parseUnknownField(input, extensionRegistry, tag)) {
+                  done = true; // was an endgroup tag
+                }
+                break;
+              } // default:
+            } // switch (tag)
+          } // while (!done)
+        } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+          throw e.unwrapIOException();
+        } finally {
+          onChanged();
+        } // finally
+        return this;
+      }
+      private int bitField0_;
+
+      private com.booleworks.logicng.serialization.solvers.ProtoBufSatSolver.PBSatSolver base_;
+      private com.google.protobuf.SingleFieldBuilder<
+          com.booleworks.logicng.serialization.solvers.ProtoBufSatSolver.PBSatSolver, com.booleworks.logicng.serialization.solvers.ProtoBufSatSolver.PBSatSolver.Builder, com.booleworks.logicng.serialization.solvers.ProtoBufSatSolver.PBSatSolverOrBuilder> baseBuilder_;
+      /**
+       * <code>.solver.PBSatSolver base = 1;</code>
+       * @return Whether the base field is set.
+       */
+      public boolean hasBase() {
+        return ((bitField0_ & 0x00000001) != 0);
+      }
+      /**
+       * <code>.solver.PBSatSolver base = 1;</code>
+       * @return The base.
+       */
+      public com.booleworks.logicng.serialization.solvers.ProtoBufSatSolver.PBSatSolver getBase() {
+        if (baseBuilder_ == null) {
+          return base_ == null ? com.booleworks.logicng.serialization.solvers.ProtoBufSatSolver.PBSatSolver.getDefaultInstance() : base_;
+        } else {
+          return baseBuilder_.getMessage();
+        }
+      }
+      /**
+       * <code>.solver.PBSatSolver base = 1;</code>
+       */
+      public Builder setBase(com.booleworks.logicng.serialization.solvers.ProtoBufSatSolver.PBSatSolver value) {
+        if (baseBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          base_ = value;
+        } else {
+          baseBuilder_.setMessage(value);
+        }
+        bitField0_ |= 0x00000001;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>.solver.PBSatSolver base = 1;</code>
+       */
+      public Builder setBase(
+          com.booleworks.logicng.serialization.solvers.ProtoBufSatSolver.PBSatSolver.Builder builderForValue) {
+        if (baseBuilder_ == null) {
+          base_ = builderForValue.build();
+        } else {
+          baseBuilder_.setMessage(builderForValue.build());
+        }
+        bitField0_ |= 0x00000001;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>.solver.PBSatSolver base = 1;</code>
+       */
+      public Builder mergeBase(com.booleworks.logicng.serialization.solvers.ProtoBufSatSolver.PBSatSolver value) {
+        if (baseBuilder_ == null) {
+          if (((bitField0_ & 0x00000001) != 0) &&
+            base_ != null &&
+            base_ != com.booleworks.logicng.serialization.solvers.ProtoBufSatSolver.PBSatSolver.getDefaultInstance()) {
+            getBaseBuilder().mergeFrom(value);
+          } else {
+            base_ = value;
+          }
+        } else {
+          baseBuilder_.mergeFrom(value);
+        }
+        if (base_ != null) {
+          bitField0_ |= 0x00000001;
+          onChanged();
+        }
+        return this;
+      }
+      /**
+       * <code>.solver.PBSatSolver base = 1;</code>
+       */
+      public Builder clearBase() {
+        bitField0_ = (bitField0_ & ~0x00000001);
+        base_ = null;
+        if (baseBuilder_ != null) {
+          baseBuilder_.dispose();
+          baseBuilder_ = null;
+        }
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>.solver.PBSatSolver base = 1;</code>
+       */
+      public com.booleworks.logicng.serialization.solvers.ProtoBufSatSolver.PBSatSolver.Builder getBaseBuilder() {
+        bitField0_ |= 0x00000001;
+        onChanged();
+        return getBaseFieldBuilder().getBuilder();
+      }
+      /**
+       * <code>.solver.PBSatSolver base = 1;</code>
+       */
+      public com.booleworks.logicng.serialization.solvers.ProtoBufSatSolver.PBSatSolverOrBuilder getBaseOrBuilder() {
+        if (baseBuilder_ != null) {
+          return baseBuilder_.getMessageOrBuilder();
+        } else {
+          return base_ == null ?
+              com.booleworks.logicng.serialization.solvers.ProtoBufSatSolver.PBSatSolver.getDefaultInstance() : base_;
+        }
+      }
+      /**
+       * <code>.solver.PBSatSolver base = 1;</code>
+       */
+      private com.google.protobuf.SingleFieldBuilder<
+          com.booleworks.logicng.serialization.solvers.ProtoBufSatSolver.PBSatSolver, com.booleworks.logicng.serialization.solvers.ProtoBufSatSolver.PBSatSolver.Builder, com.booleworks.logicng.serialization.solvers.ProtoBufSatSolver.PBSatSolverOrBuilder> 
+          getBaseFieldBuilder() {
+        if (baseBuilder_ == null) {
+          baseBuilder_ = new com.google.protobuf.SingleFieldBuilder<
+              com.booleworks.logicng.serialization.solvers.ProtoBufSatSolver.PBSatSolver, com.booleworks.logicng.serialization.solvers.ProtoBufSatSolver.PBSatSolver.Builder, com.booleworks.logicng.serialization.solvers.ProtoBufSatSolver.PBSatSolverOrBuilder>(
+                  getBase(),
+                  getParentForChildren(),
+                  isClean());
+          base_ = null;
+        }
+        return baseBuilder_;
+      }
+
+      private java.util.List<com.booleworks.logicng.serialization.solvers.ProtoBufSolverContainer.PBSolverOverlay> overlay_ =
+        java.util.Collections.emptyList();
+      private void ensureOverlayIsMutable() {
+        if (!((bitField0_ & 0x00000002) != 0)) {
+          overlay_ = new java.util.ArrayList<com.booleworks.logicng.serialization.solvers.ProtoBufSolverContainer.PBSolverOverlay>(overlay_);
+          bitField0_ |= 0x00000002;
+         }
+      }
+
+      private com.google.protobuf.RepeatedFieldBuilder<
+          com.booleworks.logicng.serialization.solvers.ProtoBufSolverContainer.PBSolverOverlay, com.booleworks.logicng.serialization.solvers.ProtoBufSolverContainer.PBSolverOverlay.Builder, com.booleworks.logicng.serialization.solvers.ProtoBufSolverContainer.PBSolverOverlayOrBuilder> overlayBuilder_;
+
+      /**
+       * <code>repeated .solver.PBSolverOverlay overlay = 2;</code>
+       */
+      public java.util.List<com.booleworks.logicng.serialization.solvers.ProtoBufSolverContainer.PBSolverOverlay> getOverlayList() {
+        if (overlayBuilder_ == null) {
+          return java.util.Collections.unmodifiableList(overlay_);
+        } else {
+          return overlayBuilder_.getMessageList();
+        }
+      }
+      /**
+       * <code>repeated .solver.PBSolverOverlay overlay = 2;</code>
+       */
+      public int getOverlayCount() {
+        if (overlayBuilder_ == null) {
+          return overlay_.size();
+        } else {
+          return overlayBuilder_.getCount();
+        }
+      }
+      /**
+       * <code>repeated .solver.PBSolverOverlay overlay = 2;</code>
+       */
+      public com.booleworks.logicng.serialization.solvers.ProtoBufSolverContainer.PBSolverOverlay getOverlay(int index) {
+        if (overlayBuilder_ == null) {
+          return overlay_.get(index);
+        } else {
+          return overlayBuilder_.getMessage(index);
+        }
+      }
+      /**
+       * <code>repeated .solver.PBSolverOverlay overlay = 2;</code>
+       */
+      public Builder setOverlay(
+          int index, com.booleworks.logicng.serialization.solvers.ProtoBufSolverContainer.PBSolverOverlay value) {
+        if (overlayBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          ensureOverlayIsMutable();
+          overlay_.set(index, value);
+          onChanged();
+        } else {
+          overlayBuilder_.setMessage(index, value);
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .solver.PBSolverOverlay overlay = 2;</code>
+       */
+      public Builder setOverlay(
+          int index, com.booleworks.logicng.serialization.solvers.ProtoBufSolverContainer.PBSolverOverlay.Builder builderForValue) {
+        if (overlayBuilder_ == null) {
+          ensureOverlayIsMutable();
+          overlay_.set(index, builderForValue.build());
+          onChanged();
+        } else {
+          overlayBuilder_.setMessage(index, builderForValue.build());
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .solver.PBSolverOverlay overlay = 2;</code>
+       */
+      public Builder addOverlay(com.booleworks.logicng.serialization.solvers.ProtoBufSolverContainer.PBSolverOverlay value) {
+        if (overlayBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          ensureOverlayIsMutable();
+          overlay_.add(value);
+          onChanged();
+        } else {
+          overlayBuilder_.addMessage(value);
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .solver.PBSolverOverlay overlay = 2;</code>
+       */
+      public Builder addOverlay(
+          int index, com.booleworks.logicng.serialization.solvers.ProtoBufSolverContainer.PBSolverOverlay value) {
+        if (overlayBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          ensureOverlayIsMutable();
+          overlay_.add(index, value);
+          onChanged();
+        } else {
+          overlayBuilder_.addMessage(index, value);
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .solver.PBSolverOverlay overlay = 2;</code>
+       */
+      public Builder addOverlay(
+          com.booleworks.logicng.serialization.solvers.ProtoBufSolverContainer.PBSolverOverlay.Builder builderForValue) {
+        if (overlayBuilder_ == null) {
+          ensureOverlayIsMutable();
+          overlay_.add(builderForValue.build());
+          onChanged();
+        } else {
+          overlayBuilder_.addMessage(builderForValue.build());
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .solver.PBSolverOverlay overlay = 2;</code>
+       */
+      public Builder addOverlay(
+          int index, com.booleworks.logicng.serialization.solvers.ProtoBufSolverContainer.PBSolverOverlay.Builder builderForValue) {
+        if (overlayBuilder_ == null) {
+          ensureOverlayIsMutable();
+          overlay_.add(index, builderForValue.build());
+          onChanged();
+        } else {
+          overlayBuilder_.addMessage(index, builderForValue.build());
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .solver.PBSolverOverlay overlay = 2;</code>
+       */
+      public Builder addAllOverlay(
+          java.lang.Iterable<? extends com.booleworks.logicng.serialization.solvers.ProtoBufSolverContainer.PBSolverOverlay> values) {
+        if (overlayBuilder_ == null) {
+          ensureOverlayIsMutable();
+          com.google.protobuf.AbstractMessageLite.Builder.addAll(
+              values, overlay_);
+          onChanged();
+        } else {
+          overlayBuilder_.addAllMessages(values);
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .solver.PBSolverOverlay overlay = 2;</code>
+       */
+      public Builder clearOverlay() {
+        if (overlayBuilder_ == null) {
+          overlay_ = java.util.Collections.emptyList();
+          bitField0_ = (bitField0_ & ~0x00000002);
+          onChanged();
+        } else {
+          overlayBuilder_.clear();
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .solver.PBSolverOverlay overlay = 2;</code>
+       */
+      public Builder removeOverlay(int index) {
+        if (overlayBuilder_ == null) {
+          ensureOverlayIsMutable();
+          overlay_.remove(index);
+          onChanged();
+        } else {
+          overlayBuilder_.remove(index);
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .solver.PBSolverOverlay overlay = 2;</code>
+       */
+      public com.booleworks.logicng.serialization.solvers.ProtoBufSolverContainer.PBSolverOverlay.Builder getOverlayBuilder(
+          int index) {
+        return getOverlayFieldBuilder().getBuilder(index);
+      }
+      /**
+       * <code>repeated .solver.PBSolverOverlay overlay = 2;</code>
+       */
+      public com.booleworks.logicng.serialization.solvers.ProtoBufSolverContainer.PBSolverOverlayOrBuilder getOverlayOrBuilder(
+          int index) {
+        if (overlayBuilder_ == null) {
+          return overlay_.get(index);  } else {
+          return overlayBuilder_.getMessageOrBuilder(index);
+        }
+      }
+      /**
+       * <code>repeated .solver.PBSolverOverlay overlay = 2;</code>
+       */
+      public java.util.List<? extends com.booleworks.logicng.serialization.solvers.ProtoBufSolverContainer.PBSolverOverlayOrBuilder> 
+           getOverlayOrBuilderList() {
+        if (overlayBuilder_ != null) {
+          return overlayBuilder_.getMessageOrBuilderList();
+        } else {
+          return java.util.Collections.unmodifiableList(overlay_);
+        }
+      }
+      /**
+       * <code>repeated .solver.PBSolverOverlay overlay = 2;</code>
+       */
+      public com.booleworks.logicng.serialization.solvers.ProtoBufSolverContainer.PBSolverOverlay.Builder addOverlayBuilder() {
+        return getOverlayFieldBuilder().addBuilder(
+            com.booleworks.logicng.serialization.solvers.ProtoBufSolverContainer.PBSolverOverlay.getDefaultInstance());
+      }
+      /**
+       * <code>repeated .solver.PBSolverOverlay overlay = 2;</code>
+       */
+      public com.booleworks.logicng.serialization.solvers.ProtoBufSolverContainer.PBSolverOverlay.Builder addOverlayBuilder(
+          int index) {
+        return getOverlayFieldBuilder().addBuilder(
+            index, com.booleworks.logicng.serialization.solvers.ProtoBufSolverContainer.PBSolverOverlay.getDefaultInstance());
+      }
+      /**
+       * <code>repeated .solver.PBSolverOverlay overlay = 2;</code>
+       */
+      public java.util.List<com.booleworks.logicng.serialization.solvers.ProtoBufSolverContainer.PBSolverOverlay.Builder> 
+           getOverlayBuilderList() {
+        return getOverlayFieldBuilder().getBuilderList();
+      }
+      private com.google.protobuf.RepeatedFieldBuilder<
+          com.booleworks.logicng.serialization.solvers.ProtoBufSolverContainer.PBSolverOverlay, com.booleworks.logicng.serialization.solvers.ProtoBufSolverContainer.PBSolverOverlay.Builder, com.booleworks.logicng.serialization.solvers.ProtoBufSolverContainer.PBSolverOverlayOrBuilder> 
+          getOverlayFieldBuilder() {
+        if (overlayBuilder_ == null) {
+          overlayBuilder_ = new com.google.protobuf.RepeatedFieldBuilder<
+              com.booleworks.logicng.serialization.solvers.ProtoBufSolverContainer.PBSolverOverlay, com.booleworks.logicng.serialization.solvers.ProtoBufSolverContainer.PBSolverOverlay.Builder, com.booleworks.logicng.serialization.solvers.ProtoBufSolverContainer.PBSolverOverlayOrBuilder>(
+                  overlay_,
+                  ((bitField0_ & 0x00000002) != 0),
+                  getParentForChildren(),
+                  isClean());
+          overlay_ = null;
+        }
+        return overlayBuilder_;
+      }
+
+      // @@protoc_insertion_point(builder_scope:solver.PBSolverContainer)
+    }
+
+    // @@protoc_insertion_point(class_scope:solver.PBSolverContainer)
+    private static final com.booleworks.logicng.serialization.solvers.ProtoBufSolverContainer.PBSolverContainer DEFAULT_INSTANCE;
+    static {
+      DEFAULT_INSTANCE = new com.booleworks.logicng.serialization.solvers.ProtoBufSolverContainer.PBSolverContainer();
+    }
+
+    public static com.booleworks.logicng.serialization.solvers.ProtoBufSolverContainer.PBSolverContainer getDefaultInstance() {
+      return DEFAULT_INSTANCE;
+    }
+
+    private static final com.google.protobuf.Parser<PBSolverContainer>
+        PARSER = new com.google.protobuf.AbstractParser<PBSolverContainer>() {
+      @java.lang.Override
+      public PBSolverContainer parsePartialFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws com.google.protobuf.InvalidProtocolBufferException {
+        Builder builder = newBuilder();
+        try {
+          builder.mergeFrom(input, extensionRegistry);
+        } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+          throw e.setUnfinishedMessage(builder.buildPartial());
+        } catch (com.google.protobuf.UninitializedMessageException e) {
+          throw e.asInvalidProtocolBufferException().setUnfinishedMessage(builder.buildPartial());
+        } catch (java.io.IOException e) {
+          throw new com.google.protobuf.InvalidProtocolBufferException(e)
+              .setUnfinishedMessage(builder.buildPartial());
+        }
+        return builder.buildPartial();
+      }
+    };
+
+    public static com.google.protobuf.Parser<PBSolverContainer> parser() {
+      return PARSER;
+    }
+
+    @java.lang.Override
+    public com.google.protobuf.Parser<PBSolverContainer> getParserForType() {
+      return PARSER;
+    }
+
+    @java.lang.Override
+    public com.booleworks.logicng.serialization.solvers.ProtoBufSolverContainer.PBSolverContainer getDefaultInstanceForType() {
+      return DEFAULT_INSTANCE;
+    }
+
+  }
+
+  public interface PBSolverOverlayOrBuilder extends
+      // @@protoc_insertion_point(interface_extends:solver.PBSolverOverlay)
+      com.google.protobuf.MessageOrBuilder {
+
+    /**
+     * <pre>
+     * without config if equal to the config of the base
+     * </pre>
+     *
+     * <code>.solver.PBSatSolver solver = 1;</code>
+     * @return Whether the solver field is set.
+     */
+    boolean hasSolver();
+    /**
+     * <pre>
+     * without config if equal to the config of the base
+     * </pre>
+     *
+     * <code>.solver.PBSatSolver solver = 1;</code>
+     * @return The solver.
+     */
+    com.booleworks.logicng.serialization.solvers.ProtoBufSatSolver.PBSatSolver getSolver();
+    /**
+     * <pre>
+     * without config if equal to the config of the base
+     * </pre>
+     *
+     * <code>.solver.PBSatSolver solver = 1;</code>
+     */
+    com.booleworks.logicng.serialization.solvers.ProtoBufSatSolver.PBSatSolverOrBuilder getSolverOrBuilder();
+
+    /**
+     * <code>int32 numClauses = 2;</code>
+     * @return The numClauses.
+     */
+    int getNumClauses();
+
+    /**
+     * <code>bool ownName2Idx = 3;</code>
+     * @return The ownName2Idx.
+     */
+    boolean getOwnName2Idx();
+
+    /**
+     * <pre>
+     * for clauses with the literals of the base clause with the same ID
+     * </pre>
+     *
+     * <code>repeated .solver.PBClauseMetadata clauseMetadata = 4;</code>
+     */
+    java.util.List<com.booleworks.logicng.serialization.solvers.ProtoBufSolverContainer.PBClauseMetadata> 
+        getClauseMetadataList();
+    /**
+     * <pre>
+     * for clauses with the literals of the base clause with the same ID
+     * </pre>
+     *
+     * <code>repeated .solver.PBClauseMetadata clauseMetadata = 4;</code>
+     */
+    com.booleworks.logicng.serialization.solvers.ProtoBufSolverContainer.PBClauseMetadata getClauseMetadata(int index);
+    /**
+     * <pre>
+     * for clauses with the literals of the base clause with the same ID
+     * </pre>
+     *
+     * <code>repeated .solver.PBClauseMetadata clauseMetadata = 4;</code>
+     */
+    int getClauseMetadataCount();
+    /**
+     * <pre>
+     * for clauses with the literals of the base clause with the same ID
+     * </pre>
+     *
+     * <code>repeated .solver.PBClauseMetadata clauseMetadata = 4;</code>
+     */
+    java.util.List<? extends com.booleworks.logicng.serialization.solvers.ProtoBufSolverContainer.PBClauseMetadataOrBuilder> 
+        getClauseMetadataOrBuilderList();
+    /**
+     * <pre>
+     * for clauses with the literals of the base clause with the same ID
+     * </pre>
+     *
+     * <code>repeated .solver.PBClauseMetadata clauseMetadata = 4;</code>
+     */
+    com.booleworks.logicng.serialization.solvers.ProtoBufSolverContainer.PBClauseMetadataOrBuilder getClauseMetadataOrBuilder(
+        int index);
+  }
+  /**
+   * Protobuf type {@code solver.PBSolverOverlay}
+   */
+  public static final class PBSolverOverlay extends
+      com.google.protobuf.GeneratedMessage implements
+      // @@protoc_insertion_point(message_implements:solver.PBSolverOverlay)
+      PBSolverOverlayOrBuilder {
+  private static final long serialVersionUID = 0L;
+    static {
+      com.google.protobuf.RuntimeVersion.validateProtobufGencodeVersion(
+        com.google.protobuf.RuntimeVersion.RuntimeDomain.PUBLIC,
+        /* major= */ 4,
+        /* minor= */ 26,
+        /* patch= */ 1,
+        /* suffix= */ "",
+        PBSolverOverlay.class.getName());
+    }
+    // Use PBSolverOverlay.newBuilder() to construct.
+    private PBSolverOverlay(com.google.protobuf.GeneratedMessage.Builder<?> builder) {
+      super(builder);
+    }
+    private PBSolverOverlay() {
+      clauseMetadata_ = java.util.Collections.emptyList();
+    }
+
+    public static final com.google.protobuf.Descriptors.Descriptor
+        getDescriptor() {
+      return com.booleworks.logicng.serialization.solvers.ProtoBufSolverContainer.internal_static_solver_PBSolverOverlay_descriptor;
+    }
+
+    @java.lang.Override
+    protected com.google.protobuf.GeneratedMessage.FieldAccessorTable
+        internalGetFieldAccessorTable() {
+      return com.booleworks.logicng.serialization.solvers.ProtoBufSolverContainer.internal_static_solver_PBSolverOverlay_fieldAccessorTable
+          .ensureFieldAccessorsInitialized(
+              com.booleworks.logicng.serialization.solvers.ProtoBufSolverContainer.PBSolverOverlay.class, com.booleworks.logicng.serialization.solvers.ProtoBufSolverContainer.PBSolverOverlay.Builder.class);
+    }
+
+    private int bitField0_;
+    public static final int SOLVER_FIELD_NUMBER = 1;
+    private com.booleworks.logicng.serialization.solvers.ProtoBufSatSolver.PBSatSolver solver_;
+    /**
+     * <pre>
+     * without config if equal to the config of the base
+     * </pre>
+     *
+     * <code>.solver.PBSatSolver solver = 1;</code>
+     * @return Whether the solver field is set.
+     */
+    @java.lang.Override
+    public boolean hasSolver() {
+      return ((bitField0_ & 0x00000001) != 0);
+    }
+    /**
+     * <pre>
+     * without config if equal to the config of the base
+     * </pre>
+     *
+     * <code>.solver.PBSatSolver solver = 1;</code>
+     * @return The solver.
+     */
+    @java.lang.Override
+    public com.booleworks.logicng.serialization.solvers.ProtoBufSatSolver.PBSatSolver getSolver() {
+      return solver_ == null ? com.booleworks.logicng.serialization.solvers.ProtoBufSatSolver.PBSatSolver.getDefaultInstance() : solver_;
+    }
+    /**
+     * <pre>
+     * without config if equal to the config of the base
+     * </pre>
+     *
+     * <code>.solver.PBSatSolver solver = 1;</code>
+     */
+    @java.lang.Override
+    public com.booleworks.logicng.serialization.solvers.ProtoBufSatSolver.PBSatSolverOrBuilder getSolverOrBuilder() {
+      return solver_ == null ? com.booleworks.logicng.serialization.solvers.ProtoBufSatSolver.PBSatSolver.getDefaultInstance() : solver_;
+    }
+
+    public static final int NUMCLAUSES_FIELD_NUMBER = 2;
+    private int numClauses_ = 0;
+    /**
+     * <code>int32 numClauses = 2;</code>
+     * @return The numClauses.
+     */
+    @java.lang.Override
+    public int getNumClauses() {
+      return numClauses_;
+    }
+
+    public static final int OWNNAME2IDX_FIELD_NUMBER = 3;
+    private boolean ownName2Idx_ = false;
+    /**
+     * <code>bool ownName2Idx = 3;</code>
+     * @return The ownName2Idx.
+     */
+    @java.lang.Override
+    public boolean getOwnName2Idx() {
+      return ownName2Idx_;
+    }
+
+    public static final int CLAUSEMETADATA_FIELD_NUMBER = 4;
+    @SuppressWarnings("serial")
+    private java.util.List<com.booleworks.logicng.serialization.solvers.ProtoBufSolverContainer.PBClauseMetadata> clauseMetadata_;
+    /**
+     * <pre>
+     * for clauses with the literals of the base clause with the same ID
+     * </pre>
+     *
+     * <code>repeated .solver.PBClauseMetadata clauseMetadata = 4;</code>
+     */
+    @java.lang.Override
+    public java.util.List<com.booleworks.logicng.serialization.solvers.ProtoBufSolverContainer.PBClauseMetadata> getClauseMetadataList() {
+      return clauseMetadata_;
+    }
+    /**
+     * <pre>
+     * for clauses with the literals of the base clause with the same ID
+     * </pre>
+     *
+     * <code>repeated .solver.PBClauseMetadata clauseMetadata = 4;</code>
+     */
+    @java.lang.Override
+    public java.util.List<? extends com.booleworks.logicng.serialization.solvers.ProtoBufSolverContainer.PBClauseMetadataOrBuilder> 
+        getClauseMetadataOrBuilderList() {
+      return clauseMetadata_;
+    }
+    /**
+     * <pre>
+     * for clauses with the literals of the base clause with the same ID
+     * </pre>
+     *
+     * <code>repeated .solver.PBClauseMetadata clauseMetadata = 4;</code>
+     */
+    @java.lang.Override
+    public int getClauseMetadataCount() {
+      return clauseMetadata_.size();
+    }
+    /**
+     * <pre>
+     * for clauses with the literals of the base clause with the same ID
+     * </pre>
+     *
+     * <code>repeated .solver.PBClauseMetadata clauseMetadata = 4;</code>
+     */
+    @java.lang.Override
+    public com.booleworks.logicng.serialization.solvers.ProtoBufSolverContainer.PBClauseMetadata getClauseMetadata(int index) {
+      return clauseMetadata_.get(index);
+    }
+    /**
+     * <pre>
+     * for clauses with the literals of the base clause with the same ID
+     * </pre>
+     *
+     * <code>repeated .solver.PBClauseMetadata clauseMetadata = 4;</code>
+     */
+    @java.lang.Override
+    public com.booleworks.logicng.serialization.solvers.ProtoBufSolverContainer.PBClauseMetadataOrBuilder getClauseMetadataOrBuilder(
+        int index) {
+      return clauseMetadata_.get(index);
+    }
+
+    private byte memoizedIsInitialized = -1;
+    @java.lang.Override
+    public final boolean isInitialized() {
+      byte isInitialized = memoizedIsInitialized;
+      if (isInitialized == 1) return true;
+      if (isInitialized == 0) return false;
+
+      memoizedIsInitialized = 1;
+      return true;
+    }
+
+    @java.lang.Override
+    public void writeTo(com.google.protobuf.CodedOutputStream output)
+                        throws java.io.IOException {
+      if (((bitField0_ & 0x00000001) != 0)) {
+        output.writeMessage(1, getSolver());
+      }
+      if (numClauses_ != 0) {
+        output.writeInt32(2, numClauses_);
+      }
+      if (ownName2Idx_ != false) {
+        output.writeBool(3, ownName2Idx_);
+      }
+      for (int i = 0; i < clauseMetadata_.size(); i++) {
+        output.writeMessage(4, clauseMetadata_.get(i));
+      }
+      getUnknownFields().writeTo(output);
+    }
+
+    @java.lang.Override
+    public int getSerializedSize() {
+      int size = memoizedSize;
+      if (size != -1) return size;
+
+      size = 0;
+      if (((bitField0_ & 0x00000001) != 0)) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeMessageSize(1, getSolver());
+      }
+      if (numClauses_ != 0) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeInt32Size(2, numClauses_);
+      }
+      if (ownName2Idx_ != false) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeBoolSize(3, ownName2Idx_);
+      }
+      for (int i = 0; i < clauseMetadata_.size(); i++) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeMessageSize(4, clauseMetadata_.get(i));
+      }
+      size += getUnknownFields().getSerializedSize();
+      memoizedSize = size;
+      return size;
+    }
+
+    @java.lang.Override
+    public boolean equals(final java.lang.Object obj) {
+      if (obj == this) {
+       return true;
+      }
+      if (!(obj instanceof com.booleworks.logicng.serialization.solvers.ProtoBufSolverContainer.PBSolverOverlay)) {
+        return super.equals(obj);
+      }
+      com.booleworks.logicng.serialization.solvers.ProtoBufSolverContainer.PBSolverOverlay other = (com.booleworks.logicng.serialization.solvers.ProtoBufSolverContainer.PBSolverOverlay) obj;
+
+      if (hasSolver() != other.hasSolver()) return false;
+      if (hasSolver()) {
+        if (!getSolver()
+            .equals(other.getSolver())) return false;
+      }
+      if (getNumClauses()
+          != other.getNumClauses()) return false;
+      if (getOwnName2Idx()
+          != other.getOwnName2Idx()) return false;
+      if (!getClauseMetadataList()
+          .equals(other.getClauseMetadataList())) return false;
+      if (!getUnknownFields().equals(other.getUnknownFields())) return false;
+      return true;
+    }
+
+    @java.lang.Override
+    public int hashCode() {
+      if (memoizedHashCode != 0) {
+        return memoizedHashCode;
+      }
+      int hash = 41;
+      hash = (19 * hash) + getDescriptor().hashCode();
+      if (hasSolver()) {
+        hash = (37 * hash) + SOLVER_FIELD_NUMBER;
+        hash = (53 * hash) + getSolver().hashCode();
+      }
+      hash = (37 * hash) + NUMCLAUSES_FIELD_NUMBER;
+      hash = (53 * hash) + getNumClauses();
+      hash = (37 * hash) + OWNNAME2IDX_FIELD_NUMBER;
+      hash = (53 * hash) + com.google.protobuf.Internal.hashBoolean(
+          getOwnName2Idx());
+      if (getClauseMetadataCount() > 0) {
+        hash = (37 * hash) + CLAUSEMETADATA_FIELD_NUMBER;
+        hash = (53 * hash) + getClauseMetadataList().hashCode();
+      }
+      hash = (29 * hash) + getUnknownFields().hashCode();
+      memoizedHashCode = hash;
+      return hash;
+    }
+
+    public static com.booleworks.logicng.serialization.solvers.ProtoBufSolverContainer.PBSolverOverlay parseFrom(
+        java.nio.ByteBuffer data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static com.booleworks.logicng.serialization.solvers.ProtoBufSolverContainer.PBSolverOverlay parseFrom(
+        java.nio.ByteBuffer data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static com.booleworks.logicng.serialization.solvers.ProtoBufSolverContainer.PBSolverOverlay parseFrom(
+        com.google.protobuf.ByteString data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static com.booleworks.logicng.serialization.solvers.ProtoBufSolverContainer.PBSolverOverlay parseFrom(
+        com.google.protobuf.ByteString data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static com.booleworks.logicng.serialization.solvers.ProtoBufSolverContainer.PBSolverOverlay parseFrom(byte[] data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static com.booleworks.logicng.serialization.solvers.ProtoBufSolverContainer.PBSolverOverlay parseFrom(
+        byte[] data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static com.booleworks.logicng.serialization.solvers.ProtoBufSolverContainer.PBSolverOverlay parseFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessage
+          .parseWithIOException(PARSER, input);
+    }
+    public static com.booleworks.logicng.serialization.solvers.ProtoBufSolverContainer.PBSolverOverlay parseFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessage
+          .parseWithIOException(PARSER, input, extensionRegistry);
+    }
+
+    public static com.booleworks.logicng.serialization.solvers.ProtoBufSolverContainer.PBSolverOverlay parseDelimitedFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessage
+          .parseDelimitedWithIOException(PARSER, input);
+    }
+
+    public static com.booleworks.logicng.serialization.solvers.ProtoBufSolverContainer.PBSolverOverlay parseDelimitedFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessage
+          .parseDelimitedWithIOException(PARSER, input, extensionRegistry);
+    }
+    public static com.booleworks.logicng.serialization.solvers.ProtoBufSolverContainer.PBSolverOverlay parseFrom(
+        com.google.protobuf.CodedInputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessage
+          .parseWithIOException(PARSER, input);
+    }
+    public static com.booleworks.logicng.serialization.solvers.ProtoBufSolverContainer.PBSolverOverlay parseFrom(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessage
+          .parseWithIOException(PARSER, input, extensionRegistry);
+    }
+
+    @java.lang.Override
+    public Builder newBuilderForType() { return newBuilder(); }
+    public static Builder newBuilder() {
+      return DEFAULT_INSTANCE.toBuilder();
+    }
+    public static Builder newBuilder(com.booleworks.logicng.serialization.solvers.ProtoBufSolverContainer.PBSolverOverlay prototype) {
+      return DEFAULT_INSTANCE.toBuilder().mergeFrom(prototype);
+    }
+    @java.lang.Override
+    public Builder toBuilder() {
+      return this == DEFAULT_INSTANCE
+          ? new Builder() : new Builder().mergeFrom(this);
+    }
+
+    @java.lang.Override
+    protected Builder newBuilderForType(
+        com.google.protobuf.GeneratedMessage.BuilderParent parent) {
+      Builder builder = new Builder(parent);
+      return builder;
+    }
+    /**
+     * Protobuf type {@code solver.PBSolverOverlay}
+     */
+    public static final class Builder extends
+        com.google.protobuf.GeneratedMessage.Builder<Builder> implements
+        // @@protoc_insertion_point(builder_implements:solver.PBSolverOverlay)
+        com.booleworks.logicng.serialization.solvers.ProtoBufSolverContainer.PBSolverOverlayOrBuilder {
+      public static final com.google.protobuf.Descriptors.Descriptor
+          getDescriptor() {
+        return com.booleworks.logicng.serialization.solvers.ProtoBufSolverContainer.internal_static_solver_PBSolverOverlay_descriptor;
+      }
+
+      @java.lang.Override
+      protected com.google.protobuf.GeneratedMessage.FieldAccessorTable
+          internalGetFieldAccessorTable() {
+        return com.booleworks.logicng.serialization.solvers.ProtoBufSolverContainer.internal_static_solver_PBSolverOverlay_fieldAccessorTable
+            .ensureFieldAccessorsInitialized(
+                com.booleworks.logicng.serialization.solvers.ProtoBufSolverContainer.PBSolverOverlay.class, com.booleworks.logicng.serialization.solvers.ProtoBufSolverContainer.PBSolverOverlay.Builder.class);
+      }
+
+      // Construct using com.booleworks.logicng.serialization.solvers.ProtoBufSolverContainer.PBSolverOverlay.newBuilder()
+      private Builder() {
+        maybeForceBuilderInitialization();
+      }
+
+      private Builder(
+          com.google.protobuf.GeneratedMessage.BuilderParent parent) {
+        super(parent);
+        maybeForceBuilderInitialization();
+      }
+      private void maybeForceBuilderInitialization() {
+        if (com.google.protobuf.GeneratedMessage
+                .alwaysUseFieldBuilders) {
+          getSolverFieldBuilder();
+          getClauseMetadataFieldBuilder();
+        }
+      }
+      @java.lang.Override
+      public Builder clear() {
+        super.clear();
+        bitField0_ = 0;
+        solver_ = null;
+        if (solverBuilder_ != null) {
+          solverBuilder_.dispose();
+          solverBuilder_ = null;
+        }
+        numClauses_ = 0;
+        ownName2Idx_ = false;
+        if (clauseMetadataBuilder_ == null) {
+          clauseMetadata_ = java.util.Collections.emptyList();
+        } else {
+          clauseMetadata_ = null;
+          clauseMetadataBuilder_.clear();
+        }
+        bitField0_ = (bitField0_ & ~0x00000008);
+        return this;
+      }
+
+      @java.lang.Override
+      public com.google.protobuf.Descriptors.Descriptor
+          getDescriptorForType() {
+        return com.booleworks.logicng.serialization.solvers.ProtoBufSolverContainer.internal_static_solver_PBSolverOverlay_descriptor;
+      }
+
+      @java.lang.Override
+      public com.booleworks.logicng.serialization.solvers.ProtoBufSolverContainer.PBSolverOverlay getDefaultInstanceForType() {
+        return com.booleworks.logicng.serialization.solvers.ProtoBufSolverContainer.PBSolverOverlay.getDefaultInstance();
+      }
+
+      @java.lang.Override
+      public com.booleworks.logicng.serialization.solvers.ProtoBufSolverContainer.PBSolverOverlay build() {
+        com.booleworks.logicng.serialization.solvers.ProtoBufSolverContainer.PBSolverOverlay result = buildPartial();
+        if (!result.isInitialized()) {
+          throw newUninitializedMessageException(result);
+        }
+        return result;
+      }
+
+      @java.lang.Override
+      public com.booleworks.logicng.serialization.solvers.ProtoBufSolverContainer.PBSolverOverlay buildPartial() {
+        com.booleworks.logicng.serialization.solvers.ProtoBufSolverContainer.PBSolverOverlay result = new com.booleworks.logicng.serialization.solvers.ProtoBufSolverContainer.PBSolverOverlay(this);
+        buildPartialRepeatedFields(result);
+        if (bitField0_ != 0) { buildPartial0(result); }
+        onBuilt();
+        return result;
+      }
+
+      private void buildPartialRepeatedFields(com.booleworks.logicng.serialization.solvers.ProtoBufSolverContainer.PBSolverOverlay result) {
+        if (clauseMetadataBuilder_ == null) {
+          if (((bitField0_ & 0x00000008) != 0)) {
+            clauseMetadata_ = java.util.Collections.unmodifiableList(clauseMetadata_);
+            bitField0_ = (bitField0_ & ~0x00000008);
+          }
+          result.clauseMetadata_ = clauseMetadata_;
+        } else {
+          result.clauseMetadata_ = clauseMetadataBuilder_.build();
+        }
+      }
+
+      private void buildPartial0(com.booleworks.logicng.serialization.solvers.ProtoBufSolverContainer.PBSolverOverlay result) {
+        int from_bitField0_ = bitField0_;
+        int to_bitField0_ = 0;
+        if (((from_bitField0_ & 0x00000001) != 0)) {
+          result.solver_ = solverBuilder_ == null
+              ? solver_
+              : solverBuilder_.build();
+          to_bitField0_ |= 0x00000001;
+        }
+        if (((from_bitField0_ & 0x00000002) != 0)) {
+          result.numClauses_ = numClauses_;
+        }
+        if (((from_bitField0_ & 0x00000004) != 0)) {
+          result.ownName2Idx_ = ownName2Idx_;
+        }
+        result.bitField0_ |= to_bitField0_;
+      }
+
+      @java.lang.Override
+      public Builder mergeFrom(com.google.protobuf.Message other) {
+        if (other instanceof com.booleworks.logicng.serialization.solvers.ProtoBufSolverContainer.PBSolverOverlay) {
+          return mergeFrom((com.booleworks.logicng.serialization.solvers.ProtoBufSolverContainer.PBSolverOverlay)other);
+        } else {
+          super.mergeFrom(other);
+          return this;
+        }
+      }
+
+      public Builder mergeFrom(com.booleworks.logicng.serialization.solvers.ProtoBufSolverContainer.PBSolverOverlay other) {
+        if (other == com.booleworks.logicng.serialization.solvers.ProtoBufSolverContainer.PBSolverOverlay.getDefaultInstance()) return this;
+        if (other.hasSolver()) {
+          mergeSolver(other.getSolver());
+        }
+        if (other.getNumClauses() != 0) {
+          setNumClauses(other.getNumClauses());
+        }
+        if (other.getOwnName2Idx() != false) {
+          setOwnName2Idx(other.getOwnName2Idx());
+        }
+        if (clauseMetadataBuilder_ == null) {
+          if (!other.clauseMetadata_.isEmpty()) {
+            if (clauseMetadata_.isEmpty()) {
+              clauseMetadata_ = other.clauseMetadata_;
+              bitField0_ = (bitField0_ & ~0x00000008);
+            } else {
+              ensureClauseMetadataIsMutable();
+              clauseMetadata_.addAll(other.clauseMetadata_);
+            }
+            onChanged();
+          }
+        } else {
+          if (!other.clauseMetadata_.isEmpty()) {
+            if (clauseMetadataBuilder_.isEmpty()) {
+              clauseMetadataBuilder_.dispose();
+              clauseMetadataBuilder_ = null;
+              clauseMetadata_ = other.clauseMetadata_;
+              bitField0_ = (bitField0_ & ~0x00000008);
+              clauseMetadataBuilder_ = 
+                com.google.protobuf.GeneratedMessage.alwaysUseFieldBuilders ?
+                   getClauseMetadataFieldBuilder() : null;
+            } else {
+              clauseMetadataBuilder_.addAllMessages(other.clauseMetadata_);
+            }
+          }
+        }
+        this.mergeUnknownFields(other.getUnknownFields());
+        onChanged();
+        return this;
+      }
+
+      @java.lang.Override
+      public final boolean isInitialized() {
+        return true;
+      }
+
+      @java.lang.Override
+      public Builder mergeFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws java.io.IOException {
+        if (extensionRegistry == null) {
+          throw new java.lang.NullPointerException();
+        }
+        try {
+          boolean done = false;
+          while (!done) {
+            int tag = input.readTag();
+            switch (tag) {
+              case 0:
+                done = true;
+                break;
+              case 10: {
+                input.readMessage(
+                    getSolverFieldBuilder().getBuilder(),
+                    extensionRegistry);
+                bitField0_ |= 0x00000001;
+                break;
+              } // case 10
+              case 16: {
+                numClauses_ = input.readInt32();
+                bitField0_ |= 0x00000002;
+                break;
+              } // case 16
+              case 24: {
+                ownName2Idx_ = input.readBool();
+                bitField0_ |= 0x00000004;
+                break;
+              } // case 24
+              case 34: {
+                com.booleworks.logicng.serialization.solvers.ProtoBufSolverContainer.PBClauseMetadata m =
+                    input.readMessage(
+                        com.booleworks.logicng.serialization.solvers.ProtoBufSolverContainer.PBClauseMetadata.parser(),
+                        extensionRegistry);
+                if (clauseMetadataBuilder_ == null) {
+                  ensureClauseMetadataIsMutable();
+                  clauseMetadata_.add(m);
+                } else {
+                  clauseMetadataBuilder_.addMessage(m);
+                }
+                break;
+              } // case 34
+              default: {
+                if (!super.parseUnknownField(input, extensionRegistry, tag)) {
+                  done = true; // was an endgroup tag
+                }
+                break;
+              } // default:
+            } // switch (tag)
+          } // while (!done)
+        } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+          throw e.unwrapIOException();
+        } finally {
+          onChanged();
+        } // finally
+        return this;
+      }
+      private int bitField0_;
+
+      private com.booleworks.logicng.serialization.solvers.ProtoBufSatSolver.PBSatSolver solver_;
+      private com.google.protobuf.SingleFieldBuilder<
+          com.booleworks.logicng.serialization.solvers.ProtoBufSatSolver.PBSatSolver, com.booleworks.logicng.serialization.solvers.ProtoBufSatSolver.PBSatSolver.Builder, com.booleworks.logicng.serialization.solvers.ProtoBufSatSolver.PBSatSolverOrBuilder> solverBuilder_;
+      /**
+       * <pre>
+       * without config if equal to the config of the base
+       * </pre>
+       *
+       * <code>.solver.PBSatSolver solver = 1;</code>
+       * @return Whether the solver field is set.
+       */
+      public boolean hasSolver() {
+        return ((bitField0_ & 0x00000001) != 0);
+      }
+      /**
+       * <pre>
+       * without config if equal to the config of the base
+       * </pre>
+       *
+       * <code>.solver.PBSatSolver solver = 1;</code>
+       * @return The solver.
+       */
+      public com.booleworks.logicng.serialization.solvers.ProtoBufSatSolver.PBSatSolver getSolver() {
+        if (solverBuilder_ == null) {
+          return solver_ == null ? com.booleworks.logicng.serialization.solvers.ProtoBufSatSolver.PBSatSolver.getDefaultInstance() : solver_;
+        } else {
+          return solverBuilder_.getMessage();
+        }
+      }
+      /**
+       * <pre>
+       * without config if equal to the config of the base
+       * </pre>
+       *
+       * <code>.solver.PBSatSolver solver = 1;</code>
+       */
+      public Builder setSolver(com.booleworks.logicng.serialization.solvers.ProtoBufSatSolver.PBSatSolver value) {
+        if (solverBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          solver_ = value;
+        } else {
+          solverBuilder_.setMessage(value);
+        }
+        bitField0_ |= 0x00000001;
+        onChanged();
+        return this;
+      }
+      /**
+       * <pre>
+       * without config if equal to the config of the base
+       * </pre>
+       *
+       * <code>.solver.PBSatSolver solver = 1;</code>
+       */
+      public Builder setSolver(
+          com.booleworks.logicng.serialization.solvers.ProtoBufSatSolver.PBSatSolver.Builder builderForValue) {
+        if (solverBuilder_ == null) {
+          solver_ = builderForValue.build();
+        } else {
+          solverBuilder_.setMessage(builderForValue.build());
+        }
+        bitField0_ |= 0x00000001;
+        onChanged();
+        return this;
+      }
+      /**
+       * <pre>
+       * without config if equal to the config of the base
+       * </pre>
+       *
+       * <code>.solver.PBSatSolver solver = 1;</code>
+       */
+      public Builder mergeSolver(com.booleworks.logicng.serialization.solvers.ProtoBufSatSolver.PBSatSolver value) {
+        if (solverBuilder_ == null) {
+          if (((bitField0_ & 0x00000001) != 0) &&
+            solver_ != null &&
+            solver_ != com.booleworks.logicng.serialization.solvers.ProtoBufSatSolver.PBSatSolver.getDefaultInstance()) {
+            getSolverBuilder().mergeFrom(value);
+          } else {
+            solver_ = value;
+          }
+        } else {
+          solverBuilder_.mergeFrom(value);
+        }
+        if (solver_ != null) {
+          bitField0_ |= 0x00000001;
+          onChanged();
+        }
+        return this;
+      }
+      /**
+       * <pre>
+       * without config if equal to the config of the base
+       * </pre>
+       *
+       * <code>.solver.PBSatSolver solver = 1;</code>
+       */
+      public Builder clearSolver() {
+        bitField0_ = (bitField0_ & ~0x00000001);
+        solver_ = null;
+        if (solverBuilder_ != null) {
+          solverBuilder_.dispose();
+          solverBuilder_ = null;
+        }
+        onChanged();
+        return this;
+      }
+      /**
+       * <pre>
+       * without config if equal to the config of the base
+       * </pre>
+       *
+       * <code>.solver.PBSatSolver solver = 1;</code>
+       */
+      public com.booleworks.logicng.serialization.solvers.ProtoBufSatSolver.PBSatSolver.Builder getSolverBuilder() {
+        bitField0_ |= 0x00000001;
+        onChanged();
+        return getSolverFieldBuilder().getBuilder();
+      }
+      /**
+       * <pre>
+       * without config if equal to the config of the base
+       * </pre>
+       *
+       * <code>.solver.PBSatSolver solver = 1;</code>
+       */
+      public com.booleworks.logicng.serialization.solvers.ProtoBufSatSolver.PBSatSolverOrBuilder getSolverOrBuilder() {
+        if (solverBuilder_ != null) {
+          return solverBuilder_.getMessageOrBuilder();
+        } else {
+          return solver_ == null ?
+              com.booleworks.logicng.serialization.solvers.ProtoBufSatSolver.PBSatSolver.getDefaultInstance() : solver_;
+        }
+      }
+      /**
+       * <pre>
+       * without config if equal to the config of the base
+       * </pre>
+       *
+       * <code>.solver.PBSatSolver solver = 1;</code>
+       */
+      private com.google.protobuf.SingleFieldBuilder<
+          com.booleworks.logicng.serialization.solvers.ProtoBufSatSolver.PBSatSolver, com.booleworks.logicng.serialization.solvers.ProtoBufSatSolver.PBSatSolver.Builder, com.booleworks.logicng.serialization.solvers.ProtoBufSatSolver.PBSatSolverOrBuilder> 
+          getSolverFieldBuilder() {
+        if (solverBuilder_ == null) {
+          solverBuilder_ = new com.google.protobuf.SingleFieldBuilder<
+              com.booleworks.logicng.serialization.solvers.ProtoBufSatSolver.PBSatSolver, com.booleworks.logicng.serialization.solvers.ProtoBufSatSolver.PBSatSolver.Builder, com.booleworks.logicng.serialization.solvers.ProtoBufSatSolver.PBSatSolverOrBuilder>(
+                  getSolver(),
+                  getParentForChildren(),
+                  isClean());
+          solver_ = null;
+        }
+        return solverBuilder_;
+      }
+
+      private int numClauses_ ;
+      /**
+       * <code>int32 numClauses = 2;</code>
+       * @return The numClauses.
+       */
+      @java.lang.Override
+      public int getNumClauses() {
+        return numClauses_;
+      }
+      /**
+       * <code>int32 numClauses = 2;</code>
+       * @param value The numClauses to set.
+       * @return This builder for chaining.
+       */
+      public Builder setNumClauses(int value) {
+
+        numClauses_ = value;
+        bitField0_ |= 0x00000002;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>int32 numClauses = 2;</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearNumClauses() {
+        bitField0_ = (bitField0_ & ~0x00000002);
+        numClauses_ = 0;
+        onChanged();
+        return this;
+      }
+
+      private boolean ownName2Idx_ ;
+      /**
+       * <code>bool ownName2Idx = 3;</code>
+       * @return The ownName2Idx.
+       */
+      @java.lang.Override
+      public boolean getOwnName2Idx() {
+        return ownName2Idx_;
+      }
+      /**
+       * <code>bool ownName2Idx = 3;</code>
+       * @param value The ownName2Idx to set.
+       * @return This builder for chaining.
+       */
+      public Builder setOwnName2Idx(boolean value) {
+
+        ownName2Idx_ = value;
+        bitField0_ |= 0x00000004;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>bool ownName2Idx = 3;</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearOwnName2Idx() {
+        bitField0_ = (bitField0_ & ~0x00000004);
+        ownName2Idx_ = false;
+        onChanged();
+        return this;
+      }
+
+      private java.util.List<com.booleworks.logicng.serialization.solvers.ProtoBufSolverContainer.PBClauseMetadata> clauseMetadata_ =
+        java.util.Collections.emptyList();
+      private void ensureClauseMetadataIsMutable() {
+        if (!((bitField0_ & 0x00000008) != 0)) {
+          clauseMetadata_ = new java.util.ArrayList<com.booleworks.logicng.serialization.solvers.ProtoBufSolverContainer.PBClauseMetadata>(clauseMetadata_);
+          bitField0_ |= 0x00000008;
+         }
+      }
+
+      private com.google.protobuf.RepeatedFieldBuilder<
+          com.booleworks.logicng.serialization.solvers.ProtoBufSolverContainer.PBClauseMetadata, com.booleworks.logicng.serialization.solvers.ProtoBufSolverContainer.PBClauseMetadata.Builder, com.booleworks.logicng.serialization.solvers.ProtoBufSolverContainer.PBClauseMetadataOrBuilder> clauseMetadataBuilder_;
+
+      /**
+       * <pre>
+       * for clauses with the literals of the base clause with the same ID
+       * </pre>
+       *
+       * <code>repeated .solver.PBClauseMetadata clauseMetadata = 4;</code>
+       */
+      public java.util.List<com.booleworks.logicng.serialization.solvers.ProtoBufSolverContainer.PBClauseMetadata> getClauseMetadataList() {
+        if (clauseMetadataBuilder_ == null) {
+          return java.util.Collections.unmodifiableList(clauseMetadata_);
+        } else {
+          return clauseMetadataBuilder_.getMessageList();
+        }
+      }
+      /**
+       * <pre>
+       * for clauses with the literals of the base clause with the same ID
+       * </pre>
+       *
+       * <code>repeated .solver.PBClauseMetadata clauseMetadata = 4;</code>
+       */
+      public int getClauseMetadataCount() {
+        if (clauseMetadataBuilder_ == null) {
+          return clauseMetadata_.size();
+        } else {
+          return clauseMetadataBuilder_.getCount();
+        }
+      }
+      /**
+       * <pre>
+       * for clauses with the literals of the base clause with the same ID
+       * </pre>
+       *
+       * <code>repeated .solver.PBClauseMetadata clauseMetadata = 4;</code>
+       */
+      public com.booleworks.logicng.serialization.solvers.ProtoBufSolverContainer.PBClauseMetadata getClauseMetadata(int index) {
+        if (clauseMetadataBuilder_ == null) {
+          return clauseMetadata_.get(index);
+        } else {
+          return clauseMetadataBuilder_.getMessage(index);
+        }
+      }
+      /**
+       * <pre>
+       * for clauses with the literals of the base clause with the same ID
+       * </pre>
+       *
+       * <code>repeated .solver.PBClauseMetadata clauseMetadata = 4;</code>
+       */
+      public Builder setClauseMetadata(
+          int index, com.booleworks.logicng.serialization.solvers.ProtoBufSolverContainer.PBClauseMetadata value) {
+        if (clauseMetadataBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          ensureClauseMetadataIsMutable();
+          clauseMetadata_.set(index, value);
+          onChanged();
+        } else {
+          clauseMetadataBuilder_.setMessage(index, value);
+        }
+        return this;
+      }
+      /**
+       * <pre>
+       * for clauses with the literals of the base clause with the same ID
+       * </pre>
+       *
+       * <code>repeated .solver.PBClauseMetadata clauseMetadata = 4;</code>
+       */
+      public Builder setClauseMetadata(
+          int index, com.booleworks.logicng.serialization.solvers.ProtoBufSolverContainer.PBClauseMetadata.Builder builderForValue) {
+        if (clauseMetadataBuilder_ == null) {
+          ensureClauseMetadataIsMutable();
+          clauseMetadata_.set(index, builderForValue.build());
+          onChanged();
+        } else {
+          clauseMetadataBuilder_.setMessage(index, builderForValue.build());
+        }
+        return this;
+      }
+      /**
+       * <pre>
+       * for clauses with the literals of the base clause with the same ID
+       * </pre>
+       *
+       * <code>repeated .solver.PBClauseMetadata clauseMetadata = 4;</code>
+       */
+      public Builder addClauseMetadata(com.booleworks.logicng.serialization.solvers.ProtoBufSolverContainer.PBClauseMetadata value) {
+        if (clauseMetadataBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          ensureClauseMetadataIsMutable();
+          clauseMetadata_.add(value);
+          onChanged();
+        } else {
+          clauseMetadataBuilder_.addMessage(value);
+        }
+        return this;
+      }
+      /**
+       * <pre>
+       * for clauses with the literals of the base clause with the same ID
+       * </pre>
+       *
+       * <code>repeated .solver.PBClauseMetadata clauseMetadata = 4;</code>
+       */
+      public Builder addClauseMetadata(
+          int index, com.booleworks.logicng.serialization.solvers.ProtoBufSolverContainer.PBClauseMetadata value) {
+        if (clauseMetadataBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          ensureClauseMetadataIsMutable();
+          clauseMetadata_.add(index, value);
+          onChanged();
+        } else {
+          clauseMetadataBuilder_.addMessage(index, value);
+        }
+        return this;
+      }
+      /**
+       * <pre>
+       * for clauses with the literals of the base clause with the same ID
+       * </pre>
+       *
+       * <code>repeated .solver.PBClauseMetadata clauseMetadata = 4;</code>
+       */
+      public Builder addClauseMetadata(
+          com.booleworks.logicng.serialization.solvers.ProtoBufSolverContainer.PBClauseMetadata.Builder builderForValue) {
+        if (clauseMetadataBuilder_ == null) {
+          ensureClauseMetadataIsMutable();
+          clauseMetadata_.add(builderForValue.build());
+          onChanged();
+        } else {
+          clauseMetadataBuilder_.addMessage(builderForValue.build());
+        }
+        return this;
+      }
+      /**
+       * <pre>
+       * for clauses with the literals of the base clause with the same ID
+       * </pre>
+       *
+       * <code>repeated .solver.PBClauseMetadata clauseMetadata = 4;</code>
+       */
+      public Builder addClauseMetadata(
+          int index, com.booleworks.logicng.serialization.solvers.ProtoBufSolverContainer.PBClauseMetadata.Builder builderForValue) {
+        if (clauseMetadataBuilder_ == null) {
+          ensureClauseMetadataIsMutable();
+          clauseMetadata_.add(index, builderForValue.build());
+          onChanged();
+        } else {
+          clauseMetadataBuilder_.addMessage(index, builderForValue.build());
+        }
+        return this;
+      }
+      /**
+       * <pre>
+       * for clauses with the literals of the base clause with the same ID
+       * </pre>
+       *
+       * <code>repeated .solver.PBClauseMetadata clauseMetadata = 4;</code>
+       */
+      public Builder addAllClauseMetadata(
+          java.lang.Iterable<? extends com.booleworks.logicng.serialization.solvers.ProtoBufSolverContainer.PBClauseMetadata> values) {
+        if (clauseMetadataBuilder_ == null) {
+          ensureClauseMetadataIsMutable();
+          com.google.protobuf.AbstractMessageLite.Builder.addAll(
+              values, clauseMetadata_);
+          onChanged();
+        } else {
+          clauseMetadataBuilder_.addAllMessages(values);
+        }
+        return this;
+      }
+      /**
+       * <pre>
+       * for clauses with the literals of the base clause with the same ID
+       * </pre>
+       *
+       * <code>repeated .solver.PBClauseMetadata clauseMetadata = 4;</code>
+       */
+      public Builder clearClauseMetadata() {
+        if (clauseMetadataBuilder_ == null) {
+          clauseMetadata_ = java.util.Collections.emptyList();
+          bitField0_ = (bitField0_ & ~0x00000008);
+          onChanged();
+        } else {
+          clauseMetadataBuilder_.clear();
+        }
+        return this;
+      }
+      /**
+       * <pre>
+       * for clauses with the literals of the base clause with the same ID
+       * </pre>
+       *
+       * <code>repeated .solver.PBClauseMetadata clauseMetadata = 4;</code>
+       */
+      public Builder removeClauseMetadata(int index) {
+        if (clauseMetadataBuilder_ == null) {
+          ensureClauseMetadataIsMutable();
+          clauseMetadata_.remove(index);
+          onChanged();
+        } else {
+          clauseMetadataBuilder_.remove(index);
+        }
+        return this;
+      }
+      /**
+       * <pre>
+       * for clauses with the literals of the base clause with the same ID
+       * </pre>
+       *
+       * <code>repeated .solver.PBClauseMetadata clauseMetadata = 4;</code>
+       */
+      public com.booleworks.logicng.serialization.solvers.ProtoBufSolverContainer.PBClauseMetadata.Builder getClauseMetadataBuilder(
+          int index) {
+        return getClauseMetadataFieldBuilder().getBuilder(index);
+      }
+      /**
+       * <pre>
+       * for clauses with the literals of the base clause with the same ID
+       * </pre>
+       *
+       * <code>repeated .solver.PBClauseMetadata clauseMetadata = 4;</code>
+       */
+      public com.booleworks.logicng.serialization.solvers.ProtoBufSolverContainer.PBClauseMetadataOrBuilder getClauseMetadataOrBuilder(
+          int index) {
+        if (clauseMetadataBuilder_ == null) {
+          return clauseMetadata_.get(index);  } else {
+          return clauseMetadataBuilder_.getMessageOrBuilder(index);
+        }
+      }
+      /**
+       * <pre>
+       * for clauses with the literals of the base clause with the same ID
+       * </pre>
+       *
+       * <code>repeated .solver.PBClauseMetadata clauseMetadata = 4;</code>
+       */
+      public java.util.List<? extends com.booleworks.logicng.serialization.solvers.ProtoBufSolverContainer.PBClauseMetadataOrBuilder> 
+           getClauseMetadataOrBuilderList() {
+        if (clauseMetadataBuilder_ != null) {
+          return clauseMetadataBuilder_.getMessageOrBuilderList();
+        } else {
+          return java.util.Collections.unmodifiableList(clauseMetadata_);
+        }
+      }
+      /**
+       * <pre>
+       * for clauses with the literals of the base clause with the same ID
+       * </pre>
+       *
+       * <code>repeated .solver.PBClauseMetadata clauseMetadata = 4;</code>
+       */
+      public com.booleworks.logicng.serialization.solvers.ProtoBufSolverContainer.PBClauseMetadata.Builder addClauseMetadataBuilder() {
+        return getClauseMetadataFieldBuilder().addBuilder(
+            com.booleworks.logicng.serialization.solvers.ProtoBufSolverContainer.PBClauseMetadata.getDefaultInstance());
+      }
+      /**
+       * <pre>
+       * for clauses with the literals of the base clause with the same ID
+       * </pre>
+       *
+       * <code>repeated .solver.PBClauseMetadata clauseMetadata = 4;</code>
+       */
+      public com.booleworks.logicng.serialization.solvers.ProtoBufSolverContainer.PBClauseMetadata.Builder addClauseMetadataBuilder(
+          int index) {
+        return getClauseMetadataFieldBuilder().addBuilder(
+            index, com.booleworks.logicng.serialization.solvers.ProtoBufSolverContainer.PBClauseMetadata.getDefaultInstance());
+      }
+      /**
+       * <pre>
+       * for clauses with the literals of the base clause with the same ID
+       * </pre>
+       *
+       * <code>repeated .solver.PBClauseMetadata clauseMetadata = 4;</code>
+       */
+      public java.util.List<com.booleworks.logicng.serialization.solvers.ProtoBufSolverContainer.PBClauseMetadata.Builder> 
+           getClauseMetadataBuilderList() {
+        return getClauseMetadataFieldBuilder().getBuilderList();
+      }
+      private com.google.protobuf.RepeatedFieldBuilder<
+          com.booleworks.logicng.serialization.solvers.ProtoBufSolverContainer.PBClauseMetadata, com.booleworks.logicng.serialization.solvers.ProtoBufSolverContainer.PBClauseMetadata.Builder, com.booleworks.logicng.serialization.solvers.ProtoBufSolverContainer.PBClauseMetadataOrBuilder> 
+          getClauseMetadataFieldBuilder() {
+        if (clauseMetadataBuilder_ == null) {
+          clauseMetadataBuilder_ = new com.google.protobuf.RepeatedFieldBuilder<
+              com.booleworks.logicng.serialization.solvers.ProtoBufSolverContainer.PBClauseMetadata, com.booleworks.logicng.serialization.solvers.ProtoBufSolverContainer.PBClauseMetadata.Builder, com.booleworks.logicng.serialization.solvers.ProtoBufSolverContainer.PBClauseMetadataOrBuilder>(
+                  clauseMetadata_,
+                  ((bitField0_ & 0x00000008) != 0),
+                  getParentForChildren(),
+                  isClean());
+          clauseMetadata_ = null;
+        }
+        return clauseMetadataBuilder_;
+      }
+
+      // @@protoc_insertion_point(builder_scope:solver.PBSolverOverlay)
+    }
+
+    // @@protoc_insertion_point(class_scope:solver.PBSolverOverlay)
+    private static final com.booleworks.logicng.serialization.solvers.ProtoBufSolverContainer.PBSolverOverlay DEFAULT_INSTANCE;
+    static {
+      DEFAULT_INSTANCE = new com.booleworks.logicng.serialization.solvers.ProtoBufSolverContainer.PBSolverOverlay();
+    }
+
+    public static com.booleworks.logicng.serialization.solvers.ProtoBufSolverContainer.PBSolverOverlay getDefaultInstance() {
+      return DEFAULT_INSTANCE;
+    }
+
+    private static final com.google.protobuf.Parser<PBSolverOverlay>
+        PARSER = new com.google.protobuf.AbstractParser<PBSolverOverlay>() {
+      @java.lang.Override
+      public PBSolverOverlay parsePartialFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws com.google.protobuf.InvalidProtocolBufferException {
+        Builder builder = newBuilder();
+        try {
+          builder.mergeFrom(input, extensionRegistry);
+        } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+          throw e.setUnfinishedMessage(builder.buildPartial());
+        } catch (com.google.protobuf.UninitializedMessageException e) {
+          throw e.asInvalidProtocolBufferException().setUnfinishedMessage(builder.buildPartial());
+        } catch (java.io.IOException e) {
+          throw new com.google.protobuf.InvalidProtocolBufferException(e)
+              .setUnfinishedMessage(builder.buildPartial());
+        }
+        return builder.buildPartial();
+      }
+    };
+
+    public static com.google.protobuf.Parser<PBSolverOverlay> parser() {
+      return PARSER;
+    }
+
+    @java.lang.Override
+    public com.google.protobuf.Parser<PBSolverOverlay> getParserForType() {
+      return PARSER;
+    }
+
+    @java.lang.Override
+    public com.booleworks.logicng.serialization.solvers.ProtoBufSolverContainer.PBSolverOverlay getDefaultInstanceForType() {
+      return DEFAULT_INSTANCE;
+    }
+
+  }
+
+  public interface PBClauseMetadataOrBuilder extends
+      // @@protoc_insertion_point(interface_extends:solver.PBClauseMetadata)
+      com.google.protobuf.MessageOrBuilder {
+
+    /**
+     * <code>int32 id = 1;</code>
+     * @return The id.
+     */
+    int getId();
+
+    /**
+     * <code>int32 learntOnState = 2;</code>
+     * @return The learntOnState.
+     */
+    int getLearntOnState();
+
+    /**
+     * <code>double activity = 3;</code>
+     * @return The activity.
+     */
+    double getActivity();
+
+    /**
+     * <code>bool seen = 4;</code>
+     * @return The seen.
+     */
+    boolean getSeen();
+
+    /**
+     * <code>int64 lbd = 5;</code>
+     * @return The lbd.
+     */
+    long getLbd();
+
+    /**
+     * <code>bool canBeDel = 6;</code>
+     * @return The canBeDel.
+     */
+    boolean getCanBeDel();
+
+    /**
+     * <code>bool oneWatched = 7;</code>
+     * @return The oneWatched.
+     */
+    boolean getOneWatched();
+
+    /**
+     * <code>int32 atMostWatchers = 8;</code>
+     * @return The atMostWatchers.
+     */
+    int getAtMostWatchers();
+  }
+  /**
+   * Protobuf type {@code solver.PBClauseMetadata}
+   */
+  public static final class PBClauseMetadata extends
+      com.google.protobuf.GeneratedMessage implements
+      // @@protoc_insertion_point(message_implements:solver.PBClauseMetadata)
+      PBClauseMetadataOrBuilder {
+  private static final long serialVersionUID = 0L;
+    static {
+      com.google.protobuf.RuntimeVersion.validateProtobufGencodeVersion(
+        com.google.protobuf.RuntimeVersion.RuntimeDomain.PUBLIC,
+        /* major= */ 4,
+        /* minor= */ 26,
+        /* patch= */ 1,
+        /* suffix= */ "",
+        PBClauseMetadata.class.getName());
+    }
+    // Use PBClauseMetadata.newBuilder() to construct.
+    private PBClauseMetadata(com.google.protobuf.GeneratedMessage.Builder<?> builder) {
+      super(builder);
+    }
+    private PBClauseMetadata() {
+    }
+
+    public static final com.google.protobuf.Descriptors.Descriptor
+        getDescriptor() {
+      return com.booleworks.logicng.serialization.solvers.ProtoBufSolverContainer.internal_static_solver_PBClauseMetadata_descriptor;
+    }
+
+    @java.lang.Override
+    protected com.google.protobuf.GeneratedMessage.FieldAccessorTable
+        internalGetFieldAccessorTable() {
+      return com.booleworks.logicng.serialization.solvers.ProtoBufSolverContainer.internal_static_solver_PBClauseMetadata_fieldAccessorTable
+          .ensureFieldAccessorsInitialized(
+              com.booleworks.logicng.serialization.solvers.ProtoBufSolverContainer.PBClauseMetadata.class, com.booleworks.logicng.serialization.solvers.ProtoBufSolverContainer.PBClauseMetadata.Builder.class);
+    }
+
+    public static final int ID_FIELD_NUMBER = 1;
+    private int id_ = 0;
+    /**
+     * <code>int32 id = 1;</code>
+     * @return The id.
+     */
+    @java.lang.Override
+    public int getId() {
+      return id_;
+    }
+
+    public static final int LEARNTONSTATE_FIELD_NUMBER = 2;
+    private int learntOnState_ = 0;
+    /**
+     * <code>int32 learntOnState = 2;</code>
+     * @return The learntOnState.
+     */
+    @java.lang.Override
+    public int getLearntOnState() {
+      return learntOnState_;
+    }
+
+    public static final int ACTIVITY_FIELD_NUMBER = 3;
+    private double activity_ = 0D;
+    /**
+     * <code>double activity = 3;</code>
+     * @return The activity.
+     */
+    @java.lang.Override
+    public double getActivity() {
+      return activity_;
+    }
+
+    public static final int SEEN_FIELD_NUMBER = 4;
+    private boolean seen_ = false;
+    /**
+     * <code>bool seen = 4;</code>
+     * @return The seen.
+     */
+    @java.lang.Override
+    public boolean getSeen() {
+      return seen_;
+    }
+
+    public static final int LBD_FIELD_NUMBER = 5;
+    private long lbd_ = 0L;
+    /**
+     * <code>int64 lbd = 5;</code>
+     * @return The lbd.
+     */
+    @java.lang.Override
+    public long getLbd() {
+      return lbd_;
+    }
+
+    public static final int CANBEDEL_FIELD_NUMBER = 6;
+    private boolean canBeDel_ = false;
+    /**
+     * <code>bool canBeDel = 6;</code>
+     * @return The canBeDel.
+     */
+    @java.lang.Override
+    public boolean getCanBeDel() {
+      return canBeDel_;
+    }
+
+    public static final int ONEWATCHED_FIELD_NUMBER = 7;
+    private boolean oneWatched_ = false;
+    /**
+     * <code>bool oneWatched = 7;</code>
+     * @return The oneWatched.
+     */
+    @java.lang.Override
+    public boolean getOneWatched() {
+      return oneWatched_;
+    }
+
+    public static final int ATMOSTWATCHERS_FIELD_NUMBER = 8;
+    private int atMostWatchers_ = 0;
+    /**
+     * <code>int32 atMostWatchers = 8;</code>
+     * @return The atMostWatchers.
+     */
+    @java.lang.Override
+    public int getAtMostWatchers() {
+      return atMostWatchers_;
+    }
+
+    private byte memoizedIsInitialized = -1;
+    @java.lang.Override
+    public final boolean isInitialized() {
+      byte isInitialized = memoizedIsInitialized;
+      if (isInitialized == 1) return true;
+      if (isInitialized == 0) return false;
+
+      memoizedIsInitialized = 1;
+      return true;
+    }
+
+    @java.lang.Override
+    public void writeTo(com.google.protobuf.CodedOutputStream output)
+                        throws java.io.IOException {
+      if (id_ != 0) {
+        output.writeInt32(1, id_);
+      }
+      if (learntOnState_ != 0) {
+        output.writeInt32(2, learntOnState_);
+      }
+      if (java.lang.Double.doubleToRawLongBits(activity_) != 0) {
+        output.writeDouble(3, activity_);
+      }
+      if (seen_ != false) {
+        output.writeBool(4, seen_);
+      }
+      if (lbd_ != 0L) {
+        output.writeInt64(5, lbd_);
+      }
+      if (canBeDel_ != false) {
+        output.writeBool(6, canBeDel_);
+      }
+      if (oneWatched_ != false) {
+        output.writeBool(7, oneWatched_);
+      }
+      if (atMostWatchers_ != 0) {
+        output.writeInt32(8, atMostWatchers_);
+      }
+      getUnknownFields().writeTo(output);
+    }
+
+    @java.lang.Override
+    public int getSerializedSize() {
+      int size = memoizedSize;
+      if (size != -1) return size;
+
+      size = 0;
+      if (id_ != 0) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeInt32Size(1, id_);
+      }
+      if (learntOnState_ != 0) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeInt32Size(2, learntOnState_);
+      }
+      if (java.lang.Double.doubleToRawLongBits(activity_) != 0) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeDoubleSize(3, activity_);
+      }
+      if (seen_ != false) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeBoolSize(4, seen_);
+      }
+      if (lbd_ != 0L) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeInt64Size(5, lbd_);
+      }
+      if (canBeDel_ != false) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeBoolSize(6, canBeDel_);
+      }
+      if (oneWatched_ != false) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeBoolSize(7, oneWatched_);
+      }
+      if (atMostWatchers_ != 0) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeInt32Size(8, atMostWatchers_);
+      }
+      size += getUnknownFields().getSerializedSize();
+      memoizedSize = size;
+      return size;
+    }
+
+    @java.lang.Override
+    public boolean equals(final java.lang.Object obj) {
+      if (obj == this) {
+       return true;
+      }
+      if (!(obj instanceof com.booleworks.logicng.serialization.solvers.ProtoBufSolverContainer.PBClauseMetadata)) {
+        return super.equals(obj);
+      }
+      com.booleworks.logicng.serialization.solvers.ProtoBufSolverContainer.PBClauseMetadata other = (com.booleworks.logicng.serialization.solvers.ProtoBufSolverContainer.PBClauseMetadata) obj;
+
+      if (getId()
+          != other.getId()) return false;
+      if (getLearntOnState()
+          != other.getLearntOnState()) return false;
+      if (java.lang.Double.doubleToLongBits(getActivity())
+          != java.lang.Double.doubleToLongBits(
+              other.getActivity())) return false;
+      if (getSeen()
+          != other.getSeen()) return false;
+      if (getLbd()
+          != other.getLbd()) return false;
+      if (getCanBeDel()
+          != other.getCanBeDel()) return false;
+      if (getOneWatched()
+          != other.getOneWatched()) return false;
+      if (getAtMostWatchers()
+          != other.getAtMostWatchers()) return false;
+      if (!getUnknownFields().equals(other.getUnknownFields())) return false;
+      return true;
+    }
+
+    @java.lang.Override
+    public int hashCode() {
+      if (memoizedHashCode != 0) {
+        return memoizedHashCode;
+      }
+      int hash = 41;
+      hash = (19 * hash) + getDescriptor().hashCode();
+      hash = (37 * hash) + ID_FIELD_NUMBER;
+      hash = (53 * hash) + getId();
+      hash = (37 * hash) + LEARNTONSTATE_FIELD_NUMBER;
+      hash = (53 * hash) + getLearntOnState();
+      hash = (37 * hash) + ACTIVITY_FIELD_NUMBER;
+      hash = (53 * hash) + com.google.protobuf.Internal.hashLong(
+          java.lang.Double.doubleToLongBits(getActivity()));
+      hash = (37 * hash) + SEEN_FIELD_NUMBER;
+      hash = (53 * hash) + com.google.protobuf.Internal.hashBoolean(
+          getSeen());
+      hash = (37 * hash) + LBD_FIELD_NUMBER;
+      hash = (53 * hash) + com.google.protobuf.Internal.hashLong(
+          getLbd());
+      hash = (37 * hash) + CANBEDEL_FIELD_NUMBER;
+      hash = (53 * hash) + com.google.protobuf.Internal.hashBoolean(
+          getCanBeDel());
+      hash = (37 * hash) + ONEWATCHED_FIELD_NUMBER;
+      hash = (53 * hash) + com.google.protobuf.Internal.hashBoolean(
+          getOneWatched());
+      hash = (37 * hash) + ATMOSTWATCHERS_FIELD_NUMBER;
+      hash = (53 * hash) + getAtMostWatchers();
+      hash = (29 * hash) + getUnknownFields().hashCode();
+      memoizedHashCode = hash;
+      return hash;
+    }
+
+    public static com.booleworks.logicng.serialization.solvers.ProtoBufSolverContainer.PBClauseMetadata parseFrom(
+        java.nio.ByteBuffer data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static com.booleworks.logicng.serialization.solvers.ProtoBufSolverContainer.PBClauseMetadata parseFrom(
+        java.nio.ByteBuffer data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static com.booleworks.logicng.serialization.solvers.ProtoBufSolverContainer.PBClauseMetadata parseFrom(
+        com.google.protobuf.ByteString data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static com.booleworks.logicng.serialization.solvers.ProtoBufSolverContainer.PBClauseMetadata parseFrom(
+        com.google.protobuf.ByteString data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static com.booleworks.logicng.serialization.solvers.ProtoBufSolverContainer.PBClauseMetadata parseFrom(byte[] data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static com.booleworks.logicng.serialization.solvers.ProtoBufSolverContainer.PBClauseMetadata parseFrom(
+        byte[] data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static com.booleworks.logicng.serialization.solvers.ProtoBufSolverContainer.PBClauseMetadata parseFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessage
+          .parseWithIOException(PARSER, input);
+    }
+    public static com.booleworks.logicng.serialization.solvers.ProtoBufSolverContainer.PBClauseMetadata parseFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessage
+          .parseWithIOException(PARSER, input, extensionRegistry);
+    }
+
+    public static com.booleworks.logicng.serialization.solvers.ProtoBufSolverContainer.PBClauseMetadata parseDelimitedFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessage
+          .parseDelimitedWithIOException(PARSER, input);
+    }
+
+    public static com.booleworks.logicng.serialization.solvers.ProtoBufSolverContainer.PBClauseMetadata parseDelimitedFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessage
+          .parseDelimitedWithIOException(PARSER, input, extensionRegistry);
+    }
+    public static com.booleworks.logicng.serialization.solvers.ProtoBufSolverContainer.PBClauseMetadata parseFrom(
+        com.google.protobuf.CodedInputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessage
+          .parseWithIOException(PARSER, input);
+    }
+    public static com.booleworks.logicng.serialization.solvers.ProtoBufSolverContainer.PBClauseMetadata parseFrom(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessage
+          .parseWithIOException(PARSER, input, extensionRegistry);
+    }
+
+    @java.lang.Override
+    public Builder newBuilderForType() { return newBuilder(); }
+    public static Builder newBuilder() {
+      return DEFAULT_INSTANCE.toBuilder();
+    }
+    public static Builder newBuilder(com.booleworks.logicng.serialization.solvers.ProtoBufSolverContainer.PBClauseMetadata prototype) {
+      return DEFAULT_INSTANCE.toBuilder().mergeFrom(prototype);
+    }
+    @java.lang.Override
+    public Builder toBuilder() {
+      return this == DEFAULT_INSTANCE
+          ? new Builder() : new Builder().mergeFrom(this);
+    }
+
+    @java.lang.Override
+    protected Builder newBuilderForType(
+        com.google.protobuf.GeneratedMessage.BuilderParent parent) {
+      Builder builder = new Builder(parent);
+      return builder;
+    }
+    /**
+     * Protobuf type {@code solver.PBClauseMetadata}
+     */
+    public static final class Builder extends
+        com.google.protobuf.GeneratedMessage.Builder<Builder> implements
+        // @@protoc_insertion_point(builder_implements:solver.PBClauseMetadata)
+        com.booleworks.logicng.serialization.solvers.ProtoBufSolverContainer.PBClauseMetadataOrBuilder {
+      public static final com.google.protobuf.Descriptors.Descriptor
+          getDescriptor() {
+        return com.booleworks.logicng.serialization.solvers.ProtoBufSolverContainer.internal_static_solver_PBClauseMetadata_descriptor;
+      }
+
+      @java.lang.Override
+      protected com.google.protobuf.GeneratedMessage.FieldAccessorTable
+          internalGetFieldAccessorTable() {
+        return com.booleworks.logicng.serialization.solvers.ProtoBufSolverContainer.internal_static_solver_PBClauseMetadata_fieldAccessorTable
+            .ensureFieldAccessorsInitialized(
+                com.booleworks.logicng.serialization.solvers.ProtoBufSolverContainer.PBClauseMetadata.class, com.booleworks.logicng.serialization.solvers.ProtoBufSolverContainer.PBClauseMetadata.Builder.class);
+      }
+
+      // Construct using com.booleworks.logicng.serialization.solvers.ProtoBufSolverContainer.PBClauseMetadata.newBuilder()
+      private Builder() {
+
+      }
+
+      private Builder(
+          com.google.protobuf.GeneratedMessage.BuilderParent parent) {
+        super(parent);
+
+      }
+      @java.lang.Override
+      public Builder clear() {
+        super.clear();
+        bitField0_ = 0;
+        id_ = 0;
+        learntOnState_ = 0;
+        activity_ = 0D;
+        seen_ = false;
+        lbd_ = 0L;
+        canBeDel_ = false;
+        oneWatched_ = false;
+        atMostWatchers_ = 0;
+        return this;
+      }
+
+      @java.lang.Override
+      public com.google.protobuf.Descriptors.Descriptor
+          getDescriptorForType() {
+        return com.booleworks.logicng.serialization.solvers.ProtoBufSolverContainer.internal_static_solver_PBClauseMetadata_descriptor;
+      }
+
+      @java.lang.Override
+      public com.booleworks.logicng.serialization.solvers.ProtoBufSolverContainer.PBClauseMetadata getDefaultInstanceForType() {
+        return com.booleworks.logicng.serialization.solvers.ProtoBufSolverContainer.PBClauseMetadata.getDefaultInstance();
+      }
+
+      @java.lang.Override
+      public com.booleworks.logicng.serialization.solvers.ProtoBufSolverContainer.PBClauseMetadata build() {
+        com.booleworks.logicng.serialization.solvers.ProtoBufSolverContainer.PBClauseMetadata result = buildPartial();
+        if (!result.isInitialized()) {
+          throw newUninitializedMessageException(result);
+        }
+        return result;
+      }
+
+      @java.lang.Override
+      public com.booleworks.logicng.serialization.solvers.ProtoBufSolverContainer.PBClauseMetadata buildPartial() {
+        com.booleworks.logicng.serialization.solvers.ProtoBufSolverContainer.PBClauseMetadata result = new com.booleworks.logicng.serialization.solvers.ProtoBufSolverContainer.PBClauseMetadata(this);
+        if (bitField0_ != 0) { buildPartial0(result); }
+        onBuilt();
+        return result;
+      }
+
+      private void buildPartial0(com.booleworks.logicng.serialization.solvers.ProtoBufSolverContainer.PBClauseMetadata result) {
+        int from_bitField0_ = bitField0_;
+        if (((from_bitField0_ & 0x00000001) != 0)) {
+          result.id_ = id_;
+        }
+        if (((from_bitField0_ & 0x00000002) != 0)) {
+          result.learntOnState_ = learntOnState_;
+        }
+        if (((from_bitField0_ & 0x00000004) != 0)) {
+          result.activity_ = activity_;
+        }
+        if (((from_bitField0_ & 0x00000008) != 0)) {
+          result.seen_ = seen_;
+        }
+        if (((from_bitField0_ & 0x00000010) != 0)) {
+          result.lbd_ = lbd_;
+        }
+        if (((from_bitField0_ & 0x00000020) != 0)) {
+          result.canBeDel_ = canBeDel_;
+        }
+        if (((from_bitField0_ & 0x00000040) != 0)) {
+          result.oneWatched_ = oneWatched_;
+        }
+        if (((from_bitField0_ & 0x00000080) != 0)) {
+          result.atMostWatchers_ = atMostWatchers_;
+        }
+      }
+
+      @java.lang.Override
+      public Builder mergeFrom(com.google.protobuf.Message other) {
+        if (other instanceof com.booleworks.logicng.serialization.solvers.ProtoBufSolverContainer.PBClauseMetadata) {
+          return mergeFrom((com.booleworks.logicng.serialization.solvers.ProtoBufSolverContainer.PBClauseMetadata)other);
+        } else {
+          super.mergeFrom(other);
+          return this;
+        }
+      }
+
+      public Builder mergeFrom(com.booleworks.logicng.serialization.solvers.ProtoBufSolverContainer.PBClauseMetadata other) {
+        if (other == com.booleworks.logicng.serialization.solvers.ProtoBufSolverContainer.PBClauseMetadata.getDefaultInstance()) return this;
+        if (other.getId() != 0) {
+          setId(other.getId());
+        }
+        if (other.getLearntOnState() != 0) {
+          setLearntOnState(other.getLearntOnState());
+        }
+        if (other.getActivity() != 0D) {
+          setActivity(other.getActivity());
+        }
+        if (other.getSeen() != false) {
+          setSeen(other.getSeen());
+        }
+        if (other.getLbd() != 0L) {
+          setLbd(other.getLbd());
+        }
+        if (other.getCanBeDel() != false) {
+          setCanBeDel(other.getCanBeDel());
+        }
+        if (other.getOneWatched() != false) {
+          setOneWatched(other.getOneWatched());
+        }
+        if (other.getAtMostWatchers() != 0) {
+          setAtMostWatchers(other.getAtMostWatchers());
+        }
+        this.mergeUnknownFields(other.getUnknownFields());
+        onChanged();
+        return this;
+      }
+
+      @java.lang.Override
+      public final boolean isInitialized() {
+        return true;
+      }
+
+      @java.lang.Override
+      public Builder mergeFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws java.io.IOException {
+        if (extensionRegistry == null) {
+          throw new java.lang.NullPointerException();
+        }
+        try {
+          boolean done = false;
+          while (!done) {
+            int tag = input.readTag();
+            switch (tag) {
+              case 0:
+                done = true;
+                break;
+              case 8: {
+                id_ = input.readInt32();
+                bitField0_ |= 0x00000001;
+                break;
+              } // case 8
+              case 16: {
+                learntOnState_ = input.readInt32();
+                bitField0_ |= 0x00000002;
+                break;
+              } // case 16
+              case 25: {
+                activity_ = input.readDouble();
+                bitField0_ |= 0x00000004;
+                break;
+              } // case 25
+              case 32: {
+                seen_ = input.readBool();
+                bitField0_ |= 0x00000008;
+                break;
+              } // case 32
+              case 40: {
+                lbd_ = input.readInt64();
+                bitField0_ |= 0x00000010;
+                break;
+              } // case 40
+              case 48: {
+                canBeDel_ = input.readBool();
+                bitField0_ |= 0x00000020;
+                break;
+              } // case 48
+              case 56: {
+                oneWatched_ = input.readBool();
+                bitField0_ |= 0x00000040;
+                break;
+              } // case 56
+              case 64: {
+                atMostWatchers_ = input.readInt32();
+                bitField0_ |= 0x00000080;
+                break;
+              } // case 64
+              default: {
+                if (!super.parseUnknownField(input, extensionRegistry, tag)) {
+                  done = true; // was an endgroup tag
+                }
+                break;
+              } // default:
+            } // switch (tag)
+          } // while (!done)
+        } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+          throw e.unwrapIOException();
+        } finally {
+          onChanged();
+        } // finally
+        return this;
+      }
+      private int bitField0_;
+
+      private int id_ ;
+      /**
+       * <code>int32 id = 1;</code>
+       * @return The id.
+       */
+      @java.lang.Override
+      public int getId() {
+        return id_;
+      }
+      /**
+       * <code>int32 id = 1;</code>
+       * @param value The id to set.
+       * @return This builder for chaining.
+       */
+      public Builder setId(int value) {
+
+        id_ = value;
+        bitField0_ |= 0x00000001;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>int32 id = 1;</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearId() {
+        bitField0_ = (bitField0_ & ~0x00000001);
+        id_ = 0;
+        onChanged();
+        return this;
+      }
+
+      private int learntOnState_ ;
+      /**
+       * <code>int32 learntOnState = 2;</code>
+       * @return The learntOnState.
+       */
+      @java.lang.Override
+      public int getLearntOnState() {
+        return learntOnState_;
+      }
+      /**
+       * <code>int32 learntOnState = 2;</code>
+       * @param value The learntOnState to set.
+       * @return This builder for chaining.
+       */
+      public Builder setLearntOnState(int value) {
+
+        learntOnState_ = value;
+        bitField0_ |= 0x00000002;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>int32 learntOnState = 2;</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearLearntOnState() {
+        bitField0_ = (bitField0_ & ~0x00000002);
+        learntOnState_ = 0;
+        onChanged();
+        return this;
+      }
+
+      private double activity_ ;
+      /**
+       * <code>double activity = 3;</code>
+       * @return The activity.
+       */
+      @java.lang.Override
+      public double getActivity() {
+        return activity_;
+      }
+      /**
+       * <code>double activity = 3;</code>
+       * @param value The activity to set.
+       * @return This builder for chaining.
+       */
+      public Builder setActivity(double value) {
+
+        activity_ = value;
+        bitField0_ |= 0x00000004;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>double activity = 3;</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearActivity() {
+        bitField0_ = (bitField0_ & ~0x00000004);
+        activity_ = 0D;
+        onChanged();
+        return this;
+      }
+
+      private boolean seen_ ;
+      /**
+       * <code>bool seen = 4;</code>
+       * @return The seen.
+       */
+      @java.lang.Override
+      public boolean getSeen() {
+        return seen_;
+      }
+      /**
+       * <code>bool seen = 4;</code>
+       * @param value The seen to set.
+       * @return This builder for chaining.
+       */
+      public Builder setSeen(boolean value) {
+
+        seen_ = value;
+        bitField0_ |= 0x00000008;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>bool seen = 4;</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearSeen() {
+        bitField0_ = (bitField0_ & ~0x00000008);
+        seen_ = false;
+        onChanged();
+        return this;
+      }
+
+      private long lbd_ ;
+      /**
+       * <code>int64 lbd = 5;</code>
+       * @return The lbd.
+       */
+      @java.lang.Override
+      public long getLbd() {
+        return lbd_;
+      }
+      /**
+       * <code>int64 lbd = 5;</code>
+       * @param value The lbd to set.
+       * @return This builder for chaining.
+       */
+      public Builder setLbd(long value) {
+
+        lbd_ = value;
+        bitField0_ |= 0x00000010;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>int64 lbd = 5;</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearLbd() {
+        bitField0_ = (bitField0_ & ~0x00000010);
+        lbd_ = 0L;
+        onChanged();
+        return this;
+      }
+
+      private boolean canBeDel_ ;
+      /**
+       * <code>bool canBeDel = 6;</code>
+       * @return The canBeDel.
+       */
+      @java.lang.Override
+      public boolean getCanBeDel() {
+        return canBeDel_;
+      }
+      /**
+       * <code>bool canBeDel = 6;</code>
+       * @param value The canBeDel to set.
+       * @return This builder for chaining.
+       */
+      public Builder setCanBeDel(boolean value) {
+
+        canBeDel_ = value;
+        bitField0_ |= 0x00000020;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>bool canBeDel = 6;</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearCanBeDel() {
+        bitField0_ = (bitField0_ & ~0x00000020);
+        canBeDel_ = false;
+        onChanged();
+        return this;
+      }
+
+      private boolean oneWatched_ ;
+      /**
+       * <code>bool oneWatched = 7;</code>
+       * @return The oneWatched.
+       */
+      @java.lang.Override
+      public boolean getOneWatched() {
+        return oneWatched_;
+      }
+      /**
+       * <code>bool oneWatched = 7;</code>
+       * @param value The oneWatched to set.
+       * @return This builder for chaining.
+       */
+      public Builder setOneWatched(boolean value) {
+
+        oneWatched_ = value;
+        bitField0_ |= 0x00000040;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>bool oneWatched = 7;</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearOneWatched() {
+        bitField0_ = (bitField0_ & ~0x00000040);
+        oneWatched_ = false;
+        onChanged();
+        return this;
+      }
+
+      private int atMostWatchers_ ;
+      /**
+       * <code>int32 atMostWatchers = 8;</code>
+       * @return The atMostWatchers.
+       */
+      @java.lang.Override
+      public int getAtMostWatchers() {
+        return atMostWatchers_;
+      }
+      /**
+       * <code>int32 atMostWatchers = 8;</code>
+       * @param value The atMostWatchers to set.
+       * @return This builder for chaining.
+       */
+      public Builder setAtMostWatchers(int value) {
+
+        atMostWatchers_ = value;
+        bitField0_ |= 0x00000080;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>int32 atMostWatchers = 8;</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearAtMostWatchers() {
+        bitField0_ = (bitField0_ & ~0x00000080);
+        atMostWatchers_ = 0;
+        onChanged();
+        return this;
+      }
+
+      // @@protoc_insertion_point(builder_scope:solver.PBClauseMetadata)
+    }
+
+    // @@protoc_insertion_point(class_scope:solver.PBClauseMetadata)
+    private static final com.booleworks.logicng.serialization.solvers.ProtoBufSolverContainer.PBClauseMetadata DEFAULT_INSTANCE;
+    static {
+      DEFAULT_INSTANCE = new com.booleworks.logicng.serialization.solvers.ProtoBufSolverContainer.PBClauseMetadata();
+    }
+
+    public static com.booleworks.logicng.serialization.solvers.ProtoBufSolverContainer.PBClauseMetadata getDefaultInstance() {
+      return DEFAULT_INSTANCE;
+    }
+
+    private static final com.google.protobuf.Parser<PBClauseMetadata>
+        PARSER = new com.google.protobuf.AbstractParser<PBClauseMetadata>() {
+      @java.lang.Override
+      public PBClauseMetadata parsePartialFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws com.google.protobuf.InvalidProtocolBufferException {
+        Builder builder = newBuilder();
+        try {
+          builder.mergeFrom(input, extensionRegistry);
+        } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+          throw e.setUnfinishedMessage(builder.buildPartial());
+        } catch (com.google.protobuf.UninitializedMessageException e) {
+          throw e.asInvalidProtocolBufferException().setUnfinishedMessage(builder.buildPartial());
+        } catch (java.io.IOException e) {
+          throw new com.google.protobuf.InvalidProtocolBufferException(e)
+              .setUnfinishedMessage(builder.buildPartial());
+        }
+        return builder.buildPartial();
+      }
+    };
+
+    public static com.google.protobuf.Parser<PBClauseMetadata> parser() {
+      return PARSER;
+    }
+
+    @java.lang.Override
+    public com.google.protobuf.Parser<PBClauseMetadata> getParserForType() {
+      return PARSER;
+    }
+
+    @java.lang.Override
+    public com.booleworks.logicng.serialization.solvers.ProtoBufSolverContainer.PBClauseMetadata getDefaultInstanceForType() {
+      return DEFAULT_INSTANCE;
+    }
+
+  }
+
+  private static final com.google.protobuf.Descriptors.Descriptor
+    internal_static_solver_PBSolverContainer_descriptor;
+  private static final 
+    com.google.protobuf.GeneratedMessage.FieldAccessorTable
+      internal_static_solver_PBSolverContainer_fieldAccessorTable;
+  private static final com.google.protobuf.Descriptors.Descriptor
+    internal_static_solver_PBSolverOverlay_descriptor;
+  private static final 
+    com.google.protobuf.GeneratedMessage.FieldAccessorTable
+      internal_static_solver_PBSolverOverlay_fieldAccessorTable;
+  private static final com.google.protobuf.Descriptors.Descriptor
+    internal_static_solver_PBClauseMetadata_descriptor;
+  private static final 
+    com.google.protobuf.GeneratedMessage.FieldAccessorTable
+      internal_static_solver_PBClauseMetadata_fieldAccessorTable;
+
+  public static com.google.protobuf.Descriptors.FileDescriptor
+      getDescriptor() {
+    return descriptor;
+  }
+  private static  com.google.protobuf.Descriptors.FileDescriptor
+      descriptor;
+  static {
+    java.lang.String[] descriptorData = {
+      "\n\026solver_container.proto\022\006solver\032\017satsol" +
+      "ver.proto\"`\n\021PBSolverContainer\022!\n\004base\030\001" +
+      " \001(\0132\023.solver.PBSatSolver\022(\n\007overlay\030\002 \003" +
+      "(\0132\027.solver.PBSolverOverlay\"\221\001\n\017PBSolver" +
+      "Overlay\022#\n\006solver\030\001 \001(\0132\023.solver.PBSatSo" +
+      "lver\022\022\n\nnumClauses\030\002 \001(\005\022\023\n\013ownName2Idx\030" +
+      "\003 \001(\010\0220\n\016clauseMetadata\030\004 \003(\0132\030.solver.P" +
+      "BClauseMetadata\"\240\001\n\020PBClauseMetadata\022\n\n\002" +
+      "id\030\001 \001(\005\022\025\n\rlearntOnState\030\002 \001(\005\022\020\n\010activ" +
+      "ity\030\003 \001(\001\022\014\n\004seen\030\004 \001(\010\022\013\n\003lbd\030\005 \001(\003\022\020\n\010" +
+      "canBeDel\030\006 \001(\010\022\022\n\noneWatched\030\007 \001(\010\022\026\n\016at" +
+      "MostWatchers\030\010 \001(\005BG\n,com.booleworks.log" +
+      "icng.serialization.solversB\027ProtoBufSolv" +
+      "erContainerb\006proto3"
+    };
+    descriptor = com.google.protobuf.Descriptors.FileDescriptor
+      .internalBuildGeneratedFileFrom(descriptorData,
+        new com.google.protobuf.Descriptors.FileDescriptor[] {
+          com.booleworks.logicng.serialization.solvers.ProtoBufSatSolver.getDescriptor(),
+        });
+    internal_static_solver_PBSolverContainer_descriptor =
+      getDescriptor().getMessageTypes().get(0);
+    internal_static_solver_PBSolverContainer_fieldAccessorTable = new
+      com.google.protobuf.GeneratedMessage.FieldAccessorTable(
+        internal_static_solver_PBSolverContainer_descriptor,
+        new java.lang.String[] { "Base", "Overlay", });
+    internal_static_solver_PBSolverOverlay_descriptor =
+      getDescriptor().getMessageTypes().get(1);
+    internal_static_solver_PBSolverOverlay_fieldAccessorTable = new
+      com.google.protobuf.GeneratedMessage.FieldAccessorTable(
+        internal_static_solver_PBSolverOverlay_descriptor,
+        new java.lang.String[] { "Solver", "NumClauses", "OwnName2Idx", "ClauseMetadata", });
+    internal_static_solver_PBClauseMetadata_descriptor =
+      getDescriptor().getMessageTypes().get(2);
+    internal_static_solver_PBClauseMetadata_fieldAccessorTable = new
+      com.google.protobuf.GeneratedMessage.FieldAccessorTable(
+        internal_static_solver_PBClauseMetadata_descriptor,
+        new java.lang.String[] { "Id", "LearntOnState", "Activity", "Seen", "Lbd", "CanBeDel", "OneWatched", "AtMostWatchers", });
+    descriptor.resolveAllFeaturesImmutable();
+    com.booleworks.logicng.serialization.solvers.ProtoBufSatSolver.getDescriptor();
+  }
+
+  // @@protoc_insertion_point(outer_class_scope)
+}
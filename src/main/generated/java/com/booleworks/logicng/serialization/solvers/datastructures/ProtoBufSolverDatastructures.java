@@ -8333,6 +8333,17 @@ public final class ProtoBufSolverDatastructures {
      * @return The proposition.
      */
     com.google.protobuf.ByteString getProposition();
+
+    /**
+     * <code>optional int32 propositionIndex = 3;</code>
+     * @return Whether the propositionIndex field is set.
+     */
+    boolean hasPropositionIndex();
+    /**
+     * <code>optional int32 propositionIndex = 3;</code>
+     * @return The propositionIndex.
+     */
+    int getPropositionIndex();
   }
   /**
    * Protobuf type {@code solver.PBProofInformation}
@@ -8418,6 +8429,25 @@ public final class ProtoBufSolverDatastructures {
       return proposition_;
     }
 
+    public static final int PROPOSITIONINDEX_FIELD_NUMBER = 3;
+    private int propositionIndex_ = 0;
+    /**
+     * <code>optional int32 propositionIndex = 3;</code>
+     * @return Whether the propositionIndex field is set.
+     */
+    @java.lang.Override
+    public boolean hasPropositionIndex() {
+      return ((bitField0_ & 0x00000004) != 0);
+    }
+    /**
+     * <code>optional int32 propositionIndex = 3;</code>
+     * @return The propositionIndex.
+     */
+    @java.lang.Override
+    public int getPropositionIndex() {
+      return propositionIndex_;
+    }
+
     private byte memoizedIsInitialized = -1;
     @java.lang.Override
     public final boolean isInitialized() {
@@ -8438,6 +8468,9 @@ public final class ProtoBufSolverDatastructures {
       if (((bitField0_ & 0x00000002) != 0)) {
         output.writeBytes(2, proposition_);
       }
+      if (((bitField0_ & 0x00000004) != 0)) {
+        output.writeInt32(3, propositionIndex_);
+      }
       getUnknownFields().writeTo(output);
     }
 
@@ -8455,6 +8488,10 @@ public final class ProtoBufSolverDatastructures {
         size += com.google.protobuf.CodedOutputStream
           .computeBytesSize(2, proposition_);
       }
+      if (((bitField0_ & 0x00000004) != 0)) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeInt32Size(3, propositionIndex_);
+      }
       size += getUnknownFields().getSerializedSize();
       memoizedSize = size;
       return size;
@@ -8480,6 +8517,11 @@ public final class ProtoBufSolverDatastructures {
         if (!getProposition()
             .equals(other.getProposition())) return false;
       }
+      if (hasPropositionIndex() != other.hasPropositionIndex()) return false;
+      if (hasPropositionIndex()) {
+        if (getPropositionIndex()
+            != other.getPropositionIndex()) return false;
+      }
       if (!getUnknownFields().equals(other.getUnknownFields())) return false;
       return true;
     }
@@ -8499,6 +8541,10 @@ public final class ProtoBufSolverDatastructures {
         hash = (37 * hash) + PROPOSITION_FIELD_NUMBER;
         hash = (53 * hash) + getProposition().hashCode();
       }
+      if (hasPropositionIndex()) {
+        hash = (37 * hash) + PROPOSITIONINDEX_FIELD_NUMBER;
+        hash = (53 * hash) + getPropositionIndex();
+      }
       hash = (29 * hash) + getUnknownFields().hashCode();
       memoizedHashCode = hash;
       return hash;
@@ -8642,6 +8688,7 @@ public final class ProtoBufSolverDatastructures {
           clauseBuilder_ = null;
         }
         proposition_ = com.google.protobuf.ByteString.EMPTY;
+        propositionIndex_ = 0;
         return this;
       }
 
@@ -8686,6 +8733,10 @@ public final class ProtoBufSolverDatastructures {
           result.proposition_ = proposition_;
           to_bitField0_ |= 0x00000002;
         }
+        if (((from_bitField0_ & 0x00000004) != 0)) {
+          result.propositionIndex_ = propositionIndex_;
+          to_bitField0_ |= 0x00000004;
+        }
         result.bitField0_ |= to_bitField0_;
       }
 
@@ -8707,6 +8758,9 @@ public final class ProtoBufSolverDatastructures {
         if (other.hasProposition()) {
           setProposition(other.getProposition());
         }
+        if (other.hasPropositionIndex()) {
+          setPropositionIndex(other.getPropositionIndex());
+        }
         this.mergeUnknownFields(other.getUnknownFields());
         onChanged();
         return this;
@@ -8745,6 +8799,11 @@ public final class ProtoBufSolverDatastructures {
                 bitField0_ |= 0x00000002;
                 break;
               } // case 18
+              case 24: {
+                propositionIndex_ = input.readInt32();
+                bitField0_ |= 0x00000004;
+                break;
+              } // case 24
               default: {
                 if (!super.parseUnknownField(input, extensionRegistry, tag)) {
                   done = true; // was an endgroup tag
@@ -8923,6 +8982,46 @@ public final class ProtoBufSolverDatastructures {
         return this;
       }
 
+      private int propositionIndex_ ;
+      /**
+       * <code>optional int32 propositionIndex = 3;</code>
+       * @return Whether the propositionIndex field is set.
+       */
+      @java.lang.Override
+      public boolean hasPropositionIndex() {
+        return ((bitField0_ & 0x00000004) != 0);
+      }
+      /**
+       * <code>optional int32 propositionIndex = 3;</code>
+       * @return The propositionIndex.
+       */
+      @java.lang.Override
+      public int getPropositionIndex() {
+        return propositionIndex_;
+      }
+      /**
+       * <code>optional int32 propositionIndex = 3;</code>
+       * @param value The propositionIndex to set.
+       * @return This builder for chaining.
+       */
+      public Builder setPropositionIndex(int value) {
+
+        propositionIndex_ = value;
+        bitField0_ |= 0x00000004;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>optional int32 propositionIndex = 3;</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearPropositionIndex() {
+        bitField0_ = (bitField0_ & ~0x00000004);
+        propositionIndex_ = 0;
+        onChanged();
+        return this;
+      }
+
       // @@protoc_insertion_point(builder_scope:solver.PBProofInformation)
     }
 
@@ -8974,176 +9073,2558 @@ public final class ProtoBufSolverDatastructures {
 
   }
 
-  private static final com.google.protobuf.Descriptors.Descriptor
-    internal_static_solver_PBClause_descriptor;
-  private static final 
-    com.google.protobuf.GeneratedMessage.FieldAccessorTable
-      internal_static_solver_PBClause_fieldAccessorTable;
-  private static final com.google.protobuf.Descriptors.Descriptor
-    internal_static_solver_PBClauseVector_descriptor;
-  private static final 
-    com.google.protobuf.GeneratedMessage.FieldAccessorTable
-      internal_static_solver_PBClauseVector_fieldAccessorTable;
-  private static final com.google.protobuf.Descriptors.Descriptor
-    internal_static_solver_PBWatcher_descriptor;
-  private static final 
-    com.google.protobuf.GeneratedMessage.FieldAccessorTable
-      internal_static_solver_PBWatcher_fieldAccessorTable;
-  private static final com.google.protobuf.Descriptors.Descriptor
-    internal_static_solver_PBWatcherVector_descriptor;
-  private static final 
-    com.google.protobuf.GeneratedMessage.FieldAccessorTable
-      internal_static_solver_PBWatcherVector_fieldAccessorTable;
-  private static final com.google.protobuf.Descriptors.Descriptor
-    internal_static_solver_PBWatcherVectorVector_descriptor;
-  private static final 
-    com.google.protobuf.GeneratedMessage.FieldAccessorTable
-      internal_static_solver_PBWatcherVectorVector_fieldAccessorTable;
-  private static final com.google.protobuf.Descriptors.Descriptor
-    internal_static_solver_PBVariable_descriptor;
-  private static final 
-    com.google.protobuf.GeneratedMessage.FieldAccessorTable
-      internal_static_solver_PBVariable_fieldAccessorTable;
-  private static final com.google.protobuf.Descriptors.Descriptor
-    internal_static_solver_PBVariableVector_descriptor;
-  private static final 
-    com.google.protobuf.GeneratedMessage.FieldAccessorTable
-      internal_static_solver_PBVariableVector_fieldAccessorTable;
-  private static final com.google.protobuf.Descriptors.Descriptor
-    internal_static_solver_PBHeap_descriptor;
-  private static final 
-    com.google.protobuf.GeneratedMessage.FieldAccessorTable
-      internal_static_solver_PBHeap_fieldAccessorTable;
-  private static final com.google.protobuf.Descriptors.Descriptor
-    internal_static_solver_PBBoundedIntQueue_descriptor;
-  private static final 
-    com.google.protobuf.GeneratedMessage.FieldAccessorTable
-      internal_static_solver_PBBoundedIntQueue_fieldAccessorTable;
-  private static final com.google.protobuf.Descriptors.Descriptor
-    internal_static_solver_PBBoundedLongQueue_descriptor;
-  private static final 
-    com.google.protobuf.GeneratedMessage.FieldAccessorTable
-      internal_static_solver_PBBoundedLongQueue_fieldAccessorTable;
-  private static final com.google.protobuf.Descriptors.Descriptor
-    internal_static_solver_PBProofInformation_descriptor;
-  private static final 
-    com.google.protobuf.GeneratedMessage.FieldAccessorTable
-      internal_static_solver_PBProofInformation_fieldAccessorTable;
+  public interface PBPropositionTableOrBuilder extends
+      // @@protoc_insertion_point(interface_extends:solver.PBPropositionTable)
+      com.google.protobuf.MessageOrBuilder {
 
-  public static com.google.protobuf.Descriptors.FileDescriptor
-      getDescriptor() {
-    return descriptor;
+    /**
+     * <code>repeated bytes proposition = 1;</code>
+     * @return A list containing the proposition.
+     */
+    java.util.List<com.google.protobuf.ByteString> getPropositionList();
+    /**
+     * <code>repeated bytes proposition = 1;</code>
+     * @return The count of proposition.
+     */
+    int getPropositionCount();
+    /**
+     * <code>repeated bytes proposition = 1;</code>
+     * @param index The index of the element to return.
+     * @return The proposition at the given index.
+     */
+    com.google.protobuf.ByteString getProposition(int index);
+
+    /**
+     * <code>repeated .solver.PBPropositionBatch batch = 2;</code>
+     */
+    java.util.List<com.booleworks.logicng.serialization.solvers.datastructures.ProtoBufSolverDatastructures.PBPropositionBatch> 
+        getBatchList();
+    /**
+     * <code>repeated .solver.PBPropositionBatch batch = 2;</code>
+     */
+    com.booleworks.logicng.serialization.solvers.datastructures.ProtoBufSolverDatastructures.PBPropositionBatch getBatch(int index);
+    /**
+     * <code>repeated .solver.PBPropositionBatch batch = 2;</code>
+     */
+    int getBatchCount();
+    /**
+     * <code>repeated .solver.PBPropositionBatch batch = 2;</code>
+     */
+    java.util.List<? extends com.booleworks.logicng.serialization.solvers.datastructures.ProtoBufSolverDatastructures.PBPropositionBatchOrBuilder> 
+        getBatchOrBuilderList();
+    /**
+     * <code>repeated .solver.PBPropositionBatch batch = 2;</code>
+     */
+    com.booleworks.logicng.serialization.solvers.datastructures.ProtoBufSolverDatastructures.PBPropositionBatchOrBuilder getBatchOrBuilder(
+        int index);
   }
-  private static  com.google.protobuf.Descriptors.FileDescriptor
-      descriptor;
-  static {
-    java.lang.String[] descriptorData = {
-      "\n\033solver_datastructures.proto\022\006solver\032\021c" +
-      "ollections.proto\"\322\001\n\010PBClause\022&\n\004data\030\001 " +
-      "\001(\0132\030.collections.PBIntVector\022\025\n\rlearntO" +
-      "nState\030\002 \001(\005\022\020\n\010isAtMost\030\003 \001(\010\022\020\n\010activi" +
-      "ty\030\004 \001(\001\022\014\n\004seen\030\006 \001(\010\022\013\n\003lbd\030\007 \001(\003\022\020\n\010c" +
-      "anBeDel\030\010 \001(\010\022\022\n\noneWatched\030\t \001(\010\022\026\n\016atM" +
-      "ostWatchers\030\n \001(\005\022\n\n\002id\030\013 \001(\005\"3\n\016PBClaus" +
-      "eVector\022!\n\007element\030\001 \003(\0132\020.solver.PBClau" +
-      "se\",\n\tPBWatcher\022\016\n\006clause\030\001 \001(\005\022\017\n\007block" +
-      "er\030\002 \001(\005\"5\n\017PBWatcherVector\022\"\n\007element\030\001" +
-      " \003(\0132\021.solver.PBWatcher\"A\n\025PBWatcherVect" +
-      "orVector\022(\n\007element\030\001 \003(\0132\027.solver.PBWat" +
-      "cherVector\"\211\001\n\nPBVariable\022&\n\nassignment\030" +
-      "\001 \001(\0162\022.solver.PBTristate\022\r\n\005level\030\002 \001(\005" +
-      "\022\016\n\006reason\030\003 \001(\005\022\020\n\010activity\030\004 \001(\001\022\020\n\010po" +
-      "larity\030\005 \001(\010\022\020\n\010decision\030\006 \001(\010\"7\n\020PBVari" +
-      "ableVector\022#\n\007element\030\001 \003(\0132\022.solver.PBV" +
-      "ariable\"[\n\006PBHeap\022&\n\004heap\030\001 \001(\0132\030.collec" +
-      "tions.PBIntVector\022)\n\007indices\030\002 \001(\0132\030.col" +
-      "lections.PBIntVector\"\221\001\n\021PBBoundedIntQue" +
-      "ue\022\'\n\005elems\030\001 \001(\0132\030.collections.PBIntVec" +
-      "tor\022\r\n\005first\030\002 \001(\005\022\014\n\004last\030\003 \001(\005\022\022\n\nsumO" +
-      "fQueue\030\004 \001(\003\022\017\n\007maxSize\030\005 \001(\005\022\021\n\tqueueSi" +
-      "ze\030\006 \001(\005\"\223\001\n\022PBBoundedLongQueue\022(\n\005elems" +
-      "\030\001 \001(\0132\031.collections.PBLongVector\022\r\n\005fir" +
-      "st\030\002 \001(\005\022\014\n\004last\030\003 \001(\005\022\022\n\nsumOfQueue\030\004 \001" +
-      "(\003\022\017\n\007maxSize\030\005 \001(\005\022\021\n\tqueueSize\030\006 \001(\005\"h" +
-      "\n\022PBProofInformation\022(\n\006clause\030\001 \001(\0132\030.c" +
-      "ollections.PBIntVector\022\030\n\013proposition\030\002 " +
-      "\001(\014H\000\210\001\001B\016\n\014_proposition*,\n\nPBTristate\022\t" +
-      "\n\005FALSE\020\000\022\010\n\004TRUE\020\001\022\t\n\005UNDEF\020\002B[\n;com.bo" +
-      "oleworks.logicng.serialization.solvers.d" +
-      "atastructuresB\034ProtoBufSolverDatastructu" +
-      "resb\006proto3"
-    };
-    descriptor = com.google.protobuf.Descriptors.FileDescriptor
-      .internalBuildGeneratedFileFrom(descriptorData,
-        new com.google.protobuf.Descriptors.FileDescriptor[] {
-          com.booleworks.logicng.serialization.collections.ProtoBufCollections.getDescriptor(),
-        });
-    internal_static_solver_PBClause_descriptor =
-      getDescriptor().getMessageTypes().get(0);
-    internal_static_solver_PBClause_fieldAccessorTable = new
-      com.google.protobuf.GeneratedMessage.FieldAccessorTable(
-        internal_static_solver_PBClause_descriptor,
-        new java.lang.String[] { "Data", "LearntOnState", "IsAtMost", "Activity", "Seen", "Lbd", "CanBeDel", "OneWatched", "AtMostWatchers", "Id", });
-    internal_static_solver_PBClauseVector_descriptor =
-      getDescriptor().getMessageTypes().get(1);
-    internal_static_solver_PBClauseVector_fieldAccessorTable = new
-      com.google.protobuf.GeneratedMessage.FieldAccessorTable(
-        internal_static_solver_PBClauseVector_descriptor,
-        new java.lang.String[] { "Element", });
-    internal_static_solver_PBWatcher_descriptor =
-      getDescriptor().getMessageTypes().get(2);
-    internal_static_solver_PBWatcher_fieldAccessorTable = new
-      com.google.protobuf.GeneratedMessage.FieldAccessorTable(
-        internal_static_solver_PBWatcher_descriptor,
-        new java.lang.String[] { "Clause", "Blocker", });
-    internal_static_solver_PBWatcherVector_descriptor =
-      getDescriptor().getMessageTypes().get(3);
-    internal_static_solver_PBWatcherVector_fieldAccessorTable = new
-      com.google.protobuf.GeneratedMessage.FieldAccessorTable(
-        internal_static_solver_PBWatcherVector_descriptor,
-        new java.lang.String[] { "Element", });
-    internal_static_solver_PBWatcherVectorVector_descriptor =
-      getDescriptor().getMessageTypes().get(4);
-    internal_static_solver_PBWatcherVectorVector_fieldAccessorTable = new
-      com.google.protobuf.GeneratedMessage.FieldAccessorTable(
-        internal_static_solver_PBWatcherVectorVector_descriptor,
-        new java.lang.String[] { "Element", });
-    internal_static_solver_PBVariable_descriptor =
-      getDescriptor().getMessageTypes().get(5);
-    internal_static_solver_PBVariable_fieldAccessorTable = new
-      com.google.protobuf.GeneratedMessage.FieldAccessorTable(
-        internal_static_solver_PBVariable_descriptor,
-        new java.lang.String[] { "Assignment", "Level", "Reason", "Activity", "Polarity", "Decision", });
-    internal_static_solver_PBVariableVector_descriptor =
-      getDescriptor().getMessageTypes().get(6);
-    internal_static_solver_PBVariableVector_fieldAccessorTable = new
-      com.google.protobuf.GeneratedMessage.FieldAccessorTable(
-        internal_static_solver_PBVariableVector_descriptor,
-        new java.lang.String[] { "Element", });
-    internal_static_solver_PBHeap_descriptor =
-      getDescriptor().getMessageTypes().get(7);
-    internal_static_solver_PBHeap_fieldAccessorTable = new
-      com.google.protobuf.GeneratedMessage.FieldAccessorTable(
-        internal_static_solver_PBHeap_descriptor,
-        new java.lang.String[] { "Heap", "Indices", });
-    internal_static_solver_PBBoundedIntQueue_descriptor =
-      getDescriptor().getMessageTypes().get(8);
-    internal_static_solver_PBBoundedIntQueue_fieldAccessorTable = new
-      com.google.protobuf.GeneratedMessage.FieldAccessorTable(
-        internal_static_solver_PBBoundedIntQueue_descriptor,
-        new java.lang.String[] { "Elems", "First", "Last", "SumOfQueue", "MaxSize", "QueueSize", });
-    internal_static_solver_PBBoundedLongQueue_descriptor =
-      getDescriptor().getMessageTypes().get(9);
-    internal_static_solver_PBBoundedLongQueue_fieldAccessorTable = new
-      com.google.protobuf.GeneratedMessage.FieldAccessorTable(
-        internal_static_solver_PBBoundedLongQueue_descriptor,
-        new java.lang.String[] { "Elems", "First", "Last", "SumOfQueue", "MaxSize", "QueueSize", });
-    internal_static_solver_PBProofInformation_descriptor =
-      getDescriptor().getMessageTypes().get(10);
-    internal_static_solver_PBProofInformation_fieldAccessorTable = new
-      com.google.protobuf.GeneratedMessage.FieldAccessorTable(
-        internal_static_solver_PBProofInformation_descriptor,
-        new java.lang.String[] { "Clause", "Proposition", });
+  /**
+   * Protobuf type {@code solver.PBPropositionTable}
+   */
+  public static final class PBPropositionTable extends
+      com.google.protobuf.GeneratedMessage implements
+      // @@protoc_insertion_point(message_implements:solver.PBPropositionTable)
+      PBPropositionTableOrBuilder {
+  private static final long serialVersionUID = 0L;
+    static {
+      com.google.protobuf.RuntimeVersion.validateProtobufGencodeVersion(
+        com.google.protobuf.RuntimeVersion.RuntimeDomain.PUBLIC,
+        /* major= */ 4,
+        /* minor= */ 26,
+        /* patch= */ 1,
+        /* suffix= */ "",
+        PBPropositionTable.class.getName());
+    }
+    // Use PBPropositionTable.newBuilder() to construct.
+    private PBPropositionTable(com.google.protobuf.GeneratedMessage.Builder<?> builder) {
+      super(builder);
+    }
+    private PBPropositionTable() {
+      proposition_ = emptyList(com.google.protobuf.ByteString.class);
+      batch_ = java.util.Collections.emptyList();
+    }
+
+    public static final com.google.protobuf.Descriptors.Descriptor
+        getDescriptor() {
+      return com.booleworks.logicng.serialization.solvers.datastructures.ProtoBufSolverDatastructures.internal_static_solver_PBPropositionTable_descriptor;
+    }
+
+    @java.lang.Override
+    protected com.google.protobuf.GeneratedMessage.FieldAccessorTable
+        internalGetFieldAccessorTable() {
+      return com.booleworks.logicng.serialization.solvers.datastructures.ProtoBufSolverDatastructures.internal_static_solver_PBPropositionTable_fieldAccessorTable
+          .ensureFieldAccessorsInitialized(
+              com.booleworks.logicng.serialization.solvers.datastructures.ProtoBufSolverDatastructures.PBPropositionTable.class, com.booleworks.logicng.serialization.solvers.datastructures.ProtoBufSolverDatastructures.PBPropositionTable.Builder.class);
+    }
+
+    public static final int PROPOSITION_FIELD_NUMBER = 1;
+    @SuppressWarnings("serial")
+    private com.google.protobuf.Internal.ProtobufList<com.google.protobuf.ByteString> proposition_ =
+        emptyList(com.google.protobuf.ByteString.class);
+    /**
+     * <code>repeated bytes proposition = 1;</code>
+     * @return A list containing the proposition.
+     */
+    @java.lang.Override
+    public java.util.List<com.google.protobuf.ByteString>
+        getPropositionList() {
+      return proposition_;
+    }
+    /**
+     * <code>repeated bytes proposition = 1;</code>
+     * @return The count of proposition.
+     */
+    public int getPropositionCount() {
+      return proposition_.size();
+    }
+    /**
+     * <code>repeated bytes proposition = 1;</code>
+     * @param index The index of the element to return.
+     * @return The proposition at the given index.
+     */
+    public com.google.protobuf.ByteString getProposition(int index) {
+      return proposition_.get(index);
+    }
+
+    public static final int BATCH_FIELD_NUMBER = 2;
+    @SuppressWarnings("serial")
+    private java.util.List<com.booleworks.logicng.serialization.solvers.datastructures.ProtoBufSolverDatastructures.PBPropositionBatch> batch_;
+    /**
+     * <code>repeated .solver.PBPropositionBatch batch = 2;</code>
+     */
+    @java.lang.Override
+    public java.util.List<com.booleworks.logicng.serialization.solvers.datastructures.ProtoBufSolverDatastructures.PBPropositionBatch> getBatchList() {
+      return batch_;
+    }
+    /**
+     * <code>repeated .solver.PBPropositionBatch batch = 2;</code>
+     */
+    @java.lang.Override
+    public java.util.List<? extends com.booleworks.logicng.serialization.solvers.datastructures.ProtoBufSolverDatastructures.PBPropositionBatchOrBuilder> 
+        getBatchOrBuilderList() {
+      return batch_;
+    }
+    /**
+     * <code>repeated .solver.PBPropositionBatch batch = 2;</code>
+     */
+    @java.lang.Override
+    public int getBatchCount() {
+      return batch_.size();
+    }
+    /**
+     * <code>repeated .solver.PBPropositionBatch batch = 2;</code>
+     */
+    @java.lang.Override
+    public com.booleworks.logicng.serialization.solvers.datastructures.ProtoBufSolverDatastructures.PBPropositionBatch getBatch(int index) {
+      return batch_.get(index);
+    }
+    /**
+     * <code>repeated .solver.PBPropositionBatch batch = 2;</code>
+     */
+    @java.lang.Override
+    public com.booleworks.logicng.serialization.solvers.datastructures.ProtoBufSolverDatastructures.PBPropositionBatchOrBuilder getBatchOrBuilder(
+        int index) {
+      return batch_.get(index);
+    }
+
+    private byte memoizedIsInitialized = -1;
+    @java.lang.Override
+    public final boolean isInitialized() {
+      byte isInitialized = memoizedIsInitialized;
+      if (isInitialized == 1) return true;
+      if (isInitialized == 0) return false;
+
+      memoizedIsInitialized = 1;
+      return true;
+    }
+
+    @java.lang.Override
+    public void writeTo(com.google.protobuf.CodedOutputStream output)
+                        throws java.io.IOException {
+      for (int i = 0; i < proposition_.size(); i++) {
+        output.writeBytes(1, proposition_.get(i));
+      }
+      for (int i = 0; i < batch_.size(); i++) {
+        output.writeMessage(2, batch_.get(i));
+      }
+      getUnknownFields().writeTo(output);
+    }
+
+    @java.lang.Override
+    public int getSerializedSize() {
+      int size = memoizedSize;
+      if (size != -1) return size;
+
+      size = 0;
+      {
+        int dataSize = 0;
+        for (int i = 0; i < proposition_.size(); i++) {
+          dataSize += com.google.protobuf.CodedOutputStream
+            .computeBytesSizeNoTag(proposition_.get(i));
+        }
+        size += dataSize;
+        size += 1 * getPropositionList().size();
+      }
+      for (int i = 0; i < batch_.size(); i++) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeMessageSize(2, batch_.get(i));
+      }
+      size += getUnknownFields().getSerializedSize();
+      memoizedSize = size;
+      return size;
+    }
+
+    @java.lang.Override
+    public boolean equals(final java.lang.Object obj) {
+      if (obj == this) {
+       return true;
+      }
+      if (!(obj instanceof com.booleworks.logicng.serialization.solvers.datastructures.ProtoBufSolverDatastructures.PBPropositionTable)) {
+        return super.equals(obj);
+      }
+      com.booleworks.logicng.serialization.solvers.datastructures.ProtoBufSolverDatastructures.PBPropositionTable other = (com.booleworks.logicng.serialization.solvers.datastructures.ProtoBufSolverDatastructures.PBPropositionTable) obj;
+
+      if (!getPropositionList()
+          .equals(other.getPropositionList())) return false;
+      if (!getBatchList()
+          .equals(other.getBatchList())) return false;
+      if (!getUnknownFields().equals(other.getUnknownFields())) return false;
+      return true;
+    }
+
+    @java.lang.Override
+    public int hashCode() {
+      if (memoizedHashCode != 0) {
+        return memoizedHashCode;
+      }
+      int hash = 41;
+      hash = (19 * hash) + getDescriptor().hashCode();
+      if (getPropositionCount() > 0) {
+        hash = (37 * hash) + PROPOSITION_FIELD_NUMBER;
+        hash = (53 * hash) + getPropositionList().hashCode();
+      }
+      if (getBatchCount() > 0) {
+        hash = (37 * hash) + BATCH_FIELD_NUMBER;
+        hash = (53 * hash) + getBatchList().hashCode();
+      }
+      hash = (29 * hash) + getUnknownFields().hashCode();
+      memoizedHashCode = hash;
+      return hash;
+    }
+
+    public static com.booleworks.logicng.serialization.solvers.datastructures.ProtoBufSolverDatastructures.PBPropositionTable parseFrom(
+        java.nio.ByteBuffer data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static com.booleworks.logicng.serialization.solvers.datastructures.ProtoBufSolverDatastructures.PBPropositionTable parseFrom(
+        java.nio.ByteBuffer data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static com.booleworks.logicng.serialization.solvers.datastructures.ProtoBufSolverDatastructures.PBPropositionTable parseFrom(
+        com.google.protobuf.ByteString data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static com.booleworks.logicng.serialization.solvers.datastructures.ProtoBufSolverDatastructures.PBPropositionTable parseFrom(
+        com.google.protobuf.ByteString data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static com.booleworks.logicng.serialization.solvers.datastructures.ProtoBufSolverDatastructures.PBPropositionTable parseFrom(byte[] data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static com.booleworks.logicng.serialization.solvers.datastructures.ProtoBufSolverDatastructures.PBPropositionTable parseFrom(
+        byte[] data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static com.booleworks.logicng.serialization.solvers.datastructures.ProtoBufSolverDatastructures.PBPropositionTable parseFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessage
+          .parseWithIOException(PARSER, input);
+    }
+    public static com.booleworks.logicng.serialization.solvers.datastructures.ProtoBufSolverDatastructures.PBPropositionTable parseFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessage
+          .parseWithIOException(PARSER, input, extensionRegistry);
+    }
+
+    public static com.booleworks.logicng.serialization.solvers.datastructures.ProtoBufSolverDatastructures.PBPropositionTable parseDelimitedFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessage
+          .parseDelimitedWithIOException(PARSER, input);
+    }
+
+    public static com.booleworks.logicng.serialization.solvers.datastructures.ProtoBufSolverDatastructures.PBPropositionTable parseDelimitedFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessage
+          .parseDelimitedWithIOException(PARSER, input, extensionRegistry);
+    }
+    public static com.booleworks.logicng.serialization.solvers.datastructures.ProtoBufSolverDatastructures.PBPropositionTable parseFrom(
+        com.google.protobuf.CodedInputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessage
+          .parseWithIOException(PARSER, input);
+    }
+    public static com.booleworks.logicng.serialization.solvers.datastructures.ProtoBufSolverDatastructures.PBPropositionTable parseFrom(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessage
+          .parseWithIOException(PARSER, input, extensionRegistry);
+    }
+
+    @java.lang.Override
+    public Builder newBuilderForType() { return newBuilder(); }
+    public static Builder newBuilder() {
+      return DEFAULT_INSTANCE.toBuilder();
+    }
+    public static Builder newBuilder(com.booleworks.logicng.serialization.solvers.datastructures.ProtoBufSolverDatastructures.PBPropositionTable prototype) {
+      return DEFAULT_INSTANCE.toBuilder().mergeFrom(prototype);
+    }
+    @java.lang.Override
+    public Builder toBuilder() {
+      return this == DEFAULT_INSTANCE
+          ? new Builder() : new Builder().mergeFrom(this);
+    }
+
+    @java.lang.Override
+    protected Builder newBuilderForType(
+        com.google.protobuf.GeneratedMessage.BuilderParent parent) {
+      Builder builder = new Builder(parent);
+      return builder;
+    }
+    /**
+     * Protobuf type {@code solver.PBPropositionTable}
+     */
+    public static final class Builder extends
+        com.google.protobuf.GeneratedMessage.Builder<Builder> implements
+        // @@protoc_insertion_point(builder_implements:solver.PBPropositionTable)
+        com.booleworks.logicng.serialization.solvers.datastructures.ProtoBufSolverDatastructures.PBPropositionTableOrBuilder {
+      public static final com.google.protobuf.Descriptors.Descriptor
+          getDescriptor() {
+        return com.booleworks.logicng.serialization.solvers.datastructures.ProtoBufSolverDatastructures.internal_static_solver_PBPropositionTable_descriptor;
+      }
+
+      @java.lang.Override
+      protected com.google.protobuf.GeneratedMessage.FieldAccessorTable
+          internalGetFieldAccessorTable() {
+        return com.booleworks.logicng.serialization.solvers.datastructures.ProtoBufSolverDatastructures.internal_static_solver_PBPropositionTable_fieldAccessorTable
+            .ensureFieldAccessorsInitialized(
+                com.booleworks.logicng.serialization.solvers.datastructures.ProtoBufSolverDatastructures.PBPropositionTable.class, com.booleworks.logicng.serialization.solvers.datastructures.ProtoBufSolverDatastructures.PBPropositionTable.Builder.class);
+      }
+
+      // Construct using com.booleworks.logicng.serialization.solvers.datastructures.ProtoBufSolverDatastructures.PBPropositionTable.newBuilder()
+      private Builder() {
+
+      }
+
+      private Builder(
+          com.google.protobuf.GeneratedMessage.BuilderParent parent) {
+        super(parent);
+
+      }
+      @java.lang.Override
+      public Builder clear() {
+        super.clear();
+        bitField0_ = 0;
+        proposition_ = emptyList(com.google.protobuf.ByteString.class);
+        if (batchBuilder_ == null) {
+          batch_ = java.util.Collections.emptyList();
+        } else {
+          batch_ = null;
+          batchBuilder_.clear();
+        }
+        bitField0_ = (bitField0_ & ~0x00000002);
+        return this;
+      }
+
+      @java.lang.Override
+      public com.google.protobuf.Descriptors.Descriptor
+          getDescriptorForType() {
+        return com.booleworks.logicng.serialization.solvers.datastructures.ProtoBufSolverDatastructures.internal_static_solver_PBPropositionTable_descriptor;
+      }
+
+      @java.lang.Override
+      public com.booleworks.logicng.serialization.solvers.datastructures.ProtoBufSolverDatastructures.PBPropositionTable getDefaultInstanceForType() {
+        return com.booleworks.logicng.serialization.solvers.datastructures.ProtoBufSolverDatastructures.PBPropositionTable.getDefaultInstance();
+      }
+
+      @java.lang.Override
+      public com.booleworks.logicng.serialization.solvers.datastructures.ProtoBufSolverDatastructures.PBPropositionTable build() {
+        com.booleworks.logicng.serialization.solvers.datastructures.ProtoBufSolverDatastructures.PBPropositionTable result = buildPartial();
+        if (!result.isInitialized()) {
+          throw newUninitializedMessageException(result);
+        }
+        return result;
+      }
+
+      @java.lang.Override
+      public com.booleworks.logicng.serialization.solvers.datastructures.ProtoBufSolverDatastructures.PBPropositionTable buildPartial() {
+        com.booleworks.logicng.serialization.solvers.datastructures.ProtoBufSolverDatastructures.PBPropositionTable result = new com.booleworks.logicng.serialization.solvers.datastructures.ProtoBufSolverDatastructures.PBPropositionTable(this);
+        buildPartialRepeatedFields(result);
+        if (bitField0_ != 0) { buildPartial0(result); }
+        onBuilt();
+        return result;
+      }
+
+      private void buildPartialRepeatedFields(com.booleworks.logicng.serialization.solvers.datastructures.ProtoBufSolverDatastructures.PBPropositionTable result) {
+        if (batchBuilder_ == null) {
+          if (((bitField0_ & 0x00000002) != 0)) {
+            batch_ = java.util.Collections.unmodifiableList(batch_);
+            bitField0_ = (bitField0_ & ~0x00000002);
+          }
+          result.batch_ = batch_;
+        } else {
+          result.batch_ = batchBuilder_.build();
+        }
+      }
+
+      private void buildPartial0(com.booleworks.logicng.serialization.solvers.datastructures.ProtoBufSolverDatastructures.PBPropositionTable result) {
+        int from_bitField0_ = bitField0_;
+        if (((from_bitField0_ & 0x00000001) != 0)) {
+          proposition_.makeImmutable();
+          result.proposition_ = proposition_;
+        }
+      }
+
+      @java.lang.Override
+      public Builder mergeFrom(com.google.protobuf.Message other) {
+        if (other instanceof com.booleworks.logicng.serialization.solvers.datastructures.ProtoBufSolverDatastructures.PBPropositionTable) {
+          return mergeFrom((com.booleworks.logicng.serialization.solvers.datastructures.ProtoBufSolverDatastructures.PBPropositionTable)other);
+        } else {
+          super.mergeFrom(other);
+          return this;
+        }
+      }
+
+      public Builder mergeFrom(com.booleworks.logicng.serialization.solvers.datastructures.ProtoBufSolverDatastructures.PBPropositionTable other) {
+        if (other == com.booleworks.logicng.serialization.solvers.datastructures.ProtoBufSolverDatastructures.PBPropositionTable.getDefaultInstance()) return this;
+        if (!other.proposition_.isEmpty()) {
+          if (proposition_.isEmpty()) {
+            proposition_ = other.proposition_;
+            proposition_.makeImmutable();
+            bitField0_ |= 0x00000001;
+          } else {
+            ensurePropositionIsMutable();
+            proposition_.addAll(other.proposition_);
+          }
+          onChanged();
+        }
+        if (batchBuilder_ == null) {
+          if (!other.batch_.isEmpty()) {
+            if (batch_.isEmpty()) {
+              batch_ = other.batch_;
+              bitField0_ = (bitField0_ & ~0x00000002);
+            } else {
+              ensureBatchIsMutable();
+              batch_.addAll(other.batch_);
+            }
+            onChanged();
+          }
+        } else {
+          if (!other.batch_.isEmpty()) {
+            if (batchBuilder_.isEmpty()) {
+              batchBuilder_.dispose();
+              batchBuilder_ = null;
+              batch_ = other.batch_;
+              bitField0_ = (bitField0_ & ~0x00000002);
+              batchBuilder_ = 
+                com.google.protobuf.GeneratedMessage.alwaysUseFieldBuilders ?
+                   getBatchFieldBuilder() : null;
+            } else {
+              batchBuilder_.addAllMessages(other.batch_);
+            }
+          }
+        }
+        this.mergeUnknownFields(other.getUnknownFields());
+        onChanged();
+        return this;
+      }
+
+      @java.lang.Override
+      public final boolean isInitialized() {
+        return true;
+      }
+
+      @java.lang.Override
+      public Builder mergeFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws java.io.IOException {
+        if (extensionRegistry == null) {
+          throw new java.lang.NullPointerException();
+        }
+        try {
+          boolean done = false;
+          while (!done) {
+            int tag = input.readTag();
+            switch (tag) {
+              case 0:
+                done = true;
+                break;
+              case 10: {
+                com.google.protobuf.ByteString v = input.readBytes();
+                ensurePropositionIsMutable();
+                proposition_.add(v);
+                break;
+              } // case 10
+              case 18: {
+                com.booleworks.logicng.serialization.solvers.datastructures.ProtoBufSolverDatastructures.PBPropositionBatch m =
+                    input.readMessage(
+                        com.booleworks.logicng.serialization.solvers.datastructures.ProtoBufSolverDatastructures.PBPropositionBatch.parser(),
+                        extensionRegistry);
+                if (batchBuilder_ == null) {
+                  ensureBatchIsMutable();
+                  batch_.add(m);
+                } else {
+                  batchBuilder_.addMessage(m);
+                }
+                break;
+              } // case 18
+              default: {
+                if (!super.parseUnknownField(input, extensionRegistry, tag)) {
+                  done = true; // was an endgroup tag
+                }
+                break;
+              } // default:
+            } // switch (tag)
+          } // while (!done)
+        } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+          throw e.unwrapIOException();
+        } finally {
+          onChanged();
+        } // finally
+        return this;
+      }
+      private int bitField0_;
+
+      private com.google.protobuf.Internal.ProtobufList<com.google.protobuf.ByteString> proposition_ = emptyList(com.google.protobuf.ByteString.class);
+      private void ensurePropositionIsMutable() {
+        if (!proposition_.isModifiable()) {
+          proposition_ = makeMutableCopy(proposition_);
+        }
+        bitField0_ |= 0x00000001;
+      }
+      /**
+       * <code>repeated bytes proposition = 1;</code>
+       * @return A list containing the proposition.
+       */
+      public java.util.List<com.google.protobuf.ByteString>
+          getPropositionList() {
+        proposition_.makeImmutable();
+        return proposition_;
+      }
+      /**
+       * <code>repeated bytes proposition = 1;</code>
+       * @return The count of proposition.
+       */
+      public int getPropositionCount() {
+        return proposition_.size();
+      }
+      /**
+       * <code>repeated bytes proposition = 1;</code>
+       * @param index The index of the element to return.
+       * @return The proposition at the given index.
+       */
+      public com.google.protobuf.ByteString getProposition(int index) {
+        return proposition_.get(index);
+      }
+      /**
+       * <code>repeated bytes proposition = 1;</code>
+       * @param index The index to set the value at.
+       * @param value The proposition to set.
+       * @return This builder for chaining.
+       */
+      public Builder setProposition(
+          int index, com.google.protobuf.ByteString value) {
+        if (value == null) { throw new NullPointerException(); }
+        ensurePropositionIsMutable();
+        proposition_.set(index, value);
+        bitField0_ |= 0x00000001;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>repeated bytes proposition = 1;</code>
+       * @param value The proposition to add.
+       * @return This builder for chaining.
+       */
+      public Builder addProposition(com.google.protobuf.ByteString value) {
+        if (value == null) { throw new NullPointerException(); }
+        ensurePropositionIsMutable();
+        proposition_.add(value);
+        bitField0_ |= 0x00000001;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>repeated bytes proposition = 1;</code>
+       * @param values The proposition to add.
+       * @return This builder for chaining.
+       */
+      public Builder addAllProposition(
+          java.lang.Iterable<? extends com.google.protobuf.ByteString> values) {
+        ensurePropositionIsMutable();
+        com.google.protobuf.AbstractMessageLite.Builder.addAll(
+            values, proposition_);
+        bitField0_ |= 0x00000001;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>repeated bytes proposition = 1;</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearProposition() {
+        proposition_ = emptyList(com.google.protobuf.ByteString.class);
+        bitField0_ = (bitField0_ & ~0x00000001);
+        onChanged();
+        return this;
+      }
+
+      private java.util.List<com.booleworks.logicng.serialization.solvers.datastructures.ProtoBufSolverDatastructures.PBPropositionBatch> batch_ =
+        java.util.Collections.emptyList();
+      private void ensureBatchIsMutable() {
+        if (!((bitField0_ & 0x00000002) != 0)) {
+          batch_ = new java.util.ArrayList<com.booleworks.logicng.serialization.solvers.datastructures.ProtoBufSolverDatastructures.PBPropositionBatch>(batch_);
+          bitField0_ |= 0x00000002;
+         }
+      }
+
+      private com.google.protobuf.RepeatedFieldBuilder<
+          com.booleworks.logicng.serialization.solvers.datastructures.ProtoBufSolverDatastructures.PBPropositionBatch, com.booleworks.logicng.serialization.solvers.datastructures.ProtoBufSolverDatastructures.PBPropositionBatch.Builder, com.booleworks.logicng.serialization.solvers.datastructures.ProtoBufSolverDatastructures.PBPropositionBatchOrBuilder> batchBuilder_;
+
+      /**
+       * <code>repeated .solver.PBPropositionBatch batch = 2;</code>
+       */
+      public java.util.List<com.booleworks.logicng.serialization.solvers.datastructures.ProtoBufSolverDatastructures.PBPropositionBatch> getBatchList() {
+        if (batchBuilder_ == null) {
+          return java.util.Collections.unmodifiableList(batch_);
+        } else {
+          return batchBuilder_.getMessageList();
+        }
+      }
+      /**
+       * <code>repeated .solver.PBPropositionBatch batch = 2;</code>
+       */
+      public int getBatchCount() {
+        if (batchBuilder_ == null) {
+          return batch_.size();
+        } else {
+          return batchBuilder_.getCount();
+        }
+      }
+      /**
+       * <code>repeated .solver.PBPropositionBatch batch = 2;</code>
+       */
+      public com.booleworks.logicng.serialization.solvers.datastructures.ProtoBufSolverDatastructures.PBPropositionBatch getBatch(int index) {
+        if (batchBuilder_ == null) {
+          return batch_.get(index);
+        } else {
+          return batchBuilder_.getMessage(index);
+        }
+      }
+      /**
+       * <code>repeated .solver.PBPropositionBatch batch = 2;</code>
+       */
+      public Builder setBatch(
+          int index, com.booleworks.logicng.serialization.solvers.datastructures.ProtoBufSolverDatastructures.PBPropositionBatch value) {
+        if (batchBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          ensureBatchIsMutable();
+          batch_.set(index, value);
+          onChanged();
+        } else {
+          batchBuilder_.setMessage(index, value);
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .solver.PBPropositionBatch batch = 2;</code>
+       */
+      public Builder setBatch(
+          int index, com.booleworks.logicng.serialization.solvers.datastructures.ProtoBufSolverDatastructures.PBPropositionBatch.Builder builderForValue) {
+        if (batchBuilder_ == null) {
+          ensureBatchIsMutable();
+          batch_.set(index, builderForValue.build());
+          onChanged();
+        } else {
+          batchBuilder_.setMessage(index, builderForValue.build());
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .solver.PBPropositionBatch batch = 2;</code>
+       */
+      public Builder addBatch(com.booleworks.logicng.serialization.solvers.datastructures.ProtoBufSolverDatastructures.PBPropositionBatch value) {
+        if (batchBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          ensureBatchIsMutable();
+          batch_.add(value);
+          onChanged();
+        } else {
+          batchBuilder_.addMessage(value);
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .solver.PBPropositionBatch batch = 2;</code>
+       */
+      public Builder addBatch(
+          int index, com.booleworks.logicng.serialization.solvers.datastructures.ProtoBufSolverDatastructures.PBPropositionBatch value) {
+        if (batchBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          ensureBatchIsMutable();
+          batch_.add(index, value);
+          onChanged();
+        } else {
+          batchBuilder_.addMessage(index, value);
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .solver.PBPropositionBatch batch = 2;</code>
+       */
+      public Builder addBatch(
+          com.booleworks.logicng.serialization.solvers.datastructures.ProtoBufSolverDatastructures.PBPropositionBatch.Builder builderForValue) {
+        if (batchBuilder_ == null) {
+          ensureBatchIsMutable();
+          batch_.add(builderForValue.build());
+          onChanged();
+        } else {
+          batchBuilder_.addMessage(builderForValue.build());
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .solver.PBPropositionBatch batch = 2;</code>
+       */
+      public Builder addBatch(
+          int index, com.booleworks.logicng.serialization.solvers.datastructures.ProtoBufSolverDatastructures.PBPropositionBatch.Builder builderForValue) {
+        if (batchBuilder_ == null) {
+          ensureBatchIsMutable();
+          batch_.add(index, builderForValue.build());
+          onChanged();
+        } else {
+          batchBuilder_.addMessage(index, builderForValue.build());
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .solver.PBPropositionBatch batch = 2;</code>
+       */
+      public Builder addAllBatch(
+          java.lang.Iterable<? extends com.booleworks.logicng.serialization.solvers.datastructures.ProtoBufSolverDatastructures.PBPropositionBatch> values) {
+        if (batchBuilder_ == null) {
+          ensureBatchIsMutable();
+          com.google.protobuf.AbstractMessageLite.Builder.addAll(
+              values, batch_);
+          onChanged();
+        } else {
+          batchBuilder_.addAllMessages(values);
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .solver.PBPropositionBatch batch = 2;</code>
+       */
+      public Builder clearBatch() {
+        if (batchBuilder_ == null) {
+          batch_ = java.util.Collections.emptyList();
+          bitField0_ = (bitField0_ & ~0x00000002);
+          onChanged();
+        } else {
+          batchBuilder_.clear();
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .solver.PBPropositionBatch batch = 2;</code>
+       */
+      public Builder removeBatch(int index) {
+        if (batchBuilder_ == null) {
+          ensureBatchIsMutable();
+          batch_.remove(index);
+          onChanged();
+        } else {
+          batchBuilder_.remove(index);
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .solver.PBPropositionBatch batch = 2;</code>
+       */
+      public com.booleworks.logicng.serialization.solvers.datastructures.ProtoBufSolverDatastructures.PBPropositionBatch.Builder getBatchBuilder(
+          int index) {
+        return getBatchFieldBuilder().getBuilder(index);
+      }
+      /**
+       * <code>repeated .solver.PBPropositionBatch batch = 2;</code>
+       */
+      public com.booleworks.logicng.serialization.solvers.datastructures.ProtoBufSolverDatastructures.PBPropositionBatchOrBuilder getBatchOrBuilder(
+          int index) {
+        if (batchBuilder_ == null) {
+          return batch_.get(index);  } else {
+          return batchBuilder_.getMessageOrBuilder(index);
+        }
+      }
+      /**
+       * <code>repeated .solver.PBPropositionBatch batch = 2;</code>
+       */
+      public java.util.List<? extends com.booleworks.logicng.serialization.solvers.datastructures.ProtoBufSolverDatastructures.PBPropositionBatchOrBuilder> 
+           getBatchOrBuilderList() {
+        if (batchBuilder_ != null) {
+          return batchBuilder_.getMessageOrBuilderList();
+        } else {
+          return java.util.Collections.unmodifiableList(batch_);
+        }
+      }
+      /**
+       * <code>repeated .solver.PBPropositionBatch batch = 2;</code>
+       */
+      public com.booleworks.logicng.serialization.solvers.datastructures.ProtoBufSolverDatastructures.PBPropositionBatch.Builder addBatchBuilder() {
+        return getBatchFieldBuilder().addBuilder(
+            com.booleworks.logicng.serialization.solvers.datastructures.ProtoBufSolverDatastructures.PBPropositionBatch.getDefaultInstance());
+      }
+      /**
+       * <code>repeated .solver.PBPropositionBatch batch = 2;</code>
+       */
+      public com.booleworks.logicng.serialization.solvers.datastructures.ProtoBufSolverDatastructures.PBPropositionBatch.Builder addBatchBuilder(
+          int index) {
+        return getBatchFieldBuilder().addBuilder(
+            index, com.booleworks.logicng.serialization.solvers.datastructures.ProtoBufSolverDatastructures.PBPropositionBatch.getDefaultInstance());
+      }
+      /**
+       * <code>repeated .solver.PBPropositionBatch batch = 2;</code>
+       */
+      public java.util.List<com.booleworks.logicng.serialization.solvers.datastructures.ProtoBufSolverDatastructures.PBPropositionBatch.Builder> 
+           getBatchBuilderList() {
+        return getBatchFieldBuilder().getBuilderList();
+      }
+      private com.google.protobuf.RepeatedFieldBuilder<
+          com.booleworks.logicng.serialization.solvers.datastructures.ProtoBufSolverDatastructures.PBPropositionBatch, com.booleworks.logicng.serialization.solvers.datastructures.ProtoBufSolverDatastructures.PBPropositionBatch.Builder, com.booleworks.logicng.serialization.solvers.datastructures.ProtoBufSolverDatastructures.PBPropositionBatchOrBuilder> 
+          getBatchFieldBuilder() {
+        if (batchBuilder_ == null) {
+          batchBuilder_ = new com.google.protobuf.RepeatedFieldBuilder<
+              com.booleworks.logicng.serialization.solvers.datastructures.ProtoBufSolverDatastructures.PBPropositionBatch, com.booleworks.logicng.serialization.solvers.datastructures.ProtoBufSolverDatastructures.PBPropositionBatch.Builder, com.booleworks.logicng.serialization.solvers.datastructures.ProtoBufSolverDatastructures.PBPropositionBatchOrBuilder>(
+                  batch_,
+                  ((bitField0_ & 0x00000002) != 0),
+                  getParentForChildren(),
+                  isClean());
+          batch_ = null;
+        }
+        return batchBuilder_;
+      }
+
+      // @@protoc_insertion_point(builder_scope:solver.PBPropositionTable)
+    }
+
+    // @@protoc_insertion_point(class_scope:solver.PBPropositionTable)
+    private static final com.booleworks.logicng.serialization.solvers.datastructures.ProtoBufSolverDatastructures.PBPropositionTable DEFAULT_INSTANCE;
+    static {
+      DEFAULT_INSTANCE = new com.booleworks.logicng.serialization.solvers.datastructures.ProtoBufSolverDatastructures.PBPropositionTable();
+    }
+
+    public static com.booleworks.logicng.serialization.solvers.datastructures.ProtoBufSolverDatastructures.PBPropositionTable getDefaultInstance() {
+      return DEFAULT_INSTANCE;
+    }
+
+    private static final com.google.protobuf.Parser<PBPropositionTable>
+        PARSER = new com.google.protobuf.AbstractParser<PBPropositionTable>() {
+      @java.lang.Override
+      public PBPropositionTable parsePartialFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws com.google.protobuf.InvalidProtocolBufferException {
+        Builder builder = newBuilder();
+        try {
+          builder.mergeFrom(input, extensionRegistry);
+        } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+          throw e.setUnfinishedMessage(builder.buildPartial());
+        } catch (com.google.protobuf.UninitializedMessageException e) {
+          throw e.asInvalidProtocolBufferException().setUnfinishedMessage(builder.buildPartial());
+        } catch (java.io.IOException e) {
+          throw new com.google.protobuf.InvalidProtocolBufferException(e)
+              .setUnfinishedMessage(builder.buildPartial());
+        }
+        return builder.buildPartial();
+      }
+    };
+
+    public static com.google.protobuf.Parser<PBPropositionTable> parser() {
+      return PARSER;
+    }
+
+    @java.lang.Override
+    public com.google.protobuf.Parser<PBPropositionTable> getParserForType() {
+      return PARSER;
+    }
+
+    @java.lang.Override
+    public com.booleworks.logicng.serialization.solvers.datastructures.ProtoBufSolverDatastructures.PBPropositionTable getDefaultInstanceForType() {
+      return DEFAULT_INSTANCE;
+    }
+
+  }
+
+  public interface PBProofLogReferenceOrBuilder extends
+      // @@protoc_insertion_point(interface_extends:solver.PBProofLogReference)
+      com.google.protobuf.MessageOrBuilder {
+
+    /**
+     * <code>string path = 1;</code>
+     * @return The path.
+     */
+    java.lang.String getPath();
+    /**
+     * <code>string path = 1;</code>
+     * @return The bytes for path.
+     */
+    com.google.protobuf.ByteString
+        getPathBytes();
+
+    /**
+     * <code>int64 offset = 2;</code>
+     * @return The offset.
+     */
+    long getOffset();
+
+    /**
+     * <code>int64 steps = 3;</code>
+     * @return The steps.
+     */
+    long getSteps();
+  }
+  /**
+   * Protobuf type {@code solver.PBProofLogReference}
+   */
+  public static final class PBProofLogReference extends
+      com.google.protobuf.GeneratedMessage implements
+      // @@protoc_insertion_point(message_implements:solver.PBProofLogReference)
+      PBProofLogReferenceOrBuilder {
+  private static final long serialVersionUID = 0L;
+    static {
+      com.google.protobuf.RuntimeVersion.validateProtobufGencodeVersion(
+        com.google.protobuf.RuntimeVersion.RuntimeDomain.PUBLIC,
+        /* major= */ 4,
+        /* minor= */ 26,
+        /* patch= */ 1,
+        /* suffix= */ "",
+        PBProofLogReference.class.getName());
+    }
+    // Use PBProofLogReference.newBuilder() to construct.
+    private PBProofLogReference(com.google.protobuf.GeneratedMessage.Builder<?> builder) {
+      super(builder);
+    }
+    private PBProofLogReference() {
+      path_ = "";
+    }
+
+    public static final com.google.protobuf.Descriptors.Descriptor
+        getDescriptor() {
+      return com.booleworks.logicng.serialization.solvers.datastructures.ProtoBufSolverDatastructures.internal_static_solver_PBProofLogReference_descriptor;
+    }
+
+    @java.lang.Override
+    protected com.google.protobuf.GeneratedMessage.FieldAccessorTable
+        internalGetFieldAccessorTable() {
+      return com.booleworks.logicng.serialization.solvers.datastructures.ProtoBufSolverDatastructures.internal_static_solver_PBProofLogReference_fieldAccessorTable
+          .ensureFieldAccessorsInitialized(
+              com.booleworks.logicng.serialization.solvers.datastructures.ProtoBufSolverDatastructures.PBProofLogReference.class, com.booleworks.logicng.serialization.solvers.datastructures.ProtoBufSolverDatastructures.PBProofLogReference.Builder.class);
+    }
+
+    public static final int PATH_FIELD_NUMBER = 1;
+    @SuppressWarnings("serial")
+    private volatile java.lang.Object path_ = "";
+    /**
+     * <code>string path = 1;</code>
+     * @return The path.
+     */
+    @java.lang.Override
+    public java.lang.String getPath() {
+      java.lang.Object ref = path_;
+      if (ref instanceof java.lang.String) {
+        return (java.lang.String) ref;
+      } else {
+        com.google.protobuf.ByteString bs = 
+            (com.google.protobuf.ByteString) ref;
+        java.lang.String s = bs.toStringUtf8();
+        path_ = s;
+        return s;
+      }
+    }
+    /**
+     * <code>string path = 1;</code>
+     * @return The bytes for path.
+     */
+    @java.lang.Override
+    public com.google.protobuf.ByteString
+        getPathBytes() {
+      java.lang.Object ref = path_;
+      if (ref instanceof java.lang.String) {
+        com.google.protobuf.ByteString b = 
+            com.google.protobuf.ByteString.copyFromUtf8(
+                (java.lang.String) ref);
+        path_ = b;
+        return b;
+      } else {
+        return (com.google.protobuf.ByteString) ref;
+      }
+    }
+
+    public static final int OFFSET_FIELD_NUMBER = 2;
+    private long offset_ = 0L;
+    /**
+     * <code>int64 offset = 2;</code>
+     * @return The offset.
+     */
+    @java.lang.Override
+    public long getOffset() {
+      return offset_;
+    }
+
+    public static final int STEPS_FIELD_NUMBER = 3;
+    private long steps_ = 0L;
+    /**
+     * <code>int64 steps = 3;</code>
+     * @return The steps.
+     */
+    @java.lang.Override
+    public long getSteps() {
+      return steps_;
+    }
+
+    private byte memoizedIsInitialized = -1;
+    @java.lang.Override
+    public final boolean isInitialized() {
+      byte isInitialized = memoizedIsInitialized;
+      if (isInitialized == 1) return true;
+      if (isInitialized == 0) return false;
+
+      memoizedIsInitialized = 1;
+      return true;
+    }
+
+    @java.lang.Override
+    public void writeTo(com.google.protobuf.CodedOutputStream output)
+                        throws java.io.IOException {
+      if (!com.google.protobuf.GeneratedMessage.isStringEmpty(path_)) {
+        com.google.protobuf.GeneratedMessage.writeString(output, 1, path_);
+      }
+      if (offset_ != 0L) {
+        output.writeInt64(2, offset_);
+      }
+      if (steps_ != 0L) {
+        output.writeInt64(3, steps_);
+      }
+      getUnknownFields().writeTo(output);
+    }
+
+    @java.lang.Override
+    public int getSerializedSize() {
+      int size = memoizedSize;
+      if (size != -1) return size;
+
+      size = 0;
+      if (!com.google.protobuf.GeneratedMessage.isStringEmpty(path_)) {
+        size += com.google.protobuf.GeneratedMessage.computeStringSize(1, path_);
+      }
+      if (offset_ != 0L) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeInt64Size(2, offset_);
+      }
+      if (steps_ != 0L) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeInt64Size(3, steps_);
+      }
+      size += getUnknownFields().getSerializedSize();
+      memoizedSize = size;
+      return size;
+    }
+
+    @java.lang.Override
+    public boolean equals(final java.lang.Object obj) {
+      if (obj == this) {
+       return true;
+      }
+      if (!(obj instanceof com.booleworks.logicng.serialization.solvers.datastructures.ProtoBufSolverDatastructures.PBProofLogReference)) {
+        return super.equals(obj);
+      }
+      com.booleworks.logicng.serialization.solvers.datastructures.ProtoBufSolverDatastructures.PBProofLogReference other = (com.booleworks.logicng.serialization.solvers.datastructures.ProtoBufSolverDatastructures.PBProofLogReference) obj;
+
+      if (!getPath()
+          .equals(other.getPath())) return false;
+      if (getOffset()
+          != other.getOffset()) return false;
+      if (getSteps()
+          != other.getSteps()) return false;
+      if (!getUnknownFields().equals(other.getUnknownFields())) return false;
+      return true;
+    }
+
+    @java.lang.Override
+    public int hashCode() {
+      if (memoizedHashCode != 0) {
+        return memoizedHashCode;
+      }
+      int hash = 41;
+      hash = (19 * hash) + getDescriptor().hashCode();
+      hash = (37 * hash) + PATH_FIELD_NUMBER;
+      hash = (53 * hash) + getPath().hashCode();
+      hash = (37 * hash) + OFFSET_FIELD_NUMBER;
+      hash = (53 * hash) + com.google.protobuf.Internal.hashLong(
+          getOffset());
+      hash = (37 * hash) + STEPS_FIELD_NUMBER;
+      hash = (53 * hash) + com.google.protobuf.Internal.hashLong(
+          getSteps());
+      hash = (29 * hash) + getUnknownFields().hashCode();
+      memoizedHashCode = hash;
+      return hash;
+    }
+
+    public static com.booleworks.logicng.serialization.solvers.datastructures.ProtoBufSolverDatastructures.PBProofLogReference parseFrom(
+        java.nio.ByteBuffer data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static com.booleworks.logicng.serialization.solvers.datastructures.ProtoBufSolverDatastructures.PBProofLogReference parseFrom(
+        java.nio.ByteBuffer data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static com.booleworks.logicng.serialization.solvers.datastructures.ProtoBufSolverDatastructures.PBProofLogReference parseFrom(
+        com.google.protobuf.ByteString data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static com.booleworks.logicng.serialization.solvers.datastructures.ProtoBufSolverDatastructures.PBProofLogReference parseFrom(
+        com.google.protobuf.ByteString data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static com.booleworks.logicng.serialization.solvers.datastructures.ProtoBufSolverDatastructures.PBProofLogReference parseFrom(byte[] data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static com.booleworks.logicng.serialization.solvers.datastructures.ProtoBufSolverDatastructures.PBProofLogReference parseFrom(
+        byte[] data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static com.booleworks.logicng.serialization.solvers.datastructures.ProtoBufSolverDatastructures.PBProofLogReference parseFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessage
+          .parseWithIOException(PARSER, input);
+    }
+    public static com.booleworks.logicng.serialization.solvers.datastructures.ProtoBufSolverDatastructures.PBProofLogReference parseFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessage
+          .parseWithIOException(PARSER, input, extensionRegistry);
+    }
+
+    public static com.booleworks.logicng.serialization.solvers.datastructures.ProtoBufSolverDatastructures.PBProofLogReference parseDelimitedFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessage
+          .parseDelimitedWithIOException(PARSER, input);
+    }
+
+    public static com.booleworks.logicng.serialization.solvers.datastructures.ProtoBufSolverDatastructures.PBProofLogReference parseDelimitedFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessage
+          .parseDelimitedWithIOException(PARSER, input, extensionRegistry);
+    }
+    public static com.booleworks.logicng.serialization.solvers.datastructures.ProtoBufSolverDatastructures.PBProofLogReference parseFrom(
+        com.google.protobuf.CodedInputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessage
+          .parseWithIOException(PARSER, input);
+    }
+    public static com.booleworks.logicng.serialization.solvers.datastructures.ProtoBufSolverDatastructures.PBProofLogReference parseFrom(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessage
+          .parseWithIOException(PARSER, input, extensionRegistry);
+    }
+
+    @java.lang.Override
+    public Builder newBuilderForType() { return newBuilder(); }
+    public static Builder newBuilder() {
+      return DEFAULT_INSTANCE.toBuilder();
+    }
+    public static Builder newBuilder(com.booleworks.logicng.serialization.solvers.datastructures.ProtoBufSolverDatastructures.PBProofLogReference prototype) {
+      return DEFAULT_INSTANCE.toBuilder().mergeFrom(prototype);
+    }
+    @java.lang.Override
+    public Builder toBuilder() {
+      return this == DEFAULT_INSTANCE
+          ? new Builder() : new Builder().mergeFrom(this);
+    }
+
+    @java.lang.Override
+    protected Builder newBuilderForType(
+        com.google.protobuf.GeneratedMessage.BuilderParent parent) {
+      Builder builder = new Builder(parent);
+      return builder;
+    }
+    /**
+     * Protobuf type {@code solver.PBProofLogReference}
+     */
+    public static final class Builder extends
+        com.google.protobuf.GeneratedMessage.Builder<Builder> implements
+        // @@protoc_insertion_point(builder_implements:solver.PBProofLogReference)
+        com.booleworks.logicng.serialization.solvers.datastructures.ProtoBufSolverDatastructures.PBProofLogReferenceOrBuilder {
+      public static final com.google.protobuf.Descriptors.Descriptor
+          getDescriptor() {
+        return com.booleworks.logicng.serialization.solvers.datastructures.ProtoBufSolverDatastructures.internal_static_solver_PBProofLogReference_descriptor;
+      }
+
+      @java.lang.Override
+      protected com.google.protobuf.GeneratedMessage.FieldAccessorTable
+          internalGetFieldAccessorTable() {
+        return com.booleworks.logicng.serialization.solvers.datastructures.ProtoBufSolverDatastructures.internal_static_solver_PBProofLogReference_fieldAccessorTable
+            .ensureFieldAccessorsInitialized(
+                com.booleworks.logicng.serialization.solvers.datastructures.ProtoBufSolverDatastructures.PBProofLogReference.class, com.booleworks.logicng.serialization.solvers.datastructures.ProtoBufSolverDatastructures.PBProofLogReference.Builder.class);
+      }
+
+      // Construct using com.booleworks.logicng.serialization.solvers.datastructures.ProtoBufSolverDatastructures.PBProofLogReference.newBuilder()
+      private Builder() {
+
+      }
+
+      private Builder(
+          com.google.protobuf.GeneratedMessage.BuilderParent parent) {
+        super(parent);
+
+      }
+      @java.lang.Override
+      public Builder clear() {
+        super.clear();
+        bitField0_ = 0;
+        path_ = "";
+        offset_ = 0L;
+        steps_ = 0L;
+        return this;
+      }
+
+      @java.lang.Override
+      public com.google.protobuf.Descriptors.Descriptor
+          getDescriptorForType() {
+        return com.booleworks.logicng.serialization.solvers.datastructures.ProtoBufSolverDatastructures.internal_static_solver_PBProofLogReference_descriptor;
+      }
+
+      @java.lang.Override
+      public com.booleworks.logicng.serialization.solvers.datastructures.ProtoBufSolverDatastructures.PBProofLogReference getDefaultInstanceForType() {
+        return com.booleworks.logicng.serialization.solvers.datastructures.ProtoBufSolverDatastructures.PBProofLogReference.getDefaultInstance();
+      }
+
+      @java.lang.Override
+      public com.booleworks.logicng.serialization.solvers.datastructures.ProtoBufSolverDatastructures.PBProofLogReference build() {
+        com.booleworks.logicng.serialization.solvers.datastructures.ProtoBufSolverDatastructures.PBProofLogReference result = buildPartial();
+        if (!result.isInitialized()) {
+          throw newUninitializedMessageException(result);
+        }
+        return result;
+      }
+
+      @java.lang.Override
+      public com.booleworks.logicng.serialization.solvers.datastructures.ProtoBufSolverDatastructures.PBProofLogReference buildPartial() {
+        com.booleworks.logicng.serialization.solvers.datastructures.ProtoBufSolverDatastructures.PBProofLogReference result = new com.booleworks.logicng.serialization.solvers.datastructures.ProtoBufSolverDatastructures.PBProofLogReference(this);
+        if (bitField0_ != 0) { buildPartial0(result); }
+        onBuilt();
+        return result;
+      }
+
+      private void buildPartial0(com.booleworks.logicng.serialization.solvers.datastructures.ProtoBufSolverDatastructures.PBProofLogReference result) {
+        int from_bitField0_ = bitField0_;
+        if (((from_bitField0_ & 0x00000001) != 0)) {
+          result.path_ = path_;
+        }
+        if (((from_bitField0_ & 0x00000002) != 0)) {
+          result.offset_ = offset_;
+        }
+        if (((from_bitField0_ & 0x00000004) != 0)) {
+          result.steps_ = steps_;
+        }
+      }
+
+      @java.lang.Override
+      public Builder mergeFrom(com.google.protobuf.Message other) {
+        if (other instanceof com.booleworks.logicng.serialization.solvers.datastructures.ProtoBufSolverDatastructures.PBProofLogReference) {
+          return mergeFrom((com.booleworks.logicng.serialization.solvers.datastructures.ProtoBufSolverDatastructures.PBProofLogReference)other);
+        } else {
+          super.mergeFrom(other);
+          return this;
+        }
+      }
+
+      public Builder mergeFrom(com.booleworks.logicng.serialization.solvers.datastructures.ProtoBufSolverDatastructures.PBProofLogReference other) {
+        if (other == com.booleworks.logicng.serialization.solvers.datastructures.ProtoBufSolverDatastructures.PBProofLogReference.getDefaultInstance()) return this;
+        if (!other.getPath().isEmpty()) {
+          path_ = other.path_;
+          bitField0_ |= 0x00000001;
+          onChanged();
+        }
+        if (other.getOffset() != 0L) {
+          setOffset(other.getOffset());
+        }
+        if (other.getSteps() != 0L) {
+          setSteps(other.getSteps());
+        }
+        this.mergeUnknownFields(other.getUnknownFields());
+        onChanged();
+        return this;
+      }
+
+      @java.lang.Override
+      public final boolean isInitialized() {
+        return true;
+      }
+
+      @java.lang.Override
+      public Builder mergeFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws java.io.IOException {
+        if (extensionRegistry == null) {
+          throw new java.lang.NullPointerException();
+        }
+        try {
+          boolean done = false;
+          while (!done) {
+            int tag = input.readTag();
+            switch (tag) {
+              case 0:
+                done = true;
+                break;
+              case 10: {
+                path_ = input.readStringRequireUtf8();
+                bitField0_ |= 0x00000001;
+                break;
+              } // case 10
+              case 16: {
+                offset_ = input.readInt64();
+                bitField0_ |= 0x00000002;
+                break;
+              } // case 16
+              case 24: {
+                steps_ = input.readInt64();
+                bitField0_ |= 0x00000004;
+                break;
+              } // case 24
+              default: {
+                if (!super.parseUnknownField(input, extensionRegistry, tag)) {
+                  done = true; // was an endgroup tag
+                }
+                break;
+              } // default:
+            } // switch (tag)
+          } // while (!done)
+        } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+          throw e.unwrapIOException();
+        } finally {
+          onChanged();
+        } // finally
+        return this;
+      }
+      private int bitField0_;
+
+      private java.lang.Object path_ = "";
+      /**
+       * <code>string path = 1;</code>
+       * @return The path.
+       */
+      public java.lang.String getPath() {
+        java.lang.Object ref = path_;
+        if (!(ref instanceof java.lang.String)) {
+          com.google.protobuf.ByteString bs =
+              (com.google.protobuf.ByteString) ref;
+          java.lang.String s = bs.toStringUtf8();
+          path_ = s;
+          return s;
+        } else {
+          return (java.lang.String) ref;
+        }
+      }
+      /**
+       * <code>string path = 1;</code>
+       * @return The bytes for path.
+       */
+      public com.google.protobuf.ByteString
+          getPathBytes() {
+        java.lang.Object ref = path_;
+        if (ref instanceof String) {
+          com.google.protobuf.ByteString b = 
+              com.google.protobuf.ByteString.copyFromUtf8(
+                  (java.lang.String) ref);
+          path_ = b;
+          return b;
+        } else {
+          return (com.google.protobuf.ByteString) ref;
+        }
+      }
+      /**
+       * <code>string path = 1;</code>
+       * @param value The path to set.
+       * @return This builder for chaining.
+       */
+      public Builder setPath(
+          java.lang.String value) {
+        if (value == null) { throw new NullPointerException(); }
+        path_ = value;
+        bitField0_ |= 0x00000001;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>string path = 1;</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearPath() {
+        path_ = getDefaultInstance().getPath();
+        bitField0_ = (bitField0_ & ~0x00000001);
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>string path = 1;</code>
+       * @param value The bytes for path to set.
+       * @return This builder for chaining.
+       */
+      public Builder setPathBytes(
+          com.google.protobuf.ByteString value) {
+        if (value == null) { throw new NullPointerException(); }
+        checkByteStringIsUtf8(value);
+        path_ = value;
+        bitField0_ |= 0x00000001;
+        onChanged();
+        return this;
+      }
+
+      private long offset_ ;
+      /**
+       * <code>int64 offset = 2;</code>
+       * @return The offset.
+       */
+      @java.lang.Override
+      public long getOffset() {
+        return offset_;
+      }
+      /**
+       * <code>int64 offset = 2;</code>
+       * @param value The offset to set.
+       * @return This builder for chaining.
+       */
+      public Builder setOffset(long value) {
+
+        offset_ = value;
+        bitField0_ |= 0x00000002;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>int64 offset = 2;</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearOffset() {
+        bitField0_ = (bitField0_ & ~0x00000002);
+        offset_ = 0L;
+        onChanged();
+        return this;
+      }
+
+      private long steps_ ;
+      /**
+       * <code>int64 steps = 3;</code>
+       * @return The steps.
+       */
+      @java.lang.Override
+      public long getSteps() {
+        return steps_;
+      }
+      /**
+       * <code>int64 steps = 3;</code>
+       * @param value The steps to set.
+       * @return This builder for chaining.
+       */
+      public Builder setSteps(long value) {
+
+        steps_ = value;
+        bitField0_ |= 0x00000004;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>int64 steps = 3;</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearSteps() {
+        bitField0_ = (bitField0_ & ~0x00000004);
+        steps_ = 0L;
+        onChanged();
+        return this;
+      }
+
+      // @@protoc_insertion_point(builder_scope:solver.PBProofLogReference)
+    }
+
+    // @@protoc_insertion_point(class_scope:solver.PBProofLogReference)
+    private static final com.booleworks.logicng.serialization.solvers.datastructures.ProtoBufSolverDatastructures.PBProofLogReference DEFAULT_INSTANCE;
+    static {
+      DEFAULT_INSTANCE = new com.booleworks.logicng.serialization.solvers.datastructures.ProtoBufSolverDatastructures.PBProofLogReference();
+    }
+
+    public static com.booleworks.logicng.serialization.solvers.datastructures.ProtoBufSolverDatastructures.PBProofLogReference getDefaultInstance() {
+      return DEFAULT_INSTANCE;
+    }
+
+    private static final com.google.protobuf.Parser<PBProofLogReference>
+        PARSER = new com.google.protobuf.AbstractParser<PBProofLogReference>() {
+      @java.lang.Override
+      public PBProofLogReference parsePartialFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws com.google.protobuf.InvalidProtocolBufferException {
+        Builder builder = newBuilder();
+        try {
+          builder.mergeFrom(input, extensionRegistry);
+        } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+          throw e.setUnfinishedMessage(builder.buildPartial());
+        } catch (com.google.protobuf.UninitializedMessageException e) {
+          throw e.asInvalidProtocolBufferException().setUnfinishedMessage(builder.buildPartial());
+        } catch (java.io.IOException e) {
+          throw new com.google.protobuf.InvalidProtocolBufferException(e)
+              .setUnfinishedMessage(builder.buildPartial());
+        }
+        return builder.buildPartial();
+      }
+    };
+
+    public static com.google.protobuf.Parser<PBProofLogReference> parser() {
+      return PARSER;
+    }
+
+    @java.lang.Override
+    public com.google.protobuf.Parser<PBProofLogReference> getParserForType() {
+      return PARSER;
+    }
+
+    @java.lang.Override
+    public com.booleworks.logicng.serialization.solvers.datastructures.ProtoBufSolverDatastructures.PBProofLogReference getDefaultInstanceForType() {
+      return DEFAULT_INSTANCE;
+    }
+
+  }
+
+  public interface PBPropositionBatchOrBuilder extends
+      // @@protoc_insertion_point(interface_extends:solver.PBPropositionBatch)
+      com.google.protobuf.MessageOrBuilder {
+
+    /**
+     * <code>string type = 1;</code>
+     * @return The type.
+     */
+    java.lang.String getType();
+    /**
+     * <code>string type = 1;</code>
+     * @return The bytes for type.
+     */
+    com.google.protobuf.ByteString
+        getTypeBytes();
+
+    /**
+     * <code>repeated int32 index = 2;</code>
+     * @return A list containing the index.
+     */
+    java.util.List<java.lang.Integer> getIndexList();
+    /**
+     * <code>repeated int32 index = 2;</code>
+     * @return The count of index.
+     */
+    int getIndexCount();
+    /**
+     * <code>repeated int32 index = 2;</code>
+     * @param index The index of the element to return.
+     * @return The index at the given index.
+     */
+    int getIndex(int index);
+
+    /**
+     * <code>bytes payload = 3;</code>
+     * @return The payload.
+     */
+    com.google.protobuf.ByteString getPayload();
+  }
+  /**
+   * Protobuf type {@code solver.PBPropositionBatch}
+   */
+  public static final class PBPropositionBatch extends
+      com.google.protobuf.GeneratedMessage implements
+      // @@protoc_insertion_point(message_implements:solver.PBPropositionBatch)
+      PBPropositionBatchOrBuilder {
+  private static final long serialVersionUID = 0L;
+    static {
+      com.google.protobuf.RuntimeVersion.validateProtobufGencodeVersion(
+        com.google.protobuf.RuntimeVersion.RuntimeDomain.PUBLIC,
+        /* major= */ 4,
+        /* minor= */ 26,
+        /* patch= */ 1,
+        /* suffix= */ "",
+        PBPropositionBatch.class.getName());
+    }
+    // Use PBPropositionBatch.newBuilder() to construct.
+    private PBPropositionBatch(com.google.protobuf.GeneratedMessage.Builder<?> builder) {
+      super(builder);
+    }
+    private PBPropositionBatch() {
+      type_ = "";
+      index_ = emptyIntList();
+      payload_ = com.google.protobuf.ByteString.EMPTY;
+    }
+
+    public static final com.google.protobuf.Descriptors.Descriptor
+        getDescriptor() {
+      return com.booleworks.logicng.serialization.solvers.datastructures.ProtoBufSolverDatastructures.internal_static_solver_PBPropositionBatch_descriptor;
+    }
+
+    @java.lang.Override
+    protected com.google.protobuf.GeneratedMessage.FieldAccessorTable
+        internalGetFieldAccessorTable() {
+      return com.booleworks.logicng.serialization.solvers.datastructures.ProtoBufSolverDatastructures.internal_static_solver_PBPropositionBatch_fieldAccessorTable
+          .ensureFieldAccessorsInitialized(
+              com.booleworks.logicng.serialization.solvers.datastructures.ProtoBufSolverDatastructures.PBPropositionBatch.class, com.booleworks.logicng.serialization.solvers.datastructures.ProtoBufSolverDatastructures.PBPropositionBatch.Builder.class);
+    }
+
+    public static final int TYPE_FIELD_NUMBER = 1;
+    @SuppressWarnings("serial")
+    private volatile java.lang.Object type_ = "";
+    /**
+     * <code>string type = 1;</code>
+     * @return The type.
+     */
+    @java.lang.Override
+    public java.lang.String getType() {
+      java.lang.Object ref = type_;
+      if (ref instanceof java.lang.String) {
+        return (java.lang.String) ref;
+      } else {
+        com.google.protobuf.ByteString bs = 
+            (com.google.protobuf.ByteString) ref;
+        java.lang.String s = bs.toStringUtf8();
+        type_ = s;
+        return s;
+      }
+    }
+    /**
+     * <code>string type = 1;</code>
+     * @return The bytes for type.
+     */
+    @java.lang.Override
+    public com.google.protobuf.ByteString
+        getTypeBytes() {
+      java.lang.Object ref = type_;
+      if (ref instanceof java.lang.String) {
+        com.google.protobuf.ByteString b = 
+            com.google.protobuf.ByteString.copyFromUtf8(
+                (java.lang.String) ref);
+        type_ = b;
+        return b;
+      } else {
+        return (com.google.protobuf.ByteString) ref;
+      }
+    }
+
+    public static final int INDEX_FIELD_NUMBER = 2;
+    @SuppressWarnings("serial")
+    private com.google.protobuf.Internal.IntList index_ =
+        emptyIntList();
+    /**
+     * <code>repeated int32 index = 2;</code>
+     * @return A list containing the index.
+     */
+    @java.lang.Override
+    public java.util.List<java.lang.Integer>
+        getIndexList() {
+      return index_;
+    }
+    /**
+     * <code>repeated int32 index = 2;</code>
+     * @return The count of index.
+     */
+    public int getIndexCount() {
+      return index_.size();
+    }
+    /**
+     * <code>repeated int32 index = 2;</code>
+     * @param index The index of the element to return.
+     * @return The index at the given index.
+     */
+    public int getIndex(int index) {
+      return index_.getInt(index);
+    }
+    private int indexMemoizedSerializedSize = -1;
+
+    public static final int PAYLOAD_FIELD_NUMBER = 3;
+    private com.google.protobuf.ByteString payload_ = com.google.protobuf.ByteString.EMPTY;
+    /**
+     * <code>bytes payload = 3;</code>
+     * @return The payload.
+     */
+    @java.lang.Override
+    public com.google.protobuf.ByteString getPayload() {
+      return payload_;
+    }
+
+    private byte memoizedIsInitialized = -1;
+    @java.lang.Override
+    public final boolean isInitialized() {
+      byte isInitialized = memoizedIsInitialized;
+      if (isInitialized == 1) return true;
+      if (isInitialized == 0) return false;
+
+      memoizedIsInitialized = 1;
+      return true;
+    }
+
+    @java.lang.Override
+    public void writeTo(com.google.protobuf.CodedOutputStream output)
+                        throws java.io.IOException {
+      getSerializedSize();
+      if (!com.google.protobuf.GeneratedMessage.isStringEmpty(type_)) {
+        com.google.protobuf.GeneratedMessage.writeString(output, 1, type_);
+      }
+      if (getIndexList().size() > 0) {
+        output.writeUInt32NoTag(18);
+        output.writeUInt32NoTag(indexMemoizedSerializedSize);
+      }
+      for (int i = 0; i < index_.size(); i++) {
+        output.writeInt32NoTag(index_.getInt(i));
+      }
+      if (!payload_.isEmpty()) {
+        output.writeBytes(3, payload_);
+      }
+      getUnknownFields().writeTo(output);
+    }
+
+    @java.lang.Override
+    public int getSerializedSize() {
+      int size = memoizedSize;
+      if (size != -1) return size;
+
+      size = 0;
+      if (!com.google.protobuf.GeneratedMessage.isStringEmpty(type_)) {
+        size += com.google.protobuf.GeneratedMessage.computeStringSize(1, type_);
+      }
+      {
+        int dataSize = 0;
+        for (int i = 0; i < index_.size(); i++) {
+          dataSize += com.google.protobuf.CodedOutputStream
+            .computeInt32SizeNoTag(index_.getInt(i));
+        }
+        size += dataSize;
+        if (!getIndexList().isEmpty()) {
+          size += 1;
+          size += com.google.protobuf.CodedOutputStream
+              .computeInt32SizeNoTag(dataSize);
+        }
+        indexMemoizedSerializedSize = dataSize;
+      }
+      if (!payload_.isEmpty()) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeBytesSize(3, payload_);
+      }
+      size += getUnknownFields().getSerializedSize();
+      memoizedSize = size;
+      return size;
+    }
+
+    @java.lang.Override
+    public boolean equals(final java.lang.Object obj) {
+      if (obj == this) {
+       return true;
+      }
+      if (!(obj instanceof com.booleworks.logicng.serialization.solvers.datastructures.ProtoBufSolverDatastructures.PBPropositionBatch)) {
+        return super.equals(obj);
+      }
+      com.booleworks.logicng.serialization.solvers.datastructures.ProtoBufSolverDatastructures.PBPropositionBatch other = (com.booleworks.logicng.serialization.solvers.datastructures.ProtoBufSolverDatastructures.PBPropositionBatch) obj;
+
+      if (!getType()
+          .equals(other.getType())) return false;
+      if (!getIndexList()
+          .equals(other.getIndexList())) return false;
+      if (!getPayload()
+          .equals(other.getPayload())) return false;
+      if (!getUnknownFields().equals(other.getUnknownFields())) return false;
+      return true;
+    }
+
+    @java.lang.Override
+    public int hashCode() {
+      if (memoizedHashCode != 0) {
+        return memoizedHashCode;
+      }
+      int hash = 41;
+      hash = (19 * hash) + getDescriptor().hashCode();
+      hash = (37 * hash) + TYPE_FIELD_NUMBER;
+      hash = (53 * hash) + getType().hashCode();
+      if (getIndexCount() > 0) {
+        hash = (37 * hash) + INDEX_FIELD_NUMBER;
+        hash = (53 * hash) + getIndexList().hashCode();
+      }
+      hash = (37 * hash) + PAYLOAD_FIELD_NUMBER;
+      hash = (53 * hash) + getPayload().hashCode();
+      hash = (29 * hash) + getUnknownFields().hashCode();
+      memoizedHashCode = hash;
+      return hash;
+    }
+
+    public static com.booleworks.logicng.serialization.solvers.datastructures.ProtoBufSolverDatastructures.PBPropositionBatch parseFrom(
+        java.nio.ByteBuffer data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static com.booleworks.logicng.serialization.solvers.datastructures.ProtoBufSolverDatastructures.PBPropositionBatch parseFrom(
+        java.nio.ByteBuffer data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static com.booleworks.logicng.serialization.solvers.datastructures.ProtoBufSolverDatastructures.PBPropositionBatch parseFrom(
+        com.google.protobuf.ByteString data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static com.booleworks.logicng.serialization.solvers.datastructures.ProtoBufSolverDatastructures.PBPropositionBatch parseFrom(
+        com.google.protobuf.ByteString data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static com.booleworks.logicng.serialization.solvers.datastructures.ProtoBufSolverDatastructures.PBPropositionBatch parseFrom(byte[] data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static com.booleworks.logicng.serialization.solvers.datastructures.ProtoBufSolverDatastructures.PBPropositionBatch parseFrom(
+        byte[] data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static com.booleworks.logicng.serialization.solvers.datastructures.ProtoBufSolverDatastructures.PBPropositionBatch parseFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessage
+          .parseWithIOException(PARSER, input);
+    }
+    public static com.booleworks.logicng.serialization.solvers.datastructures.ProtoBufSolverDatastructures.PBPropositionBatch parseFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessage
+          .parseWithIOException(PARSER, input, extensionRegistry);
+    }
+
+    public static com.booleworks.logicng.serialization.solvers.datastructures.ProtoBufSolverDatastructures.PBPropositionBatch parseDelimitedFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessage
+          .parseDelimitedWithIOException(PARSER, input);
+    }
+
+    public static com.booleworks.logicng.serialization.solvers.datastructures.ProtoBufSolverDatastructures.PBPropositionBatch parseDelimitedFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessage
+          .parseDelimitedWithIOException(PARSER, input, extensionRegistry);
+    }
+    public static com.booleworks.logicng.serialization.solvers.datastructures.ProtoBufSolverDatastructures.PBPropositionBatch parseFrom(
+        com.google.protobuf.CodedInputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessage
+          .parseWithIOException(PARSER, input);
+    }
+    public static com.booleworks.logicng.serialization.solvers.datastructures.ProtoBufSolverDatastructures.PBPropositionBatch parseFrom(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessage
+          .parseWithIOException(PARSER, input, extensionRegistry);
+    }
+
+    @java.lang.Override
+    public Builder newBuilderForType() { return newBuilder(); }
+    public static Builder newBuilder() {
+      return DEFAULT_INSTANCE.toBuilder();
+    }
+    public static Builder newBuilder(com.booleworks.logicng.serialization.solvers.datastructures.ProtoBufSolverDatastructures.PBPropositionBatch prototype) {
+      return DEFAULT_INSTANCE.toBuilder().mergeFrom(prototype);
+    }
+    @java.lang.Override
+    public Builder toBuilder() {
+      return this == DEFAULT_INSTANCE
+          ? new Builder() : new Builder().mergeFrom(this);
+    }
+
+    @java.lang.Override
+    protected Builder newBuilderForType(
+        com.google.protobuf.GeneratedMessage.BuilderParent parent) {
+      Builder builder = new Builder(parent);
+      return builder;
+    }
+    /**
+     * Protobuf type {@code solver.PBPropositionBatch}
+     */
+    public static final class Builder extends
+        com.google.protobuf.GeneratedMessage.Builder<Builder> implements
+        // @@protoc_insertion_point(builder_implements:solver.PBPropositionBatch)
+        com.booleworks.logicng.serialization.solvers.datastructures.ProtoBufSolverDatastructures.PBPropositionBatchOrBuilder {
+      public static final com.google.protobuf.Descriptors.Descriptor
+          getDescriptor() {
+        return com.booleworks.logicng.serialization.solvers.datastructures.ProtoBufSolverDatastructures.internal_static_solver_PBPropositionBatch_descriptor;
+      }
+
+      @java.lang.Override
+      protected com.google.protobuf.GeneratedMessage.FieldAccessorTable
+          internalGetFieldAccessorTable() {
+        return com.booleworks.logicng.serialization.solvers.datastructures.ProtoBufSolverDatastructures.internal_static_solver_PBPropositionBatch_fieldAccessorTable
+            .ensureFieldAccessorsInitialized(
+                com.booleworks.logicng.serialization.solvers.datastructures.ProtoBufSolverDatastructures.PBPropositionBatch.class, com.booleworks.logicng.serialization.solvers.datastructures.ProtoBufSolverDatastructures.PBPropositionBatch.Builder.class);
+      }
+
+      // Construct using com.booleworks.logicng.serialization.solvers.datastructures.ProtoBufSolverDatastructures.PBPropositionBatch.newBuilder()
+      private Builder() {
+
+      }
+
+      private Builder(
+          com.google.protobuf.GeneratedMessage.BuilderParent parent) {
+        super(parent);
+
+      }
+      @java.lang.Override
+      public Builder clear() {
+        super.clear();
+        bitField0_ = 0;
+        type_ = "";
+        index_ = emptyIntList();
+        payload_ = com.google.protobuf.ByteString.EMPTY;
+        return this;
+      }
+
+      @java.lang.Override
+      public com.google.protobuf.Descriptors.Descriptor
+          getDescriptorForType() {
+        return com.booleworks.logicng.serialization.solvers.datastructures.ProtoBufSolverDatastructures.internal_static_solver_PBPropositionBatch_descriptor;
+      }
+
+      @java.lang.Override
+      public com.booleworks.logicng.serialization.solvers.datastructures.ProtoBufSolverDatastructures.PBPropositionBatch getDefaultInstanceForType() {
+        return com.booleworks.logicng.serialization.solvers.datastructures.ProtoBufSolverDatastructures.PBPropositionBatch.getDefaultInstance();
+      }
+
+      @java.lang.Override
+      public com.booleworks.logicng.serialization.solvers.datastructures.ProtoBufSolverDatastructures.PBPropositionBatch build() {
+        com.booleworks.logicng.serialization.solvers.datastructures.ProtoBufSolverDatastructures.PBPropositionBatch result = buildPartial();
+        if (!result.isInitialized()) {
+          throw newUninitializedMessageException(result);
+        }
+        return result;
+      }
+
+      @java.lang.Override
+      public com.booleworks.logicng.serialization.solvers.datastructures.ProtoBufSolverDatastructures.PBPropositionBatch buildPartial() {
+        com.booleworks.logicng.serialization.solvers.datastructures.ProtoBufSolverDatastructures.PBPropositionBatch result = new com.booleworks.logicng.serialization.solvers.datastructures.ProtoBufSolverDatastructures.PBPropositionBatch(this);
+        if (bitField0_ != 0) { buildPartial0(result); }
+        onBuilt();
+        return result;
+      }
+
+      private void buildPartial0(com.booleworks.logicng.serialization.solvers.datastructures.ProtoBufSolverDatastructures.PBPropositionBatch result) {
+        int from_bitField0_ = bitField0_;
+        if (((from_bitField0_ & 0x00000001) != 0)) {
+          result.type_ = type_;
+        }
+        if (((from_bitField0_ & 0x00000002) != 0)) {
+          index_.makeImmutable();
+          result.index_ = index_;
+        }
+        if (((from_bitField0_ & 0x00000004) != 0)) {
+          result.payload_ = payload_;
+        }
+      }
+
+      @java.lang.Override
+      public Builder mergeFrom(com.google.protobuf.Message other) {
+        if (other instanceof com.booleworks.logicng.serialization.solvers.datastructures.ProtoBufSolverDatastructures.PBPropositionBatch) {
+          return mergeFrom((com.booleworks.logicng.serialization.solvers.datastructures.ProtoBufSolverDatastructures.PBPropositionBatch)other);
+        } else {
+          super.mergeFrom(other);
+          return this;
+        }
+      }
+
+      public Builder mergeFrom(com.booleworks.logicng.serialization.solvers.datastructures.ProtoBufSolverDatastructures.PBPropositionBatch other) {
+        if (other == com.booleworks.logicng.serialization.solvers.datastructures.ProtoBufSolverDatastructures.PBPropositionBatch.getDefaultInstance()) return this;
+        if (!other.getType().isEmpty()) {
+          type_ = other.type_;
+          bitField0_ |= 0x00000001;
+          onChanged();
+        }
+        if (!other.index_.isEmpty()) {
+          if (index_.isEmpty()) {
+            index_ = other.index_;
+            index_.makeImmutable();
+            bitField0_ |= 0x00000002;
+          } else {
+            ensureIndexIsMutable();
+            index_.addAll(other.index_);
+          }
+          onChanged();
+        }
+        if (other.getPayload() != com.google.protobuf.ByteString.EMPTY) {
+          setPayload(other.getPayload());
+        }
+        this.mergeUnknownFields(other.getUnknownFields());
+        onChanged();
+        return this;
+      }
+
+      @java.lang.Override
+      public final boolean isInitialized() {
+        return true;
+      }
+
+      @java.lang.Override
+      public Builder mergeFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws java.io.IOException {
+        if (extensionRegistry == null) {
+          throw new java.lang.NullPointerException();
+        }
+        try {
+          boolean done = false;
+          while (!done) {
+            int tag = input.readTag();
+            switch (tag) {
+              case 0:
+                done = true;
+                break;
+              case 10: {
+                type_ = input.readStringRequireUtf8();
+                bitField0_ |= 0x00000001;
+                break;
+              } // case 10
+              case 16: {
+                int v = input.readInt32();
+                ensureIndexIsMutable();
+                index_.addInt(v);
+                break;
+              } // case 16
+              case 18: {
+                int length = input.readRawVarint32();
+                int limit = input.pushLimit(length);
+                ensureIndexIsMutable();
+                while (input.getBytesUntilLimit() > 0) {
+                  index_.addInt(input.readInt32());
+                }
+                input.popLimit(limit);
+                break;
+              } // case 18
+              case 26: {
+                payload_ = input.readBytes();
+                bitField0_ |= 0x00000004;
+                break;
+              } // case 26
+              default: {
+                if (!super.parseUnknownField(input, extensionRegistry, tag)) {
+                  done = true; // was an endgroup tag
+                }
+                break;
+              } // default:
+            } // switch (tag)
+          } // while (!done)
+        } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+          throw e.unwrapIOException();
+        } finally {
+          onChanged();
+        } // finally
+        return this;
+      }
+      private int bitField0_;
+
+      private java.lang.Object type_ = "";
+      /**
+       * <code>string type = 1;</code>
+       * @return The type.
+       */
+      public java.lang.String getType() {
+        java.lang.Object ref = type_;
+        if (!(ref instanceof java.lang.String)) {
+          com.google.protobuf.ByteString bs =
+              (com.google.protobuf.ByteString) ref;
+          java.lang.String s = bs.toStringUtf8();
+          type_ = s;
+          return s;
+        } else {
+          return (java.lang.String) ref;
+        }
+      }
+      /**
+       * <code>string type = 1;</code>
+       * @return The bytes for type.
+       */
+      public com.google.protobuf.ByteString
+          getTypeBytes() {
+        java.lang.Object ref = type_;
+        if (ref instanceof String) {
+          com.google.protobuf.ByteString b = 
+              com.google.protobuf.ByteString.copyFromUtf8(
+                  (java.lang.String) ref);
+          type_ = b;
+          return b;
+        } else {
+          return (com.google.protobuf.ByteString) ref;
+        }
+      }
+      /**
+       * <code>string type = 1;</code>
+       * @param value The type to set.
+       * @return This builder for chaining.
+       */
+      public Builder setType(
+          java.lang.String value) {
+        if (value == null) { throw new NullPointerException(); }
+        type_ = value;
+        bitField0_ |= 0x00000001;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>string type = 1;</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearType() {
+        type_ = getDefaultInstance().getType();
+        bitField0_ = (bitField0_ & ~0x00000001);
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>string type = 1;</code>
+       * @param value The bytes for type to set.
+       * @return This builder for chaining.
+       */
+      public Builder setTypeBytes(
+          com.google.protobuf.ByteString value) {
+        if (value == null) { throw new NullPointerException(); }
+        checkByteStringIsUtf8(value);
+        type_ = value;
+        bitField0_ |= 0x00000001;
+        onChanged();
+        return this;
+      }
+
+      private com.google.protobuf.Internal.IntList index_ = emptyIntList();
+      private void ensureIndexIsMutable() {
+        if (!index_.isModifiable()) {
+          index_ = makeMutableCopy(index_);
+        }
+        bitField0_ |= 0x00000002;
+      }
+      /**
+       * <code>repeated int32 index = 2;</code>
+       * @return A list containing the index.
+       */
+      public java.util.List<java.lang.Integer>
+          getIndexList() {
+        index_.makeImmutable();
+        return index_;
+      }
+      /**
+       * <code>repeated int32 index = 2;</code>
+       * @return The count of index.
+       */
+      public int getIndexCount() {
+        return index_.size();
+      }
+      /**
+       * <code>repeated int32 index = 2;</code>
+       * @param index The index of the element to return.
+       * @return The index at the given index.
+       */
+      public int getIndex(int index) {
+        return index_.getInt(index);
+      }
+      /**
+       * <code>repeated int32 index = 2;</code>
+       * @param index The index to set the value at.
+       * @param value The index to set.
+       * @return This builder for chaining.
+       */
+      public Builder setIndex(
+          int index, int value) {
+
+        ensureIndexIsMutable();
+        index_.setInt(index, value);
+        bitField0_ |= 0x00000002;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>repeated int32 index = 2;</code>
+       * @param value The index to add.
+       * @return This builder for chaining.
+       */
+      public Builder addIndex(int value) {
+
+        ensureIndexIsMutable();
+        index_.addInt(value);
+        bitField0_ |= 0x00000002;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>repeated int32 index = 2;</code>
+       * @param values The index to add.
+       * @return This builder for chaining.
+       */
+      public Builder addAllIndex(
+          java.lang.Iterable<? extends java.lang.Integer> values) {
+        ensureIndexIsMutable();
+        com.google.protobuf.AbstractMessageLite.Builder.addAll(
+            values, index_);
+        bitField0_ |= 0x00000002;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>repeated int32 index = 2;</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearIndex() {
+        index_ = emptyIntList();
+        bitField0_ = (bitField0_ & ~0x00000002);
+        onChanged();
+        return this;
+      }
+
+      private com.google.protobuf.ByteString payload_ = com.google.protobuf.ByteString.EMPTY;
+      /**
+       * <code>bytes payload = 3;</code>
+       * @return The payload.
+       */
+      @java.lang.Override
+      public com.google.protobuf.ByteString getPayload() {
+        return payload_;
+      }
+      /**
+       * <code>bytes payload = 3;</code>
+       * @param value The payload to set.
+       * @return This builder for chaining.
+       */
+      public Builder setPayload(com.google.protobuf.ByteString value) {
+        if (value == null) { throw new NullPointerException(); }
+        payload_ = value;
+        bitField0_ |= 0x00000004;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>bytes payload = 3;</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearPayload() {
+        bitField0_ = (bitField0_ & ~0x00000004);
+        payload_ = getDefaultInstance().getPayload();
+        onChanged();
+        return this;
+      }
+
+      // @@protoc_insertion_point(builder_scope:solver.PBPropositionBatch)
+    }
+
+    // @@protoc_insertion_point(class_scope:solver.PBPropositionBatch)
+    private static final com.booleworks.logicng.serialization.solvers.datastructures.ProtoBufSolverDatastructures.PBPropositionBatch DEFAULT_INSTANCE;
+    static {
+      DEFAULT_INSTANCE = new com.booleworks.logicng.serialization.solvers.datastructures.ProtoBufSolverDatastructures.PBPropositionBatch();
+    }
+
+    public static com.booleworks.logicng.serialization.solvers.datastructures.ProtoBufSolverDatastructures.PBPropositionBatch getDefaultInstance() {
+      return DEFAULT_INSTANCE;
+    }
+
+    private static final com.google.protobuf.Parser<PBPropositionBatch>
+        PARSER = new com.google.protobuf.AbstractParser<PBPropositionBatch>() {
+      @java.lang.Override
+      public PBPropositionBatch parsePartialFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws com.google.protobuf.InvalidProtocolBufferException {
+        Builder builder = newBuilder();
+        try {
+          builder.mergeFrom(input, extensionRegistry);
+        } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+          throw e.setUnfinishedMessage(builder.buildPartial());
+        } catch (com.google.protobuf.UninitializedMessageException e) {
+          throw e.asInvalidProtocolBufferException().setUnfinishedMessage(builder.buildPartial());
+        } catch (java.io.IOException e) {
+          throw new com.google.protobuf.InvalidProtocolBufferException(e)
+              .setUnfinishedMessage(builder.buildPartial());
+        }
+        return builder.buildPartial();
+      }
+    };
+
+    public static com.google.protobuf.Parser<PBPropositionBatch> parser() {
+      return PARSER;
+    }
+
+    @java.lang.Override
+    public com.google.protobuf.Parser<PBPropositionBatch> getParserForType() {
+      return PARSER;
+    }
+
+    @java.lang.Override
+    public com.booleworks.logicng.serialization.solvers.datastructures.ProtoBufSolverDatastructures.PBPropositionBatch getDefaultInstanceForType() {
+      return DEFAULT_INSTANCE;
+    }
+
+  }
+
+  private static final com.google.protobuf.Descriptors.Descriptor
+    internal_static_solver_PBClause_descriptor;
+  private static final 
+    com.google.protobuf.GeneratedMessage.FieldAccessorTable
+      internal_static_solver_PBClause_fieldAccessorTable;
+  private static final com.google.protobuf.Descriptors.Descriptor
+    internal_static_solver_PBClauseVector_descriptor;
+  private static final 
+    com.google.protobuf.GeneratedMessage.FieldAccessorTable
+      internal_static_solver_PBClauseVector_fieldAccessorTable;
+  private static final com.google.protobuf.Descriptors.Descriptor
+    internal_static_solver_PBWatcher_descriptor;
+  private static final 
+    com.google.protobuf.GeneratedMessage.FieldAccessorTable
+      internal_static_solver_PBWatcher_fieldAccessorTable;
+  private static final com.google.protobuf.Descriptors.Descriptor
+    internal_static_solver_PBWatcherVector_descriptor;
+  private static final 
+    com.google.protobuf.GeneratedMessage.FieldAccessorTable
+      internal_static_solver_PBWatcherVector_fieldAccessorTable;
+  private static final com.google.protobuf.Descriptors.Descriptor
+    internal_static_solver_PBWatcherVectorVector_descriptor;
+  private static final 
+    com.google.protobuf.GeneratedMessage.FieldAccessorTable
+      internal_static_solver_PBWatcherVectorVector_fieldAccessorTable;
+  private static final com.google.protobuf.Descriptors.Descriptor
+    internal_static_solver_PBVariable_descriptor;
+  private static final 
+    com.google.protobuf.GeneratedMessage.FieldAccessorTable
+      internal_static_solver_PBVariable_fieldAccessorTable;
+  private static final com.google.protobuf.Descriptors.Descriptor
+    internal_static_solver_PBVariableVector_descriptor;
+  private static final 
+    com.google.protobuf.GeneratedMessage.FieldAccessorTable
+      internal_static_solver_PBVariableVector_fieldAccessorTable;
+  private static final com.google.protobuf.Descriptors.Descriptor
+    internal_static_solver_PBHeap_descriptor;
+  private static final 
+    com.google.protobuf.GeneratedMessage.FieldAccessorTable
+      internal_static_solver_PBHeap_fieldAccessorTable;
+  private static final com.google.protobuf.Descriptors.Descriptor
+    internal_static_solver_PBBoundedIntQueue_descriptor;
+  private static final 
+    com.google.protobuf.GeneratedMessage.FieldAccessorTable
+      internal_static_solver_PBBoundedIntQueue_fieldAccessorTable;
+  private static final com.google.protobuf.Descriptors.Descriptor
+    internal_static_solver_PBBoundedLongQueue_descriptor;
+  private static final 
+    com.google.protobuf.GeneratedMessage.FieldAccessorTable
+      internal_static_solver_PBBoundedLongQueue_fieldAccessorTable;
+  private static final com.google.protobuf.Descriptors.Descriptor
+    internal_static_solver_PBProofInformation_descriptor;
+  private static final 
+    com.google.protobuf.GeneratedMessage.FieldAccessorTable
+      internal_static_solver_PBProofInformation_fieldAccessorTable;
+  private static final com.google.protobuf.Descriptors.Descriptor
+    internal_static_solver_PBPropositionTable_descriptor;
+  private static final 
+    com.google.protobuf.GeneratedMessage.FieldAccessorTable
+      internal_static_solver_PBPropositionTable_fieldAccessorTable;
+  private static final com.google.protobuf.Descriptors.Descriptor
+    internal_static_solver_PBProofLogReference_descriptor;
+  private static final 
+    com.google.protobuf.GeneratedMessage.FieldAccessorTable
+      internal_static_solver_PBProofLogReference_fieldAccessorTable;
+  private static final com.google.protobuf.Descriptors.Descriptor
+    internal_static_solver_PBPropositionBatch_descriptor;
+  private static final 
+    com.google.protobuf.GeneratedMessage.FieldAccessorTable
+      internal_static_solver_PBPropositionBatch_fieldAccessorTable;
+
+  public static com.google.protobuf.Descriptors.FileDescriptor
+      getDescriptor() {
+    return descriptor;
+  }
+  private static  com.google.protobuf.Descriptors.FileDescriptor
+      descriptor;
+  static {
+    java.lang.String[] descriptorData = {
+      "\n\033solver_datastructures.proto\022\006solver\032\021c" +
+      "ollections.proto\"\322\001\n\010PBClause\022&\n\004data\030\001 " +
+      "\001(\0132\030.collections.PBIntVector\022\025\n\rlearntO" +
+      "nState\030\002 \001(\005\022\020\n\010isAtMost\030\003 \001(\010\022\020\n\010activi" +
+      "ty\030\004 \001(\001\022\014\n\004seen\030\006 \001(\010\022\013\n\003lbd\030\007 \001(\003\022\020\n\010c" +
+      "anBeDel\030\010 \001(\010\022\022\n\noneWatched\030\t \001(\010\022\026\n\016atM" +
+      "ostWatchers\030\n \001(\005\022\n\n\002id\030\013 \001(\005\"3\n\016PBClaus" +
+      "eVector\022!\n\007element\030\001 \003(\0132\020.solver.PBClau" +
+      "se\",\n\tPBWatcher\022\016\n\006clause\030\001 \001(\005\022\017\n\007block" +
+      "er\030\002 \001(\005\"5\n\017PBWatcherVector\022\"\n\007element\030\001" +
+      " \003(\0132\021.solver.PBWatcher\"A\n\025PBWatcherVect" +
+      "orVector\022(\n\007element\030\001 \003(\0132\027.solver.PBWat" +
+      "cherVector\"\211\001\n\nPBVariable\022&\n\nassignment\030" +
+      "\001 \001(\0162\022.solver.PBTristate\022\r\n\005level\030\002 \001(\005" +
+      "\022\016\n\006reason\030\003 \001(\005\022\020\n\010activity\030\004 \001(\001\022\020\n\010po" +
+      "larity\030\005 \001(\010\022\020\n\010decision\030\006 \001(\010\"7\n\020PBVari" +
+      "ableVector\022#\n\007element\030\001 \003(\0132\022.solver.PBV" +
+      "ariable\"[\n\006PBHeap\022&\n\004heap\030\001 \001(\0132\030.collec" +
+      "tions.PBIntVector\022)\n\007indices\030\002 \001(\0132\030.col" +
+      "lections.PBIntVector\"\221\001\n\021PBBoundedIntQue" +
+      "ue\022\'\n\005elems\030\001 \001(\0132\030.collections.PBIntVec" +
+      "tor\022\r\n\005first\030\002 \001(\005\022\014\n\004last\030\003 \001(\005\022\022\n\nsumO" +
+      "fQueue\030\004 \001(\003\022\017\n\007maxSize\030\005 \001(\005\022\021\n\tqueueSi" +
+      "ze\030\006 \001(\005\"\223\001\n\022PBBoundedLongQueue\022(\n\005elems" +
+      "\030\001 \001(\0132\031.collections.PBLongVector\022\r\n\005fir" +
+      "st\030\002 \001(\005\022\014\n\004last\030\003 \001(\005\022\022\n\nsumOfQueue\030\004 \001" +
+      "(\003\022\017\n\007maxSize\030\005 \001(\005\022\021\n\tqueueSize\030\006 \001(\005\"\234" +
+      "\001\n\022PBProofInformation\022(\n\006clause\030\001 \001(\0132\030." +
+      "collections.PBIntVector\022\030\n\013proposition\030\002" +
+      " \001(\014H\000\210\001\001\022\035\n\020propositionIndex\030\003 \001(\005H\001\210\001\001" +
+      "B\016\n\014_propositionB\023\n\021_propositionIndex\"T\n" +
+      "\022PBPropositionTable\022\023\n\013proposition\030\001 \003(\014" +
+      "\022)\n\005batch\030\002 \003(\0132\032.solver.PBPropositionBa" +
+      "tch\"B\n\023PBProofLogReference\022\014\n\004path\030\001 \001(\t" +
+      "\022\016\n\006offset\030\002 \001(\003\022\r\n\005steps\030\003 \001(\003\"B\n\022PBPro" +
+      "positionBatch\022\014\n\004type\030\001 \001(\t\022\r\n\005index\030\002 \003" +
+      "(\005\022\017\n\007payload\030\003 \001(\014*,\n\nPBTristate\022\t\n\005FAL" +
+      "SE\020\000\022\010\n\004TRUE\020\001\022\t\n\005UNDEF\020\002B[\n;com.boolewo" +
+      "rks.logicng.serialization.solvers.datast" +
+      "ructuresB\034ProtoBufSolverDatastructuresb\006" +
+      "proto3"
+    };
+    descriptor = com.google.protobuf.Descriptors.FileDescriptor
+      .internalBuildGeneratedFileFrom(descriptorData,
+        new com.google.protobuf.Descriptors.FileDescriptor[] {
+          com.booleworks.logicng.serialization.collections.ProtoBufCollections.getDescriptor(),
+        });
+    internal_static_solver_PBClause_descriptor =
+      getDescriptor().getMessageTypes().get(0);
+    internal_static_solver_PBClause_fieldAccessorTable = new
+      com.google.protobuf.GeneratedMessage.FieldAccessorTable(
+        internal_static_solver_PBClause_descriptor,
+        new java.lang.String[] { "Data", "LearntOnState", "IsAtMost", "Activity", "Seen", "Lbd", "CanBeDel", "OneWatched", "AtMostWatchers", "Id", });
+    internal_static_solver_PBClauseVector_descriptor =
+      getDescriptor().getMessageTypes().get(1);
+    internal_static_solver_PBClauseVector_fieldAccessorTable = new
+      com.google.protobuf.GeneratedMessage.FieldAccessorTable(
+        internal_static_solver_PBClauseVector_descriptor,
+        new java.lang.String[] { "Element", });
+    internal_static_solver_PBWatcher_descriptor =
+      getDescriptor().getMessageTypes().get(2);
+    internal_static_solver_PBWatcher_fieldAccessorTable = new
+      com.google.protobuf.GeneratedMessage.FieldAccessorTable(
+        internal_static_solver_PBWatcher_descriptor,
+        new java.lang.String[] { "Clause", "Blocker", });
+    internal_static_solver_PBWatcherVector_descriptor =
+      getDescriptor().getMessageTypes().get(3);
+    internal_static_solver_PBWatcherVector_fieldAccessorTable = new
+      com.google.protobuf.GeneratedMessage.FieldAccessorTable(
+        internal_static_solver_PBWatcherVector_descriptor,
+        new java.lang.String[] { "Element", });
+    internal_static_solver_PBWatcherVectorVector_descriptor =
+      getDescriptor().getMessageTypes().get(4);
+    internal_static_solver_PBWatcherVectorVector_fieldAccessorTable = new
+      com.google.protobuf.GeneratedMessage.FieldAccessorTable(
+        internal_static_solver_PBWatcherVectorVector_descriptor,
+        new java.lang.String[] { "Element", });
+    internal_static_solver_PBVariable_descriptor =
+      getDescriptor().getMessageTypes().get(5);
+    internal_static_solver_PBVariable_fieldAccessorTable = new
+      com.google.protobuf.GeneratedMessage.FieldAccessorTable(
+        internal_static_solver_PBVariable_descriptor,
+        new java.lang.String[] { "Assignment", "Level", "Reason", "Activity", "Polarity", "Decision", });
+    internal_static_solver_PBVariableVector_descriptor =
+      getDescriptor().getMessageTypes().get(6);
+    internal_static_solver_PBVariableVector_fieldAccessorTable = new
+      com.google.protobuf.GeneratedMessage.FieldAccessorTable(
+        internal_static_solver_PBVariableVector_descriptor,
+        new java.lang.String[] { "Element", });
+    internal_static_solver_PBHeap_descriptor =
+      getDescriptor().getMessageTypes().get(7);
+    internal_static_solver_PBHeap_fieldAccessorTable = new
+      com.google.protobuf.GeneratedMessage.FieldAccessorTable(
+        internal_static_solver_PBHeap_descriptor,
+        new java.lang.String[] { "Heap", "Indices", });
+    internal_static_solver_PBBoundedIntQueue_descriptor =
+      getDescriptor().getMessageTypes().get(8);
+    internal_static_solver_PBBoundedIntQueue_fieldAccessorTable = new
+      com.google.protobuf.GeneratedMessage.FieldAccessorTable(
+        internal_static_solver_PBBoundedIntQueue_descriptor,
+        new java.lang.String[] { "Elems", "First", "Last", "SumOfQueue", "MaxSize", "QueueSize", });
+    internal_static_solver_PBBoundedLongQueue_descriptor =
+      getDescriptor().getMessageTypes().get(9);
+    internal_static_solver_PBBoundedLongQueue_fieldAccessorTable = new
+      com.google.protobuf.GeneratedMessage.FieldAccessorTable(
+        internal_static_solver_PBBoundedLongQueue_descriptor,
+        new java.lang.String[] { "Elems", "First", "Last", "SumOfQueue", "MaxSize", "QueueSize", });
+    internal_static_solver_PBProofInformation_descriptor =
+      getDescriptor().getMessageTypes().get(10);
+    internal_static_solver_PBProofInformation_fieldAccessorTable = new
+      com.google.protobuf.GeneratedMessage.FieldAccessorTable(
+        internal_static_solver_PBProofInformation_descriptor,
+        new java.lang.String[] { "Clause", "Proposition", "PropositionIndex", });
+    internal_static_solver_PBPropositionTable_descriptor =
+      getDescriptor().getMessageTypes().get(11);
+    internal_static_solver_PBPropositionTable_fieldAccessorTable = new
+      com.google.protobuf.GeneratedMessage.FieldAccessorTable(
+        internal_static_solver_PBPropositionTable_descriptor,
+        new java.lang.String[] { "Proposition", "Batch", });
+    internal_static_solver_PBProofLogReference_descriptor =
+      getDescriptor().getMessageTypes().get(12);
+    internal_static_solver_PBProofLogReference_fieldAccessorTable = new
+      com.google.protobuf.GeneratedMessage.FieldAccessorTable(
+        internal_static_solver_PBProofLogReference_descriptor,
+        new java.lang.String[] { "Path", "Offset", "Steps", });
+    internal_static_solver_PBPropositionBatch_descriptor =
+      getDescriptor().getMessageTypes().get(13);
+    internal_static_solver_PBPropositionBatch_fieldAccessorTable = new
+      com.google.protobuf.GeneratedMessage.FieldAccessorTable(
+        internal_static_solver_PBPropositionBatch_descriptor,
+        new java.lang.String[] { "Type", "Index", "Payload", });
     descriptor.resolveAllFeaturesImmutable();
     com.booleworks.logicng.serialization.collections.ProtoBufCollections.getDescriptor();
   }
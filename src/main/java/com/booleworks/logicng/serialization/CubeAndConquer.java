@@ -0,0 +1,250 @@
+// SPDX-License-Identifier: Apache-2.0 and MIT
+// Copyright 2023-20xx BooleWorks GmbH
+
+package com.booleworks.logicng.serialization;
+
+import static com.booleworks.logicng.serialization.ReflectionHelper.getField;
+
+import com.booleworks.logicng.collections.LNGVector;
+import com.booleworks.logicng.datastructures.Tristate;
+import com.booleworks.logicng.formulas.FormulaFactory;
+import com.booleworks.logicng.formulas.Literal;
+import com.booleworks.logicng.serialization.solvers.ProtoBufCubes.PBCube;
+import com.booleworks.logicng.serialization.solvers.ProtoBufCubes.PBCubeResult;
+import com.booleworks.logicng.solvers.SATSolver;
+import com.booleworks.logicng.solvers.datastructures.LNGVariable;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+
+/**
+ * Cube-and-conquer solving with local worker processes.
+ * <p>
+ * The base solver is serialized once to an uncompressed snapshot file, which is memory-mapped by all
+ * {@link CubeWorker workers}, so the snapshot is neither encoded nor transferred once per worker.  The
+ * cubes are sent to the workers one at a time as length-delimited {@link PBCube cubes} over their
+ * standard input, a worker gets its next cube as soon as it reports the result of the previous one.
+ * As soon as one cube is satisfiable, all workers are terminated.
+ * <p>
+ * The base solver must not generate proofs, since the workers restore it without propositions.
+ * @version 3.0.0
+ * @since 3.0.0
+ */
+public class CubeAndConquer {
+    private static final int MAX_DEPTH = 30;
+
+    private final int workers;
+    private final Path directory;
+    private final List<String> workerCommand;
+
+    /**
+     * Constructs a new cube-and-conquer solver which starts the workers with the current Java runtime
+     * and class path.
+     * @param workers   the number of worker processes
+     * @param directory the directory for the snapshot file
+     */
+    public CubeAndConquer(final int workers, final Path directory) {
+        this(workers, directory, List.of(Paths.get(System.getProperty("java.home"), "bin", "java").toString(),
+                "-cp", System.getProperty("java.class.path"), CubeWorker.class.getName()));
+    }
+
+    /**
+     * Constructs a new cube-and-conquer solver.  The workers are started with the given command, extended
+     * by the path of the snapshot file.  The command must start the main method of {@link CubeWorker}.
+     * @param workers       the number of worker processes
+     * @param directory     the directory for the snapshot file
+     * @param workerCommand the command to start a worker
+     */
+    public CubeAndConquer(final int workers, final Path directory, final List<String> workerCommand) {
+        if (workers <= 0) {
+            throw new IllegalArgumentException("Number of workers must be positive: " + workers);
+        }
+        this.workers = workers;
+        this.directory = directory;
+        this.workerCommand = workerCommand;
+    }
+
+    /**
+     * Splits the search space of the solver into cubes over its most active unassigned variables.  Each of
+     * the {@code 2^depth} cubes assigns all of these variables, so the cubes cover the complete search space.
+     * The solver must not be within a SAT call.
+     * @param solver the solver
+     * @param depth  the number of variables to split on
+     * @return the cubes
+     * @throws IllegalArgumentException if the depth is negative or greater than 30
+     */
+    public static List<List<Literal>> splitCubes(final SATSolver solver, final int depth) {
+        if (depth < 0 || depth > MAX_DEPTH) {
+            throw new IllegalArgumentException("Depth must be between 0 and " + MAX_DEPTH + ": " + depth);
+        }
+        final LNGVector<LNGVariable> vars = getField(solver.underlyingSolver(), "vars");
+        final Map<Integer, String> idx2name = getField(solver.underlyingSolver(), "idx2name");
+        final List<Integer> candidates = new ArrayList<>();
+        for (int i = 0; i < vars.size(); i++) {
+            if (vars.get(i).assignment() == Tristate.UNDEF && vars.get(i).decision() && idx2name.containsKey(i)) {
+                candidates.add(i);
+            }
+        }
+        candidates.sort(Comparator.comparingDouble((Integer i) -> vars.get(i).activity()).reversed());
+        final List<Integer> split = candidates.subList(0, Math.min(depth, candidates.size()));
+        final FormulaFactory f = solver.factory();
+        final List<List<Literal>> cubes = new ArrayList<>();
+        for (int mask = 0; mask < 1 << split.size(); mask++) {
+            final List<Literal> cube = new ArrayList<>(split.size());
+            for (int i = 0; i < split.size(); i++) {
+                cube.add(f.literal(idx2name.get(split.get(i)), (mask & 1 << i) == 0));
+            }
+            cubes.add(cube);
+        }
+        return cubes;
+    }
+
+    /**
+     * Solves the solver under the given cubes with the worker processes.  If the cubes cover the complete
+     * search space, the result is the satisfiability of the solver.
+     * @param solver the solver
+     * @param cubes  the cubes
+     * @return {@link Tristate#TRUE} if one cube is satisfiable, {@link Tristate#FALSE} if all cubes are unsatisfiable
+     * @throws IOException          if there is a problem writing the snapshot or communicating with the workers
+     * @throws InterruptedException if the thread is interrupted while waiting for the workers
+     */
+    public Tristate solve(final SATSolver solver, final List<List<Literal>> cubes) throws IOException, InterruptedException {
+        final Path snapshot = Files.createTempFile(directory, "cubes", ".pb");
+        final List<Process> processes = new ArrayList<>();
+        try {
+            SolverSerializer.withoutProofs(solver.factory()).serializeSolverToFile(solver, snapshot, false);
+            final List<String> command = new ArrayList<>(workerCommand);
+            command.add(snapshot.toString());
+            final List<WorkerChannel> channels = new ArrayList<>();
+            for (int i = 0; i < Math.min(workers, cubes.size()); i++) {
+                final Process process = new ProcessBuilder(command).redirectError(ProcessBuilder.Redirect.INHERIT).start();
+                processes.add(process);
+                channels.add(new WorkerChannel(new BufferedOutputStream(process.getOutputStream()),
+                        new BufferedInputStream(process.getInputStream())));
+            }
+            return dispatch(channels, serializeCubes(cubes));
+        } finally {
+            processes.forEach(Process::destroyForcibly);
+            Files.deleteIfExists(snapshot);
+        }
+    }
+
+    static List<PBCube> serializeCubes(final List<List<Literal>> cubes) {
+        final List<PBCube> result = new ArrayList<>(cubes.size());
+        for (int i = 0; i < cubes.size(); i++) {
+            final PBCube.Builder builder = PBCube.newBuilder().setId(i);
+            for (final Literal literal : cubes.get(i)) {
+                builder.addVariable(literal.name()).addPhase(literal.phase());
+            }
+            result.add(builder.build());
+        }
+        return result;
+    }
+
+    /**
+     * Distributes the cubes to the workers and collects their results.  Each worker is given a new cube as
+     * soon as it reported the result of its previous one, and its input is closed when there are no more
+     * cubes.  The caller is responsible for terminating the workers after this method returned.
+     * @param workers the channels to the workers
+     * @param cubes   the cubes
+     * @return {@link Tristate#TRUE} if one cube is satisfiable, {@link Tristate#FALSE} if all cubes are unsatisfiable
+     * @throws IOException          if there is a problem communicating with the workers
+     * @throws InterruptedException if the thread is interrupted while waiting for the workers
+     */
+    static Tristate dispatch(final List<WorkerChannel> workers, final List<PBCube> cubes) throws IOException, InterruptedException {
+        final BlockingQueue<WorkerMessage> messages = new LinkedBlockingQueue<>();
+        for (int i = 0; i < workers.size(); i++) {
+            final int worker = i;
+            final Thread reader = new Thread(() -> readResults(worker, workers.get(worker).output, messages));
+            reader.setDaemon(true);
+            reader.start();
+        }
+        final boolean[] busy = new boolean[workers.size()];
+        int next = 0;
+        int pending = 0;
+        for (int i = 0; i < workers.size(); i++) {
+            if (next < cubes.size()) {
+                send(workers.get(i), cubes.get(next++));
+                busy[i] = true;
+                pending++;
+            } else {
+                workers.get(i).input.close();
+            }
+        }
+        while (pending > 0) {
+            final WorkerMessage message = messages.take();
+            if (!busy[message.worker]) {
+                continue;
+            }
+            if (message.result == null) {
+                throw new IOException("Worker " + message.worker + " terminated without a result");
+            }
+            if (message.result.getSat()) {
+                return Tristate.TRUE;
+            }
+            pending--;
+            busy[message.worker] = false;
+            final WorkerChannel channel = workers.get(message.worker);
+            if (next < cubes.size()) {
+                send(channel, cubes.get(next++));
+                busy[message.worker] = true;
+                pending++;
+            } else {
+                channel.input.close();
+            }
+        }
+        return Tristate.FALSE;
+    }
+
+    private static void send(final WorkerChannel channel, final PBCube cube) throws IOException {
+        cube.writeDelimitedTo(channel.input);
+        channel.input.flush();
+    }
+
+    private static void readResults(final int worker, final InputStream output, final BlockingQueue<WorkerMessage> messages) {
+        try {
+            PBCubeResult result;
+            while ((result = PBCubeResult.parseDelimitedFrom(output)) != null) {
+                messages.add(new WorkerMessage(worker, result));
+            }
+        } catch (final IOException e) {
+            // the worker was terminated, reported below
+        }
+        messages.add(new WorkerMessage(worker, null));
+    }
+
+    /**
+     * The channel to a worker: the worker's input for cubes and its output for results.
+     */
+    static final class WorkerChannel {
+        private final OutputStream input;
+        private final InputStream output;
+
+        WorkerChannel(final OutputStream input, final InputStream output) {
+            this.input = input;
+            this.output = output;
+        }
+    }
+
+    private static final class WorkerMessage {
+        private final int worker;
+        private final PBCubeResult result;
+
+        private WorkerMessage(final int worker, final PBCubeResult result) {
+            this.worker = worker;
+            this.result = result;
+        }
+    }
+}
@@ -0,0 +1,74 @@
+// SPDX-License-Identifier: Apache-2.0 and MIT
+// Copyright 2023-20xx BooleWorks GmbH
+
+package com.booleworks.logicng.serialization;
+
+import com.booleworks.logicng.formulas.FormulaFactory;
+import com.booleworks.logicng.formulas.Literal;
+import com.booleworks.logicng.serialization.solvers.ProtoBufCubes.PBCube;
+import com.booleworks.logicng.serialization.solvers.ProtoBufCubes.PBCubeResult;
+import com.booleworks.logicng.solvers.SATSolver;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * A worker process for {@link CubeAndConquer}.
+ * <p>
+ * The worker restores the base solver from the snapshot file given as first argument.  The optional
+ * second argument states whether the snapshot is compressed.  Then it reads length-delimited
+ * {@link PBCube cubes} from its standard input, solves the base solver under each cube, and writes a
+ * length-delimited {@link PBCubeResult result} for each cube to its standard output.  The worker
+ * terminates when its standard input is closed.
+ * @version 3.0.0
+ * @since 3.0.0
+ */
+public class CubeWorker {
+
+    private CubeWorker() {
+        // only static methods
+    }
+
+    /**
+     * Runs the worker.
+     * @param args the path of the snapshot file and optionally a flag whether the snapshot is compressed
+     * @throws IOException if there is a problem reading the snapshot or communicating with the coordinator
+     */
+    public static void main(final String[] args) throws IOException {
+        if (args.length < 1) {
+            throw new IllegalArgumentException("Usage: CubeWorker <snapshot> [compressed]");
+        }
+        final boolean compress = args.length > 1 && Boolean.parseBoolean(args[1]);
+        final FormulaFactory f = FormulaFactory.caching();
+        final SATSolver solver = SolverSerializer.withoutProofs(f).deserializeSatSolverFromFile(Paths.get(args[0]), compress);
+        serve(f, solver, new BufferedInputStream(System.in), new BufferedOutputStream(System.out));
+    }
+
+    /**
+     * Solves the cubes read from the input stream and writes the results to the output stream.  Each cube
+     * is solved with its literals as assumptions, so the solver keeps its learnt clauses between the cubes.
+     * @param f      the formula factory of the solver
+     * @param solver the base solver
+     * @param input  the input stream for the cubes
+     * @param output the output stream for the results
+     * @throws IOException if there is a problem reading or writing the streams
+     */
+    static void serve(final FormulaFactory f, final SATSolver solver, final InputStream input, final OutputStream output) throws IOException {
+        PBCube cube;
+        while ((cube = PBCube.parseDelimitedFrom(input)) != null) {
+            final List<Literal> assumptions = new ArrayList<>(cube.getVariableCount());
+            for (int i = 0; i < cube.getVariableCount(); i++) {
+                assumptions.add(f.literal(cube.getVariable(i), cube.getPhase(i)));
+            }
+            final boolean sat = solver.satCall().addFormulas(assumptions).sat().getResult();
+            PBCubeResult.newBuilder().setId(cube.getId()).setSat(sat).build().writeDelimitedTo(output);
+            output.flush();
+        }
+    }
+}
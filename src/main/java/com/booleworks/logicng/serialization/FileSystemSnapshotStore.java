@@ -0,0 +1,94 @@
+// SPDX-License-Identifier: Apache-2.0 and MIT
+// Copyright 2023-20xx BooleWorks GmbH
+
+package com.booleworks.logicng.serialization;
+
+import com.google.protobuf.ByteString;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.List;
+
+/**
+ * A {@link SnapshotStore} in a directory of the local file system.
+ * <p>
+ * Chunks are stored in the subdirectory {@code chunks}, in a further subdirectory named by the first two
+ * characters of their hash.  Manifests are stored as text files with one hash per line in the subdirectory
+ * {@code manifests}.  All files are written to a temporary file first and then atomically moved to their
+ * destination, so a store is never left with partial chunks or manifests.  Chunks are verified against
+ * their hash when they are read.
+ * @version 3.0.0
+ * @since 3.0.0
+ */
+public class FileSystemSnapshotStore implements SnapshotStore {
+    private final Path chunks;
+    private final Path manifests;
+
+    /**
+     * Constructs a new store in the given directory.  The directory is created if it does not exist.
+     * @param root the directory of the store
+     * @throws IOException if there is a problem creating the directory
+     */
+    public FileSystemSnapshotStore(final Path root) throws IOException {
+        chunks = Files.createDirectories(root.resolve("chunks"));
+        manifests = Files.createDirectories(root.resolve("manifests"));
+    }
+
+    @Override
+    public boolean containsChunk(final String hash) {
+        return Files.exists(chunkPath(hash));
+    }
+
+    @Override
+    public void putChunk(final String hash, final ByteString chunk) throws IOException {
+        final Path path = chunkPath(hash);
+        Files.createDirectories(path.getParent());
+        writeAtomically(path, chunk.toByteArray());
+    }
+
+    @Override
+    public ByteString getChunk(final String hash) throws IOException {
+        final ByteString chunk = ByteString.copyFrom(Files.readAllBytes(chunkPath(hash)));
+        if (!SnapshotChunks.hash(chunk).equals(hash)) {
+            throw new IOException("Content of chunk " + hash + " does not match its hash");
+        }
+        return chunk;
+    }
+
+    @Override
+    public void putManifest(final String name, final List<String> hashes) throws IOException {
+        writeAtomically(manifestPath(name), String.join("\n", hashes).getBytes(StandardCharsets.UTF_8));
+    }
+
+    @Override
+    public List<String> getManifest(final String name) throws IOException {
+        return Files.readAllLines(manifestPath(name), StandardCharsets.UTF_8);
+    }
+
+    private Path chunkPath(final String hash) {
+        if (!hash.matches("[0-9a-f]{64}")) {
+            throw new IllegalArgumentException("Illegal chunk hash: " + hash);
+        }
+        return chunks.resolve(hash.substring(0, 2)).resolve(hash);
+    }
+
+    private Path manifestPath(final String name) {
+        if (!name.matches("[\\w.-]+") || name.startsWith(".")) {
+            throw new IllegalArgumentException("Illegal snapshot name: " + name);
+        }
+        return manifests.resolve(name);
+    }
+
+    private static void writeAtomically(final Path path, final byte[] content) throws IOException {
+        final Path temp = Files.createTempFile(path.getParent(), path.getFileName().toString(), ".tmp");
+        try {
+            Files.write(temp, content);
+            Files.move(temp, path, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+        } finally {
+            Files.deleteIfExists(temp);
+        }
+    }
+}
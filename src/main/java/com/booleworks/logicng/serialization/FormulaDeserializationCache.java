@@ -0,0 +1,181 @@
+// SPDX-License-Identifier: Apache-2.0 and MIT
+// Copyright 2023-20xx BooleWorks GmbH
+
+package com.booleworks.logicng.serialization;
+
+import com.booleworks.logicng.formulas.Formula;
+import com.booleworks.logicng.formulas.FormulaFactory;
+import com.booleworks.logicng.serialization.formulas.ProtoBufFormulas.PBFormulas;
+import com.google.protobuf.ByteString;
+import com.google.protobuf.InvalidProtocolBufferException;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * A cache for the deserialization of formulas into one formula factory.
+ * <p>
+ * The cache maps serialized {@link PBFormulas} payloads to the formulas which were built from them, so a
+ * payload which is deserialized again only costs the computation of its content hash.  A cached payload is
+ * only returned for a payload with exactly the same bytes.  The formulas of a payload are always built by
+ * the formula factory of the cache.
+ * <p>
+ * The total number of formula nodes of the cached payloads is bounded.  If a new payload exceeds this bound,
+ * the least recently used payloads are evicted.  The cache is thread-safe, but a payload which is requested
+ * concurrently for the first time may be deserialized more than once, so a formula factory which can be used
+ * concurrently is required in this case.
+ * @version 3.0.0
+ * @since 3.0.0
+ */
+public class FormulaDeserializationCache {
+    private final FormulaFactory f;
+    private final long maxNodes;
+    private final Map<ByteString, Entry> entries = new LinkedHashMap<>(16, 0.75f, true);
+    private long nodes;
+    private long hits;
+    private long misses;
+    private long evictions;
+
+    /**
+     * Constructs a new cache.
+     * @param f        the formula factory to generate the formulas
+     * @param maxNodes the maximum total number of formula nodes of the cached payloads
+     */
+    public FormulaDeserializationCache(final FormulaFactory f, final long maxNodes) {
+        if (maxNodes < 0) {
+            throw new IllegalArgumentException("Maximum number of nodes must not be negative: " + maxNodes);
+        }
+        this.f = f;
+        this.maxNodes = maxNodes;
+    }
+
+    /**
+     * Deserializes a formula from a serialized protocol buffer.
+     * @param payload the serialized {@link PBFormulas}
+     * @return the formula
+     * @throws InvalidProtocolBufferException if the payload is no valid protocol buffer
+     */
+    public Formula deserializeFormula(final ByteString payload) throws InvalidProtocolBufferException {
+        return deserializeFormulaList(payload).get(0);
+    }
+
+    /**
+     * Deserializes a list of formulas from a serialized protocol buffer.
+     * @param payload the serialized {@link PBFormulas}
+     * @return the unmodifiable list of formulas
+     * @throws InvalidProtocolBufferException if the payload is no valid protocol buffer
+     */
+    public List<Formula> deserializeFormulaList(final ByteString payload) throws InvalidProtocolBufferException {
+        synchronized (this) {
+            final Entry cached = entries.get(payload);
+            if (cached != null) {
+                hits++;
+                return cached.formulas;
+            }
+            misses++;
+        }
+        final PBFormulas bin = PBFormulas.parseFrom(payload);
+        final Entry entry = new Entry(List.copyOf(Formulas.deserializeFormulaList(f, bin)), nodeCount(bin));
+        synchronized (this) {
+            if (entry.nodes <= maxNodes && !entries.containsKey(payload)) {
+                entries.put(payload, entry);
+                nodes += entry.nodes;
+                evict();
+            }
+        }
+        return entry.formulas;
+    }
+
+    /**
+     * Deserializes a list of formulas from a stream.  The stream is read to its end.
+     * @param stream the stream
+     * @return the unmodifiable list of formulas
+     * @throws IOException if there is a problem reading from the stream
+     */
+    public List<Formula> deserializeFormulaListFromStream(final InputStream stream) throws IOException {
+        return deserializeFormulaList(ByteString.readFrom(stream));
+    }
+
+    /**
+     * Returns the formula factory of this cache.
+     * @return the formula factory
+     */
+    public FormulaFactory factory() {
+        return f;
+    }
+
+    /**
+     * Removes all entries from the cache.  The metrics are not reset.
+     */
+    public synchronized void clear() {
+        entries.clear();
+        nodes = 0;
+    }
+
+    /**
+     * Returns the number of cached payloads.
+     * @return the number of cached payloads
+     */
+    public synchronized int size() {
+        return entries.size();
+    }
+
+    /**
+     * Returns the total number of formula nodes of the cached payloads.
+     * @return the total number of formula nodes
+     */
+    public synchronized long nodes() {
+        return nodes;
+    }
+
+    /**
+     * Returns the number of requests which were answered from the cache.
+     * @return the number of cache hits
+     */
+    public synchronized long hits() {
+        return hits;
+    }
+
+    /**
+     * Returns the number of requests which required the deserialization of the payload.
+     * @return the number of cache misses
+     */
+    public synchronized long misses() {
+        return misses;
+    }
+
+    /**
+     * Returns the number of entries which were evicted because of the node bound.
+     * @return the number of evictions
+     */
+    public synchronized long evictions() {
+        return evictions;
+    }
+
+    private void evict() {
+        final Iterator<Map.Entry<ByteString, Entry>> it = entries.entrySet().iterator();
+        while (nodes > maxNodes && it.hasNext()) {
+            nodes -= it.next().getValue().nodes;
+            it.remove();
+            evictions++;
+        }
+    }
+
+    private static long nodeCount(final PBFormulas bin) {
+        return Math.max(1, bin.getMapping().getMappingCount() + bin.getCnf().getLiteralCount());
+    }
+
+    private static final class Entry {
+        private final List<Formula> formulas;
+        private final long nodes;
+
+        private Entry(final List<Formula> formulas, final long nodes) {
+            this.formulas = formulas;
+            this.nodes = nodes;
+        }
+    }
+}
@@ -0,0 +1,135 @@
+// SPDX-License-Identifier: Apache-2.0 and MIT
+// Copyright 2023-20xx BooleWorks GmbH
+
+package com.booleworks.logicng.serialization;
+
+import com.booleworks.logicng.formulas.Formula;
+
+/**
+ * An open-addressing hash map from formulas to non-negative integer IDs.
+ * <p>
+ * The map uses linear probing on parallel arrays, so no entry objects and no boxed IDs are created.  For
+ * formulas of a caching formula factory, equal formulas are the same instance and the map can compare
+ * formulas by identity.  This avoids the computation of {@link Formula#hashCode()} and
+ * {@link Formula#equals(Object)} which can be expensive for deep formulas.  Otherwise, the formulas are
+ * compared by equality.
+ * @version 3.0.0
+ * @since 3.0.0
+ */
+final class FormulaIdMap {
+    static final int ABSENT = -1;
+
+    private final boolean identity;
+    private Formula[] keys;
+    private int[] values;
+    private int size;
+
+    /**
+     * Constructs a new empty map.
+     * @param identity a flag whether the formulas should be compared by identity
+     * @param expected the expected number of entries
+     */
+    FormulaIdMap(final boolean identity, final int expected) {
+        this.identity = identity;
+        int capacity = 16;
+        while (capacity < 2 * expected && capacity < (1 << 30)) {
+            capacity <<= 1;
+        }
+        keys = new Formula[capacity];
+        values = new int[capacity];
+    }
+
+    /**
+     * Returns the ID of a formula.
+     * @param formula the formula
+     * @return the ID of the formula or {@link #ABSENT} if the formula has no ID
+     */
+    int get(final Formula formula) {
+        final int mask = keys.length - 1;
+        int i = hash(formula) & mask;
+        Formula key;
+        while ((key = keys[i]) != null) {
+            if (matches(key, formula)) {
+                return values[i];
+            }
+            i = (i + 1) & mask;
+        }
+        return ABSENT;
+    }
+
+    /**
+     * Returns whether a formula has an ID.
+     * @param formula the formula
+     * @return {@code true} if the formula has an ID, otherwise {@code false}
+     */
+    boolean containsKey(final Formula formula) {
+        return get(formula) != ABSENT;
+    }
+
+    /**
+     * Sets the ID of a formula which has no ID yet.
+     * @param formula the formula
+     * @param id      the non-negative ID
+     */
+    void put(final Formula formula, final int id) {
+        if (2 * (size + 1) > keys.length) {
+            resize();
+        }
+        insert(keys, values, formula, id);
+        size++;
+    }
+
+    /**
+     * Returns the number of formulas with an ID.
+     * @return the number of formulas
+     */
+    int size() {
+        return size;
+    }
+
+    /**
+     * Returns the formulas of this map ordered by their IDs.  The IDs must be the consecutive numbers from
+     * zero to the size of the map.
+     * @return the formulas ordered by their IDs
+     */
+    Formula[] formulasById() {
+        final Formula[] result = new Formula[size];
+        for (int i = 0; i < keys.length; i++) {
+            if (keys[i] != null) {
+                result[values[i]] = keys[i];
+            }
+        }
+        return result;
+    }
+
+    private void resize() {
+        final Formula[] oldKeys = keys;
+        final int[] oldValues = values;
+        keys = new Formula[oldKeys.length << 1];
+        values = new int[oldValues.length << 1];
+        for (int i = 0; i < oldKeys.length; i++) {
+            if (oldKeys[i] != null) {
+                insert(keys, values, oldKeys[i], oldValues[i]);
+            }
+        }
+    }
+
+    private void insert(final Formula[] keys, final int[] values, final Formula formula, final int id) {
+        final int mask = keys.length - 1;
+        int i = hash(formula) & mask;
+        while (keys[i] != null) {
+            i = (i + 1) & mask;
+        }
+        keys[i] = formula;
+        values[i] = id;
+    }
+
+    private boolean matches(final Formula key, final Formula formula) {
+        return key == formula || !identity && key.equals(formula);
+    }
+
+    private int hash(final Formula formula) {
+        final int h = (identity ? System.identityHashCode(formula) : formula.hashCode()) * 0x9E3779B9;
+        return h ^ (h >>> 16);
+    }
+}
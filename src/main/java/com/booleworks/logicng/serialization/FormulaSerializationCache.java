@@ -0,0 +1,191 @@
+// SPDX-License-Identifier: Apache-2.0 and MIT
+// Copyright 2023-20xx BooleWorks GmbH
+
+package com.booleworks.logicng.serialization;
+
+import com.booleworks.logicng.formulas.Formula;
+import com.google.protobuf.ByteString;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.lang.ref.Reference;
+import java.lang.ref.ReferenceQueue;
+import java.lang.ref.WeakReference;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * A cache for the serialized bytes of formulas.
+ * <p>
+ * The cache maps formula instances to their encoding by {@link Formulas#serializeFormula(Formula)}, so a
+ * formula which is serialized again is only a copy of the cached bytes.  Formulas are compared by identity
+ * and only weakly referenced, so a cached formula can still be garbage collected together with its formula
+ * factory.  The cache is intended for caching formula factories, where equal formulas are the same
+ * instance.
+ * <p>
+ * The total size of the cached encodings is bounded by a maximum number of bytes.  If a new encoding
+ * exceeds this bound, the least recently used encodings are evicted.  The cache is thread-safe, but a
+ * formula which is requested concurrently for the first time may be encoded more than once.
+ * @version 3.0.0
+ * @since 3.0.0
+ */
+public class FormulaSerializationCache {
+    private final long maxBytes;
+    private final Map<Key, ByteString> entries = new LinkedHashMap<>(16, 0.75f, true);
+    private final ReferenceQueue<Formula> collected = new ReferenceQueue<>();
+    private long bytes;
+    private long hits;
+    private long misses;
+    private long evictions;
+
+    /**
+     * Constructs a new cache.
+     * @param maxBytes the maximum total size of the cached encodings in bytes
+     */
+    public FormulaSerializationCache(final long maxBytes) {
+        if (maxBytes < 0) {
+            throw new IllegalArgumentException("Maximum size must not be negative: " + maxBytes);
+        }
+        this.maxBytes = maxBytes;
+    }
+
+    /**
+     * Returns the serialized bytes of a formula.  The bytes are taken from the cache if possible, otherwise
+     * the formula is serialized and the bytes are cached.
+     * @param formula the formula
+     * @return the serialized bytes, a serialized {@link com.booleworks.logicng.serialization.formulas.ProtoBufFormulas.PBFormulas}
+     */
+    public ByteString serialize(final Formula formula) {
+        final Key key = new Key(formula, null);
+        synchronized (this) {
+            expungeCollected();
+            final ByteString cached = entries.get(key);
+            if (cached != null) {
+                hits++;
+                return cached;
+            }
+            misses++;
+        }
+        final ByteString encoded = Formulas.serializeFormula(formula).toByteString();
+        synchronized (this) {
+            if (encoded.size() <= maxBytes && !entries.containsKey(key)) {
+                entries.put(new Key(formula, collected), encoded);
+                bytes += encoded.size();
+                evict();
+            }
+        }
+        return encoded;
+    }
+
+    /**
+     * Writes the serialized bytes of a formula to a stream.
+     * @param formula the formula
+     * @param stream  the stream
+     * @throws IOException if there is a problem writing to the stream
+     */
+    public void serializeToStream(final Formula formula, final OutputStream stream) throws IOException {
+        serialize(formula).writeTo(stream);
+    }
+
+    /**
+     * Removes all entries from the cache.  The metrics are not reset.
+     */
+    public synchronized void clear() {
+        entries.clear();
+        bytes = 0;
+        while (collected.poll() != null) {
+            // entries are already removed
+        }
+    }
+
+    /**
+     * Returns the number of cached formulas.
+     * @return the number of cached formulas
+     */
+    public synchronized int size() {
+        expungeCollected();
+        return entries.size();
+    }
+
+    /**
+     * Returns the total size of the cached encodings in bytes.
+     * @return the total size of the cached encodings
+     */
+    public synchronized long bytes() {
+        expungeCollected();
+        return bytes;
+    }
+
+    /**
+     * Returns the number of requests which were answered from the cache.
+     * @return the number of cache hits
+     */
+    public synchronized long hits() {
+        return hits;
+    }
+
+    /**
+     * Returns the number of requests which required the serialization of the formula.
+     * @return the number of cache misses
+     */
+    public synchronized long misses() {
+        return misses;
+    }
+
+    /**
+     * Returns the number of entries which were evicted because of the size bound.
+     * @return the number of evictions
+     */
+    public synchronized long evictions() {
+        return evictions;
+    }
+
+    private void evict() {
+        final Iterator<Map.Entry<Key, ByteString>> it = entries.entrySet().iterator();
+        while (bytes > maxBytes && it.hasNext()) {
+            bytes -= it.next().getValue().size();
+            it.remove();
+            evictions++;
+        }
+    }
+
+    private void expungeCollected() {
+        Reference<? extends Formula> ref;
+        while ((ref = collected.poll()) != null) {
+            final ByteString removed = entries.remove(ref);
+            if (removed != null) {
+                bytes -= removed.size();
+            }
+        }
+    }
+
+    /**
+     * A weak reference to a formula which is compared by the identity of the formula.
+     */
+    private static final class Key extends WeakReference<Formula> {
+        private final int hash;
+
+        private Key(final Formula formula, final ReferenceQueue<Formula> queue) {
+            super(formula, queue);
+            hash = System.identityHashCode(formula);
+        }
+
+        @Override
+        public int hashCode() {
+            return hash;
+        }
+
+        @Override
+        public boolean equals(final Object other) {
+            if (this == other) {
+                return true;
+            }
+            if (!(other instanceof Key)) {
+                return false;
+            }
+            final Formula formula = get();
+            return formula != null && formula == ((Key) other).get();
+        }
+    }
+}
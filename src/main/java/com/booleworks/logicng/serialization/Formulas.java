@@ -11,6 +11,7 @@ import static com.booleworks.logicng.formulas.CType.LT;
 
 import com.booleworks.logicng.formulas.And;
 import com.booleworks.logicng.formulas.CType;
+import com.booleworks.logicng.formulas.CachingFormulaFactory;
 import com.booleworks.logicng.formulas.Equivalence;
 import com.booleworks.logicng.formulas.FType;
 import com.booleworks.logicng.formulas.Formula;
@@ -20,13 +21,15 @@ import com.booleworks.logicng.formulas.Literal;
 import com.booleworks.logicng.formulas.Not;
 import com.booleworks.logicng.formulas.Or;
 import com.booleworks.logicng.formulas.PBConstraint;
-import com.booleworks.logicng.functions.SubNodeFunction;
+import com.booleworks.logicng.serialization.formulas.ProtoBufFormulas.PBCnfFormulas;
 import com.booleworks.logicng.serialization.formulas.ProtoBufFormulas.PBComparison;
 import com.booleworks.logicng.serialization.formulas.ProtoBufFormulas.PBFormulaMapping;
 import com.booleworks.logicng.serialization.formulas.ProtoBufFormulas.PBFormulaType;
 import com.booleworks.logicng.serialization.formulas.ProtoBufFormulas.PBFormulas;
 import com.booleworks.logicng.serialization.formulas.ProtoBufFormulas.PBInternalFormula;
 import com.booleworks.logicng.serialization.formulas.ProtoBufFormulas.PBInternalPseudoBooleanConstraint;
+import com.booleworks.logicng.serialization.formulas.ProtoBufFormulas.PBPredicateCache;
+import com.booleworks.logicng.serialization.formulas.ProtoBufFormulas.PBTransformationCache;
 import com.booleworks.logicng.util.Pair;
 
 import java.io.IOException;
@@ -34,19 +37,27 @@ import java.io.InputStream;
 import java.io.OutputStream;
 import java.nio.file.Files;
 import java.nio.file.Path;
+import java.util.ArrayDeque;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
+import java.util.HashMap;
+import java.util.Iterator;
 import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.TreeMap;
+import java.util.function.ToIntFunction;
 import java.util.stream.Collectors;
 import java.util.zip.GZIPInputStream;
 import java.util.zip.GZIPOutputStream;
 
 /**
  * Serialization methods for LogicNG formulas.
+ * <p>
+ * Formulas are serialized as a mapping of IDs to formula nodes.  Since version 3.0.0, formulas in CNF can
+ * alternatively be serialized with a flat clause encoding by {@link #serializeCnfFormulas(Collection)}.
+ * This encoding is never chosen automatically, since readers of previous versions cannot read it.
  * @version 3.0.0
  * @since 2.5.0
  */
@@ -160,22 +171,179 @@ public interface Formulas {
     }
 
     /**
-     * Serializes a list of formulas to a protocol buffer.
+     * Serializes a list of formulas to a protocol buffer.  The formulas are always serialized with the
+     * formula mapping, formulas in CNF can be serialized with the flat clause encoding by
+     * {@link #serializeCnfFormulas(Collection)}.
      * @param formulas the formulas
      * @return the protocol buffer
      */
     static PBFormulas serializeFormulas(final Collection<Formula> formulas) {
-        final Pair<Map<Formula, Integer>, Map<Integer, PBInternalFormula>> maps;
+        final FormulaIdMap formula2id = idMap(formulas.isEmpty() ? null : formulas.iterator().next().factory());
+        final PBFormulaMapping.Builder mapping = PBFormulaMapping.newBuilder();
+        mapFormulas(formulas, formula2id, mapping);
+        final PBFormulas.Builder builder = PBFormulas.newBuilder();
+        for (final Formula formula : formulas) {
+            builder.addId(formula2id.get(formula));
+        }
+        return builder.setMapping(mapping).build();
+    }
+
+    /**
+     * Serializes a list of formulas to a protocol buffer together with entries of transformation and
+     * predicate caches.  The caches are given by name, e.g. the caches of a caching formula factory for
+     * certain transformations and predicates.  All cache entries whose formula is a sub-node of the
+     * serialized formulas are stored with the formulas, the results of transformations are serialized as
+     * additional formulas.  The formulas are always serialized with the formula mapping.
+     * @param formulas             the formulas
+     * @param transformationCaches the transformation caches by name, mapping formulas to their transformation result
+     * @param predicateCaches      the predicate caches by name, mapping formulas to their predicate result
+     * @return the protocol buffer
+     */
+    static PBFormulas serializeFormulas(final Collection<Formula> formulas, final Map<String, Map<Formula, Formula>> transformationCaches,
+                                        final Map<String, Map<Formula, Boolean>> predicateCaches) {
         if (formulas.isEmpty()) {
-            maps = new Pair<>(Map.of(), Map.of());
+            return PBFormulas.getDefaultInstance();
+        }
+        final FormulaIdMap formula2id = idMap(formulas.iterator().next().factory());
+        final PBFormulaMapping.Builder mapping = PBFormulaMapping.newBuilder();
+        mapFormulas(formulas, formula2id, mapping);
+        final int nodes = formula2id.size();
+        final List<Formula> results = new ArrayList<>();
+        for (final Map<Formula, Formula> cache : transformationCaches.values()) {
+            cache.forEach((formula, result) -> {
+                if (isNode(formula2id, formula, nodes)) {
+                    results.add(result);
+                }
+            });
+        }
+        mapFormulas(results, formula2id, mapping);
+        final PBFormulas.Builder builder = PBFormulas.newBuilder();
+        for (final Formula formula : formulas) {
+            builder.addId(formula2id.get(formula));
+        }
+        builder.setMapping(mapping);
+        transformationCaches.forEach((name, cache) -> {
+            final PBTransformationCache.Builder entries = PBTransformationCache.newBuilder().setName(name);
+            cache.forEach((formula, result) -> {
+                if (isNode(formula2id, formula, nodes)) {
+                    entries.addFormula(formula2id.get(formula)).addResult(formula2id.get(result));
+                }
+            });
+            builder.addTransformationCache(entries);
+        });
+        predicateCaches.forEach((name, cache) -> {
+            final PBPredicateCache.Builder entries = PBPredicateCache.newBuilder().setName(name);
+            cache.forEach((formula, result) -> {
+                if (isNode(formula2id, formula, nodes)) {
+                    entries.addFormula(formula2id.get(formula)).addResult(result);
+                }
+            });
+            builder.addPredicateCache(entries);
+        });
+        return builder.build();
+    }
+
+    /**
+     * Serializes a list of formulas in CNF to a protocol buffer.  Instead of one node per clause and per
+     * literal, the formulas are encoded as a table of their variables and a flat list of their clauses.
+     * The result has no formula mapping, so it can only be read by {@link #deserializeFormulaList} of a
+     * version which knows the flat clause encoding.
+     * @param formulas the formulas
+     * @return the protocol buffer
+     * @throws IllegalArgumentException if one of the formulas is not in CNF
+     */
+    static PBFormulas serializeCnfFormulas(final Collection<Formula> formulas) {
+        return PBFormulas.newBuilder().setCnf(serializeCnf(formulas)).build();
+    }
+
+    /**
+     * Returns whether a formula is in CNF, i.e. it is a constant, a literal, a clause of literals, or a
+     * conjunction of literals and clauses.
+     * @param formula the formula
+     * @return {@code true} if the formula is in CNF, {@code false} otherwise
+     */
+    static boolean isCnf(final Formula formula) {
+        switch (formula.type()) {
+            case TRUE:
+            case FALSE:
+            case LITERAL:
+                return true;
+            case OR:
+                return isClause(formula);
+            case AND:
+                for (final Formula op : formula) {
+                    if (op.type() != FType.LITERAL && !(op.type() == FType.OR && isClause(op))) {
+                        return false;
+                    }
+                }
+                return true;
+            default:
+                return false;
+        }
+    }
+
+    private static boolean isClause(final Formula or) {
+        for (final Formula op : or) {
+            if (op.type() != FType.LITERAL) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Serializes a list of formulas in CNF to the flat clause encoding.
+     * @param formulas the formulas
+     * @return the protocol buffer
+     * @throws IllegalArgumentException if one of the formulas is not in CNF
+     */
+    static PBCnfFormulas serializeCnf(final Collection<Formula> formulas) {
+        final PBCnfFormulas.Builder builder = PBCnfFormulas.newBuilder();
+        final Map<String, Integer> var2index = new HashMap<>();
+        for (final Formula formula : formulas) {
+            if (!isCnf(formula)) {
+                throw new IllegalArgumentException("Formula is not in CNF: " + formula);
+            }
+            switch (formula.type()) {
+                case TRUE:
+                    builder.addClauses(0);
+                    break;
+                case FALSE:
+                    builder.addLiteral(0);
+                    builder.addClauses(1);
+                    break;
+                case LITERAL:
+                case OR:
+                    serializeClause(formula, var2index, builder);
+                    builder.addClauses(1);
+                    break;
+                default:
+                    for (final Formula clause : formula) {
+                        serializeClause(clause, var2index, builder);
+                    }
+                    builder.addClauses(formula.numberOfOperands());
+            }
+        }
+        return builder.build();
+    }
+
+    private static void serializeClause(final Formula clause, final Map<String, Integer> var2index, final PBCnfFormulas.Builder builder) {
+        if (clause.type() == FType.LITERAL) {
+            serializeLiteral((Literal) clause, var2index, builder);
         } else {
-            maps = computeMappings(formulas.iterator().next().factory(), formulas);
+            for (final Formula lit : clause) {
+                serializeLiteral((Literal) lit, var2index, builder);
+            }
         }
-        final List<Integer> ids = formulas.stream().map(maps.first()::get).collect(Collectors.toList());
-        return PBFormulas.newBuilder()
-                .addAllId(ids)
-                .setMapping(PBFormulaMapping.newBuilder().putAllMapping(maps.second()).build())
-                .build();
+        builder.addLiteral(0);
+    }
+
+    private static void serializeLiteral(final Literal lit, final Map<String, Integer> var2index, final PBCnfFormulas.Builder builder) {
+        final int index = var2index.computeIfAbsent(lit.name(), name -> {
+            builder.addVariable(name);
+            return builder.getVariableCount();
+        });
+        builder.addLiteral(lit.phase() ? index : -index);
     }
 
     /**
@@ -188,20 +356,80 @@ public interface Formulas {
             final FormulaFactory f,
             final Collection<Formula> formulas
     ) {
+        final FormulaIdMap ids = idMap(f);
+        final PBFormulaMapping.Builder mapping = PBFormulaMapping.newBuilder();
+        mapFormulas(formulas, ids, mapping);
         final Map<Formula, Integer> formula2id = new LinkedHashMap<>();
-        final Map<Integer, PBInternalFormula> id2formula = new LinkedHashMap<>();
-        int id = 0;
-        final SubNodeFunction subNodeFunction = new SubNodeFunction(f);
+        final Formula[] nodes = ids.formulasById();
+        for (int id = 0; id < nodes.length; id++) {
+            formula2id.put(nodes[id], id);
+        }
+        return new Pair<>(formula2id, new LinkedHashMap<>(mapping.getMappingMap()));
+    }
+
+    /**
+     * Creates a new formula to ID map for the formulas of the given factory.  The formulas of a caching
+     * formula factory are compared by identity.
+     * @param f the formula factory or {@code null} if there are no formulas
+     * @return the formula to ID map
+     */
+    private static FormulaIdMap idMap(final FormulaFactory f) {
+        return new FormulaIdMap(f instanceof CachingFormulaFactory, 0);
+    }
+
+    /**
+     * Assigns consecutive IDs to all sub-nodes of the given formulas which have no ID yet and adds their
+     * serialization to the mapping.  The sub-nodes are traversed in post-order with an explicit stack, so
+     * the operands of a node always have smaller IDs than the node itself and deep formulas cannot
+     * overflow the call stack.
+     * @param formulas   the formulas
+     * @param formula2id the formula to ID map, is extended by this method
+     * @param mapping    the mapping from ID to serialized formula, is extended by this method
+     */
+    private static void mapFormulas(final Collection<Formula> formulas, final FormulaIdMap formula2id,
+                                    final PBFormulaMapping.Builder mapping) {
+        final ArrayDeque<Formula> nodes = new ArrayDeque<>();
+        final ArrayDeque<Iterator<Formula>> operands = new ArrayDeque<>();
         for (final Formula formula : formulas) {
-            for (final Formula subnode : formula.apply(subNodeFunction)) {
-                if (!formula2id.containsKey(subnode)) {
-                    formula2id.put(subnode, id);
-                    id2formula.put(id, serialize(subnode, formula2id));
-                    id++;
+            if (formula2id.containsKey(formula)) {
+                continue;
+            }
+            nodes.push(formula);
+            operands.push(operands(formula));
+            while (!nodes.isEmpty()) {
+                final Iterator<Formula> it = operands.peek();
+                if (it.hasNext()) {
+                    final Formula op = it.next();
+                    if (!formula2id.containsKey(op)) {
+                        nodes.push(op);
+                        operands.push(operands(op));
+                    }
+                } else {
+                    final Formula node = nodes.pop();
+                    operands.pop();
+                    final int id = formula2id.size();
+                    formula2id.put(node, id);
+                    mapping.putMapping(id, serialize(node, formula2id::get));
                 }
             }
         }
-        return new Pair<>(formula2id, id2formula);
+    }
+
+    private static Iterator<Formula> operands(final Formula formula) {
+        switch (formula.type()) {
+            case FALSE:
+            case TRUE:
+            case LITERAL:
+            case PBC:
+                return Collections.emptyIterator();
+            default:
+                return formula.iterator();
+        }
+    }
+
+    private static boolean isNode(final FormulaIdMap formula2id, final Formula formula, final int nodes) {
+        final int id = formula2id.get(formula);
+        return id != FormulaIdMap.ABSENT && id < nodes;
     }
 
     /**
@@ -211,6 +439,16 @@ public interface Formulas {
      * @return the protocol buffer.
      */
     static PBInternalFormula serialize(final Formula formula, final Map<Formula, Integer> formula2id) {
+        return serialize(formula, (ToIntFunction<Formula>) formula2id::get);
+    }
+
+    /**
+     * Serializes a formula to a protocol buffer with a given formula to ID function.
+     * @param formula    the formula
+     * @param formula2id a function from formula to ID (must be defined for all sub-nodes of the formula)
+     * @return the protocol buffer.
+     */
+    static PBInternalFormula serialize(final Formula formula, final ToIntFunction<Formula> formula2id) {
         final PBInternalFormula.Builder builder = PBInternalFormula.newBuilder();
         switch (formula.type()) {
             case FALSE:
@@ -227,32 +465,32 @@ public interface Formulas {
             case NOT:
                 builder.setType(PBFormulaType.NOT);
                 final Not not = (Not) formula;
-                builder.addOperand(formula2id.get(not.operand()));
+                builder.addOperand(formula2id.applyAsInt(not.operand()));
                 break;
             case EQUIV:
                 builder.setType(PBFormulaType.EQUIV);
                 final Equivalence eq = (Equivalence) formula;
-                builder.addOperand(formula2id.get(eq.left()));
-                builder.addOperand(formula2id.get(eq.right()));
+                builder.addOperand(formula2id.applyAsInt(eq.left()));
+                builder.addOperand(formula2id.applyAsInt(eq.right()));
                 break;
             case IMPL:
                 builder.setType(PBFormulaType.IMPL);
                 final Implication impl = (Implication) formula;
-                builder.addOperand(formula2id.get(impl.left()));
-                builder.addOperand(formula2id.get(impl.right()));
+                builder.addOperand(formula2id.applyAsInt(impl.left()));
+                builder.addOperand(formula2id.applyAsInt(impl.right()));
                 break;
             case OR:
                 builder.setType(PBFormulaType.OR);
                 final Or or = (Or) formula;
                 for (final Formula op : or) {
-                    builder.addOperand(formula2id.get(op));
+                    builder.addOperand(formula2id.applyAsInt(op));
                 }
                 break;
             case AND:
                 builder.setType(PBFormulaType.AND);
                 final And and = (And) formula;
                 for (final Formula op : and) {
-                    builder.addOperand(formula2id.get(op));
+                    builder.addOperand(formula2id.applyAsInt(op));
                 }
                 break;
             case PBC:
@@ -286,10 +524,78 @@ public interface Formulas {
      * @return the list of formulas
      */
     static List<Formula> deserializeFormulaList(final FormulaFactory f, final PBFormulas bin) {
+        return deserializeFormulaList(f, bin, Map.of(), Map.of());
+    }
+
+    /**
+     * Deserializes a list of formulas from a protocol buffer and restores the stored entries of
+     * transformation and predicate caches.  The entries of each stored cache are put into the given cache
+     * with the same name, e.g. the according cache of the formula factory.  Stored caches without a given
+     * cache of the same name are ignored.
+     * @param f                    the formula factory to generate the formulas
+     * @param bin                  the protocol buffer
+     * @param transformationCaches the transformation caches by name
+     * @param predicateCaches      the predicate caches by name
+     * @return the list of formulas
+     */
+    static List<Formula> deserializeFormulaList(final FormulaFactory f, final PBFormulas bin,
+                                                final Map<String, Map<Formula, Formula>> transformationCaches,
+                                                final Map<String, Map<Formula, Boolean>> predicateCaches) {
+        if (bin.hasCnf()) {
+            return deserializeCnf(f, bin.getCnf());
+        }
         final Map<Integer, Formula> id2formula = deserializeFormula(f, bin.getMapping());
+        for (final PBTransformationCache cache : bin.getTransformationCacheList()) {
+            final Map<Formula, Formula> target = transformationCaches.get(cache.getName());
+            if (target != null) {
+                for (int i = 0; i < cache.getFormulaCount(); i++) {
+                    target.put(id2formula.get(cache.getFormula(i)), id2formula.get(cache.getResult(i)));
+                }
+            }
+        }
+        for (final PBPredicateCache cache : bin.getPredicateCacheList()) {
+            final Map<Formula, Boolean> target = predicateCaches.get(cache.getName());
+            if (target != null) {
+                for (int i = 0; i < cache.getFormulaCount(); i++) {
+                    target.put(id2formula.get(cache.getFormula(i)), cache.getResult(i));
+                }
+            }
+        }
         return bin.getIdList().stream().map(id2formula::get).collect(Collectors.toList());
     }
 
+    /**
+     * Deserializes a list of formulas in CNF from the flat clause encoding.  Each formula is restored as
+     * conjunction of its clauses, a single clause as disjunction of its literals.
+     * @param f   the formula factory to generate the formulas
+     * @param bin the protocol buffer
+     * @return the list of formulas
+     */
+    static List<Formula> deserializeCnf(final FormulaFactory f, final PBCnfFormulas bin) {
+        final Literal[] positive = new Literal[bin.getVariableCount() + 1];
+        final Literal[] negative = new Literal[bin.getVariableCount() + 1];
+        for (int i = 0; i < bin.getVariableCount(); i++) {
+            positive[i + 1] = f.literal(bin.getVariable(i), true);
+            negative[i + 1] = f.literal(bin.getVariable(i), false);
+        }
+        final List<Formula> formulas = new ArrayList<>(bin.getClausesCount());
+        final List<Literal> clause = new ArrayList<>();
+        int pos = 0;
+        for (final int numClauses : bin.getClausesList()) {
+            final List<Formula> clauses = new ArrayList<>(numClauses);
+            for (int i = 0; i < numClauses; i++) {
+                clause.clear();
+                int lit;
+                while ((lit = bin.getLiteral(pos++)) != 0) {
+                    clause.add(lit > 0 ? positive[lit] : negative[-lit]);
+                }
+                clauses.add(f.or(clause));
+            }
+            formulas.add(f.and(clauses));
+        }
+        return formulas;
+    }
+
     /**
      * Deserializes a mapping from integer to formulas from a protocol buffer.
      * @param f   the formula factory to generate the formulas
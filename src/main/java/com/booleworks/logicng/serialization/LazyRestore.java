@@ -0,0 +1,104 @@
+// SPDX-License-Identifier: Apache-2.0 and MIT
+// Copyright 2023-20xx BooleWorks GmbH
+
+package com.booleworks.logicng.serialization;
+
+import com.booleworks.logicng.serialization.solvers.ProtoBufSatSolver.PBSatSolver;
+import com.booleworks.logicng.serialization.solvers.datastructures.ProtoBufSolverDatastructures.PBClause;
+import com.booleworks.logicng.solvers.SATSolver;
+import com.booleworks.logicng.solvers.datastructures.LNGClause;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+
+/**
+ * A SAT solver restored without its learnt clauses.  The solver can be used right away, the learnt
+ * clauses are decoded in the background and attached to the solver by {@link #attachLearnts()}.
+ * Since learnt clauses are implied by the original clauses, the solver is correct with and without
+ * them, they only improve its performance.
+ * <p>
+ * The learnt clauses are never attached automatically, since the solver offers no hook between two SAT
+ * calls.  The caller decides when to attach them, e.g. by calling {@link #attachLearntsIfReady()} before
+ * each SAT call.  The solver may be used and modified before the learnt clauses are attached, they are
+ * attached with respect to the assignment at the time of the attachment.
+ * @version 3.0.0
+ * @since 3.0.0
+ */
+public class LazyRestore {
+    private final SATSolver solver;
+    private CompletableFuture<List<LNGClause>> learnts;
+
+    LazyRestore(final SATSolver solver, final CompletableFuture<List<LNGClause>> learnts) {
+        this.solver = solver;
+        this.learnts = learnts;
+    }
+
+    /**
+     * Returns the restored solver.
+     * @return the restored solver
+     */
+    public SATSolver solver() {
+        return solver;
+    }
+
+    /**
+     * Returns whether the learnt clauses are decoded and can be attached without waiting.
+     * @return {@code true} if the learnt clauses are decoded or already attached, {@code false} otherwise
+     */
+    public boolean learntsReady() {
+        return learnts == null || learnts.isDone();
+    }
+
+    /**
+     * Attaches the learnt clauses to the solver, waiting for their decoding if necessary.  The solver is
+     * backtracked to decision level 0 and each learnt clause is attached with respect to the current
+     * assignment: satisfied clauses are dropped, unit clauses are propagated, and the other clauses are
+     * watched on two unassigned literals.  Calling this method more than once has no effect.
+     * @throws IllegalArgumentException if the solver is within a SAT call
+     */
+    public void attachLearnts() {
+        if (learnts == null) {
+            return;
+        }
+        final LearntAttacher attacher = new LearntAttacher(solver.underlyingSolver());
+        final List<LNGClause> decoded;
+        try {
+            decoded = learnts.join();
+        } catch (final CompletionException e) {
+            if (e.getCause() instanceof RuntimeException) {
+                throw (RuntimeException) e.getCause();
+            }
+            throw e;
+        }
+        for (final LNGClause learnt : decoded) {
+            attacher.attach(learnt);
+        }
+        learnts = null;
+    }
+
+    /**
+     * Attaches the learnt clauses to the solver if they are already decoded, like {@link #attachLearnts()}.
+     * @return {@code true} if the learnt clauses are attached, {@code false} if they are still decoded
+     * @throws IllegalArgumentException if the solver is within a SAT call
+     */
+    public boolean attachLearntsIfReady() {
+        if (!learntsReady()) {
+            return false;
+        }
+        attachLearnts();
+        return true;
+    }
+
+    static List<LNGClause> decodeLearnts(final PBSatSolver bin, final Set<Integer> ids) {
+        final List<LNGClause> clauses = new ArrayList<>(ids.size());
+        for (final PBClause binClause : bin.getLearnts().getElementList()) {
+            if (ids.contains(binClause.getId())) {
+                clauses.add(SolverDatastructures.deserializeClause(binClause));
+            }
+        }
+        return clauses;
+    }
+}
@@ -0,0 +1,103 @@
+// SPDX-License-Identifier: Apache-2.0 and MIT
+// Copyright 2023-20xx BooleWorks GmbH
+
+package com.booleworks.logicng.serialization;
+
+import static com.booleworks.logicng.serialization.ReflectionHelper.callMethod;
+import static com.booleworks.logicng.serialization.ReflectionHelper.getField;
+import static com.booleworks.logicng.serialization.ReflectionHelper.setField;
+
+import com.booleworks.logicng.collections.LNGIntVector;
+import com.booleworks.logicng.collections.LNGVector;
+import com.booleworks.logicng.datastructures.Tristate;
+import com.booleworks.logicng.solvers.datastructures.LNGClause;
+import com.booleworks.logicng.solvers.datastructures.LNGVariable;
+import com.booleworks.logicng.solvers.datastructures.LNGWatcher;
+import com.booleworks.logicng.solvers.sat.LNGCoreSolver;
+
+/**
+ * Attaches learnt clauses to a solver outside of a SAT call.
+ * <p>
+ * The solver is backtracked to decision level 0 and each clause is attached with respect to the current
+ * level 0 assignment, so the two-watched-literal invariant holds even if the assignment has grown since the
+ * clause was learnt.  A clause with a true literal is satisfied for good and dropped.  A clause with at
+ * least two non-false literals is attached with two of them as watches.  A unit clause is added as unit
+ * clause and propagated, and a clause with only false literals makes the solver unsatisfiable.  All clauses
+ * must be implied by the original clauses of the solver.
+ * @version 3.0.0
+ * @since 3.0.0
+ */
+final class LearntAttacher {
+    private final LNGCoreSolver core;
+    private final LNGVector<LNGClause> learnts;
+    private final LNGVector<LNGVector<LNGWatcher>> watches;
+    private final LNGVector<LNGVector<LNGWatcher>> watchesBin;
+    private final LNGVector<LNGVariable> vars;
+
+    /**
+     * Constructs a new attacher and backtracks the solver to decision level 0.
+     * @param core the core solver
+     * @throws IllegalArgumentException if the solver is within a SAT call
+     */
+    LearntAttacher(final LNGCoreSolver core) {
+        if (getField(core, "inSatCall")) {
+            throw new IllegalArgumentException("Cannot attach learnt clauses to a solver within a SAT call");
+        }
+        if (!((LNGIntVector) getField(core, "trailLim")).empty()) {
+            callMethod(core, "cancelUntil", new Class<?>[]{int.class}, 0);
+        }
+        this.core = core;
+        learnts = getField(core, "learnts");
+        watches = getField(core, "watches");
+        watchesBin = getField(core, "watchesBin");
+        vars = getField(core, "vars");
+    }
+
+    /**
+     * Attaches a learnt clause to the solver.  The literals of the clause may be reordered.
+     * @param clause the learnt clause
+     * @return {@code true} if the clause was attached as learnt clause, {@code false} if it was dropped or
+     * added as unit clause
+     */
+    boolean attach(final LNGClause clause) {
+        if (!(boolean) getField(core, "ok")) {
+            return false;
+        }
+        final LNGIntVector data = clause.getData();
+        int nonFalse = 0;
+        for (int i = 0; i < data.size(); i++) {
+            final Tristate value = value(data.get(i));
+            if (value == Tristate.TRUE) {
+                return false;
+            }
+            if (value == Tristate.UNDEF) {
+                final int lit = data.get(i);
+                data.set(i, data.get(nonFalse));
+                data.set(nonFalse++, lit);
+            }
+        }
+        if (nonFalse < 2) {
+            final LNGIntVector unit = new LNGIntVector(1);
+            if (nonFalse == 1) {
+                unit.push(data.get(0));
+            }
+            core.addClause(unit, null);
+            return false;
+        }
+        final LNGVector<LNGVector<LNGWatcher>> target = data.size() == 2 ? watchesBin : watches;
+        target.get(LNGCoreSolver.not(data.get(0))).push(new LNGWatcher(clause, data.get(1)));
+        target.get(LNGCoreSolver.not(data.get(1))).push(new LNGWatcher(clause, data.get(0)));
+        learnts.push(clause);
+        final int learntsLiterals = getField(core, "learntsLiterals");
+        setField(core, "learntsLiterals", learntsLiterals + data.size());
+        return true;
+    }
+
+    private Tristate value(final int lit) {
+        final Tristate assignment = vars.get(LNGCoreSolver.var(lit)).assignment();
+        if (assignment == Tristate.UNDEF) {
+            return Tristate.UNDEF;
+        }
+        return (assignment == Tristate.TRUE) != LNGCoreSolver.sign(lit) ? Tristate.TRUE : Tristate.FALSE;
+    }
+}
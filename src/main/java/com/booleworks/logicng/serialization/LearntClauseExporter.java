@@ -0,0 +1,111 @@
+// SPDX-License-Identifier: Apache-2.0 and MIT
+// Copyright 2023-20xx BooleWorks GmbH
+
+package com.booleworks.logicng.serialization;
+
+import static com.booleworks.logicng.serialization.ReflectionHelper.getField;
+
+import com.booleworks.logicng.collections.LNGVector;
+import com.booleworks.logicng.serialization.solvers.ProtoBufLearntClauses.PBLearntClauses;
+import com.booleworks.logicng.solvers.SATSolver;
+import com.booleworks.logicng.solvers.datastructures.LNGClause;
+import com.booleworks.logicng.solvers.sat.LNGCoreSolver;
+
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * An exporter for the learnt clauses of a SAT solver.
+ * <p>
+ * Each call of {@link #export()} collects the learnt clauses which were not exported before and which
+ * are short or have a low LBD.  The clauses are exported with the names of their variables, so they can
+ * be imported by {@link SolverSerializer#importLearntClauses} into any solver with the same variables,
+ * even if the variables have different indices there.  Batches can be sent between processes as
+ * length-delimited frames with {@link PBLearntClauses#writeDelimitedTo} and
+ * {@link PBLearntClauses#parseDelimitedFrom}.
+ * <p>
+ * Clauses with auxiliary variables, e.g. of CNF transformations or cardinality constraint encodings, are
+ * not exported, since the names of these variables are not stable across solvers.
+ * <p>
+ * The exporter must be used on the thread of the solver and not within a SAT call of the solver.
+ * @version 3.0.0
+ * @since 3.0.0
+ */
+public class LearntClauseExporter {
+    private static final String AUXILIARY_PREFIX = "@RESERVED";
+
+    private final SATSolver solver;
+    private final int maxSize;
+    private final long maxLbd;
+    private Set<LNGClause> exported = newIdentitySet();
+
+    /**
+     * Constructs a new exporter.  A learnt clause is exported if its size is at most {@code maxSize}
+     * or its LBD is at most {@code maxLbd}.
+     * @param solver  the solver
+     * @param maxSize the maximum size of exported clauses
+     * @param maxLbd  the maximum LBD of exported clauses
+     */
+    public LearntClauseExporter(final SATSolver solver, final int maxSize, final long maxLbd) {
+        this.solver = solver;
+        this.maxSize = maxSize;
+        this.maxLbd = maxLbd;
+    }
+
+    /**
+     * Exports the new learnt clauses of the solver.
+     * @return the new learnt clauses
+     */
+    public PBLearntClauses export() {
+        final LNGCoreSolver core = solver.underlyingSolver();
+        final LNGVector<LNGClause> learnts = getField(core, "learnts");
+        final Map<Integer, String> idx2name = getField(core, "idx2name");
+        final Map<Integer, Integer> variables = new HashMap<>();
+        final Set<LNGClause> stillExported = newIdentitySet();
+        final PBLearntClauses.Builder builder = PBLearntClauses.newBuilder();
+        for (final LNGClause clause : learnts) {
+            if (exported.contains(clause)) {
+                stillExported.add(clause);
+            } else if (!clause.isAtMost() && (clause.size() <= maxSize || clause.lbd() <= maxLbd) && hasNames(clause, idx2name)) {
+                for (int i = 0; i < clause.size(); i++) {
+                    final int lit = clause.get(i);
+                    final int index = variables.computeIfAbsent(LNGCoreSolver.var(lit), v -> {
+                        builder.addVariable(idx2name.get(v));
+                        return builder.getVariableCount();
+                    });
+                    builder.addLiterals(LNGCoreSolver.sign(lit) ? -index : index);
+                }
+                builder.addLiterals(0);
+                builder.addLbd(clause.lbd());
+                stillExported.add(clause);
+            }
+        }
+        exported = stillExported;
+        return builder.build();
+    }
+
+    private static Set<LNGClause> newIdentitySet() {
+        return java.util.Collections.newSetFromMap(new IdentityHashMap<>());
+    }
+
+    /**
+     * Returns whether a variable name is the name of an auxiliary variable of the formula factory.
+     * @param name the variable name
+     * @return {@code true} if the variable is an auxiliary variable, otherwise {@code false}
+     */
+    static boolean isAuxiliary(final String name) {
+        return name.startsWith(AUXILIARY_PREFIX);
+    }
+
+    private static boolean hasNames(final LNGClause clause, final Map<Integer, String> idx2name) {
+        for (int i = 0; i < clause.size(); i++) {
+            final String name = idx2name.get(LNGCoreSolver.var(clause.get(i)));
+            if (name == null || isAuxiliary(name)) {
+                return false;
+            }
+        }
+        return true;
+    }
+}
@@ -0,0 +1,176 @@
+// SPDX-License-Identifier: Apache-2.0 and MIT
+// Copyright 2023-20xx BooleWorks GmbH
+
+package com.booleworks.logicng.serialization;
+
+import static com.booleworks.logicng.serialization.Collections.deserializeIntVec;
+import static com.booleworks.logicng.serialization.Collections.serializeIntVec;
+import static com.booleworks.logicng.serialization.ReflectionHelper.getField;
+import static com.booleworks.logicng.serialization.ReflectionHelper.setField;
+
+import com.booleworks.logicng.collections.LNGIntVector;
+import com.booleworks.logicng.collections.LNGVector;
+import com.booleworks.logicng.serialization.collections.ProtoBufCollections.PBIntVector;
+import com.booleworks.logicng.serialization.solvers.datastructures.ProtoBufSolverDatastructures.PBProofLogReference;
+import com.booleworks.logicng.solvers.SATSolver;
+import com.booleworks.logicng.solvers.sat.LNGCoreSolver;
+import com.google.protobuf.CodedOutputStream;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+
+/**
+ * An on-disk log for the proof of a SAT solver with proof generation.
+ * <p>
+ * A solver with proof generation records every proof step in memory.  {@link #drain(SATSolver)} appends
+ * the recorded steps to the log file as length-delimited {@link PBIntVector vectors} and removes them from
+ * the solver, so the memory of the solver does not grow with the length of the proof.  A snapshot of the
+ * solver written by {@link SolverSerializer#serializeSolver(SATSolver, ProofLog)} does not contain the proof
+ * steps but a {@link PBProofLogReference reference} to the log up to the current offset.
+ * <p>
+ * The steps in the log are required to compute an unsat core or a DRUP proof of the solver.  Before such a
+ * computation they have to be loaded back into the solver with {@link #load(SATSolver, PBProofLogReference)}.
+ * The log must only be used on the thread of the solver and not within a SAT call of the solver.
+ * <p>
+ * A solver with saved states cannot be drained or loaded.  On {@link SATSolver#loadState loading a state}
+ * the solver shrinks its proof steps to their number when the state was saved, which does not match
+ * the steps anymore if they were drained or loaded in between.
+ * @version 3.0.0
+ * @since 3.0.0
+ */
+public class ProofLog implements Closeable {
+    private final Path path;
+    private final OutputStream output;
+    private long offset;
+    private long steps;
+
+    private ProofLog(final Path path, final long offset, final long steps) throws IOException {
+        this.path = path;
+        this.offset = offset;
+        this.steps = steps;
+        output = new BufferedOutputStream(Files.newOutputStream(path, StandardOpenOption.CREATE, StandardOpenOption.WRITE,
+                StandardOpenOption.APPEND));
+    }
+
+    /**
+     * Creates a new empty proof log.  An existing file is truncated.
+     * @param path the path of the log file
+     * @return the proof log
+     * @throws IOException if there is a problem creating the file
+     */
+    public static ProofLog create(final Path path) throws IOException {
+        Files.newOutputStream(path).close();
+        return new ProofLog(path, 0, 0);
+    }
+
+    /**
+     * Continues a proof log at the given reference, usually the reference of a restored snapshot.  All
+     * steps which were written to the log after the reference are discarded.
+     * @param reference the reference
+     * @return the proof log
+     * @throws IOException if there is a problem opening the file
+     */
+    public static ProofLog resume(final PBProofLogReference reference) throws IOException {
+        final Path path = Paths.get(reference.getPath());
+        try (final FileChannel channel = FileChannel.open(path, StandardOpenOption.WRITE)) {
+            if (channel.size() < reference.getOffset()) {
+                throw new IllegalArgumentException("Proof log " + path + " is shorter than the referenced offset " + reference.getOffset());
+            }
+            channel.truncate(reference.getOffset());
+        }
+        return new ProofLog(path, reference.getOffset(), reference.getSteps());
+    }
+
+    /**
+     * Appends the proof steps recorded by the solver to the log and removes them from the solver.
+     * @param solver the solver
+     * @return the number of appended steps
+     * @throws IOException              if there is a problem writing the log
+     * @throws IllegalArgumentException if the solver does not generate proofs or has saved states
+     */
+    public int drain(final SATSolver solver) throws IOException {
+        final LNGCoreSolver core = solver.underlyingSolver();
+        final LNGVector<LNGIntVector> pgProof = proofSteps(core);
+        for (final LNGIntVector step : pgProof) {
+            final PBIntVector bin = serializeIntVec(step);
+            bin.writeDelimitedTo(output);
+            offset += CodedOutputStream.computeUInt32SizeNoTag(bin.getSerializedSize()) + bin.getSerializedSize();
+        }
+        output.flush();
+        steps += pgProof.size();
+        setField(core, "pgProof", new LNGVector<LNGIntVector>());
+        return pgProof.size();
+    }
+
+    /**
+     * Returns a reference to the current end of the log.
+     * @return the reference
+     */
+    public PBProofLogReference reference() {
+        return PBProofLogReference.newBuilder().setPath(path.toAbsolutePath().toString()).setOffset(offset).setSteps(steps).build();
+    }
+
+    /**
+     * Reads the proof steps of a log up to the given reference.
+     * @param reference the reference
+     * @return the proof steps
+     * @throws IOException if there is a problem reading the log
+     */
+    public static LNGVector<LNGIntVector> read(final PBProofLogReference reference) throws IOException {
+        final LNGVector<LNGIntVector> result = new LNGVector<>();
+        try (final InputStream input = new BufferedInputStream(Files.newInputStream(Paths.get(reference.getPath())))) {
+            for (long i = 0; i < reference.getSteps(); i++) {
+                final PBIntVector step = PBIntVector.parseDelimitedFrom(input);
+                if (step == null) {
+                    throw new IllegalArgumentException("Proof log " + reference.getPath() + " has less than " + reference.getSteps() + " steps");
+                }
+                result.push(deserializeIntVec(step));
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Loads the proof steps of a log up to the given reference back into the solver.  The steps are
+     * inserted before the steps the solver recorded since the reference was taken.  A solver with loaded
+     * steps must not be drained into the same log again.
+     * @param solver    the solver
+     * @param reference the reference
+     * @throws IOException              if there is a problem reading the log
+     * @throws IllegalArgumentException if the solver does not generate proofs or has saved states
+     */
+    public static void load(final SATSolver solver, final PBProofLogReference reference) throws IOException {
+        final LNGCoreSolver core = solver.underlyingSolver();
+        final LNGVector<LNGIntVector> pgProof = proofSteps(core);
+        final LNGVector<LNGIntVector> steps = read(reference);
+        for (final LNGIntVector step : pgProof) {
+            steps.push(step);
+        }
+        setField(core, "pgProof", steps);
+    }
+
+    private static LNGVector<LNGIntVector> proofSteps(final LNGCoreSolver core) {
+        final LNGVector<LNGIntVector> pgProof = getField(core, "pgProof");
+        if (pgProof == null) {
+            throw new IllegalArgumentException("Solver does not generate proofs");
+        }
+        if (!((LNGIntVector) getField(core, "validStates")).empty()) {
+            throw new IllegalArgumentException("Cannot drain or load the proof of a solver with saved states");
+        }
+        return pgProof;
+    }
+
+    @Override
+    public void close() throws IOException {
+        output.close();
+    }
+}
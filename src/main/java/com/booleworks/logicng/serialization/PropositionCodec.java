@@ -0,0 +1,44 @@
+// SPDX-License-Identifier: Apache-2.0 and MIT
+// Copyright 2023-20xx BooleWorks GmbH
+
+package com.booleworks.logicng.serialization;
+
+import com.booleworks.logicng.formulas.FormulaFactory;
+import com.booleworks.logicng.propositions.Proposition;
+import com.google.protobuf.CodedInputStream;
+import com.google.protobuf.CodedOutputStream;
+
+import java.io.IOException;
+import java.util.List;
+
+/**
+ * A codec for a batch of propositions of one type.
+ * <p>
+ * All propositions of one type in a snapshot are encoded in a single batch, so a codec can share
+ * information between them, e.g. the formula mapping of their formulas.  The codec writes to and reads
+ * from the coded streams of the snapshot directly, no intermediate byte arrays per proposition are
+ * required.  Codecs are registered in {@link PropositionCodecs} for their proposition class.
+ * @param <P> the type of the propositions
+ * @version 3.0.0
+ * @since 3.0.0
+ */
+public interface PropositionCodec<P extends Proposition> {
+
+    /**
+     * Encodes a batch of propositions.
+     * @param propositions the propositions
+     * @param output       the output stream
+     * @throws IOException if there is a problem writing to the stream
+     */
+    void encode(List<P> propositions, CodedOutputStream output) throws IOException;
+
+    /**
+     * Decodes a batch of propositions which was written by {@link #encode}.  The input stream ends
+     * after the batch.
+     * @param f     the formula factory to generate the propositions' formulas
+     * @param input the input stream
+     * @return the propositions in the order they were encoded
+     * @throws IOException if there is a problem reading from the stream
+     */
+    List<P> decode(FormulaFactory f, CodedInputStream input) throws IOException;
+}
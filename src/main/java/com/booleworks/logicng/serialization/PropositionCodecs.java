@@ -0,0 +1,64 @@
+// SPDX-License-Identifier: Apache-2.0 and MIT
+// Copyright 2023-20xx BooleWorks GmbH
+
+package com.booleworks.logicng.serialization;
+
+import com.booleworks.logicng.propositions.Proposition;
+import com.booleworks.logicng.propositions.StandardProposition;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * A registry of {@link PropositionCodec proposition codecs} keyed by proposition class.
+ * <p>
+ * A proposition is encoded with the codec registered for its exact class.  Encoded batches store the
+ * name of this class, so the reading side has to register a codec for the same class.
+ * @version 3.0.0
+ * @since 3.0.0
+ */
+public final class PropositionCodecs {
+    private final Map<String, PropositionCodec<?>> codecs = new HashMap<>();
+
+    /**
+     * Constructs a new empty registry.
+     */
+    public PropositionCodecs() {
+        // empty registry
+    }
+
+    /**
+     * Returns a new registry with the codec for standard propositions.
+     * @return the registry
+     */
+    public static PropositionCodecs standard() {
+        return new PropositionCodecs().register(StandardProposition.class, new StandardPropositionCodec());
+    }
+
+    /**
+     * Registers a codec for a proposition class, replacing a previously registered codec for this class.
+     * @param type  the proposition class
+     * @param codec the codec
+     * @param <P>   the type of the propositions
+     * @return this registry
+     */
+    public <P extends Proposition> PropositionCodecs register(final Class<P> type, final PropositionCodec<P> codec) {
+        codecs.put(type.getName(), codec);
+        return this;
+    }
+
+    /**
+     * Returns the codec for the proposition class with the given name.
+     * @param type the name of the proposition class
+     * @return the codec
+     * @throws IllegalArgumentException if there is no codec for the class
+     */
+    @SuppressWarnings("unchecked")
+    PropositionCodec<Proposition> codecFor(final String type) {
+        final PropositionCodec<?> codec = codecs.get(type);
+        if (codec == null) {
+            throw new IllegalArgumentException("No codec registered for propositions of type " + type);
+        }
+        return (PropositionCodec<Proposition>) codec;
+    }
+}
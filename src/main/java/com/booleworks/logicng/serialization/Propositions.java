@@ -3,10 +3,24 @@
 
 package com.booleworks.logicng.serialization;
 
+import com.booleworks.logicng.formulas.Formula;
 import com.booleworks.logicng.formulas.FormulaFactory;
 import com.booleworks.logicng.propositions.StandardProposition;
+import com.booleworks.logicng.serialization.propositions.ProtoBufPropositions.PBPropositionList;
 import com.booleworks.logicng.serialization.propositions.ProtoBufPropositions.PBStandardProposition;
 
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+
 /**
  * Serialization methods for LogicNG propositions.
  * There are only functions for serializing and deserializing standard propositions.
@@ -37,4 +51,87 @@ public interface Propositions {
     static StandardProposition deserializePropositions(final FormulaFactory f, final PBStandardProposition bin) {
         return new StandardProposition(bin.getDescription(), Formulas.deserializeFormula(f, bin.getFormula()));
     }
+
+    /**
+     * Serialize a list of standard propositions to a file.
+     * @param props    the propositions
+     * @param path     the file path
+     * @param compress a flag whether the file should be compressed (zip)
+     * @throws IOException if there is a problem writing the file
+     */
+    static void serializePropositionListToFile(final Collection<StandardProposition> props, final Path path, final boolean compress)
+            throws IOException {
+        try (final OutputStream outputStream = compress ? new GZIPOutputStream(Files.newOutputStream(path)) : Files.newOutputStream(path)) {
+            serializePropositionListToStream(props, outputStream);
+        }
+    }
+
+    /**
+     * Deserialize a list of standard propositions from a file.
+     * @param f        the formula factory to generate the propositions' formulas
+     * @param path     the file path
+     * @param compress a flag whether the file should be compressed (zip)
+     * @return the list of propositions
+     * @throws IOException if there is a problem reading the file
+     */
+    static List<StandardProposition> deserializePropositionListFromFile(final FormulaFactory f, final Path path, final boolean compress)
+            throws IOException {
+        try (final InputStream inputStream = compress ? new GZIPInputStream(Files.newInputStream(path)) : Files.newInputStream(path)) {
+            return deserializePropositionListFromStream(f, inputStream);
+        }
+    }
+
+    /**
+     * Serialize a list of standard propositions to a stream.
+     * @param props  the propositions
+     * @param stream the stream
+     * @throws IOException if there is a problem writing to the stream
+     */
+    static void serializePropositionListToStream(final Collection<StandardProposition> props, final OutputStream stream) throws IOException {
+        serializePropositionList(props).writeTo(stream);
+    }
+
+    /**
+     * Deserialize a list of standard propositions from a stream.
+     * @param f      the formula factory to generate the propositions' formulas
+     * @param stream the stream
+     * @return the list of propositions
+     * @throws IOException if there is a problem reading from the stream
+     */
+    static List<StandardProposition> deserializePropositionListFromStream(final FormulaFactory f, final InputStream stream) throws IOException {
+        return deserializePropositionList(f, PBPropositionList.newBuilder().mergeFrom(stream).build());
+    }
+
+    /**
+     * Serializes a list of standard propositions to a protocol buffer.  The formulas of all propositions
+     * share one formula mapping, so sub-formulas which occur in several propositions are only serialized once.
+     * @param props the propositions
+     * @return the protocol buffer
+     */
+    static PBPropositionList serializePropositionList(final Collection<StandardProposition> props) {
+        final List<Formula> formulas = props.stream().map(StandardProposition::formula).collect(Collectors.toList());
+        return PBPropositionList.newBuilder()
+                .setFormulas(Formulas.serializeFormulas(formulas))
+                .addAllDescription(props.stream().map(StandardProposition::description).collect(Collectors.toList()))
+                .build();
+    }
+
+    /**
+     * Deserializes a list of standard propositions from a protocol buffer.
+     * @param f   the formula factory to generate the propositions' formulas
+     * @param bin the protocol buffer
+     * @return the list of propositions
+     */
+    static List<StandardProposition> deserializePropositionList(final FormulaFactory f, final PBPropositionList bin) {
+        final List<Formula> formulas = Formulas.deserializeFormulaList(f, bin.getFormulas());
+        if (formulas.size() != bin.getDescriptionCount()) {
+            throw new IllegalArgumentException("Proposition list has " + formulas.size() + " formulas but "
+                    + bin.getDescriptionCount() + " descriptions");
+        }
+        final List<StandardProposition> props = new ArrayList<>(formulas.size());
+        for (int i = 0; i < formulas.size(); i++) {
+            props.add(new StandardProposition(bin.getDescription(i), formulas.get(i)));
+        }
+        return props;
+    }
 }
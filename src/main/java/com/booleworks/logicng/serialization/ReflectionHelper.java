@@ -4,6 +4,8 @@
 package com.booleworks.logicng.serialization;
 
 import java.lang.reflect.Field;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
 
 public class ReflectionHelper {
 
@@ -27,4 +29,19 @@ public class ReflectionHelper {
             throw new RuntimeException(e); // OK here, has to be a programming mistake
         }
     }
+
+    static void callMethod(final Object object, final String name, final Class<?>[] parameterTypes, final Object... args) {
+        try {
+            final Method m = object.getClass().getDeclaredMethod(name, parameterTypes);
+            m.setAccessible(true);
+            m.invoke(object, args);
+        } catch (final NoSuchMethodException | IllegalAccessException e) {
+            throw new RuntimeException(e); // OK here, has to be a programming mistake
+        } catch (final InvocationTargetException e) {
+            if (e.getCause() instanceof RuntimeException) {
+                throw (RuntimeException) e.getCause();
+            }
+            throw new RuntimeException(e.getCause());
+        }
+    }
 }
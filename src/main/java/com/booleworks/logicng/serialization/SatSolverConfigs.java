@@ -93,6 +93,31 @@ public interface SatSolverConfigs {
                 .build();
     }
 
+    /**
+     * Checks whether a solver serialized with the given configuration can be restored with the other
+     * configuration.  The configurations must agree on the settings which determine the structure of the
+     * solver's clause database: proof generation, at-most clauses, and the CNF method.  The initial variable
+     * activity increment must also agree, since the activities of the serialized solver are scaled relative to
+     * it.  All other settings only influence the search and may differ.
+     * @param serialized the configuration of the serialized solver
+     * @param override   the configuration for the restored solver
+     * @throws IllegalArgumentException if the configurations are not compatible
+     */
+    static void checkCompatibleConfig(final PBSatSolverConfig serialized, final SATSolverConfig override) {
+        if (serialized.getProofGeneration() != override.proofGeneration()) {
+            throw new IllegalArgumentException("Incompatible solver configuration: proof generation cannot be changed");
+        }
+        if (serialized.getUseAtMostClauses() != override.useAtMostClauses()) {
+            throw new IllegalArgumentException("Incompatible solver configuration: at-most clauses cannot be changed");
+        }
+        if (deserializeCnfMode(serialized.getCnfMethod()) != override.cnfMethod()) {
+            throw new IllegalArgumentException("Incompatible solver configuration: CNF method cannot be changed");
+        }
+        if (serialized.getVarInc() != override.lowLevelConfig().getVarInc()) {
+            throw new IllegalArgumentException("Incompatible solver configuration: variable activity increment cannot be changed");
+        }
+    }
+
     /**
      * Serializes the clause minimization algorithm to a protocol buffer.
      * @param minimization the algorithm
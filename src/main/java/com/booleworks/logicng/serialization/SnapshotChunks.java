@@ -0,0 +1,100 @@
+// SPDX-License-Identifier: Apache-2.0 and MIT
+// Copyright 2023-20xx BooleWorks GmbH
+
+package com.booleworks.logicng.serialization;
+
+import com.google.protobuf.ByteString;
+import com.google.protobuf.Descriptors.FieldDescriptor;
+import com.google.protobuf.Message;
+
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Splitting of protocol buffers into chunks for a {@link SnapshotStore}.
+ * @version 3.0.0
+ * @since 3.0.0
+ */
+final class SnapshotChunks {
+    static final int BLOCK_SIZE = 1024;
+
+    private SnapshotChunks() {
+        // only static methods
+    }
+
+    /**
+     * Splits a protocol buffer into chunks.  Each top-level field is encoded as its own chunk.  Repeated
+     * fields, on the top level or in a top-level message, are split into blocks of {@link #BLOCK_SIZE}
+     * elements, each block is encoded as a separate occurrence of the top-level field.  Since the encodings
+     * of several occurrences of a field are merged when parsed, the concatenation of the chunks is an
+     * encoding of the protocol buffer.
+     * @param message the protocol buffer
+     * @return the chunks
+     */
+    static List<ByteString> split(final Message message) {
+        final List<ByteString> chunks = new ArrayList<>();
+        for (final Map.Entry<FieldDescriptor, Object> entry : message.getAllFields().entrySet()) {
+            final FieldDescriptor field = entry.getKey();
+            if (field.isRepeated()) {
+                final Message single = message.newBuilderForType().setField(field, entry.getValue()).build();
+                for (final Message block : splitBlocks(single)) {
+                    chunks.add(block.toByteString());
+                }
+            } else if (field.getJavaType() == FieldDescriptor.JavaType.MESSAGE) {
+                for (final Message block : splitBlocks((Message) entry.getValue())) {
+                    chunks.add(message.newBuilderForType().setField(field, block).build().toByteString());
+                }
+            } else {
+                chunks.add(message.newBuilderForType().setField(field, entry.getValue()).build().toByteString());
+            }
+        }
+        return chunks;
+    }
+
+    private static List<Message> splitBlocks(final Message message) {
+        final List<Message.Builder> blocks = new ArrayList<>();
+        blocks.add(message.newBuilderForType());
+        for (final Map.Entry<FieldDescriptor, Object> entry : message.getAllFields().entrySet()) {
+            final FieldDescriptor field = entry.getKey();
+            if (field.isRepeated()) {
+                final List<?> elements = (List<?>) entry.getValue();
+                for (int i = 0; i < elements.size(); i++) {
+                    while (blocks.size() <= i / BLOCK_SIZE) {
+                        blocks.add(message.newBuilderForType());
+                    }
+                    blocks.get(i / BLOCK_SIZE).addRepeatedField(field, elements.get(i));
+                }
+            } else {
+                blocks.get(0).setField(field, entry.getValue());
+            }
+        }
+        final List<Message> result = new ArrayList<>(blocks.size());
+        for (final Message.Builder block : blocks) {
+            result.add(block.build());
+        }
+        return result;
+    }
+
+    /**
+     * Returns the SHA-256 hash of a chunk as hexadecimal string.
+     * @param chunk the chunk
+     * @return the hash
+     */
+    static String hash(final ByteString chunk) {
+        final MessageDigest digest;
+        try {
+            digest = MessageDigest.getInstance("SHA-256");
+        } catch (final NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e); // every Java platform supports SHA-256
+        }
+        digest.update(chunk.asReadOnlyByteBuffer());
+        final StringBuilder hex = new StringBuilder();
+        for (final byte b : digest.digest()) {
+            hex.append(String.format("%02x", b));
+        }
+        return hex.toString();
+    }
+}
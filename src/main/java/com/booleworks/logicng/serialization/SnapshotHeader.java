@@ -0,0 +1,318 @@
+// SPDX-License-Identifier: Apache-2.0 and MIT
+// Copyright 2023-20xx BooleWorks GmbH
+
+package com.booleworks.logicng.serialization;
+
+import static com.booleworks.logicng.serialization.ReflectionHelper.getField;
+
+import com.booleworks.logicng.collections.LNGVector;
+import com.booleworks.logicng.serialization.solvers.ProtoBufSatSolver.PBSatSolver;
+import com.booleworks.logicng.solvers.sat.LNGCoreSolver;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.zip.CRC32;
+import java.util.zip.Deflater;
+import java.util.zip.DeflaterOutputStream;
+
+/**
+ * The header of a solver snapshot file.
+ * <p>
+ * The header consists of the magic bytes {@code LNGS} and a format version, followed by the key figures of
+ * the solver.  It is stored such that the snapshot file stays a valid file of its format and can be read by
+ * {@link SolverSerializer#peek(java.nio.file.Path)} without decoding the snapshot:
+ * <ul>
+ *     <li>An uncompressed snapshot is a {@link PBSatSolver} whose first field is the
+ *     {@code snapshotHeader} field with the encoded header.  Readers which do not know the header treat it as
+ *     an unknown field.</li>
+ *     <li>A compressed snapshot is a valid GZIP file with the encoded header in a subfield {@code LS} of the
+ *     extra field of the GZIP header.  GZIP readers skip the extra field.</li>
+ * </ul>
+ * So the compression of a snapshot is recorded in its header and is read when the file is opened.  Snapshot
+ * files without a header can still be read.
+ * @version 3.0.0
+ * @since 3.0.0
+ */
+public final class SnapshotHeader {
+    private static final byte[] MAGIC = "LNGS".getBytes(StandardCharsets.US_ASCII);
+    private static final int VERSION = 1;
+    static final int SIZE = 46;
+
+    // tag of the length-delimited field 1000 as varint, followed by the length of the header
+    private static final byte[] FIELD_PREFIX = {(byte) 0xc2, 0x3e, SIZE};
+    // GZIP magic, deflate, FEXTRA flag, no time, no extra flags, unknown OS, extra field length, subfield LS
+    private static final byte[] GZIP_PREFIX = {0x1f, (byte) 0x8b, Deflater.DEFLATED, 0x04, 0, 0, 0, 0, 0, (byte) 0xff, 4 + SIZE, 0, 'L', 'S', SIZE, 0};
+    private static final int GZIP_EXTRA_OFFSET = 10;
+    private static final int MAX_PREFIX_SIZE = GZIP_PREFIX.length + SIZE;
+
+    private static final long BYTES_PER_VARIABLE = 160;
+    private static final long BYTES_PER_CLAUSE = 144;
+    private static final long BYTES_PER_LITERAL = 4;
+
+    private final int numVars;
+    private final int numClauses;
+    private final int numLearnts;
+    private final long clausesLiterals;
+    private final long learntsLiterals;
+    private final boolean proofGeneration;
+    private final boolean compressed;
+    private final long estimatedHeapBytes;
+
+    private SnapshotHeader(final int numVars, final int numClauses, final int numLearnts, final long clausesLiterals,
+                           final long learntsLiterals, final boolean proofGeneration, final boolean compressed,
+                           final long estimatedHeapBytes) {
+        this.numVars = numVars;
+        this.numClauses = numClauses;
+        this.numLearnts = numLearnts;
+        this.clausesLiterals = clausesLiterals;
+        this.learntsLiterals = learntsLiterals;
+        this.proofGeneration = proofGeneration;
+        this.compressed = compressed;
+        this.estimatedHeapBytes = estimatedHeapBytes;
+    }
+
+    /**
+     * Computes the header of a solver.
+     * @param core       the core solver
+     * @param compressed whether the snapshot is compressed
+     * @return the header
+     */
+    static SnapshotHeader of(final LNGCoreSolver core, final boolean compressed) {
+        return of(core.nVars(), ((LNGVector<?>) getField(core, "clauses")).size(), ((LNGVector<?>) getField(core, "learnts")).size(),
+                (int) getField(core, "clausesLiterals"), (int) getField(core, "learntsLiterals"), core.config().proofGeneration(), compressed);
+    }
+
+    /**
+     * Computes the header of a serialized solver.
+     * @param bin        the serialized solver
+     * @param compressed whether the snapshot is compressed
+     * @return the header
+     */
+    static SnapshotHeader of(final PBSatSolver bin, final boolean compressed) {
+        return of(bin.getVars().getElementCount(), bin.getClauses().getElementCount(), bin.getLearnts().getElementCount(),
+                bin.getClausesLiterals(), bin.getLearntsLiterals(), bin.getConfig().getProofGeneration(), compressed);
+    }
+
+    private static SnapshotHeader of(final int numVars, final int numClauses, final int numLearnts, final long clausesLiterals,
+                                     final long learntsLiterals, final boolean proofGeneration, final boolean compressed) {
+        final long estimatedHeapBytes = numVars * BYTES_PER_VARIABLE + (numClauses + (long) numLearnts) * BYTES_PER_CLAUSE
+                + (clausesLiterals + learntsLiterals) * BYTES_PER_LITERAL;
+        return new SnapshotHeader(numVars, numClauses, numLearnts, clausesLiterals, learntsLiterals, proofGeneration, compressed,
+                estimatedHeapBytes);
+    }
+
+    /**
+     * Encodes this header.
+     * @return the encoded header of {@link #SIZE} bytes
+     */
+    byte[] toBytes() {
+        return ByteBuffer.allocate(SIZE)
+                .put(MAGIC)
+                .putInt(VERSION)
+                .putInt(numVars)
+                .putInt(numClauses)
+                .putInt(numLearnts)
+                .putLong(clausesLiterals)
+                .putLong(learntsLiterals)
+                .put((byte) (proofGeneration ? 1 : 0))
+                .put((byte) (compressed ? 1 : 0))
+                .putLong(estimatedHeapBytes)
+                .array();
+    }
+
+    /**
+     * Decodes an encoded header.
+     * @param bytes the encoded header of {@link #SIZE} bytes
+     * @return the header
+     * @throws IllegalArgumentException if the bytes are no header or the header has an unknown version
+     */
+    private static SnapshotHeader fromBytes(final byte[] bytes) {
+        final ByteBuffer buffer = ByteBuffer.wrap(bytes);
+        final byte[] magic = new byte[MAGIC.length];
+        buffer.get(magic);
+        if (!Arrays.equals(magic, MAGIC)) {
+            throw new IllegalArgumentException("Invalid snapshot header");
+        }
+        final int version = buffer.getInt();
+        if (version != VERSION) {
+            throw new IllegalArgumentException("Unknown snapshot header version: " + version);
+        }
+        return new SnapshotHeader(buffer.getInt(), buffer.getInt(), buffer.getInt(), buffer.getLong(), buffer.getLong(),
+                buffer.get() != 0, buffer.get() != 0, buffer.getLong());
+    }
+
+    /**
+     * Opens a stream for writing a snapshot with this header.  For a compressed snapshot, the stream
+     * compresses the written bytes to a GZIP file with this header in the extra field.  Otherwise, the header
+     * is written as first field of the {@link PBSatSolver} and the written bytes have to be the remaining
+     * fields of the solver.  Closing the returned stream closes the given stream.
+     * @param stream     the stream of the snapshot file
+     * @param bufferSize the buffer size for the compression
+     * @return the stream for the snapshot
+     * @throws IOException if there is a problem writing to the stream
+     */
+    OutputStream newOutputStream(final OutputStream stream, final int bufferSize) throws IOException {
+        if (compressed) {
+            return new GzipOutputStream(stream, toBytes(), bufferSize);
+        }
+        stream.write(FIELD_PREFIX);
+        stream.write(toBytes());
+        return stream;
+    }
+
+    /**
+     * Reads the header at the beginning of the given stream of a snapshot file.  The stream is reset to its
+     * beginning afterwards, so it must support {@link InputStream#mark(int)}.
+     * @param stream the stream
+     * @return the header or {@code null} if the snapshot has no header
+     * @throws IOException              if there is a problem reading from the stream
+     * @throws IllegalArgumentException if the header is invalid or has an unknown version
+     */
+    static SnapshotHeader read(final InputStream stream) throws IOException {
+        stream.mark(MAX_PREFIX_SIZE);
+        final byte[] bytes = stream.readNBytes(MAX_PREFIX_SIZE);
+        stream.reset();
+        if (matches(bytes, GZIP_PREFIX, 0, 3) && (bytes[3] & 0x04) != 0 && matches(bytes, GZIP_PREFIX, GZIP_EXTRA_OFFSET, GZIP_PREFIX.length)) {
+            return fromBytes(Arrays.copyOfRange(bytes, GZIP_PREFIX.length, GZIP_PREFIX.length + SIZE));
+        }
+        if (matches(bytes, FIELD_PREFIX, 0, FIELD_PREFIX.length)) {
+            return fromBytes(Arrays.copyOfRange(bytes, FIELD_PREFIX.length, FIELD_PREFIX.length + SIZE));
+        }
+        return null;
+    }
+
+    private static boolean matches(final byte[] bytes, final byte[] expected, final int from, final int to) {
+        // the bytes must be long enough for a complete header after the prefix
+        if (bytes.length < to + SIZE) {
+            return false;
+        }
+        for (int i = from; i < to; i++) {
+            if (bytes[i] != expected[i]) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Returns the number of variables of the solver.
+     * @return the number of variables
+     */
+    public int numVars() {
+        return numVars;
+    }
+
+    /**
+     * Returns the number of original clauses of the solver.
+     * @return the number of original clauses
+     */
+    public int numClauses() {
+        return numClauses;
+    }
+
+    /**
+     * Returns the number of learnt clauses of the solver.
+     * @return the number of learnt clauses
+     */
+    public int numLearnts() {
+        return numLearnts;
+    }
+
+    /**
+     * Returns the total number of literals in the original clauses of the solver.
+     * @return the number of literals in the original clauses
+     */
+    public long clausesLiterals() {
+        return clausesLiterals;
+    }
+
+    /**
+     * Returns the total number of literals in the learnt clauses of the solver.
+     * @return the number of literals in the learnt clauses
+     */
+    public long learntsLiterals() {
+        return learntsLiterals;
+    }
+
+    /**
+     * Returns whether the solver generates proofs.
+     * @return {@code true} if the solver generates proofs, {@code false} otherwise
+     */
+    public boolean proofGeneration() {
+        return proofGeneration;
+    }
+
+    /**
+     * Returns whether the snapshot after the header is compressed.
+     * @return {@code true} if the snapshot is compressed, {@code false} otherwise
+     */
+    public boolean compressed() {
+        return compressed;
+    }
+
+    /**
+     * Returns a rough estimate of the heap memory the restored solver occupies in bytes.  The estimate
+     * does not include the propositions of a solver with proof generation.
+     * @return the estimated heap size in bytes
+     */
+    public long estimatedHeapBytes() {
+        return estimatedHeapBytes;
+    }
+
+    @Override
+    public String toString() {
+        return "SnapshotHeader{" +
+                "numVars=" + numVars +
+                ", numClauses=" + numClauses +
+                ", numLearnts=" + numLearnts +
+                ", clausesLiterals=" + clausesLiterals +
+                ", learntsLiterals=" + learntsLiterals +
+                ", proofGeneration=" + proofGeneration +
+                ", compressed=" + compressed +
+                ", estimatedHeapBytes=" + estimatedHeapBytes +
+                '}';
+    }
+
+    /**
+     * A GZIP output stream which writes an encoded snapshot header to the extra field of the GZIP header.
+     */
+    private static final class GzipOutputStream extends DeflaterOutputStream {
+        private final CRC32 crc = new CRC32();
+
+        private GzipOutputStream(final OutputStream stream, final byte[] header, final int bufferSize) throws IOException {
+            super(stream, new Deflater(Deflater.DEFAULT_COMPRESSION, true), bufferSize);
+            stream.write(GZIP_PREFIX);
+            stream.write(header);
+        }
+
+        @Override
+        public synchronized void write(final byte[] buf, final int off, final int len) throws IOException {
+            super.write(buf, off, len);
+            crc.update(buf, off, len);
+        }
+
+        @Override
+        public void finish() throws IOException {
+            if (!def.finished()) {
+                super.finish();
+                final ByteBuffer trailer = ByteBuffer.allocate(8).order(ByteOrder.LITTLE_ENDIAN);
+                trailer.putInt((int) crc.getValue()).putInt((int) def.getBytesRead());
+                out.write(trailer.array());
+            }
+        }
+
+        @Override
+        public void close() throws IOException {
+            try {
+                super.close();
+            } finally {
+                def.end();
+            }
+        }
+    }
+}
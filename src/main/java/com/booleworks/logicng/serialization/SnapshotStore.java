@@ -0,0 +1,113 @@
+// SPDX-License-Identifier: Apache-2.0 and MIT
+// Copyright 2023-20xx BooleWorks GmbH
+
+package com.booleworks.logicng.serialization;
+
+import com.google.protobuf.ByteString;
+import com.google.protobuf.Message;
+import com.google.protobuf.Parser;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * A content-addressed store for snapshots like serialized solvers or formulas.
+ * <p>
+ * A snapshot is split into chunks along its protocol buffer structure: each top-level field is a chunk,
+ * and large vectors like the clauses or the variables of a solver are split into blocks of a fixed number
+ * of elements.  Each chunk is stored under its SHA-256 hash, so chunks which are shared by several
+ * snapshots are only stored once.  A snapshot itself is stored as a manifest listing the hashes of its
+ * chunks.  The concatenation of the chunks is a valid encoding of the snapshot.
+ * <p>
+ * The block boundaries are positions in the vectors, and clauses are referenced by their position.  So
+ * consecutive snapshots of the same solver share the unchanged top-level fields and the blocks before the
+ * first change of a vector, e.g. the original clauses if only learnt clauses were added.  An insertion or
+ * a removal in a vector, e.g. by the reduction of the learnt clauses, changes all later blocks of the
+ * vector and of the vectors referencing its elements.
+ * <p>
+ * Implementations only have to provide the storage of chunks and manifests.
+ * @version 3.0.0
+ * @since 3.0.0
+ */
+public interface SnapshotStore {
+
+    /**
+     * Returns whether a chunk with the given hash is stored.
+     * @param hash the hash of the chunk
+     * @return {@code true} if the chunk is stored, {@code false} otherwise
+     * @throws IOException if there is a problem accessing the store
+     */
+    boolean containsChunk(String hash) throws IOException;
+
+    /**
+     * Stores a chunk.
+     * @param hash  the hash of the chunk
+     * @param chunk the chunk
+     * @throws IOException if there is a problem accessing the store
+     */
+    void putChunk(String hash, ByteString chunk) throws IOException;
+
+    /**
+     * Returns the chunk with the given hash.
+     * @param hash the hash of the chunk
+     * @return the chunk
+     * @throws IOException if there is a problem accessing the store, the chunk is not stored, or the
+     *                     content of the chunk does not match its hash
+     */
+    ByteString getChunk(String hash) throws IOException;
+
+    /**
+     * Stores the manifest of a snapshot, replacing a previous manifest with the same name.
+     * @param name   the name of the snapshot
+     * @param hashes the hashes of the snapshot's chunks in their order
+     * @throws IOException if there is a problem accessing the store
+     */
+    void putManifest(String name, List<String> hashes) throws IOException;
+
+    /**
+     * Returns the manifest of a snapshot.
+     * @param name the name of the snapshot
+     * @return the hashes of the snapshot's chunks in their order
+     * @throws IOException if there is a problem accessing the store or the snapshot is not stored
+     */
+    List<String> getManifest(String name) throws IOException;
+
+    /**
+     * Stores a snapshot.  Only chunks which are not yet stored are written.
+     * @param name     the name of the snapshot
+     * @param snapshot the snapshot, e.g. a serialized solver
+     * @return the number of chunks which were newly written
+     * @throws IOException if there is a problem accessing the store
+     */
+    default int put(final String name, final Message snapshot) throws IOException {
+        final List<String> hashes = new ArrayList<>();
+        int written = 0;
+        for (final ByteString chunk : SnapshotChunks.split(snapshot)) {
+            final String hash = SnapshotChunks.hash(chunk);
+            if (!containsChunk(hash)) {
+                putChunk(hash, chunk);
+                written++;
+            }
+            hashes.add(hash);
+        }
+        putManifest(name, hashes);
+        return written;
+    }
+
+    /**
+     * Loads a snapshot.
+     * @param name   the name of the snapshot
+     * @param parser the parser of the snapshot's protocol buffer, e.g. {@code PBSatSolver.parser()}
+     * @param <T>    the type of the snapshot's protocol buffer
+     * @return the snapshot
+     * @throws IOException if there is a problem accessing the store or the snapshot is not stored
+     */
+    default <T extends Message> T get(final String name, final Parser<T> parser) throws IOException {
+        final List<ByteString> chunks = new ArrayList<>();
+        for (final String hash : getManifest(name)) {
+            chunks.add(getChunk(hash));
+        }
+        return parser.parseFrom(ByteString.copyFrom(chunks));
+    }
+}
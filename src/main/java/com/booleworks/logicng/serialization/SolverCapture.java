@@ -0,0 +1,386 @@
+// SPDX-License-Identifier: Apache-2.0 and MIT
+// Copyright 2023-20xx BooleWorks GmbH
+
+package com.booleworks.logicng.serialization;
+
+import static com.booleworks.logicng.serialization.ReflectionHelper.getField;
+import static com.booleworks.logicng.serialization.ReflectionHelper.setField;
+
+import com.booleworks.logicng.collections.LNGBooleanVector;
+import com.booleworks.logicng.collections.LNGIntVector;
+import com.booleworks.logicng.collections.LNGLongVector;
+import com.booleworks.logicng.collections.LNGVector;
+import com.booleworks.logicng.datastructures.Tristate;
+import com.booleworks.logicng.formulas.FormulaFactory;
+import com.booleworks.logicng.serialization.collections.ProtoBufCollections.PBIntVector;
+import com.booleworks.logicng.serialization.solvers.ProtoBufSatSolver.PBSatSolver;
+import com.booleworks.logicng.serialization.solvers.datastructures.ProtoBufSolverDatastructures.PBClause;
+import com.booleworks.logicng.serialization.solvers.datastructures.ProtoBufSolverDatastructures.PBClauseVector;
+import com.booleworks.logicng.serialization.solvers.datastructures.ProtoBufSolverDatastructures.PBVariable;
+import com.booleworks.logicng.serialization.solvers.datastructures.ProtoBufSolverDatastructures.PBVariableVector;
+import com.booleworks.logicng.serialization.solvers.datastructures.ProtoBufSolverDatastructures.PBWatcher;
+import com.booleworks.logicng.serialization.solvers.datastructures.ProtoBufSolverDatastructures.PBWatcherVector;
+import com.booleworks.logicng.serialization.solvers.datastructures.ProtoBufSolverDatastructures.PBWatcherVectorVector;
+import com.booleworks.logicng.solvers.SATSolver;
+import com.booleworks.logicng.solvers.datastructures.LNGBoundedIntQueue;
+import com.booleworks.logicng.solvers.datastructures.LNGBoundedLongQueue;
+import com.booleworks.logicng.solvers.datastructures.LNGClause;
+import com.booleworks.logicng.solvers.datastructures.LNGHeap;
+import com.booleworks.logicng.solvers.datastructures.LNGVariable;
+import com.booleworks.logicng.solvers.datastructures.LNGWatcher;
+import com.booleworks.logicng.solvers.sat.LNGCoreSolver;
+import com.booleworks.logicng.solvers.sat.LNGCoreSolver.ProofInformation;
+
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.Map;
+import java.util.Stack;
+import java.util.TreeMap;
+
+/**
+ * A captured state of a SAT solver.
+ * <p>
+ * A capture is a structural copy of the solver state.  The backing arrays of all primitive vectors are
+ * copied in bulk to a detached solver which is never handed out.  The clauses, the watchers, and the
+ * variables are not copied as objects, but flattened to primitive arrays, in which clauses are referenced
+ * by their index.  Taking a capture is proportional to copying the solver's memory and does not involve any
+ * protocol buffer encoding.  After the capture was taken, the original solver can be used and modified
+ * again, while the capture is encoded by {@link SolverSerializer#writeCapture}.
+ * @version 3.0.0
+ * @since 3.0.0
+ */
+public class SolverCapture {
+    private final SATSolver solver;
+    private final Clauses clauses;
+    private final Clauses learnts;
+    private final Watches watches;
+    private final Watches watchesBin;
+    private final Variables vars;
+
+    private SolverCapture(final SATSolver solver, final Clauses clauses, final Clauses learnts, final Watches watches,
+                          final Watches watchesBin, final Variables vars) {
+        this.solver = solver;
+        this.clauses = clauses;
+        this.learnts = learnts;
+        this.watches = watches;
+        this.watchesBin = watchesBin;
+        this.vars = vars;
+    }
+
+    /**
+     * Returns the detached solver holding the captured state except for the clauses, the learnt clauses, the
+     * watches, and the variables, which are empty.
+     * @return the detached solver
+     */
+    SATSolver solver() {
+        return solver;
+    }
+
+    /**
+     * Sets the clauses, the learnt clauses, the watches, the binary watches, and the variables of the
+     * captured state in the given protocol buffer of the {@link #solver() detached solver}.
+     * @param builder the protocol buffer builder
+     * @return the builder
+     */
+    PBSatSolver.Builder serializeClauseSections(final PBSatSolver.Builder builder) {
+        return builder
+                .setClauses(clauses.serialize(0))
+                .setLearnts(learnts.serialize(clauses.size()))
+                .setWatches(watches.serialize())
+                .setVars(vars.serialize())
+                .setWatchesBin(watchesBin.serialize());
+    }
+
+    /**
+     * Captures the state of the given core solver.  The solver must not be modified during the capture.
+     * @param f    the formula factory for the detached solver
+     * @param core the core solver
+     * @return the capture
+     */
+    static SolverCapture capture(final FormulaFactory f, final LNGCoreSolver core) {
+        final LNGCoreSolver copy = new LNGCoreSolver(f, getField(core, "config"));
+        final LNGVector<LNGClause> coreClauses = getField(core, "clauses");
+        final LNGVector<LNGClause> coreLearnts = getField(core, "learnts");
+        final IdentityHashMap<LNGClause, Integer> clauseIds = new IdentityHashMap<>(coreClauses.size() + coreLearnts.size());
+        final Clauses clauses = new Clauses(coreClauses, clauseIds);
+        final Clauses learnts = new Clauses(coreLearnts, clauseIds);
+        final Watches watches = new Watches(getField(core, "watches"), clauseIds);
+        final Watches watchesBin = new Watches(getField(core, "watchesBin"), clauseIds);
+        final Variables vars = new Variables(getField(core, "vars"), clauseIds);
+        setField(copy, "inSatCall", getField(core, "inSatCall"));
+        final Map<String, Integer> name2idx = getField(core, "name2idx");
+        setField(copy, "name2idx", new TreeMap<>(name2idx));
+        final Map<Integer, String> idx2name = getField(core, "idx2name");
+        setField(copy, "idx2name", new TreeMap<>(idx2name));
+        setField(copy, "validStates", copyIntVec(getField(core, "validStates")));
+        setField(copy, "nextStateId", getField(core, "nextStateId"));
+        setField(copy, "ok", getField(core, "ok"));
+        setField(copy, "qhead", getField(core, "qhead"));
+        setField(copy, "unitClauses", copyIntVec(getField(core, "unitClauses")));
+        setField(copy, "clauses", new LNGVector<LNGClause>());
+        setField(copy, "learnts", new LNGVector<LNGClause>());
+        setField(copy, "watches", new LNGVector<LNGVector<LNGWatcher>>());
+        setField(copy, "vars", new LNGVector<LNGVariable>());
+        final LNGHeap heap = getField(core, "orderHeap");
+        setField(copy, "orderHeap", new LNGHeap(copy, copyIntVec(heap.getHeap()), copyIntVec(heap.getIndices())));
+        setField(copy, "trail", copyIntVec(getField(core, "trail")));
+        setField(copy, "trailLim", copyIntVec(getField(core, "trailLim")));
+        setField(copy, "model", copyBoolVec(getField(core, "model")));
+        setField(copy, "assumptionsConflict", copyIntVec(getField(core, "assumptionsConflict")));
+        setField(copy, "assumptions", copyIntVec(getField(core, "assumptions")));
+        setField(copy, "assumptionPropositions", copyVec(getField(core, "assumptionPropositions")));
+        setField(copy, "seen", copyBoolVec(getField(core, "seen")));
+        setField(copy, "analyzeBtLevel", getField(core, "analyzeBtLevel"));
+        setField(copy, "claInc", getField(core, "claInc"));
+        setField(copy, "varInc", getField(core, "varInc"));
+        setField(copy, "varDecay", getField(core, "varDecay"));
+        setField(copy, "clausesLiterals", getField(core, "clausesLiterals"));
+        setField(copy, "learntsLiterals", getField(core, "learntsLiterals"));
+        setField(copy, "canceledByHandler", getField(core, "canceledByHandler"));
+        setField(copy, "pgOriginalClauses", copyProofInformations(getField(core, "pgOriginalClauses")));
+        setField(copy, "pgProof", copyIntVecVec(getField(core, "pgProof")));
+        setField(copy, "computingBackbone", getField(core, "computingBackbone"));
+        final Stack<Integer> backboneCandidates = getField(core, "backboneCandidates");
+        setField(copy, "backboneCandidates", backboneCandidates == null ? null : backboneCandidates.clone());
+        setField(copy, "backboneAssumptions", copyIntVec(getField(core, "backboneAssumptions")));
+        final HashMap<Integer, Tristate> backboneMap = getField(core, "backboneMap");
+        setField(copy, "backboneMap", backboneMap == null ? null : new HashMap<>(backboneMap));
+        setField(copy, "selectionOrder", copyIntVec(getField(core, "selectionOrder")));
+        setField(copy, "selectionOrderIdx", getField(core, "selectionOrderIdx"));
+        setField(copy, "watchesBin", new LNGVector<LNGVector<LNGWatcher>>());
+        setField(copy, "permDiff", copyIntVec(getField(core, "permDiff")));
+        setField(copy, "lastDecisionLevel", copyIntVec(getField(core, "lastDecisionLevel")));
+        final LNGBoundedLongQueue lbdQueue = getField(core, "lbdQueue");
+        setField(copy, "lbdQueue", new LNGBoundedLongQueue(copyLongVec(lbdQueue.getElems()), lbdQueue.getFirst(), lbdQueue.getLast(),
+                lbdQueue.getSumOfQueue(), lbdQueue.getMaxSize(), lbdQueue.getQueueSize()));
+        final LNGBoundedIntQueue trailQueue = getField(core, "trailQueue");
+        setField(copy, "trailQueue", new LNGBoundedIntQueue(copyIntVec(trailQueue.getElems()), trailQueue.getFirst(), trailQueue.getLast(),
+                trailQueue.getSumOfQueue(), trailQueue.getMaxSize(), trailQueue.getQueueSize()));
+        setField(copy, "myflag", getField(core, "myflag"));
+        setField(copy, "analyzeLBD", getField(core, "analyzeLBD"));
+        setField(copy, "nbClausesBeforeReduce", getField(core, "nbClausesBeforeReduce"));
+        setField(copy, "conflicts", getField(core, "conflicts"));
+        setField(copy, "conflictsRestarts", getField(core, "conflictsRestarts"));
+        setField(copy, "sumLBD", getField(core, "sumLBD"));
+        setField(copy, "curRestart", getField(core, "curRestart"));
+        return new SolverCapture(new SATSolver(f, copy), clauses, learnts, watches, watchesBin, vars);
+    }
+
+    private static LNGIntVector copyIntVec(final LNGIntVector vec) {
+        if (vec == null) {
+            return null;
+        }
+        final int[] elements = vec.toArray();
+        return new LNGIntVector(elements, elements.length);
+    }
+
+    private static LNGBooleanVector copyBoolVec(final LNGBooleanVector vec) {
+        final boolean[] elements = vec.toArray();
+        return new LNGBooleanVector(elements, elements.length);
+    }
+
+    private static LNGLongVector copyLongVec(final LNGLongVector vec) {
+        final long[] elements = vec.toArray();
+        return new LNGLongVector(elements, elements.length);
+    }
+
+    private static <T> LNGVector<T> copyVec(final LNGVector<T> vec) {
+        if (vec == null) {
+            return null;
+        }
+        final LNGVector<T> copy = new LNGVector<>(vec.size());
+        for (final T element : vec) {
+            copy.push(element);
+        }
+        return copy;
+    }
+
+    private static LNGVector<LNGIntVector> copyIntVecVec(final LNGVector<LNGIntVector> vec) {
+        if (vec == null) {
+            return null;
+        }
+        final LNGVector<LNGIntVector> copy = new LNGVector<>(vec.size());
+        for (final LNGIntVector element : vec) {
+            copy.push(copyIntVec(element));
+        }
+        return copy;
+    }
+
+    private static LNGVector<ProofInformation> copyProofInformations(final LNGVector<ProofInformation> vec) {
+        if (vec == null) {
+            return null;
+        }
+        final LNGVector<ProofInformation> copy = new LNGVector<>(vec.size());
+        for (final ProofInformation info : vec) {
+            copy.push(new ProofInformation(copyIntVec(info.clause()), info.proposition()));
+        }
+        return copy;
+    }
+
+    private static PBIntVector serializeInts(final int[] elements, final int from, final int to) {
+        final PBIntVector.Builder builder = PBIntVector.newBuilder().setSize(to - from);
+        for (int i = from; i < to; i++) {
+            builder.addElement(elements[i]);
+        }
+        return builder.build();
+    }
+
+    /**
+     * A vector of clauses flattened to primitive arrays.  The literals of all clauses are stored
+     * consecutively, the clause {@code i} occupies the literals from {@code starts[i]} to
+     * {@code starts[i + 1]}.
+     */
+    private static final class Clauses {
+        private final int[] starts;
+        private final int[] literals;
+        private final int[] learntOnState;
+        private final boolean[] isAtMost;
+        private final double[] activity;
+        private final boolean[] seen;
+        private final long[] lbd;
+        private final boolean[] canBeDel;
+        private final boolean[] oneWatched;
+        private final int[] atMostWatchers;
+
+        private Clauses(final LNGVector<LNGClause> vec, final IdentityHashMap<LNGClause, Integer> clauseIds) {
+            final int size = vec.size();
+            starts = new int[size + 1];
+            for (int i = 0; i < size; i++) {
+                starts[i + 1] = starts[i] + vec.get(i).size();
+            }
+            literals = new int[starts[size]];
+            learntOnState = new int[size];
+            isAtMost = new boolean[size];
+            activity = new double[size];
+            seen = new boolean[size];
+            lbd = new long[size];
+            canBeDel = new boolean[size];
+            oneWatched = new boolean[size];
+            atMostWatchers = new int[size];
+            for (int i = 0; i < size; i++) {
+                final LNGClause clause = vec.get(i);
+                clauseIds.put(clause, clauseIds.size());
+                final LNGIntVector data = clause.getData();
+                for (int j = 0; j < data.size(); j++) {
+                    literals[starts[i] + j] = data.get(j);
+                }
+                learntOnState[i] = clause.getLearntOnState();
+                isAtMost[i] = clause.isAtMost();
+                activity[i] = clause.activity();
+                seen[i] = clause.seen();
+                lbd[i] = clause.lbd();
+                canBeDel[i] = clause.canBeDel();
+                oneWatched[i] = clause.oneWatched();
+                atMostWatchers[i] = clause.isAtMost() ? clause.atMostWatchers() : -1;
+            }
+        }
+
+        private int size() {
+            return learntOnState.length;
+        }
+
+        private PBClauseVector serialize(final int firstId) {
+            final PBClauseVector.Builder builder = PBClauseVector.newBuilder();
+            for (int i = 0; i < size(); i++) {
+                builder.addElement(PBClause.newBuilder()
+                        .setData(serializeInts(literals, starts[i], starts[i + 1]))
+                        .setLearntOnState(learntOnState[i])
+                        .setIsAtMost(isAtMost[i])
+                        .setActivity(activity[i])
+                        .setSeen(seen[i])
+                        .setLbd(lbd[i])
+                        .setCanBeDel(canBeDel[i])
+                        .setOneWatched(oneWatched[i])
+                        .setAtMostWatchers(atMostWatchers[i])
+                        .setId(firstId + i)
+                        .build());
+            }
+            return builder.build();
+        }
+    }
+
+    /**
+     * Watch lists flattened to primitive arrays.  The watchers of literal {@code l} are stored from
+     * {@code starts[l]} to {@code starts[l + 1]}, each as the index of its clause and its blocker.
+     */
+    private static final class Watches {
+        private final int[] starts;
+        private final int[] clauses;
+        private final int[] blockers;
+
+        private Watches(final LNGVector<LNGVector<LNGWatcher>> vec, final IdentityHashMap<LNGClause, Integer> clauseIds) {
+            starts = new int[vec.size() + 1];
+            for (int i = 0; i < vec.size(); i++) {
+                starts[i + 1] = starts[i] + vec.get(i).size();
+            }
+            clauses = new int[starts[vec.size()]];
+            blockers = new int[clauses.length];
+            for (int i = 0; i < vec.size(); i++) {
+                final LNGVector<LNGWatcher> watchList = vec.get(i);
+                for (int j = 0; j < watchList.size(); j++) {
+                    final LNGWatcher watcher = watchList.get(j);
+                    clauses[starts[i] + j] = clauseIds.get(watcher.clause());
+                    blockers[starts[i] + j] = watcher.blocker();
+                }
+            }
+        }
+
+        private PBWatcherVectorVector serialize() {
+            final PBWatcherVectorVector.Builder builder = PBWatcherVectorVector.newBuilder();
+            for (int i = 0; i + 1 < starts.length; i++) {
+                final PBWatcherVector.Builder watchBuilder = PBWatcherVector.newBuilder();
+                for (int j = starts[i]; j < starts[i + 1]; j++) {
+                    watchBuilder.addElement(PBWatcher.newBuilder().setClause(clauses[j]).setBlocker(blockers[j]));
+                }
+                builder.addElement(watchBuilder);
+            }
+            return builder.build();
+        }
+    }
+
+    /**
+     * Variables flattened to primitive arrays.  The reason of a variable is stored as the index of its
+     * clause or -1 if it has no reason.
+     */
+    private static final class Variables {
+        private final Tristate[] assignment;
+        private final int[] level;
+        private final int[] reason;
+        private final double[] activity;
+        private final boolean[] polarity;
+        private final boolean[] decision;
+
+        private Variables(final LNGVector<LNGVariable> vec, final IdentityHashMap<LNGClause, Integer> clauseIds) {
+            final int size = vec.size();
+            assignment = new Tristate[size];
+            level = new int[size];
+            reason = new int[size];
+            activity = new double[size];
+            polarity = new boolean[size];
+            decision = new boolean[size];
+            for (int i = 0; i < size; i++) {
+                final LNGVariable var = vec.get(i);
+                assignment[i] = var.assignment();
+                level[i] = var.level();
+                reason[i] = var.reason() == null ? -1 : clauseIds.get(var.reason());
+                activity[i] = var.activity();
+                polarity[i] = var.polarity();
+                decision[i] = var.decision();
+            }
+        }
+
+        private PBVariableVector serialize() {
+            final PBVariableVector.Builder builder = PBVariableVector.newBuilder();
+            for (int i = 0; i < assignment.length; i++) {
+                builder.addElement(PBVariable.newBuilder()
+                        .setAssignment(SolverDatastructures.serializeTristate(assignment[i]))
+                        .setLevel(level[i])
+                        .setActivity(activity[i])
+                        .setPolarity(polarity[i])
+                        .setDecision(decision[i])
+                        .setReason(reason[i]));
+            }
+            return builder.build();
+        }
+    }
+}
@@ -0,0 +1,124 @@
+// SPDX-License-Identifier: Apache-2.0 and MIT
+// Copyright 2023-20xx BooleWorks GmbH
+
+package com.booleworks.logicng.serialization;
+
+import static com.booleworks.logicng.serialization.ReflectionHelper.callMethod;
+import static com.booleworks.logicng.serialization.ReflectionHelper.setField;
+
+import com.booleworks.logicng.solvers.SATSolver;
+import com.booleworks.logicng.solvers.sat.LNGCoreSolver;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Path;
+
+/**
+ * Periodic checkpoints of a SAT solver during a long SAT call.
+ * <p>
+ * The checkpointer is driven by the computation handler of the SAT call: the handler calls
+ * {@link #onConflict(SATSolver)} for every conflict the solver reports, and every {@code conflictInterval}
+ * conflicts the complete solver state is written to the checkpoint file.  At this point the solver
+ * thread is within the handler, so the snapshot is consistent.  The file is first written to a temporary
+ * file in the same directory and then atomically moved to its destination, so the checkpoint file always
+ * holds a complete snapshot, even if the process dies while writing.
+ * <p>
+ * A later run restores the solver with {@link #resume(SolverSerializer, Path, boolean)}.  The snapshot
+ * may have been taken within a SAT call, so the restored solver is backtracked to decision level 0 and
+ * leaves the SAT call.  All clauses, learnt clauses, variable activities, and saved phases are kept, so a
+ * new SAT call continues the search from the checkpoint.
+ * @version 3.0.0
+ * @since 3.0.0
+ */
+public class SolverCheckpointer {
+    private final SolverSerializer serializer;
+    private final Path path;
+    private final boolean compress;
+    private final int conflictInterval;
+    private int conflicts;
+    private int checkpoints;
+
+    /**
+     * Constructs a new checkpointer.
+     * @param serializer       the serializer for the solver
+     * @param path             the path of the checkpoint file
+     * @param compress         a flag whether the checkpoint file should be compressed (zip)
+     * @param conflictInterval the number of conflicts between two checkpoints
+     */
+    public SolverCheckpointer(final SolverSerializer serializer, final Path path, final boolean compress, final int conflictInterval) {
+        if (conflictInterval <= 0) {
+            throw new IllegalArgumentException("Conflict interval must be positive: " + conflictInterval);
+        }
+        this.serializer = serializer;
+        this.path = path;
+        this.compress = compress;
+        this.conflictInterval = conflictInterval;
+    }
+
+    /**
+     * Reports a conflict of the solver.  Every {@code conflictInterval} conflicts a checkpoint is written.
+     * This method must be called on the solver thread, usually from the computation handler of the SAT
+     * call.  It always returns {@code true}, so it can be used directly as the result of a handler.
+     * @param solver the solver
+     * @return {@code true}
+     * @throws UncheckedIOException if there is a problem writing the checkpoint
+     */
+    public boolean onConflict(final SATSolver solver) {
+        if (++conflicts >= conflictInterval) {
+            try {
+                checkpoint(solver);
+            } catch (final IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Writes a checkpoint of the solver.  The solver must not be modified while the checkpoint is written.
+     * @param solver the solver
+     * @throws IOException if there is a problem writing the checkpoint
+     */
+    public void checkpoint(final SATSolver solver) throws IOException {
+        serializer.serializeSolverToFileAtomically(solver, path, compress);
+        conflicts = 0;
+        checkpoints++;
+    }
+
+    /**
+     * Returns the number of checkpoints written by this checkpointer.
+     * @return the number of checkpoints
+     */
+    public int checkpoints() {
+        return checkpoints;
+    }
+
+    /**
+     * Returns the path of the checkpoint file.
+     * @return the path of the checkpoint file
+     */
+    public Path path() {
+        return path;
+    }
+
+    /**
+     * Restores a solver from a checkpoint file.  The solver is backtracked to decision level 0 and is not
+     * within a SAT call anymore, so the search can be continued with a new SAT call.  The propagation
+     * queue is reset, since a checkpoint written at a conflict on decision level 0 has already dequeued
+     * the conflicting assignment, so all level 0 assignments are propagated again by the next SAT call.
+     * @param serializer the serializer for the solver
+     * @param path       the path of the checkpoint file
+     * @param compress   a flag whether the checkpoint file is compressed (zip)
+     * @return the restored solver
+     * @throws IOException if there is a problem reading the checkpoint
+     */
+    public static SATSolver resume(final SolverSerializer serializer, final Path path, final boolean compress) throws IOException {
+        final SATSolver solver = serializer.deserializeSatSolverFromFile(path, compress);
+        final LNGCoreSolver core = solver.underlyingSolver();
+        callMethod(core, "cancelUntil", new Class<?>[]{int.class}, 0);
+        setField(core, "qhead", 0);
+        setField(core, "inSatCall", false);
+        setField(core, "canceledByHandler", false);
+        return solver;
+    }
+}
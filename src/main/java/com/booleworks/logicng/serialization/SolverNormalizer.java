@@ -0,0 +1,224 @@
+// SPDX-License-Identifier: Apache-2.0 and MIT
+// Copyright 2023-20xx BooleWorks GmbH
+
+package com.booleworks.logicng.serialization;
+
+import com.booleworks.logicng.serialization.collections.ProtoBufCollections.PBBooleanVector;
+import com.booleworks.logicng.serialization.collections.ProtoBufCollections.PBIntVector;
+import com.booleworks.logicng.serialization.solvers.ProtoBufSatSolver.PBSatSolver;
+import com.booleworks.logicng.serialization.solvers.datastructures.ProtoBufSolverDatastructures.PBClause;
+import com.booleworks.logicng.serialization.solvers.datastructures.ProtoBufSolverDatastructures.PBClauseVector;
+import com.booleworks.logicng.serialization.solvers.datastructures.ProtoBufSolverDatastructures.PBHeap;
+import com.booleworks.logicng.serialization.solvers.datastructures.ProtoBufSolverDatastructures.PBTristate;
+import com.booleworks.logicng.serialization.solvers.datastructures.ProtoBufSolverDatastructures.PBVariable;
+import com.booleworks.logicng.serialization.solvers.datastructures.ProtoBufSolverDatastructures.PBVariableVector;
+import com.booleworks.logicng.serialization.solvers.datastructures.ProtoBufSolverDatastructures.PBWatcher;
+import com.booleworks.logicng.serialization.solvers.datastructures.ProtoBufSolverDatastructures.PBWatcherVector;
+import com.booleworks.logicng.serialization.solvers.datastructures.ProtoBufSolverDatastructures.PBWatcherVectorVector;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Normalization of serialized SAT solvers to decision level 0.
+ * <p>
+ * The normalized solver is equivalent to the original one, but only keeps the state which is relevant
+ * for future SAT calls:
+ * <ul>
+ *     <li>all assignments above decision level 0 are undone with phase saving, as by a backtrack to level 0</li>
+ *     <li>clauses which are satisfied at level 0 are dropped</li>
+ *     <li>literals which are false at level 0 are removed from the remaining clauses, as long as the clause
+ *     keeps at least three literals (so it stays in the same watch list) and the literal is not watched</li>
+ *     <li>the transient search state (model, assumptions, conflict, seen flags, backbone state) is reset</li>
+ * </ul>
+ * Clauses are only dropped and shortened if the solver has no saved states, does not generate proofs, and
+ * has completed the propagation at level 0.  Cardinality constraints are always kept unchanged.
+ * @version 3.0.0
+ * @since 3.0.0
+ */
+final class SolverNormalizer {
+
+    private SolverNormalizer() {
+        // only static methods
+    }
+
+    /**
+     * Normalizes a serialized SAT solver to decision level 0.
+     * @param bin the serialized solver
+     * @return the normalized serialized solver
+     */
+    static PBSatSolver normalize(final PBSatSolver bin) {
+        final PBSatSolver.Builder builder = bin.toBuilder();
+        final List<PBVariable.Builder> vars = new ArrayList<>(bin.getVars().getElementCount());
+        for (final PBVariable var : bin.getVars().getElementList()) {
+            vars.add(var.toBuilder());
+        }
+        final PBIntVector trail = bin.getTrail();
+        final int level0End = bin.getTrailLim().getSize() > 0 ? bin.getTrailLim().getElement(0) : trail.getElementCount();
+        for (int i = trail.getElementCount() - 1; i >= level0End; i--) {
+            final int lit = trail.getElement(i);
+            vars.get(var(lit)).setAssignment(PBTristate.UNDEF).setReason(-1).setPolarity(sign(lit));
+        }
+        builder.setTrail(intVec(trail.getElementList().subList(0, level0End)));
+        builder.setTrailLim(intVec(List.of()));
+        builder.setQhead(Math.min(bin.getQhead(), level0End));
+
+        final boolean simplify = bin.getOk() && bin.getQhead() >= level0End && bin.getValidStates().getElementCount() == 0
+                && !bin.getConfig().getProofGeneration();
+        if (simplify) {
+            simplifyClauses(bin, builder, vars);
+        }
+        final PBVariableVector.Builder varVec = PBVariableVector.newBuilder();
+        vars.forEach(varVec::addElement);
+        builder.setVars(varVec);
+        builder.setOrderHeap(rebuildHeap(vars));
+        resetTransientState(builder, vars.size());
+        return builder.build();
+    }
+
+    private static void simplifyClauses(final PBSatSolver bin, final PBSatSolver.Builder builder, final List<PBVariable.Builder> vars) {
+        final int numClauses = bin.getClauses().getElementCount();
+        final int[] newIds = new int[numClauses + bin.getLearnts().getElementCount()];
+        final int[] removedLiterals = new int[2];
+        final PBClauseVector clauses = simplifyClauseVec(bin.getClauses(), vars, newIds, 0, removedLiterals, 0);
+        final PBClauseVector learnts = simplifyClauseVec(bin.getLearnts(), vars, newIds, clauses.getElementCount(), removedLiterals, 1);
+        builder.setClauses(clauses);
+        builder.setLearnts(learnts);
+        builder.setClausesLiterals(bin.getClausesLiterals() - removedLiterals[0]);
+        builder.setLearntsLiterals(bin.getLearntsLiterals() - removedLiterals[1]);
+        builder.setWatches(remapWatches(bin.getWatches(), newIds));
+        builder.setWatchesBin(remapWatches(bin.getWatchesBin(), newIds));
+        for (final PBVariable.Builder var : vars) {
+            if (var.getReason() != -1) {
+                var.setReason(newIds[var.getReason()]);
+            }
+        }
+    }
+
+    private static PBClauseVector simplifyClauseVec(final PBClauseVector bin, final List<PBVariable.Builder> vars, final int[] newIds,
+                                                    final int firstId, final int[] removedLiterals, final int kind) {
+        final PBClauseVector.Builder result = PBClauseVector.newBuilder();
+        int nextId = firstId;
+        for (final PBClause clause : bin.getElementList()) {
+            final List<Integer> data = clause.getData().getElementList();
+            if (!clause.getIsAtMost() && data.stream().anyMatch(lit -> value(vars, lit) == PBTristate.TRUE)) {
+                newIds[clause.getId()] = -1;
+                removedLiterals[kind] += data.size();
+                continue;
+            }
+            final PBClause.Builder simplified = clause.toBuilder().setId(nextId);
+            newIds[clause.getId()] = nextId++;
+            if (!clause.getIsAtMost() && data.size() > 3) {
+                final List<Integer> kept = new ArrayList<>(data.subList(0, 2));
+                for (int i = 2; i < data.size(); i++) {
+                    final int lit = data.get(i);
+                    if (value(vars, lit) != PBTristate.FALSE || kept.size() + data.size() - i - 1 < 3) {
+                        kept.add(lit);
+                    }
+                }
+                removedLiterals[kind] += data.size() - kept.size();
+                simplified.setData(intVec(kept));
+            }
+            result.addElement(simplified);
+        }
+        return result.build();
+    }
+
+    private static PBWatcherVectorVector remapWatches(final PBWatcherVectorVector bin, final int[] newIds) {
+        final PBWatcherVectorVector.Builder result = PBWatcherVectorVector.newBuilder();
+        for (final PBWatcherVector watch : bin.getElementList()) {
+            final PBWatcherVector.Builder remapped = PBWatcherVector.newBuilder();
+            for (final PBWatcher watcher : watch.getElementList()) {
+                final int id = newIds[watcher.getClause()];
+                if (id != -1) {
+                    remapped.addElement(watcher.toBuilder().setClause(id));
+                }
+            }
+            result.addElement(remapped);
+        }
+        return result.build();
+    }
+
+    private static PBHeap rebuildHeap(final List<PBVariable.Builder> vars) {
+        final List<Integer> heap = new ArrayList<>();
+        for (int v = 0; v < vars.size(); v++) {
+            if (vars.get(v).getDecision() && vars.get(v).getAssignment() == PBTristate.UNDEF) {
+                heap.add(v);
+            }
+        }
+        for (int i = heap.size() / 2 - 1; i >= 0; i--) {
+            percolateDown(heap, i, vars);
+        }
+        final int[] indices = new int[vars.size()];
+        Arrays.fill(indices, -1);
+        for (int i = 0; i < heap.size(); i++) {
+            indices[heap.get(i)] = i;
+        }
+        final List<Integer> indexList = new ArrayList<>(indices.length);
+        for (final int index : indices) {
+            indexList.add(index);
+        }
+        return PBHeap.newBuilder().setHeap(intVec(heap)).setIndices(intVec(indexList)).build();
+    }
+
+    private static void percolateDown(final List<Integer> heap, final int pos, final List<PBVariable.Builder> vars) {
+        int i = pos;
+        final int x = heap.get(i);
+        while (2 * i + 1 < heap.size()) {
+            final int left = 2 * i + 1;
+            final int right = left + 1;
+            final int child = right < heap.size() && activity(vars, heap.get(right)) > activity(vars, heap.get(left)) ? right : left;
+            if (activity(vars, heap.get(child)) <= activity(vars, x)) {
+                break;
+            }
+            heap.set(i, heap.get(child));
+            i = child;
+        }
+        heap.set(i, x);
+    }
+
+    private static void resetTransientState(final PBSatSolver.Builder builder, final int numVars) {
+        builder.setInSatCall(false);
+        builder.setCanceledByHandler(false);
+        builder.setModel(PBBooleanVector.newBuilder());
+        builder.setAssumptionConflict(intVec(List.of()));
+        builder.setAssumptions(intVec(List.of()));
+        builder.clearAssumptionPropositions();
+        builder.clearAssumptionPropositionIndices();
+        final PBBooleanVector.Builder seen = PBBooleanVector.newBuilder().setSize(numVars);
+        for (int i = 0; i < numVars; i++) {
+            seen.addElement(false);
+        }
+        builder.setSeen(seen);
+        builder.setAnalyzeBtLevel(0);
+        builder.setComputingBackbone(false);
+        builder.clearBackboneCandidates();
+        builder.clearBackboneAssumptions();
+        builder.clearBackboneMap();
+    }
+
+    private static PBTristate value(final List<PBVariable.Builder> vars, final int lit) {
+        final PBTristate assignment = vars.get(var(lit)).getAssignment();
+        if (assignment == PBTristate.UNDEF) {
+            return PBTristate.UNDEF;
+        }
+        return (assignment == PBTristate.TRUE) != sign(lit) ? PBTristate.TRUE : PBTristate.FALSE;
+    }
+
+    private static double activity(final List<PBVariable.Builder> vars, final int var) {
+        return vars.get(var).getActivity();
+    }
+
+    private static int var(final int lit) {
+        return lit >> 1;
+    }
+
+    private static boolean sign(final int lit) {
+        return (lit & 1) == 1;
+    }
+
+    private static PBIntVector intVec(final List<Integer> elements) {
+        return PBIntVector.newBuilder().addAllElement(elements).setSize(elements.size()).build();
+    }
+}
@@ -0,0 +1,155 @@
+// SPDX-License-Identifier: Apache-2.0 and MIT
+// Copyright 2023-20xx BooleWorks GmbH
+
+package com.booleworks.logicng.serialization;
+
+import com.booleworks.logicng.serialization.solvers.ProtoBufSatSolver.PBSatSolver;
+import com.booleworks.logicng.solvers.SATSolver;
+import com.booleworks.logicng.solvers.SolverState;
+
+import java.util.concurrent.ConcurrentLinkedDeque;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * A pool of SAT solvers which are all forked from the same template solver.
+ * <p>
+ * The template is held as protocol buffer, so forking a new solver only requires its deserialization
+ * and never re-adds any formulas.  A solver is taken from the pool with {@link #acquire()} and must be
+ * given back with {@link Lease#close()}.  Formulas added to the solver while it is leased are removed
+ * again when it is given back, since the solver is reset to the template state with
+ * {@link SATSolver#loadState(SolverState)}.  If the reset fails, the solver is dropped and a new one is
+ * forked on demand.
+ * <p>
+ * The pool itself is thread-safe.  Since all forked solvers share the formula factory of the serializer,
+ * a factory which can be used concurrently is required for leasing solvers on multiple threads.
+ * @version 3.0.0
+ * @since 3.0.0
+ */
+public class SolverPool {
+    private final SolverSerializer serializer;
+    private final PBSatSolver template;
+    private final ConcurrentLinkedDeque<Lease> idle = new ConcurrentLinkedDeque<>();
+    private final AtomicLong hits = new AtomicLong();
+    private final AtomicLong forks = new AtomicLong();
+    private final AtomicLong forkNanos = new AtomicLong();
+
+    /**
+     * Constructs a new pool for the given template solver.
+     * @param serializer the serializer for forking the solvers
+     * @param template   the template solver
+     */
+    public SolverPool(final SolverSerializer serializer, final PBSatSolver template) {
+        this.serializer = serializer;
+        this.template = template;
+    }
+
+    /**
+     * Constructs a new pool with the current state of the given solver as template.
+     * @param serializer the serializer for forking the solvers
+     * @param template   the template solver
+     */
+    public SolverPool(final SolverSerializer serializer, final SATSolver template) {
+        this(serializer, serializer.serializeSolver(template));
+    }
+
+    /**
+     * Leases a solver from the pool.  If there is an idle solver it is returned, otherwise a new solver is
+     * forked from the template.
+     * @return the leased solver
+     */
+    public Lease acquire() {
+        final Lease lease = idle.pollFirst();
+        if (lease != null) {
+            hits.incrementAndGet();
+            lease.released = false;
+            return lease;
+        }
+        return fork();
+    }
+
+    private Lease fork() {
+        final long start = System.nanoTime();
+        final SATSolver solver = serializer.deserializeSatSolver(template);
+        final Lease lease = new Lease(solver, solver.saveState());
+        forkNanos.addAndGet(System.nanoTime() - start);
+        forks.incrementAndGet();
+        return lease;
+    }
+
+    private void release(final Lease lease) {
+        try {
+            lease.solver.loadState(lease.state);
+        } catch (final IllegalArgumentException e) {
+            return;
+        }
+        idle.offerFirst(lease);
+    }
+
+    /**
+     * Returns the number of idle solvers in the pool.
+     * @return the number of idle solvers
+     */
+    public int idleSolvers() {
+        return idle.size();
+    }
+
+    /**
+     * Returns the number of leases which were served by an idle solver.
+     * @return the number of pool hits
+     */
+    public long hits() {
+        return hits.get();
+    }
+
+    /**
+     * Returns the number of solvers forked from the template.
+     * @return the number of forks
+     */
+    public long forks() {
+        return forks.get();
+    }
+
+    /**
+     * Returns the total time spent forking solvers from the template in nanoseconds.
+     * @return the total fork time in nanoseconds
+     */
+    public long forkNanos() {
+        return forkNanos.get();
+    }
+
+    /**
+     * A solver leased from a {@link SolverPool}.  The solver must only be used by one thread at a time and
+     * must not be used after the lease was closed.
+     * @version 3.0.0
+     * @since 3.0.0
+     */
+    public final class Lease implements AutoCloseable {
+        private final SATSolver solver;
+        private final SolverState state;
+        private boolean released;
+
+        private Lease(final SATSolver solver, final SolverState state) {
+            this.solver = solver;
+            this.state = state;
+        }
+
+        /**
+         * Returns the leased solver.
+         * @return the leased solver
+         */
+        public SATSolver solver() {
+            return solver;
+        }
+
+        /**
+         * Gives the solver back to the pool.  Calling this method more than once has no effect.
+         */
+        @Override
+        public void close() {
+            if (!released) {
+                released = true;
+                release(this);
+            }
+        }
+    }
+}
@@ -15,61 +15,108 @@ import static com.booleworks.logicng.serialization.SolverDatastructures.serializ
 import static com.booleworks.logicng.serialization.SolverDatastructures.serializeLongQueue;
 
 import com.booleworks.logicng.collections.LNGIntVector;
+import com.booleworks.logicng.collections.LNGLongVector;
 import com.booleworks.logicng.collections.LNGVector;
 import com.booleworks.logicng.datastructures.Tristate;
 import com.booleworks.logicng.formulas.FormulaFactory;
 import com.booleworks.logicng.propositions.Proposition;
-import com.booleworks.logicng.propositions.StandardProposition;
 import com.booleworks.logicng.serialization.collections.ProtoBufCollections;
+import com.booleworks.logicng.serialization.formulas.ProtoBufFormulas.PBCnfFormulas;
+import com.booleworks.logicng.serialization.formulas.ProtoBufFormulas.PBFormulas;
 import com.booleworks.logicng.serialization.propositions.ProtoBufPropositions;
+import com.booleworks.logicng.serialization.solvers.ProtoBufLearntClauses.PBLearntClauses;
 import com.booleworks.logicng.serialization.solvers.ProtoBufSatSolver.PBSatSolver;
+import com.booleworks.logicng.serialization.solvers.ProtoBufSolverContainer.PBClauseMetadata;
+import com.booleworks.logicng.serialization.solvers.ProtoBufSolverContainer.PBSolverContainer;
+import com.booleworks.logicng.serialization.solvers.ProtoBufSolverContainer.PBSolverOverlay;
 import com.booleworks.logicng.serialization.solvers.datastructures.ProtoBufSolverDatastructures;
 import com.booleworks.logicng.serialization.solvers.datastructures.ProtoBufSolverDatastructures.PBClause;
 import com.booleworks.logicng.serialization.solvers.datastructures.ProtoBufSolverDatastructures.PBClauseVector;
 import com.booleworks.logicng.serialization.solvers.datastructures.ProtoBufSolverDatastructures.PBProofInformation;
+import com.booleworks.logicng.serialization.solvers.datastructures.ProtoBufSolverDatastructures.PBProofLogReference;
+import com.booleworks.logicng.serialization.solvers.datastructures.ProtoBufSolverDatastructures.PBPropositionBatch;
+import com.booleworks.logicng.serialization.solvers.datastructures.ProtoBufSolverDatastructures.PBPropositionTable;
+import com.booleworks.logicng.serialization.solvers.datastructures.ProtoBufSolverDatastructures.PBVariable;
 import com.booleworks.logicng.serialization.solvers.datastructures.ProtoBufSolverDatastructures.PBVariableVector;
+import com.booleworks.logicng.serialization.solvers.datastructures.ProtoBufSolverDatastructures.PBWatcher;
 import com.booleworks.logicng.serialization.solvers.datastructures.ProtoBufSolverDatastructures.PBWatcherVector;
 import com.booleworks.logicng.serialization.solvers.datastructures.ProtoBufSolverDatastructures.PBWatcherVectorVector;
+import com.booleworks.logicng.serialization.solvers.sat.ProtoBufSolverCommons.PBSatSolverConfig;
 import com.booleworks.logicng.solvers.SATSolver;
+import com.booleworks.logicng.solvers.datastructures.LNGBoundedIntQueue;
+import com.booleworks.logicng.solvers.datastructures.LNGBoundedLongQueue;
 import com.booleworks.logicng.solvers.datastructures.LNGClause;
 import com.booleworks.logicng.solvers.datastructures.LNGVariable;
 import com.booleworks.logicng.solvers.datastructures.LNGWatcher;
 import com.booleworks.logicng.solvers.sat.LNGCoreSolver;
 import com.booleworks.logicng.solvers.sat.LNGCoreSolver.ProofInformation;
+import com.booleworks.logicng.solvers.sat.SATSolverConfig;
 import com.google.protobuf.ByteString;
+import com.google.protobuf.CodedInputStream;
+import com.google.protobuf.CodedOutputStream;
+import com.google.protobuf.Descriptors.FieldDescriptor;
+import com.google.protobuf.ExtensionRegistryLite;
 import com.google.protobuf.InvalidProtocolBufferException;
+import com.google.protobuf.Message;
+import com.google.protobuf.WireFormat;
 
+import java.io.BufferedInputStream;
 import java.io.IOException;
 import java.io.InputStream;
 import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
 import java.nio.file.Files;
 import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
 import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.HashSet;
 import java.util.IdentityHashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
 import java.util.Stack;
 import java.util.TreeMap;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
 import java.util.function.Function;
+import java.util.function.Supplier;
 import java.util.stream.Collectors;
 import java.util.zip.GZIPInputStream;
-import java.util.zip.GZIPOutputStream;
 
 /**
  * A serializer/deserializer for LogicNG SAT solvers.
- * @version 2.5.0
+ * @version 3.0.0
  * @since 2.5.0
  */
 public class SolverSerializer {
+    private static final int LAST_SECTION = PBSatSolver.getDescriptor().getFields().stream()
+            .mapToInt(FieldDescriptor::getNumber).max().orElse(0);
+    private static final int FILE_BUFFER_SIZE = 1 << 16;
+    private static final int[] LARGE_SECTIONS = {
+            PBSatSolver.CLAUSES_FIELD_NUMBER,
+            PBSatSolver.LEARNTS_FIELD_NUMBER,
+            PBSatSolver.WATCHES_FIELD_NUMBER,
+            PBSatSolver.VARS_FIELD_NUMBER,
+            PBSatSolver.WATCHESBIN_FIELD_NUMBER
+    };
+
     private final Function<byte[], Proposition> deserializer;
     private final Function<Proposition, byte[]> serializer;
+    private final PropositionCodecs codecs;
     private final FormulaFactory f;
 
     private SolverSerializer(final FormulaFactory f, final Function<Proposition, byte[]> serializer,
-                             final Function<byte[], Proposition> deserializer) {
+                             final Function<byte[], Proposition> deserializer, final PropositionCodecs codecs) {
         this.deserializer = deserializer;
         this.serializer = serializer;
+        this.codecs = codecs;
         this.f = f;
     }
 
@@ -79,30 +126,42 @@ public class SolverSerializer {
      * @return the solver serializer
      */
     public static SolverSerializer withoutProofs(final FormulaFactory f) {
-        return new SolverSerializer(f, null, null);
+        return new SolverSerializer(f, null, null, null);
     }
 
     /**
      * Generates a new solver serializer for a SAT solver which does serialize proof information
-     * with only standard propositions.
+     * with only standard propositions.  The propositions are encoded with the codec of
+     * {@link PropositionCodecs#standard()}, snapshots with individually encoded standard propositions
+     * can still be read.
      * @param f the formula factory
      * @return the solver serializer
      */
     public static SolverSerializer withStandardPropositions(final FormulaFactory f) {
-        final Function<Proposition, byte[]> serializer = (final Proposition p) -> {
-            if (!(p instanceof StandardProposition)) {
-                throw new IllegalArgumentException("Can only serialize Standard propositions");
-            }
-            return Propositions.serializePropositions((StandardProposition) p).toByteArray();
-        };
-        final Function<byte[], Proposition> deserializer = (final byte[] bs) -> {
+        return new SolverSerializer(f, null, standardPropositionDeserializer(f), PropositionCodecs.standard());
+    }
+
+    /**
+     * Generates a new solver serializer for a SAT solver which does serialize proof information
+     * with the given proposition codecs.  All propositions of one class are encoded in one batch by the
+     * codec registered for this class.  Individually encoded propositions of older snapshots are read as
+     * standard propositions.
+     * @param f      the formula factory
+     * @param codecs the proposition codecs
+     * @return the solver serializer
+     */
+    public static SolverSerializer withPropositionCodecs(final FormulaFactory f, final PropositionCodecs codecs) {
+        return new SolverSerializer(f, null, standardPropositionDeserializer(f), codecs);
+    }
+
+    private static Function<byte[], Proposition> standardPropositionDeserializer(final FormulaFactory f) {
+        return (final byte[] bs) -> {
             try {
                 return Propositions.deserializePropositions(f, ProtoBufPropositions.PBStandardProposition.newBuilder().mergeFrom(bs).build());
             } catch (final InvalidProtocolBufferException e) {
                 throw new IllegalArgumentException("Can only deserialize Standard propositions");
             }
         };
-        return new SolverSerializer(f, serializer, deserializer);
     }
 
     /**
@@ -119,18 +178,19 @@ public class SolverSerializer {
             final Function<Proposition, byte[]> serializer,
             final Function<byte[], Proposition> deserializer
     ) {
-        return new SolverSerializer(f, serializer, deserializer);
+        return new SolverSerializer(f, serializer, deserializer, null);
     }
 
     /**
-     * Serializes a SAT solver to a file.
+     * Serializes a SAT solver to a file.  The file contains a {@link SnapshotHeader} which can be read with
+     * {@link #peek(Path)}.  A compressed file is a valid GZIP file.
      * @param solver   the SAT solver
      * @param path     the file path
      * @param compress a flag whether the file should be compressed (zip)
      * @throws IOException if there is a problem writing the file
      */
     public void serializeSolverToFile(final SATSolver solver, final Path path, final boolean compress) throws IOException {
-        try (final OutputStream outputStream = compress ? new GZIPOutputStream(Files.newOutputStream(path)) : Files.newOutputStream(path)) {
+        try (final OutputStream outputStream = newSnapshotOutputStream(solver, path, compress)) {
             serializeSolverToStream(solver, outputStream);
         }
     }
@@ -145,6 +205,149 @@ public class SolverSerializer {
         serializeSolver(solver).writeTo(stream);
     }
 
+    /**
+     * Serializes a SAT solver to a file.  Independent sections of the solver are encoded concurrently
+     * on the given executor.
+     * @param solver   the SAT solver
+     * @param path     the file path
+     * @param compress a flag whether the file should be compressed (zip)
+     * @param executor the executor for the encoding tasks
+     * @throws IOException if there is a problem writing the file
+     */
+    public void serializeSolverToFile(final SATSolver solver, final Path path, final boolean compress, final Executor executor) throws IOException {
+        try (final OutputStream outputStream = newSnapshotOutputStream(solver, path, compress)) {
+            serializeSolverToStream(solver, outputStream, executor);
+        }
+    }
+
+    private static OutputStream newSnapshotOutputStream(final SATSolver solver, final Path path, final boolean compress) throws IOException {
+        return newSnapshotOutputStream(SnapshotHeader.of(solver.underlyingSolver(), compress), path);
+    }
+
+    private static OutputStream newSnapshotOutputStream(final SnapshotHeader header, final Path path) throws IOException {
+        final OutputStream outputStream = Files.newOutputStream(path);
+        try {
+            return header.newOutputStream(outputStream, FILE_BUFFER_SIZE);
+        } catch (final IOException e) {
+            outputStream.close();
+            throw e;
+        }
+    }
+
+    private static InputStream newSnapshotInputStream(final Path path, final boolean compress) throws IOException {
+        final InputStream inputStream = new BufferedInputStream(Files.newInputStream(path), FILE_BUFFER_SIZE);
+        try {
+            return isCompressed(SnapshotHeader.read(inputStream), compress) ? new GZIPInputStream(inputStream, FILE_BUFFER_SIZE) : inputStream;
+        } catch (final IOException | RuntimeException e) {
+            inputStream.close();
+            throw e;
+        }
+    }
+
+    private static SnapshotHeader readHeader(final Path path) throws IOException {
+        try (final InputStream inputStream = new BufferedInputStream(Files.newInputStream(path))) {
+            return SnapshotHeader.read(inputStream);
+        }
+    }
+
+    private static boolean isCompressed(final SnapshotHeader header, final boolean compress) {
+        return header == null ? compress : header.compressed();
+    }
+
+    /**
+     * Reads the {@link SnapshotHeader} of a solver snapshot file without reading the snapshot itself.
+     * @param path the file path
+     * @return the header
+     * @throws IOException              if there is a problem reading the file
+     * @throws IllegalArgumentException if the file does not start with a snapshot header
+     */
+    public static SnapshotHeader peek(final Path path) throws IOException {
+        final SnapshotHeader header = readHeader(path);
+        if (header == null) {
+            throw new IllegalArgumentException("File has no snapshot header: " + path);
+        }
+        return header;
+    }
+
+    /**
+     * Serializes a SAT solver to a stream.  Independent sections of the solver are encoded concurrently
+     * on the given executor.  The written bytes are identical to the ones of
+     * {@link #serializeSolverToStream(SATSolver, OutputStream)}.
+     * @param solver   the SAT solver
+     * @param stream   the stream
+     * @param executor the executor for the encoding tasks
+     * @throws IOException if there is a problem writing to the stream
+     */
+    public void serializeSolverToStream(final SATSolver solver, final OutputStream stream, final Executor executor) throws IOException {
+        serializeParallel(solver, executor).writeTo(stream);
+    }
+
+    /**
+     * Captures the state of a SAT solver for a later encoding with
+     * {@link #writeCapture(SolverCapture, Path, boolean, Executor)}.  This is the only phase of a snapshot
+     * which requires the solver to be paused, it copies the solver's datastructures to primitive arrays but
+     * does not encode them.
+     * @param solver the SAT solver
+     * @return the captured state
+     */
+    public SolverCapture captureSolver(final SATSolver solver) {
+        return SolverCapture.capture(f, solver.underlyingSolver());
+    }
+
+    /**
+     * Encodes a captured solver state on the given executor and writes it to a file.  The state is written
+     * to a temporary file in the same directory first, which is then atomically moved to the given path.
+     * @param capture  the captured solver state
+     * @param path     the file path
+     * @param compress a flag whether the file should be compressed (zip)
+     * @param executor the executor for the encoding
+     * @return a future which completes when the file was written
+     */
+    public CompletableFuture<Void> writeCapture(final SolverCapture capture, final Path path, final boolean compress, final Executor executor) {
+        return CompletableFuture.runAsync(() -> {
+            try {
+                final PBSatSolver bin = capture.serializeClauseSections(serialize(capture.solver()).toBuilder()).build();
+                final Path temp = createTempFile(path);
+                try {
+                    serializeToFile(bin, temp, compress);
+                    Files.move(temp, path, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+                } finally {
+                    Files.deleteIfExists(temp);
+                }
+            } catch (final IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }, executor);
+    }
+
+    /**
+     * Serializes a SAT solver to a temporary file in the directory of the given path and atomically moves
+     * it to the path afterwards.  Hence, the file at the path always contains a complete solver.
+     * @param solver   the SAT solver
+     * @param path     the file path
+     * @param compress a flag whether the file should be compressed (zip)
+     * @throws IOException if there is a problem writing the file
+     */
+    void serializeSolverToFileAtomically(final SATSolver solver, final Path path, final boolean compress) throws IOException {
+        final Path temp = createTempFile(path);
+        try {
+            serializeSolverToFile(solver, temp, compress);
+            Files.move(temp, path, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+        } finally {
+            Files.deleteIfExists(temp);
+        }
+    }
+
+    private static Path createTempFile(final Path path) throws IOException {
+        return Files.createTempFile(path.toAbsolutePath().getParent(), path.getFileName().toString(), ".tmp");
+    }
+
+    private static void serializeToFile(final PBSatSolver bin, final Path path, final boolean compress) throws IOException {
+        try (final OutputStream outputStream = newSnapshotOutputStream(SnapshotHeader.of(bin, compress), path)) {
+            bin.writeTo(outputStream);
+        }
+    }
+
     /**
      * Serializes a SAT solver to a protocol buffer.
      * @param solver the SAT solver
@@ -155,28 +358,145 @@ public class SolverSerializer {
     }
 
     /**
-     * Deserializes a Sat solver from a file.
+     * Serializes a SAT solver with proof generation whose proof is written to a proof log.  The proof steps
+     * recorded by the solver are first drained to the log, so the protocol buffer contains no proof steps
+     * but a reference to the current end of the log.  The steps can be loaded back into a restored solver
+     * with {@link ProofLog#load(SATSolver, PBProofLogReference)}.
+     * @param solver the SAT solver
+     * @param log    the proof log of the solver
+     * @return the protocol buffer
+     * @throws IOException if there is a problem writing the proof log
+     */
+    public PBSatSolver serializeSolver(final SATSolver solver, final ProofLog log) throws IOException {
+        log.drain(solver);
+        return serialize(solver).toBuilder().setProofLog(log.reference()).build();
+    }
+
+    /**
+     * Serializes a SAT solver to a compact protocol buffer normalized to decision level 0.  The
+     * assignments above level 0 and the transient search state are discarded, and clauses which are
+     * satisfied at level 0 are removed.  The restored solver behaves like the original solver after its
+     * last SAT call.  Clauses are only removed if the solver has no saved states and does not generate
+     * proofs.
+     * @param solver the SAT solver
+     * @return the normalized protocol buffer
+     */
+    public PBSatSolver serializeSolverNormalized(final SATSolver solver) {
+        return SolverNormalizer.normalize(serialize(solver));
+    }
+
+    /**
+     * Serializes a SAT solver normalized to decision level 0 like {@link #serializeSolverNormalized(SATSolver)}
+     * to a file.  The {@link SnapshotHeader} of the file describes the normalized solver, not the given one.
+     * @param solver   the SAT solver
      * @param path     the file path
      * @param compress a flag whether the file should be compressed (zip)
+     * @throws IOException if there is a problem writing the file
+     */
+    public void serializeSolverNormalizedToFile(final SATSolver solver, final Path path, final boolean compress) throws IOException {
+        serializeToFile(serializeSolverNormalized(solver), path, compress);
+    }
+
+    /**
+     * Deserializes a Sat solver from a file.  Uncompressed files are memory-mapped and decoded directly
+     * from the mapped buffer.  Files with and without a {@link SnapshotHeader} can be read.  Whether a file
+     * with a header is compressed is read from its header.
+     * @param path     the file path
+     * @param compress a flag whether a file without header is compressed (zip)
      * @return the solver
      * @throws IOException if there is a problem reading the file
      */
     public SATSolver deserializeSatSolverFromFile(final Path path, final boolean compress) throws IOException {
-        try (final InputStream inputStream = compress ? new GZIPInputStream(Files.newInputStream(path)) : Files.newInputStream(path)) {
-            return deserializeMiniSatFromStream(inputStream);
+        try {
+            if (!isCompressed(readHeader(path), compress)) {
+                return deserializeSatSolverFromMappedFile(path);
+            }
+            try (final InputStream inputStream = newSnapshotInputStream(path, true)) {
+                return deserializeSatSolverFromStreamSectioned(inputStream);
+            }
+        } catch (final NonCanonicalSectionException e) {
+            try (final InputStream inputStream = newSnapshotInputStream(path, compress)) {
+                return deserialize(PBSatSolver.parseFrom(inputStream));
+            }
+        }
+    }
+
+    private SATSolver deserializeSatSolverFromMappedFile(final Path path) throws IOException {
+        try (final FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            final long size = channel.size();
+            if (size > Integer.MAX_VALUE) {
+                try (final InputStream inputStream = new BufferedInputStream(Channels.newInputStream(channel), FILE_BUFFER_SIZE)) {
+                    return deserializeSatSolverFromStreamSectioned(inputStream);
+                }
+            }
+            final MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, size);
+            return deserializeSections(CodedInputStream.newInstance(buffer));
         }
     }
 
     /**
-     * Deserializes a SAT solver from a stream.
+     * Deserializes a SAT solver from a stream.  The complete protocol buffer is parsed before the solver
+     * is built, so any valid encoding is accepted.
      * @param stream the stream
      * @return the solver
      * @throws IOException if there is a problem reading from the stream
+     * @see #deserializeSatSolverFromStreamSectioned(InputStream)
      */
     public SATSolver deserializeMiniSatFromStream(final InputStream stream) throws IOException {
         return deserializeSatSolver(PBSatSolver.newBuilder().mergeFrom(stream).build());
     }
 
+    /**
+     * Deserializes a SAT solver from a stream.  The solver is built section by section while reading,
+     * so the complete protocol buffer is never held in memory.
+     * <p>
+     * Only messages with their fields in canonical order are accepted, as they are written by this
+     * serializer.  A field may occur several times in a row, but not after a field with a higher number.
+     * Messages of other writers, e.g. concatenated messages, can be read with
+     * {@link #deserializeMiniSatFromStream(InputStream)}.  The file variants fall back to this automatically.
+     * @param stream the stream
+     * @return the solver
+     * @throws IOException              if there is a problem reading from the stream
+     * @throws IllegalArgumentException if the fields of the message are not in canonical order
+     */
+    public SATSolver deserializeSatSolverFromStreamSectioned(final InputStream stream) throws IOException {
+        return deserializeSections(CodedInputStream.newInstance(stream));
+    }
+
+    /**
+     * Deserializes a SAT solver from a file.  The file is read section by section like by
+     * {@link #deserializeSatSolverFromStreamSectioned(InputStream)}.  As soon as the watches, the variables, or the
+     * binary watches are read, they are decoded on the given executor while the following sections are
+     * read and restored on the calling thread.  Reading the bytes of a section is never parallel, only
+     * their decoding into the solver's datastructures.
+     * @param path     the file path
+     * @param compress a flag whether a file without header is compressed (zip)
+     * @param executor the executor for the decoding tasks
+     * @return the solver
+     * @throws IOException if there is a problem reading the file
+     */
+    public SATSolver deserializeSatSolverFromFile(final Path path, final boolean compress, final Executor executor) throws IOException {
+        try (final InputStream inputStream = newSnapshotInputStream(path, compress)) {
+            return deserializeSections(CodedInputStream.newInstance(inputStream), executor);
+        } catch (final NonCanonicalSectionException e) {
+            try (final InputStream inputStream = newSnapshotInputStream(path, compress)) {
+                return deserializeSatSolver(PBSatSolver.parseFrom(inputStream), executor);
+            }
+        }
+    }
+
+    /**
+     * Deserializes a SAT solver from a protocol buffer.  The watches, the binary watches, and the variables
+     * are decoded concurrently on the given executor.  The result is the same as for
+     * {@link #deserializeSatSolver(PBSatSolver)}.
+     * @param bin      the protocol buffer
+     * @param executor the executor for the decoding tasks
+     * @return the solver
+     */
+    public SATSolver deserializeSatSolver(final PBSatSolver bin, final Executor executor) {
+        return deserializeParallel(bin, executor);
+    }
+
     /**
      * Deserializes a SAT solver from a protocol buffer.
      * @param bin the protocol buffer
@@ -186,153 +506,1024 @@ public class SolverSerializer {
         return deserialize(bin);
     }
 
+    /**
+     * Deserializes a SAT solver from a protocol buffer with another configuration.  The configuration must
+     * be compatible with the serialized one, i.e. agree on proof generation, at-most clauses, and the CNF
+     * method, and the initial variable activity increment cannot be changed.  All other search settings like
+     * the restart strategy, the variable decay, the initial phase, or the clause database reduction are taken
+     * from the given configuration.  Settings which the solver only reads on its construction are applied to
+     * the restored state: if the variable decay is changed, the solver's current variable decay is reset to the
+     * new value; if the size of the LBD or trail queue is changed, the queue is replaced by an empty queue of
+     * the new size, like it is cleared on a restart; and if the number of conflicts before the first clause
+     * database reduction is changed, the current reduction limit is shifted by the difference.
+     * @param bin    the protocol buffer
+     * @param config the configuration for the solver
+     * @return the solver
+     * @throws IllegalArgumentException if the configuration is not compatible with the serialized one
+     */
+    public SATSolver deserializeSatSolver(final PBSatSolver bin, final SATSolverConfig config) {
+        return deserialize(withConfig(bin, config));
+    }
+
+    /**
+     * Deserializes a portfolio of SAT solvers from one protocol buffer, one solver for each of the given
+     * configurations.  The solvers are decoded concurrently on the given executor.
+     * @param bin      the protocol buffer
+     * @param configs  the configurations of the solvers
+     * @param executor the executor for the decoding tasks
+     * @return the solvers in the order of the configurations
+     * @throws IllegalArgumentException if a configuration is not compatible with the serialized one
+     */
+    public List<SATSolver> deserializeSatSolvers(final PBSatSolver bin, final List<SATSolverConfig> configs, final Executor executor) {
+        final List<PBSatSolver> bins = configs.stream().map(config -> withConfig(bin, config)).collect(Collectors.toList());
+        final List<CompletableFuture<SATSolver>> solvers = bins.stream()
+                .map(b -> CompletableFuture.supplyAsync(() -> deserialize(b), executor))
+                .collect(Collectors.toList());
+        return solvers.stream().map(SolverSerializer::join).collect(Collectors.toList());
+    }
+
+    private static PBSatSolver withConfig(final PBSatSolver bin, final SATSolverConfig config) {
+        SatSolverConfigs.checkCompatibleConfig(bin.getConfig(), config);
+        final PBSatSolverConfig serialized = bin.getConfig();
+        final PBSatSolverConfig binConfig = SatSolverConfigs.serializeSatSolverConfig(config);
+        final PBSatSolver.Builder builder = bin.toBuilder().setConfig(binConfig);
+        if (binConfig.getVarDecay() != serialized.getVarDecay()) {
+            builder.setVarDecay(binConfig.getVarDecay());
+        }
+        if (binConfig.getSizeLBDQueue() != serialized.getSizeLBDQueue()) {
+            final int size = binConfig.getSizeLBDQueue();
+            builder.setLbdQueue(serializeLongQueue(new LNGBoundedLongQueue(new LNGLongVector(new long[size], size), 0, 0, 0, size, 0)));
+        }
+        if (binConfig.getSizeTrailQueue() != serialized.getSizeTrailQueue()) {
+            final int size = binConfig.getSizeTrailQueue();
+            builder.setTrailQueue(serializeIntQueue(new LNGBoundedIntQueue(new LNGIntVector(new int[size], size), 0, 0, 0, size, 0)));
+        }
+        if (binConfig.getFirstReduceDB() != serialized.getFirstReduceDB()) {
+            final int shift = binConfig.getFirstReduceDB() - serialized.getFirstReduceDB();
+            builder.setNbClausesBeforeReduce(Math.max(1, bin.getNbClausesBeforeReduce() + shift));
+        }
+        return builder.build();
+    }
+
+    /**
+     * Imports learnt clauses exported by a {@link LearntClauseExporter} of another solver.  The literals are
+     * mapped to the solver's variables by their names, clauses with variables unknown to the solver or with
+     * auxiliary variables of the solver are skipped.  The clauses are added as learnt clauses with their
+     * exported LBD, so the solver's clause database reduction may delete them again.  Each clause is attached
+     * with respect to the solver's current assignment on decision level 0.
+     * <p>
+     * Learnt clauses are only implied by the original clauses of the solver which learnt them.  Therefore,
+     * both solvers must have exactly the same original clauses, in particular the same formulas must have
+     * been added to them with the same variable names.  Otherwise, the imported clauses can render the solver
+     * incorrect.  The solver must not be within a SAT call and must not generate proofs.
+     * @param solver the solver
+     * @param bin    the learnt clauses
+     * @return the number of imported clauses
+     * @throws IllegalArgumentException if the solver is within a SAT call or generates proofs, or if a literal
+     *                                  refers to an unknown variable index
+     */
+    public int importLearntClauses(final SATSolver solver, final PBLearntClauses bin) {
+        final LNGCoreSolver core = solver.underlyingSolver();
+        if (core.config().proofGeneration()) {
+            throw new IllegalArgumentException("Cannot import learnt clauses into a solver with proof generation");
+        }
+        for (final int literal : bin.getLiteralsList()) {
+            if (literal < -bin.getVariableCount() || literal > bin.getVariableCount()) {
+                throw new IllegalArgumentException("Unknown variable index in learnt clause: " + literal);
+            }
+        }
+        final LearntAttacher attacher = new LearntAttacher(core);
+        final Map<String, Integer> name2idx = getField(core, "name2idx");
+        final int[] indices = new int[bin.getVariableCount()];
+        for (int i = 0; i < indices.length; i++) {
+            final String name = bin.getVariable(i);
+            indices[i] = LearntClauseExporter.isAuxiliary(name) ? -1 : name2idx.getOrDefault(name, -1);
+        }
+        final int learntOnState = getField(core, "nextStateId");
+        int imported = 0;
+        int clauseIndex = 0;
+        LNGIntVector clause = new LNGIntVector();
+        boolean known = true;
+        for (final int literal : bin.getLiteralsList()) {
+            if (literal == 0) {
+                if (known) {
+                    final long lbd = clauseIndex < bin.getLbdCount() ? bin.getLbd(clauseIndex) : clause.size();
+                    attacher.attach(new LNGClause(clause, learntOnState, false, 0, false, lbd, true, false, -1));
+                    imported++;
+                }
+                clauseIndex++;
+                clause = new LNGIntVector();
+                known = true;
+            } else {
+                final int index = indices[Math.abs(literal) - 1];
+                known &= index != -1;
+                clause.push(LNGCoreSolver.mkLit(index, literal < 0));
+            }
+        }
+        return imported;
+    }
+
+    /**
+     * Adds serialized formulas to a SAT solver.  Formulas in the clause encoding of
+     * {@link Formulas#serializeCnfFormulas(java.util.Collection)} are added clause by clause directly to the
+     * underlying solver, without creating formulas in the formula factory.  Other formulas are deserialized
+     * with the solver's formula factory and added as usual.  Since the clauses are added without
+     * propositions, formulas in the clause encoding cannot be added to a solver with proof generation.
+     * @param solver the solver
+     * @param bin    the serialized formulas
+     * @throws IllegalArgumentException if the solver is within a SAT call, or if the formulas are in the
+     *                                  clause encoding and the solver generates proofs
+     */
+    public void addFormulas(final SATSolver solver, final PBFormulas bin) {
+        if (!bin.hasCnf()) {
+            solver.add(Formulas.deserializeFormulaList(solver.factory(), bin));
+            return;
+        }
+        final LNGCoreSolver core = coreForLoading(solver);
+        checkNoProofGeneration(core);
+        final PBCnfFormulas cnf = bin.getCnf();
+        final LNGIntVector indices = new LNGIntVector(cnf.getVariableCount());
+        for (final String variable : cnf.getVariableList()) {
+            indices.push(varIndexForLoading(core, variable));
+        }
+        LNGIntVector clause = new LNGIntVector();
+        for (final int literal : cnf.getLiteralList()) {
+            clause = addLiteralForLoading(core, indices, clause, literal);
+        }
+    }
+
+    /**
+     * Adds serialized formulas from a stream to a SAT solver.  The stream must contain a {@link PBFormulas}
+     * message.  Formulas in the clause encoding are streamed clause by clause directly into the underlying
+     * solver, neither the protocol buffer nor formulas in the formula factory are created for them.  Other
+     * formulas are deserialized with the solver's formula factory and added as usual.  Formulas in the
+     * clause encoding cannot be added to a solver with proof generation.
+     * @param solver the solver
+     * @param stream the stream
+     * @throws IOException              if there is a problem reading from the stream
+     * @throws IllegalArgumentException if the solver is within a SAT call, or if the formulas are in the
+     *                                  clause encoding and the solver generates proofs
+     */
+    public void addFormulasFromStream(final SATSolver solver, final InputStream stream) throws IOException {
+        final LNGCoreSolver core = coreForLoading(solver);
+        final CodedInputStream input = CodedInputStream.newInstance(stream);
+        input.setSizeLimit(Integer.MAX_VALUE);
+        final PBFormulas.Builder dag = PBFormulas.newBuilder();
+        int tag;
+        while ((tag = input.readTag()) != 0) {
+            switch (WireFormat.getTagFieldNumber(tag)) {
+                case PBFormulas.CNF_FIELD_NUMBER:
+                    checkNoProofGeneration(core);
+                    final int limit = input.pushLimit(input.readRawVarint32());
+                    addCnfFromStream(core, input);
+                    input.popLimit(limit);
+                    break;
+                case PBFormulas.ID_FIELD_NUMBER:
+                    if (WireFormat.getTagWireType(tag) == WireFormat.WIRETYPE_LENGTH_DELIMITED) {
+                        final int idLimit = input.pushLimit(input.readRawVarint32());
+                        while (input.getBytesUntilLimit() > 0) {
+                            dag.addId(input.readInt32());
+                        }
+                        input.popLimit(idLimit);
+                    } else {
+                        dag.addId(input.readInt32());
+                    }
+                    break;
+                case PBFormulas.MAPPING_FIELD_NUMBER:
+                    input.readMessage(dag.getMappingBuilder(), ExtensionRegistryLite.getEmptyRegistry());
+                    break;
+                default:
+                    input.skipField(tag);
+            }
+        }
+        if (dag.getIdCount() > 0) {
+            solver.add(Formulas.deserializeFormulaList(solver.factory(), dag.build()));
+        }
+    }
+
+    private static void addCnfFromStream(final LNGCoreSolver core, final CodedInputStream input) throws IOException {
+        final LNGIntVector indices = new LNGIntVector();
+        LNGIntVector clause = new LNGIntVector();
+        int tag;
+        while ((tag = input.readTag()) != 0) {
+            switch (WireFormat.getTagFieldNumber(tag)) {
+                case PBCnfFormulas.VARIABLE_FIELD_NUMBER:
+                    indices.push(varIndexForLoading(core, input.readStringRequireUtf8()));
+                    break;
+                case PBCnfFormulas.LITERAL_FIELD_NUMBER:
+                    if (WireFormat.getTagWireType(tag) == WireFormat.WIRETYPE_LENGTH_DELIMITED) {
+                        final int limit = input.pushLimit(input.readRawVarint32());
+                        while (input.getBytesUntilLimit() > 0) {
+                            clause = addLiteralForLoading(core, indices, clause, input.readSInt32());
+                        }
+                        input.popLimit(limit);
+                    } else {
+                        clause = addLiteralForLoading(core, indices, clause, input.readSInt32());
+                    }
+                    break;
+                default:
+                    input.skipField(tag);
+            }
+        }
+    }
+
+    private static LNGCoreSolver coreForLoading(final SATSolver solver) {
+        final LNGCoreSolver core = solver.underlyingSolver();
+        if (getField(core, "inSatCall")) {
+            throw new IllegalArgumentException("Cannot add formulas to a solver within a SAT call");
+        }
+        return core;
+    }
+
+    private static void checkNoProofGeneration(final LNGCoreSolver core) {
+        if (core.config().proofGeneration()) {
+            throw new IllegalArgumentException("Cannot add formulas in the clause encoding to a solver with proof generation");
+        }
+    }
+
+    private static int varIndexForLoading(final LNGCoreSolver core, final String name) {
+        int index = core.idxForName(name);
+        if (index == -1) {
+            index = core.newVar(!core.config().initialPhase(), true);
+            core.addName(name, index);
+        }
+        return index;
+    }
+
+    private static LNGIntVector addLiteralForLoading(final LNGCoreSolver core, final LNGIntVector indices, final LNGIntVector clause,
+                                                     final int literal) {
+        if (literal == 0) {
+            core.addClause(clause, null);
+            return new LNGIntVector();
+        }
+        final int variable = Math.abs(literal) - 1;
+        if (variable >= indices.size()) {
+            throw new IllegalArgumentException("Unknown variable index in clause: " + literal);
+        }
+        clause.push(LNGCoreSolver.mkLit(indices.get(variable), literal < 0));
+        return clause;
+    }
+
+    /**
+     * Serializes SAT solvers which were all built from the same base solver to a container.  The
+     * configuration, the variable names, and the original clauses of the base solver are stored once,
+     * each solver only stores an overlay with its own state and the original clauses which differ from
+     * the base.  An original clause with the same literals as the base clause with the same ID only stores
+     * its metadata like activity and LBD if they differ from the base clause.  The configuration is only
+     * stored in an overlay if it differs from the configuration of the base solver.
+     * @param base    the base solver
+     * @param solvers the solvers
+     * @return the container
+     */
+    public PBSolverContainer serializeSolverContainer(final SATSolver base, final List<SATSolver> solvers) {
+        final PBSatSolver baseBin = serialize(base);
+        final PBSatSolver sharedBase = PBSatSolver.newBuilder()
+                .setConfig(baseBin.getConfig())
+                .putAllName2Idx(baseBin.getName2IdxMap())
+                .setClauses(baseBin.getClauses())
+                .build();
+        final PBSolverContainer.Builder builder = PBSolverContainer.newBuilder().setBase(sharedBase);
+        for (final SATSolver solver : solvers) {
+            builder.addOverlay(serializeOverlay(sharedBase, serialize(solver)));
+        }
+        return builder.build();
+    }
+
+    /**
+     * Serializes SAT solvers which were all built from the same base solver to a container file.
+     * @param base    the base solver
+     * @param solvers the solvers
+     * @param path    the file path
+     * @throws IOException if there is a problem writing the file
+     * @see #serializeSolverContainer(SATSolver, List)
+     */
+    public void serializeSolverContainerToFile(final SATSolver base, final List<SATSolver> solvers, final Path path) throws IOException {
+        try (final OutputStream outputStream = Files.newOutputStream(path)) {
+            serializeSolverContainer(base, solvers).writeTo(outputStream);
+        }
+    }
+
+    /**
+     * Deserializes a single SAT solver from a container.
+     * @param container the container
+     * @param index     the index of the solver in the container
+     * @return the solver
+     * @throws IllegalArgumentException if the container has no solver with the given index
+     */
+    public SATSolver deserializeSatSolver(final PBSolverContainer container, final int index) {
+        if (index < 0 || index >= container.getOverlayCount()) {
+            throw new IllegalArgumentException("Container has no solver with index " + index);
+        }
+        return deserialize(mergeOverlay(container.getBase(), container.getOverlay(index)));
+    }
+
+    /**
+     * Deserializes a single SAT solver from a container file.  Only the base and the overlay of the
+     * solver are decoded, the overlays of all other solvers are skipped.
+     * @param path  the file path
+     * @param index the index of the solver in the container
+     * @return the solver
+     * @throws IOException if there is a problem reading the file
+     * @throws IllegalArgumentException if the container has no solver with the given index
+     */
+    public SATSolver deserializeSatSolverFromContainerFile(final Path path, final int index) throws IOException {
+        try (final InputStream inputStream = new BufferedInputStream(Files.newInputStream(path), FILE_BUFFER_SIZE)) {
+            final CodedInputStream input = CodedInputStream.newInstance(inputStream);
+            PBSatSolver base = PBSatSolver.getDefaultInstance();
+            PBSolverOverlay overlay = null;
+            int overlays = 0;
+            int tag;
+            while ((tag = input.readTag()) != 0) {
+                final int field = WireFormat.getTagFieldNumber(tag);
+                if (field == PBSolverContainer.BASE_FIELD_NUMBER) {
+                    base = input.readMessage(PBSatSolver.parser(), ExtensionRegistryLite.getEmptyRegistry());
+                } else if (field == PBSolverContainer.OVERLAY_FIELD_NUMBER && overlays++ == index) {
+                    overlay = input.readMessage(PBSolverOverlay.parser(), ExtensionRegistryLite.getEmptyRegistry());
+                } else {
+                    input.skipField(tag);
+                }
+            }
+            if (overlay == null) {
+                throw new IllegalArgumentException("Container has no solver with index " + index);
+            }
+            return deserialize(mergeOverlay(base, overlay));
+        }
+    }
+
+    private static PBSolverOverlay serializeOverlay(final PBSatSolver base, final PBSatSolver bin) {
+        final PBSolverOverlay.Builder overlay = PBSolverOverlay.newBuilder().setNumClauses(bin.getClauses().getElementCount());
+        final PBSatSolver.Builder solver = bin.toBuilder().clearName2Idx();
+        if (bin.getConfig().equals(base.getConfig())) {
+            solver.clearConfig();
+        }
+        final List<PBClause> baseClauses = base.getClauses().getElementList();
+        final PBClauseVector.Builder clauses = PBClauseVector.newBuilder();
+        for (final PBClause clause : bin.getClauses().getElementList()) {
+            final PBClause baseClause = clause.getId() < baseClauses.size() ? baseClauses.get(clause.getId()) : null;
+            if (baseClause == null || !sameLiterals(clause, baseClause)) {
+                clauses.addElement(clause);
+            } else if (!clause.equals(baseClause)) {
+                overlay.addClauseMetadata(PBClauseMetadata.newBuilder()
+                        .setId(clause.getId())
+                        .setLearntOnState(clause.getLearntOnState())
+                        .setActivity(clause.getActivity())
+                        .setSeen(clause.getSeen())
+                        .setLbd(clause.getLbd())
+                        .setCanBeDel(clause.getCanBeDel())
+                        .setOneWatched(clause.getOneWatched())
+                        .setAtMostWatchers(clause.getAtMostWatchers()));
+            }
+        }
+        solver.setClauses(clauses);
+        final Map<String, Integer> baseNames = base.getName2IdxMap();
+        final Map<String, Integer> names = bin.getName2IdxMap();
+        if (baseNames.entrySet().stream().allMatch(e -> e.getValue().equals(names.get(e.getKey())))) {
+            names.forEach((name, idx) -> {
+                if (!baseNames.containsKey(name)) {
+                    solver.putName2Idx(name, idx);
+                }
+            });
+        } else {
+            overlay.setOwnName2Idx(true);
+            solver.putAllName2Idx(names);
+        }
+        return overlay.setSolver(solver).build();
+    }
+
+    private static PBSatSolver mergeOverlay(final PBSatSolver base, final PBSolverOverlay overlay) {
+        final PBSatSolver bin = overlay.getSolver();
+        final Map<Integer, PBClause> ownClauses = new HashMap<>();
+        for (final PBClause clause : bin.getClauses().getElementList()) {
+            ownClauses.put(clause.getId(), clause);
+        }
+        final Map<Integer, PBClauseMetadata> metadata = new HashMap<>();
+        for (final PBClauseMetadata clauseMetadata : overlay.getClauseMetadataList()) {
+            metadata.put(clauseMetadata.getId(), clauseMetadata);
+        }
+        final PBClauseVector.Builder clauses = PBClauseVector.newBuilder();
+        for (int id = 0; id < overlay.getNumClauses(); id++) {
+            final PBClause clause = ownClauses.get(id);
+            final PBClauseMetadata clauseMetadata = metadata.get(id);
+            if (clause != null) {
+                clauses.addElement(clause);
+            } else if (clauseMetadata != null) {
+                clauses.addElement(base.getClauses().getElement(id).toBuilder()
+                        .setLearntOnState(clauseMetadata.getLearntOnState())
+                        .setActivity(clauseMetadata.getActivity())
+                        .setSeen(clauseMetadata.getSeen())
+                        .setLbd(clauseMetadata.getLbd())
+                        .setCanBeDel(clauseMetadata.getCanBeDel())
+                        .setOneWatched(clauseMetadata.getOneWatched())
+                        .setAtMostWatchers(clauseMetadata.getAtMostWatchers()));
+            } else {
+                clauses.addElement(base.getClauses().getElement(id));
+            }
+        }
+        final PBSatSolver.Builder builder = bin.toBuilder().setClauses(clauses);
+        if (!bin.hasConfig()) {
+            builder.setConfig(base.getConfig());
+        }
+        if (!overlay.getOwnName2Idx()) {
+            builder.putAllName2Idx(base.getName2IdxMap());
+        }
+        return builder.build();
+    }
+
+    private static boolean sameLiterals(final PBClause clause, final PBClause baseClause) {
+        return clause.getIsAtMost() == baseClause.getIsAtMost() && clause.getData().equals(baseClause.getData());
+    }
+
     PBSatSolver serialize(final SATSolver solver) {
         final var core = solver.underlyingSolver();
-        final LNGVector<LNGClause> clauses = getField(core, "clauses");
-        final LNGVector<LNGClause> learnts = getField(core, "learnts");
-        final IdentityHashMap<LNGClause, Integer> clauseMap = generateClauseMap(clauses, learnts);
+        final IdentityHashMap<LNGClause, Integer> clauseMap = generateClauseMap(getField(core, "clauses"), getField(core, "learnts"));
+        final PropositionTable propositions = new PropositionTable(core);
         final PBSatSolver.Builder builder = PBSatSolver.newBuilder();
+        serializeSections(core, clauseMap, propositions, 1, LAST_SECTION, builder);
+        return builder.build();
+    }
 
-        builder.setConfig(SatSolverConfigs.serializeSatSolverConfig(getField(core, "config")));
-        builder.setInSatCall(getField(core, "inSatCall"));
-        builder.putAllName2Idx(getField(core, "name2idx"));
-        builder.setValidStates(serializeIntVec(getField(core, "validStates")));
-        builder.setNextStateId(getField(core, "nextStateId"));
-        builder.setOk(getField(core, "ok"));
-        builder.setQhead(getField(core, "qhead"));
-        builder.setUnitClauses(serializeIntVec(getField(core, "unitClauses")));
-        builder.setClauses(serializeClauseVec(clauses, clauseMap));
-        builder.setLearnts(serializeClauseVec(learnts, clauseMap));
-        builder.setWatches(serializeWatches(getField(core, "watches"), clauseMap));
-        builder.setVars(serializeVarVec(getField(core, "vars"), clauseMap));
-        builder.setOrderHeap(SolverDatastructures.serializeHeap(getField(core, "orderHeap")));
-        builder.setTrail(serializeIntVec(getField(core, "trail")));
-        builder.setTrailLim(serializeIntVec(getField(core, "trailLim")));
-        builder.setModel(serializeBoolVec(getField(core, "model")));
-        builder.setAssumptionConflict(serializeIntVec(getField(core, "assumptionsConflict")));
-        builder.setAssumptions(serializeIntVec(getField(core, "assumptions")));
-        builder.addAllAssumptionPropositions(serializeProps(getField(core, "assumptionPropositions")));
-        builder.setSeen(serializeBoolVec(getField(core, "seen")));
-        builder.setAnalyzeBtLevel(getField(core, "analyzeBtLevel"));
-        builder.setClaInc(getField(core, "claInc"));
-        builder.setVarInc(getField(core, "varInc"));
-        builder.setVarDecay(getField(core, "varDecay"));
-        builder.setClausesLiterals(getField(core, "clausesLiterals"));
-        builder.setLearntsLiterals(getField(core, "learntsLiterals"));
-        builder.setCanceledByHandler(getField(core, "canceledByHandler"));
-
-        final LNGVector<LNGIntVector> pgProof = getField(core, "pgProof");
-        if (pgProof != null) {
-            builder.setPgProof(Collections.serializeVec(pgProof));
-        }
-        final LNGVector<ProofInformation> pgOriginalClauses = getField(core, "pgOriginalClauses");
-        if (pgOriginalClauses != null) {
-            for (final ProofInformation oc : pgOriginalClauses) {
-                builder.addPgOriginalClauses(serialize(oc));
-            }
-        }
-
-        builder.setComputingBackbone(getField(core, "computingBackbone"));
-        final Stack<Integer> backboneCandidates = getField(core, "backboneCandidates");
-        if (backboneCandidates != null) {
-            builder.setBackboneCandidates(serializeStack(backboneCandidates));
-        }
-        final LNGIntVector backboneAssumptions = getField(core, "backboneAssumptions");
-        if (backboneAssumptions != null) {
-            builder.setBackboneAssumptions(serializeIntVec(backboneAssumptions));
-        }
-        final HashMap<Integer, Tristate> backboneMap = getField(core, "backboneMap");
-        if (backboneMap != null) {
-            builder.putAllBackboneMap(serializeBbMap(backboneMap));
-        }
-
-        builder.setSelectionOrder(serializeIntVec(getField(core, "selectionOrder")));
-        builder.setSelectionOrderIdx(getField(core, "selectionOrderIdx"));
-
-        builder.setWatchesBin(serializeWatches(getField(core, "watchesBin"), clauseMap));
-        builder.setPermDiff(serializeIntVec(getField(core, "permDiff")));
-        builder.setLastDecisionLevel(serializeIntVec(getField(core, "lastDecisionLevel")));
-        builder.setLbdQueue(serializeLongQueue(getField(core, "lbdQueue")));
-        builder.setTrailQueue(serializeIntQueue(getField(core, "trailQueue")));
-        builder.setMyflag(getField(core, "myflag"));
-        builder.setAnalyzeLBD(getField(core, "analyzeLBD"));
-        builder.setNbClausesBeforeReduce(getField(core, "nbClausesBeforeReduce"));
-        builder.setConflicts(getField(core, "conflicts"));
-        builder.setConflictsRestarts(getField(core, "conflictsRestarts"));
-        builder.setSumLBD(getField(core, "sumLBD"));
-        builder.setCurRestart(getField(core, "curRestart"));
+    /**
+     * Serializes a SAT solver by encoding independent groups of sections concurrently on the given executor.
+     * The clauses, the learnts, the watches, the binary watches, and the variables are encoded as separate
+     * tasks, the remaining small sections are grouped by their field number.  Since a protocol buffer message
+     * is the concatenation of its encoded fields, the encoded groups are concatenated in field order and
+     * yield exactly the bytes of {@link #serializeSolver(SATSolver)}.
+     * @param solver   the SAT solver
+     * @param executor the executor for the encoding tasks
+     * @return the encoded {@link PBSatSolver}
+     */
+    ByteString serializeParallel(final SATSolver solver, final Executor executor) {
+        final var core = solver.underlyingSolver();
+        final IdentityHashMap<LNGClause, Integer> clauseMap = generateClauseMap(getField(core, "clauses"), getField(core, "learnts"));
+        final PropositionTable propositions = new PropositionTable(core);
+        final List<CompletableFuture<ByteString>> groups = new ArrayList<>();
+        int from = 1;
+        for (final int section : LARGE_SECTIONS) {
+            if (from < section) {
+                groups.add(serializeSectionsAsync(core, clauseMap, propositions, from, section - 1, executor));
+            }
+            groups.add(serializeSectionsAsync(core, clauseMap, propositions, section, section, executor));
+            from = section + 1;
+        }
+        groups.add(serializeSectionsAsync(core, clauseMap, propositions, from, LAST_SECTION, executor));
+        ByteString result = ByteString.EMPTY;
+        for (final CompletableFuture<ByteString> group : groups) {
+            result = result.concat(join(group));
+        }
+        return result;
+    }
 
-        return builder.build();
+    private CompletableFuture<ByteString> serializeSectionsAsync(final LNGCoreSolver core, final IdentityHashMap<LNGClause, Integer> clauseMap,
+                                                                 final PropositionTable propositions, final int from, final int to,
+                                                                 final Executor executor) {
+        return CompletableFuture.supplyAsync(() -> {
+            final PBSatSolver.Builder builder = PBSatSolver.newBuilder();
+            serializeSections(core, clauseMap, propositions, from, to, builder);
+            return builder.build().toByteString();
+        }, executor);
+    }
+
+    private void serializeSections(final LNGCoreSolver core, final IdentityHashMap<LNGClause, Integer> clauseMap,
+                                   final PropositionTable propositions, final int from, final int to, final PBSatSolver.Builder builder) {
+        for (int field = from; field <= to; field++) {
+            serializeSection(core, clauseMap, propositions, field, builder);
+        }
+    }
+
+    private void serializeSection(final LNGCoreSolver core, final IdentityHashMap<LNGClause, Integer> clauseMap,
+                                  final PropositionTable propositions, final int field, final PBSatSolver.Builder builder) {
+        switch (field) {
+            case PBSatSolver.CONFIG_FIELD_NUMBER:
+                builder.setConfig(SatSolverConfigs.serializeSatSolverConfig(getField(core, "config")));
+                break;
+            case PBSatSolver.INSATCALL_FIELD_NUMBER:
+                builder.setInSatCall(getField(core, "inSatCall"));
+                break;
+            case PBSatSolver.NAME2IDX_FIELD_NUMBER:
+                builder.putAllName2Idx(getField(core, "name2idx"));
+                break;
+            case PBSatSolver.VALIDSTATES_FIELD_NUMBER:
+                builder.setValidStates(serializeIntVec(getField(core, "validStates")));
+                break;
+            case PBSatSolver.NEXTSTATEID_FIELD_NUMBER:
+                builder.setNextStateId(getField(core, "nextStateId"));
+                break;
+            case PBSatSolver.OK_FIELD_NUMBER:
+                builder.setOk(getField(core, "ok"));
+                break;
+            case PBSatSolver.QHEAD_FIELD_NUMBER:
+                builder.setQhead(getField(core, "qhead"));
+                break;
+            case PBSatSolver.UNITCLAUSES_FIELD_NUMBER:
+                builder.setUnitClauses(serializeIntVec(getField(core, "unitClauses")));
+                break;
+            case PBSatSolver.CLAUSES_FIELD_NUMBER:
+                builder.setClauses(serializeClauseVec(getField(core, "clauses"), clauseMap));
+                break;
+            case PBSatSolver.LEARNTS_FIELD_NUMBER:
+                builder.setLearnts(serializeClauseVec(getField(core, "learnts"), clauseMap));
+                break;
+            case PBSatSolver.WATCHES_FIELD_NUMBER:
+                builder.setWatches(serializeWatches(getField(core, "watches"), clauseMap));
+                break;
+            case PBSatSolver.VARS_FIELD_NUMBER:
+                builder.setVars(serializeVarVec(getField(core, "vars"), clauseMap));
+                break;
+            case PBSatSolver.ORDERHEAP_FIELD_NUMBER:
+                builder.setOrderHeap(SolverDatastructures.serializeHeap(getField(core, "orderHeap")));
+                break;
+            case PBSatSolver.TRAIL_FIELD_NUMBER:
+                builder.setTrail(serializeIntVec(getField(core, "trail")));
+                break;
+            case PBSatSolver.TRAILLIM_FIELD_NUMBER:
+                builder.setTrailLim(serializeIntVec(getField(core, "trailLim")));
+                break;
+            case PBSatSolver.MODEL_FIELD_NUMBER:
+                builder.setModel(serializeBoolVec(getField(core, "model")));
+                break;
+            case PBSatSolver.ASSUMPTIONCONFLICT_FIELD_NUMBER:
+                builder.setAssumptionConflict(serializeIntVec(getField(core, "assumptionsConflict")));
+                break;
+            case PBSatSolver.ASSUMPTIONS_FIELD_NUMBER:
+                builder.setAssumptions(serializeIntVec(getField(core, "assumptions")));
+                break;
+            case PBSatSolver.ASSUMPTIONPROPOSITIONS_FIELD_NUMBER:
+                // assumption propositions are stored as indices into the proposition table
+                break;
+            case PBSatSolver.SEEN_FIELD_NUMBER:
+                builder.setSeen(serializeBoolVec(getField(core, "seen")));
+                break;
+            case PBSatSolver.ANALYZEBTLEVEL_FIELD_NUMBER:
+                builder.setAnalyzeBtLevel(getField(core, "analyzeBtLevel"));
+                break;
+            case PBSatSolver.CLAINC_FIELD_NUMBER:
+                builder.setClaInc(getField(core, "claInc"));
+                break;
+            case PBSatSolver.VARINC_FIELD_NUMBER:
+                builder.setVarInc(getField(core, "varInc"));
+                break;
+            case PBSatSolver.VARDECAY_FIELD_NUMBER:
+                builder.setVarDecay(getField(core, "varDecay"));
+                break;
+            case PBSatSolver.CLAUSESLITERALS_FIELD_NUMBER:
+                builder.setClausesLiterals(getField(core, "clausesLiterals"));
+                break;
+            case PBSatSolver.LEARNTSLITERALS_FIELD_NUMBER:
+                builder.setLearntsLiterals(getField(core, "learntsLiterals"));
+                break;
+            case PBSatSolver.CANCELEDBYHANDLER_FIELD_NUMBER:
+                builder.setCanceledByHandler(getField(core, "canceledByHandler"));
+                break;
+            case PBSatSolver.PGORIGINALCLAUSES_FIELD_NUMBER:
+                final LNGVector<ProofInformation> pgOriginalClauses = getField(core, "pgOriginalClauses");
+                if (pgOriginalClauses != null) {
+                    for (final ProofInformation oc : pgOriginalClauses) {
+                        builder.addPgOriginalClauses(serialize(oc, propositions));
+                    }
+                }
+                break;
+            case PBSatSolver.PGPROOF_FIELD_NUMBER:
+                final LNGVector<LNGIntVector> pgProof = getField(core, "pgProof");
+                if (pgProof != null) {
+                    builder.setPgProof(Collections.serializeVec(pgProof));
+                }
+                break;
+            case PBSatSolver.COMPUTINGBACKBONE_FIELD_NUMBER:
+                builder.setComputingBackbone(getField(core, "computingBackbone"));
+                break;
+            case PBSatSolver.BACKBONECANDIDATES_FIELD_NUMBER:
+                final Stack<Integer> backboneCandidates = getField(core, "backboneCandidates");
+                if (backboneCandidates != null) {
+                    builder.setBackboneCandidates(serializeStack(backboneCandidates));
+                }
+                break;
+            case PBSatSolver.BACKBONEASSUMPTIONS_FIELD_NUMBER:
+                final LNGIntVector backboneAssumptions = getField(core, "backboneAssumptions");
+                if (backboneAssumptions != null) {
+                    builder.setBackboneAssumptions(serializeIntVec(backboneAssumptions));
+                }
+                break;
+            case PBSatSolver.BACKBONEMAP_FIELD_NUMBER:
+                final HashMap<Integer, Tristate> backboneMap = getField(core, "backboneMap");
+                if (backboneMap != null) {
+                    builder.putAllBackboneMap(serializeBbMap(backboneMap));
+                }
+                break;
+            case PBSatSolver.SELECTIONORDER_FIELD_NUMBER:
+                builder.setSelectionOrder(serializeIntVec(getField(core, "selectionOrder")));
+                break;
+            case PBSatSolver.SELECTIONORDERIDX_FIELD_NUMBER:
+                builder.setSelectionOrderIdx(getField(core, "selectionOrderIdx"));
+                break;
+            case PBSatSolver.WATCHESBIN_FIELD_NUMBER:
+                builder.setWatchesBin(serializeWatches(getField(core, "watchesBin"), clauseMap));
+                break;
+            case PBSatSolver.PERMDIFF_FIELD_NUMBER:
+                builder.setPermDiff(serializeIntVec(getField(core, "permDiff")));
+                break;
+            case PBSatSolver.LASTDECISIONLEVEL_FIELD_NUMBER:
+                builder.setLastDecisionLevel(serializeIntVec(getField(core, "lastDecisionLevel")));
+                break;
+            case PBSatSolver.LBDQUEUE_FIELD_NUMBER:
+                builder.setLbdQueue(serializeLongQueue(getField(core, "lbdQueue")));
+                break;
+            case PBSatSolver.TRAILQUEUE_FIELD_NUMBER:
+                builder.setTrailQueue(serializeIntQueue(getField(core, "trailQueue")));
+                break;
+            case PBSatSolver.MYFLAG_FIELD_NUMBER:
+                builder.setMyflag(getField(core, "myflag"));
+                break;
+            case PBSatSolver.ANALYZELBD_FIELD_NUMBER:
+                builder.setAnalyzeLBD(getField(core, "analyzeLBD"));
+                break;
+            case PBSatSolver.NBCLAUSESBEFOREREDUCE_FIELD_NUMBER:
+                builder.setNbClausesBeforeReduce(getField(core, "nbClausesBeforeReduce"));
+                break;
+            case PBSatSolver.CONFLICTS_FIELD_NUMBER:
+                builder.setConflicts(getField(core, "conflicts"));
+                break;
+            case PBSatSolver.CONFLICTSRESTARTS_FIELD_NUMBER:
+                builder.setConflictsRestarts(getField(core, "conflictsRestarts"));
+                break;
+            case PBSatSolver.SUMLBD_FIELD_NUMBER:
+                builder.setSumLBD(getField(core, "sumLBD"));
+                break;
+            case PBSatSolver.CURRESTART_FIELD_NUMBER:
+                builder.setCurRestart(getField(core, "curRestart"));
+                break;
+            case PBSatSolver.PROPOSITIONTABLE_FIELD_NUMBER:
+                if (!propositions.propositions.isEmpty()) {
+                    builder.setPropositionTable(serializePropositionTable(propositions));
+                }
+                break;
+            case PBSatSolver.ASSUMPTIONPROPOSITIONINDICES_FIELD_NUMBER:
+                final LNGVector<Proposition> assumptionPropositions = getField(core, "assumptionPropositions");
+                if (!assumptionPropositions.empty()) {
+                    final LNGIntVector indices = new LNGIntVector(assumptionPropositions.size());
+                    for (final Proposition prop : assumptionPropositions) {
+                        indices.push(propositions.indexOf(prop));
+                    }
+                    builder.setAssumptionPropositionIndices(serializeIntVec(indices));
+                }
+                break;
+            default:
+                // no further sections
+        }
+    }
+
+    private static <T> T join(final CompletableFuture<T> future) {
+        try {
+            return future.join();
+        } catch (final CompletionException e) {
+            if (e.getCause() instanceof RuntimeException) {
+                throw (RuntimeException) e.getCause();
+            }
+            throw e;
+        }
     }
 
     SATSolver deserialize(final PBSatSolver bin) {
-        final Map<Integer, LNGClause> clauseMap = new TreeMap<>();
-        final var core = new LNGCoreSolver(f, SatSolverConfigs.deserializeSatSolverConfig(bin.getConfig()));
-        setField(core, "inSatCall", bin.getInSatCall());
-        setField(core, "name2idx", new TreeMap<>(bin.getName2IdxMap()));
-        final Map<Integer, String> idx2name = new TreeMap<>();
-        bin.getName2IdxMap().forEach((k, v) -> idx2name.put(v, k));
-        setField(core, "idx2name", idx2name);
-        setField(core, "validStates", deserializeIntVec(bin.getValidStates()));
-        setField(core, "nextStateId", bin.getNextStateId());
-        setField(core, "ok", bin.getOk());
-        setField(core, "qhead", bin.getQhead());
-        setField(core, "unitClauses", deserializeIntVec(bin.getUnitClauses()));
-        setField(core, "clauses", deserializeClauseVec(bin.getClauses(), clauseMap));
-        setField(core, "learnts", deserializeClauseVec(bin.getLearnts(), clauseMap));
-        setField(core, "watches", deserializeWatches(bin.getWatches(), clauseMap));
-        setField(core, "vars", deserializeVarVec(bin.getVars(), clauseMap));
-        setField(core, "orderHeap", deserializeHeap(bin.getOrderHeap(), core));
-        setField(core, "trail", deserializeIntVec(bin.getTrail()));
-        setField(core, "trailLim", deserializeIntVec(bin.getTrailLim()));
-        setField(core, "model", Collections.deserializeBooVec(bin.getModel()));
-        setField(core, "assumptionsConflict", deserializeIntVec(bin.getAssumptionConflict()));
-        setField(core, "assumptions", deserializeIntVec(bin.getAssumptions()));
-        setField(core, "assumptionPropositions", deserializeProps(bin.getAssumptionPropositionsList()));
-        setField(core, "seen", Collections.deserializeBooVec(bin.getSeen()));
-        setField(core, "analyzeBtLevel", bin.getAnalyzeBtLevel());
-        setField(core, "claInc", bin.getClaInc());
-        setField(core, "varInc", bin.getVarInc());
-        setField(core, "varDecay", bin.getVarDecay());
-        setField(core, "clausesLiterals", bin.getClausesLiterals());
-        setField(core, "learntsLiterals", bin.getLearntsLiterals());
-        setField(core, "canceledByHandler", bin.getCanceledByHandler());
-
-        if (bin.hasPgProof()) {
-            setField(core, "pgProof", Collections.deserializeVec(bin.getPgProof()));
-        }
-        if (bin.getPgOriginalClausesCount() > 0) {
-            final LNGVector<ProofInformation> originalClauses = new LNGVector<>(bin.getPgOriginalClausesCount());
-            for (final PBProofInformation pi : bin.getPgOriginalClausesList()) {
-                originalClauses.push(deserialize(pi));
-            }
-            setField(core, "pgOriginalClauses", originalClauses);
-        }
-
-        setField(core, "computingBackbone", bin.getComputingBackbone());
-        if (bin.hasBackboneCandidates()) {
-            setField(core, "backboneCandidates", deserializeStack(bin.getBackboneCandidates()));
-        }
-        if (bin.hasBackboneAssumptions()) {
-            setField(core, "backboneAssumptions", deserializeIntVec(bin.getBackboneAssumptions()));
-        }
-        setField(core, "backboneMap", deserializeBbMap(bin.getBackboneMapMap()));
-
-        setField(core, "selectionOrder", deserializeIntVec(bin.getSelectionOrder()));
-        setField(core, "selectionOrderIdx", bin.getSelectionOrderIdx());
-        setField(core, "watchesBin", deserializeWatches(bin.getWatchesBin(), clauseMap));
-        setField(core, "permDiff", deserializeIntVec(bin.getPermDiff()));
-        setField(core, "lastDecisionLevel", deserializeIntVec(bin.getLastDecisionLevel()));
-        setField(core, "lbdQueue", deserializeLongQueue(bin.getLbdQueue()));
-        setField(core, "trailQueue", deserializeIntQueue(bin.getTrailQueue()));
-        setField(core, "myflag", bin.getMyflag());
-        setField(core, "analyzeLBD", bin.getAnalyzeLBD());
-        setField(core, "nbClausesBeforeReduce", bin.getNbClausesBeforeReduce());
-        setField(core, "conflicts", bin.getConflicts());
-        setField(core, "conflictsRestarts", bin.getConflictsRestarts());
-        setField(core, "sumLBD", bin.getSumLBD());
-        setField(core, "curRestart", bin.getCurRestart());
-        return new SATSolver(f, core);
+        final RestoreState state = new RestoreState(null);
+        restoreSectionsBefore(state, LAST_SECTION + 1, bin);
+        return finish(state);
+    }
+
+    /**
+     * Deserializes a SAT solver and decodes the sections which only read the clauses concurrently.  After
+     * the clauses and learnts are restored on the calling thread, the watches, the variables, and the
+     * binary watches are decoded on the given executor while all remaining sections are restored on the
+     * calling thread.  The decoded sections are installed at the end, so the calling thread only waits for
+     * the decoding tasks after it has restored everything else.  The result is the same as for
+     * {@link #deserialize(PBSatSolver)}.
+     * @param bin      the protocol buffer
+     * @param executor the executor for the decoding tasks
+     * @return the solver
+     */
+    SATSolver deserializeParallel(final PBSatSolver bin, final Executor executor) {
+        final RestoreState state = new RestoreState(executor);
+        restoreSectionsBefore(state, LAST_SECTION + 1, bin);
+        return finish(state);
+    }
+
+    private SATSolver finish(final RestoreState state) {
+        state.pending.forEach((name, future) -> setField(state.core, name, join(future)));
+        return new SATSolver(f, state.core);
+    }
+
+    /**
+     * Deserializes a SAT solver without its learnt clauses and loads them in the background.  Only the
+     * learnt clauses which are reasons of the current assignment are restored right away.  All other learnt
+     * clauses are decoded on the given executor and have to be attached explicitly by
+     * {@link LazyRestore#attachLearnts()} at a point where the solver is not within a SAT call.  The
+     * watchers of these clauses are not restored, they are rebuilt for the assignment at attachment time.
+     * <p>
+     * If the solver generates proofs or is not on decision level 0, all learnt clauses are restored eagerly.
+     * @param bin      the protocol buffer
+     * @param executor the executor for decoding the learnt clauses
+     * @return the restore with the usable solver and the pending learnt clauses
+     */
+    public LazyRestore deserializeSatSolverLazily(final PBSatSolver bin, final Executor executor) {
+        if (bin.getConfig().getProofGeneration() || bin.getTrailLim().getSize() > 0) {
+            return new LazyRestore(deserialize(bin), null);
+        }
+        final Set<Integer> reasons = new HashSet<>();
+        for (final PBVariable var : bin.getVars().getElementList()) {
+            reasons.add(var.getReason());
+        }
+        final Set<Integer> lazyLearnts = new HashSet<>();
+        int lazyLiterals = 0;
+        for (final PBClause learnt : bin.getLearnts().getElementList()) {
+            if (!reasons.contains(learnt.getId())) {
+                lazyLearnts.add(learnt.getId());
+                lazyLiterals += learnt.getData().getSize();
+            }
+        }
+        final RestoreState state = new RestoreState(null);
+        state.skippedLearnts = lazyLearnts;
+        state.skippedLiterals = lazyLiterals;
+        restoreSectionsBefore(state, LAST_SECTION + 1, bin);
+        return new LazyRestore(new SATSolver(f, state.core),
+                CompletableFuture.supplyAsync(() -> LazyRestore.decodeLearnts(bin, lazyLearnts), executor));
+    }
+
+    /**
+     * Restores a SAT solver section by section from a coded input stream.  Each top-level field of the
+     * {@link PBSatSolver} is parsed on its own and immediately turned into the solver's datastructures,
+     * so only one section is held as protocol buffer at any time.  The sections have to be in ascending
+     * field order, as they are written by {@link #serializeSolverToStream(SATSolver, OutputStream)}.
+     * Consecutive occurrences of the same field are merged like by the protocol buffer parser.
+     * @param input the coded input stream
+     * @return the solver
+     * @throws IOException if there is a problem reading from the stream
+     */
+    SATSolver deserializeSections(final CodedInputStream input) throws IOException {
+        return deserializeSections(input, null);
+    }
+
+    /**
+     * Restores a SAT solver section by section from a coded input stream like
+     * {@link #deserializeSections(CodedInputStream)}.  If an executor is given, the watches, the variables,
+     * and the binary watches are decoded on the executor while the following sections are read.
+     * @param input    the coded input stream
+     * @param executor the executor for the decoding tasks or {@code null} to decode on the calling thread
+     * @return the solver
+     * @throws IOException if there is a problem reading from the stream
+     */
+    SATSolver deserializeSections(final CodedInputStream input, final Executor executor) throws IOException {
+        final RestoreState state = new RestoreState(executor);
+        PBSatSolver.Builder section = PBSatSolver.newBuilder();
+        int sectionField = 0;
+        while (true) {
+            final int tag = input.readTag();
+            final int field = WireFormat.getTagFieldNumber(tag);
+            if (field == PBSatSolver.SNAPSHOTHEADER_FIELD_NUMBER) {
+                input.skipField(tag);
+                continue;
+            }
+            if (sectionField != 0 && field != sectionField) {
+                restoreSectionsBefore(state, sectionField, PBSatSolver.getDefaultInstance());
+                restoreSection(state, sectionField, section.build());
+                state.nextSection = sectionField + 1;
+                section = PBSatSolver.newBuilder();
+            }
+            if (tag == 0) {
+                break;
+            }
+            if (field < state.nextSection) {
+                throw new NonCanonicalSectionException(field, state.nextSection - 1);
+            }
+            sectionField = field;
+            readSectionField(input, tag, section);
+        }
+        restoreSectionsBefore(state, LAST_SECTION + 1, PBSatSolver.getDefaultInstance());
+        return finish(state);
+    }
+
+    private static void readSectionField(final CodedInputStream input, final int tag, final PBSatSolver.Builder section) throws IOException {
+        final FieldDescriptor field = PBSatSolver.getDescriptor().findFieldByNumber(WireFormat.getTagFieldNumber(tag));
+        if (field == null || WireFormat.getTagWireType(tag) != field.getLiteType().getWireType()) {
+            input.skipField(tag);
+            return;
+        }
+        final Object value;
+        switch (field.getJavaType()) {
+            case MESSAGE:
+                final Message.Builder message = field.isRepeated() ? section.newBuilderForField(field) : section.getFieldBuilder(field);
+                input.readMessage(message, ExtensionRegistryLite.getEmptyRegistry());
+                if (field.isRepeated()) {
+                    section.addRepeatedField(field, message.build());
+                }
+                return;
+            case BOOLEAN:
+                value = input.readBool();
+                break;
+            case INT:
+                value = input.readInt32();
+                break;
+            case LONG:
+                value = input.readInt64();
+                break;
+            case DOUBLE:
+                value = input.readDouble();
+                break;
+            case BYTE_STRING:
+                value = input.readBytes();
+                break;
+            default:
+                input.skipField(tag);
+                return;
+        }
+        if (field.isRepeated()) {
+            section.addRepeatedField(field, value);
+        } else {
+            section.setField(field, value);
+        }
+    }
+
+    private void restoreSectionsBefore(final RestoreState state, final int field, final PBSatSolver bin) {
+        for (; state.nextSection < field; state.nextSection++) {
+            restoreSection(state, state.nextSection, bin);
+        }
+    }
+
+    private void restoreSection(final RestoreState state, final int field, final PBSatSolver bin) {
+        final LNGCoreSolver core = state.core;
+        final Map<Integer, LNGClause> clauseMap = state.clauseMap;
+        switch (field) {
+            case PBSatSolver.CONFIG_FIELD_NUMBER:
+                state.core = new LNGCoreSolver(f, SatSolverConfigs.deserializeSatSolverConfig(bin.getConfig()));
+                break;
+            case PBSatSolver.INSATCALL_FIELD_NUMBER:
+                setField(core, "inSatCall", bin.getInSatCall());
+                break;
+            case PBSatSolver.NAME2IDX_FIELD_NUMBER:
+                setField(core, "name2idx", new TreeMap<>(bin.getName2IdxMap()));
+                final Map<Integer, String> idx2name = new TreeMap<>();
+                bin.getName2IdxMap().forEach((k, v) -> idx2name.put(v, k));
+                setField(core, "idx2name", idx2name);
+                break;
+            case PBSatSolver.VALIDSTATES_FIELD_NUMBER:
+                setField(core, "validStates", deserializeIntVec(bin.getValidStates()));
+                break;
+            case PBSatSolver.NEXTSTATEID_FIELD_NUMBER:
+                setField(core, "nextStateId", bin.getNextStateId());
+                break;
+            case PBSatSolver.OK_FIELD_NUMBER:
+                setField(core, "ok", bin.getOk());
+                break;
+            case PBSatSolver.QHEAD_FIELD_NUMBER:
+                setField(core, "qhead", bin.getQhead());
+                break;
+            case PBSatSolver.UNITCLAUSES_FIELD_NUMBER:
+                setField(core, "unitClauses", deserializeIntVec(bin.getUnitClauses()));
+                break;
+            case PBSatSolver.CLAUSES_FIELD_NUMBER:
+                setField(core, "clauses", deserializeClauseVec(bin.getClauses(), clauseMap, Set.of()));
+                break;
+            case PBSatSolver.LEARNTS_FIELD_NUMBER:
+                setField(core, "learnts", deserializeClauseVec(bin.getLearnts(), clauseMap, state.skippedLearnts));
+                break;
+            case PBSatSolver.WATCHES_FIELD_NUMBER:
+                state.restoreDecoded("watches", () -> deserializeWatches(bin.getWatches(), clauseMap));
+                break;
+            case PBSatSolver.VARS_FIELD_NUMBER:
+                state.restoreDecoded("vars", () -> deserializeVarVec(bin.getVars(), clauseMap));
+                break;
+            case PBSatSolver.ORDERHEAP_FIELD_NUMBER:
+                setField(core, "orderHeap", deserializeHeap(bin.getOrderHeap(), core));
+                break;
+            case PBSatSolver.TRAIL_FIELD_NUMBER:
+                setField(core, "trail", deserializeIntVec(bin.getTrail()));
+                break;
+            case PBSatSolver.TRAILLIM_FIELD_NUMBER:
+                setField(core, "trailLim", deserializeIntVec(bin.getTrailLim()));
+                break;
+            case PBSatSolver.MODEL_FIELD_NUMBER:
+                setField(core, "model", Collections.deserializeBooVec(bin.getModel()));
+                break;
+            case PBSatSolver.ASSUMPTIONCONFLICT_FIELD_NUMBER:
+                setField(core, "assumptionsConflict", deserializeIntVec(bin.getAssumptionConflict()));
+                break;
+            case PBSatSolver.ASSUMPTIONS_FIELD_NUMBER:
+                setField(core, "assumptions", deserializeIntVec(bin.getAssumptions()));
+                break;
+            case PBSatSolver.ASSUMPTIONPROPOSITIONS_FIELD_NUMBER:
+                setField(core, "assumptionPropositions", deserializeProps(bin.getAssumptionPropositionsList()));
+                break;
+            case PBSatSolver.SEEN_FIELD_NUMBER:
+                setField(core, "seen", Collections.deserializeBooVec(bin.getSeen()));
+                break;
+            case PBSatSolver.ANALYZEBTLEVEL_FIELD_NUMBER:
+                setField(core, "analyzeBtLevel", bin.getAnalyzeBtLevel());
+                break;
+            case PBSatSolver.CLAINC_FIELD_NUMBER:
+                setField(core, "claInc", bin.getClaInc());
+                break;
+            case PBSatSolver.VARINC_FIELD_NUMBER:
+                setField(core, "varInc", bin.getVarInc());
+                break;
+            case PBSatSolver.VARDECAY_FIELD_NUMBER:
+                setField(core, "varDecay", bin.getVarDecay());
+                break;
+            case PBSatSolver.CLAUSESLITERALS_FIELD_NUMBER:
+                setField(core, "clausesLiterals", bin.getClausesLiterals());
+                break;
+            case PBSatSolver.LEARNTSLITERALS_FIELD_NUMBER:
+                setField(core, "learntsLiterals", bin.getLearntsLiterals() - state.skippedLiterals);
+                break;
+            case PBSatSolver.CANCELEDBYHANDLER_FIELD_NUMBER:
+                setField(core, "canceledByHandler", bin.getCanceledByHandler());
+                break;
+            case PBSatSolver.PGORIGINALCLAUSES_FIELD_NUMBER:
+                // resolved with the proposition table
+                state.originalClauses = bin.getPgOriginalClausesList();
+                break;
+            case PBSatSolver.PGPROOF_FIELD_NUMBER:
+                if (bin.hasPgProof()) {
+                    setField(core, "pgProof", Collections.deserializeVec(bin.getPgProof()));
+                }
+                break;
+            case PBSatSolver.COMPUTINGBACKBONE_FIELD_NUMBER:
+                setField(core, "computingBackbone", bin.getComputingBackbone());
+                break;
+            case PBSatSolver.BACKBONECANDIDATES_FIELD_NUMBER:
+                if (bin.hasBackboneCandidates()) {
+                    setField(core, "backboneCandidates", deserializeStack(bin.getBackboneCandidates()));
+                }
+                break;
+            case PBSatSolver.BACKBONEASSUMPTIONS_FIELD_NUMBER:
+                if (bin.hasBackboneAssumptions()) {
+                    setField(core, "backboneAssumptions", deserializeIntVec(bin.getBackboneAssumptions()));
+                }
+                break;
+            case PBSatSolver.BACKBONEMAP_FIELD_NUMBER:
+                setField(core, "backboneMap", deserializeBbMap(bin.getBackboneMapMap()));
+                break;
+            case PBSatSolver.SELECTIONORDER_FIELD_NUMBER:
+                setField(core, "selectionOrder", deserializeIntVec(bin.getSelectionOrder()));
+                break;
+            case PBSatSolver.SELECTIONORDERIDX_FIELD_NUMBER:
+                setField(core, "selectionOrderIdx", bin.getSelectionOrderIdx());
+                break;
+            case PBSatSolver.WATCHESBIN_FIELD_NUMBER:
+                state.restoreDecoded("watchesBin", () -> deserializeWatches(bin.getWatchesBin(), clauseMap));
+                break;
+            case PBSatSolver.PERMDIFF_FIELD_NUMBER:
+                setField(core, "permDiff", deserializeIntVec(bin.getPermDiff()));
+                break;
+            case PBSatSolver.LASTDECISIONLEVEL_FIELD_NUMBER:
+                setField(core, "lastDecisionLevel", deserializeIntVec(bin.getLastDecisionLevel()));
+                break;
+            case PBSatSolver.LBDQUEUE_FIELD_NUMBER:
+                setField(core, "lbdQueue", deserializeLongQueue(bin.getLbdQueue()));
+                break;
+            case PBSatSolver.TRAILQUEUE_FIELD_NUMBER:
+                setField(core, "trailQueue", deserializeIntQueue(bin.getTrailQueue()));
+                break;
+            case PBSatSolver.MYFLAG_FIELD_NUMBER:
+                setField(core, "myflag", bin.getMyflag());
+                break;
+            case PBSatSolver.ANALYZELBD_FIELD_NUMBER:
+                setField(core, "analyzeLBD", bin.getAnalyzeLBD());
+                break;
+            case PBSatSolver.NBCLAUSESBEFOREREDUCE_FIELD_NUMBER:
+                setField(core, "nbClausesBeforeReduce", bin.getNbClausesBeforeReduce());
+                break;
+            case PBSatSolver.CONFLICTS_FIELD_NUMBER:
+                setField(core, "conflicts", bin.getConflicts());
+                break;
+            case PBSatSolver.CONFLICTSRESTARTS_FIELD_NUMBER:
+                setField(core, "conflictsRestarts", bin.getConflictsRestarts());
+                break;
+            case PBSatSolver.SUMLBD_FIELD_NUMBER:
+                setField(core, "sumLBD", bin.getSumLBD());
+                break;
+            case PBSatSolver.CURRESTART_FIELD_NUMBER:
+                setField(core, "curRestart", bin.getCurRestart());
+                break;
+            case PBSatSolver.PROPOSITIONTABLE_FIELD_NUMBER:
+                state.propositions = deserializePropositionTable(bin.getPropositionTable());
+                if (!state.originalClauses.isEmpty()) {
+                    final LNGVector<ProofInformation> originalClauses = new LNGVector<>(state.originalClauses.size());
+                    for (final PBProofInformation pi : state.originalClauses) {
+                        originalClauses.push(deserialize(pi, state.propositions));
+                    }
+                    setField(core, "pgOriginalClauses", originalClauses);
+                }
+                break;
+            case PBSatSolver.ASSUMPTIONPROPOSITIONINDICES_FIELD_NUMBER:
+                if (bin.hasAssumptionPropositionIndices()) {
+                    final List<Integer> indices = bin.getAssumptionPropositionIndices().getElementList();
+                    final LNGVector<Proposition> assumptionPropositions = new LNGVector<>(indices.size());
+                    for (final int index : indices) {
+                        assumptionPropositions.push(lookup(state.propositions, index));
+                    }
+                    setField(core, "assumptionPropositions", assumptionPropositions);
+                }
+                break;
+            default:
+                // unknown sections are ignored
+        }
     }
 
     private static IdentityHashMap<LNGClause, Integer> generateClauseMap(final LNGVector<LNGClause> clauses, final LNGVector<LNGClause> learnts) {
@@ -355,10 +1546,14 @@ public class SolverSerializer {
         return builder.build();
     }
 
-    private static LNGVector<LNGClause> deserializeClauseVec(final PBClauseVector bin, final Map<Integer, LNGClause> clauseMap) {
+    private static LNGVector<LNGClause> deserializeClauseVec(final PBClauseVector bin, final Map<Integer, LNGClause> clauseMap,
+                                                            final Set<Integer> skipped) {
         final LNGVector<LNGClause> vec = new LNGVector<>(bin.getElementCount());
         for (int i = 0; i < bin.getElementCount(); i++) {
             final PBClause binClause = bin.getElement(i);
+            if (skipped.contains(binClause.getId())) {
+                continue;
+            }
             final LNGClause clause = SolverDatastructures.deserializeClause(binClause);
             clauseMap.put(binClause.getId(), clause);
             vec.push(clause);
@@ -386,7 +1581,10 @@ public class SolverSerializer {
             final PBWatcherVector binWatch = bin.getElement(i);
             final LNGVector<LNGWatcher> watch = new LNGVector<>(binWatch.getElementCount());
             for (int j = 0; j < binWatch.getElementCount(); j++) {
-                watch.push(SolverDatastructures.deserializeWatcher(binWatch.getElement(j), clauseMap));
+                final PBWatcher binWatcher = binWatch.getElement(j);
+                if (clauseMap.containsKey(binWatcher.getClause())) {
+                    watch.push(SolverDatastructures.deserializeWatcher(binWatcher, clauseMap));
+                }
             }
             vec.push(watch);
         }
@@ -445,30 +1643,183 @@ public class SolverSerializer {
         return ser;
     }
 
-    private PBProofInformation serialize(final ProofInformation pi) {
+    private static PBProofInformation serialize(final ProofInformation pi, final PropositionTable propositions) {
         final PBProofInformation.Builder builder = PBProofInformation.newBuilder().setClause(serializeIntVec(pi.clause()));
         if (pi.proposition() != null) {
-            builder.setProposition(ByteString.copyFrom(serializer.apply(pi.proposition())));
+            builder.setPropositionIndex(propositions.indexOf(pi.proposition()));
         }
         return builder.build();
     }
 
-    private ProofInformation deserialize(final PBProofInformation bin) {
-        final Proposition prop = bin.hasProposition() ? deserializer.apply(bin.getProposition().toByteArray()) : null;
+    private ProofInformation deserialize(final PBProofInformation bin, final List<Proposition> propositions) {
+        final Proposition prop;
+        if (bin.hasPropositionIndex()) {
+            prop = lookup(propositions, bin.getPropositionIndex());
+        } else {
+            prop = bin.hasProposition() ? deserializeProposition(bin.getProposition()) : null;
+        }
         return new ProofInformation(deserializeIntVec(bin.getClause()), prop);
     }
 
-    private List<ByteString> serializeProps(final LNGVector<Proposition> props) {
-        final List<ByteString> res = new ArrayList<>();
-        for (final Proposition prop : props) {
-            res.add(ByteString.copyFrom(serializer.apply(prop)));
+    private PBPropositionTable serializePropositionTable(final PropositionTable propositions) {
+        final PBPropositionTable.Builder builder = PBPropositionTable.newBuilder();
+        if (codecs == null) {
+            for (final Proposition prop : propositions.propositions) {
+                builder.addProposition(ByteString.copyFrom(serializer.apply(prop)));
+            }
+            return builder.build();
+        }
+        final Map<Class<?>, List<Integer>> indicesByType = new LinkedHashMap<>();
+        for (int i = 0; i < propositions.propositions.size(); i++) {
+            indicesByType.computeIfAbsent(propositions.propositions.get(i).getClass(), k -> new ArrayList<>()).add(i);
         }
-        return res;
+        indicesByType.forEach((type, indices) -> {
+            final List<Proposition> batch = indices.stream().map(propositions.propositions::get).collect(Collectors.toList());
+            final ByteString.Output payload = ByteString.newOutput();
+            final CodedOutputStream output = CodedOutputStream.newInstance(payload);
+            try {
+                codecs.codecFor(type.getName()).encode(batch, output);
+                output.flush();
+            } catch (final IOException e) {
+                throw new UncheckedIOException(e);
+            }
+            builder.addBatch(PBPropositionBatch.newBuilder().setType(type.getName()).addAllIndex(indices).setPayload(payload.toByteString()));
+        });
+        return builder.build();
+    }
+
+    private List<Proposition> deserializePropositionTable(final PBPropositionTable bin) {
+        final List<Proposition> propositions = new ArrayList<>(bin.getPropositionCount());
+        for (final ByteString prop : bin.getPropositionList()) {
+            propositions.add(deserializeProposition(prop));
+        }
+        if (bin.getBatchCount() == 0) {
+            return propositions;
+        }
+        if (codecs == null) {
+            throw new IllegalArgumentException("Cannot deserialize proposition batches without proposition codecs");
+        }
+        for (final PBPropositionBatch batch : bin.getBatchList()) {
+            final List<Proposition> decoded;
+            try {
+                decoded = codecs.codecFor(batch.getType()).decode(f, batch.getPayload().newCodedInput());
+            } catch (final IOException e) {
+                throw new UncheckedIOException(e);
+            }
+            if (decoded.size() != batch.getIndexCount()) {
+                throw new IllegalArgumentException("Proposition batch of type " + batch.getType() + " has " + decoded.size()
+                        + " propositions but " + batch.getIndexCount() + " indices");
+            }
+            for (int i = 0; i < decoded.size(); i++) {
+                final int index = batch.getIndex(i);
+                while (propositions.size() <= index) {
+                    propositions.add(null);
+                }
+                propositions.set(index, decoded.get(i));
+            }
+        }
+        return propositions;
+    }
+
+    private static Proposition lookup(final List<Proposition> propositions, final int index) {
+        if (index == -1) {
+            return null;
+        }
+        if (index < 0 || index >= propositions.size()) {
+            throw new IllegalArgumentException("Unknown proposition index: " + index);
+        }
+        return propositions.get(index);
     }
 
     private LNGVector<Proposition> deserializeProps(final List<ByteString> bin) {
         return new LNGVector<>(bin.stream()
-                .map(it -> deserializer.apply(it.toByteArray()))
+                .map(this::deserializeProposition)
                 .collect(Collectors.toList()));
     }
+
+    private Proposition deserializeProposition(final ByteString bin) {
+        if (deserializer == null) {
+            throw new IllegalArgumentException("Cannot deserialize propositions with a serializer without proofs");
+        }
+        return deserializer.apply(bin.toByteArray());
+    }
+
+    /**
+     * The distinct propositions of a solver, numbered in the order of their first occurrence in the
+     * assumption propositions and the original clauses.  Propositions are compared by identity, since
+     * the solver stores the same proposition instance for all clauses generated from it.
+     */
+    private static final class PropositionTable {
+        private final IdentityHashMap<Proposition, Integer> indices = new IdentityHashMap<>();
+        private final List<Proposition> propositions = new ArrayList<>();
+
+        private PropositionTable(final LNGCoreSolver core) {
+            final LNGVector<Proposition> assumptionPropositions = getField(core, "assumptionPropositions");
+            for (final Proposition prop : assumptionPropositions) {
+                add(prop);
+            }
+            final LNGVector<ProofInformation> pgOriginalClauses = getField(core, "pgOriginalClauses");
+            if (pgOriginalClauses != null) {
+                for (final ProofInformation oc : pgOriginalClauses) {
+                    add(oc.proposition());
+                }
+            }
+        }
+
+        private void add(final Proposition prop) {
+            if (prop != null && !indices.containsKey(prop)) {
+                indices.put(prop, propositions.size());
+                propositions.add(prop);
+            }
+        }
+
+        private int indexOf(final Proposition prop) {
+            return prop == null ? -1 : indices.get(prop);
+        }
+    }
+
+    /**
+     * Signals a solver section which occurs after a section with a higher field number, so the message
+     * cannot be restored section by section.
+     */
+    private static final class NonCanonicalSectionException extends IllegalArgumentException {
+        private static final long serialVersionUID = 1L;
+
+        private NonCanonicalSectionException(final int field, final int previous) {
+            super("Solver section " + field + " occurs after section " + previous
+                    + ", messages which are not in canonical field order have to be parsed completely");
+        }
+    }
+
+    /**
+     * The state of a solver restore which is built up section by section.
+     */
+    private static final class RestoreState {
+        private final Map<Integer, LNGClause> clauseMap = new TreeMap<>();
+        private final Executor executor;
+        private final Map<String, CompletableFuture<?>> pending = new LinkedHashMap<>();
+        private Set<Integer> skippedLearnts = Set.of();
+        private List<PBProofInformation> originalClauses = List.of();
+        private List<Proposition> propositions = List.of();
+        private int skippedLiterals;
+        private LNGCoreSolver core;
+        private int nextSection = 1;
+
+        private RestoreState(final Executor executor) {
+            this.executor = executor;
+        }
+
+        /**
+         * Restores a field of the core solver which only depends on the clauses.  Without an executor the
+         * field is decoded and set right away, otherwise it is decoded on the executor and set when the
+         * restore is finished.
+         */
+        private void restoreDecoded(final String name, final Supplier<?> decoder) {
+            if (executor == null) {
+                setField(core, name, decoder.get());
+            } else {
+                pending.put(name, CompletableFuture.supplyAsync(decoder, executor));
+            }
+        }
+    }
 }
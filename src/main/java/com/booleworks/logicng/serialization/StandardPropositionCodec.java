@@ -0,0 +1,33 @@
+// SPDX-License-Identifier: Apache-2.0 and MIT
+// Copyright 2023-20xx BooleWorks GmbH
+
+package com.booleworks.logicng.serialization;
+
+import com.booleworks.logicng.formulas.FormulaFactory;
+import com.booleworks.logicng.propositions.StandardProposition;
+import com.booleworks.logicng.serialization.propositions.ProtoBufPropositions.PBPropositionList;
+import com.google.protobuf.CodedInputStream;
+import com.google.protobuf.CodedOutputStream;
+import com.google.protobuf.ExtensionRegistryLite;
+
+import java.io.IOException;
+import java.util.List;
+
+/**
+ * The codec for standard propositions.  A batch is encoded as {@link PBPropositionList}, so the formulas
+ * of all propositions of a batch share one formula mapping.
+ * @version 3.0.0
+ * @since 3.0.0
+ */
+final class StandardPropositionCodec implements PropositionCodec<StandardProposition> {
+
+    @Override
+    public void encode(final List<StandardProposition> propositions, final CodedOutputStream output) throws IOException {
+        Propositions.serializePropositionList(propositions).writeTo(output);
+    }
+
+    @Override
+    public List<StandardProposition> decode(final FormulaFactory f, final CodedInputStream input) throws IOException {
+        return Propositions.deserializePropositionList(f, PBPropositionList.parser().parseFrom(input, ExtensionRegistryLite.getEmptyRegistry()));
+    }
+}
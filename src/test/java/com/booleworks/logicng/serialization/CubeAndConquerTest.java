@@ -0,0 +1,133 @@
+// SPDX-License-Identifier: Apache-2.0 and MIT
+// Copyright 2023-20xx BooleWorks GmbH
+
+package com.booleworks.logicng.serialization;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import com.booleworks.logicng.datastructures.Tristate;
+import com.booleworks.logicng.formulas.Formula;
+import com.booleworks.logicng.formulas.FormulaFactory;
+import com.booleworks.logicng.formulas.Literal;
+import com.booleworks.logicng.io.parsers.ParserException;
+import com.booleworks.logicng.io.parsers.PropositionalParser;
+import com.booleworks.logicng.io.readers.FormulaReader;
+import com.booleworks.logicng.serialization.solvers.ProtoBufSatSolver.PBSatSolver;
+import com.booleworks.logicng.solvers.SATSolver;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.io.PipedInputStream;
+import java.io.PipedOutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.stream.Collectors;
+
+public class CubeAndConquerTest {
+
+    private static FormulaFactory f;
+    private static Formula formula;
+
+    @BeforeAll
+    public static void init() throws ParserException, IOException {
+        f = FormulaFactory.caching();
+        formula = FormulaReader.readPropositionalFormula(f, Paths.get("src/test/resources/large_formula.txt").toFile());
+    }
+
+    @Test
+    public void testSplitCubes() {
+        final SATSolver solver = SATSolver.newSolver(f);
+        solver.add(formula);
+        solver.sat();
+        final List<List<Literal>> cubes = CubeAndConquer.splitCubes(solver, 3);
+        assertThat(cubes).hasSize(8);
+        assertThat(cubes).allSatisfy(cube -> assertThat(cube).hasSize(3));
+        assertThat(cubes.stream().map(HashSet::new).collect(Collectors.toSet())).hasSize(8);
+        assertThat(cubes.stream().map(cube -> cube.stream().map(Literal::variable).collect(Collectors.toSet())).distinct()).hasSize(1);
+    }
+
+    @Test
+    public void testIllegalDepth() {
+        final SATSolver solver = SATSolver.newSolver(f);
+        solver.add(formula);
+        assertThat(CubeAndConquer.splitCubes(solver, 0)).containsExactly(List.of());
+        assertThatThrownBy(() -> CubeAndConquer.splitCubes(solver, -1)).isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> CubeAndConquer.splitCubes(solver, 31)).isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    public void testSolveWithWorkerProcesses() throws IOException, InterruptedException, ParserException {
+        final Path directory = Files.createTempDirectory("cubes");
+        try {
+            final SATSolver solver = SATSolver.newSolver(f);
+            solver.add(formula);
+            solver.sat();
+            final CubeAndConquer cubeAndConquer = new CubeAndConquer(2, directory);
+            final List<List<Literal>> cubes = CubeAndConquer.splitCubes(solver, 3);
+            assertThat(cubeAndConquer.solve(solver, cubes)).isEqualTo(Tristate.TRUE);
+            solver.add(new PropositionalParser(f).parse("v1668 & v1671"));
+            assertThat(cubeAndConquer.solve(solver, cubes)).isEqualTo(Tristate.FALSE);
+            assertThat(directory).isEmptyDirectory();
+        } finally {
+            Files.delete(directory);
+        }
+    }
+
+    @Test
+    public void testSatisfiable() throws IOException, InterruptedException {
+        final SATSolver solver = SATSolver.newSolver(f);
+        solver.add(formula);
+        solver.sat();
+        assertThat(dispatchInProcess(solver, CubeAndConquer.splitCubes(solver, 4), 3)).isEqualTo(Tristate.TRUE);
+    }
+
+    @Test
+    public void testUnsatisfiable() throws IOException, InterruptedException, ParserException {
+        final SATSolver solver = SATSolver.newSolver(f);
+        solver.add(formula);
+        solver.sat();
+        final List<List<Literal>> cubes = CubeAndConquer.splitCubes(solver, 3);
+        solver.add(new PropositionalParser(f).parse("v1668 & v1671"));
+        assertThat(dispatchInProcess(solver, cubes, 2)).isEqualTo(Tristate.FALSE);
+    }
+
+    private static Tristate dispatchInProcess(final SATSolver base, final List<List<Literal>> cubes, final int workers)
+            throws IOException, InterruptedException {
+        final PBSatSolver bin = SolverSerializer.withoutProofs(f).serializeSolver(base);
+        final List<CubeAndConquer.WorkerChannel> channels = new ArrayList<>();
+        final List<PipedOutputStream> streams = new ArrayList<>();
+        for (int i = 0; i < workers; i++) {
+            final PipedOutputStream toWorker = new PipedOutputStream();
+            final PipedInputStream workerInput = new PipedInputStream(toWorker, 1 << 16);
+            final PipedOutputStream workerOutput = new PipedOutputStream();
+            final PipedInputStream fromWorker = new PipedInputStream(workerOutput, 1 << 16);
+            final FormulaFactory ff = FormulaFactory.caching();
+            final SATSolver solver = SolverSerializer.withoutProofs(ff).deserializeSatSolver(bin);
+            final Thread worker = new Thread(() -> {
+                try {
+                    CubeWorker.serve(ff, solver, workerInput, workerOutput);
+                    workerOutput.close();
+                } catch (final IOException e) {
+                    // terminated by the test
+                }
+            });
+            worker.setDaemon(true);
+            worker.start();
+            channels.add(new CubeAndConquer.WorkerChannel(toWorker, fromWorker));
+            streams.add(toWorker);
+        }
+        try {
+            return CubeAndConquer.dispatch(channels, CubeAndConquer.serializeCubes(cubes));
+        } finally {
+            for (final PipedOutputStream stream : streams) {
+                stream.close();
+            }
+        }
+    }
+}
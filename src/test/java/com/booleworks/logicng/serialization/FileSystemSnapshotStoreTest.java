@@ -0,0 +1,105 @@
+// SPDX-License-Identifier: Apache-2.0 and MIT
+// Copyright 2023-20xx BooleWorks GmbH
+
+package com.booleworks.logicng.serialization;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import com.booleworks.logicng.formulas.Formula;
+import com.booleworks.logicng.formulas.FormulaFactory;
+import com.booleworks.logicng.io.parsers.ParserException;
+import com.booleworks.logicng.io.readers.FormulaReader;
+import com.booleworks.logicng.serialization.formulas.ProtoBufFormulas.PBFormulas;
+import com.booleworks.logicng.serialization.solvers.ProtoBufSatSolver.PBSatSolver;
+import com.booleworks.logicng.solvers.SATSolver;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.Comparator;
+import java.util.List;
+import java.util.stream.Stream;
+
+public class FileSystemSnapshotStoreTest {
+
+    private static FormulaFactory f;
+    private static SolverSerializer serializer;
+    private static Formula formula;
+    private Path root;
+    private SnapshotStore store;
+
+    @BeforeAll
+    public static void init() throws ParserException, IOException {
+        f = FormulaFactory.caching();
+        serializer = SolverSerializer.withoutProofs(f);
+        formula = FormulaReader.readPropositionalFormula(f, Paths.get("src/test/resources/large_formula.txt").toFile());
+    }
+
+    @BeforeEach
+    public void createStore() throws IOException {
+        root = Files.createTempDirectory("snapshots");
+        store = new FileSystemSnapshotStore(root);
+    }
+
+    @AfterEach
+    public void deleteStore() throws IOException {
+        try (final Stream<Path> files = Files.walk(root)) {
+            for (final Path file : (Iterable<Path>) files.sorted(Comparator.reverseOrder())::iterator) {
+                Files.delete(file);
+            }
+        }
+    }
+
+    @Test
+    public void testSolverSnapshots() throws IOException {
+        final SATSolver solver = SATSolver.newSolver(f);
+        solver.add(formula);
+        final PBSatSolver first = serializer.serializeSolver(solver);
+        final int firstChunks = store.put("first", first);
+        assertThat(firstChunks).isEqualTo(store.getManifest("first").size());
+        assertThat(store.put("again", first)).isZero();
+
+        solver.sat();
+        final PBSatSolver second = serializer.serializeSolver(solver);
+        final int secondChunks = store.put("second", second);
+        assertThat(secondChunks).isLessThan(store.getManifest("second").size());
+
+        assertThat(store.get("first", PBSatSolver.parser())).isEqualTo(first);
+        final PBSatSolver loaded = store.get("second", PBSatSolver.parser());
+        assertThat(loaded).isEqualTo(second);
+        SolverComperator.compareSolverStates(solver, serializer.deserializeSatSolver(loaded));
+    }
+
+    @Test
+    public void testFormulaSnapshots() throws IOException {
+        final PBFormulas formulas = Formulas.serializeFormulas(List.of(formula));
+        store.put("formulas", formulas);
+        assertThat(store.get("formulas", PBFormulas.parser())).isEqualTo(formulas);
+        assertThat(Formulas.deserializeFormulaList(f, store.get("formulas", PBFormulas.parser()))).containsExactly(formula);
+    }
+
+    @Test
+    public void testCorruptChunk() throws IOException {
+        final PBFormulas formulas = Formulas.serializeFormulas(List.of(formula));
+        store.put("formulas", formulas);
+        final String hash = store.getManifest("formulas").get(0);
+        final Path path = root.resolve("chunks").resolve(hash.substring(0, 2)).resolve(hash);
+        final byte[] content = Files.readAllBytes(path);
+        content[content.length / 2] ^= 1;
+        Files.write(path, content);
+        assertThatThrownBy(() -> store.getChunk(hash)).isInstanceOf(IOException.class).hasMessageContaining(hash);
+        assertThatThrownBy(() -> store.get("formulas", PBFormulas.parser())).isInstanceOf(IOException.class);
+    }
+
+    @Test
+    public void testIllegalNames() {
+        assertThatThrownBy(() -> store.put("../escape", PBFormulas.getDefaultInstance())).isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> store.getChunk("not-a-hash")).isInstanceOf(IllegalArgumentException.class);
+    }
+}
@@ -0,0 +1,66 @@
+// SPDX-License-Identifier: Apache-2.0 and MIT
+// Copyright 2023-20xx BooleWorks GmbH
+
+package com.booleworks.logicng.serialization;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.booleworks.logicng.formulas.Formula;
+import com.booleworks.logicng.formulas.FormulaFactory;
+import com.booleworks.logicng.io.parsers.ParserException;
+import com.booleworks.logicng.io.parsers.PropositionalParser;
+import com.google.protobuf.ByteString;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.util.List;
+
+public class FormulaDeserializationCacheTest {
+
+    private final FormulaFactory f = FormulaFactory.caching();
+
+    @Test
+    public void testHitsAndMisses() throws ParserException, IOException {
+        final PropositionalParser p = new PropositionalParser(f);
+        final List<Formula> formulas = List.of(p.parse("(a => b) & (c | ~d)"), p.parse("e <=> f"));
+        final FormulaFactory g = FormulaFactory.caching();
+        final FormulaDeserializationCache cache = new FormulaDeserializationCache(g, 1000);
+        final List<Formula> first = cache.deserializeFormulaList(Formulas.serializeFormulas(formulas).toByteString());
+        assertThat(first.toString()).isEqualTo(formulas.toString());
+        assertThat(first.get(0).factory()).isSameAs(g);
+        final ByteString copy = ByteString.copyFrom(Formulas.serializeFormulas(formulas).toByteArray());
+        assertThat(cache.deserializeFormulaList(copy)).isSameAs(first);
+        assertThat(cache.deserializeFormulaListFromStream(copy.newInput())).isSameAs(first);
+        assertThat(cache.hits()).isEqualTo(2);
+        assertThat(cache.misses()).isOne();
+        assertThat(cache.nodes()).isEqualTo(Formulas.serializeFormulas(formulas).getMapping().getMappingCount());
+
+        final Formula single = cache.deserializeFormula(Formulas.serializeFormula(p.parse("a & b")).toByteString());
+        assertThat(single).isEqualTo(g.and(g.variable("a"), g.variable("b")));
+        assertThat(cache.misses()).isEqualTo(2);
+        assertThat(cache.size()).isEqualTo(2);
+    }
+
+    @Test
+    public void testEviction() throws ParserException, IOException {
+        final PropositionalParser p = new PropositionalParser(f);
+        final ByteString p1 = Formulas.serializeFormula(p.parse("(a => b) & (c | ~d)")).toByteString();
+        final ByteString p2 = Formulas.serializeFormula(p.parse("(x => y) & (z | ~w)")).toByteString();
+        final ByteString p3 = Formulas.serializeFormula(p.parse("(u => v) & (s | ~t)")).toByteString();
+        final FormulaDeserializationCache probe = new FormulaDeserializationCache(f, Long.MAX_VALUE);
+        probe.deserializeFormulaList(p1);
+        final FormulaDeserializationCache cache = new FormulaDeserializationCache(f, 2 * probe.nodes());
+        cache.deserializeFormulaList(p1);
+        cache.deserializeFormulaList(p2);
+        cache.deserializeFormulaList(p1);
+        cache.deserializeFormulaList(p3);
+        assertThat(cache.evictions()).isOne();
+        assertThat(cache.size()).isEqualTo(2);
+        cache.deserializeFormulaList(p1);
+        assertThat(cache.hits()).isEqualTo(2);
+        cache.deserializeFormulaList(p2);
+        assertThat(cache.misses()).isEqualTo(4);
+        cache.clear();
+        assertThat(cache.nodes()).isZero();
+    }
+}
@@ -0,0 +1,69 @@
+// SPDX-License-Identifier: Apache-2.0 and MIT
+// Copyright 2023-20xx BooleWorks GmbH
+
+package com.booleworks.logicng.serialization;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.booleworks.logicng.formulas.Formula;
+import com.booleworks.logicng.formulas.FormulaFactory;
+import com.booleworks.logicng.io.parsers.ParserException;
+import com.booleworks.logicng.io.parsers.PropositionalParser;
+import com.booleworks.logicng.serialization.formulas.ProtoBufFormulas.PBFormulas;
+import com.google.protobuf.ByteString;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+
+public class FormulaSerializationCacheTest {
+
+    private final FormulaFactory f = FormulaFactory.caching();
+
+    @Test
+    public void testHitsAndMisses() throws ParserException, IOException {
+        final PropositionalParser p = new PropositionalParser(f);
+        final Formula formula = p.parse("(a => b) & (c | ~d) & (e <=> f)");
+        final FormulaSerializationCache cache = new FormulaSerializationCache(1 << 20);
+        final ByteString first = cache.serialize(formula);
+        assertThat(first).isEqualTo(Formulas.serializeFormula(formula).toByteString());
+        assertThat(cache.serialize(p.parse("(a => b) & (c | ~d) & (e <=> f)"))).isSameAs(first);
+        assertThat(cache.hits()).isOne();
+        assertThat(cache.misses()).isOne();
+        assertThat(cache.size()).isOne();
+        assertThat(cache.bytes()).isEqualTo(first.size());
+
+        final ByteArrayOutputStream stream = new ByteArrayOutputStream();
+        cache.serializeToStream(formula, stream);
+        assertThat(Formulas.deserializeFormula(FormulaFactory.caching(), PBFormulas.parseFrom(stream.toByteArray())).toString())
+                .isEqualTo(formula.toString());
+        assertThat(cache.hits()).isEqualTo(2);
+    }
+
+    @Test
+    public void testEviction() throws ParserException {
+        final PropositionalParser p = new PropositionalParser(f);
+        final Formula f1 = p.parse("(a => b) & (c | ~d)");
+        final Formula f2 = p.parse("(x => y) & (z | ~w)");
+        final Formula f3 = p.parse("(u => v) & (s | ~t)");
+        final int size = Formulas.serializeFormula(f1).getSerializedSize();
+        final FormulaSerializationCache cache = new FormulaSerializationCache(2L * size);
+        cache.serialize(f1);
+        cache.serialize(f2);
+        cache.serialize(f1);
+        cache.serialize(f3);
+        assertThat(cache.evictions()).isOne();
+        assertThat(cache.bytes()).isLessThanOrEqualTo(2L * size);
+        cache.serialize(f1);
+        assertThat(cache.hits()).isEqualTo(2);
+        cache.serialize(f2);
+        assertThat(cache.misses()).isEqualTo(4);
+
+        final FormulaSerializationCache empty = new FormulaSerializationCache(0);
+        empty.serialize(f1);
+        assertThat(empty.size()).isZero();
+        cache.clear();
+        assertThat(cache.size()).isZero();
+        assertThat(cache.bytes()).isZero();
+    }
+}
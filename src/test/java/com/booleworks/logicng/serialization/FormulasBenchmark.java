@@ -0,0 +1,104 @@
+// SPDX-License-Identifier: Apache-2.0 and MIT
+// Copyright 2023-20xx BooleWorks GmbH
+
+package com.booleworks.logicng.serialization;
+
+import com.booleworks.logicng.formulas.Formula;
+import com.booleworks.logicng.formulas.FormulaFactory;
+import com.booleworks.logicng.functions.SubNodeFunction;
+import com.booleworks.logicng.io.parsers.ParserException;
+import com.booleworks.logicng.io.readers.FormulaReader;
+import com.booleworks.logicng.serialization.formulas.ProtoBufFormulas.PBFormulaMapping;
+import com.booleworks.logicng.serialization.formulas.ProtoBufFormulas.PBFormulas;
+import com.booleworks.logicng.serialization.formulas.ProtoBufFormulas.PBInternalFormula;
+import com.booleworks.logicng.util.FormulaRandomizer;
+import com.booleworks.logicng.util.FormulaRandomizerConfig;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.io.IOException;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmark of the formula to ID mapping of the formula serialization on large formula DAGs.
+ * <p>
+ * Compares the serialization with the identity-based {@link FormulaIdMap} to the previous serialization
+ * with boxed {@link LinkedHashMap linked hash maps} and the {@link SubNodeFunction}.  Run with
+ * {@link #main(String[])} from the test classpath.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class FormulasBenchmark {
+
+    @Param({"large_formula", "random_dag"})
+    public String input;
+
+    private FormulaFactory f;
+    private List<Formula> formulas;
+
+    @Setup
+    public void setup() throws IOException, ParserException {
+        f = FormulaFactory.caching();
+        if ("large_formula".equals(input)) {
+            formulas = List.of(FormulaReader.readPropositionalFormula(f, Paths.get("src/test/resources/large_formula.txt").toFile()));
+        } else {
+            final FormulaRandomizer randomizer = new FormulaRandomizer(f, FormulaRandomizerConfig.builder().seed(42).build());
+            formulas = new ArrayList<>();
+            for (int i = 0; i < 200; i++) {
+                formulas.add(randomizer.formula(8));
+            }
+        }
+    }
+
+    @Benchmark
+    public PBFormulas formulaIdMap() {
+        return Formulas.serializeFormulas(formulas);
+    }
+
+    @Benchmark
+    public PBFormulas linkedHashMap() {
+        final Map<Formula, Integer> formula2id = new LinkedHashMap<>();
+        final Map<Integer, PBInternalFormula> id2formula = new LinkedHashMap<>();
+        int id = 0;
+        final SubNodeFunction subNodeFunction = new SubNodeFunction(f);
+        for (final Formula formula : formulas) {
+            for (final Formula subnode : formula.apply(subNodeFunction)) {
+                if (!formula2id.containsKey(subnode)) {
+                    formula2id.put(subnode, id);
+                    id2formula.put(id, Formulas.serialize(subnode, formula2id));
+                    id++;
+                }
+            }
+        }
+        final PBFormulas.Builder builder = PBFormulas.newBuilder();
+        for (final Formula formula : formulas) {
+            builder.addId(formula2id.get(formula));
+        }
+        return builder.setMapping(PBFormulaMapping.newBuilder().putAllMapping(id2formula)).build();
+    }
+
+    public static void main(final String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder().include(FormulasBenchmark.class.getSimpleName()).build()).run();
+    }
+}
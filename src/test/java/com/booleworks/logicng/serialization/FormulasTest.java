@@ -5,14 +5,17 @@ package com.booleworks.logicng.serialization;
 
 import static com.booleworks.logicng.serialization.Formulas.deserializeFormulaList;
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 
 import com.booleworks.logicng.formulas.Formula;
 import com.booleworks.logicng.formulas.FormulaFactory;
 import com.booleworks.logicng.io.parsers.ParserException;
 import com.booleworks.logicng.io.parsers.PropositionalParser;
 import com.booleworks.logicng.serialization.formulas.ProtoBufFormulas.PBFormulas;
+import com.booleworks.logicng.serialization.formulas.ProtoBufFormulas.PBInternalFormula;
 import com.booleworks.logicng.util.FormulaRandomizer;
 import com.booleworks.logicng.util.FormulaRandomizerConfig;
+import com.booleworks.logicng.util.Pair;
 import org.junit.jupiter.api.Test;
 
 import java.io.IOException;
@@ -20,7 +23,9 @@ import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
 import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.zip.GZIPInputStream;
 import java.util.zip.GZIPOutputStream;
 
@@ -94,6 +99,72 @@ public class FormulasTest {
         Files.deleteIfExists(ZIP);
     }
 
+    @Test
+    public void testCnfFormulas() throws ParserException {
+        final PropositionalParser p = new PropositionalParser(f);
+        final List<Formula> cnfs = List.of(p.parse("$true"), p.parse("$false"), p.parse("~a"), p.parse("a | ~b | c"),
+                p.parse("(a | ~b) & ~c & (b | c | ~d)"), p.parse("a & b"));
+        assertThat(Formulas.serializeFormulas(cnfs).hasCnf()).isFalse();
+        assertThat(Formulas.serializeFormula(f.variable("a")).hasCnf()).isFalse();
+        final PBFormulas bin = Formulas.serializeCnfFormulas(cnfs);
+        assertThat(bin.hasCnf()).isTrue();
+        assertThat(bin.getMapping().getMappingCount()).isZero();
+        assertThat(bin.getCnf().getVariableList()).containsExactly("a", "b", "c", "d");
+        assertThat(bin.getCnf().getClausesList()).containsExactly(0, 1, 1, 1, 3, 2);
+        assertThat(deserializeFormulaList(f, bin)).isEqualTo(cnfs);
+        assertThat(deserializeFormulaList(FormulaFactory.caching(), bin).toString()).isEqualTo(cnfs.toString());
+
+        final List<Formula> mixed = List.of(p.parse("(a | ~b) & c"), p.parse("a => b"));
+        final PBFormulas mixedBin = Formulas.serializeFormulas(mixed);
+        assertThat(mixedBin.hasCnf()).isFalse();
+        assertThat(deserializeFormulaList(f, mixedBin)).isEqualTo(mixed);
+        assertThatThrownBy(() -> Formulas.serializeCnfFormulas(mixed)).isInstanceOf(IllegalArgumentException.class);
+        assertThat(Formulas.isCnf(p.parse("(a | b) & ~(c | d)"))).isFalse();
+    }
+
+    @Test
+    public void testFormulasWithCaches() throws ParserException {
+        final PropositionalParser p = new PropositionalParser(f);
+        final Formula impl = p.parse("a => b");
+        final Formula formula = p.parse("(a => b) & c");
+        final Map<Formula, Formula> nnf = new HashMap<>();
+        nnf.put(impl, p.parse("~a | b"));
+        nnf.put(p.parse("x => y"), p.parse("~x | y"));
+        final Map<Formula, Boolean> sat = new HashMap<>();
+        sat.put(formula, true);
+        sat.put(p.parse("x & ~x"), false);
+        final PBFormulas bin = Formulas.serializeFormulas(List.of(formula), Map.of("NNF", nnf), Map.of("SAT", sat));
+        assertThat(bin.getTransformationCache(0).getFormulaCount()).isOne();
+        assertThat(bin.getPredicateCache(0).getFormulaCount()).isOne();
+
+        final FormulaFactory g = FormulaFactory.caching();
+        final PropositionalParser pg = new PropositionalParser(g);
+        final Map<Formula, Formula> restoredNnf = new HashMap<>();
+        final Map<Formula, Boolean> restoredSat = new HashMap<>();
+        final List<Formula> restored = deserializeFormulaList(g, bin, Map.of("NNF", restoredNnf), Map.of("SAT", restoredSat));
+        assertThat(restored).containsExactly(pg.parse("(a => b) & c"));
+        assertThat(restoredNnf).containsExactly(Map.entry(pg.parse("a => b"), pg.parse("~a | b")));
+        assertThat(restoredSat).containsExactly(Map.entry(pg.parse("(a => b) & c"), true));
+        assertThat(deserializeFormulaList(g, bin)).isEqualTo(restored);
+    }
+
+    @Test
+    public void testCnfFormulasFromFile() throws IOException, ParserException {
+        final FormulaFactory f1 = FormulaFactory.caching();
+        final PropositionalParser p1 = new PropositionalParser(f1);
+        final List<Formula> clauses = new ArrayList<>();
+        for (final String line : Files.readAllLines(ORIGINAL)) {
+            final Formula formula = p1.parse(line);
+            if (Formulas.isCnf(formula)) {
+                clauses.add(formula);
+            }
+        }
+        final PBFormulas bin = Formulas.serializeCnfFormulas(clauses);
+        final List<Formula> deserialized = deserializeFormulaList(FormulaFactory.caching(), bin);
+        assertThat(deserialized).hasSize(clauses.size());
+        assertThat(deserialized.toString()).isEqualTo(clauses.toString());
+    }
+
     @Test
     public void testRandomizedFormulas() {
         final FormulaRandomizer randomizer = new FormulaRandomizer(f, FormulaRandomizerConfig.builder().seed(42).build());
@@ -104,4 +175,49 @@ public class FormulasTest {
             assertThat(deserialized).isEqualTo(original);
         }
     }
+
+    @Test
+    public void testRandomizedFormulasNonCaching() {
+        final FormulaFactory g = FormulaFactory.nonCaching();
+        final FormulaRandomizer randomizer = new FormulaRandomizer(g, FormulaRandomizerConfig.builder().seed(42).build());
+        for (int i = 0; i < 1000; i++) {
+            final Formula original = randomizer.formula(5);
+            final PBFormulas serialized = Formulas.serializeFormula(original);
+            assertThat(Formulas.deserializeFormula(g, serialized)).isEqualTo(original);
+            assertThat(Formulas.deserializeFormula(f, serialized)).isEqualTo(Formulas.deserializeFormula(f, Formulas.serializeFormula(
+                    Formulas.deserializeFormula(f, serialized))));
+        }
+    }
+
+    @Test
+    public void testMappingsInPostOrder() throws ParserException {
+        final PropositionalParser p = new PropositionalParser(f);
+        final List<Formula> formulas = List.of(p.parse("(a => b) & (c | ~d) & ~(a <=> e)"), p.parse("(c | ~d) <=> e"));
+        final Pair<Map<Formula, Integer>, Map<Integer, PBInternalFormula>> mappings = Formulas.computeMappings(f, formulas);
+        assertThat(mappings.first().values()).containsExactly(0, 1, 2, 3, 4, 5, 6, 7, 8, 9, 10);
+        assertThat(mappings.second().keySet()).containsExactly(0, 1, 2, 3, 4, 5, 6, 7, 8, 9, 10);
+        mappings.second().forEach((id, node) -> assertThat(node.getOperandList()).allMatch(op -> op < id));
+        assertThat(mappings.first().get(p.parse("(c | ~d) <=> e"))).isEqualTo(10);
+        assertThat(Formulas.serializeFormulas(formulas).getMapping().getMappingMap()).isEqualTo(mappings.second());
+    }
+
+    @Test
+    public void testFormulaIdMap() {
+        final FormulaRandomizer randomizer = new FormulaRandomizer(f, FormulaRandomizerConfig.builder().seed(42).build());
+        final FormulaIdMap map = new FormulaIdMap(true, 0);
+        final List<Formula> formulas = new ArrayList<>();
+        for (int i = 0; i < 1000; i++) {
+            final Formula formula = randomizer.formula(3);
+            if (!map.containsKey(formula)) {
+                map.put(formula, formulas.size());
+                formulas.add(formula);
+            }
+        }
+        assertThat(map.size()).isEqualTo(formulas.size());
+        for (int i = 0; i < formulas.size(); i++) {
+            assertThat(map.get(formulas.get(i))).isEqualTo(i);
+        }
+        assertThat(map.formulasById()).containsExactlyElementsOf(formulas);
+        assertThat(map.get(f.variable("unknown"))).isEqualTo(FormulaIdMap.ABSENT);
+    }
 }
@@ -0,0 +1,142 @@
+// SPDX-License-Identifier: Apache-2.0 and MIT
+// Copyright 2023-20xx BooleWorks GmbH
+
+package com.booleworks.logicng.serialization;
+
+import static com.booleworks.logicng.serialization.ReflectionHelper.getField;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import com.booleworks.logicng.collections.LNGIntVector;
+import com.booleworks.logicng.collections.LNGVector;
+import com.booleworks.logicng.formulas.Formula;
+import com.booleworks.logicng.formulas.FormulaFactory;
+import com.booleworks.logicng.io.parsers.ParserException;
+import com.booleworks.logicng.io.readers.FormulaReader;
+import com.booleworks.logicng.serialization.solvers.ProtoBufSatSolver.PBSatSolver;
+import com.booleworks.logicng.serialization.solvers.datastructures.ProtoBufSolverDatastructures.PBProofLogReference;
+import com.booleworks.logicng.solvers.SATSolver;
+import com.booleworks.logicng.solvers.sat.SATSolverConfig;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.List;
+
+public class ProofLogTest {
+
+    private static FormulaFactory f;
+    private static SolverSerializer serializer;
+    private static Formula formula;
+    private Path logFile;
+
+    @BeforeAll
+    public static void init() throws ParserException, IOException {
+        f = FormulaFactory.caching();
+        serializer = SolverSerializer.withoutProofs(f);
+        formula = FormulaReader.readPropositionalFormula(f, Paths.get("src/test/resources/large_formula.txt").toFile());
+    }
+
+    @BeforeEach
+    public void createLogFile() throws IOException {
+        logFile = Files.createTempFile("proof", "log");
+    }
+
+    @AfterEach
+    public void deleteLogFile() throws IOException {
+        Files.deleteIfExists(logFile);
+    }
+
+    @Test
+    public void testDrainAndLoad() throws IOException {
+        final SATSolver solver = SATSolver.newSolver(f, SATSolverConfig.builder().proofGeneration(true).build());
+        solver.add(formula);
+        assertThat(solver.sat()).isTrue();
+        solver.add(f.variable("v1668"));
+        solver.add(f.variable("v1671"));
+        assertThat(solver.sat()).isFalse();
+        final List<String> steps = proofSteps(solver);
+        assertThat(steps).isNotEmpty();
+
+        final PBSatSolver bin;
+        try (final ProofLog log = ProofLog.create(logFile)) {
+            bin = serializer.serializeSolver(solver, log);
+        }
+        assertThat(proofSteps(solver)).isEmpty();
+        assertThat(bin.getPgProof().getElementCount()).isZero();
+        assertThat(bin.getProofLog().getSteps()).isEqualTo(steps.size());
+        assertThat(bin.getProofLog().getOffset()).isEqualTo(Files.size(logFile));
+
+        final SATSolver restored = serializer.deserializeSatSolver(bin);
+        assertThat(proofSteps(restored)).isEmpty();
+        ProofLog.load(restored, bin.getProofLog());
+        assertThat(proofSteps(restored)).isEqualTo(steps);
+    }
+
+    @Test
+    public void testResume() throws IOException {
+        final SATSolver solver = SATSolver.newSolver(f, SATSolverConfig.builder().proofGeneration(true).build());
+        solver.add(formula);
+        solver.sat();
+        final PBProofLogReference reference;
+        try (final ProofLog log = ProofLog.create(logFile)) {
+            final int drained = log.drain(solver);
+            reference = log.reference();
+            assertThat(reference.getSteps()).isEqualTo(drained);
+            solver.add(f.variable("v1668"));
+            solver.add(f.variable("v1671"));
+            solver.sat();
+            log.drain(solver);
+            assertThat(log.reference().getSteps()).isGreaterThan(reference.getSteps());
+        }
+        try (final ProofLog resumed = ProofLog.resume(reference)) {
+            assertThat(resumed.reference()).isEqualTo(reference);
+        }
+        assertThat(Files.size(logFile)).isEqualTo(reference.getOffset());
+        assertThat(ProofLog.read(reference).size()).isEqualTo((int) reference.getSteps());
+    }
+
+    @Test
+    public void testWithoutProofGeneration() throws IOException {
+        final SATSolver solver = SATSolver.newSolver(f);
+        solver.add(formula);
+        try (final ProofLog log = ProofLog.create(logFile)) {
+            assertThatThrownBy(() -> log.drain(solver)).isInstanceOf(IllegalArgumentException.class);
+        }
+    }
+
+    @Test
+    public void testSavedStates() throws IOException {
+        final SATSolver solver = SATSolver.newSolver(f, SATSolverConfig.builder().proofGeneration(true).build());
+        solver.add(formula);
+        solver.sat();
+        solver.saveState();
+        solver.add(f.variable("v1668"));
+        solver.sat();
+        final List<String> steps = proofSteps(solver);
+        try (final ProofLog log = ProofLog.create(logFile)) {
+            assertThatThrownBy(() -> log.drain(solver)).isInstanceOf(IllegalArgumentException.class);
+            assertThatThrownBy(() -> ProofLog.load(solver, log.reference())).isInstanceOf(IllegalArgumentException.class);
+            assertThat(proofSteps(solver)).isEqualTo(steps);
+            final SATSolver other = SATSolver.newSolver(f, SATSolverConfig.builder().proofGeneration(true).build());
+            other.add(formula);
+            other.sat();
+            assertThat(log.drain(other)).isPositive();
+        }
+    }
+
+    private static List<String> proofSteps(final SATSolver solver) {
+        final LNGVector<LNGIntVector> pgProof = getField(solver.underlyingSolver(), "pgProof");
+        final List<String> steps = new ArrayList<>();
+        for (final LNGIntVector step : pgProof) {
+            steps.add(step.toString());
+        }
+        return steps;
+    }
+}
@@ -3,16 +3,29 @@
 
 package com.booleworks.logicng.serialization;
 
+import static com.booleworks.logicng.serialization.Propositions.deserializePropositionList;
 import static com.booleworks.logicng.serialization.Propositions.deserializePropositions;
+import static com.booleworks.logicng.serialization.Propositions.serializePropositionList;
 import static com.booleworks.logicng.serialization.Propositions.serializePropositions;
 import static org.assertj.core.api.Assertions.assertThat;
 
+import com.booleworks.logicng.formulas.Formula;
 import com.booleworks.logicng.formulas.FormulaFactory;
 import com.booleworks.logicng.io.parsers.ParserException;
 import com.booleworks.logicng.io.parsers.PropositionalParser;
+import com.booleworks.logicng.propositions.Proposition;
 import com.booleworks.logicng.propositions.StandardProposition;
+import com.booleworks.logicng.serialization.propositions.ProtoBufPropositions.PBPropositionList;
+import com.google.protobuf.ByteString;
+import com.google.protobuf.CodedOutputStream;
 import org.junit.jupiter.api.Test;
 
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+
 public class PropositionsTest {
 
     final FormulaFactory f = FormulaFactory.caching();
@@ -23,4 +36,51 @@ public class PropositionsTest {
         final StandardProposition p = new StandardProposition("description", parser.parse("a & (b => c + d = 1) <=> ~x"));
         assertThat(deserializePropositions(f, serializePropositions(p))).isEqualTo(p);
     }
+
+    @Test
+    public void testPropositionList() throws ParserException, IOException {
+        final PropositionalParser parser = new PropositionalParser(f);
+        final Formula shared = parser.parse("(a | b | c) & (d => e) & (a + b + c <= 1)");
+        final List<StandardProposition> props = new ArrayList<>();
+        for (int i = 0; i < 20; i++) {
+            props.add(new StandardProposition("p" + i, f.and(shared, f.variable("x" + i))));
+        }
+        final PBPropositionList bin = serializePropositionList(props);
+        final int individualSize = props.stream().mapToInt(p -> serializePropositions(p).getSerializedSize()).sum();
+        assertThat(bin.getSerializedSize()).isLessThan(individualSize / 3);
+        assertThat(deserializePropositionList(f, bin)).isEqualTo(props);
+
+        final Path file = Files.createTempFile("props", "pb");
+        try {
+            Propositions.serializePropositionListToFile(props, file, true);
+            final List<StandardProposition> restored = Propositions.deserializePropositionListFromFile(FormulaFactory.caching(), file, true);
+            assertThat(restored).hasSize(props.size());
+            assertThat(restored.get(7).description()).isEqualTo("p7");
+            assertThat(restored.get(7).formula().toString()).isEqualTo(props.get(7).formula().toString());
+        } finally {
+            Files.deleteIfExists(file);
+        }
+    }
+
+    @Test
+    public void testStandardPropositionCodec() throws ParserException, IOException {
+        final PropositionalParser parser = new PropositionalParser(f);
+        final List<StandardProposition> props = List.of(
+                new StandardProposition("p1", parser.parse("a & (b => c + d = 1) <=> ~x")),
+                new StandardProposition("p2", parser.parse("(b => c + d = 1) | y")),
+                new StandardProposition("", parser.parse("$true")));
+        final PropositionCodec<Proposition> codec = PropositionCodecs.standard().codecFor(StandardProposition.class.getName());
+        final ByteString.Output payload = ByteString.newOutput();
+        final CodedOutputStream output = CodedOutputStream.newInstance(payload);
+        codec.encode(new ArrayList<>(props), output);
+        output.flush();
+        final FormulaFactory g = FormulaFactory.caching();
+        final List<Proposition> decoded = codec.decode(g, payload.toByteString().newCodedInput());
+        assertThat(decoded).hasSize(3);
+        for (int i = 0; i < props.size(); i++) {
+            final StandardProposition prop = (StandardProposition) decoded.get(i);
+            assertThat(prop.description()).isEqualTo(props.get(i).description());
+            assertThat(prop.formula().toString()).isEqualTo(props.get(i).formula().toString());
+        }
+    }
 }
@@ -3,26 +3,56 @@
 
 package com.booleworks.logicng.serialization;
 
+import static com.booleworks.logicng.serialization.ReflectionHelper.getField;
+import static com.booleworks.logicng.serialization.ReflectionHelper.setField;
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 
+import com.booleworks.logicng.collections.LNGVector;
+import com.booleworks.logicng.datastructures.Tristate;
 import com.booleworks.logicng.formulas.Formula;
 import com.booleworks.logicng.formulas.FormulaFactory;
 import com.booleworks.logicng.formulas.Variable;
 import com.booleworks.logicng.io.parsers.ParserException;
 import com.booleworks.logicng.io.parsers.PropositionalParser;
 import com.booleworks.logicng.io.readers.FormulaReader;
+import com.booleworks.logicng.propositions.StandardProposition;
+import com.booleworks.logicng.serialization.formulas.ProtoBufFormulas.PBFormulas;
+import com.booleworks.logicng.serialization.solvers.ProtoBufLearntClauses.PBLearntClauses;
+import com.booleworks.logicng.serialization.solvers.ProtoBufSatSolver.PBSatSolver;
+import com.booleworks.logicng.serialization.solvers.ProtoBufSolverContainer.PBSolverContainer;
 import com.booleworks.logicng.solvers.SATSolver;
+import com.booleworks.logicng.solvers.SolverState;
+import com.booleworks.logicng.solvers.datastructures.LNGBoundedIntQueue;
+import com.booleworks.logicng.solvers.datastructures.LNGBoundedLongQueue;
+import com.booleworks.logicng.solvers.datastructures.LNGClause;
+import com.booleworks.logicng.solvers.datastructures.LNGVariable;
+import com.booleworks.logicng.solvers.sat.LNGCoreSolver;
+import com.booleworks.logicng.solvers.sat.LNGCoreSolver.ProofInformation;
 import com.booleworks.logicng.solvers.sat.SATSolverConfig;
+import com.booleworks.logicng.solvers.sat.SATSolverLowLevelConfig;
 import org.junit.jupiter.api.AfterAll;
 import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.ValueSource;
 
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
 import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
 
 public class SatSolversTest {
 
@@ -92,6 +122,535 @@ public class SatSolversTest {
         SolverComperator.compareSolverStates(solverBefore, solverAfter);
     }
 
+    @Test
+    public void testSolverStreamedSections() throws IOException {
+        final SATSolver solverBefore = SATSolver.newSolver(f);
+        solverBefore.add(formula);
+        solverBefore.sat();
+        final byte[] bytes = serializer.serializeSolver(solverBefore).toByteArray();
+        final SATSolver streamed = serializer.deserializeSatSolverFromStreamSectioned(new ByteArrayInputStream(bytes));
+        final SATSolver parsed = serializer.deserializeSatSolver(PBSatSolver.parseFrom(bytes));
+        SolverComperator.compareSolverStates(parsed, streamed);
+        compareSolverModels(solverBefore, streamed);
+    }
+
+    @Test
+    public void testSolverParallelEncoding() throws IOException {
+        final SATSolver solver = SATSolver.newSolver(f);
+        solver.add(formula);
+        solver.sat();
+        final ExecutorService executor = Executors.newFixedThreadPool(4);
+        try {
+            final ByteArrayOutputStream stream = new ByteArrayOutputStream();
+            serializer.serializeSolverToStream(solver, stream, executor);
+            assertThat(stream.toByteArray()).isEqualTo(serializer.serializeSolver(solver).toByteArray());
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+    @Test
+    public void testSolverParallelDecoding() throws IOException {
+        final SATSolver solver = SATSolver.newSolver(f);
+        solver.add(formula);
+        solver.sat();
+        final PBSatSolver bin = serializer.serializeSolver(solver);
+        final ExecutorService executor = Executors.newFixedThreadPool(4);
+        try {
+            final SATSolver parallel = serializer.deserializeSatSolver(bin, executor);
+            SolverComperator.compareSolverStates(serializer.deserializeSatSolver(bin), parallel);
+            compareSolverModels(solver, parallel);
+            for (final boolean compress : List.of(false, true)) {
+                serializer.serializeSolverToFile(solver, tempFile, compress);
+                final SATSolver fromFile = serializer.deserializeSatSolverFromFile(tempFile, compress, executor);
+                SolverComperator.compareSolverStates(serializer.deserializeSatSolver(serializer.serializeSolver(solver)), fromFile);
+            }
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+    @Test
+    public void testSolverLazyLearnts() {
+        final SATSolver solver = SATSolver.newSolver(f);
+        solver.add(formula);
+        solver.sat();
+        final PBSatSolver bin = serializer.serializeSolver(solver);
+        final ExecutorService executor = Executors.newSingleThreadExecutor();
+        try {
+            final LazyRestore usedBeforeAttach = serializer.deserializeSatSolverLazily(bin, executor);
+            assertThat(usedBeforeAttach.solver().sat()).isTrue();
+            usedBeforeAttach.attachLearnts();
+            assertThat(usedBeforeAttach.solver().sat()).isTrue();
+
+            final LazyRestore restore = serializer.deserializeSatSolverLazily(bin, executor);
+            restore.attachLearnts();
+            assertThat(restore.learntsReady()).isTrue();
+            final LNGVector<LNGClause> learntsBefore = getField(solver.underlyingSolver(), "learnts");
+            final LNGVector<LNGClause> learntsAfter = getField(restore.solver().underlyingSolver(), "learnts");
+            assertThat(learntsAfter.size()).isLessThanOrEqualTo(learntsBefore.size());
+            assertThat((int) getField(restore.solver().underlyingSolver(), "learntsLiterals"))
+                    .isLessThanOrEqualTo((int) getField(solver.underlyingSolver(), "learntsLiterals"));
+            compareSolverModels(solver, restore.solver());
+            assertThat(restore.attachLearntsIfReady()).isTrue();
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+    @Test
+    public void testSolverLazyLearntsAfterNewUnits() {
+        final SATSolver solver = SATSolver.newSolver(f);
+        solver.add(formula);
+        solver.sat();
+        final PBSatSolver bin = serializer.serializeSolver(solver);
+        final List<Formula> units = List.of(f.variable("v1668"), f.variable("v3025").negate(f));
+        final ExecutorService executor = Executors.newSingleThreadExecutor();
+        try {
+            final SATSolver eager = serializer.deserializeSatSolver(bin);
+            final LazyRestore restore = serializer.deserializeSatSolverLazily(bin, executor);
+            for (final SATSolver s : List.of(eager, restore.solver())) {
+                s.add(units);
+                s.sat();
+            }
+            restore.attachLearnts();
+            final LNGVector<LNGClause> learnts = getField(restore.solver().underlyingSolver(), "learnts");
+            final LNGVector<LNGVariable> vars = getField(restore.solver().underlyingSolver(), "vars");
+            for (int i = 0; i < learnts.size(); i++) {
+                final Tristate watch0 = value(vars, learnts.get(i).get(0));
+                final Tristate watch1 = value(vars, learnts.get(i).get(1));
+                if (watch0 == Tristate.FALSE || watch1 == Tristate.FALSE) {
+                    assertThat(watch0 == Tristate.TRUE || watch1 == Tristate.TRUE).isTrue();
+                }
+            }
+            for (final Formula query : List.of(f.variable("v1000"), f.variable("v1000").negate(f), f.variable("v2000"),
+                    f.and(f.variable("v1668").negate(f), f.variable("v2000")))) {
+                assertThat(constrainedSat(restore.solver(), query)).isEqualTo(constrainedSat(eager, query));
+            }
+            compareSolverModels(eager, restore.solver());
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+    private static Tristate value(final LNGVector<LNGVariable> vars, final int lit) {
+        final Tristate assignment = vars.get(LNGCoreSolver.var(lit)).assignment();
+        if (assignment == Tristate.UNDEF) {
+            return Tristate.UNDEF;
+        }
+        return (assignment == Tristate.TRUE) != LNGCoreSolver.sign(lit) ? Tristate.TRUE : Tristate.FALSE;
+    }
+
+    private static boolean constrainedSat(final SATSolver solver, final Formula query) {
+        final SolverState state = solver.saveState();
+        solver.add(query);
+        final boolean result = solver.sat();
+        solver.loadState(state);
+        return result;
+    }
+
+    @Test
+    public void testSolverCapture() throws IOException {
+        final SATSolver solver = SATSolver.newSolver(f);
+        solver.add(formula);
+        solver.sat();
+        final PBSatSolver before = serializer.serializeSolver(solver);
+        final SolverCapture capture = serializer.captureSolver(solver);
+        solver.add(f.variable("v3025").negate(f));
+        solver.sat();
+        final ExecutorService executor = Executors.newSingleThreadExecutor();
+        try {
+            serializer.writeCapture(capture, tempFile, false, executor).join();
+        } finally {
+            executor.shutdown();
+        }
+        final SATSolver captured = serializer.deserializeSatSolverFromFile(tempFile, false);
+        SolverComperator.compareSolverStates(serializer.deserializeSatSolver(before), captured);
+        assertThat(SolverSerializer.peek(tempFile).numClauses()).isEqualTo(before.getClauses().getElementCount());
+        assertThat(SolverSerializer.peek(tempFile).numVars()).isEqualTo(before.getVars().getElementCount());
+    }
+
+    @Test
+    public void testSolverCaptureWithProofs() throws IOException, ParserException {
+        final SolverSerializer propSerializer = SolverSerializer.withStandardPropositions(f);
+        final SATSolver solver = SATSolver.newSolver(f, SATSolverConfig.builder().proofGeneration(true).build());
+        final PropositionalParser p = new PropositionalParser(f);
+        solver.add(new StandardProposition("p1", p.parse("(a | b) & (~a | c) & (b | ~c)")));
+        solver.sat();
+        final PBSatSolver before = propSerializer.serializeSolver(solver);
+        final SolverCapture capture = propSerializer.captureSolver(solver);
+        final LNGVector<ProofInformation> originalClauses = getField(solver.underlyingSolver(), "pgOriginalClauses");
+        originalClauses.get(0).clause().push(LNGCoreSolver.mkLit(0, false));
+        solver.add(new StandardProposition("p2", p.parse("~b | d")));
+        solver.sat();
+        final ExecutorService executor = Executors.newSingleThreadExecutor();
+        try {
+            propSerializer.writeCapture(capture, tempFile, true, executor).join();
+        } finally {
+            executor.shutdown();
+        }
+        final SATSolver captured = propSerializer.deserializeSatSolverFromFile(tempFile, true);
+        SolverComperator.compareSolverStates(propSerializer.deserializeSatSolver(before), captured);
+        final LNGVector<ProofInformation> capturedClauses = getField(captured.underlyingSolver(), "pgOriginalClauses");
+        assertThat(capturedClauses.size()).isEqualTo(before.getPgOriginalClausesCount());
+        assertThat(capturedClauses.get(0).clause().size()).isEqualTo(before.getPgOriginalClauses(0).getClause().getSize());
+    }
+
+    @Test
+    public void testSolverPortfolio() {
+        final SATSolver solver = SATSolver.newSolver(f);
+        solver.add(formula);
+        solver.sat();
+        final PBSatSolver bin = serializer.serializeSolver(solver);
+        final List<SATSolverConfig> configs = List.of(
+                SATSolverConfig.builder().initialPhase(true).build(),
+                SATSolverConfig.builder().clauseMinimization(SATSolverConfig.ClauseMinimization.BASIC).build(),
+                SATSolverConfig.builder().lowLevelConfig(SATSolverLowLevelConfig.builder().varDecay(0.8).restartFirst(50).build()).build()
+        );
+        final ExecutorService executor = Executors.newFixedThreadPool(3);
+        try {
+            final List<SATSolver> portfolio = serializer.deserializeSatSolvers(bin, configs, executor);
+            assertThat(portfolio).hasSize(3);
+            assertThat(portfolio.get(0).underlyingSolver().config().initialPhase()).isTrue();
+            assertThat(portfolio.get(1).underlyingSolver().config().clauseMinimization()).isEqualTo(SATSolverConfig.ClauseMinimization.BASIC);
+            assertThat((double) getField(portfolio.get(2).underlyingSolver(), "varDecay")).isEqualTo(0.8);
+            assertThat((double) getField(portfolio.get(0).underlyingSolver(), "varDecay")).isEqualTo(bin.getVarDecay());
+            for (final SATSolver member : portfolio) {
+                assertThat(member.sat()).isTrue();
+                member.add(f.variable("v1668"));
+                member.add(f.variable("v1671"));
+                assertThat(member.sat()).isFalse();
+            }
+        } finally {
+            executor.shutdown();
+        }
+        assertThatThrownBy(() -> serializer.deserializeSatSolver(bin, SATSolverConfig.builder().proofGeneration(true).build()))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> serializer.deserializeSatSolver(bin, SATSolverConfig.builder().useAtMostClauses(true).build()))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    public void testSolverConfigOverrides() {
+        final SATSolver solver = SATSolver.newSolver(f);
+        solver.add(formula);
+        solver.sat();
+        final PBSatSolver bin = serializer.serializeSolver(solver);
+        final SATSolver restored = serializer.deserializeSatSolver(bin, SATSolverConfig.builder().lowLevelConfig(
+                SATSolverLowLevelConfig.builder().sizeLBDQueue(30).sizeTrailQueue(40).firstReduceDB(2014).restartFirst(50).build()).build());
+        final LNGCoreSolver core = restored.underlyingSolver();
+        final LNGBoundedLongQueue lbdQueue = getField(core, "lbdQueue");
+        assertThat(lbdQueue.getMaxSize()).isEqualTo(30);
+        assertThat(lbdQueue.getElems().size()).isEqualTo(30);
+        assertThat(lbdQueue.getQueueSize()).isZero();
+        final LNGBoundedIntQueue trailQueue = getField(core, "trailQueue");
+        assertThat(trailQueue.getMaxSize()).isEqualTo(40);
+        assertThat(trailQueue.getElems().size()).isEqualTo(40);
+        assertThat(trailQueue.getQueueSize()).isZero();
+        assertThat((int) getField(core, "nbClausesBeforeReduce")).isEqualTo(bin.getNbClausesBeforeReduce() + 2014 - bin.getConfig().getFirstReduceDB());
+        assertThat(core.config().lowLevelConfig().getRestartFirst()).isEqualTo(50);
+        assertThat((double) getField(core, "varInc")).isEqualTo(bin.getVarInc());
+        assertThat(restored.sat()).isTrue();
+
+        final SATSolver unchanged = serializer.deserializeSatSolver(bin, SATSolverConfig.builder().build());
+        SolverComperator.compareSolverStates(solver, unchanged);
+        assertThatThrownBy(() -> serializer.deserializeSatSolver(bin, SATSolverConfig.builder().lowLevelConfig(
+                SATSolverLowLevelConfig.builder().varInc(2).build()).build())).isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    public void testLearntClauseExchange() throws IOException, ParserException {
+        final SATSolver source = SATSolver.newSolver(f);
+        source.add(formula);
+        source.sat();
+        final LearntClauseExporter exporter = new LearntClauseExporter(source, Integer.MAX_VALUE, Long.MAX_VALUE);
+        final PBLearntClauses batch = exporter.export();
+        final LNGVector<LNGClause> learnts = getField(source.underlyingSolver(), "learnts");
+        final Map<Integer, String> idx2name = getField(source.underlyingSolver(), "idx2name");
+        int exportable = 0;
+        for (final LNGClause learnt : learnts) {
+            boolean named = true;
+            for (int i = 0; i < learnt.size(); i++) {
+                named &= !idx2name.get(LNGCoreSolver.var(learnt.get(i))).startsWith("@RESERVED");
+            }
+            exportable += named ? 1 : 0;
+        }
+        assertThat(batch.getLbdCount()).isEqualTo(exportable);
+        assertThat(batch.getLiteralsList().stream().filter(l -> l == 0).count()).isEqualTo(exportable);
+        assertThat(batch.getVariableList()).noneMatch(v -> v.startsWith("@RESERVED"));
+        assertThat(exporter.export().getLbdCount()).isZero();
+
+        final ByteArrayOutputStream pipe = new ByteArrayOutputStream();
+        batch.writeDelimitedTo(pipe);
+        exporter.export().writeDelimitedTo(pipe);
+        final ByteArrayInputStream input = new ByteArrayInputStream(pipe.toByteArray());
+        final PBLearntClauses received = PBLearntClauses.parseDelimitedFrom(input);
+        assertThat(received).isEqualTo(batch);
+        assertThat(PBLearntClauses.parseDelimitedFrom(input).getLbdCount()).isZero();
+        assertThat(PBLearntClauses.parseDelimitedFrom(input)).isNull();
+
+        final FormulaFactory ff = FormulaFactory.caching();
+        final SATSolver target = SATSolver.newSolver(ff);
+        target.add(ff.variable("unrelated"));
+        target.add(FormulaReader.readPropositionalFormula(ff, Paths.get("src/test/resources/large_formula.txt").toFile()));
+        final SolverSerializer targetSerializer = SolverSerializer.withoutProofs(ff);
+        final LNGVector<LNGClause> imported = getField(target.underlyingSolver(), "learnts");
+        final int learntsBefore = imported.size();
+        assertThat(targetSerializer.importLearntClauses(target, received)).isEqualTo(exportable);
+        assertThat(imported.size()).isGreaterThan(learntsBefore);
+        for (int i = learntsBefore; i < imported.size(); i++) {
+            assertThat(imported.get(i).canBeDel()).isTrue();
+            assertThat(received.getLbdList()).contains(imported.get(i).lbd());
+        }
+        assertThat(target.sat()).isTrue();
+        target.add(new PropositionalParser(ff).parse("v1668 & v1671"));
+        assertThat(target.sat()).isFalse();
+
+        final SATSolver withProofs = SATSolver.newSolver(ff, SATSolverConfig.builder().proofGeneration(true).build());
+        assertThatThrownBy(() -> targetSerializer.importLearntClauses(withProofs, received)).isInstanceOf(IllegalArgumentException.class);
+
+        final PBLearntClauses malformed = received.toBuilder().addLiterals(-received.getVariableCount() - 1).addLiterals(0).build();
+        final int learntsBeforeMalformed = imported.size();
+        assertThatThrownBy(() -> targetSerializer.importLearntClauses(target, malformed)).isInstanceOf(IllegalArgumentException.class);
+        assertThat(imported.size()).isEqualTo(learntsBeforeMalformed);
+    }
+
+    @Test
+    public void testSolverContainer() throws IOException {
+        final SATSolver base = SATSolver.newSolver(f);
+        base.add(formula);
+        final List<SATSolver> solvers = List.of(SATSolver.newSolver(f), SATSolver.newSolver(f), SATSolver.newSolver(f));
+        solvers.forEach(s -> s.add(formula));
+        solvers.get(1).add(f.variable("v1668"));
+        solvers.get(1).sat();
+        solvers.get(2).add(f.variable("v1671").negate(f));
+        solvers.get(2).add(f.variable("additional"));
+        solvers.get(2).sat();
+        final LNGClause changed = ((LNGVector<LNGClause>) getField(solvers.get(0).underlyingSolver(), "clauses")).get(0);
+        setField(changed, "activity", 5.0);
+        setField(changed, "lbd", 3L);
+        final PBSolverContainer container = serializer.serializeSolverContainer(base, solvers);
+        assertThat(container.getOverlay(0).getSolver().getClauses().getElementCount()).isZero();
+        assertThat(container.getOverlay(0).getClauseMetadataCount()).isEqualTo(1);
+        assertThat(container.getOverlay(0).getClauseMetadata(0).getActivity()).isEqualTo(5.0);
+        assertThat(container.getOverlayList()).noneMatch(overlay -> overlay.getSolver().hasConfig());
+        final long separateSize = solvers.stream().mapToLong(s -> serializer.serializeSolver(s).getSerializedSize()).sum();
+        assertThat((long) container.getSerializedSize()).isLessThan(separateSize);
+        for (int i = 0; i < solvers.size(); i++) {
+            final SATSolver expected = serializer.deserializeSatSolver(serializer.serializeSolver(solvers.get(i)));
+            SolverComperator.compareSolverStates(expected, serializer.deserializeSatSolver(container, i));
+        }
+        serializer.serializeSolverContainerToFile(base, solvers, tempFile);
+        final SATSolver fromFile = serializer.deserializeSatSolverFromContainerFile(tempFile, 2);
+        SolverComperator.compareSolverStates(serializer.deserializeSatSolver(serializer.serializeSolver(solvers.get(2))), fromFile);
+        compareSolverModels(solvers.get(2), fromFile);
+        assertThatThrownBy(() -> serializer.deserializeSatSolverFromContainerFile(tempFile, 3)).isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> serializer.deserializeSatSolver(container, 3)).isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> serializer.deserializeSatSolver(container, -1)).isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @ParameterizedTest
+    @ValueSource(booleans = {false, true})
+    public void testSnapshotHeader(final boolean compress) throws IOException {
+        final SATSolver solver = SATSolver.newSolver(f);
+        solver.add(formula);
+        solver.sat();
+        serializer.serializeSolverToFile(solver, tempFile, compress);
+        final SnapshotHeader header = SolverSerializer.peek(tempFile);
+        final LNGCoreSolver core = solver.underlyingSolver();
+        assertThat(header.numVars()).isEqualTo(core.nVars());
+        assertThat(header.numClauses()).isEqualTo(((LNGVector<?>) getField(core, "clauses")).size());
+        assertThat(header.numLearnts()).isEqualTo(((LNGVector<?>) getField(core, "learnts")).size());
+        assertThat(header.clausesLiterals()).isEqualTo((int) getField(core, "clausesLiterals"));
+        assertThat(header.learntsLiterals()).isEqualTo((int) getField(core, "learntsLiterals"));
+        assertThat(header.proofGeneration()).isFalse();
+        assertThat(header.compressed()).isEqualTo(compress);
+        assertThat(header.estimatedHeapBytes()).isPositive();
+        try (final InputStream stream = compress ? new GZIPInputStream(Files.newInputStream(tempFile)) : Files.newInputStream(tempFile)) {
+            final PBSatSolver plain = PBSatSolver.parseFrom(stream);
+            assertThat(plain.getSnapshotHeader().isEmpty()).isEqualTo(compress);
+            assertThat(plain.toBuilder().clearSnapshotHeader().build()).isEqualTo(serializer.serializeSolver(solver));
+        }
+        SolverComperator.compareSolverStates(solver, serializer.deserializeSatSolverFromFile(tempFile, !compress));
+        compareSolverModels(solver, serializer.deserializeSatSolverFromFile(tempFile, compress));
+    }
+
+    @Test
+    public void testSnapshotWithoutHeader() throws IOException {
+        final SATSolver solver = SATSolver.newSolver(f);
+        solver.add(formula);
+        try (final var stream = Files.newOutputStream(tempFile)) {
+            serializer.serializeSolverToStream(solver, stream);
+        }
+        assertThatThrownBy(() -> SolverSerializer.peek(tempFile)).isInstanceOf(IllegalArgumentException.class);
+        final SATSolver restored = serializer.deserializeSatSolverFromFile(tempFile, false);
+        SolverComperator.compareSolverStates(solver, restored);
+    }
+
+    @Test
+    public void testSolverNormalized() {
+        final SATSolver solver = SATSolver.newSolver(f);
+        solver.add(formula);
+        solver.add(f.variable("v1668"));
+        assertThat(solver.sat()).isTrue();
+        final PBSatSolver full = serializer.serializeSolver(solver);
+        final PBSatSolver normalized = serializer.serializeSolverNormalized(solver);
+        assertThat(normalized.getSerializedSize()).isLessThan(full.getSerializedSize());
+        assertThat(normalized.getTrailLim().getSize()).isZero();
+        assertThat(normalized.getClausesLiterals()).isLessThan(full.getClausesLiterals());
+
+        final SATSolver restored = serializer.deserializeSatSolver(normalized);
+        assertThat(restored.sat()).isTrue();
+        assertThat(restored.satCall().model(variables).positiveVariables()).contains(f.variable("v1668"));
+        restored.add(f.variable("v1671"));
+        assertThat(restored.sat()).isFalse();
+    }
+
+    @ParameterizedTest
+    @ValueSource(booleans = {false, true})
+    public void testSolverNormalizedToFile(final boolean compress) throws IOException {
+        final SATSolver solver = SATSolver.newSolver(f);
+        solver.add(formula);
+        solver.add(f.variable("v1668"));
+        assertThat(solver.sat()).isTrue();
+        final PBSatSolver normalized = serializer.serializeSolverNormalized(solver);
+        serializer.serializeSolverNormalizedToFile(solver, tempFile, compress);
+        final SnapshotHeader header = SolverSerializer.peek(tempFile);
+        assertThat(header.numVars()).isEqualTo(normalized.getVars().getElementCount());
+        assertThat(header.numClauses()).isEqualTo(normalized.getClauses().getElementCount());
+        assertThat(header.numLearnts()).isEqualTo(normalized.getLearnts().getElementCount());
+        assertThat(header.clausesLiterals()).isEqualTo(normalized.getClausesLiterals());
+        assertThat(header.learntsLiterals()).isEqualTo(normalized.getLearntsLiterals());
+        assertThat(header.clausesLiterals()).isLessThan((int) getField(solver.underlyingSolver(), "clausesLiterals"));
+        assertThat(header.compressed()).isEqualTo(compress);
+        SolverComperator.compareSolverStates(serializer.deserializeSatSolver(normalized), serializer.deserializeSatSolverFromFile(tempFile, compress));
+    }
+
+    @Test
+    public void testSolverPropositionTable() throws ParserException, IOException {
+        final SolverSerializer propSerializer = SolverSerializer.withStandardPropositions(f);
+        final SATSolver solver = SATSolver.newSolver(f, SATSolverConfig.builder().proofGeneration(true).build());
+        final PropositionalParser p = new PropositionalParser(f);
+        final StandardProposition prop1 = new StandardProposition("p1", p.parse("(a | b) & (~a | c) & (b | ~c)"));
+        final StandardProposition prop2 = new StandardProposition("p2", p.parse("(d | e) & (~d | ~e)"));
+        solver.add(prop1);
+        solver.add(prop2);
+        final PBSatSolver bin = propSerializer.serializeSolver(solver);
+        assertThat(bin.getPgOriginalClausesCount()).isEqualTo(5);
+        assertThat(bin.getPropositionTable().getBatchCount()).isEqualTo(1);
+        assertThat(bin.getPropositionTable().getBatch(0).getIndexList()).containsExactly(0, 1);
+
+        final SATSolver restored = propSerializer.deserializeSatSolver(bin);
+        SolverComperator.compareSolverStates(solver, restored);
+        final LNGVector<ProofInformation> originalClauses = getField(restored.underlyingSolver(), "pgOriginalClauses");
+        assertThat(originalClauses.get(0).proposition()).isEqualTo(prop1);
+        assertThat(originalClauses.get(2).proposition()).isSameAs(originalClauses.get(0).proposition());
+        assertThat(originalClauses.get(3).proposition()).isEqualTo(prop2);
+        assertThat(originalClauses.get(4).proposition()).isSameAs(originalClauses.get(3).proposition());
+
+        propSerializer.serializeSolverToFile(solver, tempFile, false);
+        final SATSolver streamed = propSerializer.deserializeSatSolverFromFile(tempFile, false);
+        final LNGVector<ProofInformation> streamedClauses = getField(streamed.underlyingSolver(), "pgOriginalClauses");
+        assertThat(streamedClauses.get(1).proposition()).isSameAs(streamedClauses.get(0).proposition());
+    }
+
+    @Test
+    public void testSolverPropositionCodecs() throws ParserException {
+        final SATSolver solver = SATSolver.newSolver(f, SATSolverConfig.builder().proofGeneration(true).build());
+        solver.add(new StandardProposition("p1", new PropositionalParser(f).parse("(a | b) & (~a | c)")));
+        assertThatThrownBy(() -> SolverSerializer.withPropositionCodecs(f, new PropositionCodecs()).serializeSolver(solver))
+                .isInstanceOf(IllegalArgumentException.class);
+        final PBSatSolver bin = SolverSerializer.withPropositionCodecs(f, PropositionCodecs.standard()).serializeSolver(solver);
+        assertThatThrownBy(() -> SolverSerializer.withPropositionCodecs(f, new PropositionCodecs()).deserializeSatSolver(bin))
+                .isInstanceOf(IllegalArgumentException.class);
+        final SATSolver restored = SolverSerializer.withStandardPropositions(f).deserializeSatSolver(bin);
+        SolverComperator.compareSolverStates(solver, restored);
+    }
+
+    @Test
+    public void testSolverPropositionCodecsWithIndividualPropositions() throws ParserException {
+        final SATSolver solver = SATSolver.newSolver(f, SATSolverConfig.builder().proofGeneration(true).build());
+        final StandardProposition prop = new StandardProposition("p1", new PropositionalParser(f).parse("(a | b) & (~a | c)"));
+        solver.add(prop);
+        final PBSatSolver.Builder legacy = SolverSerializer.withPropositionCodecs(f, PropositionCodecs.standard()).serializeSolver(solver)
+                .toBuilder().clearPropositionTable();
+        for (int i = 0; i < legacy.getPgOriginalClausesCount(); i++) {
+            legacy.setPgOriginalClauses(i, legacy.getPgOriginalClauses(i).toBuilder()
+                    .clearPropositionIndex().setProposition(Propositions.serializePropositions(prop).toByteString()));
+        }
+        final PBSatSolver bin = legacy.build();
+        final SATSolver restored = SolverSerializer.withPropositionCodecs(f, new PropositionCodecs()).deserializeSatSolver(bin);
+        final LNGVector<ProofInformation> originalClauses = getField(restored.underlyingSolver(), "pgOriginalClauses");
+        assertThat(originalClauses.get(0).proposition()).isEqualTo(prop);
+        assertThatThrownBy(() -> SolverSerializer.withoutProofs(f).deserializeSatSolver(bin))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    public void testAddCnfFormulas() throws IOException {
+        final List<Formula> clauses = new ArrayList<>();
+        for (final Formula op : formula) {
+            if (Formulas.isCnf(op)) {
+                clauses.add(op);
+            }
+        }
+        final PBFormulas bin = Formulas.serializeCnfFormulas(clauses);
+        final SATSolver regular = SATSolver.newSolver(f);
+        regular.add(clauses);
+
+        final FormulaFactory g = FormulaFactory.caching();
+        final SATSolver loaded = SATSolver.newSolver(g);
+        serializer.addFormulas(loaded, bin);
+        final SATSolver streamed = SATSolver.newSolver(g);
+        serializer.addFormulasFromStream(streamed, new ByteArrayInputStream(bin.toByteArray()));
+        SolverComperator.compareSolverStates(loaded, streamed);
+        assertThat(loaded.underlyingSolver().nVars()).isEqualTo(regular.underlyingSolver().nVars());
+        assertThat(((LNGVector<?>) getField(loaded.underlyingSolver(), "clauses")).size())
+                .isEqualTo(((LNGVector<?>) getField(regular.underlyingSolver(), "clauses")).size());
+        assertThat(loaded.sat()).isEqualTo(regular.sat());
+
+        final SATSolver mixed = SATSolver.newSolver(g);
+        serializer.addFormulasFromStream(mixed, new ByteArrayInputStream(Formulas.serializeFormula(g.variable("v1668").negate(g)).toByteArray()));
+        serializer.addFormulas(mixed, Formulas.serializeFormula(g.not(g.and(g.variable("a"), g.variable("b")))));
+        assertThat(mixed.sat()).isTrue();
+        assertThat(mixed.satCall().model(List.of(g.variable("v1668"))).positiveVariables()).isEmpty();
+
+        final SATSolver withProofs = SATSolver.newSolver(g, SATSolverConfig.builder().proofGeneration(true).build());
+        assertThatThrownBy(() -> serializer.addFormulas(withProofs, bin)).isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> serializer.addFormulasFromStream(withProofs, new ByteArrayInputStream(bin.toByteArray())))
+                .isInstanceOf(IllegalArgumentException.class);
+        serializer.addFormulas(withProofs, Formulas.serializeFormulas(clauses));
+        assertThat(withProofs.sat()).isEqualTo(regular.sat());
+    }
+
+    @Test
+    public void testSolverSectionsOutOfOrder() {
+        final byte[] bytes = PBSatSolver.newBuilder().setQhead(3).build().toByteString()
+                .concat(PBSatSolver.newBuilder().setOk(true).build().toByteString()).toByteArray();
+        assertThatThrownBy(() -> serializer.deserializeSatSolverFromStreamSectioned(new ByteArrayInputStream(bytes)))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @ParameterizedTest
+    @ValueSource(booleans = {false, true})
+    public void testSolverSectionsOutOfOrderFromFile(final boolean compress) throws IOException {
+        final SATSolver solver = SATSolver.newSolver(f);
+        solver.add(formula);
+        solver.sat();
+        final PBSatSolver bin = serializer.serializeSolver(solver);
+        final byte[] bytes = bin.toBuilder().clearClauses().setQhead(0).build().toByteString()
+                .concat(PBSatSolver.newBuilder().setClauses(bin.getClauses()).setQhead(bin.getQhead()).build().toByteString())
+                .toByteArray();
+        assertThat(PBSatSolver.parseFrom(bytes)).isEqualTo(bin);
+        assertThatThrownBy(() -> serializer.deserializeSatSolverFromStreamSectioned(new ByteArrayInputStream(bytes)))
+                .isInstanceOf(IllegalArgumentException.class);
+        SolverComperator.compareSolverStates(serializer.deserializeSatSolver(bin), serializer.deserializeMiniSatFromStream(new ByteArrayInputStream(bytes)));
+        try (final OutputStream stream = compress ? new GZIPOutputStream(Files.newOutputStream(tempFile)) : Files.newOutputStream(tempFile)) {
+            stream.write(bytes);
+        }
+        SolverComperator.compareSolverStates(serializer.deserializeSatSolver(bin), serializer.deserializeSatSolverFromFile(tempFile, compress));
+    }
+
     private static void compareSolverModels(final SATSolver solver1, final SATSolver solver2) {
         solver1.sat();
         solver2.sat();
@@ -0,0 +1,147 @@
+// SPDX-License-Identifier: Apache-2.0 and MIT
+// Copyright 2023-20xx BooleWorks GmbH
+
+package com.booleworks.logicng.serialization;
+
+import static com.booleworks.logicng.serialization.ReflectionHelper.getField;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import com.booleworks.logicng.collections.LNGIntVector;
+import com.booleworks.logicng.formulas.Formula;
+import com.booleworks.logicng.formulas.FormulaFactory;
+import com.booleworks.logicng.formulas.Variable;
+import com.booleworks.logicng.handlers.LNGResult;
+import com.booleworks.logicng.handlers.events.SimpleEvent;
+import com.booleworks.logicng.io.parsers.ParserException;
+import com.booleworks.logicng.io.readers.FormulaReader;
+import com.booleworks.logicng.solvers.SATSolver;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+
+public class SolverCheckpointerTest {
+
+    private static FormulaFactory f;
+    private static SolverSerializer serializer;
+    private static Formula formula;
+    private static Set<Variable> variables;
+    private static Path tempDir;
+
+    @BeforeAll
+    public static void init() throws ParserException, IOException {
+        f = FormulaFactory.caching();
+        serializer = SolverSerializer.withoutProofs(f);
+        tempDir = Files.createTempDirectory("checkpoints");
+        formula = FormulaReader.readPropositionalFormula(f, Paths.get("src/test/resources/large_formula.txt").toFile());
+        variables = formula.variables(f);
+    }
+
+    @AfterAll
+    public static void cleanUp() throws IOException {
+        try (final var files = Files.list(tempDir)) {
+            for (final Path file : (Iterable<Path>) files::iterator) {
+                Files.delete(file);
+            }
+        }
+        Files.delete(tempDir);
+    }
+
+    @Test
+    public void testConflictInterval() {
+        final SATSolver solver = SATSolver.newSolver(f);
+        solver.add(formula);
+        final SolverCheckpointer checkpointer = new SolverCheckpointer(serializer, tempDir.resolve("interval.pb"), false, 3);
+        assertThat(checkpointer.onConflict(solver)).isTrue();
+        assertThat(checkpointer.onConflict(solver)).isTrue();
+        assertThat(checkpointer.checkpoints()).isZero();
+        assertThat(checkpointer.path()).doesNotExist();
+        assertThat(checkpointer.onConflict(solver)).isTrue();
+        assertThat(checkpointer.checkpoints()).isEqualTo(1);
+        assertThat(checkpointer.path()).exists();
+        for (int i = 0; i < 6; i++) {
+            checkpointer.onConflict(solver);
+        }
+        assertThat(checkpointer.checkpoints()).isEqualTo(3);
+        assertThat(tempDir.resolve("interval.pb").getParent()).isDirectoryNotContaining("glob:**.tmp");
+    }
+
+    @Test
+    public void testIllegalConflictInterval() {
+        assertThatThrownBy(() -> new SolverCheckpointer(serializer, tempDir.resolve("illegal.pb"), false, 0))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @ParameterizedTest
+    @ValueSource(booleans = {false, true})
+    public void testResumeWithinSatCall(final boolean compress) throws IOException {
+        final SATSolver solver = SATSolver.newSolver(f);
+        solver.add(formula);
+        final SolverCheckpointer checkpointer = new SolverCheckpointer(serializer, tempDir.resolve("resume" + compress + ".pb"), compress, 1);
+        final LNGResult<Boolean> result = solver.satCall()
+                .handler(event -> event != SimpleEvent.SAT_CONFLICT_DETECTED || checkpointer.checkpoints() >= 3 || checkpointer.onConflict(solver))
+                .sat();
+        assertThat(result.isSuccess()).isTrue();
+        assertThat(checkpointer.checkpoints()).isPositive();
+
+        final SATSolver resumed = SolverCheckpointer.resume(SolverSerializer.withoutProofs(f), checkpointer.path(), compress);
+        assertThat((boolean) getField(resumed.underlyingSolver(), "inSatCall")).isFalse();
+        assertThat(((LNGIntVector) getField(resumed.underlyingSolver(), "trailLim")).size()).isZero();
+        assertThat(resumed.sat()).isEqualTo(result.getResult());
+        final var model = resumed.satCall().model(variables).positiveVariables();
+        final SATSolver check = SATSolver.newSolver(f);
+        check.add(formula);
+        for (final Variable variable : variables) {
+            check.add(model.contains(variable) ? variable : variable.negate(f));
+        }
+        assertThat(check.sat()).isTrue();
+    }
+
+    @ParameterizedTest
+    @ValueSource(booleans = {false, true})
+    public void testResumeAfterLevelZeroConflict(final boolean compress) throws IOException {
+        final SATSolver solver = SATSolver.newSolver(f);
+        solver.add(pigeonHole(5, 4));
+        final SolverCheckpointer checkpointer = new SolverCheckpointer(serializer, tempDir.resolve("level0" + compress + ".pb"), compress, 1);
+        final LNGResult<Boolean> result = solver.satCall()
+                .handler(event -> event != SimpleEvent.SAT_CONFLICT_DETECTED
+                        || !((LNGIntVector) getField(solver.underlyingSolver(), "trailLim")).empty()
+                        || checkpointer.onConflict(solver))
+                .sat();
+        assertThat(result.getResult()).isFalse();
+        assertThat(checkpointer.checkpoints()).isPositive();
+
+        final SATSolver resumed = SolverCheckpointer.resume(SolverSerializer.withoutProofs(f), checkpointer.path(), compress);
+        assertThat((int) getField(resumed.underlyingSolver(), "qhead")).isZero();
+        assertThat(resumed.sat()).isFalse();
+    }
+
+    private static List<Formula> pigeonHole(final int pigeons, final int holes) {
+        final List<Formula> clauses = new ArrayList<>();
+        for (int i = 0; i < pigeons; i++) {
+            final List<Variable> inSomeHole = new ArrayList<>();
+            for (int j = 0; j < holes; j++) {
+                inSomeHole.add(f.variable("ph_" + i + "_" + j));
+            }
+            clauses.add(f.or(inSomeHole));
+        }
+        for (int j = 0; j < holes; j++) {
+            for (int i = 0; i < pigeons; i++) {
+                for (int k = i + 1; k < pigeons; k++) {
+                    clauses.add(f.or(f.variable("ph_" + i + "_" + j).negate(f), f.variable("ph_" + k + "_" + j).negate(f)));
+                }
+            }
+        }
+        return clauses;
+    }
+}
@@ -0,0 +1,95 @@
+// SPDX-License-Identifier: Apache-2.0 and MIT
+// Copyright 2023-20xx BooleWorks GmbH
+
+package com.booleworks.logicng.serialization;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.booleworks.logicng.formulas.Formula;
+import com.booleworks.logicng.formulas.FormulaFactory;
+import com.booleworks.logicng.formulas.Variable;
+import com.booleworks.logicng.io.parsers.ParserException;
+import com.booleworks.logicng.io.readers.FormulaReader;
+import com.booleworks.logicng.solvers.SATSolver;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+public class SolverPoolTest {
+
+    private static FormulaFactory f;
+    private static SolverSerializer serializer;
+    private static Formula formula;
+
+    @BeforeAll
+    public static void init() throws ParserException, IOException {
+        f = FormulaFactory.caching();
+        serializer = SolverSerializer.withoutProofs(f);
+        formula = FormulaReader.readPropositionalFormula(f, Paths.get("src/test/resources/large_formula.txt").toFile());
+    }
+
+    @Test
+    public void testReuse() {
+        final SATSolver template = SATSolver.newSolver(f);
+        template.add(formula);
+        final SolverPool pool = new SolverPool(serializer, template);
+        final SATSolver solver;
+        try (final SolverPool.Lease lease = pool.acquire()) {
+            solver = lease.solver();
+            solver.add(f.and(f.variable("v1668"), f.variable("v1671")));
+            assertThat(solver.sat()).isFalse();
+        }
+        assertThat(pool.idleSolvers()).isEqualTo(1);
+        try (final SolverPool.Lease lease = pool.acquire()) {
+            assertThat(lease.solver()).isSameAs(solver);
+            assertThat(lease.solver().sat()).isTrue();
+        }
+        assertThat(pool.forks()).isEqualTo(1);
+        assertThat(pool.hits()).isEqualTo(1);
+        assertThat(pool.forkNanos()).isPositive();
+    }
+
+    @Test
+    public void testConcurrentLeases() throws InterruptedException, ExecutionException, ParserException, IOException {
+        final FormulaFactory ff = FormulaFactory.nonCaching();
+        final Formula ffFormula = FormulaReader.readPropositionalFormula(ff, Paths.get("src/test/resources/large_formula.txt").toFile());
+        final SATSolver template = SATSolver.newSolver(ff);
+        template.add(ffFormula);
+        final SolverPool pool = new SolverPool(SolverSerializer.withoutProofs(ff), template);
+        final List<Variable> queries = new ArrayList<>(ffFormula.variables(ff)).subList(0, 40);
+        final List<Boolean> expected = new ArrayList<>();
+        for (final Variable query : queries) {
+            final var state = template.saveState();
+            template.add(query);
+            expected.add(template.sat());
+            template.loadState(state);
+        }
+        final ExecutorService executor = Executors.newFixedThreadPool(4);
+        try {
+            final List<Future<Boolean>> results = new ArrayList<>();
+            for (final Variable query : queries) {
+                results.add(executor.submit(() -> {
+                    try (final SolverPool.Lease lease = pool.acquire()) {
+                        lease.solver().add(query);
+                        return lease.solver().sat();
+                    }
+                }));
+            }
+            for (int i = 0; i < queries.size(); i++) {
+                assertThat(results.get(i).get()).isEqualTo(expected.get(i));
+            }
+        } finally {
+            executor.shutdown();
+        }
+        assertThat(pool.forks()).isLessThanOrEqualTo(4);
+        assertThat(pool.hits() + pool.forks()).isEqualTo(queries.size());
+    }
+}